@@ -0,0 +1,37 @@
+class B {
+  public int x;
+  public B other;
+}
+
+class A extends B {
+  public A(B o) {
+    x = 5;
+    o.other = this;
+  }
+}
+
+class C extends A {
+  public C(B o) {
+    super(o);
+  }
+
+  public void fill(B h) {
+    A a = new A(h);
+    a.x = 7;
+  }
+
+  public void clear() {
+    B b = new B();
+    b.x = 0;
+  }
+}
+
+public class Test040 {
+  public static void main(String[] args) {
+    B h = new B();
+    C c = new C(new B());
+    c.fill(h);
+    c.clear();
+    System.out.println(h.other.x);
+  }
+}
\ No newline at end of file
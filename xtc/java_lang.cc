@@ -19,13 +19,17 @@
 
 #include "java_lang.h"
 
+#include <cstdio>
+#include <mutex>
 #include <sstream>
+#include <unordered_map>
+#include <vector>
 
 namespace java {
   namespace lang {
 
     // java.lang.Object()
-    __Object::__Object() : __vptr(&__vtable) {
+    __Object::__Object() : __vptr(&__vtable), __refcount(0) {
     }
 
     // java.lang.Object.hashCode()
@@ -57,7 +61,8 @@ namespace java {
     // Internal accessor for java.lang.Object's class.
     Class __Object::__class() {
       static Class k =
-        new __Class(__rt::literal("java.lang.Object"), __rt::null());
+        new __Class(__rt::literal("java.lang.Object"), __rt::null(),
+                    __rt::null(), false, 0, INT32_MAX);
       return k;
     }
 
@@ -69,8 +74,9 @@ namespace java {
 
     // java.lang.String(<literal>)
     __String::__String(std::string data)
-      : __vptr(&__vtable), 
-        data(data) {
+      : __vptr(&__vtable),
+        __refcount(0),
+        data(std::move(data)) {
     }
 
     // java.lang.String.hashCode()
@@ -123,11 +129,13 @@ namespace java {
     // Internal accessor for java.lang.String's class.
     Class __String::__class() {
       static Class k =
-        new __Class(__rt::literal("java.lang.String"), __Object::__class());
+        new __Class(__rt::literal("java.lang.String"), __Object::__class(),
+                    __rt::null(), false, 1, 1);
       return k;
     }
 
     std::ostream& operator<<(std::ostream& out, String s) {
+      if (__rt::null() == s) return out << "null";
       out << s->data;
       return out;
     }
@@ -139,12 +147,16 @@ namespace java {
     // =======================================================================
 
     // java.lang.Class(String, Class)
-    __Class::__Class(String name, Class parent, Class component, bool primitive)
+    __Class::__Class(String name, Class parent, Class component, bool primitive,
+                     int32_t low, int32_t high)
       : __vptr(&__vtable),
+        __refcount(0),
         name(name),
         parent(parent),
         component(component),
-        primitive(primitive) {
+        primitive(primitive),
+        low(low),
+        high(high) {
     }
 
     // java.lang.Class.toString()
@@ -185,6 +197,10 @@ namespace java {
     bool __Class::isInstance(Class __this, Object o) {
       Class k = o->__vptr->m_getClass(o);
 
+      if (0 <= __this->low && 0 <= k->low) {
+        return __this->low <= k->low && k->low <= __this->high;
+      }
+
       do {
         if (__this->__vptr->m_equals(__this, k)) return true;
 
@@ -197,7 +213,8 @@ namespace java {
     // Internal accessor for java.lang.Class' class.
     Class __Class::__class() {
       static Class k = 
-        new __Class(__rt::literal("java.lang.Class"), __Object::__class());
+        new __Class(__rt::literal("java.lang.Class"), __Object::__class(),
+                    __rt::null(), false, 2, 2);
       return k;
     }
 
@@ -289,4 +306,255 @@ namespace __rt {
     return k;
   }
 
+  // =======================================================================
+
+  java::lang::String intern(const char * s) {
+    static std::mutex lock;
+    static std::unordered_map<std::string, java::lang::String> strings;
+
+    std::lock_guard<std::mutex> guard(lock);
+    java::lang::String& string = strings[s];
+    if (null() == string) string = literal(s);
+    return string;
+  }
+
+  // =======================================================================
+
+  StringBuilder& StringBuilder::append(java::lang::String s) {
+    if (null() == s) return append("null");
+    data.append(s->data);
+    return *this;
+  }
+
+  StringBuilder& StringBuilder::append(int32_t i) {
+    char buffer[16];
+    data.append(buffer, std::snprintf(buffer, sizeof(buffer), "%d", i));
+    return *this;
+  }
+
+  StringBuilder& StringBuilder::append(int64_t l) {
+    char buffer[24];
+    data.append(buffer, std::snprintf(buffer, sizeof(buffer), "%lld", (long long)l));
+    return *this;
+  }
+
+  // Formats like std::cout does, so that building and streaming agree.
+  StringBuilder& StringBuilder::append(double d) {
+    char buffer[32];
+    data.append(buffer, std::snprintf(buffer, sizeof(buffer), "%g", d));
+    return *this;
+  }
+
+  StringBuilder& StringBuilder::append(bool b) {
+    return append(b ? "true" : "false");
+  }
+
+  StringBuilder& StringBuilder::append(char c) {
+    data.push_back(c);
+    return *this;
+  }
+
+  java::lang::String StringBuilder::toString() {
+    return new java::lang::__String(std::move(data));
+  }
+
+  // =======================================================================
+
+#ifdef RT_CYCLE_COLLECT
+
+  // The cycle collector.  Each phase walks the graph with an explicit
+  // stack, since lists can be far longer than the C++ stack is deep.
+
+  namespace {
+
+    typedef java::lang::__Object* object;
+
+    // The number of possible roots that triggers a collection.
+    const size_t COLLECT_THRESHOLD = 10000;
+
+    // The possible roots.  Never freed, so that objects released while
+    // static variables are destroyed at exit can still be buffered.
+    std::vector<object>& roots() {
+      static std::vector<object>* buffer = new std::vector<object>();
+      return *buffer;
+    }
+
+    // Whether a collection is running, which objects it frees may
+    // buffer more possible roots for, but must not start another.
+    bool collecting = false;
+
+    inline size_t count(object o) {
+      return o->__refcount & RC_COUNT;
+    }
+
+    inline rc_color color(object o) {
+      return (rc_color)((o->__refcount & RC_COLOR) >> RC_COLOR_SHIFT);
+    }
+
+    inline void paint(object o, rc_color c) {
+      o->__refcount = (o->__refcount & ~RC_COLOR) | ((size_t)c << RC_COLOR_SHIFT);
+    }
+
+    inline bool buffered(object o) {
+      return 0 != (o->__refcount & RC_BUFFERED);
+    }
+
+    inline void children(object o, child_visitor visit, std::vector<object>* stack) {
+      o->__vptr->__children(o, visit, stack);
+    }
+
+    // Subtracts the reference from a child and grays it.
+    void gray_child(object* child, void* stack) {
+      object o = *child;
+      o->__refcount--;
+      if (RC_GRAY != color(o)) {
+        paint(o, RC_GRAY);
+        static_cast<std::vector<object>*>(stack)->push_back(o);
+      }
+    }
+
+    // Restores the reference from a child and blackens it.
+    void black_child(object* child, void* stack) {
+      object o = *child;
+      o->__refcount++;
+      if (RC_BLACK != color(o)) {
+        paint(o, RC_BLACK);
+        static_cast<std::vector<object>*>(stack)->push_back(o);
+      }
+    }
+
+    void scan_child(object* child, void* stack) {
+      static_cast<std::vector<object>*>(stack)->push_back(*child);
+    }
+
+    // Collects a child that is garbage and not left to its own root.
+    void white_child(object* child, void* garbage) {
+      object o = *child;
+      if (RC_WHITE == color(o) && !buffered(o)) {
+        paint(o, RC_BLACK);
+        static_cast<std::vector<object>*>(garbage)->push_back(o);
+      }
+    }
+
+    // Drops a reference from garbage without counting it.
+    void clear_child(object* child, void*) {
+      *child = 0;
+    }
+
+    // Subtracts the references internal to the subgraph of a root,
+    // painting it gray.
+    void mark_gray(object root, std::vector<object>& stack) {
+      if (RC_GRAY == color(root)) return;
+      paint(root, RC_GRAY);
+      stack.push_back(root);
+      while (!stack.empty()) {
+        object o = stack.back();
+        stack.pop_back();
+        children(o, gray_child, &stack);
+      }
+    }
+
+    // Repaints the gray subgraph of a root: white where nothing outside
+    // it refers to an object, and black, with its references restored,
+    // wherever something does.
+    void scan(object root, std::vector<object>& stack) {
+      stack.push_back(root);
+      while (!stack.empty()) {
+        object o = stack.back();
+        stack.pop_back();
+        if (RC_GRAY != color(o)) continue;
+        if (0 < count(o)) {
+          std::vector<object> black;
+          paint(o, RC_BLACK);
+          black.push_back(o);
+          while (!black.empty()) {
+            object b = black.back();
+            black.pop_back();
+            children(b, black_child, &black);
+          }
+        } else {
+          paint(o, RC_WHITE);
+          children(o, scan_child, &stack);
+        }
+      }
+    }
+
+    // Adds the white subgraph of a root to the garbage.
+    void collect_white(object root, std::vector<object>& garbage) {
+      if (RC_WHITE != color(root) || buffered(root)) return;
+      size_t i = garbage.size();
+      paint(root, RC_BLACK);
+      garbage.push_back(root);
+      for (; i < garbage.size(); i++) {
+        children(garbage[i], white_child, &garbage);
+      }
+    }
+
+  }
+
+  void possible_root(java::lang::__Object* addr) {
+    if (RC_PURPLE != color(addr)) {
+      paint(addr, RC_PURPLE);
+      if (!buffered(addr)) {
+        addr->__refcount |= RC_BUFFERED;
+        roots().push_back(addr);
+        if (COLLECT_THRESHOLD <= roots().size()) collect_cycles();
+      }
+    }
+  }
+
+  void collect_cycles() {
+    if (collecting) return;
+    collecting = true;
+
+    std::vector<object> candidates;
+    candidates.swap(roots());
+
+    // Free the roots whose last reference is gone and drop those that
+    // are live again.  Freeing one may release others, so repeat until
+    // only purple ones are left.
+    bool freed = true;
+    while (freed) {
+      freed = false;
+      size_t kept = 0;
+      for (size_t i = 0; i < candidates.size(); i++) {
+        object o = candidates[i];
+        if (RC_PURPLE == color(o)) {
+          candidates[kept++] = o;
+        } else {
+          o->__refcount &= ~RC_BUFFERED;
+          if (0 == count(o)) {
+            o->__vptr->__delete(o);
+            freed = true;
+          }
+        }
+      }
+      candidates.resize(kept);
+    }
+
+    std::vector<object> stack;
+    for (size_t i = 0; i < candidates.size(); i++) mark_gray(candidates[i], stack);
+    for (size_t i = 0; i < candidates.size(); i++) scan(candidates[i], stack);
+
+    std::vector<object> garbage;
+    for (size_t i = 0; i < candidates.size(); i++) {
+      candidates[i]->__refcount &= ~RC_BUFFERED;
+      collect_white(candidates[i], garbage);
+    }
+
+    // Garbage only refers to garbage and to objects whose counts no
+    // longer include its references, so clear them all before freeing
+    // any of it.
+    for (size_t i = 0; i < garbage.size(); i++) {
+      garbage[i]->__vptr->__children(garbage[i], clear_child, 0);
+    }
+    for (size_t i = 0; i < garbage.size(); i++) {
+      garbage[i]->__vptr->__delete(garbage[i]);
+    }
+
+    collecting = false;
+  }
+
+#endif
+
 }
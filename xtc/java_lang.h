@@ -69,6 +69,35 @@ namespace __rt {
     delete addr;
   }
 
+  // The function the cycle collector visits each reference field of
+  // an object with, passing the address of the field's pointer.
+  typedef void (*child_visitor)(java::lang::__Object** child, void* context);
+
+  // The template functions visiting a field, which do nothing for
+  // fields of primitive types and skip null references.
+  template <typename T>
+  inline void visit_child(T&, child_visitor, void*) {
+  }
+
+  template <typename T, template <typename> class P>
+  inline void visit_child(Ptr<T, P>& field, child_visitor visit, void* context) {
+    if (0 != field.raw()) {
+      visit(reinterpret_cast<java::lang::__Object**>(field.__slot()), context);
+    }
+  }
+
+  // The template function for the children of objects without
+  // reference fields.
+  template <typename T>
+  void __no_children(T*, child_visitor, void*) {
+  }
+
+#ifdef RT_CYCLE_COLLECT
+  // Frees the garbage cycles among the possible roots buffered so far.
+  // Called automatically once enough of them are buffered.
+  void collect_cycles();
+#endif
+
 }
 
 // ==========================================================================
@@ -79,6 +108,7 @@ namespace java {
     // The data layout for java.lang.Object.
     struct __Object {
       __Object_VT* __vptr;
+      size_t __refcount;
 
       // The constructor.
       __Object();
@@ -102,6 +132,7 @@ namespace java {
     struct __Object_VT {
       Class __isa;
       void (*__delete)(__Object*);
+      void (*__children)(__Object*, __rt::child_visitor, void*);
       int32_t (*m_hashCode)(Object);
       bool (*m_equals)(Object, Object);
       Class (*m_getClass)(Object);
@@ -110,6 +141,7 @@ namespace java {
       __Object_VT()
       : __isa(__Object::__class()),
         __delete(&__rt::__delete<__Object>),
+        __children(&__rt::__no_children<__Object>),
         m_hashCode(&__Object::m_hashCode),
         m_equals(&__Object::m_equals),
         m_getClass(&__Object::m_getClass),
@@ -122,6 +154,7 @@ namespace java {
     // The data layout for java.lang.String.
     struct __String {
       __String_VT* __vptr;
+      size_t __refcount;
       std::string data;
 
       // The constructor;
@@ -149,6 +182,7 @@ namespace java {
     struct __String_VT {
       Class __isa;
       void (*__delete)(__String*);
+      void (*__children)(__String*, __rt::child_visitor, void*);
       int32_t (*m_hashCode)(String);
       bool (*m_equals)(String, Object);
       Class (*m_getClass)(String);
@@ -159,6 +193,7 @@ namespace java {
       __String_VT()
       : __isa(__String::__class()),
         __delete(&__rt::__delete<__String>),
+        __children(&__rt::__no_children<__String>),
         m_hashCode(&__String::m_hashCode),
         m_equals(&__String::m_equals),
         m_getClass((Class(*)(String))&__Object::m_getClass),
@@ -173,16 +208,25 @@ namespace java {
     // The data layout for java.lang.Class.
     struct __Class {
       __Class_VT* __vptr;
+      size_t __refcount;
       String name;
       Class parent;
       Class component;
       bool primitive;
 
+      // The preorder interval of the class: its own number and the
+      // largest number of its subclasses.  Classes without a number
+      // (arrays and primitive types) have -1.
+      int32_t low;
+      int32_t high;
+
       // The constructor.
       __Class(String name,
               Class parent,
               Class component = __rt::null(),
-              bool primitive = false);
+              bool primitive = false,
+              int32_t low = -1,
+              int32_t high = -1);
 
       // The instance methods of java.lang.Class.
       static String m_toString(Class);
@@ -206,6 +250,7 @@ namespace java {
     struct __Class_VT {
       Class __isa;
       void (*__delete)(__Class*);
+      void (*__children)(__Class*, __rt::child_visitor, void*);
       int32_t (*m_hashCode)(Class);
       bool (*m_equals)(Class, Object);
       Class (*m_getClass)(Class);
@@ -220,6 +265,7 @@ namespace java {
       __Class_VT()
       : __isa(__Class::__class()),
         __delete(&__rt::__delete<__Class>),
+        __children(&__rt::__no_children<__Class>),
         m_hashCode((int32_t(*)(Class))&__Object::m_hashCode),
         m_equals((bool(*)(Class,Object))&__Object::m_equals),
         m_getClass((Class(*)(Class))&__Object::m_getClass),
@@ -294,12 +340,18 @@ namespace __rt {
   template <typename T>
   struct Array {
     Array_VT<T>* __vptr;
+    size_t __refcount;
     const int32_t length;
     T* __data;
 
     // The constructor (defined inline).
     Array(const int32_t length)
-    : __vptr(&__vtable), length(length), __data(new T[length]()) {
+    : __vptr(&__vtable), __refcount(0), length(length), __data(new T[length]()) {
+    }
+
+    // The constructor for elements stored elsewhere (defined inline).
+    Array(const int32_t length, T* data)
+    : __vptr(&__vtable), __refcount(0), length(length), __data(data) {
     }
 
     // The destructor.
@@ -308,6 +360,13 @@ namespace __rt {
       delete addr;
     }
 
+    // The elements, for the cycle collector.
+    static void __children(Array* addr, child_visitor visit, void* context) {
+      for (int32_t i = 0; i < addr->length; i++) {
+        visit_child(addr->__data[i], visit, context);
+      }
+    }
+
     // Array access.
     T& operator[](int32_t index) {
       if (0 > index || index >= length) {
@@ -343,6 +402,7 @@ namespace __rt {
 
     java::lang::Class __isa;
     void (*__delete)(Array<T>*);
+    void (*__children)(Array<T>*, child_visitor, void*);
     int32_t (*m_hashCode)(Reference);
     bool (*m_equals)(Reference, java::lang::Object);
     java::lang::Class (*m_getClass)(Reference);
@@ -351,6 +411,7 @@ namespace __rt {
     Array_VT()
     : __isa(Array<T>::__class()),
       __delete(&Array<T>::__delete),
+      __children(&Array<T>::__children),
       m_hashCode((int32_t(*)(Reference))
                &java::lang::__Object::m_hashCode),
       m_equals((bool(*)(Reference,java::lang::Object))
@@ -367,6 +428,22 @@ namespace __rt {
   template <typename T>
   Array_VT<T> Array<T>::__vtable;
 
+  // Storage for an array of constant length that never leaves the
+  // scope declaring it, with its elements stored inline.  Like
+  // scoped, it is destroyed with the scope and never by a Ptr.
+  template <typename T, int32_t N>
+  class scoped_array {
+    T data[N];
+    Array<T> array;
+
+  public:
+    scoped_array() : data(), array(N, data) {
+      array.__refcount = 1;
+    }
+
+    Array<T>* get() { return &array; }
+  };
+
   // TWO DIMENTIONAL ARRAYS
 
   // Forward declarations of data layout and vtable.
@@ -376,31 +453,36 @@ namespace __rt {
   template <typename T>
   struct Array2D_VT;
 
-  // The data layout for arrays.
+  // The data layout for arrays.  Translated two-dimensional arrays
+  // are always rectangular, so the elements are stored in one block,
+  // row after row: element [i][j] is __data[i * length2 + j].
   template <typename T>
   struct Array2D {
     Array2D_VT<T>* __vptr;
+    size_t __refcount;
     const int32_t length;
     const int32_t length2;
-    T** __data;
+    T* __data;
 
     // The constructor (defined inline).
     Array2D(const int32_t length, const int32_t length2)
-    : __vptr(&__vtable), length(length), length2(length2), __data(new T*[length]()) {
-      for(int32_t i=0; i<length; i++){
-        __data[i] = new T[length2];
-      }
+    : __vptr(&__vtable), __refcount(0), length(length), length2(length2),
+      __data(new T[(size_t)length * length2]()) {
     }
 
     // The destructor.
     static void __delete(Array2D* addr) {
-      for(int i = 0; i < addr->length; ++i) {
-        delete [] addr->__data[i];
-      }
       delete[] addr->__data;
       delete addr;
     }
 
+    // The elements, for the cycle collector.
+    static void __children(Array2D* addr, child_visitor visit, void* context) {
+      for (size_t i = 0; i < (size_t)addr->length * addr->length2; i++) {
+        visit_child(addr->__data[i], visit, context);
+      }
+    }
+
     struct Access {
       T* __subdata;
       int32_t length;
@@ -424,14 +506,14 @@ namespace __rt {
       if (0 > index || index >= length) {
         throw java::lang::ArrayIndexOutOfBoundsException();
       }
-      return Access(__data[index], length2);
+      return Access(__data + (size_t)index * length2, length2);
     }
 
     const Access operator[](int32_t index) const {
       if (0 > index || index >= length) {
         throw java::lang::ArrayIndexOutOfBoundsException();
       }
-      return Access(__data[index], length2);
+      return Access(__data + (size_t)index * length2, length2);
     }
 
     static Ptr<Array2D<T> > init(Ptr<Array2D<T> > __this, int32_t length, int32_t length2) {
@@ -455,6 +537,7 @@ namespace __rt {
 
     java::lang::Class __isa;
     void (*__delete)(Array2D<T>*);
+    void (*__children)(Array2D<T>*, child_visitor, void*);
     int32_t (*m_hashCode)(Reference);
     bool (*m_equals)(Reference, java::lang::Object);
     java::lang::Class (*m_getClass)(Reference);
@@ -463,6 +546,7 @@ namespace __rt {
     Array2D_VT()
     : __isa(Array2D<T>::__class()),
       __delete(&Array2D<T>::__delete),
+      __children(&Array2D<T>::__children),
       m_hashCode((int32_t(*)(Reference))
                &java::lang::__Object::m_hashCode),
       m_equals((bool(*)(Reference,java::lang::Object))
@@ -490,37 +574,107 @@ namespace __rt {
     return new java::lang::__String(s);
   }
 
+  // Function returning the one java.lang.String with the characters
+  // of a string literal.  The translator calls it once per literal,
+  // so that equal literals are the same object, as in Java.
+  java::lang::String intern(const char * s);
+
   // ========================================================================
 
-  // Template function to check against null values.
+  // The builder for translated string concatenations.  The translator
+  // turns a whole chain a + b + c into one builder sized for all of
+  // it, so appending rarely grows the buffer, and toString() moves
+  // the characters into the only __String the chain allocates.
+  class StringBuilder {
+    std::string data;
+
+  public:
+    explicit StringBuilder(size_t capacity) {
+      data.reserve(capacity);
+    }
+
+    StringBuilder& append(const char* s) {
+      data.append(s);
+      return *this;
+    }
+
+    StringBuilder& append(java::lang::String s);
+    StringBuilder& append(int32_t i);
+    StringBuilder& append(int64_t l);
+    StringBuilder& append(double d);
+    StringBuilder& append(bool b);
+    StringBuilder& append(char c);
+
+    // Any other object is appended as its toString().
+    template <typename T, template <typename> class P>
+    StringBuilder& append(const Ptr<T, P>& o) {
+      if (0 == o.raw()) return append("null");
+      java::lang::Object object = o;
+      return append(object->__vptr->m_toString(object));
+    }
+
+    java::lang::String toString();
+  };
+
+  // Streams an object the way it is appended to a string, so that
+  // printing a concatenation needs no StringBuilder at all.
+  template <typename T, template <typename> class P>
+  std::ostream& operator<<(std::ostream& out, const Ptr<T, P>& o) {
+    if (0 == o.raw()) return out << "null";
+    java::lang::Object object = o;
+    return out << object->__vptr->m_toString(object);
+  }
+
+  // ========================================================================
+
+  // Template function to check against null values.  It returns the
+  // checked value, so that it can wrap a receiver in a call.
   template <typename T>
-  void checkNotNull(T o) {
+  T checkNotNull(T o) {
     if (null() == o) {
       throw java::lang::NullPointerException();
     }
+    return o;
+  }
+
+  // Template function to check whether a non-null object is an
+  // instance of a class.  If both classes are numbered, this compares
+  // the object's class number with the class' interval; otherwise it
+  // falls back to walking the superclasses.
+  template <typename U>
+  inline bool instanceOf(const java::lang::Class& k, const U& object) {
+    int32_t id = object->__vptr->__isa->low;
+
+    if (0 <= id && 0 <= k->low) {
+      return k->low <= id && id <= k->high;
+    }
+    return k->__vptr->isInstance(k, object);
+  }
+
+  // Template function to check whether a non-null object is an
+  // instance of a numbered class whose interval the translator
+  // printed as constants.
+  template <typename U>
+  inline bool instanceOf(const U& object, int32_t low, int32_t high) {
+    int32_t id = object->__vptr->__isa->low;
+    return low <= id && id <= high;
   }
 
   // Template function to check array stores.
-  template <typename T, typename U>
-  void checkStore(Ptr<Array<T> > array, U object) {
+  template <typename T, template <typename> class P, typename U>
+  void checkStore(Ptr<Array<T>, P> array, U object) {
     if (null() != object) {
-      java::lang::Class t1 = array->__vptr->m_getClass(array);
-      java::lang::Class t2 = t1->__vptr->getComponentType(t1);
-
-      if (! t2->__vptr->isInstance(t2, object)) {
+      if (! instanceOf(array->__vptr->__isa->component, object)) {
         throw java::lang::ArrayStoreException();
       }
     }
   }
 
     // Template function to check array stores.
-  template <typename T, typename U>
-  void checkStore2D(Ptr<Array2D<T> > array, U object) {
+  template <typename T, template <typename> class P, typename U>
+  void checkStore2D(Ptr<Array2D<T>, P> array, U object) {
     if (null() != object) {
-      java::lang::Class t1 = array->__vptr->m_getClass(array);
-      java::lang::Class t2 = t1->__vptr->getComponentType(t1);
-
-      if (! t2->__vptr->isInstance(t2, object)) {
+      if (! instanceOf(array->__vptr->__isa->component, object)) {
         throw java::lang::ArrayStoreException();
       }
     }
@@ -531,7 +685,17 @@ namespace __rt {
   T java_cast(U object) {
     java::lang::Class k = T::value_type::__class();
     
-    if (! k->__vptr->isInstance(k, object)) {
+    if (! instanceOf(k, object)) {
+      throw java::lang::ClassCastException();
+    }
+
+    return T(object);
+  }
+
+  // Template function for translated Java casts to a numbered class.
+  template <typename T, typename U>
+  T java_cast(U object, int32_t low, int32_t high) {
+    if (null() != object && ! instanceOf(object, low, high)) {
       throw java::lang::ClassCastException();
     }
 
@@ -20,7 +20,9 @@
 
 #pragma once
 
+#include <cstddef>
 #include <cstring>
+#include <utility>
 
 #if 0
 #include <iostream>
@@ -30,65 +32,177 @@
 #define TRACE(s)
 #endif
 
+#if defined(RT_ATOMIC_REFCOUNT) && defined(RT_CYCLE_COLLECT)
+#error "The cycle collector does not support atomic reference counts"
+#endif
+
+namespace java {
+  namespace lang {
+    struct __Object;
+  }
+}
+
 namespace __rt {
 
+  // The reference count lives in the object header, right after the
+  // vptr, so that copying a Ptr touches the object itself instead of a
+  // separately allocated counter.
+  template<typename T>
+  struct refcount_policy {
+    static void retain(T* addr) {
+      if (0 != addr) ++addr->__refcount;
+    }
+
+    // Returns true if the last reference was released.
+    static bool release(T* addr) {
+      return 0 != addr && 0 == --addr->__refcount;
+    }
+  };
+
+  // The same count, updated atomically so that objects can be shared
+  // between threads.  Taking a new reference needs no ordering, since
+  // the one it is copied from keeps the object alive; dropping one is
+  // acquire-release, so that all uses of the object happen before it
+  // is destroyed by whichever thread drops the last reference.
   template<typename T>
-  struct object_policy {
+  struct atomic_refcount_policy {
+    static void retain(T* addr) {
+      if (0 != addr) __atomic_fetch_add(&addr->__refcount, 1, __ATOMIC_RELAXED);
+    }
+
+    // Returns true if the last reference was released.
+    static bool release(T* addr) {
+      return 0 != addr && 0 == __atomic_sub_fetch(&addr->__refcount, 1, __ATOMIC_ACQ_REL);
+    }
+  };
+
+  template<typename T>
+  struct object_policy : refcount_policy<T> {
     static void destroy(T* addr) {
       delete addr;
     }
   };
 
   template<typename T>
-  struct array_policy {
+  struct array_policy : refcount_policy<T> {
     static void destroy(T* addr) {
       delete[] addr;
     }
   };
 
   template<typename T>
-  struct java_policy {
+  struct java_policy : refcount_policy<T> {
     static void destroy(T* addr) {
       if (0 != addr) addr->__vptr->__delete(addr);
     }
   };
 
+  template<typename T>
+  struct atomic_java_policy : atomic_refcount_policy<T> {
+    static void destroy(T* addr) {
+      java_policy<T>::destroy(addr);
+    }
+  };
+
+  // Programs translated with -cycle-collect are compiled with
+  // RT_CYCLE_COLLECT defined.  Counting alone never frees objects on
+  // a cycle, so whenever a count drops to a value other than zero,
+  // the object is buffered as the possible root of a garbage cycle,
+  // and collect_cycles() (in java_lang.cc) looks for garbage cycles
+  // among the buffered objects by trial deletion, as in the
+  // synchronous collector of Bacon and Rajan, "Concurrent Cycle
+  // Collection in Reference Counted Systems" (ECOOP 2001).
+  //
+  // The collector's state lives in the top bits of the count: whether
+  // the object is buffered, and its color.  Objects are created
+  // black, since the constructors zero the whole count.
+  const size_t RC_BITS        = sizeof(size_t) * 8;
+  const size_t RC_BUFFERED    = (size_t)1 << (RC_BITS - 1);
+  const size_t RC_COLOR_SHIFT = RC_BITS - 3;
+  const size_t RC_COLOR       = (size_t)3 << RC_COLOR_SHIFT;
+  const size_t RC_COUNT       = ((size_t)1 << RC_COLOR_SHIFT) - 1;
+
+  enum rc_color {
+    RC_BLACK  = 0,  // In use or free
+    RC_GRAY   = 1,  // Possible member of a cycle
+    RC_WHITE  = 2,  // Member of a garbage cycle
+    RC_PURPLE = 3   // Possible root of a cycle
+  };
+
+#ifdef RT_CYCLE_COLLECT
+  // Buffers an object whose count dropped to a value other than zero.
+  void possible_root(java::lang::__Object* addr);
+
+  template<typename T>
+  struct cycle_refcount_policy {
+    // A new reference makes the object live, so it cannot be the root
+    // of a garbage cycle any more.
+    static void retain(T* addr) {
+      if (0 != addr) addr->__refcount = (addr->__refcount + 1) & ~RC_COLOR;
+    }
+
+    // Returns true if the last reference was released.  A buffered
+    // object is left to the collector, which still refers to it.
+    static bool release(T* addr) {
+      if (0 == addr) return false;
+      size_t count = --addr->__refcount;
+      if (0 == (count & RC_COUNT)) {
+        if (0 == (count & RC_BUFFERED)) return true;
+        addr->__refcount = count & ~RC_COLOR;
+      } else {
+        possible_root(reinterpret_cast<java::lang::__Object*>(addr));
+      }
+      return false;
+    }
+  };
+
+  template<typename T>
+  struct cycle_java_policy : cycle_refcount_policy<T> {
+    static void destroy(T* addr) {
+      java_policy<T>::destroy(addr);
+    }
+  };
+#endif
+
+  // Programs translated with -atomic-refcount are compiled with
+  // RT_ATOMIC_REFCOUNT defined and count all references atomically,
+  // except for those held by local_ptr variables.
+#if defined(RT_ATOMIC_REFCOUNT)
+  template<typename T, template <typename> class P = atomic_java_policy>
+#elif defined(RT_CYCLE_COLLECT)
+  template<typename T, template <typename> class P = cycle_java_policy>
+#else
   template<typename T, template <typename> class P = java_policy>
+#endif
   class Ptr {
     T* addr;
-    size_t* counter;
 
   public:
     typedef T value_type;
     typedef P<T> policy_type;
 
-    Ptr(T* addr = 0) : addr(addr), counter(new size_t(1)) {
+    Ptr(T* addr = 0) : addr(addr) {
       TRACE(addr);
+      policy_type::retain(addr);
     }
 
-    Ptr(const Ptr& other) : addr(other.addr), counter(other.counter) {
+    Ptr(const Ptr& other) : addr(other.addr) {
       TRACE(addr);
-      ++(*counter);
+      policy_type::retain(addr);
     }
 
     ~Ptr() {
       TRACE(addr);
-      if (0 == --(*counter)) {
-        policy_type::destroy(addr);;
-        delete counter;
-      }
+      if (policy_type::release(addr)) policy_type::destroy(addr);
     }
 
     Ptr& operator=(const Ptr& right) {
       TRACE(addr);
       if (addr != right.addr) {
-        if (0 == --(*counter)) {
-          policy_type::destroy(addr);
-          delete counter;
-        }
+        T* old = addr;
         addr = right.addr;
-        counter = right.counter;
-        ++(*counter);
+        policy_type::retain(addr);
+        if (policy_type::release(old)) policy_type::destroy(old);
       }
       return *this;
     }
@@ -97,13 +211,18 @@ namespace __rt {
     T* operator->() const { TRACE(addr); return addr;  }
     T* raw()        const { TRACE(addr); return addr;  }
 
+    // The address of the pointer itself, for the cycle collector,
+    // which clears the references held by garbage without releasing
+    // them.
+    T** __slot() { return &addr; }
+
     template<typename U, template <typename> class Q>
     friend class Ptr;
 
     template<typename U, template <typename> class Q>
-    Ptr(const Ptr<U,Q>& other) : addr((T*)other.addr), counter(other.counter) {
+    Ptr(const Ptr<U,Q>& other) : addr((T*)other.addr) {
       TRACE(addr);
-      ++(*counter);
+      policy_type::retain(addr);
     }
 
     template<typename U, template <typename> class Q>
@@ -118,4 +237,33 @@ namespace __rt {
 
   };
 
+  // A pointer held by a local variable whose object never leaves the
+  // thread that created it, so its count is always updated with plain
+  // increments and decrements, even with RT_ATOMIC_REFCOUNT.  With
+  // RT_CYCLE_COLLECT, it is an ordinary Ptr, so that the collector
+  // sees every release.
+#ifdef RT_CYCLE_COLLECT
+  template<typename T>
+  using local_ptr = Ptr<T>;
+#else
+  template<typename T>
+  using local_ptr = Ptr<T, java_policy>;
+#endif
+
+  // Storage for an object that never leaves the scope declaring it.
+  // The object holds a reference to itself, so no Ptr ever destroys
+  // it; it is destroyed with the scope instead.
+  template<typename T>
+  class scoped {
+    T object;
+
+  public:
+    template<typename... Args>
+    explicit scoped(Args&&... args) : object(std::forward<Args>(args)...) {
+      object.__refcount = 1;
+    }
+
+    T* get() { return &object; }
+  };
+
 }
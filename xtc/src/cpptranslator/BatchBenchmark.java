@@ -0,0 +1,91 @@
+/***********************************************
+ * BatchBenchmark measures the throughput of the
+ * translator's batch mode for 1, 2, 4, ... threads
+ * up to the number of processors.
+ *
+ * Usage: java cpptranslator.BatchBenchmark classes/Test0*.java
+ *
+ * The output of every run goes to a scratch
+ * directory, which is deleted afterwards.
+ ***********************************************/
+
+package cpptranslator;
+
+import java.io.*;
+import java.util.*;
+
+import xtc.util.Statistics;
+
+public class BatchBenchmark {
+
+    static final int WARM_UP = 2;    /* Runs not counted       */
+    static final int TOTAL   = 7;    /* Runs per thread count  */
+
+    /**
+     * Translates the files once in batch mode.
+     *
+     * @return the time it took in milliseconds
+     */
+    static double translate(String[] files, int threads, File outputDir) {
+        String[] args = new String[files.length + 7];
+        args[0] = "-silent";
+        args[1] = "-no-exit";
+        args[2] = "-batch";
+        args[3] = "-threads";
+        args[4] = Integer.toString(threads);
+        args[5] = "-out";
+        args[6] = outputDir.getPath();
+        System.arraycopy(files, 0, args, 7, files.length);
+
+        long start = System.nanoTime();
+        new Translator().run(args);
+        return (System.nanoTime() - start) / 1000000.0;
+    }
+
+    /**
+     * Deletes a directory and everything in it.
+     */
+    static void delete(File file) {
+        File[] children = file.listFiles();
+        if (null != children) {
+            for (File child : children) delete(child);
+        }
+        file.delete();
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (0 == args.length) {
+            System.out.println("Usage: java cpptranslator.BatchBenchmark <file-name>+");
+            return;
+        }
+
+        File outputDir = File.createTempFile("batch", "");
+        outputDir.delete();
+        outputDir.mkdirs();
+
+        int processors = Runtime.getRuntime().availableProcessors();
+        ArrayList<Integer> threadCounts = new ArrayList<Integer>();
+        for (int t = 1; t < processors; t *= 2) threadCounts.add(t);
+        threadCounts.add(processors);
+
+        System.out.println("Legend: threads, time (ave, med, stdev), files/s, speedup");
+        double base = 0;
+        for (int threads : threadCounts) {
+            Statistics time = new Statistics();
+            for (int i = 0; i < TOTAL; i++) {
+                double ms = translate(args, threads, outputDir);
+                if (i >= WARM_UP) time.add(ms);
+            }
+            if (0 == base) base = time.mean();
+
+            System.out.println(threads + " " +
+                               Statistics.round(time.mean()) + " " +
+                               Statistics.round(time.median()) + " " +
+                               Statistics.round(time.stdev()) + " " +
+                               Statistics.round(args.length * 1000.0 / time.mean()) + " " +
+                               Statistics.round(base / time.mean()));
+        }
+
+        delete(outputDir);
+    }
+}
@@ -9,6 +9,9 @@ import java.util.Iterator;
 
 import java.util.ArrayList;
 import java.util.Hashtable;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.LinkedList;
 
@@ -50,11 +53,34 @@ public class CPPPrinter extends JavaPrinter {
     String                 varDuplicate;         // holds the variable that has the duplicate
                                                  // string literal    
                                                  
+    // Used to leave out checks that cannot fail (see CheckAnalysis)
+    HashSet<String>          nonNull       = new HashSet<String>();          // locals known not to be null
+    HashSet<String>          localArrays   = new HashSet<String>();          // locals declared as 1D arrays
+    HashSet<String>          localArrays2D = new HashSet<String>();          // locals declared as 2D arrays
+    Hashtable<String,String> inBounds      = new Hashtable<String,String>(); // index -> array (or "array[]" for its rows) it stays within
+    int                      inSwitch;                                        // no new facts inside switch clauses
+
     // Used to homogenize static and dynamic types                                                    
     String                 smartPointerStaticType;    
 
+    // Used to create objects that never escape on the stack (see EscapeAnalysis)
+    String                 scopedStorage;        // storage for the next new expression, or null
+
+    // Used to create each string literal only once
+    static final String          STRINGS_MARKER = "/* string literals */";
+    LinkedHashMap<String,String> stringConstants = new LinkedHashMap<String,String>(); // literal -> function returning it
+    boolean                      stringsMarked;  // whether the marker for their functions is printed
+
     SymbolTable rootTable;
     String fileName;
+    File outputDir;     // where main.cc goes, null for the current directory
+
+    // Used to print calls that cannot be overridden
+    // directly instead of through the vtable
+    ClassHierarchy hierarchy;
+
+    // Used to measure overload resolution, null unless measuring
+    PhaseMetrics metrics;
 
     // holds all static field declarations declared
     // outside the main method
@@ -81,7 +107,8 @@ public class CPPPrinter extends JavaPrinter {
     public CPPPrinter(Printer printer, Printer h_printer, ArrayList<Node> methodList, 
                       ArrayList<Node> publicScopes, ArrayList<Node> privateScopes, 
                       Hashtable<String, ClassDetail> classAndClassDetail, Hashtable<String,String> methReturnTypes, 
-                      String currentClassName, SymbolTable rootTable, String fileName) throws IOException {
+                      String currentClassName, SymbolTable rootTable, String fileName, File outputDir,
+                      ClassHierarchy hierarchy) throws IOException {
 
         super(printer);
         this.currentClassName    = currentClassName;    
@@ -97,11 +124,13 @@ public class CPPPrinter extends JavaPrinter {
         inMain                   = false;
         this.rootTable           = rootTable;
         this.fileName            = fileName;        
+        this.outputDir           = outputDir;
+        this.hierarchy           = hierarchy;
     }
 
     public CPPPrinter (Printer printer, Hashtable<String, ClassDetail> classAndClassDetail, 
                        Hashtable<String,String> methReturnTypes, String currentClassName,
-                       LinkedList<String> staticFields, SymbolTable rootTable) {
+                       LinkedList<String> staticFields, SymbolTable rootTable, ClassHierarchy hierarchy) {
 
         super(printer);
         this.currentClassName    = currentClassName;
@@ -114,6 +143,7 @@ public class CPPPrinter extends JavaPrinter {
         this.methReturnTypes     = methReturnTypes;
         this.staticFields        = staticFields;
         this.rootTable = rootTable;
+        this.hierarchy = hierarchy;
     }
 
     /** Visit the specified declarator. */
@@ -127,10 +157,18 @@ public class CPPPrinter extends JavaPrinter {
             }
         }   
         if(null != n.get(2) && n.getNode(2).getName().equals("StringLiteral")) {
-            printer.p(" = ").p("__rt::literal(" + n.getNode(2).getString(0) + ")");
+            printer.p(" = ").p(stringConstant(n.getNode(2).getString(0)));
         }   else if(null != n.get(2)) {
             printer.p(" = ").p(n.getNode(2));
         }
+
+        // A local is not null right after being initialized with new or a literal
+        if (inMethod) {
+            nonNull.remove(n.getString(0));
+            localArrays.remove(n.getString(0));
+            localArrays2D.remove(n.getString(0));
+            if (isNew(n.get(2))) checkedNotNull(n.getString(0));
+        }
     }
 
     /** Visit the specified class body. */
@@ -173,11 +211,13 @@ public class CPPPrinter extends JavaPrinter {
         printer.p("namespace oop ");
         printer.pln('{').incr();
 
+        markStringConstants();
+
         printDeclsAndStmts(n);
 
         printer.pln().indent().p("Class __" + currentClassName + "::__class() {");
         printer.pln().incr().indent().p("static Class k =");
-        printer.pln().indent().p("  new __Class(__rt::literal(\"" + currentClassName + "\"), __Object::__class());");
+        printer.pln().indent().p("  new __Class(__rt::literal(\"" + currentClassName + "\"), " + classLiteralArguments() + ");");
         printer.pln().indent().p("return k;");
         printer.pln().decr().indent().p("}").pln();
 
@@ -215,6 +255,21 @@ public class CPPPrinter extends JavaPrinter {
 
     }
   
+    /**
+     * @return the arguments after the name for the __Class of the
+     * current class: its superclass and, if it is numbered, its interval
+     */
+    private String classLiteralArguments() {
+        String superClassName = null == hierarchy ? null : hierarchy.getSuperClass(currentClassName);
+        String arguments = null == superClassName ? "__Object::__class()" : "__" + superClassName + "::__class()";
+
+        int[] range = null == hierarchy ? null : hierarchy.getTypeRange(currentClassName);
+        if (null != range) {
+            arguments += ", __rt::null(), false, " + range[0] + ", " + range[1];
+        }
+        return arguments;
+    }
+
     /** Visit the specified field declaration. */
     public void visitFieldDeclaration(GNode n) {
 
@@ -267,12 +322,23 @@ public class CPPPrinter extends JavaPrinter {
                 // this global is used in visitNewArrayExpression to homogenize
                 smartPointerStaticType = type; 
 
+                if (inMethod && isScoped(n)) {
+                    GNode newArrayExpressionNode = n.getNode(2).getNode(0).getGeneric(2);
+                    scopedStorage = "__storage_" + field;
+                    printer.indent().p("__rt::scoped_array<").p(type).p(", ");
+                    printer.p(newArrayExpressionNode.getNode(1).getNode(0)).p("> ").p(scopedStorage).p(';').pln();
+                }
+
+                String ptr = isThreadLocal(n) ? "__rt::local_ptr" : "__rt::Ptr";
                 if(n.getNode(1).getNode(1).size() == 1) {
-                    printer.indent().p("__rt::Ptr<__rt::Array<");
+                    printer.indent().p(ptr).p("<__rt::Array<");
                 } else {
-                    printer.indent().p("__rt::Ptr<__rt::Array2D<");
+                    printer.indent().p(ptr).p("<__rt::Array2D<");
                 }
                 printer.p(n.getNode(0)).p(type).p("> >").p(' ').p(n.getNode(2)).p(';').pln();
+
+                if (inMethod && n.getNode(1).getNode(1).size() == 1) localArrays.add(field);
+                if (inMethod && n.getNode(1).getNode(1).size() == 2) localArrays2D.add(field);
             }
         } else {    // not a smart pointer
             // if need to cast a field declaration
@@ -289,6 +355,16 @@ public class CPPPrinter extends JavaPrinter {
                 needToUpcast = true;
             }
 
+            if (inMethod && isScoped(n)) {
+                GNode declaratorNode = n.getNode(2).getGeneric(0);
+                GNode newClassExpressionNode = declaratorNode.getGeneric(2);
+                printer.indent().p("__rt::scoped<__").p(newClassExpressionNode.getNode(2)).p("> ");
+                printer.p("__storage_").p(declaratorNode.getString(0));
+                if (newClassExpressionNode.getNode(3).size() > 0) printer.p(newClassExpressionNode.getNode(3));
+                printer.p(';').pln();
+                scopedStorage = "__storage_" + declaratorNode.getString(0);
+            }
+
             if (inMethod && needToUpcast) { // needs to be casted
                 // get the static type of the right-hand-side variable
                 String varRHS = n.getNode(2).getNode(0).getNode(2).getString(0);                
@@ -297,6 +373,9 @@ public class CPPPrinter extends JavaPrinter {
                 String outputStaticType = typeInfo.get(0);   // index 0 is the static type                                                      
                 
                 printer.indent().p(n.getNode(0)).p(outputStaticType).p(' ').p(n.getNode(2)).p(';').pln();
+            } else if (inMethod && isThreadLocal(n)) {  // keeps the non-atomic count
+                printer.indent().p(n.getNode(0)).p("__rt::local_ptr<").p(n.getNode(1)).p("::value_type>");
+                printer.p(' ').p(n.getNode(2)).p(';').pln();
             } else if (inMethod) {  // no casting needed, just ordinary output       
                 printer.indent().p(n.getNode(0)).p(n.getNode(1)).p(' ').p(n.getNode(2)).p(';').pln();
             }
@@ -365,18 +444,27 @@ public class CPPPrinter extends JavaPrinter {
     public void visitMethodDeclaration(GNode n) {
         
         inMethod = true;
+        resetChecks();
         Printer writer = null;
         Node main = n;
         if (n.getString(3).equals("main")) {
             if (!inMain) { 
                 rootTable.enter(n);
+                Writer out = null;
                 try {
-                    writer = new Printer(new BufferedWriter(new OutputStreamWriter(new FileOutputStream("main.cc"), "utf-8")) );                    
-                    new CPPPrinter(writer, classAndClassDetail, methReturnTypes, currentClassName, staticFields, rootTable).dispatch(main);
+                    StringWriter source = new StringWriter();
+                    writer = new Printer(source);
+                    CPPPrinter mainPrinter = new CPPPrinter(writer, classAndClassDetail, methReturnTypes, currentClassName, staticFields, rootTable, hierarchy);
+                    mainPrinter.metrics = metrics;
+                    mainPrinter.dispatch(main);
+                    writer.flush();
+
+                    out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(new File(outputDir, "main.cc")), "utf-8"));
+                    out.write(mainPrinter.insertStringConstants(source.toString()));
                 } catch (IOException ex) {
                 } finally {
                     try {
-                        writer.close(); 
+                        out.close();
                     } catch (Exception ex) {}
                 }
                 rootTable.exit(n);
@@ -390,6 +478,8 @@ public class CPPPrinter extends JavaPrinter {
                 printer.p("using namespace java::lang;").pln();
                 printer.p("using namespace oop;").pln().pln();
 
+                markStringConstants();
+
                 // print out all static fields declared outside the main method (test18)
                 for (int i = 0; i < staticFields.size(); i++) {
                     printer.p(staticFields.get(i)).pln();                    
@@ -449,6 +539,7 @@ public class CPPPrinter extends JavaPrinter {
     /** Visit the specified constructor declaration. */
     public void visitConstructorDeclaration(GNode n) { 
         rootTable.enter(n);
+        resetChecks();
         String constructorParams = "";
         inMethod = true;
         printer.indent().p("__" + currentClassName + "::");
@@ -528,6 +619,7 @@ public class CPPPrinter extends JavaPrinter {
     /** Visit the specified block. */
     public void visitBlock(GNode n) {
         rootTable.enter(n);
+        HashSet<String> outerNonNull = new HashSet<String>(nonNull);
         if(isConstructor) {
         }
         if (isOpenLine) {
@@ -570,6 +662,7 @@ public class CPPPrinter extends JavaPrinter {
         isOpenLine    = true;
         isNested      = false;
         isIfElse      = false;
+        restoreChecks(outerNonNull, n);
         rootTable.exit(n);
     }
 
@@ -577,6 +670,11 @@ public class CPPPrinter extends JavaPrinter {
     public void visitForStatement(GNode n) {
         final boolean nested = startStatement(STMT_ANY);
 
+        // Nothing assigned in the loop is known not to be null at its start
+        HashSet<String> assigned = CheckAnalysis.assignedVariables(n);
+        nonNull.removeAll(assigned);
+        HashSet<String> outerNonNull = new HashSet<String>(nonNull);
+
         // Print checkNotNull right above FOR LOOPS iterating over arrays
         // 2D array
         GNode blockNode = n.getGeneric(1);
@@ -592,7 +690,10 @@ public class CPPPrinter extends JavaPrinter {
             if (arrayName.equals("argv")) arrayName = "argvPtr";
 
             // print
-            printer.indent().p("__rt::checkNotNull(").p(arrayName).p(");").pln();
+            if (needsNullCheck(arrayName)) {
+                printer.indent().p("__rt::checkNotNull(").p(arrayName).p(");").pln();
+                if (!assigned.contains(arrayName)) checkedNotNull(arrayName);
+            }
         } else if (!inNestedForLoop) { // 1D array
             // get the array name
             GNode basicForControlNode      = n.getGeneric(0);
@@ -602,7 +703,18 @@ public class CPPPrinter extends JavaPrinter {
             if (arrayName.equals("argv")) arrayName = "argvPtr";
 
             // print
-            printer.indent().p("__rt::checkNotNull(").p(arrayName).p(");").pln();
+            if (needsNullCheck(arrayName)) {
+                printer.indent().p("__rt::checkNotNull(").p(arrayName).p(");").pln();
+                if (!assigned.contains(arrayName)) checkedNotNull(arrayName);
+            }
+        }
+
+        // In for (i = 0; i < a.length; i++), a[i] is within bounds
+        String[] loop = CheckAnalysis.canonicalLoop(n);
+        if (null != loop &&
+            (localArrays.contains(loop[1]) || localArrays2D.contains(loop[1]) ||
+             (loop[1].endsWith("[]") && localArrays2D.contains(loop[1].substring(0, loop[1].length() - 2))))) {
+            inBounds.put(loop[0], loop[1]);
         }
 
         inForLoopDeclaration = true;        
@@ -612,6 +724,8 @@ public class CPPPrinter extends JavaPrinter {
 
         inForLoopDeclaration = false;
         inNestedForLoop = false;
+        if (null != loop) inBounds.remove(loop[0]);
+        restoreChecks(outerNonNull, n);
         endStatement(nested);
     }
 
@@ -619,15 +733,43 @@ public class CPPPrinter extends JavaPrinter {
     public void visitWhileStatement(GNode n) {
         final boolean nested = startStatement(STMT_ANY);
         inWhileLoop = true;
+        nonNull.removeAll(CheckAnalysis.assignedVariables(n));
+        HashSet<String> outerNonNull = new HashSet<String>(nonNull);
 
         printer.indent().p("while (").p(n.getNode(0)).p(')');
         prepareNested();
         printer.p(n.getNode(1));
 
+        restoreChecks(outerNonNull, n);
         inWhileLoop = false;        
         endStatement(nested);
     }
 
+    /** Visit the specified do while statement. */
+    public void visitDoWhileStatement(GNode n) {
+        nonNull.removeAll(CheckAnalysis.assignedVariables(n));
+        HashSet<String> outerNonNull = new HashSet<String>(nonNull);
+        super.visitDoWhileStatement(n);
+        restoreChecks(outerNonNull, n);
+    }
+
+    /** Visit the specified conditional statement. */
+    public void visitConditionalStatement(GNode n) {
+        HashSet<String> outerNonNull = new HashSet<String>(nonNull);
+        super.visitConditionalStatement(n);
+        restoreChecks(outerNonNull, n);
+    }
+
+    /** Visit the specified switch statement. */
+    public void visitSwitchStatement(GNode n) {
+        HashSet<String> outerNonNull = new HashSet<String>(nonNull);
+        nonNull.removeAll(CheckAnalysis.assignedVariables(n));
+        inSwitch++;
+        super.visitSwitchStatement(n);
+        inSwitch--;
+        restoreChecks(outerNonNull, n);
+    }
+
     /** Visit the specified expression statement. */
     public void visitExpressionStatement(GNode n) {
         final boolean nested = startStatement(STMT_ANY);
@@ -650,27 +792,23 @@ public class CPPPrinter extends JavaPrinter {
                 GNode argumentsNode = printOutputNode.getNode(1).getGeneric(3);
                 String var = "";
                 if (argumentsNode.size() > 0) {
+                    Node primaryIdentifierNode;
                     if (argumentsNode.getNode(0).getName().equals("SelectionExpression")) {
-                        GNode primaryIdentifierNode = argumentsNode.getNode(0).getGeneric(0);
-                        var = primaryIdentifierNode.getString(0);
+                        primaryIdentifierNode = argumentsNode.getNode(0).getGeneric(0);
                     } else if (argumentsNode.getNode(0).getName().equals("CallExpression")) {
                         GNode nestedCallExpressionNode = argumentsNode.getGeneric(0);
                         GNode nestedArgumentsNode = nestedCallExpressionNode.getGeneric(3);
-                        var = nestedArgumentsNode.getNode(0).getString(0);
+                        primaryIdentifierNode = nestedArgumentsNode.getNode(0);
                     } else if (argumentsNode.getNode(0).getName().equals("CastExpression")) {
-                        GNode primaryIdentifierNode = argumentsNode.getNode(0).getNode(1).getGeneric(0);
-                        var = primaryIdentifierNode.getString(0);
+                        primaryIdentifierNode = argumentsNode.getNode(0).getNode(1).getGeneric(0);
                     } else {
-                        GNode primaryIdentifierNode = argumentsNode.getGeneric(0);
-                        var = primaryIdentifierNode.getString(0);                        
+                        primaryIdentifierNode = argumentsNode.getGeneric(0);
                     }
+                    var = primaryIdentifierNode.getString(0);
 
-                    SymbValStruct symbStruct = (SymbValStruct)rootTable.current().lookup(var);
-                    if (!symbStruct.getType().equals("int") && 
-                        !symbStruct.getType().equals("double") && 
-                        !symbStruct.getType().equals("byte")
-                        ) {
+                    if (isNullable(primaryIdentifierNode) && needsNullCheck(var)) {
                         printer.indent().p("__rt::checkNotNull(").p(var).p(");").pln();
+                        checkedNotNull(var);
                     }
                 }
             }            
@@ -704,10 +842,22 @@ public class CPPPrinter extends JavaPrinter {
             printer.p(" " + n.getString(1) + " " + varDuplicate);
             checkStore = false;
             varDuplicate = null;
+        } else if ("+=".equals(n.getString(1)) && isString(n.getNode(0))) {
+            ArrayList<Node> operands = new ArrayList<Node>();
+            operands.add(n.getNode(0));
+            flattenConcatenation(n.getNode(2), operands);
+            printer.p(" = ");
+            printBuilder(operands);
         } else {
             printer.p(' ').p(n.getString(1)).p(' ').p(n.getNode(2));
         }
 
+        // An assigned local is only known not to be null if assigned a new object
+        if (n.getNode(0).hasName("PrimaryIdentifier") && n.getNode(0).get(0) instanceof String) {
+            nonNull.remove(n.getNode(0).getString(0));
+            if ("=".equals(n.getString(1)) && isNew(n.get(2))) checkedNotNull(n.getNode(0).getString(0));
+        }
+
         endExpression(prec1);
     }
   
@@ -715,7 +865,16 @@ public class CPPPrinter extends JavaPrinter {
     public void visitCastExpression(GNode n) {
         final int prec = startExpression(140);
         if (!inOutputStream) {
-            printer.p("__rt::java_cast<").p(n.getNode(0)).p(">(").p(n.getNode(1)).p(")");
+            printer.p("__rt::java_cast<").p(n.getNode(0)).p(">(").p(n.getNode(1));
+
+            // Casts to a class of this file test its interval directly
+            Node type = n.getNode(0);
+            if (null == type.get(1) && type.getNode(0).hasName("QualifiedIdentifier") &&
+                null != hierarchy && null != hierarchy.getTypeRange(type.getNode(0).getString(0))) {
+                int[] range = hierarchy.getTypeRange(type.getNode(0).getString(0));
+                printer.p(", ").p(range[0]).p(", ").p(range[1]);
+            }
+            printer.p(")");
         } else {
             printer.p('(').p(n.getNode(0)).p(')').p(n.getNode(1));
         }
@@ -742,18 +901,19 @@ public class CPPPrinter extends JavaPrinter {
                 if (n.getNode(0).get(0) instanceof String) {
 
                     callerName = n.getNode(0).getString(0);
-                    SymbValStruct symbStruct = (SymbValStruct)rootTable.current().lookup(callerName);
 
                     /* If symbol is found, then expression is called from an instance of something.
                      * Otherwise it calls a static expression */
-                    if(symbStruct == null) isStatic = true;
+                    if (null == Symbol.of(n.getNode(0))) isStatic = true;
                 }
 
                 /*Checks if expression contains more than one argument (i.e. args other than __this)
                  * or if it doesn't, is static => select correct overloaded impl if so */
                 if (n.getGeneric(3).size() > 1 || isStatic) {  
 
-                    MethodOverloader overloading = new MethodOverloader(n.getString(2), n.getGeneric(3), callerName, isStatic, classAndClassDetail, rootTable);
+                    if (null != metrics) metrics.start(PhaseMetrics.OVERLOAD, currentClassName);
+                    MethodOverloader overloading = new MethodOverloader(n.getString(2), n.getGeneric(3), null == callerName ? null : n.getNode(0), isStatic, classAndClassDetail);
+                    if (null != metrics) metrics.stop();
                     String overloadedCall = overloading.toString(); 
                     /* If there is an overloaded method corresponding to expression,
                      * set methodname to overloaded version before printing */                
@@ -770,8 +930,14 @@ public class CPPPrinter extends JavaPrinter {
                 }
 
                 /* If the method is static, print using this formula */
+                String directClass = null;
                 if (isStatic) 
                     printer.p("__").p(n.getNode(0)).p("::").p(n.getString(2)).p(n.getNode(3));
+                /* If the method cannot be overridden, call the implementation directly */
+                else if (null != (directClass = findDirectCall(n))) {
+                    printer.p("__").p(directClass).p("::").p(n.getString(2));
+                    printDirectArguments(n.getGeneric(3));
+                }
                 /* Otherwise method is dynamic, so print using pointer to vtable */
                 else {
                     printer.p(n.getNode(0)).p("->__vptr->");
@@ -797,6 +963,156 @@ public class CPPPrinter extends JavaPrinter {
         endExpression(prec);
     }
 
+    /**
+     * Finds the class whose implementation a dynamic call always ends up in.
+     * That is the case if the method is private or final, or if no class
+     * extending the caller's static type declares a method that could
+     * override it.
+     * @param n CallExpression GNode with a caller
+     * @return the class implementing the method, or null if the call has to go through the vtable
+     */
+    private String findDirectCall(GNode n) {
+        if (null == hierarchy) return null;
+
+        /* Determine the caller's static type */
+        String staticType = null;
+        if (n.getNode(0).hasName("ThisExpression") && null == n.getNode(0).get(0)) {
+            staticType = currentClassName;
+        } else if (n.getNode(0).hasName("PrimaryIdentifier") && n.getNode(0).get(0) instanceof String) {
+            Symbol symbol = Symbol.of(n.getNode(0));
+            if (null != symbol && null != symbol.getType()) staticType = symbol.getType().getName();
+        }
+        if (null == staticType || null == classAndClassDetail.get(staticType)) return null;
+
+        /* Find the implementation the same way the vtable does */
+        String methodName = n.getString(2);
+        for (ClassDetail c = classAndClassDetail.get(staticType); null != c; c = c.getSuperClassDetail()) {
+            for (Node method : c.getmethodList()) {
+                if (!methodName.equals(method.getString(3))) continue;
+
+                String modifiers = "";
+                for (int i = 0; i < method.getNode(0).size(); i++) {
+                    modifiers += method.getNode(0).getNode(i).getString(0) + " ";
+                }
+                if (modifiers.contains("static")) return null;
+                if (modifiers.contains("private") || modifiers.contains("final") ||
+                    !hierarchy.isOverridden(staticType, methodName)) {
+                    return c.getclassname();
+                }
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Prints the arguments of a direct call.  The receiver, which is the
+     * last argument, is not dereferenced to find the method, so it is
+     * checked against null here unless it is known not to be null.
+     * @param n Arguments GNode ending with the receiver
+     */
+    private void printDirectArguments(GNode n) {
+        Node    receiver = n.getNode(n.size() - 1);
+        boolean check    = !receiver.hasName("ThisExpression") &&
+            !(receiver.hasName("PrimaryIdentifier") && receiver.get(0) instanceof String &&
+              !needsNullCheck(receiver.getString(0)));
+
+        printer.p('(');
+        for (int i = 0; i < n.size(); i++) {
+            final int prec = enterContext(PREC_LIST);
+            if (check && i == n.size() - 1) {
+                printer.p("__rt::checkNotNull(").p(n.getNode(i)).p(')');
+            } else {
+                printer.p(n.getNode(i));
+            }
+            exitContext(prec);
+            if (i < n.size() - 1) printer.p(", ");
+        }
+        printer.p(')');
+    }
+
+    /**
+     * Forgets all facts about locals at the start of a method.
+     */
+    private void resetChecks() {
+        nonNull.clear();
+        nonNull.add("__this");
+        localArrays.clear();
+        localArrays2D.clear();
+        inBounds.clear();
+    }
+
+    /**
+     * Restores the facts from before a statement with nested statements.
+     * Facts learned inside it may not hold after it, and variables it
+     * assigns are no longer known not to be null.
+     * @param outerNonNull the facts from before the statement
+     * @param n the statement
+     */
+    private void restoreChecks(HashSet<String> outerNonNull, Node n) {
+        outerNonNull.removeAll(CheckAnalysis.assignedVariables(n));
+        nonNull = outerNonNull;
+    }
+
+    /**
+     * @param var a variable
+     * @return true if var may be null here
+     */
+    private boolean needsNullCheck(String var) {
+        return !nonNull.contains(var);
+    }
+
+    /**
+     * Records that a variable is not null from here on.  This is only
+     * kept for locals, since any call may change a field.
+     * @param var a variable that was just checked or assigned a new object
+     */
+    private void checkedNotNull(String var) {
+        if (0 != inSwitch) return;
+
+        /* Locals live in method and block scopes, below the root, file and class scopes */
+        int depth = 0;
+        for (SymbolTable.Scope scope = rootTable.current().lookupScope(var);
+             null != scope && null != scope.getParent(); scope = scope.getParent()) {
+            depth++;
+        }
+        if (depth >= 3) nonNull.add(var);
+    }
+
+    /**
+     * @return true if o is an expression that always gives a new object
+     */
+    private static boolean isNew(Object o) {
+        return o instanceof Node &&
+               (((Node)o).hasName("NewClassExpression") || ((Node)o).hasName("NewArrayExpression") ||
+                ((Node)o).hasName("StringLiteral"));
+    }
+
+    /**
+     * @return true if TreeConverter found that the declared variables never
+     *         let their objects leave the thread (only with -atomic-refcount)
+     */
+    private static boolean isThreadLocal(GNode n) {
+        return n.getBooleanProperty(EscapeAnalysis.THREAD_LOCAL);
+    }
+
+    /**
+     * @return true if TreeConverter found that the declared variable's
+     *         initial object can live on the stack
+     */
+    private static boolean isScoped(GNode n) {
+        return n.getBooleanProperty(EscapeAnalysis.SCOPED);
+    }
+
+    /**
+     * @return true if n is an identifier TreeConverter found in the
+     * symbol table, whose type is not primitive
+     */
+    private static boolean isNullable(Node n) {
+        Symbol symbol = Symbol.of(n);
+        return null != symbol && null != symbol.getType() && !symbol.getType().isPrimitive();
+    }
+
     /**
      * Adds the __rt::CheckNotNull outside of method calls for affected
      * arguments. Ignores primitives.
@@ -807,17 +1123,13 @@ public class CPPPrinter extends JavaPrinter {
         for (int i = 0; i < argumentsNode.size(); i++) {
             if (argumentsNode.getNode(i).getName().equals("PrimaryIdentifier")) {
                 String var = argumentsNode.getNode(i).getString(0);
-                SymbValStruct symbStructVal = (SymbValStruct)rootTable.current().lookup(var);
 
-                if (symbStructVal != null && 
-                 !symbStructVal.getType().equals("int") && 
-                 !symbStructVal.getType().equals("double") && 
-                 !symbStructVal.getType().equals("byte")
-                 ) {
+                if (isNullable(argumentsNode.getNode(i)) && needsNullCheck(var)) {
                     printer.p("__rt::checkNotNull(");
                         printer.p(var);
                         printer.p(");");
                         printer.pln().indent();
+                        checkedNotNull(var);
                     }
                 }
             }
@@ -826,14 +1138,12 @@ public class CPPPrinter extends JavaPrinter {
     /** Visit the specified selection expression. */
     public void visitSelectionExpression(GNode n) {
         final int prec = startExpression(160);
-        String var = null;
-        SymbValStruct symbStruct = null;
+        Symbol symbol = null;
 
         if (n.get(0) instanceof Node &&
             n.getNode(0).get(0) instanceof String
             ) {
-            var = n.getNode(0).getString(0);
-            symbStruct = (SymbValStruct)rootTable.current().lookup(var);
+            symbol = Symbol.of(n.getNode(0));
         }
 
         if (isConstructor && 
@@ -847,7 +1157,7 @@ public class CPPPrinter extends JavaPrinter {
             printer.p("argc-1");
         } else if (n.get(0) instanceof Node &&
                    n.getNode(0).getName().equals("PrimaryIdentifier") && 
-                   symbStruct != null && symbStruct.getKind().equals("class") 
+                   symbol != null && symbol.getKind() == Symbol.Kind.CLASS
                    ) {
             printer.p("__").p(n.getNode(0)).p("::").p(n.getString(1));
         } else {
@@ -864,10 +1174,14 @@ public class CPPPrinter extends JavaPrinter {
         if (n.getNode(0).get(0) instanceof String) {
 
             // only print checkNotNull when appropriate
+            boolean checkPrinted = false;
             if (!inOutput &&
                 !inForLoopDeclaration &&
-                !inWhileLoop) {                
+                !inWhileLoop &&
+                needsNullCheck(n.getNode(0).getString(0))) {                
                 printer.p("__rt::checkNotNull(" + n.getNode(0).getString(0) + ");\n");
+                checkedNotNull(n.getNode(0).getString(0));
+                checkPrinted = true;
             }
 
             // Used to print checkStore in a self-written test. Doesn't seem to be needed for the 39 tests
@@ -907,10 +1221,15 @@ public class CPPPrinter extends JavaPrinter {
             String idx = n.getNode(1).getString(0);
 
             // formatting
-            if (!inOutput && !inForLoopDeclaration && !inWhileLoop) printer.indent();
+            if (checkPrinted) printer.indent();
 
-            // print
-            printer.p("(*" + arrayName + ")[" + idx + "]");             
+            // print, without the bounds check if the index is known to be within bounds
+            if (n.getNode(1).hasName("PrimaryIdentifier") && arrayName.equals(inBounds.get(idx)) &&
+                !localArrays2D.contains(arrayName)) {
+                printer.p(arrayName + "->__data[" + idx + "]");
+            } else {
+                printer.p("(*" + arrayName + ")[" + idx + "]");
+            }
                            
         } else if (n.getNode(0).getName().equals("SubscriptExpression")) {
             // Accessing 2D array
@@ -920,8 +1239,13 @@ public class CPPPrinter extends JavaPrinter {
             String idx1 = n.getNode(0).getNode(1).getString(0);
             String idx2 = n.getNode(1).getString(0);
 
-            // print
-            printer.p("(*").p(arrayName).p(")[").p(idx1).p("]").p("[").p(idx2).p("]");   
+            // print, indexing the elements directly if both indices are known to be within bounds
+            if (n.getNode(0).getNode(1).hasName("PrimaryIdentifier") && arrayName.equals(inBounds.get(idx1)) &&
+                n.getNode(1).hasName("PrimaryIdentifier") && (arrayName + "[]").equals(inBounds.get(idx2))) {
+                printer.p(arrayName).p("->__data[").p(idx1).p(" * ").p(arrayName).p("->length2 + ").p(idx2).p("]");
+            } else {
+                printer.p("(*").p(arrayName).p(")[").p(idx1).p("]").p("[").p(idx2).p("]");
+            }
         }
     }
 
@@ -953,9 +1277,14 @@ public class CPPPrinter extends JavaPrinter {
         final int prec = startExpression(160);
         if (null != n.get(0)) printer.p(n.getNode(0)).p('.');
         printer.p("__").p(n.getNode(2).getString(0)).p("::init(");
-        printer.p("new __");
-        if (null != n.get(1)) printer.p(n.getNode(1)).p(' ');
-        printer.p(n.getNode(2)).p(n.getNode(3));
+        if (null != scopedStorage) {
+            printer.p(scopedStorage).p(".get()");
+            scopedStorage = null;
+        } else {
+            printer.p("new __");
+            if (null != n.get(1)) printer.p(n.getNode(1)).p(' ');
+            printer.p(n.getNode(2)).p(n.getNode(3));
+        }
         if (null != n.get(4)) {
             prepareNested();
             printer.p(n.getNode(4));
@@ -969,6 +1298,13 @@ public class CPPPrinter extends JavaPrinter {
     public void visitNewArrayExpression(GNode n) {
         final int prec = startExpression(160);
 
+        if (null != scopedStorage) {
+            printer.p(scopedStorage).p(".get()");
+            scopedStorage = null;
+            endExpression(prec);
+            return;
+        }
+
         // Use homogenized type (static type instead of dynamic type)
         printer.p("new ");
         if(n.getGeneric(1).size() == 1) {
@@ -1001,22 +1337,225 @@ public class CPPPrinter extends JavaPrinter {
     /** Visit the specified string literal. */
     public void visitStringLiteral(GNode n) {
         final int prec = startExpression(160);
-        printer.p("__rt::literal(" + n.getString(0) + ")");
+        printer.p(stringConstant(n.getString(0)));
         endExpression(prec);
     }
 
+    /**
+     * @return the expression for a string literal: a call of the
+     * function returning its one String, if the file has one, and
+     * otherwise a new String each time
+     */
+    private String stringConstant(String literal) {
+        if (!stringsMarked) return "__rt::literal(" + literal + ")";
+
+        String name = stringConstants.get(literal);
+        if (null == name) {
+            name = stringPrefix() + stringConstants.size();
+            stringConstants.put(literal, name);
+        }
+        return name + "()";
+    }
+
+    /**
+     * @return the prefix of the names of the functions returning string
+     * literals, which differs between classes and main, so that they can
+     * all be printed into one file with -unity
+     */
+    private String stringPrefix() {
+        return "__" + (null == h_printer ? "main" : currentClassName) + "_string";
+    }
+
+    /**
+     * Marks where the functions returning the string literals of a class
+     * or the main method go.  Which literals are printed as Strings is
+     * only known once the file is printed, so the functions are filled
+     * in afterwards by {@link #insertStringConstants}.  Only the
+     * outermost class of a file marks them.
+     */
+    private void markStringConstants() {
+        if (stringsMarked) return;
+        stringsMarked = true;
+        printer.indent().p(STRINGS_MARKER).pln();
+    }
+
+    /**
+     * Replaces the marker printed by markStringConstants with a function
+     * for each string literal printed as a String since, which returns
+     * the literal's interned String, created on first use.
+     *
+     * @param source The printed file
+     * @return the file with the functions
+     */
+    public String insertStringConstants(String source) {
+        int marker = source.indexOf(STRINGS_MARKER);
+        if (-1 == marker) return source;
+        int start = source.lastIndexOf('\n', marker) + 1;
+        int end   = source.indexOf('\n', marker) + 1;
+
+        StringBuilder constants = new StringBuilder();
+        if (!stringConstants.isEmpty()) {
+            String indent = source.substring(start, marker);
+            constants.append('\n').append(indent).append("// The string literals, each created once on first use\n");
+            for (Map.Entry<String,String> constant : stringConstants.entrySet()) {
+                constants.append(indent).append("static const String& ").append(constant.getValue()).append("() {\n");
+                constants.append(indent).append("  static String s = __rt::intern(").append(constant.getKey()).append(");\n");
+                constants.append(indent).append("  return s;\n");
+                constants.append(indent).append("}\n");
+            }
+            constants.append('\n');
+        }
+        return source.substring(0, start) + constants + source.substring(end);
+    }
+
+    /** Visit the specified additive expression. */
+    public void visitAdditiveExpression(GNode n) {
+        if (isConcatenation(n)) {
+            ArrayList<Node> operands = new ArrayList<Node>();
+            flattenConcatenation(n, operands);
+            printBuilder(operands);
+        } else {
+            super.visitAdditiveExpression(n);
+        }
+    }
+
+    /**
+     * Prints a string concatenation as one __rt::StringBuilder, sized
+     * for the literals plus a guess for every other operand, instead of
+     * one temporary String per +.
+     *
+     * @param operands The flattened operands of the concatenation
+     */
+    private void printBuilder(ArrayList<Node> operands) {
+        int capacity = 0;
+        for (Node operand : operands) {
+            capacity += operand.hasName("StringLiteral") ? operand.getString(0).length() - 2 : 16;
+        }
+
+        final int prec1 = startExpression(160);
+        printer.p("__rt::StringBuilder(").p(capacity).p(')');
+        for (Node operand : operands) {
+            final int prec2 = enterContext(PREC_BASE);
+            printer.p(".append(");
+            printOperand(operand);
+            printer.p(')');
+            exitContext(prec2);
+        }
+        printer.p(".toString()");
+        endExpression(prec1);
+    }
+
+    /**
+     * Prints an operand of a concatenation or of a print, string literals
+     * as plain C strings and bytes as ints, which Java prints as numbers.
+     */
+    private void printOperand(Node operand) {
+        if (operand.hasName("StringLiteral")) {
+            printer.p(operand.getString(0));
+        } else if ("byte".equals(ExpressionTyper.typeOf(operand))) {
+            final int prec = enterContext(PREC_BASE);
+            printer.p("(int32_t)(").p(operand).p(')');
+            exitContext(prec);
+        } else {
+            printer.p(operand);
+        }
+    }
+
+    /**
+     * Collects the operands of a string concatenation.  Operands that
+     * are themselves concatenations are flattened; anything else, such
+     * as the 1 + 2 in 1 + 2 + "s", stays one operand.
+     */
+    private void flattenConcatenation(Node n, ArrayList<Node> operands) {
+        if (isConcatenation(n)) {
+            flattenConcatenation(n.getNode(0), operands);
+            flattenConcatenation(n.getNode(2), operands);
+        } else {
+            operands.add(n);
+        }
+    }
+
+    /** @return true if n is a + with a string operand */
+    private boolean isConcatenation(Node n) {
+        return n.hasName("AdditiveExpression") && "+".equals(n.get(1)) &&
+               (isString(n.getNode(0)) || isString(n.getNode(2)));
+    }
+
+    /** @return true if n is known to be a String */
+    private boolean isString(Node n) {
+        return "String".equals(ExpressionTyper.typeOf(n));
+    }
+
+    /** @return true if n is known to be a boolean */
+    private boolean isBoolean(Node n) {
+        return "boolean".equals(ExpressionTyper.typeOf(n));
+    }
+
     /** Used for printing out std::cout calls */
     public void visitPrintOutput(GNode n) {
         inOutput = true;
         Node currentNode;
         for (Iterator<Object> iter = n.iterator(); iter.hasNext();) {
             currentNode = (Node)iter.next();
-            printer.p(currentNode);
+            if (isConcatenation(currentNode)) {
+                ArrayList<Node> operands = new ArrayList<Node>();
+                flattenConcatenation(currentNode, operands);
+                if (isStreamable(operands)) {
+                    printStream(operands);
+                } else {
+                    printBuilder(operands);
+                }
+            } else {
+                printOperand(currentNode);
+            }
             if (iter.hasNext()) printer.p(" << ");
         }
         inOutput = false;
     }
 
+    /**
+     * Streams the operands of a printed concatenation one by one, so
+     * printing it builds no strings.
+     *
+     * @param operands The flattened operands of the concatenation
+     */
+    private void printStream(ArrayList<Node> operands) {
+        for (Iterator<Node> iter = operands.iterator(); iter.hasNext();) {
+            Node operand = iter.next();
+            final int prec = enterContext(111);  /* tighter than << */
+            if (isBoolean(operand)) {
+                printer.p('(').p(operand).p(" ? \"true\" : \"false\")");
+            } else {
+                printOperand(operand);
+            }
+            exitContext(prec);
+            if (iter.hasNext()) printer.p(" << ");
+        }
+    }
+
+    /**
+     * Java evaluates all operands of a printed concatenation before it
+     * prints any of them, whereas streaming prints each operand once it
+     * is evaluated.  Streaming is thus only safe if no operand can print
+     * or throw: literals, and locals or fields of String or primitive
+     * type, which are printed without calling toString().
+     *
+     * @param operands The flattened operands of the concatenation
+     * @return true if the operands can be streamed one by one
+     */
+    private boolean isStreamable(ArrayList<Node> operands) {
+        for (Node operand : operands) {
+            if (operand.getName().endsWith("Literal")) continue;
+
+            String type = ExpressionTyper.typeOf(operand);
+            if (!operand.hasName("PrimaryIdentifier") ||
+                !("String".equals(type) || "boolean".equals(type) || ExpressionTyper.isNumeric(type))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /** Prints what's passed into cout */
     public void visitPrintBound(GNode n) {
         printer.p(n.getString(0));
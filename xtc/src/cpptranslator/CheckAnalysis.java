@@ -0,0 +1,126 @@
+/***********************************************
+ * CheckAnalysis holds the helpers CPPPrinter uses
+ * to leave out null and bounds checks it can prove
+ * redundant.
+ *
+ * The printer itself tracks which local variables
+ * are known not to be null while it prints a
+ * method body in order: after a `new`, after a
+ * check, and for __this. These helpers tell it
+ * which variables a loop or block may assign, and
+ * which loops index an array only within bounds.
+ ***********************************************/
+
+package cpptranslator;
+
+import java.util.*;
+
+import xtc.tree.GNode;
+import xtc.tree.Node;
+
+public class CheckAnalysis {
+
+    /**
+     * Collects the variables a subtree may change: the left-hand sides
+     * of assignments, incremented and decremented variables, and
+     * variables declared in it (which may shadow outer ones).
+     *
+     * @param n The subtree
+     * @return the names of those variables
+     */
+    public static HashSet<String> assignedVariables(Node n) {
+        HashSet<String> assigned = new HashSet<String>();
+        collectAssigned(n, assigned);
+        return assigned;
+    }
+
+    private static void collectAssigned(Node n, HashSet<String> assigned) {
+        if (n.hasName("Expression") || n.hasName("PostfixExpression")) {
+            addVariable(n.get(0), assigned);
+        } else if (n.hasName("UnaryExpression") &&
+                   ("++".equals(n.get(0)) || "--".equals(n.get(0)))) {
+            addVariable(n.get(1), assigned);
+        } else if (n.hasName("Declarator")) {
+            assigned.add(n.getString(0));
+        }
+
+        for (Object o : n) {
+            if (o instanceof Node) collectAssigned((Node)o, assigned);
+        }
+    }
+
+    private static void addVariable(Object o, HashSet<String> assigned) {
+        if (o instanceof Node && ((Node)o).hasName("PrimaryIdentifier") &&
+            ((Node)o).get(0) instanceof String) {
+            assigned.add(((Node)o).getString(0));
+        }
+    }
+
+    /**
+     * Recognizes the canonical array loop
+     * <pre>
+     *   for (int i = 0; i &lt; a.length; i++) body
+     * </pre>
+     * where neither i nor a is assigned in the body.  Inside such a
+     * loop, a[i] is always within bounds.  The bound may also be the
+     * length of a row, a[k].length, which is the same for every row of
+     * a translated two-dimensional array; the array is then returned
+     * as "a[]", and a[..][i] is within bounds.
+     *
+     * @param n A ForStatement GNode
+     * @return the index variable and the array, or null if the loop is not canonical
+     */
+    public static String[] canonicalLoop(GNode n) {
+        Node control = n.getNode(0);
+        if (!control.hasName("BasicForControl") || control.size() < 5) return null;
+
+        /* int i = 0 */
+        Node declarators = control.getNode(2);
+        if (null == declarators || !declarators.hasName("Declarators") || declarators.size() != 1) return null;
+        Node declarator = declarators.getNode(0);
+        if (!isLiteral(declarator.get(2), "0")) return null;
+        String index = declarator.getString(0);
+
+        /* i < a.length */
+        Node condition = control.getNode(3);
+        if (null == condition || !condition.hasName("RelationalExpression") ||
+            !"<".equals(condition.get(1)) || !isVariable(condition.get(0), index)) {
+            return null;
+        }
+        Node length = condition.getNode(2);
+        if (!length.hasName("SelectionExpression") || !"length".equals(length.get(1)) ||
+            !(length.get(0) instanceof Node)) {
+            return null;
+        }
+        Node base = length.getNode(0);
+        String row = "";
+        if (base.hasName("SubscriptExpression")) {
+            base = base.getNode(0);
+            row  = "[]";
+        }
+        if (!base.hasName("PrimaryIdentifier") || !(base.get(0) instanceof String)) return null;
+        String array = base.getString(0);
+
+        /* i++ or ++i */
+        Node update = control.getNode(4);
+        if (null == update || update.size() != 1) return null;
+        Node step = update.getNode(0);
+        if (!(step.hasName("PostfixExpression") && "++".equals(step.get(1)) && isVariable(step.get(0), index)) &&
+            !(step.hasName("UnaryExpression") && "++".equals(step.get(0)) && isVariable(step.get(1), index))) {
+            return null;
+        }
+
+        HashSet<String> assigned = assignedVariables(n.getNode(1));
+        if (assigned.contains(index) || assigned.contains(array)) return null;
+
+        return new String[] { index, array + row };
+    }
+
+    private static boolean isLiteral(Object o, String value) {
+        return o instanceof Node && ((Node)o).hasName("IntegerLiteral") && value.equals(((Node)o).get(0));
+    }
+
+    private static boolean isVariable(Object o, String name) {
+        return o instanceof Node && ((Node)o).hasName("PrimaryIdentifier") && name.equals(((Node)o).get(0));
+    }
+}
@@ -24,6 +24,8 @@ public class ClassDetail {
     private ArrayList<Node> allScopes;                  /* all fields in the class */
     private String          superClass;                 /* Name of super class      */
     private ClassDetail     superClassDetail;           /* Super class' ClassDetail */
+    private OverloadIndex   overloadIndex;              /* Built on first overloaded call */
+    private VTableLayout    layout;                     /* Built when the class or a subclass is printed */
 
     private Hashtable<String, LinkedList> fieldTypes;  
 
@@ -47,6 +49,38 @@ public class ClassDetail {
     public ClassDetail     getSuperClassDetail()         {return this.superClassDetail;}
     public Hashtable<String, LinkedList> getFieldTypes() {return this.fieldTypes;}
 
+    /**
+     * @param classAndClassDetail every class's ClassDetail
+     * @return the index used to resolve overloaded calls on this class
+     */
+    public OverloadIndex getOverloadIndex(Hashtable<String, ClassDetail> classAndClassDetail) {
+        if (null == this.overloadIndex) this.overloadIndex = new OverloadIndex(this, classAndClassDetail);
+        return this.overloadIndex;
+    }
+
+    /**
+     * @return the layout of the class' fields and vtable
+     */
+    public VTableLayout getLayout() {
+        if (null == this.layout) {
+            VTableLayout superLayout = null == superClassDetail ? null : superClassDetail.getLayout();
+            this.layout = new VTableLayout(this, superLayout);
+        }
+        return this.layout;
+    }
+
+    /**
+     * Drops the method bodies and the class node once the class has been printed.
+     * Subclasses still need the method and field declarations, so those are kept.
+     */
+    public void release() {
+        for (Node method : methodList) {
+            method.set(7, null);
+        }
+        this.classNode = null;
+        this.fieldTypes.clear();
+    }
+
     /* Setters */
     public void    setclassNode(Node classNode)          {this.classNode = classNode;}
     public void    setSuperClass(String superClass)      {this.superClass = superClass;}
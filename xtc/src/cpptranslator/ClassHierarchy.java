@@ -0,0 +1,173 @@
+/***********************************************
+ * ClassHierarchy records which classes a Java
+ * file declares, what they extend, and which
+ * methods each one declares.
+ *
+ * It is built from the Java AST before the tree
+ * conversion starts, so it is complete even while
+ * classes are printed as soon as they are ready.
+ * The printer uses it to find calls that no
+ * subclass can override and print them as direct
+ * calls instead of going through the vtable.
+ *
+ * It also numbers the classes in preorder, so
+ * that the subclasses of a class are exactly the
+ * classes whose number lies in its interval and
+ * subtype tests take two comparisons.  The
+ * numbers are unique within a file, which is
+ * translated into a program of its own; the
+ * runtime keeps the numbers below FIRST_TYPE_ID
+ * for java.lang.Object, String and Class.
+ ***********************************************/
+
+package cpptranslator;
+
+import java.util.*;
+
+import xtc.tree.Node;
+
+public class ClassHierarchy {
+
+    private final Hashtable<String, String>            superClasses;  /* class -> name of the class it extends */
+    private final Hashtable<String, ArrayList<String>> subClasses;    /* class -> classes directly extending it */
+    private final Hashtable<String, HashSet<String>>   methodNames;   /* class -> Java names of its methods     */
+
+    private final HashMap<String, Boolean>             overridden;    /* class + mangled method name -> result  */
+    private final Hashtable<String, int[]>             typeRanges;    /* class -> {its number, last subclass'}  */
+
+    /** The first number given to a class, after those of the runtime's classes. */
+    public static final int FIRST_TYPE_ID = 3;
+
+    /**
+     * Builds the hierarchy of all classes declared in a Java AST.
+     *
+     * @param node The root node of the Java AST, before conversion
+     */
+    public ClassHierarchy(Node node) {
+        this.superClasses = new Hashtable<String, String>();
+        this.subClasses   = new Hashtable<String, ArrayList<String>>();
+        this.methodNames  = new Hashtable<String, HashSet<String>>();
+        this.overridden   = new HashMap<String, Boolean>();
+        this.typeRanges   = new Hashtable<String, int[]>();
+        collect(node);
+
+        int next = FIRST_TYPE_ID;
+        for (String className : new TreeSet<String>(methodNames.keySet())) {
+            if (!contains(superClasses.get(className))) next = number(className, next);
+        }
+    }
+
+    /**
+     * Numbers a class and its subclasses in preorder.
+     *
+     * @return the next free number
+     */
+    private int number(String className, int next) {
+        int[] range = { next++, 0 };
+        ArrayList<String> subs = subClasses.get(className);
+        if (null != subs) {
+            for (String sub : subs) next = number(sub, next);
+        }
+        range[1] = next - 1;
+        typeRanges.put(className, range);
+        return next;
+    }
+
+    private void collect(Node n) {
+        if (n.hasName("ClassDeclaration")) {
+            String className = n.getString(1);
+            methodNames.put(className, new HashSet<String>());
+
+            if (n.get(3) != null && n.getNode(3).hasName("Extension")) {
+                String superClassName = n.getNode(3).getNode(0).getNode(0).getString(0);
+                superClasses.put(className, superClassName);
+                if (!subClasses.containsKey(superClassName)) {
+                    subClasses.put(superClassName, new ArrayList<String>());
+                }
+                subClasses.get(superClassName).add(className);
+            }
+
+            for (Object o : n.getNode(5)) {
+                if (o instanceof Node && ((Node)o).hasName("MethodDeclaration")) {
+                    methodNames.get(className).add(((Node)o).getString(3));
+                }
+            }
+        }
+
+        for (Object o : n) {
+            if (o instanceof Node) collect((Node)o);
+        }
+    }
+
+    /**
+     * @return true if the file declares a class with this name
+     */
+    public boolean contains(String className) {
+        return null != className && methodNames.containsKey(className);
+    }
+
+    /**
+     * @return the class a class extends, if the file declares it, or null
+     */
+    public String getSuperClass(String className) {
+        String superClassName = superClasses.get(className);
+        return contains(superClassName) ? superClassName : null;
+    }
+
+    /**
+     * Returns the preorder interval of a class: its own number and the
+     * largest number of any class extending it, directly or not.
+     *
+     * @return {low, high}, or null if the file does not declare the class
+     */
+    public int[] getTypeRange(String className) {
+        return null == className ? null : typeRanges.get(className);
+    }
+
+    /**
+     * @return the names of all classes the file declares
+     */
+    public Set<String> getClassNames() {
+        return methodNames.keySet();
+    }
+
+    /**
+     * Checks whether any class extending a class, directly or not,
+     * declares a method that could override the given one.  Since the
+     * check is done on Java names, overloads with the same name count
+     * as overrides too.
+     *
+     * @param className   The class
+     * @param mangledName The method name as mangled by TreeConverter
+     * @return true if the method may be overridden below the class
+     */
+    public boolean isOverridden(String className, String mangledName) {
+        String key = className + ' ' + mangledName;
+        Boolean result = overridden.get(key);
+        if (null == result) {
+            result = Boolean.FALSE;
+            ArrayList<String> subs = subClasses.get(className);
+            if (null != subs) {
+                for (String sub : subs) {
+                    if (declares(sub, mangledName) || isOverridden(sub, mangledName)) {
+                        result = Boolean.TRUE;
+                        break;
+                    }
+                }
+            }
+            overridden.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * @return true if the class declares a method whose mangled name may be mangledName
+     */
+    private boolean declares(String className, String mangledName) {
+        for (String name : methodNames.get(className)) {
+            String prefix = "m_" + name;
+            if (mangledName.equals(prefix) || mangledName.startsWith(prefix + "_")) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,269 @@
+/***********************************************
+ * EscapeAnalysis finds local variables whose
+ * objects never leave the method that creates
+ * them, and so never leave its thread either.
+ *
+ * A variable qualifies if it is only ever
+ * assigned new objects, whose constructors do not
+ * hand out this, and is only used to access
+ * fields and array elements or to compare it.
+ * Anything else (passing it, returning it, storing
+ * it, calling a method on it) lets it escape.
+ *
+ * TreeConverter has it mark the declarations of
+ * such variables before converting a method, and
+ * CPPPrinter then
+ *  - creates the object a variable is declared
+ *    with in __rt::scoped storage on the stack,
+ *    if it is a class instance or a small array
+ *    of constant length, unless the cycle
+ *    collector, which may still refer to objects
+ *    whose last reference is gone, is on, and
+ *  - with -atomic-refcount, declares the variable
+ *    as __rt::local_ptr, which keeps plain
+ *    increments and decrements.
+ ***********************************************/
+
+package cpptranslator;
+
+import java.util.*;
+
+import xtc.tree.GNode;
+import xtc.tree.Node;
+
+public class EscapeAnalysis {
+
+    /** The property set on FieldDeclaration nodes of thread-local variables. */
+    public static final String THREAD_LOCAL = "threadLocal";
+
+    /** The property set on FieldDeclaration nodes whose object can live on the stack. */
+    public static final String SCOPED = "scoped";
+
+    /** The longest array created on the stack. */
+    public static final int MAX_SCOPED_LENGTH = 64;
+
+    private final boolean atomic;  /* Whether to mark THREAD_LOCAL */
+    private final boolean stack;   /* Whether to mark SCOPED       */
+
+    private final Hashtable<String, Node>  classes;   /* class -> its ClassDeclaration           */
+    private final HashMap<String, Boolean> confined;  /* class -> whether constructing it keeps this */
+
+    /**
+     * Collects the classes of a Java AST and decides which of them are
+     * confined.  This has to happen before any class is converted, since
+     * TreeConverter rewrites the declarations in place, replacing this
+     * with __this.
+     *
+     * @param node   The root node of the Java AST, before conversion
+     * @param atomic Whether references are counted atomically
+     * @param stack  Whether objects may be allocated on the stack
+     */
+    public EscapeAnalysis(Node node, boolean atomic, boolean stack) {
+        this.atomic   = atomic;
+        this.stack    = stack;
+        this.classes  = new Hashtable<String, Node>();
+        this.confined = new HashMap<String, Boolean>();
+        collectClasses(node);
+        for (String className : classes.keySet()) isConfined(className);
+        classes.clear();
+    }
+
+    private void collectClasses(Node n) {
+        if (n.hasName("ClassDeclaration")) classes.put(n.getString(1), n);
+        for (Object o : n) {
+            if (o instanceof Node) collectClasses((Node)o);
+        }
+    }
+
+    /**
+     * Marks the local declarations of a method or constructor whose
+     * variables never escape with THREAD_LOCAL (if references are counted
+     * atomically) and, if their initial object can live on the stack
+     * (and may be allocated there), with SCOPED.  Must be called before the method is converted.
+     *
+     * @param method A MethodDeclaration or ConstructorDeclaration GNode
+     */
+    public void mark(GNode method) {
+        Node body = method.hasName("MethodDeclaration") ? method.getNode(7) : method.getNode(5);
+        if (null == body || containsClassBody(body)) return;
+
+        ArrayList<Node> declarations = new ArrayList<Node>();
+        HashSet<String> escaping     = new HashSet<String>();
+        scan(body, null, -1, declarations, escaping);
+
+        for (Node declaration : declarations) {
+            if (isPrimitive(declaration)) continue;
+
+            boolean local = true;
+            for (Object o : declaration.getNode(2)) {
+                Node declarator = (Node)o;
+                if (escaping.contains(declarator.getString(0)) ||
+                    (null != declarator.get(2) && !isFresh(declarator.get(2)))) {
+                    local = false;
+                }
+            }
+            if (!local) continue;
+
+            if (atomic) declaration.setProperty(THREAD_LOCAL, Boolean.TRUE);
+            if (stack && 1 == declaration.getNode(2).size() &&
+                isScopable(declaration.getNode(1), declaration.getNode(2).getNode(0).get(2))) {
+                declaration.setProperty(SCOPED, Boolean.TRUE);
+            }
+        }
+    }
+
+    /**
+     * Checks whether an initializer creates an object that can be
+     * stored on the stack: an instance of exactly the declared class,
+     * or a one-dimensional array of the declared type and a small
+     * constant length.
+     */
+    private static boolean isScopable(Node type, Object init) {
+        if (!(init instanceof Node)) return false;
+        Node n = (Node)init;
+
+        if (n.hasName("NewClassExpression")) {
+            return null == type.get(1) && type.getNode(0).hasName("QualifiedIdentifier") &&
+                   n.getNode(2).getString(0).equals(type.getNode(0).getString(0));
+        }
+        if (n.hasName("NewArrayExpression")) {
+            if (null == type.get(1) || 1 != type.getNode(1).size() ||
+                null == n.get(1) || 1 != n.getNode(1).size() || null != n.get(2) || null != n.get(3)) {
+                return false;
+            }
+            Node length = n.getNode(1).getNode(0);
+            if (!length.hasName("IntegerLiteral")) return false;
+            try {
+                int value = Integer.parseInt(length.getString(0));
+                return 0 < value && value <= MAX_SCOPED_LENGTH;
+            } catch (NumberFormatException ex) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Collects local declarations and the names of variables used in a
+     * way that may let their objects escape.
+     */
+    private void scan(Node n, Node parent, int index, ArrayList<Node> declarations, HashSet<String> escaping) {
+        if (n.hasName("FieldDeclaration")) {
+            declarations.add(n);
+        } else if (n.hasName("PrimaryIdentifier") && n.get(0) instanceof String &&
+                   !isConfinedUse(parent, index)) {
+            escaping.add(n.getString(0));
+        }
+
+        for (int i = 0; i < n.size(); i++) {
+            if (n.get(i) instanceof Node) scan(n.getNode(i), n, i, declarations, escaping);
+        }
+    }
+
+    /**
+     * A use keeps the object in its thread if the variable is the base
+     * of a field access or subscript, is compared, or is assigned a new
+     * object.
+     */
+    private boolean isConfinedUse(Node parent, int index) {
+        if (null == parent) return false;
+        if (parent.hasName("SelectionExpression") || parent.hasName("SubscriptExpression")) {
+            return 0 == index;
+        }
+        if (parent.hasName("EqualityExpression")) return true;
+        if (parent.hasName("Expression")) {
+            return 0 == index && "=".equals(parent.get(1)) && isFresh(parent.get(2));
+        }
+        return false;
+    }
+
+    /**
+     * @return true if o creates an object no other reference can point to yet
+     */
+    private boolean isFresh(Object o) {
+        if (!(o instanceof Node)) return false;
+        Node n = (Node)o;
+        if (n.hasName("NullLiteral") || n.hasName("NewArrayExpression")) return true;
+        if (n.hasName("NewClassExpression")) {
+            return null == n.get(0) && null == n.get(4) &&
+                   n.getNode(2).hasName("QualifiedIdentifier") && 1 == n.getNode(2).size() &&
+                   isConfined(n.getNode(2).getString(0));
+        }
+        return false;
+    }
+
+    /**
+     * Checks that constructing a class never hands out this: its
+     * constructors, instance initializers and field initializers, and
+     * those of its superclasses, may not call methods (which would be
+     * passed this) or use this other than to access fields.
+     */
+    private boolean isConfined(String className) {
+        Boolean result = confined.get(className);
+        if (null == result) {
+            confined.put(className, Boolean.FALSE);  /* in case of cycles */
+
+            Node declaration = classes.get(className);
+            boolean ok = null != declaration;
+            if (ok && null != declaration.get(3)) {
+                Node type = declaration.getNode(3).getNode(0).getNode(0);
+                String superClassName = type.getString(0);
+                ok = "Object".equals(superClassName) || isConfined(superClassName);
+            }
+            if (ok) {
+                for (Object o : declaration.getNode(5)) {
+                    if (!(o instanceof Node)) continue;
+                    Node member = (Node)o;
+                    if (member.hasName("MethodDeclaration") || member.hasName("ClassDeclaration")) continue;
+                    if (isStatic(member)) continue;
+                    if (leaksThis(member, null, -1)) {
+                        ok = false;
+                        break;
+                    }
+                }
+            }
+
+            result = ok;
+            confined.put(className, result);
+        }
+        return result;
+    }
+
+    private boolean leaksThis(Node n, Node parent, int index) {
+        if (n.hasName("CallExpression") &&
+            !(null == n.get(0) && ("super".equals(n.get(2)) || "this".equals(n.get(2))))) {
+            return true;
+        }
+        if (n.hasName("ThisExpression") &&
+            !(null != parent && parent.hasName("SelectionExpression") && 0 == index)) {
+            return true;
+        }
+        if (n.hasName("ClassBody") && null != parent) return true;
+
+        for (int i = 0; i < n.size(); i++) {
+            if (n.get(i) instanceof Node && leaksThis(n.getNode(i), n, i)) return true;
+        }
+        return false;
+    }
+
+    private static boolean isStatic(Node member) {
+        if (!(member.get(0) instanceof Node) || !member.getNode(0).hasName("Modifiers")) return false;
+        for (Object o : member.getNode(0)) {
+            if ("static".equals(((Node)o).get(0))) return true;
+        }
+        return false;
+    }
+
+    private static boolean isPrimitive(Node declaration) {
+        Node type = declaration.getNode(1);
+        return type.getNode(0).hasName("PrimitiveType") && null == type.get(1);
+    }
+
+    private static boolean containsClassBody(Node n) {
+        if (n.hasName("ClassBody")) return true;
+        for (Object o : n) {
+            if (o instanceof Node && containsClassBody((Node)o)) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,190 @@
+/***********************************************
+ * ExpressionTyper computes the static Java type
+ * of expressions: of literals, of identifiers
+ * from their Symbols, and of operators with
+ * Java's unary and binary numeric promotion, so
+ * that byte, short, char, int, long, float and
+ * double arithmetic is typed as Java types it.
+ *
+ * TreeConverter types each expression of a
+ * converted subtree after attaching its Symbols
+ * and keeps the type as the expression's
+ * PROPERTY.  MethodOverloader picks overloads
+ * with it, and CPPPrinter prints operands with
+ * it.
+ *
+ * Types are named as in Java source, the way
+ * TreeConverter mangles method names, even where
+ * the converted tree spells them in C++ (int32_t,
+ * int64_t, bool, ...).  Expressions whose type is
+ * not known, such as method calls, have none.
+ ***********************************************/
+
+package cpptranslator;
+
+import xtc.tree.Node;
+
+public class ExpressionTyper {
+
+    /** The property expressions' types are attached as. */
+    public static final String PROPERTY = "javaType";
+
+    /** The primitive types, each widening to the next ones (but char). */
+    private static final String[] NUMERIC = { "byte", "short", "char", "int", "long", "float", "double" };
+
+    private ExpressionTyper() {}
+
+    /**
+     * @return the type of an expression, attached as its PROPERTY, or
+     * null if it is not known
+     */
+    public static String typeOf(Node n) {
+        if (n.hasProperty(PROPERTY)) return (String)n.getProperty(PROPERTY);
+        String type = compute(n);
+        n.setProperty(PROPERTY, type);
+        return type;
+    }
+
+    /**
+     * Attaches the type of a node if it is an expression.  Called on
+     * the operands of an expression first, each operand's type is only
+     * computed once.
+     */
+    public static void annotate(Node n) {
+        if (isExpression(n)) typeOf(n);
+    }
+
+    private static boolean isExpression(Node n) {
+        String name = n.getName();
+        return name.endsWith("Expression") || name.endsWith("Literal") ||
+            name.equals("PrimaryIdentifier") || name.equals("QualifiedIdentifier");
+    }
+
+    private static String compute(Node n) {
+        String name = n.getName();
+
+        if (name.equals("IntegerLiteral")) {
+            return n.getString(0).endsWith("L") || n.getString(0).endsWith("l") ? "long" : "int";
+        } else if (name.equals("FloatingPointLiteral")) {
+            return n.getString(0).endsWith("F") || n.getString(0).endsWith("f") ? "float" : "double";
+        } else if (name.equals("CharacterLiteral")) {
+            return "char";
+        } else if (name.equals("StringLiteral")) {
+            return "String";
+        } else if (name.equals("BooleanLiteral")) {
+            return "boolean";
+
+        } else if (name.equals("PrimaryIdentifier") || name.equals("QualifiedIdentifier")) {
+            Symbol symbol = Symbol.of(n);
+            if (null == symbol || null == symbol.getType() || Symbol.Kind.FUNCTION == symbol.getKind()) {
+                return null;
+            }
+            return javaName(symbol.getType().getName());
+        } else if (name.equals("CastExpression")) {
+            Node type = n.getNode(0);
+            return type.getNode(0).get(0) instanceof String ? javaName(type.getNode(0).getString(0)) : null;
+        } else if (name.equals("NewClassExpression")) {
+            return n.getNode(2).getString(0);
+
+        } else if (name.equals("AdditiveExpression")) {
+            String left  = typeOf(n.getNode(0));
+            String right = typeOf(n.getNode(2));
+            if ("+".equals(n.get(1)) && ("String".equals(left) || "String".equals(right))) return "String";
+            return promote(left, right);
+        } else if (name.equals("MultiplicativeExpression")) {
+            return promote(typeOf(n.getNode(0)), typeOf(n.getNode(2)));
+        } else if (name.equals("BitwiseAndExpression") || name.equals("BitwiseOrExpression") ||
+                   name.equals("BitwiseXorExpression")) {
+            String left  = typeOf(n.getNode(0));
+            String right = typeOf(n.getNode(1));
+            if ("boolean".equals(left) && "boolean".equals(right)) return "boolean";
+            return promote(left, right);
+        } else if (name.equals("ShiftExpression")) {
+            return promote(typeOf(n.getNode(0)));
+        } else if (name.equals("UnaryExpression")) {
+            String operand = typeOf(n.getNode(1));
+            return "+".equals(n.get(0)) || "-".equals(n.get(0)) ? promote(operand) : operand;
+        } else if (name.equals("BitwiseNegationExpression")) {
+            return promote(typeOf(n.getNode(0)));
+        } else if (name.equals("PostfixExpression")) {
+            return typeOf(n.getNode(0));
+        } else if (name.equals("Expression")) {
+            return typeOf(n.getNode(0));
+        } else if (name.equals("ConditionalExpression")) {
+            String left  = typeOf(n.getNode(1));
+            String right = typeOf(n.getNode(2));
+            if (null != left && left.equals(right)) return left;
+            return promote(left, right);
+
+        } else if (name.equals("RelationalExpression") || name.equals("EqualityExpression") ||
+                   name.equals("LogicalAndExpression") || name.equals("LogicalOrExpression") ||
+                   name.equals("LogicalNegationExpression") || name.equals("InstanceOfExpression")) {
+            return "boolean";
+        }
+        return null;
+    }
+
+    /**
+     * @return the Java name of a type the converted tree may spell in C++
+     */
+    public static String javaName(String type) {
+        if (type.equals("int32_t")) return "int";
+        if (type.equals("int64_t")) return "long";
+        if (type.equals("int16_t")) return "short";
+        if (type.equals("int8_t"))  return "byte";
+        if (type.equals("bool"))    return "boolean";
+        return type;
+    }
+
+    /** @return whether a type is one of the numeric primitive types */
+    public static boolean isNumeric(String type) {
+        return 0 <= rank(type);
+    }
+
+    private static int rank(String type) {
+        if (null != type) {
+            for (int i = 0; i < NUMERIC.length; i++) {
+                if (NUMERIC[i].equals(type)) return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Unary numeric promotion.
+     *
+     * @return the type of an operand of a unary or shift operator, or
+     * null if it is not numeric
+     */
+    public static String promote(String type) {
+        if (!isNumeric(type)) return null;
+        return rank(type) < rank("int") ? "int" : type;
+    }
+
+    /**
+     * Binary numeric promotion.
+     *
+     * @return the type of an arithmetic operator with operands of two
+     * types, or null if one of them is not numeric
+     */
+    public static String promote(String left, String right) {
+        if (!isNumeric(left) || !isNumeric(right)) return null;
+        return promote(rank(left) < rank(right) ? right : left);
+    }
+
+    /**
+     * Widening primitive conversion, one step at a time.
+     *
+     * @return the next wider primitive type, or null for double (and
+     * for boolean and non-primitive types)
+     */
+    public static String widen(String type) {
+        if (type.equals("byte"))  return "short";
+        if (type.equals("short")) return "int";
+        if (type.equals("char"))  return "int";
+        if (type.equals("int"))   return "long";
+        if (type.equals("long"))  return "float";
+        if (type.equals("float")) return "double";
+        return null;
+    }
+}
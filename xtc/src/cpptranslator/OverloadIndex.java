@@ -0,0 +1,229 @@
+/***********************************************
+ * OverloadIndex resolves overloaded method calls
+ * for one class.
+ *
+ * It holds the mangled names of all methods the
+ * class can call, including inherited ones, and
+ * memoizes both the upcast chains of argument
+ * types and the result of every resolved call.
+ ***********************************************/
+
+package cpptranslator;
+
+import java.util.*;
+
+import xtc.tree.Node;
+
+public class OverloadIndex {
+
+    private final HashSet<String> methodNames;                  /* own and inherited mangled method names    */
+    private final Hashtable<String, ClassDetail> classAndClassDetail;
+
+    private final HashMap<String, ArrayList<String>> candidates; /* method name -> mangled names starting with it */
+    private final HashMap<String, ArrayList<String>> upcasts;    /* type -> type, its super type, ..., null       */
+    private final HashMap<String, String>            resolved;   /* method name + arg types -> overloaded name    */
+
+    /**
+     * Builds the index for a class.  The superclass' index is built
+     * (and kept on its ClassDetail) first, so every ancestor is only
+     * walked once.
+     *
+     * @param classDetail The class
+     * @param classAndClassDetail Every class's ClassDetail
+     */
+    public OverloadIndex(ClassDetail classDetail, Hashtable<String, ClassDetail> classAndClassDetail) {
+        this.classAndClassDetail = classAndClassDetail;
+        this.methodNames         = new HashSet<String>();
+        this.candidates          = new HashMap<String, ArrayList<String>>();
+        this.upcasts             = new HashMap<String, ArrayList<String>>();
+        this.resolved            = new HashMap<String, String>();
+
+        for (Node method : classDetail.getmethodList()) {
+            methodNames.add(method.getString(3));
+        }
+        if (classDetail.getSuperClassDetail() != null) {
+            methodNames.addAll(classDetail.getSuperClassDetail().getOverloadIndex(classAndClassDetail).methodNames);
+        }
+    }
+
+    /**
+     * @param mangledName a method name as mangled by TreeConverter
+     * @return true if the class or one of its superclasses has the method
+     */
+    public boolean contains(String mangledName) {
+        return methodNames.contains(mangledName);
+    }
+
+    /**
+     * Finds the overloaded method for a call.
+     *
+     * Tries the exact argument types first, then each argument upcast once,
+     * then recursively upcasts arguments one at a time.  Every combination
+     * of argument types is looked at most once, and combinations from which
+     * no method with this name can be reached are skipped.
+     *
+     * @param methodName the mangled method name without argument types
+     * @param argTypes   the types of the arguments
+     * @return the overloaded method name, or null if there is none
+     */
+    public String resolve(String methodName, ArrayList<String> argTypes) {
+        String key = methodName + argTypes;
+        if (resolved.containsKey(key)) return resolved.get(key);
+
+        String result = overload(methodName, new ArrayList<String>(argTypes),
+                                 getCandidates(methodName), new HashMap<String, String>());
+        resolved.put(key, result);
+        return result;
+    }
+
+    /**
+     * The search behind resolve(), memoized on the argument types.
+     */
+    private String overload(String methodName, ArrayList<String> argTypes,
+                            ArrayList<String> candidates, HashMap<String, String> memo) {
+        String key = argTypes.toString();
+        if (memo.containsKey(key)) return memo.get(key);
+
+        String result = null;
+        if (canReach(methodName, argTypes, candidates)) {
+            result = search(methodName, argTypes, candidates, memo);
+        }
+
+        memo.put(key, result);
+        return result;
+    }
+
+    private String search(String methodName, ArrayList<String> argTypes,
+                          ArrayList<String> candidates, HashMap<String, String> memo) {
+        /* Search for the overloaded call in the class and its superclasses */
+        String overloadedCall = buildMethod(methodName, argTypes);
+        if (methodNames.contains(overloadedCall)) return overloadedCall;
+
+        /* Replace arg types with super types one by one */
+        for (int i = 0; i < argTypes.size(); i++) {
+            String original = argTypes.get(i);
+            if (original != null) {
+                argTypes.set(i, getSuperType(original));
+                String newCall = buildMethod(methodName, argTypes);
+                argTypes.set(i, original);
+                if (methodNames.contains(newCall)) return newCall;
+            }
+        }
+
+        /* Replace arg types one by one with super types and search again from there */
+        for (int i = 0; i < argTypes.size(); i++) {
+            String original = argTypes.get(i);
+            if (original != null) {
+                argTypes.set(i, getSuperType(original));
+                String result = overload(methodName, argTypes, candidates, memo);
+                argTypes.set(i, original);
+                if (null != result) return result;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * @return the mangled names that could be the overloaded version of methodName
+     */
+    private ArrayList<String> getCandidates(String methodName) {
+        ArrayList<String> result = candidates.get(methodName);
+        if (null == result) {
+            result = new ArrayList<String>();
+            String prefix = methodName + "_";
+            for (String name : methodNames) {
+                if (name.startsWith(prefix)) result.add(name);
+            }
+            candidates.put(methodName, result);
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether upcasting the argument types can produce one of the candidates.
+     */
+    private boolean canReach(String methodName, ArrayList<String> argTypes, ArrayList<String> candidates) {
+        int start = methodName.length() + 1;
+        for (String candidate : candidates) {
+            if (matches(candidate, start, argTypes, 0)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether candidate, from position pos on, spells out argument
+     * types i, i+1, ... after any number of upcasts each.
+     */
+    private boolean matches(String candidate, int pos, ArrayList<String> argTypes, int i) {
+        if (i == argTypes.size()) return pos == candidate.length();
+
+        for (String type : getUpcasts(argTypes.get(i))) {
+            String spelled = String.valueOf(type);   /* buildMethod spells null as "null" */
+            int    end     = pos + spelled.length();
+            if (candidate.startsWith(spelled, pos)) {
+                if (i == argTypes.size() - 1) {
+                    if (end == candidate.length()) return true;
+                } else if (end < candidate.length() && candidate.charAt(end) == '_' &&
+                           matches(candidate, end + 1, argTypes, i + 1)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the type followed by all of its super types, ending with null
+     */
+    private ArrayList<String> getUpcasts(String type) {
+        ArrayList<String> chain = upcasts.get(type);
+        if (null == chain) {
+            chain = new ArrayList<String>();
+            for (String t = type; ; t = getSuperType(t)) {
+                chain.add(t);
+                if (null == t) break;
+            }
+            upcasts.put(type, chain);
+        }
+        return chain;
+    }
+
+    /**
+     * Concatenate method name with given arg types and intermediate underscores
+     * as is the properly mangled format of overloaded methods in translator
+     * @param methodName method call
+     * @param argTypes list of argument types to append
+     * @return complete method name
+     */
+    static String buildMethod(String methodName, ArrayList<String> argTypes) {
+        StringBuilder overloadedCall = new StringBuilder(methodName + "_");
+        for (Iterator<String> iter = argTypes.iterator(); iter.hasNext(); ) {
+            overloadedCall.append(iter.next());
+            if (iter.hasNext()) overloadedCall.append("_");
+        }
+        return overloadedCall.toString();
+    }
+
+    /**
+     * Get the super type for a corresponding sub type.  Primitive types
+     * widen one step at a time (see ExpressionTyper.widen), so that the
+     * first match is the most specific method, and double and boolean
+     * are boxed into Object.
+     * @param typeName the type in question
+     * @return superTypeName
+     */
+    String getSuperType(String typeName) {
+        String wider = ExpressionTyper.widen(typeName);
+        if      (null != wider)              {return wider;}
+        else if (typeName.equals("String"))  {return "Object";}
+        else if (typeName.equals("Object"))  {return null;}
+        else if (null != classAndClassDetail.get(typeName) &&
+                 null != classAndClassDetail.get(typeName).getSuperClass()
+                 ) {
+            return classAndClassDetail.get(typeName).getSuperClass();
+        }
+
+        return "Object";
+    }
+}
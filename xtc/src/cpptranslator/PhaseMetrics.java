@@ -0,0 +1,331 @@
+/***********************************************
+ * PhaseMetrics measures how long each phase of
+ * translating one file takes and how many bytes
+ * it allocates:
+ *  - parse:    JavaFiveParser
+ *  - convert:  TreeConverter and the analyses
+ *              it runs
+ *  - overload: MethodOverloader
+ *  - print:    CPPPrinter and HeaderPrinter
+ *
+ * Printing and overload resolution are also
+ * broken down by class.  Phases nest (classes are
+ * printed while the unit is being converted), and
+ * time spent in a nested phase is only counted
+ * for that phase.
+ *
+ * Allocations are counted per thread with
+ * com.sun.management.ThreadMXBean, so a unit must
+ * be measured on the thread that translates it.
+ * Where the JVM does not count allocations, they
+ * are reported as 0.
+ *
+ * With -metrics <file>, Translator adds the
+ * metrics of every translation to a Report, which
+ * aggregates the runs of each file with
+ * xtc.util.Statistics and writes them as JSON.
+ ***********************************************/
+
+package cpptranslator;
+
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+
+import xtc.util.Statistics;
+
+public class PhaseMetrics {
+
+    public static final String PARSE    = "parse";
+    public static final String CONVERT  = "convert";
+    public static final String OVERLOAD = "overload";
+    public static final String PRINT    = "print";
+
+    /** The phases in the order they are reported. */
+    public static final List<String> PHASES =
+        Collections.unmodifiableList(Arrays.asList(PARSE, CONVERT, OVERLOAD, PRINT));
+
+    private static final com.sun.management.ThreadMXBean THREADS = allocationCounter();
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        try {
+            Object bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean)bean;
+                if (threads.isThreadAllocatedMemorySupported()) {
+                    if (!threads.isThreadAllocatedMemoryEnabled()) threads.setThreadAllocatedMemoryEnabled(true);
+                    return threads;
+                }
+            }
+        } catch (UnsupportedOperationException ex) {
+        } catch (LinkageError ex) {
+        }
+        return null;
+    }
+
+    /** @return whether allocations are counted */
+    public static boolean countsAllocations() { return null != THREADS; }
+
+    private final String file;                                                   /* The translated file           */
+    private final long   thread = Thread.currentThread().getId();                /* The thread that translates it */
+    private final HashMap<String, long[]> phases = new HashMap<String, long[]>(); /* phase -> {nanos, bytes}      */
+    private final TreeMap<String, HashMap<String, long[]>> classes =
+        new TreeMap<String, HashMap<String, long[]>>();                          /* class -> phase -> {nanos, bytes} */
+    private final ArrayList<Frame> open = new ArrayList<Frame>();                /* The running phases, innermost last */
+
+    /** A running phase. */
+    private static class Frame {
+        final String phase;
+        final String className;
+        long         nanos;   /* When it was last charged */
+        long         bytes;
+
+        Frame(String phase, String className) {
+            this.phase     = phase;
+            this.className = className;
+        }
+    }
+
+    /**
+     * @param file The translated file
+     */
+    public PhaseMetrics(String file) {
+        this.file = file;
+    }
+
+    public String getFile() { return this.file; }
+
+    private long allocatedBytes() {
+        return null == THREADS ? 0 : THREADS.getThreadAllocatedBytes(thread);
+    }
+
+    /**
+     * Starts a phase of the whole unit, pausing the running one.
+     */
+    public void start(String phase) {
+        start(phase, null);
+    }
+
+    /**
+     * Starts a phase, pausing the running one.
+     *
+     * @param className The class it works on, or null for the whole unit
+     */
+    public void start(String phase, String className) {
+        long nanos = System.nanoTime();
+        long bytes = allocatedBytes();
+        if (!open.isEmpty()) charge(open.get(open.size() - 1), nanos, bytes);
+
+        Frame frame = new Frame(phase, className);
+        frame.nanos = nanos;
+        frame.bytes = bytes;
+        open.add(frame);
+    }
+
+    /**
+     * Stops the innermost phase and resumes the one it paused.
+     */
+    public void stop() {
+        long nanos = System.nanoTime();
+        long bytes = allocatedBytes();
+        charge(open.remove(open.size() - 1), nanos, bytes);
+
+        if (!open.isEmpty()) {
+            Frame frame = open.get(open.size() - 1);
+            frame.nanos = nanos;
+            frame.bytes = bytes;
+        }
+    }
+
+    private void charge(Frame frame, long nanos, long bytes) {
+        add(phases, frame.phase, nanos - frame.nanos, bytes - frame.bytes);
+        if (null != frame.className) {
+            HashMap<String, long[]> byPhase = classes.get(frame.className);
+            if (null == byPhase) {
+                byPhase = new HashMap<String, long[]>();
+                classes.put(frame.className, byPhase);
+            }
+            add(byPhase, frame.phase, nanos - frame.nanos, bytes - frame.bytes);
+        }
+        frame.nanos = nanos;
+        frame.bytes = bytes;
+    }
+
+    private static void add(HashMap<String, long[]> byPhase, String phase, long nanos, long bytes) {
+        long[] total = byPhase.get(phase);
+        if (null == total) {
+            total = new long[2];
+            byPhase.put(phase, total);
+        }
+        total[0] += nanos;
+        total[1] += bytes;
+    }
+
+    /**
+     * Aggregates the metrics of several runs of several files.  Safe to
+     * use from the threads of batch mode.
+     */
+    public static class Report {
+
+        private final String version;
+        private final int    warmUp;  /* Runs of each file not counted */
+
+        private final LinkedHashMap<String, FileStatistics> files = new LinkedHashMap<String, FileStatistics>();
+
+        /** The runs of one file. */
+        private static class FileStatistics {
+            int runs;  /* Including the warm-up ones */
+            final HashMap<String, Statistics[]> phases = new HashMap<String, Statistics[]>();
+            final TreeMap<String, HashMap<String, Statistics[]>> classes =
+                new TreeMap<String, HashMap<String, Statistics[]>>();
+        }
+
+        /**
+         * @param version The translator's version
+         * @param warmUp  The number of runs of each file not to count
+         */
+        public Report(String version, int warmUp) {
+            this.version = version;
+            this.warmUp  = warmUp;
+        }
+
+        /**
+         * Adds the metrics of one run.
+         */
+        public synchronized void add(PhaseMetrics metrics) {
+            FileStatistics stats = files.get(metrics.file);
+            if (null == stats) {
+                stats = new FileStatistics();
+                files.put(metrics.file, stats);
+            }
+            if (stats.runs++ < warmUp) return;
+
+            /* Every run counts for every phase, even if it did not run */
+            for (String phase : PHASES) {
+                long[] total = metrics.phases.get(phase);
+                add(stats.phases, phase, null == total ? new long[2] : total);
+            }
+            for (Map.Entry<String, HashMap<String, long[]>> entry : metrics.classes.entrySet()) {
+                HashMap<String, Statistics[]> byPhase = stats.classes.get(entry.getKey());
+                if (null == byPhase) {
+                    byPhase = new HashMap<String, Statistics[]>();
+                    stats.classes.put(entry.getKey(), byPhase);
+                }
+                for (Map.Entry<String, long[]> phase : entry.getValue().entrySet()) {
+                    add(byPhase, phase.getKey(), phase.getValue());
+                }
+            }
+        }
+
+        private static void add(HashMap<String, Statistics[]> byPhase, String phase, long[] total) {
+            Statistics[] stats = byPhase.get(phase);
+            if (null == stats) {
+                stats = new Statistics[] { new Statistics(), new Statistics() };
+                byPhase.put(phase, stats);
+            }
+            stats[0].add(total[0] / 1000000.0);  /* ms */
+            stats[1].add(total[1] / 1024.0);     /* KB */
+        }
+
+        /**
+         * Writes the report as JSON: for each file, and for each class of
+         * it, the mean, median and standard deviation over the counted runs
+         * of the time (in ms) and allocations (in KB) of each phase, and
+         * the totals over all files of their means.
+         */
+        public synchronized void write(Writer out) throws IOException {
+            HashMap<String, double[]> totals = new HashMap<String, double[]>();
+
+            out.write("{\n");
+            out.write("  \"translator\": " + quote(version) + ",\n");
+            out.write("  \"allocationsCounted\": " + countsAllocations() + ",\n");
+            out.write("  \"units\": [");
+            String separator = "\n";
+            for (Map.Entry<String, FileStatistics> entry : files.entrySet()) {
+                FileStatistics stats = entry.getValue();
+                out.write(separator);
+                out.write("    {\n");
+                out.write("      \"file\": " + quote(entry.getKey()) + ",\n");
+                out.write("      \"runs\": " + Math.max(0, stats.runs - warmUp) + ",\n");
+                out.write("      \"phases\": ");
+                writePhases(out, stats.phases, "      ");
+                out.write(",\n");
+                out.write("      \"classes\": {");
+                String classSeparator = "\n";
+                for (Map.Entry<String, HashMap<String, Statistics[]>> c : stats.classes.entrySet()) {
+                    out.write(classSeparator);
+                    out.write("        " + quote(c.getKey()) + ": ");
+                    writePhases(out, c.getValue(), "        ");
+                    classSeparator = ",\n";
+                }
+                out.write(stats.classes.isEmpty() ? "}\n" : "\n      }\n");
+                out.write("    }");
+                separator = ",\n";
+
+                for (Map.Entry<String, Statistics[]> phase : stats.phases.entrySet()) {
+                    double[] total = totals.get(phase.getKey());
+                    if (null == total) {
+                        total = new double[2];
+                        totals.put(phase.getKey(), total);
+                    }
+                    if (0 < phase.getValue()[0].size()) {
+                        total[0] += phase.getValue()[0].mean();
+                        total[1] += phase.getValue()[1].mean();
+                    }
+                }
+            }
+            out.write(files.isEmpty() ? "],\n" : "\n  ],\n");
+
+            out.write("  \"total\": {");
+            separator = "\n";
+            for (String phase : PHASES) {
+                double[] total = totals.get(phase);
+                if (null == total) total = new double[2];
+                out.write(separator);
+                out.write("    " + quote(phase) + ": { \"ms\": " + Statistics.round(total[0]) +
+                          ", \"kb\": " + Statistics.round(total[1]) + " }");
+                separator = ",\n";
+            }
+            out.write("\n  }\n");
+            out.write("}\n");
+            out.flush();
+        }
+
+        private static void writePhases(Writer out, HashMap<String, Statistics[]> byPhase, String indent)
+            throws IOException {
+            out.write("{");
+            String separator = "\n";
+            for (String phase : PHASES) {
+                Statistics[] stats = byPhase.get(phase);
+                if (null == stats) continue;
+                out.write(separator);
+                out.write(indent + "  " + quote(phase) + ": { \"ms\": " + summary(stats[0]) +
+                          ", \"kb\": " + summary(stats[1]) + " }");
+                separator = ",\n";
+            }
+            out.write("\n" + indent + "}");
+        }
+
+        private static String summary(Statistics stats) {
+            if (0 == stats.size()) return "null";
+            return "{ \"mean\": " + Statistics.round(stats.mean()) +
+                   ", \"median\": " + Statistics.round(stats.median()) +
+                   ", \"stdev\": " + Statistics.round(stats.stdev()) + " }";
+        }
+
+        private static String quote(String s) {
+            StringBuilder quoted = new StringBuilder("\"");
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                if ('"' == c || '\\' == c) {
+                    quoted.append('\\').append(c);
+                } else if (' ' > c) {
+                    quoted.append(String.format("\\u%04x", (int)c));
+                } else {
+                    quoted.append(c);
+                }
+            }
+            return quoted.append('"').toString();
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/***********************************************
+ * RuntimeBenchmark measures how fast translated
+ * programs run and how many allocations they make,
+ * which is mostly the cost of the runtime's object
+ * creation and reference counting.
+ *
+ * Usage: java cpptranslator.RuntimeBenchmark
+ *          [-runtime <dir>] [-iterations <n>]
+ *          [-atomic-refcount] classes/Test0*.java
+ *
+ * Every file is translated into a scratch
+ * directory and compiled with g++ -O2 together
+ * with a driver that calls the translated main
+ * <n> times with output switched off, timing it
+ * and counting calls to operator new. The scratch
+ * directories are deleted afterwards.
+ ***********************************************/
+
+package cpptranslator;
+
+import java.io.*;
+import java.util.*;
+
+import xtc.util.Statistics;
+
+public class RuntimeBenchmark {
+
+    static final int WARM_UP = 2;    /* Runs not counted   */
+    static final int TOTAL   = 7;    /* Runs per file      */
+
+    static final String[] RUNTIME = { "java_lang.h", "java_lang.cc", "ptr.h" };
+
+    /* Calls the translated main with std::cout switched off and prints
+       the time per call in nanoseconds and the allocations per call. */
+    static final String DRIVER =
+        "#include <chrono>\n" +
+        "#include <cstdlib>\n" +
+        "#include <iostream>\n" +
+        "#include <new>\n" +
+        "\n" +
+        "static long allocations = 0;\n" +
+        "\n" +
+        "void* operator new(std::size_t size) {\n" +
+        "  ++allocations;\n" +
+        "  void* p = std::malloc(size ? size : 1);\n" +
+        "  if (0 == p) throw std::bad_alloc();\n" +
+        "  return p;\n" +
+        "}\n" +
+        "\n" +
+        "void* operator new[](std::size_t size) { return operator new(size); }\n" +
+        "void operator delete(void* p) noexcept { std::free(p); }\n" +
+        "void operator delete[](void* p) noexcept { std::free(p); }\n" +
+        "void operator delete(void* p, std::size_t) noexcept { std::free(p); }\n" +
+        "void operator delete[](void* p, std::size_t) noexcept { std::free(p); }\n" +
+        "\n" +
+        "int translated_main(int argc, char* argv[]);\n" +
+        "\n" +
+        "int main(int argc, char* argv[]) {\n" +
+        "  long iterations = std::atol(argv[1]);\n" +
+        "  std::streambuf* out = std::cout.rdbuf(0);\n" +
+        "  long before = allocations;\n" +
+        "  auto start = std::chrono::steady_clock::now();\n" +
+        "  for (long i = 0; i < iterations; i++) {\n" +
+        "    try {\n" +
+        "      translated_main(argc - 1, argv + 1);\n" +
+        "    } catch (...) {\n" +
+        "    }\n" +
+        "    std::cout.clear();\n" +
+        "  }\n" +
+        "  auto end = std::chrono::steady_clock::now();\n" +
+        "  long count = allocations - before;\n" +
+        "  std::cout.rdbuf(out);\n" +
+        "  std::cout << std::chrono::duration<double, std::nano>(end - start).count() / iterations\n" +
+        "            << ' ' << (double)count / iterations << std::endl;\n" +
+        "  return 0;\n" +
+        "}\n";
+
+    /**
+     * Runs a command in a directory and waits for it.
+     *
+     * @return the command's output
+     * @throws IOException if the command fails
+     */
+    static String run(File dir, List<String> command) throws IOException {
+        ProcessBuilder builder = new ProcessBuilder(command);
+        builder.directory(dir);
+        builder.redirectErrorStream(true);
+        Process process = builder.start();
+
+        StringBuilder output = new StringBuilder();
+        Reader in = new InputStreamReader(process.getInputStream(), "utf-8");
+        try {
+            char[] buffer = new char[4096];
+            for (int n = in.read(buffer); n != -1; n = in.read(buffer)) {
+                output.append(buffer, 0, n);
+            }
+        } finally {
+            in.close();
+        }
+
+        try {
+            if (0 != process.waitFor()) {
+                throw new IOException(command.get(0) + " failed:\n" + output);
+            }
+        } catch (InterruptedException ex) {
+            throw new IOException(command.get(0) + " interrupted");
+        }
+        return output.toString();
+    }
+
+    /**
+     * Copies a file.
+     */
+    static void copy(File from, File to) throws IOException {
+        InputStream in  = new FileInputStream(from);
+        OutputStream out = new FileOutputStream(to);
+        try {
+            byte[] buffer = new byte[8192];
+            for (int n = in.read(buffer); n != -1; n = in.read(buffer)) {
+                out.write(buffer, 0, n);
+            }
+        } finally {
+            in.close();
+            out.close();
+        }
+    }
+
+    /**
+     * Translates a file and builds it with the driver.
+     *
+     * @return the name of the executable
+     */
+    static String build(String file, List<String> options, File runtimeDir, File outputDir) throws IOException {
+        /* Batch mode keeps the translator quiet and prints into outputDir/<name> */
+        ArrayList<String> translate = new ArrayList<String>(options);
+        translate.addAll(Arrays.asList("-silent", "-no-exit", "-no-cache", "-batch",
+                                       "-threads", "1", "-out", outputDir.getPath(), file));
+        new Translator().run(translate.toArray(new String[translate.size()]));
+        String base = new File(file).getName();
+        File   dir  = new File(outputDir, base.substring(0, base.lastIndexOf('.')));
+        if (!new File(dir, "main.cc").exists()) {
+            throw new IOException(file + ": translation failed");
+        }
+
+        for (String name : RUNTIME) {
+            copy(new File(runtimeDir, name), new File(dir, name));
+        }
+        Writer driver = new OutputStreamWriter(new FileOutputStream(new File(dir, "driver.cc")), "utf-8");
+        try {
+            driver.write(DRIVER);
+        } finally {
+            driver.close();
+        }
+
+        ArrayList<String> objects = new ArrayList<String>();
+        for (String name : dir.list()) {
+            if (!name.endsWith(".cc")) continue;
+
+            ArrayList<String> compile = new ArrayList<String>(Arrays.asList("g++", "-std=c++11", "-O2", "-c"));
+            if (options.contains("-atomic-refcount")) compile.add("-DRT_ATOMIC_REFCOUNT");
+            if (name.equals("main.cc")) compile.add("-Dmain=translated_main");
+            compile.add(name);
+            run(dir, compile);
+            objects.add(name.substring(0, name.length() - 3) + ".o");
+        }
+
+        ArrayList<String> link = new ArrayList<String>(Arrays.asList("g++", "-o", "benchmark"));
+        link.addAll(objects);
+        run(dir, link);
+        return new File(dir, "benchmark").getPath();
+    }
+
+    /**
+     * Deletes a directory and everything in it.
+     */
+    static void delete(File file) {
+        File[] children = file.listFiles();
+        if (null != children) {
+            for (File child : children) delete(child);
+        }
+        file.delete();
+    }
+
+    public static void main(String[] args) throws IOException {
+        File              runtimeDir = new File(".");
+        int               iterations = 1000;
+        ArrayList<String> options    = new ArrayList<String>();
+        int               first      = 0;
+        for (; first < args.length && args[first].startsWith("-"); first++) {
+            if (args[first].equals("-runtime") && first + 1 < args.length) {
+                runtimeDir = new File(args[++first]);
+            } else if (args[first].equals("-iterations") && first + 1 < args.length) {
+                iterations = Integer.parseInt(args[++first]);
+            } else if (args[first].equals("-atomic-refcount")) {
+                options.add(args[first]);
+            } else {
+                break;
+            }
+        }
+        if (first == args.length) {
+            System.out.println("Usage: java cpptranslator.RuntimeBenchmark " +
+                               "[-runtime <dir>] [-iterations <n>] [-atomic-refcount] <file-name>+");
+            return;
+        }
+
+        System.out.println("Legend: file, time per run in us (ave, med, stdev), allocations per run");
+        for (int f = first; f < args.length; f++) {
+            File dir = File.createTempFile("runtime", "");
+            dir.delete();
+            dir.mkdirs();
+
+            try {
+                String executable = build(args[f], options, runtimeDir, dir);
+
+                Statistics time   = new Statistics();
+                double     allocs = 0;
+                for (int i = 0; i < TOTAL; i++) {
+                    String[] result = run(dir, Arrays.asList(executable, Integer.toString(iterations))).trim().split(" ");
+                    if (i >= WARM_UP) {
+                        time.add(Double.parseDouble(result[0]) / 1000.0);
+                        allocs = Double.parseDouble(result[1]);
+                    }
+                }
+
+                System.out.println(new File(args[f]).getName() + " " +
+                                   Statistics.round(time.mean()) + " " +
+                                   Statistics.round(time.median()) + " " +
+                                   Statistics.round(time.stdev()) + " " +
+                                   Statistics.round(allocs));
+            } catch (IOException ex) {
+                System.out.println(new File(args[f]).getName() + " skipped: " + ex.getMessage());
+            } finally {
+                delete(dir);
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/***********************************************
+ * Symbol describes what an identifier refers to:
+ * its kind and its type.
+ *
+ * TreeConverter looks up each identifier once,
+ * after converting a top-level declaration, and
+ * attaches the Symbol to the PrimaryIdentifier or
+ * QualifiedIdentifier node as its PROPERTY.  The
+ * later passes read it with Symbol.of(node)
+ * instead of looking the name up again.
+ *
+ * Symbols and their types are interned, so they
+ * can be compared with ==.
+ ***********************************************/
+
+package cpptranslator;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import xtc.tree.Node;
+
+public final class Symbol {
+
+    /** The property identifiers' symbols are attached as. */
+    public static final String PROPERTY = "symbol";
+
+    /** What a name refers to. */
+    public enum Kind {
+        CLASS,      /* "class" */
+        FUNCTION,   /* "fun"   */
+        PARAMETER,  /* "par"   */
+        VARIABLE,   /* "var"   */
+        SUPER;      /* "sup"   */
+
+        /** @return the kind of a SymbValStruct's kind string */
+        static Kind of(String kind) {
+            if ("class".equals(kind)) return CLASS;
+            if ("fun".equals(kind))   return FUNCTION;
+            if ("par".equals(kind))   return PARAMETER;
+            if ("var".equals(kind))   return VARIABLE;
+            if ("sup".equals(kind))   return SUPER;
+            throw new IllegalArgumentException("Invalid symbol kind " + kind);
+        }
+    }
+
+    /** A type, as recorded in the symbol table. */
+    public static final class Type {
+
+        private static final ConcurrentHashMap<String, Type> TYPES = new ConcurrentHashMap<String, Type>();
+
+        private final String  name;
+        private final boolean primitive;  /* Can never be null */
+
+        private Type(String name) {
+            this.name      = name;
+            this.primitive = name.equals("int") || name.equals("int32_t") || name.equals("long") ||
+                             name.equals("int64_t") || name.equals("short") || name.equals("int16_t") ||
+                             name.equals("byte") ||
+                             name.equals("char") || name.equals("float") || name.equals("double") ||
+                             name.equals("boolean") || name.equals("bool");
+        }
+
+        /** @return the one Type with a name */
+        public static Type of(String name) {
+            Type type = TYPES.get(name);
+            if (null == type) {
+                Type fresh = new Type(name);
+                type = TYPES.putIfAbsent(name, fresh);
+                if (null == type) type = fresh;
+            }
+            return type;
+        }
+
+        public String  getName()     { return name; }
+        public boolean isPrimitive() { return primitive; }
+        public boolean isString()    { return name.equals("String"); }
+        public boolean isBoolean()   { return name.equals("bool") || name.equals("boolean"); }
+
+        public String toString() { return name; }
+    }
+
+    private static final ConcurrentHashMap<String, Symbol> SYMBOLS = new ConcurrentHashMap<String, Symbol>();
+
+    private final Kind kind;
+    private final Type type;  /* null for classes */
+
+    private Symbol(Kind kind, Type type) {
+        this.kind = kind;
+        this.type = type;
+    }
+
+    /**
+     * @return the one Symbol of a kind and type
+     */
+    public static Symbol of(Kind kind, Type type) {
+        String key    = null == type ? kind.name() : kind.name() + ' ' + type.getName();
+        Symbol symbol = SYMBOLS.get(key);
+        if (null == symbol) {
+            Symbol fresh = new Symbol(kind, type);
+            symbol = SYMBOLS.putIfAbsent(key, fresh);
+            if (null == symbol) symbol = fresh;
+        }
+        return symbol;
+    }
+
+    /**
+     * @return the Symbol of a symbol table entry
+     */
+    public static Symbol of(SymbValStruct value) {
+        return of(Kind.of(value.getKind()), null == value.getType() ? null : Type.of(value.getType()));
+    }
+
+    /**
+     * @return the Symbol TreeConverter attached to an identifier, or
+     * null if the name is not in the symbol table
+     */
+    public static Symbol of(Node n) {
+        return (Symbol)n.getProperty(PROPERTY);
+    }
+
+    public Kind getKind() { return kind; }
+    public Type getType() { return type; }
+
+    public String toString() {
+        return null == type ? kind.toString() : kind + " " + type;
+    }
+}
@@ -0,0 +1,227 @@
+/***********************************************
+ * TranslationCache remembers which Java file was
+ * last translated into an output directory.
+ *
+ * The cache lives in a file in the output
+ * directory. For the last translated source, it
+ * records a key (a hash of the source contents,
+ * the translator version and a fingerprint of the
+ * translator build and the runtime headers) and
+ * the size and time stamp of every printed file.
+ * When the key still matches and none of the
+ * printed files has been touched since, the
+ * translation can be skipped and the outputs
+ * (with their mtimes) are left alone.
+ ***********************************************/
+
+package cpptranslator;
+
+import java.io.*;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+public class TranslationCache {
+
+    public static final String FILE_NAME = ".translation-cache";
+
+    /** The runtime headers the printed files are compiled against. */
+    public static final String[] HEADERS = { "java_lang.h", "ptr.h" };
+
+    private static String classesFingerprint;  /* Hash of the translator's classes, once computed */
+
+    private final File       outputDir;    /* Directory holding the cache and the outputs */
+    private final Properties entries;      /* The cache contents                          */
+
+    /**
+     * Loads the cache for the given output directory.  A missing or
+     * unreadable cache file gives an empty cache.
+     *
+     * @param outputDir The output directory, or null for the current directory
+     */
+    public TranslationCache(File outputDir) {
+        this.outputDir = outputDir;
+        this.entries   = new Properties();
+
+        File file = new File(outputDir, FILE_NAME);
+        if (file.exists()) {
+            InputStream in = null;
+            try {
+                in = new FileInputStream(file);
+                entries.load(in);
+            } catch (IOException ex) {
+                entries.clear();
+            } finally {
+                try {
+                    if (null != in) in.close();
+                } catch (IOException ex) {}
+            }
+        }
+    }
+
+    /**
+     * Computes the cache key for a source file.
+     *
+     * @param source  The Java file
+     * @param version The translator version
+     * @return the hex SHA-256 of the version and the file contents
+     */
+    public static String key(File source, String version) throws IOException {
+        MessageDigest digest = newDigest();
+        digest.update(version.getBytes("utf-8"));
+        digest.update((byte)0);
+        update(digest, source);
+        return hex(digest);
+    }
+
+    /**
+     * Computes a fingerprint of the translator build and of the runtime
+     * headers in an output directory.  A rebuilt translator may print
+     * different files for the same source, and those files only compile
+     * against the headers of the same build, so both are part of the key.
+     *
+     * @param outputDir The output directory, or null for the current directory
+     * @return the hex SHA-256 of the translator's jar or class files and
+     *         the headers, or null if the translator's classes cannot be read
+     */
+    public static String fingerprint(File outputDir) throws IOException {
+        String classes = classesFingerprint();
+        if (null == classes) return null;
+
+        MessageDigest digest = newDigest();
+        digest.update(classes.getBytes("utf-8"));
+        for (String name : HEADERS) {
+            File header = new File(outputDir, name);
+            digest.update((byte)0);
+            if (header.isFile()) update(digest, header);
+        }
+        return hex(digest);
+    }
+
+    /**
+     * Hashes the jar the translator runs from or, when it runs from a
+     * class directory, the class files of its package, in name order.
+     *
+     * @return the hex SHA-256, or null if the classes cannot be located
+     */
+    private static synchronized String classesFingerprint() throws IOException {
+        if (null != classesFingerprint) return classesFingerprint;
+
+        CodeSource code = TranslationCache.class.getProtectionDomain().getCodeSource();
+        if (null == code || null == code.getLocation()) return null;
+        File location;
+        try {
+            location = new File(code.getLocation().toURI());
+        } catch (Exception ex) {
+            return null;
+        }
+
+        MessageDigest digest = newDigest();
+        if (location.isFile()) {
+            update(digest, location);
+        } else {
+            String   pkg   = TranslationCache.class.getPackage().getName();
+            File     dir   = new File(location, pkg.replace('.', File.separatorChar));
+            String[] names = dir.list();
+            if (null == names) return null;
+            Arrays.sort(names);
+            for (String name : names) {
+                if (!name.endsWith(".class")) continue;
+                digest.update(name.getBytes("utf-8"));
+                digest.update((byte)0);
+                update(digest, new File(dir, name));
+            }
+        }
+        classesFingerprint = hex(digest);
+        return classesFingerprint;
+    }
+
+    private static MessageDigest newDigest() throws IOException {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IOException("SHA-256 not available");
+        }
+    }
+
+    private static void update(MessageDigest digest, File file) throws IOException {
+        InputStream in = new FileInputStream(file);
+        try {
+            byte[] buffer = new byte[8192];
+            for (int n = in.read(buffer); n != -1; n = in.read(buffer)) {
+                digest.update(buffer, 0, n);
+            }
+        } finally {
+            in.close();
+        }
+    }
+
+    private static String hex(MessageDigest digest) {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xf, 16));
+            hex.append(Character.forDigit(b & 0xf, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Checks whether the outputs of a source file are up to date.
+     *
+     * @param source The Java file
+     * @param key    The source's current key
+     * @return true if the source was the last one translated into the
+     *         output directory, with the same key, and all of its
+     *         outputs are still exactly as they were printed
+     */
+    public boolean isUpToDate(File source, String key) {
+        if (!source.getAbsolutePath().equals(entries.getProperty("source")) ||
+            !key.equals(entries.getProperty("key"))) {
+            return false;
+        }
+
+        String outputs = entries.getProperty("outputs");
+        if (null == outputs || outputs.length() == 0) return false;
+
+        for (String name : outputs.split(",")) {
+            File output = new File(outputDir, name);
+            if (!output.exists() ||
+                !Long.toString(output.length()).equals(entries.getProperty(name + ".length")) ||
+                !Long.toString(output.lastModified()).equals(entries.getProperty(name + ".modified"))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records a finished translation and saves the cache.
+     *
+     * @param source  The Java file
+     * @param key     The source's key
+     * @param outputs The names of all printed files, relative to the output directory
+     */
+    public void record(File source, String key, List<String> outputs) throws IOException {
+        entries.clear();
+        entries.setProperty("source", source.getAbsolutePath());
+        entries.setProperty("key", key);
+
+        StringBuilder names = new StringBuilder();
+        for (String name : outputs) {
+            File output = new File(outputDir, name);
+            if (names.length() > 0) names.append(',');
+            names.append(name);
+            entries.setProperty(name + ".length", Long.toString(output.length()));
+            entries.setProperty(name + ".modified", Long.toString(output.lastModified()));
+        }
+        entries.setProperty("outputs", names.toString());
+
+        OutputStream out = new FileOutputStream(new File(outputDir, FILE_NAME));
+        try {
+            entries.store(out, "cpptranslator translation cache");
+        } finally {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,482 @@
+/***********************************************
+ * TranslationUnit translates one Java file.
+ *
+ * It owns all of the state for a single run of
+ * the translator (the converted classes, the
+ * symbol table, and the output directory), so
+ * that several units can be translated at the
+ * same time without sharing anything.
+ ***********************************************/
+
+package cpptranslator;
+
+import java.io.*;
+import java.util.*;
+
+import xtc.tree.*;
+import xtc.util.*;
+
+public class TranslationUnit implements TreeConverter.Listener {
+
+    /** The header CompileRecentTest.mk precompiles, which includes java_lang.h. */
+    public static final String PCH_HEADER = "java_lang_pch.h";
+
+    /** The file -unity prints all classes and main into. */
+    public static final String UNITY_SOURCE = "unity.cc";
+
+    TreeConverter treeConverter;
+
+    SymbolTable rootTable;
+
+    String fileName;
+
+    ArrayList<ClassDetail> classList;
+    Hashtable<String, ClassDetail> classAndClassDetail;
+    Hashtable<String,String> methReturnTypes;
+
+    private final File    outputDir;  /* Directory for the .h, .cc and script files */
+    private final Printer log;        /* Where "Printed X" messages go             */
+    private final PhaseMetrics metrics;  /* The metrics of the translation, or null */
+
+    private final ArrayList<String> outputFiles = new ArrayList<String>();  /* Names of all printed files */
+
+    private GNode                   compilationUnit;                         /* Root of the AST being converted    */
+    private ClassHierarchy          hierarchy;                               /* All classes in the unit            */
+    private int                     convertedClasses;                        /* Number of classes converted so far */
+    private final LinkedList<Declaration> waiting = new LinkedList<Declaration>();  /* Converted, not printed yet */
+
+    private boolean                       unity;                                     /* Whether to print one unity.cc  */
+    private final HashMap<String, String> unityHeaders = new HashMap<String, String>();  /* class -> its printed .h  */
+    private final HashMap<String, String> unitySources = new HashMap<String, String>();  /* class -> its printed .cc */
+
+    /**
+     * Creates a new translation unit.
+     *
+     * @param outputDir The directory to print into, or null for the current directory
+     * @param log       The printer for progress messages
+     */
+    public TranslationUnit(File outputDir, Printer log) {
+        this(outputDir, log, null);
+    }
+
+    /**
+     * Creates a new translation unit that measures its phases.
+     *
+     * @param outputDir The directory to print into, or null for the current directory
+     * @param log       The printer for progress messages
+     * @param metrics   The metrics to add the conversion and printing to, or null
+     */
+    public TranslationUnit(File outputDir, Printer log, PhaseMetrics metrics) {
+        this.outputDir = outputDir;
+        this.log       = log;
+        this.metrics   = metrics;
+    }
+
+    /* Getters */
+    public File                           getOutputDir()           { return this.outputDir; }
+    public ArrayList<String>              getOutputFiles()         { return this.outputFiles; }
+    public ArrayList<ClassDetail>         getClassList()           { return this.classList; }
+    public Hashtable<String, ClassDetail> getClassAndClassDetail() { return this.classAndClassDetail; }
+
+    /**
+     * Initializes all globals by taking them from the TreeConverter.
+     */
+    private void initGlobals() {
+        this.classList           = treeConverter.getClassList();
+        this.classAndClassDetail = treeConverter.getClassAndClassDetail();
+        this.methReturnTypes     = treeConverter.getMethReturnTypes();
+        this.rootTable           = treeConverter.getRootTable();
+        this.fileName            = treeConverter.getFileName();
+    }
+
+    /**
+     * Converts the Java AST into a C++ AST and prints the .h and .cc files,
+     * main.cc, CompileRecentTest.sh and CompileRecentTest.mk into the
+     * output directory.
+     *
+     * Classes are printed while the rest of the unit is still being converted,
+     * as soon as they and every class they mention are converted, and their
+     * subtrees are released right after, so only the classes waiting to be
+     * printed need to be held in memory.
+     *
+     * @param node    The root node of the Java AST
+     * @param runtime The runtime console
+     */
+    public void translate(Node node, xtc.util.Runtime runtime) {
+
+        if (null != outputDir) outputDir.mkdirs();
+        unity = runtime.test("optionUnity");
+
+        if (null != metrics) metrics.start(PhaseMetrics.CONVERT);
+        hierarchy = new ClassHierarchy(node);
+
+        /* Convert Java AST into C++ AST, printing classes as they become ready */
+        treeConverter = new TreeConverter(node, runtime, this);
+        initGlobals();
+        if (null != metrics) {
+            metrics.stop();
+            metrics.start(PhaseMetrics.PRINT);
+        }
+        printReady(true);
+
+        /* Generates a script 'CompileRecentTest.sh' to compile the generated files */
+        ArrayList<String> filesToCompile = new ArrayList<String>();
+        if (unity) {
+            printUnity();
+            filesToCompile.add(UNITY_SOURCE);
+            filesToCompile.add("java_lang.cc");
+        } else {
+            /* If all generations are successful, assume main file has been printed */
+            log.pln("Printed main.cc");
+            if (new File(outputDir, "main.cc").exists()) outputFiles.add("main.cc");
+
+            filesToCompile.add("main.cc");
+            filesToCompile.add("java_lang.cc");
+            for (int i = 0; i < classList.size(); i++) {
+                filesToCompile.add(classList.get(i).getclassname() + ".cc");
+            }
+        }
+
+        Writer scriptWriter = null;
+        try {
+            scriptWriter = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(new File(outputDir, "CompileRecentTest.sh")), "utf-8"));
+            scriptWriter.write("g++ -std=c++11" + runtimeDefines(runtime) + " ");
+            for (int i = 0; i < filesToCompile.size(); i++) {
+                scriptWriter.write(filesToCompile.get(i) + " ");
+            }
+        } catch (IOException ex) {
+        } finally {
+            try {
+                scriptWriter.close();
+                log.pln("Printed CompileRecentTest.sh");
+                outputFiles.add("CompileRecentTest.sh");
+            } catch (Exception ex) {}
+        }
+
+        printMakefile(filesToCompile, runtimeDefines(runtime));
+
+        if (null != metrics) metrics.stop();
+
+        /* Formatting */
+        log.pln("*****************************************************************************");
+        log.flush();
+    }
+
+    /**
+     * @return the macros selecting how the runtime counts references,
+     * each preceded by a space
+     */
+    private static String runtimeDefines(xtc.util.Runtime runtime) {
+        if (runtime.test("optionAtomicRefcount")) return " -DRT_ATOMIC_REFCOUNT";
+        if (runtime.test("optionCycleCollect"))   return " -DRT_CYCLE_COLLECT";
+        return "";
+    }
+
+    /**
+     * Prints CompileRecentTest.mk, which builds the same program as
+     * CompileRecentTest.sh one object at a time, so that
+     * make -f CompileRecentTest.mk -j compiles in parallel and only
+     * recompiles what changed.  Each object depends on its class' header
+     * and those of its superclasses, which the header includes, and
+     * main.o on every header.  The runtime header is precompiled once
+     * (through PCH_HEADER, since g++ warns about the #pragma once of a
+     * precompiled java_lang.h) and included first in every object.
+     *
+     * @param sources The .cc files, main.cc (or unity.cc) and java_lang.cc first
+     * @param defines The macros the runtime is compiled with
+     */
+    private void printMakefile(List<String> sources, String defines) {
+        StringBuilder objects = new StringBuilder();
+        for (String source : sources) {
+            objects.append(' ').append(source.substring(0, source.length() - 3)).append(".o");
+        }
+        StringBuilder headers = new StringBuilder();
+        for (ClassDetail classDetail : classList) {
+            headers.append(' ').append(classDetail.getclassname()).append(".h");
+        }
+
+        Writer header = null;
+        Writer make   = null;
+        try {
+            header = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(new File(outputDir, PCH_HEADER)), "utf-8"));
+            header.write("/* Precompiled by CompileRecentTest.mk */\n");
+            header.write("#include \"java_lang.h\"\n");
+
+            make = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(new File(outputDir, "CompileRecentTest.mk")), "utf-8"));
+            make.write("# Build with make -f CompileRecentTest.mk -j\n\n");
+            make.write("CXX      = g++\n");
+            make.write("CXXFLAGS = -std=c++11" + defines + "\n");
+            make.write("OBJECTS  =" + objects + "\n\n");
+
+            make.write("a.out: $(OBJECTS)\n");
+            make.write("\t$(CXX) $(CXXFLAGS) -o $@ $(OBJECTS)\n\n");
+
+            make.write(PCH_HEADER + ".gch: " + PCH_HEADER + " java_lang.h ptr.h\n");
+            make.write("\t$(CXX) $(CXXFLAGS) -x c++-header -o $@ " + PCH_HEADER + "\n\n");
+
+            make.write("%.o: %.cc " + PCH_HEADER + ".gch\n");
+            make.write("\t$(CXX) $(CXXFLAGS) -include " + PCH_HEADER + " -c -o $@ $<\n\n");
+
+            if (!unity) make.write("main.o:" + headers + "\n");
+            for (ClassDetail classDetail : unity ? new ArrayList<ClassDetail>() : classList) {
+                make.write(classDetail.getclassname() + ".o:");
+                for (String name = classDetail.getclassname(); null != name; ) {
+                    make.write(" " + name + ".h");
+                    ClassDetail superClass = classAndClassDetail.get(name);
+                    name = null == superClass ? null : superClass.getSuperClass();
+                    if (null != name && !classAndClassDetail.containsKey(name)) name = null;
+                }
+                make.write("\n");
+            }
+
+            make.write("\nclean:\n");
+            make.write("\trm -f a.out $(OBJECTS) " + PCH_HEADER + ".gch\n\n");
+            make.write(".PHONY: clean\n");
+        } catch (IOException ex) {
+        } finally {
+            try {
+                header.close();
+                make.close();
+                log.pln("Printed CompileRecentTest.mk");
+                outputFiles.add(PCH_HEADER);
+                outputFiles.add("CompileRecentTest.mk");
+            } catch (Exception ex) {}
+        }
+    }
+
+    /**
+     * Queues the classes of a converted top-level declaration and prints
+     * all queued declarations that are ready.
+     */
+    public void converted(TreeConverter converter, GNode unit, int index) {
+        if (null == this.treeConverter) {
+            this.treeConverter = converter;
+            this.compilationUnit = unit;
+            initGlobals();
+        }
+
+        if (classList.size() > convertedClasses) {
+            Declaration declaration = new Declaration();
+            declaration.index   = index;
+            declaration.classes = new ArrayList<ClassDetail>(classList.subList(convertedClasses, classList.size()));
+            declaration.uses    = new HashSet<String>();
+            collectUses(unit.getNode(index), declaration.uses);
+            waiting.add(declaration);
+            convertedClasses = classList.size();
+        }
+
+        printReady(false);
+    }
+
+    /**
+     * Prints every waiting declaration that is ready, or all of them.
+     *
+     * @param all Whether to print all of them, which is only right once
+     *            the whole unit has been converted
+     */
+    private void printReady(boolean all) {
+        for (Iterator<Declaration> iter = waiting.iterator(); iter.hasNext(); ) {
+            Declaration declaration = iter.next();
+            if (!all && !isReady(declaration)) continue;
+            iter.remove();
+
+            /* CPPPrinter expects to start out in the root scope */
+            SymbolTable.Scope scope = rootTable.current();
+            rootTable.setScope(rootTable.root());
+            for (ClassDetail classDetail : declaration.classes) {
+                print(classDetail);
+            }
+            rootTable.setScope(scope);
+
+            /* Release the declaration's subtrees */
+            for (ClassDetail classDetail : declaration.classes) {
+                classDetail.release();
+            }
+            compilationUnit.set(declaration.index, null);
+        }
+    }
+
+    /**
+     * A declaration is ready once every class it uses is converted, as
+     * are the superclasses of those classes, since overload resolution
+     * upcasts through them.
+     */
+    private boolean isReady(Declaration declaration) {
+        LinkedList<String> toCheck = new LinkedList<String>(declaration.uses);
+        HashSet<String>    checked = new HashSet<String>();
+        while (!toCheck.isEmpty()) {
+            String name = toCheck.removeFirst();
+            if (!checked.add(name) || !hierarchy.contains(name)) continue;
+
+            ClassDetail classDetail = classAndClassDetail.get(name);
+            if (null == classDetail) return false;
+            if (null != classDetail.getSuperClass()) toCheck.add(classDetail.getSuperClass());
+        }
+        return true;
+    }
+
+    /**
+     * Prints the .cc and .h files for a class (and main.cc if it has main).
+     * With -unity, the .cc and .h are kept for unity.cc instead.
+     */
+    private void print(ClassDetail classDetail) {
+        String       classname  = classDetail.getclassname();
+        Printer      printer    = null;
+        Printer      h_printer  = null;
+        CPPPrinter   cppPrinter = null;
+        StringWriter source     = new StringWriter();
+        StringWriter header     = null;
+
+        if (null != metrics) metrics.start(PhaseMetrics.PRINT, classname);
+        try {
+            /* The source is kept until the string literals it uses are known */
+            printer = new Printer(source);
+            if (unity) {
+                header    = new StringWriter();
+                h_printer = new Printer(header);
+            } else {
+                h_printer = new Printer(new BufferedWriter(new OutputStreamWriter(new FileOutputStream(new File(outputDir, classname + ".h")), "utf-8")));
+            }
+            printer.p("#include \"").p(classname).pln(".h\"").pln();
+
+            cppPrinter =
+                new CPPPrinter(printer, h_printer, classDetail.getmethodList(),
+                               classDetail.getpublicScopes(), classDetail.getprivateScopes(),
+                               classAndClassDetail, methReturnTypes, classname,
+                               rootTable, fileName, outputDir, hierarchy) {};
+            cppPrinter.metrics = metrics;
+            cppPrinter.dispatch(classDetail.getclassNode());
+
+        } catch (IOException ex) {
+        } finally {
+            try {
+                printer.close();
+                h_printer.close();
+                String contents = null == cppPrinter ? source.toString() :
+                    cppPrinter.insertStringConstants(source.toString());
+                if (unity) {
+                    unitySources.put(classname, contents);
+                    unityHeaders.put(classname, header.toString());
+                } else {
+                    Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(new File(outputDir, classname + ".cc")), "utf-8"));
+                    try {
+                        out.write(contents);
+                    } finally {
+                        out.close();
+                    }
+                    log.pln("Printed " + classname + ".cc");
+                    log.pln("Printed " + classname + ".h");
+                    outputFiles.add(classname + ".cc");
+                    outputFiles.add(classname + ".h");
+                }
+            } catch (Exception ex) {}
+            if (null != metrics) metrics.stop();
+        }
+    }
+
+    /**
+     * Prints unity.cc: the headers of all classes, each after that of its
+     * superclass, then their sources and then main.cc, which is deleted.
+     * The includes of the unit's own headers are left out, since their
+     * contents come first.
+     */
+    private void printUnity() {
+        ArrayList<String> order   = new ArrayList<String>();
+        HashSet<String>   visited = new HashSet<String>();
+        for (ClassDetail classDetail : classList) {
+            addSuperclassesFirst(classDetail.getclassname(), order, visited);
+        }
+
+        File  main = new File(outputDir, "main.cc");
+        Writer out = null;
+        try {
+            out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(new File(outputDir, UNITY_SOURCE)), "utf-8"));
+            out.write("/* All classes, each after its superclass, and main */\n");
+            for (String name : order) {
+                out.write("\n/* " + name + ".h */\n");
+                out.write(withoutOwnIncludes(unityHeaders.get(name)));
+            }
+            for (String name : order) {
+                out.write("\n/* " + name + ".cc */\n");
+                out.write(withoutOwnIncludes(unitySources.get(name)));
+            }
+            if (main.exists()) {
+                StringBuilder contents = new StringBuilder();
+                Reader in = new InputStreamReader(new FileInputStream(main), "utf-8");
+                try {
+                    char[] buffer = new char[4096];
+                    for (int n = in.read(buffer); n != -1; n = in.read(buffer)) {
+                        contents.append(buffer, 0, n);
+                    }
+                } finally {
+                    in.close();
+                }
+                out.write("\n/* main.cc */\n");
+                out.write(withoutOwnIncludes(contents.toString()));
+                main.delete();
+            }
+        } catch (IOException ex) {
+        } finally {
+            try {
+                out.close();
+                log.pln("Printed " + UNITY_SOURCE);
+                outputFiles.add(UNITY_SOURCE);
+            } catch (Exception ex) {}
+        }
+        unityHeaders.clear();
+        unitySources.clear();
+    }
+
+    private void addSuperclassesFirst(String name, ArrayList<String> order, HashSet<String> visited) {
+        if (!unityHeaders.containsKey(name) || !visited.add(name)) return;
+        String superClass = classAndClassDetail.get(name).getSuperClass();
+        if (null != superClass) addSuperclassesFirst(superClass, order, visited);
+        order.add(name);
+    }
+
+    /**
+     * @return printed C++ code without #pragma once and the includes
+     * of the unit's own headers
+     */
+    private String withoutOwnIncludes(String code) {
+        StringBuilder result = new StringBuilder(code.length());
+        for (String line : code.split("\n", -1)) {
+            String trimmed = line.trim();
+            if (trimmed.equals("#pragma once")) continue;
+            if (trimmed.startsWith("#include \"") && trimmed.endsWith(".h\"") &&
+                unityHeaders.containsKey(trimmed.substring(10, trimmed.length() - 3))) {
+                continue;
+            }
+            result.append(line).append('\n');
+        }
+        result.setLength(result.length() - 1);
+        return result.toString();
+    }
+
+    /**
+     * Collects the names of the unit's classes used in a subtree.  A
+     * subtree with the main method uses all of them, since main.cc
+     * includes every header.
+     */
+    private void collectUses(Node n, HashSet<String> uses) {
+        if (n.hasName("MethodDeclaration") && "main".equals(n.get(3))) {
+            uses.addAll(hierarchy.getClassNames());
+        }
+        for (Object o : n) {
+            if (o instanceof Node) {
+                collectUses((Node)o, uses);
+            } else if (o instanceof String && hierarchy.contains((String)o)) {
+                uses.add((String)o);
+            }
+        }
+    }
+
+    /**
+     * A converted top-level declaration whose classes are waiting to be printed.
+     */
+    private static class Declaration {
+        int                    index;    /* Index in the CompilationUnit         */
+        ArrayList<ClassDetail> classes;  /* Classes it declares, in order        */
+        HashSet<String>        uses;     /* Names of the unit's classes it uses  */
+    }
+}
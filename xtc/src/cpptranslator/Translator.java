@@ -7,12 +7,28 @@
  *
  * Each Java class will have its own .h and .cc
  * files.
+ *
+ * With -batch, all files on the command line are
+ * translated in parallel, one TranslationUnit each.
+ *
+ * Files whose outputs are still up to date (see
+ * TranslationCache) are not translated again,
+ * unless -performance or -metrics measures the
+ * translation itself.
+ *
+ * With -unity, each file is printed into one
+ * unity.cc (see TranslationUnit).
+ *
+ * With -metrics <file>, the time and allocations
+ * of each phase (see PhaseMetrics) are written to
+ * the file as JSON once all files are translated.
  ***********************************************/
 
 package cpptranslator;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import xtc.lang.*;
 import xtc.parser.*;
@@ -23,20 +39,18 @@ import xtc.Constants;
 
 public class Translator extends xtc.util.Tool {
 
-    TreeConverter treeConverter;    
-
-    SymbolTable rootTable;
+    /* Batch mode: one task per file, joined in command line order by wrapUp() */
+    ExecutorService batchPool;
+    ArrayList<String> batchNames;
+    ArrayList<Future<String>> batchResults;
 
-    Writer writer;
-    Printer printer;
-    Printer h_printer;
+    /* The source and cache key of the file being translated outside batch mode */
+    File cacheSource;
+    String cacheKey;
 
-    String classname;
-    String fileName;
-
-    ArrayList<ClassDetail> classList;
-    Hashtable<String, ClassDetail> classAndClassDetail;
-    Hashtable<String,String> methReturnTypes;
+    /* The metrics of all translations and of the one outside batch mode, or null */
+    PhaseMetrics.Report metricsReport;
+    PhaseMetrics metrics;
 
     /** Create a new tool. */
     public Translator() {}
@@ -63,6 +77,94 @@ public class Translator extends xtc.util.Tool {
      */
     public String getCopy() { return "(C) 2014 OnTheCSide with code from Robert Grimm and NYU"; }
 
+    /**
+     * Declares the translator's options on top of the default tool options.
+     */
+    public void init() {
+        super.init();
+        runtime.
+            bool("batch", "optionBatch", false,
+                 "Translate all files in parallel, each into its own subdirectory " +
+                 "of the output directory.").
+            number("threads", "optionThreads",
+                   java.lang.Runtime.getRuntime().availableProcessors(),
+                   "Use the specified number of threads in batch mode.  " +
+                   "The default is the number of processors.").
+            bool("no-cache", "optionNoCache", false,
+                 "Always translate, even if the outputs of a file are up to date.  " +
+                 "Implied by -performance and -metrics.").
+            bool("atomic-refcount", "optionAtomicRefcount", false,
+                 "Count references atomically, so that translated programs can share " +
+                 "objects between threads.  Local variables whose objects never leave " +
+                 "their thread keep non-atomic counts.").
+            bool("cycle-collect", "optionCycleCollect", false,
+                 "Collect garbage cycles in translated programs, which reference " +
+                 "counting alone never frees.  Objects are then never allocated " +
+                 "on the stack.  Not supported with -atomic-refcount.").
+            bool("unity", "optionUnity", false,
+                 "Print all classes of a file and its main method into one unity.cc, " +
+                 "superclasses first, instead of a .h and .cc file per class.").
+            word("metrics", "optionMetrics", false,
+                 "Write the time and allocations of each translation phase, per " +
+                 "file and per class, to the specified file as JSON.  With " +
+                 "-performance, the runs of each file are aggregated.");
+    }
+
+    /**
+     * The version the translation cache is keyed on, which includes the
+     * options that change the printed files and a fingerprint of the
+     * translator build and of the runtime headers in the output directory.
+     *
+     * @param outputDir The directory the files are printed into, or null
+     * @return the version, or null if the build cannot be fingerprinted,
+     *         in which case outputs are never considered up to date
+     */
+    private String getCacheVersion(File outputDir) throws IOException {
+        String fingerprint = TranslationCache.fingerprint(outputDir);
+        if (null == fingerprint) return null;
+
+        String version = getVersion() + " " + fingerprint;
+        if (runtime.test("optionAtomicRefcount")) version += " atomic-refcount";
+        if (runtime.test("optionCycleCollect"))   version += " cycle-collect";
+        if (runtime.test("optionUnity"))          version += " unity";
+        return version;
+    }
+
+    /**
+     * @return whether files whose outputs are up to date are skipped,
+     * which they are not while translations are measured
+     */
+    private boolean useCache() {
+        return !runtime.test("optionNoCache") && !runtime.test("optionPerformance") &&
+            null == metricsReport;
+    }
+
+    /**
+     * Checks the batch options and starts the thread pool for batch mode.
+     */
+    public void prepare() {
+        super.prepare();
+        if (runtime.test("optionAtomicRefcount") && runtime.test("optionCycleCollect")) {
+            runtime.error("can't collect cycles with atomic reference counts");
+        }
+        if (runtime.hasValue("optionMetrics") && null != runtime.getString("optionMetrics")) {
+            int warmUp = runtime.test("optionPerformance") ? runtime.getInt("runsWarmUp") : 0;
+            metricsReport = new PhaseMetrics.Report(getVersion(), warmUp);
+        }
+        if (runtime.test("optionBatch")) {
+            if (runtime.test("optionPerformance")) {
+                runtime.error("can't collect performance statistics in batch mode");
+            }
+            if (1 > runtime.getInt("optionThreads")) {
+                runtime.error("the number of threads must be positive");
+                return;
+            }
+            batchPool    = Executors.newFixedThreadPool(runtime.getInt("optionThreads"));
+            batchNames   = new ArrayList<String>();
+            batchResults = new ArrayList<Future<String>>();
+        }
+    }
+
     /** 
      * Locates java test file 
      *
@@ -77,88 +179,173 @@ public class Translator extends xtc.util.Tool {
     }
 
     /**
-     * Uses JavaFiveParser to parse test java file
+     * Uses JavaFiveParser to parse test java file.
+     *
+     * In batch mode the file is only queued here: parsing, converting
+     * and printing all happen on the thread pool, and no AST is returned.
+     * No AST is returned either if the file's outputs are up to date.
      */
     public Node parse(Reader in, File file) throws IOException, ParseException {
-        JavaFiveParser parser =
-        new JavaFiveParser(in, file.toString(), (int) file.length());
-        Result result = parser.pCompilationUnit(0);
-        return (Node)parser.value(result);
+        if (null != batchPool) {
+            submit(file);
+            return null;
+        }
+
+        cacheSource = null;
+        cacheKey    = null;
+        String version = useCache() ? getCacheVersion(runtime.getOutputDirectory()) : null;
+        if (null != version) {
+            String key = TranslationCache.key(file, version);
+            if (new TranslationCache(runtime.getOutputDirectory()).isUpToDate(file, key)) {
+                runtime.console().pln("Up to date: " + file).flush();
+                return null;
+            }
+            cacheSource = file;
+            cacheKey    = key;
+        }
+        metrics = null == metricsReport ? null : new PhaseMetrics(file.toString());
+        return parseJava(in, file, metrics);
     }
 
     /**
-     * Initializes all globals by taking them from the TreeConverter.
+     * Parses a java file with a fresh JavaFiveParser.
+     *
+     * @param metrics The metrics of the file's translation, or null
      */
-    private void initGlobals() {
-        this.classList           = treeConverter.getClassList();
-        this.classAndClassDetail = treeConverter.getClassAndClassDetail();
-        this.methReturnTypes     = treeConverter.getMethReturnTypes();
-        this.rootTable           = treeConverter.getRootTable();
-        this.fileName            = treeConverter.getFileName();
+    private Node parseJava(Reader in, File file, PhaseMetrics metrics) throws IOException, ParseException {
+        if (null != metrics) metrics.start(PhaseMetrics.PARSE);
+        try {
+            JavaFiveParser parser =
+            new JavaFiveParser(in, file.toString(), (int) file.length());
+            Result result = parser.pCompilationUnit(0);
+            return (Node)parser.value(result);
+        } finally {
+            if (null != metrics) metrics.stop();
+        }
     }
 
     /**
      * Processes each AST node using visitor pattern.
      */
     public void process(Node node) {
+        TranslationUnit unit = new TranslationUnit(runtime.getOutputDirectory(), runtime.console(), metrics);
+        unit.translate(node, runtime);
+        if (null != metrics) metricsReport.add(metrics);
 
-        /* Convert Java AST into C++ AST */
-        treeConverter = new TreeConverter(node, runtime);
-        initGlobals();
+        if (null != cacheKey) {
+            try {
+                new TranslationCache(unit.getOutputDir()).record(cacheSource, cacheKey, unit.getOutputFiles());
+            } catch (IOException ex) {
+                runtime.warning("unable to update the translation cache: " + ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Queues the translation of a file in batch mode.  Each file is
+     * printed into the subdirectory of the output directory named after it,
+     * since every unit has its own main.cc and build files.
+     *
+     * @param file The java file
+     */
+    private void submit(final File file) {
+        String name = file.getName();
+        if (name.endsWith(".java")) name = name.substring(0, name.length() - 5);
 
-        ArrayList<String> filesToCompile = new ArrayList<String>();
-        filesToCompile.add("main.cc");
-        filesToCompile.add("java_lang.cc");
-        Writer scriptWriter = null; 
-        
-        /* Reads through classList and prints out respective .cc and .h classes */
-        for (int i = 0; i < classList.size(); i++) {
-            classname = classList.get(i).getclassname();
+        if (batchNames.contains(name)) {
+            runtime.error(file + ": another file already translates into " + name);
+            return;
+        }
 
-            try {
-                filesToCompile.add(classname + ".cc");
-
-                writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(classname + ".cc"), "utf-8"));
-                printer = new Printer(writer);
-                printer.p("#include \"").p(classname).pln(".h\"").pln();
-                h_printer = new Printer(new BufferedWriter(new OutputStreamWriter(new FileOutputStream(classname + ".h"), "utf-8")));
-                
-                new CPPPrinter(printer, h_printer, classList.get(i).getmethodList(), 
-                               classList.get(i).getpublicScopes(), classList.get(i).getprivateScopes(), 
-                               classAndClassDetail, methReturnTypes, classname, 
-                               rootTable, fileName) {}.dispatch(classList.get(i).getclassNode());
+        final File    outputDir = new File(runtime.getOutputDirectory(), name);
+        final boolean useCache  = useCache();
+        batchNames.add(name);
+        batchResults.add(batchPool.submit(new Callable<String>() {
+            public String call() throws Exception {
+                String version = useCache ? getCacheVersion(outputDir) : null;
+                String key     = null;
+                if (null != version) {
+                    key = TranslationCache.key(file, version);
+                    if (new TranslationCache(outputDir).isUpToDate(file, key)) {
+                        return "Up to date: " + file + "\n";
+                    }
+                }
 
-            } catch (IOException ex) {
-            } finally {
+                PhaseMetrics metrics = null == metricsReport ? null : new PhaseMetrics(file.toString());
+                Node root;
+                Reader in = runtime.getReader(file);
                 try {
-                    printer.close(); 
-                    h_printer.close();  
-                    System.out.println("Printed " + classname + ".cc");
-                    System.out.println("Printed " + classname + ".h");                  
-                } catch (Exception ex) {}
-            } 
-        }
+                    root = parseJava(in, file, metrics);
+                } finally {
+                    in.close();
+                }
 
-        /* If all generations are successful, assume main file has been printed */
-        System.out.println("Printed main.cc");
+                StringWriter    out  = new StringWriter();
+                TranslationUnit unit = new TranslationUnit(outputDir, new Printer(out), metrics);
+                unit.translate(root, runtime);
+                if (null != metrics) metricsReport.add(metrics);
+                if (null != key) {
+                    new TranslationCache(outputDir).record(file, key, unit.getOutputFiles());
+                }
+                return out.toString();
+            }
+        }));
+    }
 
-        /* Generates a script 'CompileRecentTest.sh' to compile the generated files */
+    /**
+     * Waits for all batch translations and prints their messages in
+     * command line order, so that the output does not depend on scheduling.
+     * Then writes the metrics, if requested.
+     */
+    public void wrapUp() {
+        if (null != batchPool) joinBatch();
+        if (null != metricsReport) writeMetrics();
+    }
+
+    /**
+     * Writes the metrics report to the file given with -metrics.
+     */
+    private void writeMetrics() {
+        String name = runtime.getString("optionMetrics");
         try {
-            scriptWriter = new BufferedWriter(new OutputStreamWriter(new FileOutputStream("CompileRecentTest.sh"), "utf-8"));
-            scriptWriter.write("g++ -std=c++11 ");
-            for (int i = 0; i < filesToCompile.size(); i++) {
-                scriptWriter.write(filesToCompile.get(i) + " ");
+            Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(name), "utf-8"));
+            try {
+                metricsReport.write(out);
+            } finally {
+                out.close();
             }
         } catch (IOException ex) {
-        } finally {
-            try {
-                scriptWriter.close();
-                System.out.println("Printed CompileRecentTest.sh");
-            } catch (Exception ex) {}
+            runtime.error(name + ": " + ex.getMessage());
         }
+    }
 
-        /* Formatting */
-        System.out.println("*****************************************************************************");
+    private void joinBatch() {
+
+        boolean silent = runtime.test("optionSilent");
+        for (int i = 0; i < batchResults.size(); i++) {
+            try {
+                String messages = batchResults.get(i).get();
+                if (!silent) runtime.console().p(messages).flush();
+            } catch (InterruptedException x) {
+                runtime.error(batchNames.get(i) + ": interrupted");
+            } catch (ExecutionException x) {
+                Throwable cause = x.getCause();
+                if (cause instanceof ParseException) {
+                    runtime.error();
+                    System.err.print(cause.getMessage());
+                } else if (cause instanceof IOException) {
+                    runtime.error(batchNames.get(i) + ": " + cause.getMessage());
+                } else if (cause instanceof VisitingException) {
+                    runtime.error();
+                    cause.getCause().printStackTrace();
+                } else {
+                    runtime.error();
+                    cause.printStackTrace();
+                }
+            }
+        }
+        batchPool.shutdown();
+        batchPool = null;
     }
 
     /**
@@ -172,4 +359,4 @@ public class Translator extends xtc.util.Tool {
 
         new Translator().run(args);
     }
-}
\ No newline at end of file
+}
@@ -54,8 +54,24 @@ public class TreeConverter extends Visitor {
     private boolean constructorPresent;
 
     private boolean inMethod;
+
+    private EscapeAnalysis escapeAnalysis;
     /* END GLOBALS */
 
+    /**
+     * Is told each time one of the compilation unit's top-level declarations
+     * has been converted, so that its classes can be printed (and released)
+     * before the rest of the unit is converted.
+     */
+    public interface Listener {
+        /**
+         * @param converter The tree converter, whose getters are valid at this point
+         * @param unit      The CompilationUnit node
+         * @param index     The index of the converted declaration in unit
+         */
+        void converted(TreeConverter converter, GNode unit, int index);
+    }
+
     /**
      * Constructor that runs the tree conversion using the visitor pattern.
      *
@@ -63,6 +79,21 @@ public class TreeConverter extends Visitor {
      * @param Runtime The runtime console
      */
 	public TreeConverter(Node node, final xtc.util.Runtime runtime) {
+        this(node, runtime, null);
+    }
+
+    /**
+     * Constructor that runs the tree conversion using the visitor pattern
+     * and reports each converted top-level declaration.
+     *
+     * @param node     The root node of the Java AST
+     * @param Runtime  The runtime console
+     * @param listener The listener, or null
+     */
+	public TreeConverter(Node node, final xtc.util.Runtime runtime, final Listener listener) {
+
+        escapeAnalysis = new EscapeAnalysis(node, runtime.test("optionAtomicRefcount"),
+                                            !runtime.test("optionCycleCollect"));
 
 		/* Creates C++ AST from Java AST */
         new Visitor() {
@@ -78,7 +109,13 @@ public class TreeConverter extends Visitor {
                 fileName = JavaEntities.fileNameToScopeName(n.getLocation().file);
                 rootTable.enter(fileName);
                 rootTable.mark(n);
-                visit(n);
+                for (int i = 0; i < n.size(); i++) {
+                    if (n.get(i) instanceof Node) {
+                        dispatch(n.getNode(i));
+                        resolveSymbols(n.getNode(i));
+                    }
+                    if (null != listener) { listener.converted(TreeConverter.this, n, i); }
+                }
                 n = cppAST;
 
                 rootTable.setScope(rootTable.root());
@@ -158,7 +195,8 @@ public class TreeConverter extends Visitor {
             private GNode addConstructor(GNode n) {
                 GNode nCopy = GNode.create("ConstructorDeclaration", GNode.create("Modifiers", GNode.create("Modifier", "public")),
                               null, currentClass.getclassname(), GNode.create("FormalParameters"), null, 
-                              GNode.create("InitList", GNode.create("ConstructorInit", "__vptr", "&__vtable")), GNode.create("Block"));
+                              GNode.create("InitList", GNode.create("ConstructorInit", "__vptr", "&__vtable"),
+                                                       GNode.create("ConstructorInit", "__refcount", "0")), GNode.create("Block"));
                 return nCopy;
             }
 
@@ -167,6 +205,7 @@ public class TreeConverter extends Visitor {
             */
             public void visitConstructorDeclaration(GNode n) {
                 isConstructor = true;
+                escapeAnalysis.mark(n);
 
                 currentMethodNode = n;
                 currentMethodNode.set(5, n.ensureVariable(n.getGeneric(5)));
@@ -214,6 +253,7 @@ public class TreeConverter extends Visitor {
                 inMethod = true;
                 currentMethodNode = n;
                 boolean isPublic = true;
+                escapeAnalysis.mark(n);
 
                 /* adds a return statement to main, since in c++ main methods return int */
                 if (currentMethodNode.getString(3).equals("main")) {
@@ -582,6 +622,7 @@ public class TreeConverter extends Visitor {
                     GNode vtableNode = GNode.create("ConstructorInit");
                     vtableNode.add("__vptr"); vtableNode.add("&__vtable");
                     initListNode.add(vtableNode);   
+                    initListNode.add(GNode.create("ConstructorInit", "__refcount", "0"));
                 }
 
                 visit(n);
@@ -671,6 +712,10 @@ public class TreeConverter extends Visitor {
             public void visitPrimitiveType(GNode n) {
                 if (n.getString(0).equals("int")) {
                     n.set(0, "int32_t");
+                } else if (n.getString(0).equals("long")) {
+                    n.set(0, "int64_t");
+                } else if (n.getString(0).equals("short")) {
+                    n.set(0, "int16_t");
                 } else if (n.getString(0).equals("boolean")) {
                     n.set(0, "bool");
                 }
@@ -688,6 +733,29 @@ public class TreeConverter extends Visitor {
         }.dispatch(node);
 	}
 
+    /**
+     * Attaches the Symbol of each identifier of a converted subtree (see
+     * Symbol), looked up in the scopes CPPPrinter will print it in, so
+     * that printing does not look it up again, and then the type of each
+     * expression (see ExpressionTyper), operands first.
+     */
+    private void resolveSymbols(Node n) {
+        if ((n.hasName("PrimaryIdentifier") || n.hasName("QualifiedIdentifier")) &&
+            1 == n.size() && n.get(0) instanceof String) {
+            Object value = rootTable.current().lookup(n.getString(0));
+            if (value instanceof SymbValStruct) n.setProperty(Symbol.PROPERTY, Symbol.of((SymbValStruct)value));
+            ExpressionTyper.annotate(n);
+            return;
+        }
+
+        rootTable.enter(n);
+        for (Object o : n) {
+            if (o instanceof Node) resolveSymbols((Node)o);
+        }
+        rootTable.exit(n);
+        ExpressionTyper.annotate(n);
+    }
+
 	/* Getters */
 	public SymbolTable 						getRootTable() 			 { return this.rootTable; }
 	public String 							getFileName() 	  		 { return this.fileName; }
@@ -0,0 +1,227 @@
+/***********************************************
+ * VTableLayout is the layout of a translated
+ * class: the fields of its data layout and the
+ * slots of its vtable, which HeaderPrinter
+ * prints into the class' header.
+ *
+ * A class' layout starts with its superclass'
+ * layout, so that an object or vtable of the class
+ * can be used as one of its superclass: inherited
+ * fields come first, and a method that overrides
+ * one takes over its slot.  Other methods get new
+ * slots at the end.
+ *
+ * The layout also names the instance fields, whose
+ * references the class' __children function hands
+ * to the cycle collector.
+ *
+ * The layout of each class is computed once, from
+ * the layout of its superclass, and memoized on
+ * its ClassDetail.
+ ***********************************************/
+
+package cpptranslator;
+
+import java.util.*;
+
+import xtc.tree.Node;
+
+public class VTableLayout {
+
+    /** A vtable slot. */
+    public static class Slot {
+        public final String       name;        /* The mangled method name                        */
+        public final String       owner;       /* The class whose method fills the slot          */
+        public final String       returnType;  /* As printed, "void " for void methods           */
+        public final List<String> parameters;  /* Parameter types, without the this one          */
+        public final boolean      thisFirst;   /* Whether this comes first, as in java_lang.h    */
+
+        Slot(String name, String owner, String returnType, List<String> parameters, boolean thisFirst) {
+            this.name       = name;
+            this.owner      = owner;
+            this.returnType = returnType;
+            this.parameters = parameters;
+            this.thisFirst  = thisFirst;
+        }
+
+        /**
+         * @return the type of the slot in the vtable of a class,
+         * whose objects are passed as this
+         */
+        private String signature(String className) {
+            StringBuilder types = new StringBuilder();
+            if (thisFirst) types.append(className);
+            for (String parameter : parameters) {
+                if (0 < types.length()) types.append(", ");
+                types.append(parameter);
+            }
+            if (!thisFirst) {
+                if (0 < types.length()) types.append(", ");
+                types.append(className);
+            }
+            return types.toString();
+        }
+
+        /** @return the declaration of the slot in the vtable of a class */
+        public String declaration(String className) {
+            return returnType + " (*" + name + ")(" + signature(className) + ")";
+        }
+
+        /** @return the initializer of the slot in the vtable constructor of a class */
+        public String initializer(String className) {
+            if (owner.equals(className)) return name + "(&__" + owner + "::" + name + ")";
+            return name + "((" + returnType + "(*)(" + signature(className) + "))&__" + owner + "::" + name + ")";
+        }
+    }
+
+    /** The slots every class inherits from java.lang.Object. */
+    private static final List<Slot> OBJECT_SLOTS = Arrays.asList(
+        new Slot("m_hashCode", "Object", "int32_t", Collections.<String>emptyList(), true),
+        new Slot("m_equals",   "Object", "bool",    Collections.singletonList("Object"), true),
+        new Slot("m_getClass", "Object", "Class",   Collections.<String>emptyList(), true),
+        new Slot("m_toString", "Object", "String",  Collections.<String>emptyList(), true));
+
+    private final ArrayList<String> inheritedFields;  /* Declarations of the superclasses' fields */
+    private final ArrayList<String> fields;           /* Declarations of the class' own fields   */
+    private final ArrayList<String> instanceFields;   /* Names of all non-static fields          */
+    private final ArrayList<Slot>   slots;            /* The vtable after __isa, __delete and __children */
+
+    /**
+     * Computes the layout of a class from that of its superclass.
+     * Use ClassDetail.getLayout(), which computes it only once.
+     *
+     * @param classDetail The class
+     * @param superLayout The layout of its superclass, or null for java.lang.Object
+     */
+    VTableLayout(ClassDetail classDetail, VTableLayout superLayout) {
+        String className = classDetail.getclassname();
+
+        this.inheritedFields = new ArrayList<String>();
+        this.fields          = new ArrayList<String>();
+        this.instanceFields  = new ArrayList<String>();
+        this.slots           = new ArrayList<Slot>();
+
+        if (null == superLayout) {
+            slots.addAll(OBJECT_SLOTS);
+        } else {
+            inheritedFields.addAll(superLayout.inheritedFields);
+            for (String field : superLayout.fields) {
+                if (!inheritedFields.contains(field)) inheritedFields.add(field);
+            }
+            instanceFields.addAll(superLayout.instanceFields);
+            slots.addAll(superLayout.slots);
+        }
+
+        /* The private fields come first in the header */
+        for (Node n : classDetail.getprivateScopes()) {
+            if (n.hasName("FieldDeclaration")) addField(n);
+        }
+        for (Node n : classDetail.getpublicScopes()) {
+            if (n.hasName("FieldDeclaration")) addField(n);
+        }
+
+        HashMap<String, Integer> index = new HashMap<String, Integer>();
+        for (int i = 0; i < slots.size(); i++) {
+            index.put(slots.get(i).name, i);
+        }
+        for (Node method : classDetail.getmethodList()) {
+            String name = method.getString(3);
+            if (name.equals("init") || isStatic(method)) continue;
+
+            /* The last parameter is this */
+            ArrayList<String> parameters = new ArrayList<String>();
+            Node formals = method.getNode(4);
+            for (int i = 0; i < formals.size() - 1; i++) {
+                parameters.add(parameterType(formals.getNode(i)));
+            }
+            Slot slot = new Slot(name, className, returnType(method), parameters, false);
+
+            Integer i = index.get(name);
+            if (null == i) {
+                index.put(name, slots.size());
+                slots.add(slot);
+            } else {
+                slots.set(i, slot);
+            }
+        }
+    }
+
+    private void addField(Node n) {
+        fields.add(fieldDeclaration(n));
+        if (isStatic(n)) return;
+        for (Object o : n.getNode(2)) {
+            String name = ((Node)o).getString(0);
+            if (!instanceFields.contains(name)) instanceFields.add(name);
+        }
+    }
+
+    /** @return the declarations of the fields of all superclasses, in their order */
+    public List<String> getInheritedFields() { return inheritedFields; }
+
+    /** @return the names of the non-static fields, the superclasses' first */
+    public List<String> getInstanceFields()  { return instanceFields; }
+
+    /** @return the vtable slots after __isa, __delete and __children */
+    public List<Slot>   getSlots()           { return slots; }
+
+    /**
+     * @return the return type of a method as printed in the header
+     */
+    static String returnType(Node method) {
+        if (null == method.get(2)) return "";
+        if (method.getNode(2).hasName("VoidType")) return "void ";
+        return method.getNode(2).size() > 0 ? method.getNode(2).getNode(0).getString(0) : "";
+    }
+
+    /**
+     * @param n A FormalParameter node
+     * @return the parameter's type as printed in the header
+     */
+    static String parameterType(Node n) {
+        if (n.get(1) instanceof Node && n.getNode(1).size() > 0) return n.getNode(1).getNode(0).getString(0);
+        return "";
+    }
+
+    /**
+     * @param n A FieldDeclaration node
+     * @return the declaration of the field as printed in the header
+     */
+    static String fieldDeclaration(Node n) {
+        String totalString = "";
+        for(int i=0; i < n.getNode(0).size(); i++){
+            if(n.getNode(0).getNode(i).get(0) instanceof String && n.getNode(0).getNode(i).getString(0).equals("static")){
+                totalString += "const " + n.getNode(0).getNode(i).getString(0) + " ";
+                break;
+            }
+        }
+        for(int i=0;i<n.getNode(1).size();i++){
+            if (n.get(1) != null && n.getNode(1).get(i) != null && n.getNode(1).getNode(i).getString(0) != "null") {
+                totalString+=(n.getNode(1).getNode(i).getString(0) +" ");
+            }
+        }
+        //Declarators
+        for(int i=0;i<n.getNode(2).size();i++){
+            if (n.get(2) != null && n.getNode(2).get(i) != null && n.getNode(2).getNode(i).getString(0) != "null"){
+                totalString += (n.getNode(2).getNode(i).getString(0));
+                if(n.getNode(2).getNode(i).get(2) != null ){
+                    if (n.getNode(2).getNode(i).getNode(2).getName().equals("IntegerLiteral"))
+                        totalString += (" = " + n.getNode(2).getNode(i).getNode(2).getString(0) );
+                    else
+                        totalString += (" = " + "__rt::literal(" + n.getNode(2).getNode(i).getNode(2).getString(0) + ")");
+                }
+
+            }
+        }
+        return totalString;
+    }
+
+    /**
+     * @param n A MethodDeclaration or FieldDeclaration node
+     */
+    static boolean isStatic(Node n) {
+        for (Object o : n.getNode(0)) {
+            if ("static".equals(((Node)o).get(0))) return true;
+        }
+        return false;
+    }
+}
@@ -217,7 +217,7 @@ public final class CFactoryParser extends ParserBase {
                 yyError  = yyResult.select(yyError);
                 if (yyResult.hasValue()) {
 
-                  yyValue = GNode.create("Factory", v$g$1, v$g$2);
+                  yyValue = GNode.create(KIND_Factory, v$g$1, v$g$2);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -607,7 +607,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyRepeated1) {
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("Methods", v$g$1);
+      yyValue = GNode.createFromPair(KIND_Methods, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -652,7 +652,7 @@ public final class CFactoryParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue("}")) {
 
-            yyValue = GNode.create("Method", v$g$1, v$g$2);
+            yyValue = GNode.create(KIND_Method, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -745,7 +745,7 @@ public final class CFactoryParser extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$5 = yyResult.semanticValue();
 
-                yyValue = GNode.create("FunctionDefinition", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+                yyValue = GNode.create(KIND_FunctionDefinition, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -800,7 +800,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyRepeated1) {
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("DeclarationList", v$g$1);
+      yyValue = GNode.createFromPair(KIND_DeclarationList, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -935,7 +935,7 @@ public final class CFactoryParser extends ParserBase {
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue(";")) {
 
-              yyValue = GNode.create("Declaration", v$g$1, v$g$2, l);
+              yyValue = GNode.create(KIND_Declaration, v$g$1, v$g$2, l);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -986,7 +986,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("DeclarationSpecifiers", v$g$1);
+      yyValue = GNode.createFromPair(KIND_DeclarationSpecifiers, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1100,7 +1100,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue("inline")) {
       final String v$g$1 = "inline";
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$1);
+      yyValue = GNode.create(KIND_FunctionSpecifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1112,7 +1112,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue("__inline")) {
       final String v$g$2 = "__inline";
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$2);
+      yyValue = GNode.create(KIND_FunctionSpecifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1124,7 +1124,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue("__inline__")) {
       final String v$g$3 = "__inline__";
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$3);
+      yyValue = GNode.create(KIND_FunctionSpecifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1196,7 +1196,7 @@ public final class CFactoryParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("InitializedDeclaratorList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_InitializedDeclaratorList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -1294,7 +1294,7 @@ public final class CFactoryParser extends ParserBase {
             { // Start scope for v$g$5.
               final Node v$g$5 = yyOpValue1;
 
-              yyValue = GNode.create("InitializedDeclarator", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+              yyValue = GNode.create(KIND_InitializedDeclarator, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyOption1, yyError);
@@ -1329,7 +1329,7 @@ public final class CFactoryParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("auto")) {
 
-      yyValue = GNode.create("AutoSpecifier", false);
+      yyValue = GNode.create(KIND_AutoSpecifier, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1340,7 +1340,7 @@ public final class CFactoryParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("extern")) {
 
-      yyValue = GNode.create("ExternSpecifier", false);
+      yyValue = GNode.create(KIND_ExternSpecifier, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1351,7 +1351,7 @@ public final class CFactoryParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("register")) {
 
-      yyValue = GNode.create("RegisterSpecifier", false);
+      yyValue = GNode.create(KIND_RegisterSpecifier, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1362,7 +1362,7 @@ public final class CFactoryParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("static")) {
 
-      yyValue = GNode.create("StaticSpecifier", false);
+      yyValue = GNode.create(KIND_StaticSpecifier, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1373,7 +1373,7 @@ public final class CFactoryParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("__thread")) {
 
-      yyValue = GNode.create("ThreadSpecifier", false);
+      yyValue = GNode.create(KIND_ThreadSpecifier, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1388,7 +1388,7 @@ public final class CFactoryParser extends ParserBase {
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
 
-        yyValue = GNode.create("TypedefSpecifier", false);
+        yyValue = GNode.create(KIND_TypedefSpecifier, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -1420,7 +1420,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue("volatile")) {
       final String v$g$1 = "volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$1);
+      yyValue = GNode.create(KIND_VolatileQualifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1432,7 +1432,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue("__volatile")) {
       final String v$g$2 = "__volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$2);
+      yyValue = GNode.create(KIND_VolatileQualifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1444,7 +1444,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue("__volatile__")) {
       final String v$g$3 = "__volatile__";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$3);
+      yyValue = GNode.create(KIND_VolatileQualifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1456,7 +1456,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue("const")) {
       final String v$g$1 = "const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$1);
+      yyValue = GNode.create(KIND_ConstantQualifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1468,7 +1468,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue("__const")) {
       final String v$g$2 = "__const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$2);
+      yyValue = GNode.create(KIND_ConstantQualifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1480,7 +1480,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue("__const__")) {
       final String v$g$3 = "__const__";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$3);
+      yyValue = GNode.create(KIND_ConstantQualifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1492,7 +1492,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue("restrict")) {
       final String v$g$1 = "restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$1);
+      yyValue = GNode.create(KIND_RestrictQualifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1504,7 +1504,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue("__restrict")) {
       final String v$g$2 = "__restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$2);
+      yyValue = GNode.create(KIND_RestrictQualifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1516,7 +1516,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue("__restrict__")) {
       final String v$g$3 = "__restrict__";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$3);
+      yyValue = GNode.create(KIND_RestrictQualifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1601,7 +1601,7 @@ public final class CFactoryParser extends ParserBase {
 
       if (yyState.isType(toText(id))) {
 
-        yyValue = GNode.create("TypedefName", id);
+        yyValue = GNode.create(KIND_TypedefName, id);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -1631,7 +1631,7 @@ public final class CFactoryParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.create("TypeofSpecifier", v$g$1);
+            yyValue = GNode.create(KIND_TypeofSpecifier, v$g$1);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -1651,7 +1651,7 @@ public final class CFactoryParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.create("TypeofSpecifier", v$g$2);
+            yyValue = GNode.create(KIND_TypeofSpecifier, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -1669,7 +1669,7 @@ public final class CFactoryParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("void")) {
 
-      yyValue = GNode.create("VoidTypeSpecifier", false);
+      yyValue = GNode.create(KIND_VoidTypeSpecifier, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1680,7 +1680,7 @@ public final class CFactoryParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("__builtin_va_list")) {
 
-      yyValue = GNode.create("VarArgListSpecifier", false);
+      yyValue = GNode.create(KIND_VarArgListSpecifier, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1785,7 +1785,7 @@ public final class CFactoryParser extends ParserBase {
                 { // Start scope for v$g$4.
                   final Node v$g$4 = cast(yyOpValue1);
 
-                  yyValue = GNode.create("EnumerationTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
+                  yyValue = GNode.create(KIND_EnumerationTypeDefinition, v$g$1, v$g$2, v$g$3, v$g$4);
                   yyValue.setLocation(location(yyStart));
 
                   return new SemanticValue(yyValue, yyOption1, yyError);
@@ -1806,7 +1806,7 @@ public final class CFactoryParser extends ParserBase {
         if (yyResult.hasValue()) {
           final String v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("EnumerationTypeReference", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_EnumerationTypeReference, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -1868,7 +1868,7 @@ public final class CFactoryParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("EnumeratorList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_EnumeratorList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -1926,7 +1926,7 @@ public final class CFactoryParser extends ParserBase {
       { // Start scope for v$g$1.
         final Node v$g$1 = yyOpValue1;
 
-        yyValue = GNode.create("Enumerator", id, v$g$1);
+        yyValue = GNode.create(KIND_Enumerator, id, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -2036,7 +2036,7 @@ public final class CFactoryParser extends ParserBase {
                         { // Start scope for v$g$4.
                           final Node v$g$4 = cast(yyOpValue1);
 
-                          yyValue = GNode.create("StructureTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
+                          yyValue = GNode.create(KIND_StructureTypeDefinition, v$g$1, v$g$2, v$g$3, v$g$4);
                           yyValue.setLocation(location(yyStart));
 
                           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -2061,7 +2061,7 @@ public final class CFactoryParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Object v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("StructureTypeReference", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_StructureTypeReference, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2211,7 +2211,7 @@ public final class CFactoryParser extends ParserBase {
                         { // Start scope for v$g$4.
                           final Node v$g$4 = cast(yyOpValue1);
 
-                          yyValue = GNode.create("UnionTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
+                          yyValue = GNode.create(KIND_UnionTypeDefinition, v$g$1, v$g$2, v$g$3, v$g$4);
                           yyValue.setLocation(location(yyStart));
 
                           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -2236,7 +2236,7 @@ public final class CFactoryParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Object v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("UnionTypeReference", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_UnionTypeReference, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2296,7 +2296,7 @@ public final class CFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("StructureDeclarationList", v$g$1.size() + 1).
+        yyValue = GNode.create(KIND_StructureDeclarationList, v$g$1.size() + 1).
           addAll(v$g$1).add(v$g$2);
         yyValue.setLocation(location(yyStart));
 
@@ -2313,7 +2313,7 @@ public final class CFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$3 = yyResult.semanticValue();
 
-        yyValue = GNode.create("StructureDeclarationList", v$g$3);
+        yyValue = GNode.create(KIND_StructureDeclarationList, v$g$3);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -2447,7 +2447,7 @@ public final class CFactoryParser extends ParserBase {
               }
             }
 
-            yyValue = GNode.create("StructureDeclaration", v$g$1, v$g$2, v$g$3);
+            yyValue = GNode.create(KIND_StructureDeclaration, v$g$1, v$g$2, v$g$3);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyOption1, yyError);
@@ -2517,7 +2517,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("SpecifierQualifierList", v$g$1);
+      yyValue = GNode.createFromPair(KIND_SpecifierQualifierList, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -2721,7 +2721,7 @@ public final class CFactoryParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("StructureDeclaratorList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_StructureDeclaratorList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -2801,7 +2801,7 @@ public final class CFactoryParser extends ParserBase {
             { // Start scope for v$g$4.
               final Node v$g$4 = yyOpValue1;
 
-              yyValue = GNode.create("BitField", v$g$1, v$g$2, v$g$3, v$g$4);
+              yyValue = GNode.create(KIND_BitField, v$g$1, v$g$2, v$g$3, v$g$4);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyOption1, yyError);
@@ -2889,7 +2889,7 @@ public final class CFactoryParser extends ParserBase {
         { // Start scope for v$g$3.
           final Node v$g$3 = yyOpValue1;
 
-          yyValue = GNode.create("AttributedDeclarator", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_AttributedDeclarator, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -2974,7 +2974,7 @@ public final class CFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("PointerDeclarator", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_PointerDeclarator, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -3034,7 +3034,7 @@ public final class CFactoryParser extends ParserBase {
         { // Start scope for v$g$2.
           final Node v$g$2 = yyOpValue1;
 
-          yyValue = GNode.create("Pointer", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_Pointer, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -3083,7 +3083,7 @@ public final class CFactoryParser extends ParserBase {
     { // Start scope for v$g$1.
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("TypeQualifierList", v$g$1);
+      yyValue = GNode.createFromPair(KIND_TypeQualifierList, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -3272,7 +3272,7 @@ public final class CFactoryParser extends ParserBase {
 
               yyValue = new Action<Node>() {
                 public Node run(Node v$1) {
-                  return GNode.create("FunctionDeclarator", v$1, v$g$2);
+                  return GNode.create(KIND_FunctionDeclarator, v$1, v$g$2);
                 }};
 
               return yyResult.createValue(yyValue, yyError);
@@ -3308,7 +3308,7 @@ public final class CFactoryParser extends ParserBase {
 
               yyValue = new Action<Node>() {
                 public Node run(Node v$1) {
-                  return GNode.create("FunctionDeclarator", v$1, v$g$3);
+                  return GNode.create(KIND_FunctionDeclarator, v$1, v$g$3);
                 }};
 
               return yyResult.createValue(yyValue, yyError);
@@ -3354,7 +3354,7 @@ public final class CFactoryParser extends ParserBase {
 
             yyValue = new Action<Node>() {
               public Node run(Node v$1) {
-                return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$5);
+                return GNode.create(KIND_ArrayDeclarator, v$1, v$g$4, v$g$5);
               }};
 
             return yyResult.createValue(yyValue, yyError);
@@ -3376,7 +3376,7 @@ public final class CFactoryParser extends ParserBase {
 
             yyValue = new Action<Node>() {
               public Node run(Node v$1) {
-                return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$6);
+                return GNode.create(KIND_ArrayDeclarator, v$1, v$g$4, v$g$6);
               }};
 
             return yyResult.createValue(yyValue, yyError);
@@ -3420,7 +3420,7 @@ public final class CFactoryParser extends ParserBase {
     yyResult = pSymbol(yyStart);
     if (yyResult.hasValue("*")) {
 
-      yyValue = GNode.create("VariableLength", false);
+      yyValue = GNode.create(KIND_VariableLength, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -3452,7 +3452,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("SimpleDeclarator", v$g$1);
+      yyValue = GNode.create(KIND_SimpleDeclarator, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -3467,7 +3467,7 @@ public final class CFactoryParser extends ParserBase {
 
       yyState.bind(toText(id));
 
-      yyValue = GNode.create("SimpleDeclarator", id);
+      yyValue = GNode.create(KIND_SimpleDeclarator, id);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -3533,7 +3533,7 @@ public final class CFactoryParser extends ParserBase {
       { // Start scope for v$g$2.
         final String v$g$2 = yyOpValue1;
 
-        yyValue = GNode.create("ParameterTypeList", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_ParameterTypeList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -3593,7 +3593,7 @@ public final class CFactoryParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("ParameterList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_ParameterList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -3653,7 +3653,7 @@ public final class CFactoryParser extends ParserBase {
         { // Start scope for v$g$3.
           final Node v$g$3 = yyOpValue1;
 
-          yyValue = GNode.create("ParameterDeclaration", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_ParameterDeclaration, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           // Commit the state modification.
@@ -3692,7 +3692,7 @@ public final class CFactoryParser extends ParserBase {
         { // Start scope for v$g$5.
           final Node v$g$5 = yyOpValue1;
 
-          yyValue = GNode.create("ParameterDeclaration", v$g$1, v$g$4, v$g$5);
+          yyValue = GNode.create(KIND_ParameterDeclaration, v$g$1, v$g$4, v$g$5);
           yyValue.setLocation(location(yyStart));
 
           // Commit the state modification.
@@ -3749,7 +3749,7 @@ public final class CFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("AttributedAbstractDeclarator", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_AttributedAbstractDeclarator, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -3808,7 +3808,7 @@ public final class CFactoryParser extends ParserBase {
 
         if ((null != p) || (null != d)) {
 
-          yyValue = GNode.create("AbstractDeclarator", p, d);
+          yyValue = GNode.create(KIND_AbstractDeclarator, p, d);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -3958,7 +3958,7 @@ public final class CFactoryParser extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$3);
+              return GNode.create(KIND_DirectAbstractDeclarator, v$1, v$g$2, v$g$3);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -3980,7 +3980,7 @@ public final class CFactoryParser extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$4);
+              return GNode.create(KIND_DirectAbstractDeclarator, v$1, v$g$2, v$g$4);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -4016,7 +4016,7 @@ public final class CFactoryParser extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$5, v$g$6);
+              return GNode.create(KIND_DirectAbstractDeclarator, v$1, v$g$5, v$g$6);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -4084,7 +4084,7 @@ public final class CFactoryParser extends ParserBase {
       { // Start scope for v$g$1.
         final Pair<String> v$g$1 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("IdentifierList", id1, v$g$1);
+        yyValue = GNode.createFromPair(KIND_IdentifierList, id1, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -4131,7 +4131,7 @@ public final class CFactoryParser extends ParserBase {
     { // Start scope for v$g$1.
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("ArrayQualifierList", v$g$1);
+      yyValue = GNode.createFromPair(KIND_ArrayQualifierList, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -4160,7 +4160,7 @@ public final class CFactoryParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("static")) {
 
-      yyValue = GNode.create("StaticSpecifier", false);
+      yyValue = GNode.create(KIND_StaticSpecifier, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4172,7 +4172,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue("volatile")) {
       final String v$g$1 = "volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$1);
+      yyValue = GNode.create(KIND_VolatileQualifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4184,7 +4184,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue("__volatile")) {
       final String v$g$2 = "__volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$2);
+      yyValue = GNode.create(KIND_VolatileQualifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4196,7 +4196,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue("__volatile__")) {
       final String v$g$3 = "__volatile__";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$3);
+      yyValue = GNode.create(KIND_VolatileQualifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4208,7 +4208,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue("restrict")) {
       final String v$g$1 = "restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$1);
+      yyValue = GNode.create(KIND_RestrictQualifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4220,7 +4220,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue("__restrict")) {
       final String v$g$2 = "__restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$2);
+      yyValue = GNode.create(KIND_RestrictQualifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4232,7 +4232,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue("__restrict__")) {
       final String v$g$3 = "__restrict__";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$3);
+      yyValue = GNode.create(KIND_RestrictQualifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4244,7 +4244,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue("const")) {
       final String v$g$1 = "const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$1);
+      yyValue = GNode.create(KIND_ConstantQualifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4256,7 +4256,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue("__const")) {
       final String v$g$2 = "__const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$2);
+      yyValue = GNode.create(KIND_ConstantQualifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4268,7 +4268,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue("__const__")) {
       final String v$g$3 = "__const__";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$3);
+      yyValue = GNode.create(KIND_ConstantQualifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4311,7 +4311,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue("_Complex")) {
       final String v$g$1 = "_Complex";
 
-      yyValue = GNode.create("Complex", v$g$1);
+      yyValue = GNode.create(KIND_Complex, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4323,7 +4323,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue("__complex__")) {
       final String v$g$2 = "__complex__";
 
-      yyValue = GNode.create("Complex", v$g$2);
+      yyValue = GNode.create(KIND_Complex, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4334,7 +4334,7 @@ public final class CFactoryParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("double")) {
 
-      yyValue = GNode.create("Double", false);
+      yyValue = GNode.create(KIND_Double, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4345,7 +4345,7 @@ public final class CFactoryParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("float")) {
 
-      yyValue = GNode.create("Float", false);
+      yyValue = GNode.create(KIND_Float, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4375,7 +4375,7 @@ public final class CFactoryParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("long")) {
 
-      yyValue = GNode.create("Long", false);
+      yyValue = GNode.create(KIND_Long, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4386,7 +4386,7 @@ public final class CFactoryParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("int")) {
 
-      yyValue = GNode.create("Int", false);
+      yyValue = GNode.create(KIND_Int, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4397,7 +4397,7 @@ public final class CFactoryParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("short")) {
 
-      yyValue = GNode.create("Short", false);
+      yyValue = GNode.create(KIND_Short, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4408,7 +4408,7 @@ public final class CFactoryParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("char")) {
 
-      yyValue = GNode.create("Char", false);
+      yyValue = GNode.create(KIND_Char, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4419,7 +4419,7 @@ public final class CFactoryParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("_Bool")) {
 
-      yyValue = GNode.create("Bool", false);
+      yyValue = GNode.create(KIND_Bool, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4430,7 +4430,7 @@ public final class CFactoryParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("unsigned")) {
 
-      yyValue = GNode.create("Unsigned", false);
+      yyValue = GNode.create(KIND_Unsigned, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4442,7 +4442,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue("signed")) {
       final String v$g$1 = "signed";
 
-      yyValue = GNode.create("Signed", v$g$1);
+      yyValue = GNode.create(KIND_Signed, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4454,7 +4454,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue("__signed")) {
       final String v$g$2 = "__signed";
 
-      yyValue = GNode.create("Signed", v$g$2);
+      yyValue = GNode.create(KIND_Signed, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4466,7 +4466,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue("__signed__")) {
       final String v$g$3 = "__signed__";
 
-      yyValue = GNode.create("Signed", v$g$3);
+      yyValue = GNode.create(KIND_Signed, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4638,7 +4638,7 @@ public final class CFactoryParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("InitializerList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_InitializerList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -4649,7 +4649,7 @@ public final class CFactoryParser extends ParserBase {
 
     if (GCC) {
 
-      yyValue = GNode.create("InitializerList", false);
+      yyValue = GNode.create(KIND_InitializerList, false);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyStart, yyError);
@@ -4697,7 +4697,7 @@ public final class CFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("InitializerListEntry", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_InitializerListEntry, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -4753,7 +4753,7 @@ public final class CFactoryParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue("=")) {
 
-        yyValue = GNode.createFromPair("Designation", v$g$1);
+        yyValue = GNode.createFromPair(KIND_Designation, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -4824,7 +4824,7 @@ public final class CFactoryParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue("]")) {
 
-          yyValue = GNode.create("Designator", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_Designator, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -4860,7 +4860,7 @@ public final class CFactoryParser extends ParserBase {
               yyResult = pSymbol(yyBase);
               if (yyResult.hasValue("]")) {
 
-                yyValue = GNode.create("Designator", v$g$3, v$g$4, v$g$5);
+                yyValue = GNode.create(KIND_Designator, v$g$3, v$g$4, v$g$5);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -4886,7 +4886,7 @@ public final class CFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$7 = yyResult.semanticValue();
 
-        yyValue = GNode.create("Designator", v$g$6, v$g$7);
+        yyValue = GNode.create(KIND_Designator, v$g$6, v$g$7);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -4934,7 +4934,7 @@ public final class CFactoryParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue("]")) {
 
-          yyValue = GNode.create("ObsoleteArrayDesignation", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_ObsoleteArrayDesignation, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -4957,7 +4957,7 @@ public final class CFactoryParser extends ParserBase {
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue("]")) {
 
-              yyValue = GNode.create("ObsoleteArrayDesignation", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_ObsoleteArrayDesignation, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -5004,7 +5004,7 @@ public final class CFactoryParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(":")) {
 
-        yyValue = GNode.create("ObsoleteFieldDesignation", v$g$1);
+        yyValue = GNode.create(KIND_ObsoleteFieldDesignation, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5066,7 +5066,7 @@ public final class CFactoryParser extends ParserBase {
       { // Start scope for v$g$2.
         final Node v$g$2 = yyOpValue1;
 
-        yyValue = GNode.create("TypeName", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_TypeName, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         // Commit the state modification.
@@ -5117,7 +5117,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("AttributeSpecifierList", v$g$1);
+      yyValue = GNode.createFromPair(KIND_AttributeSpecifierList, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -5238,7 +5238,7 @@ public final class CFactoryParser extends ParserBase {
               yyResult = pSymbol(yyBase);
               if (yyResult.hasValue(")")) {
 
-                yyValue = GNode.create("AttributeSpecifier", v$g$1);
+                yyValue = GNode.create(KIND_AttributeSpecifier, v$g$1);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -5349,7 +5349,7 @@ public final class CFactoryParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("AttributeList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_AttributeList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -5423,7 +5423,7 @@ public final class CFactoryParser extends ParserBase {
       { // Start scope for v$g$2.
         final Node v$g$2 = yyOpValue1;
 
-        yyValue = GNode.create("AttributeListEntry", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_AttributeListEntry, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -5471,7 +5471,7 @@ public final class CFactoryParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(";")) {
 
-        yyValue = GNode.create("ExpressionStatement", v$g$1);
+        yyValue = GNode.create(KIND_ExpressionStatement, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5526,7 +5526,7 @@ public final class CFactoryParser extends ParserBase {
                 if (yyResult.hasValue()) {
                   final Node v$g$3 = yyResult.semanticValue();
 
-                  yyValue = GNode.create("IfElseStatement", v$g$1, v$g$2, v$g$3);
+                  yyValue = GNode.create(KIND_IfElseStatement, v$g$1, v$g$2, v$g$3);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -5537,7 +5537,7 @@ public final class CFactoryParser extends ParserBase {
 
               // Nested alternative 2.
 
-              yyValue = GNode.create("IfStatement", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_IfStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyChoice1, yyError);
@@ -5574,7 +5574,7 @@ public final class CFactoryParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_WhileStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -5619,7 +5619,7 @@ public final class CFactoryParser extends ParserBase {
                 yyResult = pSymbol(yyBase);
                 if (yyResult.hasValue(";")) {
 
-                  yyValue = GNode.create("DoStatement", v$g$1, v$g$2);
+                  yyValue = GNode.create(KIND_DoStatement, v$g$1, v$g$2);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -5702,7 +5702,7 @@ public final class CFactoryParser extends ParserBase {
                       yyError  = yyResult.select(yyError);
                       if (yyResult.hasValue()) {
 
-                        yyValue = GNode.create("ForStatement", v$g$1, v$g$2, v$g$3, v$g$4);
+                        yyValue = GNode.create(KIND_ForStatement, v$g$1, v$g$2, v$g$3, v$g$4);
                         yyValue.setLocation(location(yyStart));
 
                         return yyResult.createValue(yyValue, yyError);
@@ -5746,7 +5746,7 @@ public final class CFactoryParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("SwitchStatement", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_SwitchStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -5772,7 +5772,7 @@ public final class CFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("LabeledStatement", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_LabeledStatement, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5788,7 +5788,7 @@ public final class CFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$3 = yyResult.semanticValue();
 
-        yyValue = GNode.create("LabeledStatement", v$g$3, null);
+        yyValue = GNode.create(KIND_LabeledStatement, v$g$3, null);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5804,7 +5804,7 @@ public final class CFactoryParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(";")) {
 
-        yyValue = GNode.create("BreakStatement", false);
+        yyValue = GNode.create(KIND_BreakStatement, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5822,7 +5822,7 @@ public final class CFactoryParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(";")) {
 
-        yyValue = GNode.create("ContinueStatement", false);
+        yyValue = GNode.create(KIND_ContinueStatement, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5854,7 +5854,7 @@ public final class CFactoryParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("ReturnStatement", v$g$1);
+          yyValue = GNode.create(KIND_ReturnStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -5882,7 +5882,7 @@ public final class CFactoryParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("GotoStatement", null, v$g$2);
+          yyValue = GNode.create(KIND_GotoStatement, null, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -5902,7 +5902,7 @@ public final class CFactoryParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("GotoStatement", null, v$g$3);
+          yyValue = GNode.create(KIND_GotoStatement, null, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -5933,7 +5933,7 @@ public final class CFactoryParser extends ParserBase {
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue(";")) {
 
-              yyValue = GNode.create("GotoStatement", v$g$4, v$g$5);
+              yyValue = GNode.create(KIND_GotoStatement, v$g$4, v$g$5);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -5985,7 +5985,7 @@ public final class CFactoryParser extends ParserBase {
               if (yyResult.hasValue(";")) {
                 final String v$g$3 = ";";
 
-                yyValue = GNode.create("AssemblyStatement", v$g$1, v$g$2, v$g$3);
+                yyValue = GNode.create(KIND_AssemblyStatement, v$g$1, v$g$2, v$g$3);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -6007,7 +6007,7 @@ public final class CFactoryParser extends ParserBase {
     yyResult = pSymbol(yyStart);
     if (yyResult.hasValue(";")) {
 
-      yyValue = GNode.create("EmptyStatement", false);
+      yyValue = GNode.create(KIND_EmptyStatement, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6060,7 +6060,7 @@ public final class CFactoryParser extends ParserBase {
         { // Start scope for v$g$2.
           final Node v$g$2 = yyOpValue1;
 
-          yyValue = GNode.create("NamedLabel", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_NamedLabel, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -6095,7 +6095,7 @@ public final class CFactoryParser extends ParserBase {
         { // Start scope for v$g$4.
           final Node v$g$4 = yyOpValue1;
 
-          yyValue = GNode.create("NamedLabel", v$g$3, v$g$4);
+          yyValue = GNode.create(KIND_NamedLabel, v$g$3, v$g$4);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -6130,7 +6130,7 @@ public final class CFactoryParser extends ParserBase {
               yyResult = pSymbol(yyBase);
               if (yyResult.hasValue(":")) {
 
-                yyValue = GNode.create("CaseLabel", v$g$1, v$g$2);
+                yyValue = GNode.create(KIND_CaseLabel, v$g$1, v$g$2);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -6159,7 +6159,7 @@ public final class CFactoryParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(":")) {
 
-          yyValue = GNode.create("CaseLabel", v$g$3);
+          yyValue = GNode.create(KIND_CaseLabel, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -6178,7 +6178,7 @@ public final class CFactoryParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(":")) {
 
-        yyValue = GNode.create("DefaultLabel", false);
+        yyValue = GNode.create(KIND_DefaultLabel, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -6248,7 +6248,7 @@ public final class CFactoryParser extends ParserBase {
                 yyError  = yyResult.select(yyError);
                 if (yyResult.hasValue()) {
 
-                  yyValue = GNode.create("CompoundStatement", v$g$1.size() + v$g$2.size() + 1).
+                  yyValue = GNode.create(KIND_CompoundStatement, v$g$1.size() + v$g$2.size() + 1).
                     addAll(v$g$1).addAll(v$g$2).add(v$g$3);
                   yyValue.setLocation(location(yyStart));
 
@@ -6368,7 +6368,7 @@ public final class CFactoryParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(";")) {
 
-            yyValue = GNode.createFromPair("LocalLabelDeclaration", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_LocalLabelDeclaration, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -6675,7 +6675,7 @@ public final class CFactoryParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("CommaExpression", v$1, v$g$2);
+            return GNode.create(KIND_CommaExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -6729,7 +6729,7 @@ public final class CFactoryParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$3 = yyResult.semanticValue();
 
-          yyValue = GNode.create("AssignmentExpression", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_AssignmentExpression, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -6922,7 +6922,7 @@ public final class CFactoryParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("ConditionalExpression", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_ConditionalExpression, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -6958,7 +6958,7 @@ public final class CFactoryParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$6 = yyResult.semanticValue();
 
-              yyValue = GNode.create("ConditionalExpression", v$g$4, null, v$g$6);
+              yyValue = GNode.create(KIND_ConditionalExpression, v$g$4, null, v$g$6);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -7077,7 +7077,7 @@ public final class CFactoryParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("LogicalOrExpression", v$1, v$g$2);
+            return GNode.create(KIND_LogicalOrExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -7169,7 +7169,7 @@ public final class CFactoryParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("LogicalAndExpression", v$1, v$g$2);
+            return GNode.create(KIND_LogicalAndExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -7260,7 +7260,7 @@ public final class CFactoryParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseOrExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseOrExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -7352,7 +7352,7 @@ public final class CFactoryParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseXorExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseXorExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -7444,7 +7444,7 @@ public final class CFactoryParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseAndExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseAndExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -7537,7 +7537,7 @@ public final class CFactoryParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("EqualityExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_EqualityExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -7667,7 +7667,7 @@ public final class CFactoryParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("RelationalExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_RelationalExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -7814,7 +7814,7 @@ public final class CFactoryParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("ShiftExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_ShiftExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -7943,7 +7943,7 @@ public final class CFactoryParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("AdditiveExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_AdditiveExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -8075,7 +8075,7 @@ public final class CFactoryParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("MultiplicativeExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_MultiplicativeExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -8177,7 +8177,7 @@ public final class CFactoryParser extends ParserBase {
           if (yyResult.hasValue()) {
             final Node v$g$2 = yyResult.semanticValue();
 
-            yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
+            yyValue = GNode.create(KIND_CastExpression, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -8261,7 +8261,7 @@ public final class CFactoryParser extends ParserBase {
 
             if (! yyPredMatched) {
 
-              yyValue = GNode.create("SizeofExpression", v$g$1);
+              yyValue = GNode.create(KIND_SizeofExpression, v$g$1);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -8283,7 +8283,7 @@ public final class CFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("SizeofExpression", v$g$2);
+        yyValue = GNode.create(KIND_SizeofExpression, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8323,7 +8323,7 @@ public final class CFactoryParser extends ParserBase {
 
             if (! yyPredMatched) {
 
-              yyValue = GNode.create("AlignofExpression", v$g$1);
+              yyValue = GNode.create(KIND_AlignofExpression, v$g$1);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -8345,7 +8345,7 @@ public final class CFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("AlignofExpression", v$g$2);
+        yyValue = GNode.create(KIND_AlignofExpression, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8379,7 +8379,7 @@ public final class CFactoryParser extends ParserBase {
               yyResult = pSymbol(yyBase);
               if (yyResult.hasValue(")")) {
 
-                yyValue = GNode.create("OffsetofExpression", v$g$1, v$g$2);
+                yyValue = GNode.create(KIND_OffsetofExpression, v$g$1, v$g$2);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -8423,7 +8423,7 @@ public final class CFactoryParser extends ParserBase {
               yyResult = pSymbol(yyBase);
               if (yyResult.hasValue(")")) {
 
-                yyValue = GNode.create("TypeCompatibilityExpression", v$g$1, v$g$2);
+                yyValue = GNode.create(KIND_TypeCompatibilityExpression, v$g$1, v$g$2);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -8450,7 +8450,7 @@ public final class CFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryMinusExpression", v$g$1);
+        yyValue = GNode.create(KIND_UnaryMinusExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8467,7 +8467,7 @@ public final class CFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryPlusExpression", v$g$1);
+        yyValue = GNode.create(KIND_UnaryPlusExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8484,7 +8484,7 @@ public final class CFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("LogicalNegationExpression", v$g$1);
+        yyValue = GNode.create(KIND_LogicalNegationExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8501,7 +8501,7 @@ public final class CFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
+        yyValue = GNode.create(KIND_BitwiseNegationExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8518,7 +8518,7 @@ public final class CFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("AddressExpression", v$g$1);
+        yyValue = GNode.create(KIND_AddressExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8541,7 +8541,7 @@ public final class CFactoryParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$1 = yyResult.semanticValue();
 
-          yyValue = GNode.create("LabelAddressExpression", v$g$1);
+          yyValue = GNode.create(KIND_LabelAddressExpression, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -8554,7 +8554,7 @@ public final class CFactoryParser extends ParserBase {
         if (yyResult.hasValue()) {
           final String v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("LabelAddressExpression", v$g$2);
+          yyValue = GNode.create(KIND_LabelAddressExpression, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -8572,7 +8572,7 @@ public final class CFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("IndirectionExpression", v$g$1);
+        yyValue = GNode.create(KIND_IndirectionExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8589,7 +8589,7 @@ public final class CFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("PreincrementExpression", v$g$1);
+        yyValue = GNode.create(KIND_PreincrementExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8606,7 +8606,7 @@ public final class CFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("PredecrementExpression", v$g$1);
+        yyValue = GNode.create(KIND_PredecrementExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8625,7 +8625,7 @@ public final class CFactoryParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$1 = yyResult.semanticValue();
 
-          yyValue = GNode.create("ExtensionExpression", v$g$1);
+          yyValue = GNode.create(KIND_ExtensionExpression, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -8804,7 +8804,7 @@ public final class CFactoryParser extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("SubscriptExpression", v$1, v$g$2);
+              return GNode.create(KIND_SubscriptExpression, v$1, v$g$2);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -8826,7 +8826,7 @@ public final class CFactoryParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("DirectComponentSelection", v$1, v$g$3);
+            return GNode.create(KIND_DirectComponentSelection, v$1, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -8845,7 +8845,7 @@ public final class CFactoryParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("IndirectComponentSelection", v$1, v$g$4);
+            return GNode.create(KIND_IndirectComponentSelection, v$1, v$g$4);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -8868,7 +8868,7 @@ public final class CFactoryParser extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("FunctionCall", v$1, v$g$5);
+              return GNode.create(KIND_FunctionCall, v$1, v$g$5);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -8890,7 +8890,7 @@ public final class CFactoryParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("DirectComponentSelection", v$1, v$g$6);
+            return GNode.create(KIND_DirectComponentSelection, v$1, v$g$6);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -8909,7 +8909,7 @@ public final class CFactoryParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("IndirectComponentSelection", v$1, v$g$7);
+            return GNode.create(KIND_IndirectComponentSelection, v$1, v$g$7);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -8941,7 +8941,7 @@ public final class CFactoryParser extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("FunctionCall", v$1, v$g$8);
+              return GNode.create(KIND_FunctionCall, v$1, v$g$8);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -8958,7 +8958,7 @@ public final class CFactoryParser extends ParserBase {
 
       yyValue = new Action<Node>() {
         public Node run(Node v$1) {
-          return GNode.create("PostincrementExpression", v$1);
+          return GNode.create(KIND_PostincrementExpression, v$1);
         }};
 
       return yyResult.createValue(yyValue, yyError);
@@ -8971,7 +8971,7 @@ public final class CFactoryParser extends ParserBase {
 
       yyValue = new Action<Node>() {
         public Node run(Node v$1) {
-          return GNode.create("PostdecrementExpression", v$1);
+          return GNode.create(KIND_PostdecrementExpression, v$1);
         }};
 
       return yyResult.createValue(yyValue, yyError);
@@ -9017,7 +9017,7 @@ public final class CFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.createFromPair("ExpressionList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_ExpressionList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -9138,7 +9138,7 @@ public final class CFactoryParser extends ParserBase {
               yyResult = pSymbol(yyBase);
               if (yyResult.hasValue("}")) {
 
-                yyValue = GNode.create("CompoundLiteral", v$g$1, v$g$2);
+                yyValue = GNode.create(KIND_CompoundLiteral, v$g$1, v$g$2);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -9202,7 +9202,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimaryIdentifier", v$g$1);
+      yyValue = GNode.create(KIND_PrimaryIdentifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9224,7 +9224,7 @@ public final class CFactoryParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.create("StatementAsExpression", v$g$1);
+            yyValue = GNode.create(KIND_StatementAsExpression, v$g$1);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -9262,7 +9262,7 @@ public final class CFactoryParser extends ParserBase {
               yyResult = pSymbol(yyBase);
               if (yyResult.hasValue(")")) {
 
-                yyValue = GNode.create("VariableArgumentAccess", v$g$1, v$g$2);
+                yyValue = GNode.create(KIND_VariableArgumentAccess, v$g$1, v$g$2);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -9326,7 +9326,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimaryIdentifier", v$g$1);
+      yyValue = GNode.create(KIND_PrimaryIdentifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9372,7 +9372,7 @@ public final class CFactoryParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.create("SimpleAssemblyExpression", v$g$1);
+            yyValue = GNode.create(KIND_SimpleAssemblyExpression, v$g$1);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -9470,7 +9470,7 @@ public final class CFactoryParser extends ParserBase {
                 if (yyResult.hasValue()) {
                   final Node v$g$4 = yyResult.semanticValue();
 
-                  yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2, v$g$3, v$g$4);
+                  yyValue = GNode.create(KIND_AssemblyArgument, v$g$1, v$g$2, v$g$3, v$g$4);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -9481,7 +9481,7 @@ public final class CFactoryParser extends ParserBase {
 
               // Nested alternative 2.
 
-              yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_AssemblyArgument, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyChoice3, yyError);
@@ -9492,7 +9492,7 @@ public final class CFactoryParser extends ParserBase {
 
           // Nested alternative 2.
 
-          yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_AssemblyArgument, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyChoice2, yyError);
@@ -9503,7 +9503,7 @@ public final class CFactoryParser extends ParserBase {
 
       // Nested alternative 2.
 
-      yyValue = GNode.create("AssemblyArgument", v$g$1);
+      yyValue = GNode.create(KIND_AssemblyArgument, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyChoice1, yyError);
@@ -9548,7 +9548,7 @@ public final class CFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.createFromPair("AssemblyOperands", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_AssemblyOperands, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -9689,7 +9689,7 @@ public final class CFactoryParser extends ParserBase {
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue(")")) {
 
-              yyValue = GNode.create("AssemblyOperand", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_AssemblyOperand, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -9756,7 +9756,7 @@ public final class CFactoryParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("AssemblyClobbers", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_AssemblyClobbers, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -9926,7 +9926,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimaryIdentifier", v$g$1);
+      yyValue = GNode.create(KIND_PrimaryIdentifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9957,7 +9957,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("ExpressionList", v$g$1);
+      yyValue = GNode.create(KIND_ExpressionList, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -10003,7 +10003,7 @@ public final class CFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final String v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("NodeVariable", v$g$1);
+        yyValue = GNode.create(KIND_NodeVariable, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -10051,7 +10051,7 @@ public final class CFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final String v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("StringVariable", v$g$1);
+        yyValue = GNode.create(KIND_StringVariable, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -10111,7 +10111,7 @@ public final class CFactoryParser extends ParserBase {
             yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
 
-              yyValue = GNode.create("NodeListVariable", v$g$1);
+              yyValue = GNode.create(KIND_NodeListVariable, v$g$1);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -10215,7 +10215,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerConstant", v$g$1);
+      yyValue = GNode.create(KIND_IntegerConstant, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -10228,7 +10228,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerConstant", v$g$2);
+      yyValue = GNode.create(KIND_IntegerConstant, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -10241,7 +10241,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerConstant", v$g$3);
+      yyValue = GNode.create(KIND_IntegerConstant, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -10804,7 +10804,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("FloatingConstant", v$g$1);
+      yyValue = GNode.create(KIND_FloatingConstant, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -10817,7 +10817,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("FloatingConstant", v$g$2);
+      yyValue = GNode.create(KIND_FloatingConstant, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -11675,7 +11675,7 @@ public final class CFactoryParser extends ParserBase {
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
 
-        yyValue = GNode.create("CharacterConstant", v$g$1);
+        yyValue = GNode.create(KIND_CharacterConstant, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -11693,7 +11693,7 @@ public final class CFactoryParser extends ParserBase {
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
 
-        yyValue = GNode.create("CharacterConstant", v$g$2);
+        yyValue = GNode.create(KIND_CharacterConstant, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -11957,7 +11957,7 @@ public final class CFactoryParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<String> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("StringConstant", v$g$1);
+      yyValue = GNode.createFromPair(KIND_StringConstant, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -14558,7 +14558,7 @@ public final class CFactoryParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<String> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("QualifiedIdentifier", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_QualifiedIdentifier, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -14802,4 +14802,151 @@ public final class CFactoryParser extends ParserBase {
     return set.contains(value);
   }
 
+  // =========================================================================
+
+  private static final int KIND_Factory = GNode.kind("Factory");
+  private static final int KIND_Methods = GNode.kind("Methods");
+  private static final int KIND_Method = GNode.kind("Method");
+  private static final int KIND_FunctionDefinition = GNode.kind("FunctionDefinition");
+  private static final int KIND_DeclarationList = GNode.kind("DeclarationList");
+  private static final int KIND_Declaration = GNode.kind("Declaration");
+  private static final int KIND_DeclarationSpecifiers = GNode.kind("DeclarationSpecifiers");
+  private static final int KIND_FunctionSpecifier = GNode.kind("FunctionSpecifier");
+  private static final int KIND_InitializedDeclaratorList = GNode.kind("InitializedDeclaratorList");
+  private static final int KIND_InitializedDeclarator = GNode.kind("InitializedDeclarator");
+  private static final int KIND_AutoSpecifier = GNode.kind("AutoSpecifier");
+  private static final int KIND_ExternSpecifier = GNode.kind("ExternSpecifier");
+  private static final int KIND_RegisterSpecifier = GNode.kind("RegisterSpecifier");
+  private static final int KIND_StaticSpecifier = GNode.kind("StaticSpecifier");
+  private static final int KIND_ThreadSpecifier = GNode.kind("ThreadSpecifier");
+  private static final int KIND_TypedefSpecifier = GNode.kind("TypedefSpecifier");
+  private static final int KIND_VolatileQualifier = GNode.kind("VolatileQualifier");
+  private static final int KIND_ConstantQualifier = GNode.kind("ConstantQualifier");
+  private static final int KIND_RestrictQualifier = GNode.kind("RestrictQualifier");
+  private static final int KIND_TypedefName = GNode.kind("TypedefName");
+  private static final int KIND_TypeofSpecifier = GNode.kind("TypeofSpecifier");
+  private static final int KIND_VoidTypeSpecifier = GNode.kind("VoidTypeSpecifier");
+  private static final int KIND_VarArgListSpecifier = GNode.kind("VarArgListSpecifier");
+  private static final int KIND_EnumerationTypeDefinition = GNode.kind("EnumerationTypeDefinition");
+  private static final int KIND_EnumerationTypeReference = GNode.kind("EnumerationTypeReference");
+  private static final int KIND_EnumeratorList = GNode.kind("EnumeratorList");
+  private static final int KIND_Enumerator = GNode.kind("Enumerator");
+  private static final int KIND_StructureTypeDefinition = GNode.kind("StructureTypeDefinition");
+  private static final int KIND_StructureTypeReference = GNode.kind("StructureTypeReference");
+  private static final int KIND_UnionTypeDefinition = GNode.kind("UnionTypeDefinition");
+  private static final int KIND_UnionTypeReference = GNode.kind("UnionTypeReference");
+  private static final int KIND_StructureDeclarationList = GNode.kind("StructureDeclarationList");
+  private static final int KIND_StructureDeclaration = GNode.kind("StructureDeclaration");
+  private static final int KIND_SpecifierQualifierList = GNode.kind("SpecifierQualifierList");
+  private static final int KIND_StructureDeclaratorList = GNode.kind("StructureDeclaratorList");
+  private static final int KIND_BitField = GNode.kind("BitField");
+  private static final int KIND_AttributedDeclarator = GNode.kind("AttributedDeclarator");
+  private static final int KIND_PointerDeclarator = GNode.kind("PointerDeclarator");
+  private static final int KIND_Pointer = GNode.kind("Pointer");
+  private static final int KIND_TypeQualifierList = GNode.kind("TypeQualifierList");
+  private static final int KIND_FunctionDeclarator = GNode.kind("FunctionDeclarator");
+  private static final int KIND_ArrayDeclarator = GNode.kind("ArrayDeclarator");
+  private static final int KIND_VariableLength = GNode.kind("VariableLength");
+  private static final int KIND_SimpleDeclarator = GNode.kind("SimpleDeclarator");
+  private static final int KIND_ParameterTypeList = GNode.kind("ParameterTypeList");
+  private static final int KIND_ParameterList = GNode.kind("ParameterList");
+  private static final int KIND_ParameterDeclaration = GNode.kind("ParameterDeclaration");
+  private static final int KIND_AttributedAbstractDeclarator = GNode.kind("AttributedAbstractDeclarator");
+  private static final int KIND_AbstractDeclarator = GNode.kind("AbstractDeclarator");
+  private static final int KIND_DirectAbstractDeclarator = GNode.kind("DirectAbstractDeclarator");
+  private static final int KIND_IdentifierList = GNode.kind("IdentifierList");
+  private static final int KIND_ArrayQualifierList = GNode.kind("ArrayQualifierList");
+  private static final int KIND_Complex = GNode.kind("Complex");
+  private static final int KIND_Double = GNode.kind("Double");
+  private static final int KIND_Float = GNode.kind("Float");
+  private static final int KIND_Long = GNode.kind("Long");
+  private static final int KIND_Int = GNode.kind("Int");
+  private static final int KIND_Short = GNode.kind("Short");
+  private static final int KIND_Char = GNode.kind("Char");
+  private static final int KIND_Bool = GNode.kind("Bool");
+  private static final int KIND_Unsigned = GNode.kind("Unsigned");
+  private static final int KIND_Signed = GNode.kind("Signed");
+  private static final int KIND_InitializerList = GNode.kind("InitializerList");
+  private static final int KIND_InitializerListEntry = GNode.kind("InitializerListEntry");
+  private static final int KIND_Designation = GNode.kind("Designation");
+  private static final int KIND_Designator = GNode.kind("Designator");
+  private static final int KIND_ObsoleteArrayDesignation = GNode.kind("ObsoleteArrayDesignation");
+  private static final int KIND_ObsoleteFieldDesignation = GNode.kind("ObsoleteFieldDesignation");
+  private static final int KIND_TypeName = GNode.kind("TypeName");
+  private static final int KIND_AttributeSpecifierList = GNode.kind("AttributeSpecifierList");
+  private static final int KIND_AttributeSpecifier = GNode.kind("AttributeSpecifier");
+  private static final int KIND_AttributeList = GNode.kind("AttributeList");
+  private static final int KIND_AttributeListEntry = GNode.kind("AttributeListEntry");
+  private static final int KIND_ExpressionStatement = GNode.kind("ExpressionStatement");
+  private static final int KIND_IfElseStatement = GNode.kind("IfElseStatement");
+  private static final int KIND_IfStatement = GNode.kind("IfStatement");
+  private static final int KIND_WhileStatement = GNode.kind("WhileStatement");
+  private static final int KIND_DoStatement = GNode.kind("DoStatement");
+  private static final int KIND_ForStatement = GNode.kind("ForStatement");
+  private static final int KIND_SwitchStatement = GNode.kind("SwitchStatement");
+  private static final int KIND_LabeledStatement = GNode.kind("LabeledStatement");
+  private static final int KIND_BreakStatement = GNode.kind("BreakStatement");
+  private static final int KIND_ContinueStatement = GNode.kind("ContinueStatement");
+  private static final int KIND_ReturnStatement = GNode.kind("ReturnStatement");
+  private static final int KIND_GotoStatement = GNode.kind("GotoStatement");
+  private static final int KIND_AssemblyStatement = GNode.kind("AssemblyStatement");
+  private static final int KIND_EmptyStatement = GNode.kind("EmptyStatement");
+  private static final int KIND_NamedLabel = GNode.kind("NamedLabel");
+  private static final int KIND_CaseLabel = GNode.kind("CaseLabel");
+  private static final int KIND_DefaultLabel = GNode.kind("DefaultLabel");
+  private static final int KIND_CompoundStatement = GNode.kind("CompoundStatement");
+  private static final int KIND_LocalLabelDeclaration = GNode.kind("LocalLabelDeclaration");
+  private static final int KIND_CommaExpression = GNode.kind("CommaExpression");
+  private static final int KIND_AssignmentExpression = GNode.kind("AssignmentExpression");
+  private static final int KIND_ConditionalExpression = GNode.kind("ConditionalExpression");
+  private static final int KIND_LogicalOrExpression = GNode.kind("LogicalOrExpression");
+  private static final int KIND_LogicalAndExpression = GNode.kind("LogicalAndExpression");
+  private static final int KIND_BitwiseOrExpression = GNode.kind("BitwiseOrExpression");
+  private static final int KIND_BitwiseXorExpression = GNode.kind("BitwiseXorExpression");
+  private static final int KIND_BitwiseAndExpression = GNode.kind("BitwiseAndExpression");
+  private static final int KIND_EqualityExpression = GNode.kind("EqualityExpression");
+  private static final int KIND_RelationalExpression = GNode.kind("RelationalExpression");
+  private static final int KIND_ShiftExpression = GNode.kind("ShiftExpression");
+  private static final int KIND_AdditiveExpression = GNode.kind("AdditiveExpression");
+  private static final int KIND_MultiplicativeExpression = GNode.kind("MultiplicativeExpression");
+  private static final int KIND_CastExpression = GNode.kind("CastExpression");
+  private static final int KIND_SizeofExpression = GNode.kind("SizeofExpression");
+  private static final int KIND_AlignofExpression = GNode.kind("AlignofExpression");
+  private static final int KIND_OffsetofExpression = GNode.kind("OffsetofExpression");
+  private static final int KIND_TypeCompatibilityExpression = GNode.kind("TypeCompatibilityExpression");
+  private static final int KIND_UnaryMinusExpression = GNode.kind("UnaryMinusExpression");
+  private static final int KIND_UnaryPlusExpression = GNode.kind("UnaryPlusExpression");
+  private static final int KIND_LogicalNegationExpression = GNode.kind("LogicalNegationExpression");
+  private static final int KIND_BitwiseNegationExpression = GNode.kind("BitwiseNegationExpression");
+  private static final int KIND_AddressExpression = GNode.kind("AddressExpression");
+  private static final int KIND_LabelAddressExpression = GNode.kind("LabelAddressExpression");
+  private static final int KIND_IndirectionExpression = GNode.kind("IndirectionExpression");
+  private static final int KIND_PreincrementExpression = GNode.kind("PreincrementExpression");
+  private static final int KIND_PredecrementExpression = GNode.kind("PredecrementExpression");
+  private static final int KIND_ExtensionExpression = GNode.kind("ExtensionExpression");
+  private static final int KIND_SubscriptExpression = GNode.kind("SubscriptExpression");
+  private static final int KIND_DirectComponentSelection = GNode.kind("DirectComponentSelection");
+  private static final int KIND_IndirectComponentSelection = GNode.kind("IndirectComponentSelection");
+  private static final int KIND_FunctionCall = GNode.kind("FunctionCall");
+  private static final int KIND_PostincrementExpression = GNode.kind("PostincrementExpression");
+  private static final int KIND_PostdecrementExpression = GNode.kind("PostdecrementExpression");
+  private static final int KIND_ExpressionList = GNode.kind("ExpressionList");
+  private static final int KIND_CompoundLiteral = GNode.kind("CompoundLiteral");
+  private static final int KIND_PrimaryIdentifier = GNode.kind("PrimaryIdentifier");
+  private static final int KIND_StatementAsExpression = GNode.kind("StatementAsExpression");
+  private static final int KIND_VariableArgumentAccess = GNode.kind("VariableArgumentAccess");
+  private static final int KIND_SimpleAssemblyExpression = GNode.kind("SimpleAssemblyExpression");
+  private static final int KIND_AssemblyArgument = GNode.kind("AssemblyArgument");
+  private static final int KIND_AssemblyOperands = GNode.kind("AssemblyOperands");
+  private static final int KIND_AssemblyOperand = GNode.kind("AssemblyOperand");
+  private static final int KIND_AssemblyClobbers = GNode.kind("AssemblyClobbers");
+  private static final int KIND_NodeVariable = GNode.kind("NodeVariable");
+  private static final int KIND_StringVariable = GNode.kind("StringVariable");
+  private static final int KIND_NodeListVariable = GNode.kind("NodeListVariable");
+  private static final int KIND_IntegerConstant = GNode.kind("IntegerConstant");
+  private static final int KIND_FloatingConstant = GNode.kind("FloatingConstant");
+  private static final int KIND_CharacterConstant = GNode.kind("CharacterConstant");
+  private static final int KIND_StringConstant = GNode.kind("StringConstant");
+  private static final int KIND_QualifiedIdentifier = GNode.kind("QualifiedIdentifier");
+
 }
@@ -196,7 +196,7 @@ public final class CParser extends ParserBase {
           yyError  = yyResult.select(yyError);
           if (yyResult.hasValue()) {
 
-            yyValue = GNode.create("TranslationUnit", v$g$1.size() + 1).
+            yyValue = GNode.create(KIND_TranslationUnit, v$g$1.size() + 1).
               addAll(v$g$1).add(v$g$2);
             yyValue.setLocation(location(yyStart));
 
@@ -413,7 +413,7 @@ public final class CParser extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$5 = yyResult.semanticValue();
 
-                yyValue = GNode.create("FunctionDefinition", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+                yyValue = GNode.create(KIND_FunctionDefinition, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -468,7 +468,7 @@ public final class CParser extends ParserBase {
     if (yyRepeated1) {
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("DeclarationList", v$g$1);
+      yyValue = GNode.createFromPair(KIND_DeclarationList, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -534,7 +534,7 @@ public final class CParser extends ParserBase {
     yyResult = pSymbol(yyStart);
     if (yyResult.hasValue(";")) {
 
-      yyValue = GNode.create("EmptyDefinition", false);
+      yyValue = GNode.create(KIND_EmptyDefinition, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -633,7 +633,7 @@ public final class CParser extends ParserBase {
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue(";")) {
 
-              yyValue = GNode.create("Declaration", v$g$1, v$g$2, l);
+              yyValue = GNode.create(KIND_Declaration, v$g$1, v$g$2, l);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -684,7 +684,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("DeclarationSpecifiers", v$g$1);
+      yyValue = GNode.createFromPair(KIND_DeclarationSpecifiers, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -798,7 +798,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue("inline")) {
       final String v$g$1 = "inline";
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$1);
+      yyValue = GNode.create(KIND_FunctionSpecifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -810,7 +810,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue("__inline")) {
       final String v$g$2 = "__inline";
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$2);
+      yyValue = GNode.create(KIND_FunctionSpecifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -822,7 +822,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue("__inline__")) {
       final String v$g$3 = "__inline__";
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$3);
+      yyValue = GNode.create(KIND_FunctionSpecifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -894,7 +894,7 @@ public final class CParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("InitializedDeclaratorList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_InitializedDeclaratorList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -992,7 +992,7 @@ public final class CParser extends ParserBase {
             { // Start scope for v$g$5.
               final Node v$g$5 = yyOpValue1;
 
-              yyValue = GNode.create("InitializedDeclarator", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+              yyValue = GNode.create(KIND_InitializedDeclarator, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyOption1, yyError);
@@ -1027,7 +1027,7 @@ public final class CParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("auto")) {
 
-      yyValue = GNode.create("AutoSpecifier", false);
+      yyValue = GNode.create(KIND_AutoSpecifier, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1038,7 +1038,7 @@ public final class CParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("extern")) {
 
-      yyValue = GNode.create("ExternSpecifier", false);
+      yyValue = GNode.create(KIND_ExternSpecifier, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1049,7 +1049,7 @@ public final class CParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("register")) {
 
-      yyValue = GNode.create("RegisterSpecifier", false);
+      yyValue = GNode.create(KIND_RegisterSpecifier, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1060,7 +1060,7 @@ public final class CParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("static")) {
 
-      yyValue = GNode.create("StaticSpecifier", false);
+      yyValue = GNode.create(KIND_StaticSpecifier, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1071,7 +1071,7 @@ public final class CParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("__thread")) {
 
-      yyValue = GNode.create("ThreadSpecifier", false);
+      yyValue = GNode.create(KIND_ThreadSpecifier, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1086,7 +1086,7 @@ public final class CParser extends ParserBase {
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
 
-        yyValue = GNode.create("TypedefSpecifier", false);
+        yyValue = GNode.create(KIND_TypedefSpecifier, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -1118,7 +1118,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue("volatile")) {
       final String v$g$1 = "volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$1);
+      yyValue = GNode.create(KIND_VolatileQualifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1130,7 +1130,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue("__volatile")) {
       final String v$g$2 = "__volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$2);
+      yyValue = GNode.create(KIND_VolatileQualifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1142,7 +1142,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue("__volatile__")) {
       final String v$g$3 = "__volatile__";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$3);
+      yyValue = GNode.create(KIND_VolatileQualifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1154,7 +1154,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue("const")) {
       final String v$g$1 = "const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$1);
+      yyValue = GNode.create(KIND_ConstantQualifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1166,7 +1166,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue("__const")) {
       final String v$g$2 = "__const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$2);
+      yyValue = GNode.create(KIND_ConstantQualifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1178,7 +1178,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue("__const__")) {
       final String v$g$3 = "__const__";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$3);
+      yyValue = GNode.create(KIND_ConstantQualifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1190,7 +1190,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue("restrict")) {
       final String v$g$1 = "restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$1);
+      yyValue = GNode.create(KIND_RestrictQualifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1202,7 +1202,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue("__restrict")) {
       final String v$g$2 = "__restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$2);
+      yyValue = GNode.create(KIND_RestrictQualifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1214,7 +1214,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue("__restrict__")) {
       final String v$g$3 = "__restrict__";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$3);
+      yyValue = GNode.create(KIND_RestrictQualifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1299,7 +1299,7 @@ public final class CParser extends ParserBase {
 
       if (yyState.isType(toText(id))) {
 
-        yyValue = GNode.create("TypedefName", id);
+        yyValue = GNode.create(KIND_TypedefName, id);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -1329,7 +1329,7 @@ public final class CParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.create("TypeofSpecifier", v$g$1);
+            yyValue = GNode.create(KIND_TypeofSpecifier, v$g$1);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -1349,7 +1349,7 @@ public final class CParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.create("TypeofSpecifier", v$g$2);
+            yyValue = GNode.create(KIND_TypeofSpecifier, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -1367,7 +1367,7 @@ public final class CParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("void")) {
 
-      yyValue = GNode.create("VoidTypeSpecifier", false);
+      yyValue = GNode.create(KIND_VoidTypeSpecifier, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1378,7 +1378,7 @@ public final class CParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("__builtin_va_list")) {
 
-      yyValue = GNode.create("VarArgListSpecifier", false);
+      yyValue = GNode.create(KIND_VarArgListSpecifier, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1483,7 +1483,7 @@ public final class CParser extends ParserBase {
                 { // Start scope for v$g$4.
                   final Node v$g$4 = cast(yyOpValue1);
 
-                  yyValue = GNode.create("EnumerationTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
+                  yyValue = GNode.create(KIND_EnumerationTypeDefinition, v$g$1, v$g$2, v$g$3, v$g$4);
                   yyValue.setLocation(location(yyStart));
 
                   return new SemanticValue(yyValue, yyOption1, yyError);
@@ -1504,7 +1504,7 @@ public final class CParser extends ParserBase {
         if (yyResult.hasValue()) {
           final String v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("EnumerationTypeReference", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_EnumerationTypeReference, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -1566,7 +1566,7 @@ public final class CParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("EnumeratorList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_EnumeratorList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -1624,7 +1624,7 @@ public final class CParser extends ParserBase {
       { // Start scope for v$g$1.
         final Node v$g$1 = yyOpValue1;
 
-        yyValue = GNode.create("Enumerator", id, v$g$1);
+        yyValue = GNode.create(KIND_Enumerator, id, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -1734,7 +1734,7 @@ public final class CParser extends ParserBase {
                         { // Start scope for v$g$4.
                           final Node v$g$4 = cast(yyOpValue1);
 
-                          yyValue = GNode.create("StructureTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
+                          yyValue = GNode.create(KIND_StructureTypeDefinition, v$g$1, v$g$2, v$g$3, v$g$4);
                           yyValue.setLocation(location(yyStart));
 
                           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -1759,7 +1759,7 @@ public final class CParser extends ParserBase {
         if (yyResult.hasValue()) {
           final String v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("StructureTypeReference", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_StructureTypeReference, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -1869,7 +1869,7 @@ public final class CParser extends ParserBase {
                         { // Start scope for v$g$4.
                           final Node v$g$4 = cast(yyOpValue1);
 
-                          yyValue = GNode.create("UnionTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
+                          yyValue = GNode.create(KIND_UnionTypeDefinition, v$g$1, v$g$2, v$g$3, v$g$4);
                           yyValue.setLocation(location(yyStart));
 
                           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -1894,7 +1894,7 @@ public final class CParser extends ParserBase {
         if (yyResult.hasValue()) {
           final String v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("UnionTypeReference", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_UnionTypeReference, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -1954,7 +1954,7 @@ public final class CParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("StructureDeclarationList", v$g$1.size() + 1).
+        yyValue = GNode.create(KIND_StructureDeclarationList, v$g$1.size() + 1).
           addAll(v$g$1).add(v$g$2);
         yyValue.setLocation(location(yyStart));
 
@@ -1971,7 +1971,7 @@ public final class CParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$3 = yyResult.semanticValue();
 
-        yyValue = GNode.create("StructureDeclarationList", v$g$3);
+        yyValue = GNode.create(KIND_StructureDeclarationList, v$g$3);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -2105,7 +2105,7 @@ public final class CParser extends ParserBase {
               }
             }
 
-            yyValue = GNode.create("StructureDeclaration", v$g$1, v$g$2, v$g$3);
+            yyValue = GNode.create(KIND_StructureDeclaration, v$g$1, v$g$2, v$g$3);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyOption1, yyError);
@@ -2155,7 +2155,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("SpecifierQualifierList", v$g$1);
+      yyValue = GNode.createFromPair(KIND_SpecifierQualifierList, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -2359,7 +2359,7 @@ public final class CParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("StructureDeclaratorList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_StructureDeclaratorList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -2439,7 +2439,7 @@ public final class CParser extends ParserBase {
             { // Start scope for v$g$4.
               final Node v$g$4 = yyOpValue1;
 
-              yyValue = GNode.create("BitField", v$g$1, v$g$2, v$g$3, v$g$4);
+              yyValue = GNode.create(KIND_BitField, v$g$1, v$g$2, v$g$3, v$g$4);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyOption1, yyError);
@@ -2527,7 +2527,7 @@ public final class CParser extends ParserBase {
         { // Start scope for v$g$3.
           final Node v$g$3 = yyOpValue1;
 
-          yyValue = GNode.create("AttributedDeclarator", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_AttributedDeclarator, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -2612,7 +2612,7 @@ public final class CParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("PointerDeclarator", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_PointerDeclarator, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -2672,7 +2672,7 @@ public final class CParser extends ParserBase {
         { // Start scope for v$g$2.
           final Node v$g$2 = yyOpValue1;
 
-          yyValue = GNode.create("Pointer", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_Pointer, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -2721,7 +2721,7 @@ public final class CParser extends ParserBase {
     { // Start scope for v$g$1.
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("TypeQualifierList", v$g$1);
+      yyValue = GNode.createFromPair(KIND_TypeQualifierList, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -2910,7 +2910,7 @@ public final class CParser extends ParserBase {
 
               yyValue = new Action<Node>() {
                 public Node run(Node v$1) {
-                  return GNode.create("FunctionDeclarator", v$1, v$g$2);
+                  return GNode.create(KIND_FunctionDeclarator, v$1, v$g$2);
                 }};
 
               return yyResult.createValue(yyValue, yyError);
@@ -2946,7 +2946,7 @@ public final class CParser extends ParserBase {
 
               yyValue = new Action<Node>() {
                 public Node run(Node v$1) {
-                  return GNode.create("FunctionDeclarator", v$1, v$g$3);
+                  return GNode.create(KIND_FunctionDeclarator, v$1, v$g$3);
                 }};
 
               return yyResult.createValue(yyValue, yyError);
@@ -2992,7 +2992,7 @@ public final class CParser extends ParserBase {
 
             yyValue = new Action<Node>() {
               public Node run(Node v$1) {
-                return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$5);
+                return GNode.create(KIND_ArrayDeclarator, v$1, v$g$4, v$g$5);
               }};
 
             return yyResult.createValue(yyValue, yyError);
@@ -3014,7 +3014,7 @@ public final class CParser extends ParserBase {
 
             yyValue = new Action<Node>() {
               public Node run(Node v$1) {
-                return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$6);
+                return GNode.create(KIND_ArrayDeclarator, v$1, v$g$4, v$g$6);
               }};
 
             return yyResult.createValue(yyValue, yyError);
@@ -3058,7 +3058,7 @@ public final class CParser extends ParserBase {
     yyResult = pSymbol(yyStart);
     if (yyResult.hasValue("*")) {
 
-      yyValue = GNode.create("VariableLength", false);
+      yyValue = GNode.create(KIND_VariableLength, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -3092,7 +3092,7 @@ public final class CParser extends ParserBase {
 
       yyState.bind(toText(id));
 
-      yyValue = GNode.create("SimpleDeclarator", id);
+      yyValue = GNode.create(KIND_SimpleDeclarator, id);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -3158,7 +3158,7 @@ public final class CParser extends ParserBase {
       { // Start scope for v$g$2.
         final String v$g$2 = yyOpValue1;
 
-        yyValue = GNode.create("ParameterTypeList", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_ParameterTypeList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -3218,7 +3218,7 @@ public final class CParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("ParameterList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_ParameterList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -3278,7 +3278,7 @@ public final class CParser extends ParserBase {
         { // Start scope for v$g$3.
           final Node v$g$3 = yyOpValue1;
 
-          yyValue = GNode.create("ParameterDeclaration", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_ParameterDeclaration, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           // Commit the state modification.
@@ -3317,7 +3317,7 @@ public final class CParser extends ParserBase {
         { // Start scope for v$g$5.
           final Node v$g$5 = yyOpValue1;
 
-          yyValue = GNode.create("ParameterDeclaration", v$g$1, v$g$4, v$g$5);
+          yyValue = GNode.create(KIND_ParameterDeclaration, v$g$1, v$g$4, v$g$5);
           yyValue.setLocation(location(yyStart));
 
           // Commit the state modification.
@@ -3374,7 +3374,7 @@ public final class CParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("AttributedAbstractDeclarator", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_AttributedAbstractDeclarator, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -3433,7 +3433,7 @@ public final class CParser extends ParserBase {
 
         if ((null != p) || (null != d)) {
 
-          yyValue = GNode.create("AbstractDeclarator", p, d);
+          yyValue = GNode.create(KIND_AbstractDeclarator, p, d);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -3582,7 +3582,7 @@ public final class CParser extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$3);
+              return GNode.create(KIND_DirectAbstractDeclarator, v$1, v$g$2, v$g$3);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -3604,7 +3604,7 @@ public final class CParser extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$4);
+              return GNode.create(KIND_DirectAbstractDeclarator, v$1, v$g$2, v$g$4);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -3640,7 +3640,7 @@ public final class CParser extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$5, v$g$6);
+              return GNode.create(KIND_DirectAbstractDeclarator, v$1, v$g$5, v$g$6);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -3708,7 +3708,7 @@ public final class CParser extends ParserBase {
       { // Start scope for v$g$1.
         final Pair<String> v$g$1 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("IdentifierList", id1, v$g$1);
+        yyValue = GNode.createFromPair(KIND_IdentifierList, id1, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -3755,7 +3755,7 @@ public final class CParser extends ParserBase {
     { // Start scope for v$g$1.
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("ArrayQualifierList", v$g$1);
+      yyValue = GNode.createFromPair(KIND_ArrayQualifierList, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -3783,7 +3783,7 @@ public final class CParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("static")) {
 
-      yyValue = GNode.create("StaticSpecifier", false);
+      yyValue = GNode.create(KIND_StaticSpecifier, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -3795,7 +3795,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue("volatile")) {
       final String v$g$1 = "volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$1);
+      yyValue = GNode.create(KIND_VolatileQualifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -3807,7 +3807,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue("__volatile")) {
       final String v$g$2 = "__volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$2);
+      yyValue = GNode.create(KIND_VolatileQualifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -3819,7 +3819,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue("__volatile__")) {
       final String v$g$3 = "__volatile__";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$3);
+      yyValue = GNode.create(KIND_VolatileQualifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -3831,7 +3831,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue("restrict")) {
       final String v$g$1 = "restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$1);
+      yyValue = GNode.create(KIND_RestrictQualifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -3843,7 +3843,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue("__restrict")) {
       final String v$g$2 = "__restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$2);
+      yyValue = GNode.create(KIND_RestrictQualifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -3855,7 +3855,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue("__restrict__")) {
       final String v$g$3 = "__restrict__";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$3);
+      yyValue = GNode.create(KIND_RestrictQualifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -3867,7 +3867,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue("const")) {
       final String v$g$1 = "const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$1);
+      yyValue = GNode.create(KIND_ConstantQualifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -3879,7 +3879,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue("__const")) {
       final String v$g$2 = "__const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$2);
+      yyValue = GNode.create(KIND_ConstantQualifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -3891,7 +3891,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue("__const__")) {
       final String v$g$3 = "__const__";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$3);
+      yyValue = GNode.create(KIND_ConstantQualifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -3934,7 +3934,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue("_Complex")) {
       final String v$g$1 = "_Complex";
 
-      yyValue = GNode.create("Complex", v$g$1);
+      yyValue = GNode.create(KIND_Complex, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -3946,7 +3946,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue("__complex__")) {
       final String v$g$2 = "__complex__";
 
-      yyValue = GNode.create("Complex", v$g$2);
+      yyValue = GNode.create(KIND_Complex, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -3957,7 +3957,7 @@ public final class CParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("double")) {
 
-      yyValue = GNode.create("Double", false);
+      yyValue = GNode.create(KIND_Double, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -3968,7 +3968,7 @@ public final class CParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("float")) {
 
-      yyValue = GNode.create("Float", false);
+      yyValue = GNode.create(KIND_Float, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -3998,7 +3998,7 @@ public final class CParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("long")) {
 
-      yyValue = GNode.create("Long", false);
+      yyValue = GNode.create(KIND_Long, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4009,7 +4009,7 @@ public final class CParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("int")) {
 
-      yyValue = GNode.create("Int", false);
+      yyValue = GNode.create(KIND_Int, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4020,7 +4020,7 @@ public final class CParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("short")) {
 
-      yyValue = GNode.create("Short", false);
+      yyValue = GNode.create(KIND_Short, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4031,7 +4031,7 @@ public final class CParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("char")) {
 
-      yyValue = GNode.create("Char", false);
+      yyValue = GNode.create(KIND_Char, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4042,7 +4042,7 @@ public final class CParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("_Bool")) {
 
-      yyValue = GNode.create("Bool", false);
+      yyValue = GNode.create(KIND_Bool, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4053,7 +4053,7 @@ public final class CParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("unsigned")) {
 
-      yyValue = GNode.create("Unsigned", false);
+      yyValue = GNode.create(KIND_Unsigned, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4065,7 +4065,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue("signed")) {
       final String v$g$1 = "signed";
 
-      yyValue = GNode.create("Signed", v$g$1);
+      yyValue = GNode.create(KIND_Signed, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4077,7 +4077,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue("__signed")) {
       final String v$g$2 = "__signed";
 
-      yyValue = GNode.create("Signed", v$g$2);
+      yyValue = GNode.create(KIND_Signed, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4089,7 +4089,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue("__signed__")) {
       final String v$g$3 = "__signed__";
 
-      yyValue = GNode.create("Signed", v$g$3);
+      yyValue = GNode.create(KIND_Signed, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4261,7 +4261,7 @@ public final class CParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("InitializerList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_InitializerList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -4272,7 +4272,7 @@ public final class CParser extends ParserBase {
 
     if (GCC) {
 
-      yyValue = GNode.create("InitializerList", false);
+      yyValue = GNode.create(KIND_InitializerList, false);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyStart, yyError);
@@ -4320,7 +4320,7 @@ public final class CParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("InitializerListEntry", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_InitializerListEntry, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -4376,7 +4376,7 @@ public final class CParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue("=")) {
 
-        yyValue = GNode.createFromPair("Designation", v$g$1);
+        yyValue = GNode.createFromPair(KIND_Designation, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -4447,7 +4447,7 @@ public final class CParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue("]")) {
 
-          yyValue = GNode.create("Designator", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_Designator, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -4483,7 +4483,7 @@ public final class CParser extends ParserBase {
               yyResult = pSymbol(yyBase);
               if (yyResult.hasValue("]")) {
 
-                yyValue = GNode.create("Designator", v$g$3, v$g$4, v$g$5);
+                yyValue = GNode.create(KIND_Designator, v$g$3, v$g$4, v$g$5);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -4509,7 +4509,7 @@ public final class CParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$7 = yyResult.semanticValue();
 
-        yyValue = GNode.create("Designator", v$g$6, v$g$7);
+        yyValue = GNode.create(KIND_Designator, v$g$6, v$g$7);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -4557,7 +4557,7 @@ public final class CParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue("]")) {
 
-          yyValue = GNode.create("ObsoleteArrayDesignation", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_ObsoleteArrayDesignation, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -4580,7 +4580,7 @@ public final class CParser extends ParserBase {
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue("]")) {
 
-              yyValue = GNode.create("ObsoleteArrayDesignation", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_ObsoleteArrayDesignation, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -4627,7 +4627,7 @@ public final class CParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(":")) {
 
-        yyValue = GNode.create("ObsoleteFieldDesignation", v$g$1);
+        yyValue = GNode.create(KIND_ObsoleteFieldDesignation, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -4689,7 +4689,7 @@ public final class CParser extends ParserBase {
       { // Start scope for v$g$2.
         final Node v$g$2 = yyOpValue1;
 
-        yyValue = GNode.create("TypeName", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_TypeName, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         // Commit the state modification.
@@ -4740,7 +4740,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("AttributeSpecifierList", v$g$1);
+      yyValue = GNode.createFromPair(KIND_AttributeSpecifierList, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4861,7 +4861,7 @@ public final class CParser extends ParserBase {
               yyResult = pSymbol(yyBase);
               if (yyResult.hasValue(")")) {
 
-                yyValue = GNode.create("AttributeSpecifier", v$g$1);
+                yyValue = GNode.create(KIND_AttributeSpecifier, v$g$1);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -4972,7 +4972,7 @@ public final class CParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("AttributeList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_AttributeList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -5046,7 +5046,7 @@ public final class CParser extends ParserBase {
       { // Start scope for v$g$2.
         final Node v$g$2 = yyOpValue1;
 
-        yyValue = GNode.create("AttributeListEntry", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_AttributeListEntry, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -5094,7 +5094,7 @@ public final class CParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(";")) {
 
-        yyValue = GNode.create("ExpressionStatement", v$g$1);
+        yyValue = GNode.create(KIND_ExpressionStatement, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5149,7 +5149,7 @@ public final class CParser extends ParserBase {
                 if (yyResult.hasValue()) {
                   final Node v$g$3 = yyResult.semanticValue();
 
-                  yyValue = GNode.create("IfElseStatement", v$g$1, v$g$2, v$g$3);
+                  yyValue = GNode.create(KIND_IfElseStatement, v$g$1, v$g$2, v$g$3);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -5160,7 +5160,7 @@ public final class CParser extends ParserBase {
 
               // Nested alternative 2.
 
-              yyValue = GNode.create("IfStatement", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_IfStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyChoice1, yyError);
@@ -5197,7 +5197,7 @@ public final class CParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_WhileStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -5242,7 +5242,7 @@ public final class CParser extends ParserBase {
                 yyResult = pSymbol(yyBase);
                 if (yyResult.hasValue(";")) {
 
-                  yyValue = GNode.create("DoStatement", v$g$1, v$g$2);
+                  yyValue = GNode.create(KIND_DoStatement, v$g$1, v$g$2);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -5325,7 +5325,7 @@ public final class CParser extends ParserBase {
                       yyError  = yyResult.select(yyError);
                       if (yyResult.hasValue()) {
 
-                        yyValue = GNode.create("ForStatement", v$g$1, v$g$2, v$g$3, v$g$4);
+                        yyValue = GNode.create(KIND_ForStatement, v$g$1, v$g$2, v$g$3, v$g$4);
                         yyValue.setLocation(location(yyStart));
 
                         return yyResult.createValue(yyValue, yyError);
@@ -5369,7 +5369,7 @@ public final class CParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("SwitchStatement", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_SwitchStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -5395,7 +5395,7 @@ public final class CParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("LabeledStatement", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_LabeledStatement, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5411,7 +5411,7 @@ public final class CParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$3 = yyResult.semanticValue();
 
-        yyValue = GNode.create("LabeledStatement", v$g$3, null);
+        yyValue = GNode.create(KIND_LabeledStatement, v$g$3, null);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5427,7 +5427,7 @@ public final class CParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(";")) {
 
-        yyValue = GNode.create("BreakStatement", false);
+        yyValue = GNode.create(KIND_BreakStatement, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5445,7 +5445,7 @@ public final class CParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(";")) {
 
-        yyValue = GNode.create("ContinueStatement", false);
+        yyValue = GNode.create(KIND_ContinueStatement, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5477,7 +5477,7 @@ public final class CParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("ReturnStatement", v$g$1);
+          yyValue = GNode.create(KIND_ReturnStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -5501,7 +5501,7 @@ public final class CParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("GotoStatement", null, v$g$2);
+          yyValue = GNode.create(KIND_GotoStatement, null, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -5532,7 +5532,7 @@ public final class CParser extends ParserBase {
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue(";")) {
 
-              yyValue = GNode.create("GotoStatement", v$g$3, v$g$4);
+              yyValue = GNode.create(KIND_GotoStatement, v$g$3, v$g$4);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -5584,7 +5584,7 @@ public final class CParser extends ParserBase {
               if (yyResult.hasValue(";")) {
                 final String v$g$3 = ";";
 
-                yyValue = GNode.create("AssemblyStatement", v$g$1, v$g$2, v$g$3);
+                yyValue = GNode.create(KIND_AssemblyStatement, v$g$1, v$g$2, v$g$3);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -5606,7 +5606,7 @@ public final class CParser extends ParserBase {
     yyResult = pSymbol(yyStart);
     if (yyResult.hasValue(";")) {
 
-      yyValue = GNode.create("EmptyStatement", false);
+      yyValue = GNode.create(KIND_EmptyStatement, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -5659,7 +5659,7 @@ public final class CParser extends ParserBase {
         { // Start scope for v$g$2.
           final Node v$g$2 = yyOpValue1;
 
-          yyValue = GNode.create("NamedLabel", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_NamedLabel, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -5694,7 +5694,7 @@ public final class CParser extends ParserBase {
               yyResult = pSymbol(yyBase);
               if (yyResult.hasValue(":")) {
 
-                yyValue = GNode.create("CaseLabel", v$g$1, v$g$2);
+                yyValue = GNode.create(KIND_CaseLabel, v$g$1, v$g$2);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -5723,7 +5723,7 @@ public final class CParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(":")) {
 
-          yyValue = GNode.create("CaseLabel", v$g$3);
+          yyValue = GNode.create(KIND_CaseLabel, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -5742,7 +5742,7 @@ public final class CParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(":")) {
 
-        yyValue = GNode.create("DefaultLabel", false);
+        yyValue = GNode.create(KIND_DefaultLabel, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5812,7 +5812,7 @@ public final class CParser extends ParserBase {
                 yyError  = yyResult.select(yyError);
                 if (yyResult.hasValue()) {
 
-                  yyValue = GNode.create("CompoundStatement", v$g$1.size() + v$g$2.size() + 1).
+                  yyValue = GNode.create(KIND_CompoundStatement, v$g$1.size() + v$g$2.size() + 1).
                     addAll(v$g$1).addAll(v$g$2).add(v$g$3);
                   yyValue.setLocation(location(yyStart));
 
@@ -5932,7 +5932,7 @@ public final class CParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(";")) {
 
-            yyValue = GNode.createFromPair("LocalLabelDeclaration", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_LocalLabelDeclaration, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -6207,7 +6207,7 @@ public final class CParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("CommaExpression", v$1, v$g$2);
+            return GNode.create(KIND_CommaExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -6261,7 +6261,7 @@ public final class CParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$3 = yyResult.semanticValue();
 
-          yyValue = GNode.create("AssignmentExpression", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_AssignmentExpression, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -6454,7 +6454,7 @@ public final class CParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("ConditionalExpression", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_ConditionalExpression, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -6490,7 +6490,7 @@ public final class CParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$6 = yyResult.semanticValue();
 
-              yyValue = GNode.create("ConditionalExpression", v$g$4, null, v$g$6);
+              yyValue = GNode.create(KIND_ConditionalExpression, v$g$4, null, v$g$6);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -6609,7 +6609,7 @@ public final class CParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("LogicalOrExpression", v$1, v$g$2);
+            return GNode.create(KIND_LogicalOrExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -6700,7 +6700,7 @@ public final class CParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("LogicalAndExpression", v$1, v$g$2);
+            return GNode.create(KIND_LogicalAndExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -6791,7 +6791,7 @@ public final class CParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseOrExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseOrExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -6882,7 +6882,7 @@ public final class CParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseXorExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseXorExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -6973,7 +6973,7 @@ public final class CParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseAndExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseAndExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -7066,7 +7066,7 @@ public final class CParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("EqualityExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_EqualityExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -7195,7 +7195,7 @@ public final class CParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("RelationalExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_RelationalExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -7342,7 +7342,7 @@ public final class CParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("ShiftExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_ShiftExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -7471,7 +7471,7 @@ public final class CParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("AdditiveExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_AdditiveExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -7602,7 +7602,7 @@ public final class CParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("MultiplicativeExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_MultiplicativeExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -7704,7 +7704,7 @@ public final class CParser extends ParserBase {
           if (yyResult.hasValue()) {
             final Node v$g$2 = yyResult.semanticValue();
 
-            yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
+            yyValue = GNode.create(KIND_CastExpression, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -7788,7 +7788,7 @@ public final class CParser extends ParserBase {
 
             if (! yyPredMatched) {
 
-              yyValue = GNode.create("SizeofExpression", v$g$1);
+              yyValue = GNode.create(KIND_SizeofExpression, v$g$1);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -7810,7 +7810,7 @@ public final class CParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("SizeofExpression", v$g$2);
+        yyValue = GNode.create(KIND_SizeofExpression, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -7850,7 +7850,7 @@ public final class CParser extends ParserBase {
 
             if (! yyPredMatched) {
 
-              yyValue = GNode.create("AlignofExpression", v$g$1);
+              yyValue = GNode.create(KIND_AlignofExpression, v$g$1);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -7872,7 +7872,7 @@ public final class CParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("AlignofExpression", v$g$2);
+        yyValue = GNode.create(KIND_AlignofExpression, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -7906,7 +7906,7 @@ public final class CParser extends ParserBase {
               yyResult = pSymbol(yyBase);
               if (yyResult.hasValue(")")) {
 
-                yyValue = GNode.create("OffsetofExpression", v$g$1, v$g$2);
+                yyValue = GNode.create(KIND_OffsetofExpression, v$g$1, v$g$2);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -7950,7 +7950,7 @@ public final class CParser extends ParserBase {
               yyResult = pSymbol(yyBase);
               if (yyResult.hasValue(")")) {
 
-                yyValue = GNode.create("TypeCompatibilityExpression", v$g$1, v$g$2);
+                yyValue = GNode.create(KIND_TypeCompatibilityExpression, v$g$1, v$g$2);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -7977,7 +7977,7 @@ public final class CParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryMinusExpression", v$g$1);
+        yyValue = GNode.create(KIND_UnaryMinusExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -7994,7 +7994,7 @@ public final class CParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryPlusExpression", v$g$1);
+        yyValue = GNode.create(KIND_UnaryPlusExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8011,7 +8011,7 @@ public final class CParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("LogicalNegationExpression", v$g$1);
+        yyValue = GNode.create(KIND_LogicalNegationExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8028,7 +8028,7 @@ public final class CParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
+        yyValue = GNode.create(KIND_BitwiseNegationExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8045,7 +8045,7 @@ public final class CParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("AddressExpression", v$g$1);
+        yyValue = GNode.create(KIND_AddressExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8064,7 +8064,7 @@ public final class CParser extends ParserBase {
         if (yyResult.hasValue()) {
           final String v$g$1 = yyResult.semanticValue();
 
-          yyValue = GNode.create("LabelAddressExpression", v$g$1);
+          yyValue = GNode.create(KIND_LabelAddressExpression, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -8082,7 +8082,7 @@ public final class CParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("IndirectionExpression", v$g$1);
+        yyValue = GNode.create(KIND_IndirectionExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8099,7 +8099,7 @@ public final class CParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("PreincrementExpression", v$g$1);
+        yyValue = GNode.create(KIND_PreincrementExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8116,7 +8116,7 @@ public final class CParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("PredecrementExpression", v$g$1);
+        yyValue = GNode.create(KIND_PredecrementExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8135,7 +8135,7 @@ public final class CParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$1 = yyResult.semanticValue();
 
-          yyValue = GNode.create("ExtensionExpression", v$g$1);
+          yyValue = GNode.create(KIND_ExtensionExpression, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -8314,7 +8314,7 @@ public final class CParser extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("SubscriptExpression", v$1, v$g$2);
+              return GNode.create(KIND_SubscriptExpression, v$1, v$g$2);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -8336,7 +8336,7 @@ public final class CParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("DirectComponentSelection", v$1, v$g$3);
+            return GNode.create(KIND_DirectComponentSelection, v$1, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -8355,7 +8355,7 @@ public final class CParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("IndirectComponentSelection", v$1, v$g$4);
+            return GNode.create(KIND_IndirectComponentSelection, v$1, v$g$4);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -8387,7 +8387,7 @@ public final class CParser extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("FunctionCall", v$1, v$g$5);
+              return GNode.create(KIND_FunctionCall, v$1, v$g$5);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -8404,7 +8404,7 @@ public final class CParser extends ParserBase {
 
       yyValue = new Action<Node>() {
         public Node run(Node v$1) {
-          return GNode.create("PostincrementExpression", v$1);
+          return GNode.create(KIND_PostincrementExpression, v$1);
         }};
 
       return yyResult.createValue(yyValue, yyError);
@@ -8417,7 +8417,7 @@ public final class CParser extends ParserBase {
 
       yyValue = new Action<Node>() {
         public Node run(Node v$1) {
-          return GNode.create("PostdecrementExpression", v$1);
+          return GNode.create(KIND_PostdecrementExpression, v$1);
         }};
 
       return yyResult.createValue(yyValue, yyError);
@@ -8463,7 +8463,7 @@ public final class CParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.createFromPair("ExpressionList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_ExpressionList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8584,7 +8584,7 @@ public final class CParser extends ParserBase {
               yyResult = pSymbol(yyBase);
               if (yyResult.hasValue("}")) {
 
-                yyValue = GNode.create("CompoundLiteral", v$g$1, v$g$2);
+                yyValue = GNode.create(KIND_CompoundLiteral, v$g$1, v$g$2);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -8638,7 +8638,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimaryIdentifier", v$g$1);
+      yyValue = GNode.create(KIND_PrimaryIdentifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8660,7 +8660,7 @@ public final class CParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.create("StatementAsExpression", v$g$1);
+            yyValue = GNode.create(KIND_StatementAsExpression, v$g$1);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -8698,7 +8698,7 @@ public final class CParser extends ParserBase {
               yyResult = pSymbol(yyBase);
               if (yyResult.hasValue(")")) {
 
-                yyValue = GNode.create("VariableArgumentAccess", v$g$1, v$g$2);
+                yyValue = GNode.create(KIND_VariableArgumentAccess, v$g$1, v$g$2);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -8762,7 +8762,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimaryIdentifier", v$g$1);
+      yyValue = GNode.create(KIND_PrimaryIdentifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8798,7 +8798,7 @@ public final class CParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(";")) {
 
-        yyValue = GNode.create("AssemblyDefinition", v$g$1);
+        yyValue = GNode.create(KIND_AssemblyDefinition, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8858,7 +8858,7 @@ public final class CParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.create("SimpleAssemblyExpression", v$g$1);
+            yyValue = GNode.create(KIND_SimpleAssemblyExpression, v$g$1);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -8956,7 +8956,7 @@ public final class CParser extends ParserBase {
                 if (yyResult.hasValue()) {
                   final Node v$g$4 = yyResult.semanticValue();
 
-                  yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2, v$g$3, v$g$4);
+                  yyValue = GNode.create(KIND_AssemblyArgument, v$g$1, v$g$2, v$g$3, v$g$4);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -8967,7 +8967,7 @@ public final class CParser extends ParserBase {
 
               // Nested alternative 2.
 
-              yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_AssemblyArgument, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyChoice3, yyError);
@@ -8978,7 +8978,7 @@ public final class CParser extends ParserBase {
 
           // Nested alternative 2.
 
-          yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_AssemblyArgument, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyChoice2, yyError);
@@ -8989,7 +8989,7 @@ public final class CParser extends ParserBase {
 
       // Nested alternative 2.
 
-      yyValue = GNode.create("AssemblyArgument", v$g$1);
+      yyValue = GNode.create(KIND_AssemblyArgument, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyChoice1, yyError);
@@ -9034,7 +9034,7 @@ public final class CParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.createFromPair("AssemblyOperands", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_AssemblyOperands, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -9175,7 +9175,7 @@ public final class CParser extends ParserBase {
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue(")")) {
 
-              yyValue = GNode.create("AssemblyOperand", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_AssemblyOperand, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -9242,7 +9242,7 @@ public final class CParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("AssemblyClobbers", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_AssemblyClobbers, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -9400,7 +9400,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerConstant", v$g$1);
+      yyValue = GNode.create(KIND_IntegerConstant, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9413,7 +9413,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerConstant", v$g$2);
+      yyValue = GNode.create(KIND_IntegerConstant, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9426,7 +9426,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerConstant", v$g$3);
+      yyValue = GNode.create(KIND_IntegerConstant, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9989,7 +9989,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("FloatingConstant", v$g$1);
+      yyValue = GNode.create(KIND_FloatingConstant, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -10002,7 +10002,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("FloatingConstant", v$g$2);
+      yyValue = GNode.create(KIND_FloatingConstant, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -10859,7 +10859,7 @@ public final class CParser extends ParserBase {
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
 
-        yyValue = GNode.create("CharacterConstant", v$g$1);
+        yyValue = GNode.create(KIND_CharacterConstant, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -10877,7 +10877,7 @@ public final class CParser extends ParserBase {
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
 
-        yyValue = GNode.create("CharacterConstant", v$g$2);
+        yyValue = GNode.create(KIND_CharacterConstant, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -11141,7 +11141,7 @@ public final class CParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<String> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("StringConstant", v$g$1);
+      yyValue = GNode.createFromPair(KIND_StringConstant, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -13762,4 +13762,147 @@ public final class CParser extends ParserBase {
     return set.contains(value);
   }
 
+  // =========================================================================
+
+  private static final int KIND_TranslationUnit = GNode.kind("TranslationUnit");
+  private static final int KIND_FunctionDefinition = GNode.kind("FunctionDefinition");
+  private static final int KIND_DeclarationList = GNode.kind("DeclarationList");
+  private static final int KIND_EmptyDefinition = GNode.kind("EmptyDefinition");
+  private static final int KIND_Declaration = GNode.kind("Declaration");
+  private static final int KIND_DeclarationSpecifiers = GNode.kind("DeclarationSpecifiers");
+  private static final int KIND_FunctionSpecifier = GNode.kind("FunctionSpecifier");
+  private static final int KIND_InitializedDeclaratorList = GNode.kind("InitializedDeclaratorList");
+  private static final int KIND_InitializedDeclarator = GNode.kind("InitializedDeclarator");
+  private static final int KIND_AutoSpecifier = GNode.kind("AutoSpecifier");
+  private static final int KIND_ExternSpecifier = GNode.kind("ExternSpecifier");
+  private static final int KIND_RegisterSpecifier = GNode.kind("RegisterSpecifier");
+  private static final int KIND_StaticSpecifier = GNode.kind("StaticSpecifier");
+  private static final int KIND_ThreadSpecifier = GNode.kind("ThreadSpecifier");
+  private static final int KIND_TypedefSpecifier = GNode.kind("TypedefSpecifier");
+  private static final int KIND_VolatileQualifier = GNode.kind("VolatileQualifier");
+  private static final int KIND_ConstantQualifier = GNode.kind("ConstantQualifier");
+  private static final int KIND_RestrictQualifier = GNode.kind("RestrictQualifier");
+  private static final int KIND_TypedefName = GNode.kind("TypedefName");
+  private static final int KIND_TypeofSpecifier = GNode.kind("TypeofSpecifier");
+  private static final int KIND_VoidTypeSpecifier = GNode.kind("VoidTypeSpecifier");
+  private static final int KIND_VarArgListSpecifier = GNode.kind("VarArgListSpecifier");
+  private static final int KIND_EnumerationTypeDefinition = GNode.kind("EnumerationTypeDefinition");
+  private static final int KIND_EnumerationTypeReference = GNode.kind("EnumerationTypeReference");
+  private static final int KIND_EnumeratorList = GNode.kind("EnumeratorList");
+  private static final int KIND_Enumerator = GNode.kind("Enumerator");
+  private static final int KIND_StructureTypeDefinition = GNode.kind("StructureTypeDefinition");
+  private static final int KIND_StructureTypeReference = GNode.kind("StructureTypeReference");
+  private static final int KIND_UnionTypeDefinition = GNode.kind("UnionTypeDefinition");
+  private static final int KIND_UnionTypeReference = GNode.kind("UnionTypeReference");
+  private static final int KIND_StructureDeclarationList = GNode.kind("StructureDeclarationList");
+  private static final int KIND_StructureDeclaration = GNode.kind("StructureDeclaration");
+  private static final int KIND_SpecifierQualifierList = GNode.kind("SpecifierQualifierList");
+  private static final int KIND_StructureDeclaratorList = GNode.kind("StructureDeclaratorList");
+  private static final int KIND_BitField = GNode.kind("BitField");
+  private static final int KIND_AttributedDeclarator = GNode.kind("AttributedDeclarator");
+  private static final int KIND_PointerDeclarator = GNode.kind("PointerDeclarator");
+  private static final int KIND_Pointer = GNode.kind("Pointer");
+  private static final int KIND_TypeQualifierList = GNode.kind("TypeQualifierList");
+  private static final int KIND_FunctionDeclarator = GNode.kind("FunctionDeclarator");
+  private static final int KIND_ArrayDeclarator = GNode.kind("ArrayDeclarator");
+  private static final int KIND_VariableLength = GNode.kind("VariableLength");
+  private static final int KIND_SimpleDeclarator = GNode.kind("SimpleDeclarator");
+  private static final int KIND_ParameterTypeList = GNode.kind("ParameterTypeList");
+  private static final int KIND_ParameterList = GNode.kind("ParameterList");
+  private static final int KIND_ParameterDeclaration = GNode.kind("ParameterDeclaration");
+  private static final int KIND_AttributedAbstractDeclarator = GNode.kind("AttributedAbstractDeclarator");
+  private static final int KIND_AbstractDeclarator = GNode.kind("AbstractDeclarator");
+  private static final int KIND_DirectAbstractDeclarator = GNode.kind("DirectAbstractDeclarator");
+  private static final int KIND_IdentifierList = GNode.kind("IdentifierList");
+  private static final int KIND_ArrayQualifierList = GNode.kind("ArrayQualifierList");
+  private static final int KIND_Complex = GNode.kind("Complex");
+  private static final int KIND_Double = GNode.kind("Double");
+  private static final int KIND_Float = GNode.kind("Float");
+  private static final int KIND_Long = GNode.kind("Long");
+  private static final int KIND_Int = GNode.kind("Int");
+  private static final int KIND_Short = GNode.kind("Short");
+  private static final int KIND_Char = GNode.kind("Char");
+  private static final int KIND_Bool = GNode.kind("Bool");
+  private static final int KIND_Unsigned = GNode.kind("Unsigned");
+  private static final int KIND_Signed = GNode.kind("Signed");
+  private static final int KIND_InitializerList = GNode.kind("InitializerList");
+  private static final int KIND_InitializerListEntry = GNode.kind("InitializerListEntry");
+  private static final int KIND_Designation = GNode.kind("Designation");
+  private static final int KIND_Designator = GNode.kind("Designator");
+  private static final int KIND_ObsoleteArrayDesignation = GNode.kind("ObsoleteArrayDesignation");
+  private static final int KIND_ObsoleteFieldDesignation = GNode.kind("ObsoleteFieldDesignation");
+  private static final int KIND_TypeName = GNode.kind("TypeName");
+  private static final int KIND_AttributeSpecifierList = GNode.kind("AttributeSpecifierList");
+  private static final int KIND_AttributeSpecifier = GNode.kind("AttributeSpecifier");
+  private static final int KIND_AttributeList = GNode.kind("AttributeList");
+  private static final int KIND_AttributeListEntry = GNode.kind("AttributeListEntry");
+  private static final int KIND_ExpressionStatement = GNode.kind("ExpressionStatement");
+  private static final int KIND_IfElseStatement = GNode.kind("IfElseStatement");
+  private static final int KIND_IfStatement = GNode.kind("IfStatement");
+  private static final int KIND_WhileStatement = GNode.kind("WhileStatement");
+  private static final int KIND_DoStatement = GNode.kind("DoStatement");
+  private static final int KIND_ForStatement = GNode.kind("ForStatement");
+  private static final int KIND_SwitchStatement = GNode.kind("SwitchStatement");
+  private static final int KIND_LabeledStatement = GNode.kind("LabeledStatement");
+  private static final int KIND_BreakStatement = GNode.kind("BreakStatement");
+  private static final int KIND_ContinueStatement = GNode.kind("ContinueStatement");
+  private static final int KIND_ReturnStatement = GNode.kind("ReturnStatement");
+  private static final int KIND_GotoStatement = GNode.kind("GotoStatement");
+  private static final int KIND_AssemblyStatement = GNode.kind("AssemblyStatement");
+  private static final int KIND_EmptyStatement = GNode.kind("EmptyStatement");
+  private static final int KIND_NamedLabel = GNode.kind("NamedLabel");
+  private static final int KIND_CaseLabel = GNode.kind("CaseLabel");
+  private static final int KIND_DefaultLabel = GNode.kind("DefaultLabel");
+  private static final int KIND_CompoundStatement = GNode.kind("CompoundStatement");
+  private static final int KIND_LocalLabelDeclaration = GNode.kind("LocalLabelDeclaration");
+  private static final int KIND_CommaExpression = GNode.kind("CommaExpression");
+  private static final int KIND_AssignmentExpression = GNode.kind("AssignmentExpression");
+  private static final int KIND_ConditionalExpression = GNode.kind("ConditionalExpression");
+  private static final int KIND_LogicalOrExpression = GNode.kind("LogicalOrExpression");
+  private static final int KIND_LogicalAndExpression = GNode.kind("LogicalAndExpression");
+  private static final int KIND_BitwiseOrExpression = GNode.kind("BitwiseOrExpression");
+  private static final int KIND_BitwiseXorExpression = GNode.kind("BitwiseXorExpression");
+  private static final int KIND_BitwiseAndExpression = GNode.kind("BitwiseAndExpression");
+  private static final int KIND_EqualityExpression = GNode.kind("EqualityExpression");
+  private static final int KIND_RelationalExpression = GNode.kind("RelationalExpression");
+  private static final int KIND_ShiftExpression = GNode.kind("ShiftExpression");
+  private static final int KIND_AdditiveExpression = GNode.kind("AdditiveExpression");
+  private static final int KIND_MultiplicativeExpression = GNode.kind("MultiplicativeExpression");
+  private static final int KIND_CastExpression = GNode.kind("CastExpression");
+  private static final int KIND_SizeofExpression = GNode.kind("SizeofExpression");
+  private static final int KIND_AlignofExpression = GNode.kind("AlignofExpression");
+  private static final int KIND_OffsetofExpression = GNode.kind("OffsetofExpression");
+  private static final int KIND_TypeCompatibilityExpression = GNode.kind("TypeCompatibilityExpression");
+  private static final int KIND_UnaryMinusExpression = GNode.kind("UnaryMinusExpression");
+  private static final int KIND_UnaryPlusExpression = GNode.kind("UnaryPlusExpression");
+  private static final int KIND_LogicalNegationExpression = GNode.kind("LogicalNegationExpression");
+  private static final int KIND_BitwiseNegationExpression = GNode.kind("BitwiseNegationExpression");
+  private static final int KIND_AddressExpression = GNode.kind("AddressExpression");
+  private static final int KIND_LabelAddressExpression = GNode.kind("LabelAddressExpression");
+  private static final int KIND_IndirectionExpression = GNode.kind("IndirectionExpression");
+  private static final int KIND_PreincrementExpression = GNode.kind("PreincrementExpression");
+  private static final int KIND_PredecrementExpression = GNode.kind("PredecrementExpression");
+  private static final int KIND_ExtensionExpression = GNode.kind("ExtensionExpression");
+  private static final int KIND_SubscriptExpression = GNode.kind("SubscriptExpression");
+  private static final int KIND_DirectComponentSelection = GNode.kind("DirectComponentSelection");
+  private static final int KIND_IndirectComponentSelection = GNode.kind("IndirectComponentSelection");
+  private static final int KIND_FunctionCall = GNode.kind("FunctionCall");
+  private static final int KIND_PostincrementExpression = GNode.kind("PostincrementExpression");
+  private static final int KIND_PostdecrementExpression = GNode.kind("PostdecrementExpression");
+  private static final int KIND_ExpressionList = GNode.kind("ExpressionList");
+  private static final int KIND_CompoundLiteral = GNode.kind("CompoundLiteral");
+  private static final int KIND_PrimaryIdentifier = GNode.kind("PrimaryIdentifier");
+  private static final int KIND_StatementAsExpression = GNode.kind("StatementAsExpression");
+  private static final int KIND_VariableArgumentAccess = GNode.kind("VariableArgumentAccess");
+  private static final int KIND_AssemblyDefinition = GNode.kind("AssemblyDefinition");
+  private static final int KIND_SimpleAssemblyExpression = GNode.kind("SimpleAssemblyExpression");
+  private static final int KIND_AssemblyArgument = GNode.kind("AssemblyArgument");
+  private static final int KIND_AssemblyOperands = GNode.kind("AssemblyOperands");
+  private static final int KIND_AssemblyOperand = GNode.kind("AssemblyOperand");
+  private static final int KIND_AssemblyClobbers = GNode.kind("AssemblyClobbers");
+  private static final int KIND_IntegerConstant = GNode.kind("IntegerConstant");
+  private static final int KIND_FloatingConstant = GNode.kind("FloatingConstant");
+  private static final int KIND_CharacterConstant = GNode.kind("CharacterConstant");
+  private static final int KIND_StringConstant = GNode.kind("StringConstant");
+
 }
@@ -232,7 +232,7 @@ public final class CReader extends ParserBase {
         yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
 
-          yyValue = GNode.create("TranslationUnit", v$g$1.size() + 1).
+          yyValue = GNode.create(KIND_TranslationUnit, v$g$1.size() + 1).
             addAll(v$g$1).add(v$g$2);
           yyValue.setLocation(location(yyStart));
 
@@ -450,7 +450,7 @@ public final class CReader extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$5 = yyResult.semanticValue();
 
-                yyValue = GNode.create("FunctionDefinition", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+                yyValue = GNode.create(KIND_FunctionDefinition, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -505,7 +505,7 @@ public final class CReader extends ParserBase {
     if (yyRepeated1) {
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("DeclarationList", v$g$1);
+      yyValue = GNode.createFromPair(KIND_DeclarationList, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -573,7 +573,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
       final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("EmptyDefinition", false);
+      yyValue = GNode.create(KIND_EmptyDefinition, false);
       yyValue.setLocation(location(yyStart));
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -677,7 +677,7 @@ public final class CReader extends ParserBase {
               final Node v$pt$1 = yyResult.semanticValue();
               final Node v$g$3 = Formatting.after1(l, v$pt$1);
 
-              yyValue = GNode.create("Declaration", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_Declaration, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -728,7 +728,7 @@ public final class CReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("DeclarationSpecifiers", v$g$1);
+      yyValue = GNode.createFromPair(KIND_DeclarationSpecifiers, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -843,7 +843,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("inline")) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$1);
+      yyValue = GNode.create(KIND_FunctionSpecifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -856,7 +856,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("__inline")) {
       final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$2);
+      yyValue = GNode.create(KIND_FunctionSpecifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -869,7 +869,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("__inline__")) {
       final Node v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$3);
+      yyValue = GNode.create(KIND_FunctionSpecifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -944,7 +944,7 @@ public final class CReader extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("InitializedDeclaratorList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_InitializedDeclaratorList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -1045,7 +1045,7 @@ public final class CReader extends ParserBase {
             { // Start scope for v$g$5.
               final Node v$g$5 = yyOpValue1;
 
-              yyValue = GNode.create("InitializedDeclarator", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+              yyValue = GNode.create(KIND_InitializedDeclarator, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyOption1, yyError);
@@ -1082,7 +1082,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("auto")) {
       final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("AutoSpecifier", false);
+      yyValue = GNode.create(KIND_AutoSpecifier, false);
       yyValue.setLocation(location(yyStart));
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -1096,7 +1096,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("extern")) {
       final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("ExternSpecifier", false);
+      yyValue = GNode.create(KIND_ExternSpecifier, false);
       yyValue.setLocation(location(yyStart));
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -1110,7 +1110,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("register")) {
       final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("RegisterSpecifier", false);
+      yyValue = GNode.create(KIND_RegisterSpecifier, false);
       yyValue.setLocation(location(yyStart));
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -1124,7 +1124,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("static")) {
       final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("StaticSpecifier", false);
+      yyValue = GNode.create(KIND_StaticSpecifier, false);
       yyValue.setLocation(location(yyStart));
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -1138,7 +1138,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("__thread")) {
       final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("ThreadSpecifier", false);
+      yyValue = GNode.create(KIND_ThreadSpecifier, false);
       yyValue.setLocation(location(yyStart));
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -1156,7 +1156,7 @@ public final class CReader extends ParserBase {
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
 
-        yyValue = GNode.create("TypedefSpecifier", false);
+        yyValue = GNode.create(KIND_TypedefSpecifier, false);
         yyValue.setLocation(location(yyStart));
         yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -1190,7 +1190,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("volatile")) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("VolatileQualifier", v$g$1);
+      yyValue = GNode.create(KIND_VolatileQualifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1203,7 +1203,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("__volatile")) {
       final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("VolatileQualifier", v$g$2);
+      yyValue = GNode.create(KIND_VolatileQualifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1216,7 +1216,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("__volatile__")) {
       final Node v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("VolatileQualifier", v$g$3);
+      yyValue = GNode.create(KIND_VolatileQualifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1229,7 +1229,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("const")) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("ConstantQualifier", v$g$1);
+      yyValue = GNode.create(KIND_ConstantQualifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1242,7 +1242,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("__const")) {
       final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("ConstantQualifier", v$g$2);
+      yyValue = GNode.create(KIND_ConstantQualifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1255,7 +1255,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("__const__")) {
       final Node v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("ConstantQualifier", v$g$3);
+      yyValue = GNode.create(KIND_ConstantQualifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1268,7 +1268,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("restrict")) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("RestrictQualifier", v$g$1);
+      yyValue = GNode.create(KIND_RestrictQualifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1281,7 +1281,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("__restrict")) {
       final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("RestrictQualifier", v$g$2);
+      yyValue = GNode.create(KIND_RestrictQualifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1294,7 +1294,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("__restrict__")) {
       final Node v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("RestrictQualifier", v$g$3);
+      yyValue = GNode.create(KIND_RestrictQualifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1379,7 +1379,7 @@ public final class CReader extends ParserBase {
 
       if (yyState.isType(toText(id))) {
 
-        yyValue = GNode.create("TypedefName", id);
+        yyValue = GNode.create(KIND_TypedefName, id);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -1416,7 +1416,7 @@ public final class CReader extends ParserBase {
             final Node v$g$1 = Formatting.variable().
               add(v$pt$1).add(v$pt$2).addNode(v$pt$4).add(v$pt$3);
 
-            yyValue = GNode.create("TypeofSpecifier", v$g$1);
+            yyValue = GNode.create(KIND_TypeofSpecifier, v$g$1);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -1440,7 +1440,7 @@ public final class CReader extends ParserBase {
             final Node v$g$2 = Formatting.variable().
               add(v$pt$1).add(v$pt$2).addNode(v$pt$6).add(v$pt$5);
 
-            yyValue = GNode.create("TypeofSpecifier", v$g$2);
+            yyValue = GNode.create(KIND_TypeofSpecifier, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -1460,7 +1460,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("void")) {
       final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("VoidTypeSpecifier", false);
+      yyValue = GNode.create(KIND_VoidTypeSpecifier, false);
       yyValue.setLocation(location(yyStart));
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -1474,7 +1474,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("__builtin_va_list")) {
       final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("VarArgListSpecifier", false);
+      yyValue = GNode.create(KIND_VarArgListSpecifier, false);
       yyValue.setLocation(location(yyStart));
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -1596,7 +1596,7 @@ public final class CReader extends ParserBase {
                   { // Start scope for v$g$4.
                     final Node v$g$4 = yyOpValue1;
 
-                    yyValue = GNode.create("EnumerationTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
+                    yyValue = GNode.create(KIND_EnumerationTypeDefinition, v$g$1, v$g$2, v$g$3, v$g$4);
                     yyValue.setLocation(location(yyStart));
 
                     return new SemanticValue(yyValue, yyOption1, yyError);
@@ -1618,7 +1618,7 @@ public final class CReader extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("EnumerationTypeReference", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_EnumerationTypeReference, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -1683,7 +1683,7 @@ public final class CReader extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("EnumeratorList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_EnumeratorList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -1744,7 +1744,7 @@ public final class CReader extends ParserBase {
       { // Start scope for v$g$1.
         final Node v$g$1 = yyOpValue1;
 
-        yyValue = GNode.create("Enumerator", id, v$g$1);
+        yyValue = GNode.create(KIND_Enumerator, id, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -1863,7 +1863,7 @@ public final class CReader extends ParserBase {
                         { // Start scope for v$g$4.
                           final Node v$g$4 = yyOpValue1;
 
-                          yyValue = GNode.create("StructureTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
+                          yyValue = GNode.create(KIND_StructureTypeDefinition, v$g$1, v$g$2, v$g$3, v$g$4);
                           yyValue.setLocation(location(yyStart));
 
                           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -1888,7 +1888,7 @@ public final class CReader extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("StructureTypeReference", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_StructureTypeReference, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2007,7 +2007,7 @@ public final class CReader extends ParserBase {
                         { // Start scope for v$g$4.
                           final Node v$g$4 = yyOpValue1;
 
-                          yyValue = GNode.create("UnionTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
+                          yyValue = GNode.create(KIND_UnionTypeDefinition, v$g$1, v$g$2, v$g$3, v$g$4);
                           yyValue.setLocation(location(yyStart));
 
                           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -2032,7 +2032,7 @@ public final class CReader extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("UnionTypeReference", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_UnionTypeReference, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2092,7 +2092,7 @@ public final class CReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("StructureDeclarationList", v$g$1.size() + 1).
+        yyValue = GNode.create(KIND_StructureDeclarationList, v$g$1.size() + 1).
           addAll(v$g$1).add(v$g$2);
         yyValue.setLocation(location(yyStart));
 
@@ -2109,7 +2109,7 @@ public final class CReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$3 = yyResult.semanticValue();
 
-        yyValue = GNode.create("StructureDeclarationList", v$g$3);
+        yyValue = GNode.create(KIND_StructureDeclarationList, v$g$3);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -2259,7 +2259,7 @@ public final class CReader extends ParserBase {
               final Node v$g$3 = Formatting.variable().
                 addNode(v$pt$4).add(v$pt$2).add(v$pt$3);
 
-              yyValue = GNode.create("StructureDeclaration", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_StructureDeclaration, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyOption1, yyError);
@@ -2310,7 +2310,7 @@ public final class CReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("SpecifierQualifierList", v$g$1);
+      yyValue = GNode.createFromPair(KIND_SpecifierQualifierList, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -2517,7 +2517,7 @@ public final class CReader extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("StructureDeclaratorList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_StructureDeclaratorList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -2600,7 +2600,7 @@ public final class CReader extends ParserBase {
             { // Start scope for v$g$4.
               final Node v$g$4 = yyOpValue1;
 
-              yyValue = GNode.create("BitField", v$g$1, v$g$2, v$g$3, v$g$4);
+              yyValue = GNode.create(KIND_BitField, v$g$1, v$g$2, v$g$3, v$g$4);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyOption1, yyError);
@@ -2688,7 +2688,7 @@ public final class CReader extends ParserBase {
         { // Start scope for v$g$3.
           final Node v$g$3 = yyOpValue1;
 
-          yyValue = GNode.create("AttributedDeclarator", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_AttributedDeclarator, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -2773,7 +2773,7 @@ public final class CReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("PointerDeclarator", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_PointerDeclarator, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -2836,7 +2836,7 @@ public final class CReader extends ParserBase {
         { // Start scope for v$g$2.
           final Node v$g$2 = yyOpValue1;
 
-          yyValue = GNode.create("Pointer", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_Pointer, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -2885,7 +2885,7 @@ public final class CReader extends ParserBase {
     { // Start scope for v$g$1.
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("TypeQualifierList", v$g$1);
+      yyValue = GNode.createFromPair(KIND_TypeQualifierList, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -3084,7 +3084,7 @@ public final class CReader extends ParserBase {
 
               yyValue = new Action<Node>() {
                 public Node run(Node v$1) {
-                  return GNode.create("FunctionDeclarator", v$1, v$g$2);
+                  return GNode.create(KIND_FunctionDeclarator, v$1, v$g$2);
                 }};
 
               return yyResult.createValue(yyValue, yyError);
@@ -3123,7 +3123,7 @@ public final class CReader extends ParserBase {
 
               yyValue = new Action<Node>() {
                 public Node run(Node v$1) {
-                  return GNode.create("FunctionDeclarator", v$1, v$g$3);
+                  return GNode.create(KIND_FunctionDeclarator, v$1, v$g$3);
                 }};
 
               return yyResult.createValue(yyValue, yyError);
@@ -3175,7 +3175,7 @@ public final class CReader extends ParserBase {
 
             yyValue = new Action<Node>() {
               public Node run(Node v$1) {
-                return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$5);
+                return GNode.create(KIND_ArrayDeclarator, v$1, v$g$4, v$g$5);
               }};
 
             return yyResult.createValue(yyValue, yyError);
@@ -3200,7 +3200,7 @@ public final class CReader extends ParserBase {
 
             yyValue = new Action<Node>() {
               public Node run(Node v$1) {
-                return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$6);
+                return GNode.create(KIND_ArrayDeclarator, v$1, v$g$4, v$g$6);
               }};
 
             return yyResult.createValue(yyValue, yyError);
@@ -3246,7 +3246,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("*")) {
       final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("VariableLength", false);
+      yyValue = GNode.create(KIND_VariableLength, false);
       yyValue.setLocation(location(yyStart));
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -3281,7 +3281,7 @@ public final class CReader extends ParserBase {
 
       yyState.bind(toText(id));
 
-      yyValue = GNode.create("SimpleDeclarator", id);
+      yyValue = GNode.create(KIND_SimpleDeclarator, id);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -3351,7 +3351,7 @@ public final class CReader extends ParserBase {
       { // Start scope for v$g$2.
         final Node v$g$2 = yyOpValue1;
 
-        yyValue = GNode.create("ParameterTypeList", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_ParameterTypeList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -3414,7 +3414,7 @@ public final class CReader extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("ParameterList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_ParameterList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -3474,7 +3474,7 @@ public final class CReader extends ParserBase {
         { // Start scope for v$g$3.
           final Node v$g$3 = yyOpValue1;
 
-          yyValue = GNode.create("ParameterDeclaration", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_ParameterDeclaration, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           // Commit the state modification.
@@ -3513,7 +3513,7 @@ public final class CReader extends ParserBase {
         { // Start scope for v$g$5.
           final Node v$g$5 = yyOpValue1;
 
-          yyValue = GNode.create("ParameterDeclaration", v$g$1, v$g$4, v$g$5);
+          yyValue = GNode.create(KIND_ParameterDeclaration, v$g$1, v$g$4, v$g$5);
           yyValue.setLocation(location(yyStart));
 
           // Commit the state modification.
@@ -3570,7 +3570,7 @@ public final class CReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("AttributedAbstractDeclarator", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_AttributedAbstractDeclarator, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -3629,7 +3629,7 @@ public final class CReader extends ParserBase {
 
         if ((null != p) || (null != d)) {
 
-          yyValue = GNode.create("AbstractDeclarator", p, d);
+          yyValue = GNode.create(KIND_AbstractDeclarator, p, d);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -3787,7 +3787,7 @@ public final class CReader extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$3);
+              return GNode.create(KIND_DirectAbstractDeclarator, v$1, v$g$2, v$g$3);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -3812,7 +3812,7 @@ public final class CReader extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$4);
+              return GNode.create(KIND_DirectAbstractDeclarator, v$1, v$g$2, v$g$4);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -3852,7 +3852,7 @@ public final class CReader extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$5, v$g$6);
+              return GNode.create(KIND_DirectAbstractDeclarator, v$1, v$g$5, v$g$6);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -3923,7 +3923,7 @@ public final class CReader extends ParserBase {
       { // Start scope for v$g$1.
         final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("IdentifierList", id1, v$g$1);
+        yyValue = GNode.createFromPair(KIND_IdentifierList, id1, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -3970,7 +3970,7 @@ public final class CReader extends ParserBase {
     { // Start scope for v$g$1.
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("ArrayQualifierList", v$g$1);
+      yyValue = GNode.createFromPair(KIND_ArrayQualifierList, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -4000,7 +4000,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("static")) {
       final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("StaticSpecifier", false);
+      yyValue = GNode.create(KIND_StaticSpecifier, false);
       yyValue.setLocation(location(yyStart));
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -4014,7 +4014,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("volatile")) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("VolatileQualifier", v$g$1);
+      yyValue = GNode.create(KIND_VolatileQualifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4027,7 +4027,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("__volatile")) {
       final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("VolatileQualifier", v$g$2);
+      yyValue = GNode.create(KIND_VolatileQualifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4040,7 +4040,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("__volatile__")) {
       final Node v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("VolatileQualifier", v$g$3);
+      yyValue = GNode.create(KIND_VolatileQualifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4053,7 +4053,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("restrict")) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("RestrictQualifier", v$g$1);
+      yyValue = GNode.create(KIND_RestrictQualifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4066,7 +4066,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("__restrict")) {
       final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("RestrictQualifier", v$g$2);
+      yyValue = GNode.create(KIND_RestrictQualifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4079,7 +4079,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("__restrict__")) {
       final Node v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("RestrictQualifier", v$g$3);
+      yyValue = GNode.create(KIND_RestrictQualifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4092,7 +4092,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("const")) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("ConstantQualifier", v$g$1);
+      yyValue = GNode.create(KIND_ConstantQualifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4105,7 +4105,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("__const")) {
       final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("ConstantQualifier", v$g$2);
+      yyValue = GNode.create(KIND_ConstantQualifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4118,7 +4118,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("__const__")) {
       final Node v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("ConstantQualifier", v$g$3);
+      yyValue = GNode.create(KIND_ConstantQualifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4162,7 +4162,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("_Complex")) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Complex", v$g$1);
+      yyValue = GNode.create(KIND_Complex, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4175,7 +4175,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("__complex__")) {
       final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Complex", v$g$2);
+      yyValue = GNode.create(KIND_Complex, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4188,7 +4188,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("double")) {
       final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Double", false);
+      yyValue = GNode.create(KIND_Double, false);
       yyValue.setLocation(location(yyStart));
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -4202,7 +4202,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("float")) {
       final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Float", false);
+      yyValue = GNode.create(KIND_Float, false);
       yyValue.setLocation(location(yyStart));
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -4235,7 +4235,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("long")) {
       final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Long", false);
+      yyValue = GNode.create(KIND_Long, false);
       yyValue.setLocation(location(yyStart));
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -4249,7 +4249,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("int")) {
       final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Int", false);
+      yyValue = GNode.create(KIND_Int, false);
       yyValue.setLocation(location(yyStart));
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -4263,7 +4263,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("short")) {
       final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Short", false);
+      yyValue = GNode.create(KIND_Short, false);
       yyValue.setLocation(location(yyStart));
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -4277,7 +4277,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("char")) {
       final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Char", false);
+      yyValue = GNode.create(KIND_Char, false);
       yyValue.setLocation(location(yyStart));
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -4291,7 +4291,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("_Bool")) {
       final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Bool", false);
+      yyValue = GNode.create(KIND_Bool, false);
       yyValue.setLocation(location(yyStart));
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -4305,7 +4305,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("unsigned")) {
       final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Unsigned", false);
+      yyValue = GNode.create(KIND_Unsigned, false);
       yyValue.setLocation(location(yyStart));
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -4319,7 +4319,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("signed")) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Signed", v$g$1);
+      yyValue = GNode.create(KIND_Signed, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4332,7 +4332,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("__signed")) {
       final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Signed", v$g$2);
+      yyValue = GNode.create(KIND_Signed, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4345,7 +4345,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("__signed__")) {
       final Node v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Signed", v$g$3);
+      yyValue = GNode.create(KIND_Signed, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4377,7 +4377,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("typeof")) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("TypeofKeyword", v$g$1);
+      yyValue = GNode.create(KIND_TypeofKeyword, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4390,7 +4390,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("__typeof")) {
       final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("TypeofKeyword", v$g$2);
+      yyValue = GNode.create(KIND_TypeofKeyword, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4403,7 +4403,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("__typeof__")) {
       final Node v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("TypeofKeyword", v$g$3);
+      yyValue = GNode.create(KIND_TypeofKeyword, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -4543,7 +4543,7 @@ public final class CReader extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("InitializerList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_InitializerList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -4554,7 +4554,7 @@ public final class CReader extends ParserBase {
 
     if (GCC) {
 
-      yyValue = GNode.create("InitializerList", false);
+      yyValue = GNode.create(KIND_InitializerList, false);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyStart, yyError);
@@ -4602,7 +4602,7 @@ public final class CReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("InitializerListEntry", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_InitializerListEntry, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -4720,7 +4720,7 @@ public final class CReader extends ParserBase {
     if (yyRepeated1) {
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("Designation", v$g$1);
+      yyValue = GNode.createFromPair(KIND_Designation, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -4764,7 +4764,7 @@ public final class CReader extends ParserBase {
           final Node v$pt$1 = yyResult.semanticValue();
           final Node v$g$2 = Formatting.after1(v$pt$2, v$pt$1);
 
-          yyValue = GNode.create("Designator", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_Designator, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -4807,7 +4807,7 @@ public final class CReader extends ParserBase {
                 final Node v$pt$5 = yyResult.semanticValue();
                 final Node v$g$5 = Formatting.after1(v$pt$6, v$pt$5);
 
-                yyValue = GNode.create("Designator", v$g$3, v$g$4, v$g$5);
+                yyValue = GNode.create(KIND_Designator, v$g$3, v$g$4, v$g$5);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -4834,7 +4834,7 @@ public final class CReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$7 = yyResult.semanticValue();
 
-        yyValue = GNode.create("Designator", v$g$6, v$g$7);
+        yyValue = GNode.create(KIND_Designator, v$g$6, v$g$7);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -4885,7 +4885,7 @@ public final class CReader extends ParserBase {
             ((Node)yyResult.semanticValue()).getTokenText().equals("]")) {
           final Node v$pt$1 = yyResult.semanticValue();
 
-          yyValue = GNode.create("ObsoleteArrayDesignation", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_ObsoleteArrayDesignation, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
           yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -4914,7 +4914,7 @@ public final class CReader extends ParserBase {
               final Node v$pt$3 = yyResult.semanticValue();
               final Node v$g$3 = Formatting.round1(v$pt$2, v$pt$4, v$pt$3);
 
-              yyValue = GNode.create("ObsoleteArrayDesignation", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_ObsoleteArrayDesignation, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -4964,7 +4964,7 @@ public final class CReader extends ParserBase {
         final Node v$pt$1 = yyResult.semanticValue();
         final Node v$g$1 = Formatting.after1(v$pt$2, v$pt$1);
 
-        yyValue = GNode.create("ObsoleteFieldDesignation", v$g$1);
+        yyValue = GNode.create(KIND_ObsoleteFieldDesignation, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5026,7 +5026,7 @@ public final class CReader extends ParserBase {
       { // Start scope for v$g$2.
         final Node v$g$2 = yyOpValue1;
 
-        yyValue = GNode.create("TypeName", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_TypeName, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         // Commit the state modification.
@@ -5077,7 +5077,7 @@ public final class CReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("AttributeSpecifierList", v$g$1);
+      yyValue = GNode.createFromPair(KIND_AttributeSpecifierList, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -5209,7 +5209,7 @@ public final class CReader extends ParserBase {
                 final Node v$g$1 = Formatting.variable().
                   add(v$pt$1).add(v$pt$2).add(v$pt$3).addNode(v$pt$6).add(v$pt$4).add(v$pt$5);
 
-                yyValue = GNode.create("AttributeSpecifier", v$g$1);
+                yyValue = GNode.create(KIND_AttributeSpecifier, v$g$1);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -5253,7 +5253,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("__attribute")) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("AttributeKeyword", v$g$1);
+      yyValue = GNode.create(KIND_AttributeKeyword, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -5266,7 +5266,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("__attribute__")) {
       final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("AttributeKeyword", v$g$2);
+      yyValue = GNode.create(KIND_AttributeKeyword, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -5329,7 +5329,7 @@ public final class CReader extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("AttributeList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_AttributeList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -5408,7 +5408,7 @@ public final class CReader extends ParserBase {
       { // Start scope for v$g$2.
         final Node v$g$2 = yyOpValue1;
 
-        yyValue = GNode.create("AttributeListEntry", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_AttributeListEntry, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -5459,7 +5459,7 @@ public final class CReader extends ParserBase {
         final Node v$pt$1 = yyResult.semanticValue();
         final Node v$g$1 = Formatting.after1(v$pt$2, v$pt$1);
 
-        yyValue = GNode.create("ExpressionStatement", v$g$1);
+        yyValue = GNode.create(KIND_ExpressionStatement, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5525,7 +5525,7 @@ public final class CReader extends ParserBase {
                 if (yyResult.hasValue()) {
                   final Node v$g$3 = yyResult.semanticValue();
 
-                  yyValue = GNode.create("IfElseStatement", v$g$1, v$g$2, v$g$3);
+                  yyValue = GNode.create(KIND_IfElseStatement, v$g$1, v$g$2, v$g$3);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -5542,7 +5542,7 @@ public final class CReader extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("IfStatement", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_IfStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -5587,7 +5587,7 @@ public final class CReader extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_WhileStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -5646,7 +5646,7 @@ public final class CReader extends ParserBase {
                   final Node v$g$2 = Formatting.variable().
                     addNode(v$pt$7).add(v$pt$5).add(v$pt$6);
 
-                  yyValue = GNode.create("DoStatement", v$g$1, v$g$2);
+                  yyValue = GNode.create(KIND_DoStatement, v$g$1, v$g$2);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -5741,7 +5741,7 @@ public final class CReader extends ParserBase {
                       yyError  = yyResult.select(yyError);
                       if (yyResult.hasValue()) {
 
-                        yyValue = GNode.create("ForStatement", v$g$1, v$g$2, v$g$3, v$g$4);
+                        yyValue = GNode.create(KIND_ForStatement, v$g$1, v$g$2, v$g$3, v$g$4);
                         yyValue.setLocation(location(yyStart));
 
                         return yyResult.createValue(yyValue, yyError);
@@ -5793,7 +5793,7 @@ public final class CReader extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("SwitchStatement", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_SwitchStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -5819,7 +5819,7 @@ public final class CReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("LabeledStatement", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_LabeledStatement, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5835,7 +5835,7 @@ public final class CReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$3 = yyResult.semanticValue();
 
-        yyValue = GNode.create("LabeledStatement", v$g$3, null);
+        yyValue = GNode.create(KIND_LabeledStatement, v$g$3, null);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5855,7 +5855,7 @@ public final class CReader extends ParserBase {
           ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
         final Node v$pt$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("BreakStatement", false);
+        yyValue = GNode.create(KIND_BreakStatement, false);
         yyValue.setLocation(location(yyStart));
         yyValue = Formatting.variable().addNode(yyValue).
           add(v$pt$1).add(v$pt$2);
@@ -5879,7 +5879,7 @@ public final class CReader extends ParserBase {
           ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
         final Node v$pt$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("ContinueStatement", false);
+        yyValue = GNode.create(KIND_ContinueStatement, false);
         yyValue.setLocation(location(yyStart));
         yyValue = Formatting.variable().addNode(yyValue).
           add(v$pt$1).add(v$pt$2);
@@ -5918,7 +5918,7 @@ public final class CReader extends ParserBase {
           final Node v$pt$2 = yyResult.semanticValue();
           final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
-          yyValue = GNode.create("ReturnStatement", v$g$1);
+          yyValue = GNode.create(KIND_ReturnStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -5948,7 +5948,7 @@ public final class CReader extends ParserBase {
           final Node v$pt$3 = yyResult.semanticValue();
           final Node v$g$2 = Formatting.after1(v$pt$4, v$pt$3);
 
-          yyValue = GNode.create("GotoStatement", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_GotoStatement, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -5986,7 +5986,7 @@ public final class CReader extends ParserBase {
               final Node v$pt$7 = yyResult.semanticValue();
               final Node v$g$4 = Formatting.after1(v$pt$8, v$pt$7);
 
-              yyValue = GNode.create("GotoStatement", v$g$3, v$g$4);
+              yyValue = GNode.create(KIND_GotoStatement, v$g$3, v$g$4);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -6046,7 +6046,7 @@ public final class CReader extends ParserBase {
                   ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
                 final Node v$g$3 = yyResult.semanticValue();
 
-                yyValue = GNode.create("AssemblyStatement", v$g$1, v$g$2, v$g$3);
+                yyValue = GNode.create(KIND_AssemblyStatement, v$g$1, v$g$2, v$g$3);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -6070,7 +6070,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
       final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("EmptyStatement", false);
+      yyValue = GNode.create(KIND_EmptyStatement, false);
       yyValue.setLocation(location(yyStart));
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -6127,7 +6127,7 @@ public final class CReader extends ParserBase {
         { // Start scope for v$g$2.
           final Node v$g$2 = yyOpValue1;
 
-          yyValue = GNode.create("NamedLabel", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_NamedLabel, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -6170,7 +6170,7 @@ public final class CReader extends ParserBase {
                 final Node v$pt$4 = yyResult.semanticValue();
                 final Node v$g$2 = Formatting.after1(v$pt$5, v$pt$4);
 
-                yyValue = GNode.create("CaseLabel", v$g$1, v$g$2);
+                yyValue = GNode.create(KIND_CaseLabel, v$g$1, v$g$2);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -6204,7 +6204,7 @@ public final class CReader extends ParserBase {
           final Node v$pt$7 = yyResult.semanticValue();
           final Node v$g$3 = Formatting.round1(v$pt$6, v$pt$8, v$pt$7);
 
-          yyValue = GNode.create("CaseLabel", v$g$3);
+          yyValue = GNode.create(KIND_CaseLabel, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -6227,7 +6227,7 @@ public final class CReader extends ParserBase {
           ((Node)yyResult.semanticValue()).getTokenText().equals(":")) {
         final Node v$pt$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("DefaultLabel", false);
+        yyValue = GNode.create(KIND_DefaultLabel, false);
         yyValue.setLocation(location(yyStart));
         yyValue = Formatting.variable().addNode(yyValue).
           add(v$pt$1).add(v$pt$2);
@@ -6338,7 +6338,7 @@ public final class CReader extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = Formatting.after1(v$pt$2, v$pt$1);
 
-              yyValue = GNode.create("CompoundStatement", v$g$1.size() + v$g$2.size() + 1).
+              yyValue = GNode.create(KIND_CompoundStatement, v$g$1.size() + v$g$2.size() + 1).
                 addAll(v$g$1).addAll(v$g$2).add(v$g$3);
               yyValue.setLocation(location(yyStart));
 
@@ -6498,7 +6498,7 @@ public final class CReader extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("LocalLabelDeclaration", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_LocalLabelDeclaration, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -6776,7 +6776,7 @@ public final class CReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("CommaExpression", v$1, v$g$2);
+            return GNode.create(KIND_CommaExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -6830,7 +6830,7 @@ public final class CReader extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$3 = yyResult.semanticValue();
 
-          yyValue = GNode.create("AssignmentExpression", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_AssignmentExpression, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -7040,7 +7040,7 @@ public final class CReader extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("ConditionalExpression", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_ConditionalExpression, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -7082,7 +7082,7 @@ public final class CReader extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$6 = yyResult.semanticValue();
 
-              yyValue = GNode.create("ConditionalExpression", v$g$4, v$g$5, v$g$6);
+              yyValue = GNode.create(KIND_ConditionalExpression, v$g$4, v$g$5, v$g$6);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -7204,7 +7204,7 @@ public final class CReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("LogicalOrExpression", v$1, v$g$2);
+            return GNode.create(KIND_LogicalOrExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -7298,7 +7298,7 @@ public final class CReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("LogicalAndExpression", v$1, v$g$2);
+            return GNode.create(KIND_LogicalAndExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -7392,7 +7392,7 @@ public final class CReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseOrExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseOrExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -7486,7 +7486,7 @@ public final class CReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseXorExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseXorExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -7580,7 +7580,7 @@ public final class CReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseAndExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseAndExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -7673,7 +7673,7 @@ public final class CReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("EqualityExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_EqualityExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -7804,7 +7804,7 @@ public final class CReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("RelationalExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_RelationalExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -7955,7 +7955,7 @@ public final class CReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("ShiftExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_ShiftExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -8086,7 +8086,7 @@ public final class CReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("AdditiveExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_AdditiveExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -8219,7 +8219,7 @@ public final class CReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("MultiplicativeExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_MultiplicativeExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -8329,7 +8329,7 @@ public final class CReader extends ParserBase {
           if (yyResult.hasValue()) {
             final Node v$g$2 = yyResult.semanticValue();
 
-            yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
+            yyValue = GNode.create(KIND_CastExpression, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -8422,7 +8422,7 @@ public final class CReader extends ParserBase {
               final Node v$g$1 = Formatting.variable().
                 add(v$pt$1).add(v$pt$2).addNode(v$pt$4).add(v$pt$3);
 
-              yyValue = GNode.create("SizeofExpression", v$g$1);
+              yyValue = GNode.create(KIND_SizeofExpression, v$g$1);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -8445,7 +8445,7 @@ public final class CReader extends ParserBase {
         final Node v$pt$5 = yyResult.semanticValue();
         final Node v$g$2 = Formatting.before1(v$pt$1, v$pt$5);
 
-        yyValue = GNode.create("SizeofExpression", v$g$2);
+        yyValue = GNode.create(KIND_SizeofExpression, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8493,7 +8493,7 @@ public final class CReader extends ParserBase {
               final Node v$g$1 = Formatting.variable().
                 add(v$pt$1).add(v$pt$2).addNode(v$pt$4).add(v$pt$3);
 
-              yyValue = GNode.create("AlignofExpression", v$g$1);
+              yyValue = GNode.create(KIND_AlignofExpression, v$g$1);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -8516,7 +8516,7 @@ public final class CReader extends ParserBase {
         final Node v$pt$5 = yyResult.semanticValue();
         final Node v$g$2 = Formatting.before1(v$pt$1, v$pt$5);
 
-        yyValue = GNode.create("AlignofExpression", v$g$2);
+        yyValue = GNode.create(KIND_AlignofExpression, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8561,7 +8561,7 @@ public final class CReader extends ParserBase {
                 final Node v$pt$5 = yyResult.semanticValue();
                 final Node v$g$2 = Formatting.after1(v$pt$6, v$pt$5);
 
-                yyValue = GNode.create("OffsetofExpression", v$g$1, v$g$2);
+                yyValue = GNode.create(KIND_OffsetofExpression, v$g$1, v$g$2);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -8616,7 +8616,7 @@ public final class CReader extends ParserBase {
                 final Node v$pt$5 = yyResult.semanticValue();
                 final Node v$g$2 = Formatting.after1(v$pt$6, v$pt$5);
 
-                yyValue = GNode.create("TypeCompatibilityExpression", v$g$1, v$g$2);
+                yyValue = GNode.create(KIND_TypeCompatibilityExpression, v$g$1, v$g$2);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -8646,7 +8646,7 @@ public final class CReader extends ParserBase {
         final Node v$pt$2 = yyResult.semanticValue();
         final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-        yyValue = GNode.create("UnaryMinusExpression", v$g$1);
+        yyValue = GNode.create(KIND_UnaryMinusExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8666,7 +8666,7 @@ public final class CReader extends ParserBase {
         final Node v$pt$2 = yyResult.semanticValue();
         final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-        yyValue = GNode.create("UnaryPlusExpression", v$g$1);
+        yyValue = GNode.create(KIND_UnaryPlusExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8686,7 +8686,7 @@ public final class CReader extends ParserBase {
         final Node v$pt$2 = yyResult.semanticValue();
         final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-        yyValue = GNode.create("LogicalNegationExpression", v$g$1);
+        yyValue = GNode.create(KIND_LogicalNegationExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8706,7 +8706,7 @@ public final class CReader extends ParserBase {
         final Node v$pt$2 = yyResult.semanticValue();
         final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-        yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
+        yyValue = GNode.create(KIND_BitwiseNegationExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8726,7 +8726,7 @@ public final class CReader extends ParserBase {
         final Node v$pt$2 = yyResult.semanticValue();
         final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-        yyValue = GNode.create("AddressExpression", v$g$1);
+        yyValue = GNode.create(KIND_AddressExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8748,7 +8748,7 @@ public final class CReader extends ParserBase {
           final Node v$pt$2 = yyResult.semanticValue();
           final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-          yyValue = GNode.create("LabelAddressExpression", v$g$1);
+          yyValue = GNode.create(KIND_LabelAddressExpression, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -8769,7 +8769,7 @@ public final class CReader extends ParserBase {
         final Node v$pt$2 = yyResult.semanticValue();
         final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-        yyValue = GNode.create("IndirectionExpression", v$g$1);
+        yyValue = GNode.create(KIND_IndirectionExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8789,7 +8789,7 @@ public final class CReader extends ParserBase {
         final Node v$pt$2 = yyResult.semanticValue();
         final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-        yyValue = GNode.create("PreincrementExpression", v$g$1);
+        yyValue = GNode.create(KIND_PreincrementExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8809,7 +8809,7 @@ public final class CReader extends ParserBase {
         final Node v$pt$2 = yyResult.semanticValue();
         final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-        yyValue = GNode.create("PredecrementExpression", v$g$1);
+        yyValue = GNode.create(KIND_PredecrementExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8831,7 +8831,7 @@ public final class CReader extends ParserBase {
           final Node v$pt$2 = yyResult.semanticValue();
           final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-          yyValue = GNode.create("ExtensionExpression", v$g$1);
+          yyValue = GNode.create(KIND_ExtensionExpression, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -8875,7 +8875,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("__alignof__")) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("AlignofKeyword", v$g$1);
+      yyValue = GNode.create(KIND_AlignofKeyword, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8888,7 +8888,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("__alignof")) {
       final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("AlignofKeyword", v$g$2);
+      yyValue = GNode.create(KIND_AlignofKeyword, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9021,7 +9021,7 @@ public final class CReader extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("SubscriptExpression", v$1, v$g$2);
+              return GNode.create(KIND_SubscriptExpression, v$1, v$g$2);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -9046,7 +9046,7 @@ public final class CReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("DirectComponentSelection", v$1, v$g$3);
+            return GNode.create(KIND_DirectComponentSelection, v$1, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -9068,7 +9068,7 @@ public final class CReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("IndirectComponentSelection", v$1, v$g$4);
+            return GNode.create(KIND_IndirectComponentSelection, v$1, v$g$4);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -9105,7 +9105,7 @@ public final class CReader extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("FunctionCall", v$1, v$g$5);
+              return GNode.create(KIND_FunctionCall, v$1, v$g$5);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -9124,7 +9124,7 @@ public final class CReader extends ParserBase {
 
       yyValue = new Action<Node>() {
         public Node run(Node v$1) {
-          Node yyValue = GNode.create("PostincrementExpression", v$1);
+          Node yyValue = GNode.create(KIND_PostincrementExpression, v$1);
           yyValue = Formatting.after1(yyValue, v$pt$11);
           return yyValue;
         }};
@@ -9141,7 +9141,7 @@ public final class CReader extends ParserBase {
 
       yyValue = new Action<Node>() {
         public Node run(Node v$1) {
-          Node yyValue = GNode.create("PostdecrementExpression", v$1);
+          Node yyValue = GNode.create(KIND_PostdecrementExpression, v$1);
           yyValue = Formatting.after1(yyValue, v$pt$12);
           return yyValue;
         }};
@@ -9189,7 +9189,7 @@ public final class CReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.createFromPair("ExpressionList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_ExpressionList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -9332,7 +9332,7 @@ public final class CReader extends ParserBase {
                   final Node v$g$2 = Formatting.variable().
                     addNode(v$pt$7).add(v$pt$5).add(v$pt$6);
 
-                  yyValue = GNode.create("CompoundLiteral", v$g$1, v$g$2);
+                  yyValue = GNode.create(KIND_CompoundLiteral, v$g$1, v$g$2);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -9387,7 +9387,7 @@ public final class CReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimaryIdentifier", v$g$1);
+      yyValue = GNode.create(KIND_PrimaryIdentifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9414,7 +9414,7 @@ public final class CReader extends ParserBase {
             final Node v$pt$2 = yyResult.semanticValue();
             final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
-            yyValue = GNode.create("StatementAsExpression", v$g$1);
+            yyValue = GNode.create(KIND_StatementAsExpression, v$g$1);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -9463,7 +9463,7 @@ public final class CReader extends ParserBase {
                 final Node v$pt$5 = yyResult.semanticValue();
                 final Node v$g$2 = Formatting.after1(v$pt$6, v$pt$5);
 
-                yyValue = GNode.create("VariableArgumentAccess", v$g$1, v$g$2);
+                yyValue = GNode.create(KIND_VariableArgumentAccess, v$g$1, v$g$2);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -9532,7 +9532,7 @@ public final class CReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimaryIdentifier", v$g$1);
+      yyValue = GNode.create(KIND_PrimaryIdentifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9571,7 +9571,7 @@ public final class CReader extends ParserBase {
         final Node v$pt$1 = yyResult.semanticValue();
         final Node v$g$1 = Formatting.after1(v$pt$2, v$pt$1);
 
-        yyValue = GNode.create("AssemblyDefinition", v$g$1);
+        yyValue = GNode.create(KIND_AssemblyDefinition, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -9638,7 +9638,7 @@ public final class CReader extends ParserBase {
             final Node v$g$1 = Formatting.variable().
               add(v$pt$1).add(v$pt$2).addNode(v$pt$4).add(v$pt$3);
 
-            yyValue = GNode.create("SimpleAssemblyExpression", v$g$1);
+            yyValue = GNode.create(KIND_SimpleAssemblyExpression, v$g$1);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -9745,7 +9745,7 @@ public final class CReader extends ParserBase {
                   final Node v$pt$6 = yyResult.semanticValue();
                   final Node v$g$4 = Formatting.before1(v$pt$5, v$pt$6);
 
-                  yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2, v$g$3, v$g$4);
+                  yyValue = GNode.create(KIND_AssemblyArgument, v$g$1, v$g$2, v$g$3, v$g$4);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -9756,7 +9756,7 @@ public final class CReader extends ParserBase {
 
               // Nested alternative 2.
 
-              yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_AssemblyArgument, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyChoice3, yyError);
@@ -9767,7 +9767,7 @@ public final class CReader extends ParserBase {
 
           // Nested alternative 2.
 
-          yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_AssemblyArgument, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyChoice2, yyError);
@@ -9778,7 +9778,7 @@ public final class CReader extends ParserBase {
 
       // Nested alternative 2.
 
-      yyValue = GNode.create("AssemblyArgument", v$g$1);
+      yyValue = GNode.create(KIND_AssemblyArgument, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyChoice1, yyError);
@@ -9823,7 +9823,7 @@ public final class CReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.createFromPair("AssemblyOperands", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_AssemblyOperands, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -9978,7 +9978,7 @@ public final class CReader extends ParserBase {
               final Node v$pt$6 = yyResult.semanticValue();
               final Node v$g$3 = Formatting.after1(v$pt$7, v$pt$6);
 
-              yyValue = GNode.create("AssemblyOperand", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_AssemblyOperand, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -10048,7 +10048,7 @@ public final class CReader extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("AssemblyClobbers", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_AssemblyClobbers, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -10089,7 +10089,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("asm")) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("AsmKeyword", v$g$1);
+      yyValue = GNode.create(KIND_AsmKeyword, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -10102,7 +10102,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("__asm")) {
       final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("AsmKeyword", v$g$2);
+      yyValue = GNode.create(KIND_AsmKeyword, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -10115,7 +10115,7 @@ public final class CReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("__asm__")) {
       final Node v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("AsmKeyword", v$g$3);
+      yyValue = GNode.create(KIND_AsmKeyword, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -10219,7 +10219,7 @@ public final class CReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Token v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerConstant", v$g$1);
+      yyValue = GNode.create(KIND_IntegerConstant, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -10232,7 +10232,7 @@ public final class CReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Token v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerConstant", v$g$2);
+      yyValue = GNode.create(KIND_IntegerConstant, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -10245,7 +10245,7 @@ public final class CReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Token v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerConstant", v$g$3);
+      yyValue = GNode.create(KIND_IntegerConstant, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -10811,7 +10811,7 @@ public final class CReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Token v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("FloatingConstant", v$g$1);
+      yyValue = GNode.create(KIND_FloatingConstant, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -10824,7 +10824,7 @@ public final class CReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Token v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("FloatingConstant", v$g$2);
+      yyValue = GNode.create(KIND_FloatingConstant, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -11689,7 +11689,7 @@ public final class CReader extends ParserBase {
         final Token v$pt$1 = yyResult.semanticValue();
         final Node v$g$1 = Formatting.after1(v$pt$2, v$pt$1);
 
-        yyValue = GNode.create("CharacterConstant", v$g$1);
+        yyValue = GNode.create(KIND_CharacterConstant, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -11709,7 +11709,7 @@ public final class CReader extends ParserBase {
         final Token v$pt$3 = yyResult.semanticValue();
         final Node v$g$2 = Formatting.after1(v$pt$4, v$pt$3);
 
-        yyValue = GNode.create("CharacterConstant", v$g$2);
+        yyValue = GNode.create(KIND_CharacterConstant, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -11975,7 +11975,7 @@ public final class CReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("StringConstant", v$g$1);
+      yyValue = GNode.createFromPair(KIND_StringConstant, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -14654,4 +14654,151 @@ public final class CReader extends ParserBase {
     return set.contains(value);
   }
 
+  // =========================================================================
+
+  private static final int KIND_TranslationUnit = GNode.kind("TranslationUnit");
+  private static final int KIND_FunctionDefinition = GNode.kind("FunctionDefinition");
+  private static final int KIND_DeclarationList = GNode.kind("DeclarationList");
+  private static final int KIND_EmptyDefinition = GNode.kind("EmptyDefinition");
+  private static final int KIND_Declaration = GNode.kind("Declaration");
+  private static final int KIND_DeclarationSpecifiers = GNode.kind("DeclarationSpecifiers");
+  private static final int KIND_FunctionSpecifier = GNode.kind("FunctionSpecifier");
+  private static final int KIND_InitializedDeclaratorList = GNode.kind("InitializedDeclaratorList");
+  private static final int KIND_InitializedDeclarator = GNode.kind("InitializedDeclarator");
+  private static final int KIND_AutoSpecifier = GNode.kind("AutoSpecifier");
+  private static final int KIND_ExternSpecifier = GNode.kind("ExternSpecifier");
+  private static final int KIND_RegisterSpecifier = GNode.kind("RegisterSpecifier");
+  private static final int KIND_StaticSpecifier = GNode.kind("StaticSpecifier");
+  private static final int KIND_ThreadSpecifier = GNode.kind("ThreadSpecifier");
+  private static final int KIND_TypedefSpecifier = GNode.kind("TypedefSpecifier");
+  private static final int KIND_VolatileQualifier = GNode.kind("VolatileQualifier");
+  private static final int KIND_ConstantQualifier = GNode.kind("ConstantQualifier");
+  private static final int KIND_RestrictQualifier = GNode.kind("RestrictQualifier");
+  private static final int KIND_TypedefName = GNode.kind("TypedefName");
+  private static final int KIND_TypeofSpecifier = GNode.kind("TypeofSpecifier");
+  private static final int KIND_VoidTypeSpecifier = GNode.kind("VoidTypeSpecifier");
+  private static final int KIND_VarArgListSpecifier = GNode.kind("VarArgListSpecifier");
+  private static final int KIND_EnumerationTypeDefinition = GNode.kind("EnumerationTypeDefinition");
+  private static final int KIND_EnumerationTypeReference = GNode.kind("EnumerationTypeReference");
+  private static final int KIND_EnumeratorList = GNode.kind("EnumeratorList");
+  private static final int KIND_Enumerator = GNode.kind("Enumerator");
+  private static final int KIND_StructureTypeDefinition = GNode.kind("StructureTypeDefinition");
+  private static final int KIND_StructureTypeReference = GNode.kind("StructureTypeReference");
+  private static final int KIND_UnionTypeDefinition = GNode.kind("UnionTypeDefinition");
+  private static final int KIND_UnionTypeReference = GNode.kind("UnionTypeReference");
+  private static final int KIND_StructureDeclarationList = GNode.kind("StructureDeclarationList");
+  private static final int KIND_StructureDeclaration = GNode.kind("StructureDeclaration");
+  private static final int KIND_SpecifierQualifierList = GNode.kind("SpecifierQualifierList");
+  private static final int KIND_StructureDeclaratorList = GNode.kind("StructureDeclaratorList");
+  private static final int KIND_BitField = GNode.kind("BitField");
+  private static final int KIND_AttributedDeclarator = GNode.kind("AttributedDeclarator");
+  private static final int KIND_PointerDeclarator = GNode.kind("PointerDeclarator");
+  private static final int KIND_Pointer = GNode.kind("Pointer");
+  private static final int KIND_TypeQualifierList = GNode.kind("TypeQualifierList");
+  private static final int KIND_FunctionDeclarator = GNode.kind("FunctionDeclarator");
+  private static final int KIND_ArrayDeclarator = GNode.kind("ArrayDeclarator");
+  private static final int KIND_VariableLength = GNode.kind("VariableLength");
+  private static final int KIND_SimpleDeclarator = GNode.kind("SimpleDeclarator");
+  private static final int KIND_ParameterTypeList = GNode.kind("ParameterTypeList");
+  private static final int KIND_ParameterList = GNode.kind("ParameterList");
+  private static final int KIND_ParameterDeclaration = GNode.kind("ParameterDeclaration");
+  private static final int KIND_AttributedAbstractDeclarator = GNode.kind("AttributedAbstractDeclarator");
+  private static final int KIND_AbstractDeclarator = GNode.kind("AbstractDeclarator");
+  private static final int KIND_DirectAbstractDeclarator = GNode.kind("DirectAbstractDeclarator");
+  private static final int KIND_IdentifierList = GNode.kind("IdentifierList");
+  private static final int KIND_ArrayQualifierList = GNode.kind("ArrayQualifierList");
+  private static final int KIND_Complex = GNode.kind("Complex");
+  private static final int KIND_Double = GNode.kind("Double");
+  private static final int KIND_Float = GNode.kind("Float");
+  private static final int KIND_Long = GNode.kind("Long");
+  private static final int KIND_Int = GNode.kind("Int");
+  private static final int KIND_Short = GNode.kind("Short");
+  private static final int KIND_Char = GNode.kind("Char");
+  private static final int KIND_Bool = GNode.kind("Bool");
+  private static final int KIND_Unsigned = GNode.kind("Unsigned");
+  private static final int KIND_Signed = GNode.kind("Signed");
+  private static final int KIND_TypeofKeyword = GNode.kind("TypeofKeyword");
+  private static final int KIND_InitializerList = GNode.kind("InitializerList");
+  private static final int KIND_InitializerListEntry = GNode.kind("InitializerListEntry");
+  private static final int KIND_Designation = GNode.kind("Designation");
+  private static final int KIND_Designator = GNode.kind("Designator");
+  private static final int KIND_ObsoleteArrayDesignation = GNode.kind("ObsoleteArrayDesignation");
+  private static final int KIND_ObsoleteFieldDesignation = GNode.kind("ObsoleteFieldDesignation");
+  private static final int KIND_TypeName = GNode.kind("TypeName");
+  private static final int KIND_AttributeSpecifierList = GNode.kind("AttributeSpecifierList");
+  private static final int KIND_AttributeSpecifier = GNode.kind("AttributeSpecifier");
+  private static final int KIND_AttributeKeyword = GNode.kind("AttributeKeyword");
+  private static final int KIND_AttributeList = GNode.kind("AttributeList");
+  private static final int KIND_AttributeListEntry = GNode.kind("AttributeListEntry");
+  private static final int KIND_ExpressionStatement = GNode.kind("ExpressionStatement");
+  private static final int KIND_IfElseStatement = GNode.kind("IfElseStatement");
+  private static final int KIND_IfStatement = GNode.kind("IfStatement");
+  private static final int KIND_WhileStatement = GNode.kind("WhileStatement");
+  private static final int KIND_DoStatement = GNode.kind("DoStatement");
+  private static final int KIND_ForStatement = GNode.kind("ForStatement");
+  private static final int KIND_SwitchStatement = GNode.kind("SwitchStatement");
+  private static final int KIND_LabeledStatement = GNode.kind("LabeledStatement");
+  private static final int KIND_BreakStatement = GNode.kind("BreakStatement");
+  private static final int KIND_ContinueStatement = GNode.kind("ContinueStatement");
+  private static final int KIND_ReturnStatement = GNode.kind("ReturnStatement");
+  private static final int KIND_GotoStatement = GNode.kind("GotoStatement");
+  private static final int KIND_AssemblyStatement = GNode.kind("AssemblyStatement");
+  private static final int KIND_EmptyStatement = GNode.kind("EmptyStatement");
+  private static final int KIND_NamedLabel = GNode.kind("NamedLabel");
+  private static final int KIND_CaseLabel = GNode.kind("CaseLabel");
+  private static final int KIND_DefaultLabel = GNode.kind("DefaultLabel");
+  private static final int KIND_CompoundStatement = GNode.kind("CompoundStatement");
+  private static final int KIND_LocalLabelDeclaration = GNode.kind("LocalLabelDeclaration");
+  private static final int KIND_CommaExpression = GNode.kind("CommaExpression");
+  private static final int KIND_AssignmentExpression = GNode.kind("AssignmentExpression");
+  private static final int KIND_ConditionalExpression = GNode.kind("ConditionalExpression");
+  private static final int KIND_LogicalOrExpression = GNode.kind("LogicalOrExpression");
+  private static final int KIND_LogicalAndExpression = GNode.kind("LogicalAndExpression");
+  private static final int KIND_BitwiseOrExpression = GNode.kind("BitwiseOrExpression");
+  private static final int KIND_BitwiseXorExpression = GNode.kind("BitwiseXorExpression");
+  private static final int KIND_BitwiseAndExpression = GNode.kind("BitwiseAndExpression");
+  private static final int KIND_EqualityExpression = GNode.kind("EqualityExpression");
+  private static final int KIND_RelationalExpression = GNode.kind("RelationalExpression");
+  private static final int KIND_ShiftExpression = GNode.kind("ShiftExpression");
+  private static final int KIND_AdditiveExpression = GNode.kind("AdditiveExpression");
+  private static final int KIND_MultiplicativeExpression = GNode.kind("MultiplicativeExpression");
+  private static final int KIND_CastExpression = GNode.kind("CastExpression");
+  private static final int KIND_SizeofExpression = GNode.kind("SizeofExpression");
+  private static final int KIND_AlignofExpression = GNode.kind("AlignofExpression");
+  private static final int KIND_OffsetofExpression = GNode.kind("OffsetofExpression");
+  private static final int KIND_TypeCompatibilityExpression = GNode.kind("TypeCompatibilityExpression");
+  private static final int KIND_UnaryMinusExpression = GNode.kind("UnaryMinusExpression");
+  private static final int KIND_UnaryPlusExpression = GNode.kind("UnaryPlusExpression");
+  private static final int KIND_LogicalNegationExpression = GNode.kind("LogicalNegationExpression");
+  private static final int KIND_BitwiseNegationExpression = GNode.kind("BitwiseNegationExpression");
+  private static final int KIND_AddressExpression = GNode.kind("AddressExpression");
+  private static final int KIND_LabelAddressExpression = GNode.kind("LabelAddressExpression");
+  private static final int KIND_IndirectionExpression = GNode.kind("IndirectionExpression");
+  private static final int KIND_PreincrementExpression = GNode.kind("PreincrementExpression");
+  private static final int KIND_PredecrementExpression = GNode.kind("PredecrementExpression");
+  private static final int KIND_ExtensionExpression = GNode.kind("ExtensionExpression");
+  private static final int KIND_AlignofKeyword = GNode.kind("AlignofKeyword");
+  private static final int KIND_SubscriptExpression = GNode.kind("SubscriptExpression");
+  private static final int KIND_DirectComponentSelection = GNode.kind("DirectComponentSelection");
+  private static final int KIND_IndirectComponentSelection = GNode.kind("IndirectComponentSelection");
+  private static final int KIND_FunctionCall = GNode.kind("FunctionCall");
+  private static final int KIND_PostincrementExpression = GNode.kind("PostincrementExpression");
+  private static final int KIND_PostdecrementExpression = GNode.kind("PostdecrementExpression");
+  private static final int KIND_ExpressionList = GNode.kind("ExpressionList");
+  private static final int KIND_CompoundLiteral = GNode.kind("CompoundLiteral");
+  private static final int KIND_PrimaryIdentifier = GNode.kind("PrimaryIdentifier");
+  private static final int KIND_StatementAsExpression = GNode.kind("StatementAsExpression");
+  private static final int KIND_VariableArgumentAccess = GNode.kind("VariableArgumentAccess");
+  private static final int KIND_AssemblyDefinition = GNode.kind("AssemblyDefinition");
+  private static final int KIND_SimpleAssemblyExpression = GNode.kind("SimpleAssemblyExpression");
+  private static final int KIND_AssemblyArgument = GNode.kind("AssemblyArgument");
+  private static final int KIND_AssemblyOperands = GNode.kind("AssemblyOperands");
+  private static final int KIND_AssemblyOperand = GNode.kind("AssemblyOperand");
+  private static final int KIND_AssemblyClobbers = GNode.kind("AssemblyClobbers");
+  private static final int KIND_AsmKeyword = GNode.kind("AsmKeyword");
+  private static final int KIND_IntegerConstant = GNode.kind("IntegerConstant");
+  private static final int KIND_FloatingConstant = GNode.kind("FloatingConstant");
+  private static final int KIND_CharacterConstant = GNode.kind("CharacterConstant");
+  private static final int KIND_StringConstant = GNode.kind("StringConstant");
+
 }
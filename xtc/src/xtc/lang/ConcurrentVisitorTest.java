@@ -0,0 +1,178 @@
+/*
+ * xtc - The eXTensible Compiler
+ * Copyright (C) 2026 New York University
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * version 2 as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301,
+ * USA.
+ */
+package xtc.lang;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.Reader;
+import java.io.StringWriter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import xtc.parser.Result;
+import xtc.tree.GNode;
+import xtc.tree.Node;
+import xtc.tree.Printer;
+import xtc.tree.VisitingException;
+import xtc.tree.Visitor;
+import xtc.util.Runtime;
+import xtc.util.SymbolTable;
+
+/**
+ * Stress test for visitors running on several threads at once.  Each
+ * thread parses, simplifies, counts, prints, and analyzes every Java
+ * file in the <code>data</code> directory, starting with a different
+ * file, and the results must be the same as on one thread.  Run it
+ * from the directory containing <code>data</code>.
+ *
+ * @version $Revision: 1.1 $
+ */
+public class ConcurrentVisitorTest extends junit.framework.TestCase {
+
+  /** The number of threads. */
+  private static final int THREADS = 8;
+
+  /** The number of times each thread processes all files. */
+  private static final int ROUNDS = 3;
+
+  /** Create a new test class. */
+  public ConcurrentVisitorTest() { /* Nothing to do. */ }
+
+  /**
+   * Get the Java files of the data directory.
+   *
+   * @return The files, sorted by name.
+   */
+  private static File[] files() {
+    File data = new File("data");
+    assertTrue("no data directory in " + new File("").getAbsolutePath(),
+               data.isDirectory());
+
+    List<File> files = new ArrayList<File>();
+    for (File file : data.listFiles()) {
+      if (file.getName().endsWith(".java")) files.add(file);
+    }
+    File[] result = files.toArray(new File[files.size()]);
+    Arrays.sort(result);
+    return result;
+  }
+
+  /**
+   * Process the specified file with several visitors.
+   *
+   * @param file The file.
+   * @return The node counts, the printed source, and the analyzer's
+   *   error messages or failure.
+   */
+  private static String process(File file) throws Exception {
+    Node ast;
+    Reader in = new FileReader(file);
+    try {
+      JavaParser parser = new JavaParser(in, file.toString(), (int)file.length());
+      Result     result = parser.pCompilationUnit(0);
+      if (! result.hasValue()) fail(file + ": " + parser.format(result.parseError()));
+      ast = (Node)parser.value(result);
+    } finally {
+      in.close();
+    }
+
+    ast = (Node)new JavaAstSimplifier().dispatch(ast);
+
+    // Count the generic nodes by name.
+    final TreeMap<String, Integer> counts = new TreeMap<String, Integer>();
+    new Visitor() {
+      public void visit(GNode n) {
+        Integer count = counts.get(n.getName());
+        counts.put(n.getName(), null == count ? 1 : count + 1);
+        for (Object o : n) {
+          if (o instanceof Node) dispatch((Node)o);
+        }
+      }
+    }.dispatch(ast);
+
+    StringWriter out     = new StringWriter();
+    Printer      printer = new Printer(out);
+    printer.pln(counts.toString());
+    new JavaPrinter(printer).dispatch(ast);
+    printer.flush();
+
+    // The analyzer's messages are kept only if it completes: on some
+    // files it overflows the stack, and how far it gets before that
+    // depends on the thread's stack, not on the visitors.
+    StringWriter errors  = new StringWriter();
+    Printer      console = new Printer(errors);
+    Runtime      runtime = new Runtime();
+    runtime.dir("in", Runtime.INPUT_DIRECTORY, true, "").
+      setValue(Runtime.INPUT_DIRECTORY, file.getParentFile());
+    runtime.setErrConsole(console);
+    try {
+      new JavaAnalyzer(runtime, new SymbolTable()).dispatch(ast);
+      console.flush();
+      printer.p(errors.toString());
+    } catch (VisitingException x) {
+      // The analyzer cannot resolve all classes of all JDKs, but it
+      // must fail the same way on every thread.
+      printer.pln(x.getCause().getClass().getName());
+    } catch (StackOverflowError x) {
+      printer.pln(x.getClass().getName());
+    }
+    printer.flush();
+
+    return out.toString();
+  }
+
+  /** Test visiting the data files from several threads at once. */
+  public void testConcurrentVisitors() throws Exception {
+    final File[]   files    = files();
+    final String[] expected = new String[files.length];
+    for (int i = 0; i < files.length; i++) {
+      expected[i] = process(files[i]);
+    }
+
+    ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+    try {
+      List<Future<Void>> results = new ArrayList<Future<Void>>();
+      for (int t = 0; t < THREADS; t++) {
+        final int start = t * files.length / THREADS;
+        results.add(pool.submit(new Callable<Void>() {
+          public Void call() throws Exception {
+            for (int r = 0; r < ROUNDS; r++) {
+              for (int j = 0; j < files.length; j++) {
+                int i = (start + j) % files.length;
+                assertEquals(files[i].toString(), expected[i], process(files[i]));
+              }
+            }
+            return null;
+          }
+        }));
+      }
+      for (Future<Void> result : results) result.get();
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+}
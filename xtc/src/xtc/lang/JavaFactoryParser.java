@@ -180,7 +180,7 @@ public final class JavaFactoryParser extends ParserBase {
                 yyError  = yyResult.select(yyError);
                 if (yyResult.hasValue()) {
 
-                  yyValue = GNode.create("Factory", v$g$1, v$g$2);
+                  yyValue = GNode.create(KIND_Factory, v$g$1, v$g$2);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -242,7 +242,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyRepeated1) {
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("Methods", v$g$1);
+      yyValue = GNode.createFromPair(KIND_Methods, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -287,7 +287,7 @@ public final class JavaFactoryParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue("}")) {
 
-            yyValue = GNode.create("Method", v$g$1, v$g$2);
+            yyValue = GNode.create(KIND_Method, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -365,7 +365,7 @@ public final class JavaFactoryParser extends ParserBase {
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue(";")) {
 
-              yyValue = GNode.create("ImportDeclaration", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_ImportDeclaration, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -486,7 +486,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("Modifiers", v$g$1);
+      yyValue = GNode.createFromPair(KIND_Modifiers, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -566,7 +566,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue("public")) {
       final String v$g$1 = "public";
 
-      yyValue = GNode.create("Modifier", v$g$1);
+      yyValue = GNode.create(KIND_Modifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -578,7 +578,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue("protected")) {
       final String v$g$2 = "protected";
 
-      yyValue = GNode.create("Modifier", v$g$2);
+      yyValue = GNode.create(KIND_Modifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -590,7 +590,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue("private")) {
       final String v$g$3 = "private";
 
-      yyValue = GNode.create("Modifier", v$g$3);
+      yyValue = GNode.create(KIND_Modifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -602,7 +602,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue("static")) {
       final String v$g$4 = "static";
 
-      yyValue = GNode.create("Modifier", v$g$4);
+      yyValue = GNode.create(KIND_Modifier, v$g$4);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -614,7 +614,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue("abstract")) {
       final String v$g$5 = "abstract";
 
-      yyValue = GNode.create("Modifier", v$g$5);
+      yyValue = GNode.create(KIND_Modifier, v$g$5);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -626,7 +626,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue("final")) {
       final String v$g$6 = "final";
 
-      yyValue = GNode.create("Modifier", v$g$6);
+      yyValue = GNode.create(KIND_Modifier, v$g$6);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -638,7 +638,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue("native")) {
       final String v$g$7 = "native";
 
-      yyValue = GNode.create("Modifier", v$g$7);
+      yyValue = GNode.create(KIND_Modifier, v$g$7);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -650,7 +650,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue("synchronized")) {
       final String v$g$8 = "synchronized";
 
-      yyValue = GNode.create("Modifier", v$g$8);
+      yyValue = GNode.create(KIND_Modifier, v$g$8);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -662,7 +662,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue("transient")) {
       final String v$g$9 = "transient";
 
-      yyValue = GNode.create("Modifier", v$g$9);
+      yyValue = GNode.create(KIND_Modifier, v$g$9);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -674,7 +674,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue("volatile")) {
       final String v$g$10 = "volatile";
 
-      yyValue = GNode.create("Modifier", v$g$10);
+      yyValue = GNode.create(KIND_Modifier, v$g$10);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -686,7 +686,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue("strictfp")) {
       final String v$g$11 = "strictfp";
 
-      yyValue = GNode.create("Modifier", v$g$11);
+      yyValue = GNode.create(KIND_Modifier, v$g$11);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -761,7 +761,7 @@ public final class JavaFactoryParser extends ParserBase {
             { // Start scope for v$g$5.
               final Node v$g$5 = cast(yyOpValue1);
 
-              yyValue = GNode.create("FormalParameter", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+              yyValue = GNode.create(KIND_FormalParameter, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyOption1, yyError);
@@ -811,7 +811,7 @@ public final class JavaFactoryParser extends ParserBase {
     { // Start scope for v$g$1.
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("Modifiers", v$g$1);
+      yyValue = GNode.createFromPair(KIND_Modifiers, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -838,7 +838,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue("final")) {
       final String v$g$1 = "final";
 
-      yyValue = GNode.create("Modifier", v$g$1);
+      yyValue = GNode.create(KIND_Modifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -896,7 +896,7 @@ public final class JavaFactoryParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.createFromPair("FormalParameters", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_FormalParameters, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -912,7 +912,7 @@ public final class JavaFactoryParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(")")) {
 
-        yyValue = GNode.create("FormalParameters", false);
+        yyValue = GNode.create(KIND_FormalParameters, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -1040,7 +1040,7 @@ public final class JavaFactoryParser extends ParserBase {
         { // Start scope for v$g$3.
           final Node v$g$3 = yyOpValue1;
 
-          yyValue = GNode.create("Declarator", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_Declarator, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -1087,7 +1087,7 @@ public final class JavaFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.createFromPair("Declarators", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_Declarators, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -1194,7 +1194,7 @@ public final class JavaFactoryParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue("}")) {
 
-          yyValue = GNode.createFromPair("ClassBody", v$g$1);
+          yyValue = GNode.createFromPair(KIND_ClassBody, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -1251,7 +1251,7 @@ public final class JavaFactoryParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(";")) {
 
-            yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
+            yyValue = GNode.create(KIND_FieldDeclaration, v$g$1, v$g$2, v$g$3);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -1332,7 +1332,7 @@ public final class JavaFactoryParser extends ParserBase {
                   if (yyResult.hasValue()) {
                     final Node v$g$8 = yyResult.semanticValue();
 
-                    yyValue = GNode.create("MethodDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$8);
+                    yyValue = GNode.create(KIND_MethodDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$8);
                     yyValue.setLocation(location(yyStart));
 
                     return yyResult.createValue(yyValue, yyError);
@@ -1344,7 +1344,7 @@ public final class JavaFactoryParser extends ParserBase {
                   yyResult = pSymbol(yyBase);
                   if (yyResult.hasValue(";")) {
 
-                    yyValue = GNode.create("MethodDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, null);
+                    yyValue = GNode.create(KIND_MethodDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, null);
                     yyValue.setLocation(location(yyStart));
 
                     return yyResult.createValue(yyValue, yyError);
@@ -1388,7 +1388,7 @@ public final class JavaFactoryParser extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$6 = yyResult.semanticValue();
 
-                yyValue = GNode.create("ConstructorDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
+                yyValue = GNode.create(KIND_ConstructorDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -1454,7 +1454,7 @@ public final class JavaFactoryParser extends ParserBase {
                 if (yyResult.hasValue()) {
                   final Node v$g$6 = yyResult.semanticValue();
 
-                  yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
+                  yyValue = GNode.create(KIND_ClassDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -1510,7 +1510,7 @@ public final class JavaFactoryParser extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$5 = yyResult.semanticValue();
 
-                yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+                yyValue = GNode.create(KIND_InterfaceDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -1542,7 +1542,7 @@ public final class JavaFactoryParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("AnnotationDeclaration", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_AnnotationDeclaration, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -1625,7 +1625,7 @@ public final class JavaFactoryParser extends ParserBase {
                   yyResult = pSymbol(yyBase);
                   if (yyResult.hasValue("}")) {
 
-                    yyValue = GNode.create("EnumDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+                    yyValue = GNode.create(KIND_EnumDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
                     yyValue.setLocation(location(yyStart));
 
                     return yyResult.createValue(yyValue, yyError);
@@ -1667,7 +1667,7 @@ public final class JavaFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("BlockDeclaration", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_BlockDeclaration, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -1679,7 +1679,7 @@ public final class JavaFactoryParser extends ParserBase {
     yyResult = pSymbol(yyStart);
     if (yyResult.hasValue(";")) {
 
-      yyValue = GNode.create("EmptyDeclaration", false);
+      yyValue = GNode.create(KIND_EmptyDeclaration, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1762,7 +1762,7 @@ public final class JavaFactoryParser extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("ThrowsClause", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_ThrowsClause, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -1827,7 +1827,7 @@ public final class JavaFactoryParser extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("Extension", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_Extension, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -1878,7 +1878,7 @@ public final class JavaFactoryParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Pair<Node> v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.createFromPair("Implementation", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_Implementation, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -1985,7 +1985,7 @@ public final class JavaFactoryParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue("}")) {
 
-          yyValue = GNode.createFromPair("Block", v$g$1);
+          yyValue = GNode.createFromPair(KIND_Block, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2200,7 +2200,7 @@ public final class JavaFactoryParser extends ParserBase {
                 if (yyResult.hasValue()) {
                   final Node v$g$6 = yyResult.semanticValue();
 
-                  yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
+                  yyValue = GNode.create(KIND_ClassDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -2256,7 +2256,7 @@ public final class JavaFactoryParser extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$5 = yyResult.semanticValue();
 
-                yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+                yyValue = GNode.create(KIND_InterfaceDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -2309,7 +2309,7 @@ public final class JavaFactoryParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(";")) {
 
-            yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
+            yyValue = GNode.create(KIND_FieldDeclaration, v$g$1, v$g$2, v$g$3);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -2382,7 +2382,7 @@ public final class JavaFactoryParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_ConditionalStatement, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -2393,7 +2393,7 @@ public final class JavaFactoryParser extends ParserBase {
 
           // Nested alternative 2.
 
-          yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, null);
+          yyValue = GNode.create(KIND_ConditionalStatement, v$g$1, v$g$2, null);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
@@ -2424,7 +2424,7 @@ public final class JavaFactoryParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("ForStatement", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_ForStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -2453,7 +2453,7 @@ public final class JavaFactoryParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_WhileStatement, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2484,7 +2484,7 @@ public final class JavaFactoryParser extends ParserBase {
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue(";")) {
 
-              yyValue = GNode.create("DoWhileStatement", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_DoWhileStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -2553,7 +2553,7 @@ public final class JavaFactoryParser extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$4 = yyResult.semanticValue();
 
-                yyValue = GNode.create("TryCatchFinallyStatement", v$g$3.size() + 3).
+                yyValue = GNode.create(KIND_TryCatchFinallyStatement, v$g$3.size() + 3).
                   add(v$g$1).add(v$g$2).addAll(v$g$3).add(v$g$4);
                 yyValue.setLocation(location(yyStart));
 
@@ -2587,7 +2587,7 @@ public final class JavaFactoryParser extends ParserBase {
           if (yyRepeated1) {
             final Pair<Node> v$g$5 = yyRepValue1.reverse();
 
-            yyValue = GNode.create("TryCatchFinallyStatement", v$g$5.size() + 3).
+            yyValue = GNode.create(KIND_TryCatchFinallyStatement, v$g$5.size() + 3).
               add(v$g$1).add(v$g$2).addAll(v$g$5).add(null);
             yyValue.setLocation(location(yyStart));
 
@@ -2633,7 +2633,7 @@ public final class JavaFactoryParser extends ParserBase {
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue("}")) {
 
-              yyValue = GNode.createFromPair("SwitchStatement", v$g$1, v$g$2);
+              yyValue = GNode.createFromPair(KIND_SwitchStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -2662,7 +2662,7 @@ public final class JavaFactoryParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("SynchronizedStatement", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_SynchronizedStatement, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2693,7 +2693,7 @@ public final class JavaFactoryParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("ReturnStatement", v$g$1);
+          yyValue = GNode.create(KIND_ReturnStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2717,7 +2717,7 @@ public final class JavaFactoryParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("ThrowStatement", v$g$1);
+          yyValue = GNode.create(KIND_ThrowStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2750,7 +2750,7 @@ public final class JavaFactoryParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("BreakStatement", v$g$1);
+          yyValue = GNode.create(KIND_BreakStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2783,7 +2783,7 @@ public final class JavaFactoryParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("ContinueStatement", v$g$1);
+          yyValue = GNode.create(KIND_ContinueStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2809,7 +2809,7 @@ public final class JavaFactoryParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("LabeledStatement", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_LabeledStatement, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2830,7 +2830,7 @@ public final class JavaFactoryParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(";")) {
 
-        yyValue = GNode.create("ExpressionStatement", v$g$1);
+        yyValue = GNode.create(KIND_ExpressionStatement, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -2874,7 +2874,7 @@ public final class JavaFactoryParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(";")) {
 
-            yyValue = GNode.create("AssertStatement", v$g$1, v$g$2);
+            yyValue = GNode.create(KIND_AssertStatement, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -2890,7 +2890,7 @@ public final class JavaFactoryParser extends ParserBase {
     yyResult = pSymbol(yyStart);
     if (yyResult.hasValue(";")) {
 
-      yyValue = GNode.create("EmptyStatement", false);
+      yyValue = GNode.create(KIND_EmptyStatement, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -2948,7 +2948,7 @@ public final class JavaFactoryParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$4 = yyResult.semanticValue();
 
-              yyValue = GNode.create("EnhancedForControl", v$g$1, v$g$2, v$g$3, v$g$4);
+              yyValue = GNode.create(KIND_EnhancedForControl, v$g$1, v$g$2, v$g$3, v$g$4);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -3001,7 +3001,7 @@ public final class JavaFactoryParser extends ParserBase {
                 { // Start scope for v$g$5.
                   final Node v$g$5 = yyOpValue1;
 
-                  yyValue = GNode.create("BasicForControl", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+                  yyValue = GNode.create(KIND_BasicForControl, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
                   yyValue.setLocation(location(yyStart));
 
                   return new SemanticValue(yyValue, yyOption1, yyError);
@@ -3069,7 +3069,7 @@ public final class JavaFactoryParser extends ParserBase {
             { // Start scope for v$g$10.
               final Node v$g$10 = yyOpValue1;
 
-              yyValue = GNode.create("BasicForControl", null, null, v$g$8, v$g$9, v$g$10);
+              yyValue = GNode.create(KIND_BasicForControl, null, null, v$g$8, v$g$9, v$g$10);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyOption1, yyError);
@@ -3184,7 +3184,7 @@ public final class JavaFactoryParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("CatchClause", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_CatchClause, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -3252,7 +3252,7 @@ public final class JavaFactoryParser extends ParserBase {
           { // Start scope for v$g$2.
             final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-            yyValue = GNode.createFromPair("CaseClause", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_CaseClause, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -3290,7 +3290,7 @@ public final class JavaFactoryParser extends ParserBase {
         { // Start scope for v$g$1.
           final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("DefaultClause", v$g$1);
+          yyValue = GNode.createFromPair(KIND_DefaultClause, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -3354,7 +3354,7 @@ public final class JavaFactoryParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("ExpressionList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_ExpressionList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -3405,7 +3405,7 @@ public final class JavaFactoryParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$3 = yyResult.semanticValue();
 
-          yyValue = GNode.create("Expression", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_Expression, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -3607,7 +3607,7 @@ public final class JavaFactoryParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("ConditionalExpression", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_ConditionalExpression, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -3726,7 +3726,7 @@ public final class JavaFactoryParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("LogicalOrExpression", v$1, v$g$2);
+            return GNode.create(KIND_LogicalOrExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -3818,7 +3818,7 @@ public final class JavaFactoryParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("LogicalAndExpression", v$1, v$g$2);
+            return GNode.create(KIND_LogicalAndExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -3910,7 +3910,7 @@ public final class JavaFactoryParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseOrExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseOrExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4002,7 +4002,7 @@ public final class JavaFactoryParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseXorExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseXorExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4094,7 +4094,7 @@ public final class JavaFactoryParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseAndExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseAndExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4188,7 +4188,7 @@ public final class JavaFactoryParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("EqualityExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_EqualityExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4267,7 +4267,7 @@ public final class JavaFactoryParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("InstanceOfExpression", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_InstanceOfExpression, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -4384,7 +4384,7 @@ public final class JavaFactoryParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("RelationalExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_RelationalExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4531,7 +4531,7 @@ public final class JavaFactoryParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("ShiftExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_ShiftExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4670,7 +4670,7 @@ public final class JavaFactoryParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("AdditiveExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_AdditiveExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4802,7 +4802,7 @@ public final class JavaFactoryParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("MultiplicativeExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_MultiplicativeExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4886,7 +4886,7 @@ public final class JavaFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_UnaryExpression, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -4904,7 +4904,7 @@ public final class JavaFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$3, v$g$4);
+        yyValue = GNode.create(KIND_UnaryExpression, v$g$3, v$g$4);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -4922,7 +4922,7 @@ public final class JavaFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$6 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$5, v$g$6);
+        yyValue = GNode.create(KIND_UnaryExpression, v$g$5, v$g$6);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -4940,7 +4940,7 @@ public final class JavaFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$8 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$7, v$g$8);
+        yyValue = GNode.create(KIND_UnaryExpression, v$g$7, v$g$8);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -4991,7 +4991,7 @@ public final class JavaFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
+        yyValue = GNode.create(KIND_BitwiseNegationExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5008,7 +5008,7 @@ public final class JavaFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("LogicalNegationExpression", v$g$1);
+        yyValue = GNode.create(KIND_LogicalNegationExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5052,7 +5052,7 @@ public final class JavaFactoryParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("BasicCastExpression", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_BasicCastExpression, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -5079,7 +5079,7 @@ public final class JavaFactoryParser extends ParserBase {
           if (yyResult.hasValue()) {
             final Node v$g$2 = yyResult.semanticValue();
 
-            yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
+            yyValue = GNode.create(KIND_CastExpression, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -5211,7 +5211,7 @@ public final class JavaFactoryParser extends ParserBase {
 
             yyValue = new Action<Node>() {
               public Node run(Node v$1) {
-                return GNode.create("CallExpression", v$1, v$g$2, v$g$3, v$g$4);
+                return GNode.create(KIND_CallExpression, v$1, v$g$2, v$g$3, v$g$4);
               }};
 
             return yyResult.createValue(yyValue, yyError);
@@ -5233,7 +5233,7 @@ public final class JavaFactoryParser extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("CallExpression", v$1, null, v$g$6, v$g$7);
+              return GNode.create(KIND_CallExpression, v$1, null, v$g$6, v$g$7);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -5250,7 +5250,7 @@ public final class JavaFactoryParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("SuperExpression", v$1);
+            return GNode.create(KIND_SuperExpression, v$1);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -5267,7 +5267,7 @@ public final class JavaFactoryParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("SelectionExpression", v$1, v$g$8);
+            return GNode.create(KIND_SelectionExpression, v$1, v$g$8);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -5290,7 +5290,7 @@ public final class JavaFactoryParser extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("SubscriptExpression", v$1, v$g$9);
+              return GNode.create(KIND_SubscriptExpression, v$1, v$g$9);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -5308,7 +5308,7 @@ public final class JavaFactoryParser extends ParserBase {
 
       yyValue = new Action<Node>() {
         public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$10);
+          return GNode.create(KIND_PostfixExpression, v$1, v$g$10);
         }};
 
       return yyResult.createValue(yyValue, yyError);
@@ -5322,7 +5322,7 @@ public final class JavaFactoryParser extends ParserBase {
 
       yyValue = new Action<Node>() {
         public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$11);
+          return GNode.create(KIND_PostfixExpression, v$1, v$g$11);
         }};
 
       return yyResult.createValue(yyValue, yyError);
@@ -5377,7 +5377,7 @@ public final class JavaFactoryParser extends ParserBase {
 
                 yyValue = new Action<Node>() {
                   public Node run(Node v$1) {
-                    return GNode.create("NewClassExpression", v$1, v$g$12, v$g$13, v$g$14, v$g$15);
+                    return GNode.create(KIND_NewClassExpression, v$1, v$g$12, v$g$13, v$g$14, v$g$15);
                   }};
 
                 return new SemanticValue(yyValue, yyOption1, yyError);
@@ -5448,7 +5448,7 @@ public final class JavaFactoryParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$4 = yyResult.semanticValue();
 
-          yyValue = GNode.create("CallExpression", null, v$g$2, v$g$3, v$g$4);
+          yyValue = GNode.create(KIND_CallExpression, null, v$g$2, v$g$3, v$g$4);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -5471,7 +5471,7 @@ public final class JavaFactoryParser extends ParserBase {
         yyResult = pWord(yyBase);
         if (yyResult.hasValue("class")) {
 
-          yyValue = GNode.create("ClassLiteralExpression", v$g$1);
+          yyValue = GNode.create(KIND_ClassLiteralExpression, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -5494,7 +5494,7 @@ public final class JavaFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
+        yyValue = GNode.create(KIND_CallExpression, null, null, v$g$3, v$g$4);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5528,7 +5528,7 @@ public final class JavaFactoryParser extends ParserBase {
       yyResult = pWord(yyBase);
       if (yyResult.hasValue("this")) {
 
-        yyValue = GNode.create("ThisExpression", v$g$1);
+        yyValue = GNode.create(KIND_ThisExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5553,7 +5553,7 @@ public final class JavaFactoryParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$4 = yyResult.semanticValue();
 
-          yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
+          yyValue = GNode.create(KIND_CallExpression, null, null, v$g$3, v$g$4);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -5566,7 +5566,7 @@ public final class JavaFactoryParser extends ParserBase {
       yyResult = pWord(yyBase);
       if (yyResult.hasValue("super")) {
 
-        yyValue = GNode.create("SuperExpression", null);
+        yyValue = GNode.create(KIND_SuperExpression, null);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5582,7 +5582,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimaryIdentifier", v$g$1);
+      yyValue = GNode.create(KIND_PrimaryIdentifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -5631,7 +5631,7 @@ public final class JavaFactoryParser extends ParserBase {
             { // Start scope for v$g$5.
               final Node v$g$5 = yyOpValue1;
 
-              yyValue = GNode.create("NewClassExpression", null, v$g$2, v$g$3, v$g$4, v$g$5);
+              yyValue = GNode.create(KIND_NewClassExpression, null, v$g$2, v$g$3, v$g$4, v$g$5);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyOption1, yyError);
@@ -5674,7 +5674,7 @@ public final class JavaFactoryParser extends ParserBase {
           { // Start scope for v$g$3.
             final Node v$g$3 = yyOpValue1;
 
-            yyValue = GNode.create("NewArrayExpression", v$g$1, v$g$2, v$g$3, null);
+            yyValue = GNode.create(KIND_NewArrayExpression, v$g$1, v$g$2, v$g$3, null);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyOption1, yyError);
@@ -5702,7 +5702,7 @@ public final class JavaFactoryParser extends ParserBase {
           if (yyResult.hasValue()) {
             final Node v$g$7 = yyResult.semanticValue();
 
-            yyValue = GNode.create("NewArrayExpression", v$g$1, null, v$g$6, v$g$7);
+            yyValue = GNode.create(KIND_NewArrayExpression, v$g$1, null, v$g$6, v$g$7);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -5787,7 +5787,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyRepeated1) {
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("ConcreteDimensions", v$g$1);
+      yyValue = GNode.createFromPair(KIND_ConcreteDimensions, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -5910,7 +5910,7 @@ public final class JavaFactoryParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue("}")) {
 
-            yyValue = GNode.createFromPair("ArrayInitializer", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_ArrayInitializer, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -5937,7 +5937,7 @@ public final class JavaFactoryParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue("}")) {
 
-        yyValue = GNode.create("ArrayInitializer", false);
+        yyValue = GNode.create(KIND_ArrayInitializer, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -6035,7 +6035,7 @@ public final class JavaFactoryParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(")")) {
 
-          yyValue = GNode.create("Arguments", v$g$1);
+          yyValue = GNode.create(KIND_Arguments, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -6080,7 +6080,7 @@ public final class JavaFactoryParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.createFromPair("Arguments", v$g$2, v$g$3);
+            yyValue = GNode.createFromPair(KIND_Arguments, v$g$2, v$g$3);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -6096,7 +6096,7 @@ public final class JavaFactoryParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(")")) {
 
-        yyValue = GNode.create("Arguments", false);
+        yyValue = GNode.create(KIND_Arguments, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -6188,7 +6188,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyRepeated1) {
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("Annotations", v$g$1);
+      yyValue = GNode.createFromPair(KIND_Annotations, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -6227,7 +6227,7 @@ public final class JavaFactoryParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("Annotation", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_Annotation, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -6365,7 +6365,7 @@ public final class JavaFactoryParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("ElementValuePairs", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_ElementValuePairs, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -6416,7 +6416,7 @@ public final class JavaFactoryParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("ElementValuePair", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_ElementValuePair, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -6561,7 +6561,7 @@ public final class JavaFactoryParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue("}")) {
 
-            yyValue = GNode.createFromPair("ArrayInitializer", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_ArrayInitializer, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -6588,7 +6588,7 @@ public final class JavaFactoryParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue("}")) {
 
-        yyValue = GNode.create("ArrayInitializer", false);
+        yyValue = GNode.create(KIND_ArrayInitializer, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -6646,7 +6646,7 @@ public final class JavaFactoryParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue("}")) {
 
-          yyValue = GNode.createFromPair("ClassBody", v$g$1);
+          yyValue = GNode.createFromPair(KIND_ClassBody, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -6729,7 +6729,7 @@ public final class JavaFactoryParser extends ParserBase {
                 yyResult = pSymbol(yyBase);
                 if (yyResult.hasValue(";")) {
 
-                  yyValue = GNode.create("AnnotationMethod", v$g$1, v$g$2, v$g$3, v$g$4);
+                  yyValue = GNode.create(KIND_AnnotationMethod, v$g$1, v$g$2, v$g$3, v$g$4);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -6756,7 +6756,7 @@ public final class JavaFactoryParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(";")) {
 
-            yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
+            yyValue = GNode.create(KIND_FieldDeclaration, v$g$1, v$g$2, v$g$3);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -6822,7 +6822,7 @@ public final class JavaFactoryParser extends ParserBase {
                 if (yyResult.hasValue()) {
                   final Node v$g$6 = yyResult.semanticValue();
 
-                  yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
+                  yyValue = GNode.create(KIND_ClassDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -6878,7 +6878,7 @@ public final class JavaFactoryParser extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$5 = yyResult.semanticValue();
 
-                yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+                yyValue = GNode.create(KIND_InterfaceDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -6960,7 +6960,7 @@ public final class JavaFactoryParser extends ParserBase {
                   yyResult = pSymbol(yyBase);
                   if (yyResult.hasValue("}")) {
 
-                    yyValue = GNode.create("EnumDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+                    yyValue = GNode.create(KIND_EnumDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
                     yyValue.setLocation(location(yyStart));
 
                     return yyResult.createValue(yyValue, yyError);
@@ -6998,7 +6998,7 @@ public final class JavaFactoryParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("AnnotationDeclaration", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_AnnotationDeclaration, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -7040,7 +7040,7 @@ public final class JavaFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("DefaultValue", v$g$1);
+        yyValue = GNode.create(KIND_DefaultValue, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -7101,7 +7101,7 @@ public final class JavaFactoryParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("EnumConstants", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_EnumConstants, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -7115,7 +7115,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Node v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("EnumConstants", v$g$3);
+      yyValue = GNode.create(KIND_EnumConstants, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -7189,7 +7189,7 @@ public final class JavaFactoryParser extends ParserBase {
           { // Start scope for v$g$4.
             final Node v$g$4 = yyOpValue1;
 
-            yyValue = GNode.create("EnumConstant", v$g$1, v$g$2, v$g$3, v$g$4);
+            yyValue = GNode.create(KIND_EnumConstant, v$g$1, v$g$2, v$g$3, v$g$4);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyOption1, yyError);
@@ -7241,7 +7241,7 @@ public final class JavaFactoryParser extends ParserBase {
       { // Start scope for v$g$1.
         final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("EnumMembers", v$g$1);
+        yyValue = GNode.createFromPair(KIND_EnumMembers, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -7323,7 +7323,7 @@ public final class JavaFactoryParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.createFromPair("ResourceSpecification", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_ResourceSpecification, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -7379,7 +7379,7 @@ public final class JavaFactoryParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$3 = yyResult.semanticValue();
 
-          yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_FieldDeclaration, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -7412,7 +7412,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Declarators", v$g$1);
+      yyValue = GNode.create(KIND_Declarators, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -7453,7 +7453,7 @@ public final class JavaFactoryParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$3 = yyResult.semanticValue();
 
-          yyValue = GNode.create("Declarator", v$g$1, null, v$g$3);
+          yyValue = GNode.create(KIND_Declarator, v$g$1, null, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -7526,7 +7526,7 @@ public final class JavaFactoryParser extends ParserBase {
           if (yyResult.hasValue()) {
             final String v$g$5 = yyResult.semanticValue();
 
-            yyValue = GNode.create("FormalParameter", v$g$3.size() + 5).
+            yyValue = GNode.create(KIND_FormalParameter, v$g$3.size() + 5).
               add(v$g$1).add(v$g$2).addAll(v$g$3).add(null).add(v$g$5).add(null);
             yyValue.setLocation(location(yyStart));
 
@@ -7592,7 +7592,7 @@ public final class JavaFactoryParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(";")) {
 
-            yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
+            yyValue = GNode.create(KIND_FieldDeclaration, v$g$1, v$g$2, v$g$3);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -7673,7 +7673,7 @@ public final class JavaFactoryParser extends ParserBase {
                   if (yyResult.hasValue()) {
                     final Node v$g$8 = yyResult.semanticValue();
 
-                    yyValue = GNode.create("MethodDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$8);
+                    yyValue = GNode.create(KIND_MethodDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$8);
                     yyValue.setLocation(location(yyStart));
 
                     return yyResult.createValue(yyValue, yyError);
@@ -7685,7 +7685,7 @@ public final class JavaFactoryParser extends ParserBase {
                   yyResult = pSymbol(yyBase);
                   if (yyResult.hasValue(";")) {
 
-                    yyValue = GNode.create("MethodDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, null);
+                    yyValue = GNode.create(KIND_MethodDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, null);
                     yyValue.setLocation(location(yyStart));
 
                     return yyResult.createValue(yyValue, yyError);
@@ -7729,7 +7729,7 @@ public final class JavaFactoryParser extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$6 = yyResult.semanticValue();
 
-                yyValue = GNode.create("ConstructorDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
+                yyValue = GNode.create(KIND_ConstructorDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -7795,7 +7795,7 @@ public final class JavaFactoryParser extends ParserBase {
                 if (yyResult.hasValue()) {
                   final Node v$g$6 = yyResult.semanticValue();
 
-                  yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
+                  yyValue = GNode.create(KIND_ClassDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -7851,7 +7851,7 @@ public final class JavaFactoryParser extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$5 = yyResult.semanticValue();
 
-                yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+                yyValue = GNode.create(KIND_InterfaceDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -7932,7 +7932,7 @@ public final class JavaFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final String v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("NodeVariable", v$g$1);
+        yyValue = GNode.create(KIND_NodeVariable, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -7973,7 +7973,7 @@ public final class JavaFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final String v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("StringVariable", v$g$1);
+        yyValue = GNode.create(KIND_StringVariable, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8033,7 +8033,7 @@ public final class JavaFactoryParser extends ParserBase {
             yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
 
-              yyValue = GNode.create("NodeListVariable", v$g$1);
+              yyValue = GNode.create(KIND_NodeListVariable, v$g$1);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -8114,7 +8114,7 @@ public final class JavaFactoryParser extends ParserBase {
     yyResult = pWord(yyStart);
     if (yyResult.hasValue("void")) {
 
-      yyValue = GNode.create("VoidType", false);
+      yyValue = GNode.create(KIND_VoidType, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8171,7 +8171,7 @@ public final class JavaFactoryParser extends ParserBase {
       { // Start scope for v$g$2.
         final Node v$g$2 = yyOpValue1;
 
-        yyValue = GNode.create("Type", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_Type, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -8258,7 +8258,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue("byte")) {
       final String v$g$1 = "byte";
 
-      yyValue = GNode.create("PrimitiveType", v$g$1);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8270,7 +8270,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue("short")) {
       final String v$g$2 = "short";
 
-      yyValue = GNode.create("PrimitiveType", v$g$2);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8282,7 +8282,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue("char")) {
       final String v$g$3 = "char";
 
-      yyValue = GNode.create("PrimitiveType", v$g$3);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8294,7 +8294,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue("int")) {
       final String v$g$4 = "int";
 
-      yyValue = GNode.create("PrimitiveType", v$g$4);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$4);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8306,7 +8306,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue("long")) {
       final String v$g$5 = "long";
 
-      yyValue = GNode.create("PrimitiveType", v$g$5);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$5);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8318,7 +8318,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue("float")) {
       final String v$g$6 = "float";
 
-      yyValue = GNode.create("PrimitiveType", v$g$6);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$6);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8330,7 +8330,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue("double")) {
       final String v$g$7 = "double";
 
-      yyValue = GNode.create("PrimitiveType", v$g$7);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$7);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8342,7 +8342,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue("boolean")) {
       final String v$g$8 = "boolean";
 
-      yyValue = GNode.create("PrimitiveType", v$g$8);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$8);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8446,7 +8446,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<String> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("Dimensions", v$g$1);
+      yyValue = GNode.createFromPair(KIND_Dimensions, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8574,7 +8574,7 @@ public final class JavaFactoryParser extends ParserBase {
               yyError  = yyResult.select(yyError);
               if (yyResult.hasValue()) {
 
-                yyValue = GNode.createFromPair("TypeParameters", v$g$1, v$g$2);
+                yyValue = GNode.createFromPair(KIND_TypeParameters, v$g$1, v$g$2);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -8702,7 +8702,7 @@ public final class JavaFactoryParser extends ParserBase {
       { // Start scope for v$g$2.
         final Node v$g$2 = yyOpValue1;
 
-        yyValue = GNode.create("TypeParameter", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_TypeParameter, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -8716,7 +8716,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Node v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("TypeParameter", v$g$3, null);
+      yyValue = GNode.create(KIND_TypeParameter, v$g$3, null);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8775,7 +8775,7 @@ public final class JavaFactoryParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("Bound", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_Bound, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -8841,7 +8841,7 @@ public final class JavaFactoryParser extends ParserBase {
               yyError  = yyResult.select(yyError);
               if (yyResult.hasValue()) {
 
-                yyValue = GNode.createFromPair("TypeArguments", v$g$1, v$g$2);
+                yyValue = GNode.createFromPair(KIND_TypeArguments, v$g$1, v$g$2);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -8995,7 +8995,7 @@ public final class JavaFactoryParser extends ParserBase {
       { // Start scope for v$g$1.
         final Node v$g$1 = yyOpValue1;
 
-        yyValue = GNode.create("Wildcard", v$g$1);
+        yyValue = GNode.create(KIND_Wildcard, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -9032,7 +9032,7 @@ public final class JavaFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("WildcardBound", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_WildcardBound, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -9050,7 +9050,7 @@ public final class JavaFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("WildcardBound", v$g$3, v$g$4);
+        yyValue = GNode.create(KIND_WildcardBound, v$g$3, v$g$4);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -9111,7 +9111,7 @@ public final class JavaFactoryParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("InstantiatedType", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_InstantiatedType, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -9168,7 +9168,7 @@ public final class JavaFactoryParser extends ParserBase {
       { // Start scope for v$g$2.
         final Node v$g$2 = yyOpValue1;
 
-        yyValue = GNode.create("TypeInstantiation", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_TypeInstantiation, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -9208,7 +9208,7 @@ public final class JavaFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final String v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("NodeVariable", v$g$1);
+        yyValue = GNode.create(KIND_NodeVariable, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -9249,7 +9249,7 @@ public final class JavaFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final String v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("StringVariable", v$g$1);
+        yyValue = GNode.create(KIND_StringVariable, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -9341,7 +9341,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue("true")) {
       final String v$g$1 = "true";
 
-      yyValue = GNode.create("BooleanLiteral", v$g$1);
+      yyValue = GNode.create(KIND_BooleanLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9353,7 +9353,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue("false")) {
       final String v$g$2 = "false";
 
-      yyValue = GNode.create("BooleanLiteral", v$g$2);
+      yyValue = GNode.create(KIND_BooleanLiteral, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9364,7 +9364,7 @@ public final class JavaFactoryParser extends ParserBase {
     yyResult = pWord(yyStart);
     if (yyResult.hasValue("null")) {
 
-      yyValue = GNode.create("NullLiteral", false);
+      yyValue = GNode.create(KIND_NullLiteral, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9396,7 +9396,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$1);
+      yyValue = GNode.create(KIND_IntegerLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9409,7 +9409,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$2);
+      yyValue = GNode.create(KIND_IntegerLiteral, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9422,7 +9422,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$3);
+      yyValue = GNode.create(KIND_IntegerLiteral, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9435,7 +9435,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$4 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$4);
+      yyValue = GNode.create(KIND_IntegerLiteral, v$g$4);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -10294,7 +10294,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("FloatingPointLiteral", v$g$1);
+      yyValue = GNode.create(KIND_FloatingPointLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -10584,7 +10584,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("CharacterLiteral", v$g$1);
+      yyValue = GNode.create(KIND_CharacterLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -10615,7 +10615,7 @@ public final class JavaFactoryParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("StringLiteral", v$g$1);
+      yyValue = GNode.create(KIND_StringLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -11641,7 +11641,7 @@ public final class JavaFactoryParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Pair<String> v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.createFromPair("QualifiedIdentifier", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_QualifiedIdentifier, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -12802,4 +12802,115 @@ public final class JavaFactoryParser extends ParserBase {
     return set.contains(value);
   }
 
+  // =========================================================================
+
+  private static final int KIND_Factory = GNode.kind("Factory");
+  private static final int KIND_Methods = GNode.kind("Methods");
+  private static final int KIND_Method = GNode.kind("Method");
+  private static final int KIND_ImportDeclaration = GNode.kind("ImportDeclaration");
+  private static final int KIND_Modifiers = GNode.kind("Modifiers");
+  private static final int KIND_Modifier = GNode.kind("Modifier");
+  private static final int KIND_FormalParameter = GNode.kind("FormalParameter");
+  private static final int KIND_FormalParameters = GNode.kind("FormalParameters");
+  private static final int KIND_Declarator = GNode.kind("Declarator");
+  private static final int KIND_Declarators = GNode.kind("Declarators");
+  private static final int KIND_ClassBody = GNode.kind("ClassBody");
+  private static final int KIND_FieldDeclaration = GNode.kind("FieldDeclaration");
+  private static final int KIND_MethodDeclaration = GNode.kind("MethodDeclaration");
+  private static final int KIND_ConstructorDeclaration = GNode.kind("ConstructorDeclaration");
+  private static final int KIND_ClassDeclaration = GNode.kind("ClassDeclaration");
+  private static final int KIND_InterfaceDeclaration = GNode.kind("InterfaceDeclaration");
+  private static final int KIND_AnnotationDeclaration = GNode.kind("AnnotationDeclaration");
+  private static final int KIND_EnumDeclaration = GNode.kind("EnumDeclaration");
+  private static final int KIND_BlockDeclaration = GNode.kind("BlockDeclaration");
+  private static final int KIND_EmptyDeclaration = GNode.kind("EmptyDeclaration");
+  private static final int KIND_ThrowsClause = GNode.kind("ThrowsClause");
+  private static final int KIND_Extension = GNode.kind("Extension");
+  private static final int KIND_Implementation = GNode.kind("Implementation");
+  private static final int KIND_Block = GNode.kind("Block");
+  private static final int KIND_ConditionalStatement = GNode.kind("ConditionalStatement");
+  private static final int KIND_ForStatement = GNode.kind("ForStatement");
+  private static final int KIND_WhileStatement = GNode.kind("WhileStatement");
+  private static final int KIND_DoWhileStatement = GNode.kind("DoWhileStatement");
+  private static final int KIND_TryCatchFinallyStatement = GNode.kind("TryCatchFinallyStatement");
+  private static final int KIND_SwitchStatement = GNode.kind("SwitchStatement");
+  private static final int KIND_SynchronizedStatement = GNode.kind("SynchronizedStatement");
+  private static final int KIND_ReturnStatement = GNode.kind("ReturnStatement");
+  private static final int KIND_ThrowStatement = GNode.kind("ThrowStatement");
+  private static final int KIND_BreakStatement = GNode.kind("BreakStatement");
+  private static final int KIND_ContinueStatement = GNode.kind("ContinueStatement");
+  private static final int KIND_LabeledStatement = GNode.kind("LabeledStatement");
+  private static final int KIND_ExpressionStatement = GNode.kind("ExpressionStatement");
+  private static final int KIND_AssertStatement = GNode.kind("AssertStatement");
+  private static final int KIND_EmptyStatement = GNode.kind("EmptyStatement");
+  private static final int KIND_EnhancedForControl = GNode.kind("EnhancedForControl");
+  private static final int KIND_BasicForControl = GNode.kind("BasicForControl");
+  private static final int KIND_CatchClause = GNode.kind("CatchClause");
+  private static final int KIND_CaseClause = GNode.kind("CaseClause");
+  private static final int KIND_DefaultClause = GNode.kind("DefaultClause");
+  private static final int KIND_ExpressionList = GNode.kind("ExpressionList");
+  private static final int KIND_Expression = GNode.kind("Expression");
+  private static final int KIND_ConditionalExpression = GNode.kind("ConditionalExpression");
+  private static final int KIND_LogicalOrExpression = GNode.kind("LogicalOrExpression");
+  private static final int KIND_LogicalAndExpression = GNode.kind("LogicalAndExpression");
+  private static final int KIND_BitwiseOrExpression = GNode.kind("BitwiseOrExpression");
+  private static final int KIND_BitwiseXorExpression = GNode.kind("BitwiseXorExpression");
+  private static final int KIND_BitwiseAndExpression = GNode.kind("BitwiseAndExpression");
+  private static final int KIND_EqualityExpression = GNode.kind("EqualityExpression");
+  private static final int KIND_InstanceOfExpression = GNode.kind("InstanceOfExpression");
+  private static final int KIND_RelationalExpression = GNode.kind("RelationalExpression");
+  private static final int KIND_ShiftExpression = GNode.kind("ShiftExpression");
+  private static final int KIND_AdditiveExpression = GNode.kind("AdditiveExpression");
+  private static final int KIND_MultiplicativeExpression = GNode.kind("MultiplicativeExpression");
+  private static final int KIND_UnaryExpression = GNode.kind("UnaryExpression");
+  private static final int KIND_BitwiseNegationExpression = GNode.kind("BitwiseNegationExpression");
+  private static final int KIND_LogicalNegationExpression = GNode.kind("LogicalNegationExpression");
+  private static final int KIND_BasicCastExpression = GNode.kind("BasicCastExpression");
+  private static final int KIND_CastExpression = GNode.kind("CastExpression");
+  private static final int KIND_CallExpression = GNode.kind("CallExpression");
+  private static final int KIND_SuperExpression = GNode.kind("SuperExpression");
+  private static final int KIND_SelectionExpression = GNode.kind("SelectionExpression");
+  private static final int KIND_SubscriptExpression = GNode.kind("SubscriptExpression");
+  private static final int KIND_PostfixExpression = GNode.kind("PostfixExpression");
+  private static final int KIND_NewClassExpression = GNode.kind("NewClassExpression");
+  private static final int KIND_ClassLiteralExpression = GNode.kind("ClassLiteralExpression");
+  private static final int KIND_ThisExpression = GNode.kind("ThisExpression");
+  private static final int KIND_PrimaryIdentifier = GNode.kind("PrimaryIdentifier");
+  private static final int KIND_NewArrayExpression = GNode.kind("NewArrayExpression");
+  private static final int KIND_ConcreteDimensions = GNode.kind("ConcreteDimensions");
+  private static final int KIND_ArrayInitializer = GNode.kind("ArrayInitializer");
+  private static final int KIND_Arguments = GNode.kind("Arguments");
+  private static final int KIND_Annotations = GNode.kind("Annotations");
+  private static final int KIND_Annotation = GNode.kind("Annotation");
+  private static final int KIND_ElementValuePairs = GNode.kind("ElementValuePairs");
+  private static final int KIND_ElementValuePair = GNode.kind("ElementValuePair");
+  private static final int KIND_AnnotationMethod = GNode.kind("AnnotationMethod");
+  private static final int KIND_DefaultValue = GNode.kind("DefaultValue");
+  private static final int KIND_EnumConstants = GNode.kind("EnumConstants");
+  private static final int KIND_EnumConstant = GNode.kind("EnumConstant");
+  private static final int KIND_EnumMembers = GNode.kind("EnumMembers");
+  private static final int KIND_ResourceSpecification = GNode.kind("ResourceSpecification");
+  private static final int KIND_NodeVariable = GNode.kind("NodeVariable");
+  private static final int KIND_StringVariable = GNode.kind("StringVariable");
+  private static final int KIND_NodeListVariable = GNode.kind("NodeListVariable");
+  private static final int KIND_VoidType = GNode.kind("VoidType");
+  private static final int KIND_Type = GNode.kind("Type");
+  private static final int KIND_PrimitiveType = GNode.kind("PrimitiveType");
+  private static final int KIND_Dimensions = GNode.kind("Dimensions");
+  private static final int KIND_TypeParameters = GNode.kind("TypeParameters");
+  private static final int KIND_TypeParameter = GNode.kind("TypeParameter");
+  private static final int KIND_Bound = GNode.kind("Bound");
+  private static final int KIND_TypeArguments = GNode.kind("TypeArguments");
+  private static final int KIND_Wildcard = GNode.kind("Wildcard");
+  private static final int KIND_WildcardBound = GNode.kind("WildcardBound");
+  private static final int KIND_InstantiatedType = GNode.kind("InstantiatedType");
+  private static final int KIND_TypeInstantiation = GNode.kind("TypeInstantiation");
+  private static final int KIND_BooleanLiteral = GNode.kind("BooleanLiteral");
+  private static final int KIND_NullLiteral = GNode.kind("NullLiteral");
+  private static final int KIND_IntegerLiteral = GNode.kind("IntegerLiteral");
+  private static final int KIND_FloatingPointLiteral = GNode.kind("FloatingPointLiteral");
+  private static final int KIND_CharacterLiteral = GNode.kind("CharacterLiteral");
+  private static final int KIND_StringLiteral = GNode.kind("StringLiteral");
+  private static final int KIND_QualifiedIdentifier = GNode.kind("QualifiedIdentifier");
+
 }
@@ -220,7 +220,7 @@ public final class JavaFiveParser extends ParserBase {
             yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
 
-              yyValue = GNode.create("CompilationUnit", v$g$2.size() + v$g$3.size() + 1).
+              yyValue = GNode.create(KIND_CompilationUnit, v$g$2.size() + v$g$3.size() + 1).
                 add(v$g$1).addAll(v$g$2).addAll(v$g$3);
               yyValue.setLocation(location(yyStart));
 
@@ -282,7 +282,7 @@ public final class JavaFiveParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(";")) {
 
-            yyValue = GNode.create("PackageDeclaration", v$g$1, v$g$2);
+            yyValue = GNode.create(KIND_PackageDeclaration, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -360,7 +360,7 @@ public final class JavaFiveParser extends ParserBase {
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue(";")) {
 
-              yyValue = GNode.create("ImportDeclaration", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_ImportDeclaration, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -443,7 +443,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("Modifiers", v$g$1);
+      yyValue = GNode.createFromPair(KIND_Modifiers, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -523,7 +523,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue("public")) {
       final String v$g$1 = "public";
 
-      yyValue = GNode.create("Modifier", v$g$1);
+      yyValue = GNode.create(KIND_Modifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -535,7 +535,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue("protected")) {
       final String v$g$2 = "protected";
 
-      yyValue = GNode.create("Modifier", v$g$2);
+      yyValue = GNode.create(KIND_Modifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -547,7 +547,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue("private")) {
       final String v$g$3 = "private";
 
-      yyValue = GNode.create("Modifier", v$g$3);
+      yyValue = GNode.create(KIND_Modifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -559,7 +559,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue("static")) {
       final String v$g$4 = "static";
 
-      yyValue = GNode.create("Modifier", v$g$4);
+      yyValue = GNode.create(KIND_Modifier, v$g$4);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -571,7 +571,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue("abstract")) {
       final String v$g$5 = "abstract";
 
-      yyValue = GNode.create("Modifier", v$g$5);
+      yyValue = GNode.create(KIND_Modifier, v$g$5);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -583,7 +583,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue("final")) {
       final String v$g$6 = "final";
 
-      yyValue = GNode.create("Modifier", v$g$6);
+      yyValue = GNode.create(KIND_Modifier, v$g$6);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -595,7 +595,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue("native")) {
       final String v$g$7 = "native";
 
-      yyValue = GNode.create("Modifier", v$g$7);
+      yyValue = GNode.create(KIND_Modifier, v$g$7);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -607,7 +607,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue("synchronized")) {
       final String v$g$8 = "synchronized";
 
-      yyValue = GNode.create("Modifier", v$g$8);
+      yyValue = GNode.create(KIND_Modifier, v$g$8);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -619,7 +619,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue("transient")) {
       final String v$g$9 = "transient";
 
-      yyValue = GNode.create("Modifier", v$g$9);
+      yyValue = GNode.create(KIND_Modifier, v$g$9);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -631,7 +631,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue("volatile")) {
       final String v$g$10 = "volatile";
 
-      yyValue = GNode.create("Modifier", v$g$10);
+      yyValue = GNode.create(KIND_Modifier, v$g$10);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -643,7 +643,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue("strictfp")) {
       final String v$g$11 = "strictfp";
 
-      yyValue = GNode.create("Modifier", v$g$11);
+      yyValue = GNode.create(KIND_Modifier, v$g$11);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -718,7 +718,7 @@ public final class JavaFiveParser extends ParserBase {
             { // Start scope for v$g$5.
               final Node v$g$5 = cast(yyOpValue1);
 
-              yyValue = GNode.create("FormalParameter", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+              yyValue = GNode.create(KIND_FormalParameter, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyOption1, yyError);
@@ -768,7 +768,7 @@ public final class JavaFiveParser extends ParserBase {
     { // Start scope for v$g$1.
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("Modifiers", v$g$1);
+      yyValue = GNode.createFromPair(KIND_Modifiers, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -795,7 +795,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue("final")) {
       final String v$g$1 = "final";
 
-      yyValue = GNode.create("Modifier", v$g$1);
+      yyValue = GNode.create(KIND_Modifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -853,7 +853,7 @@ public final class JavaFiveParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.createFromPair("FormalParameters", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_FormalParameters, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -869,7 +869,7 @@ public final class JavaFiveParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(")")) {
 
-        yyValue = GNode.create("FormalParameters", false);
+        yyValue = GNode.create(KIND_FormalParameters, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -997,7 +997,7 @@ public final class JavaFiveParser extends ParserBase {
         { // Start scope for v$g$3.
           final Node v$g$3 = yyOpValue1;
 
-          yyValue = GNode.create("Declarator", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_Declarator, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -1044,7 +1044,7 @@ public final class JavaFiveParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.createFromPair("Declarators", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_Declarators, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -1151,7 +1151,7 @@ public final class JavaFiveParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue("}")) {
 
-          yyValue = GNode.createFromPair("ClassBody", v$g$1);
+          yyValue = GNode.createFromPair(KIND_ClassBody, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -1208,7 +1208,7 @@ public final class JavaFiveParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(";")) {
 
-            yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
+            yyValue = GNode.create(KIND_FieldDeclaration, v$g$1, v$g$2, v$g$3);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -1289,7 +1289,7 @@ public final class JavaFiveParser extends ParserBase {
                   if (yyResult.hasValue()) {
                     final Node v$g$8 = yyResult.semanticValue();
 
-                    yyValue = GNode.create("MethodDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$8);
+                    yyValue = GNode.create(KIND_MethodDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$8);
                     yyValue.setLocation(location(yyStart));
 
                     return yyResult.createValue(yyValue, yyError);
@@ -1301,7 +1301,7 @@ public final class JavaFiveParser extends ParserBase {
                   yyResult = pSymbol(yyBase);
                   if (yyResult.hasValue(";")) {
 
-                    yyValue = GNode.create("MethodDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, null);
+                    yyValue = GNode.create(KIND_MethodDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, null);
                     yyValue.setLocation(location(yyStart));
 
                     return yyResult.createValue(yyValue, yyError);
@@ -1345,7 +1345,7 @@ public final class JavaFiveParser extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$6 = yyResult.semanticValue();
 
-                yyValue = GNode.create("ConstructorDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
+                yyValue = GNode.create(KIND_ConstructorDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -1411,7 +1411,7 @@ public final class JavaFiveParser extends ParserBase {
                 if (yyResult.hasValue()) {
                   final Node v$g$6 = yyResult.semanticValue();
 
-                  yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
+                  yyValue = GNode.create(KIND_ClassDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -1467,7 +1467,7 @@ public final class JavaFiveParser extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$5 = yyResult.semanticValue();
 
-                yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+                yyValue = GNode.create(KIND_InterfaceDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -1499,7 +1499,7 @@ public final class JavaFiveParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("AnnotationDeclaration", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_AnnotationDeclaration, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -1582,7 +1582,7 @@ public final class JavaFiveParser extends ParserBase {
                   yyResult = pSymbol(yyBase);
                   if (yyResult.hasValue("}")) {
 
-                    yyValue = GNode.create("EnumDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+                    yyValue = GNode.create(KIND_EnumDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
                     yyValue.setLocation(location(yyStart));
 
                     return yyResult.createValue(yyValue, yyError);
@@ -1624,7 +1624,7 @@ public final class JavaFiveParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("BlockDeclaration", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_BlockDeclaration, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -1636,7 +1636,7 @@ public final class JavaFiveParser extends ParserBase {
     yyResult = pSymbol(yyStart);
     if (yyResult.hasValue(";")) {
 
-      yyValue = GNode.create("EmptyDeclaration", false);
+      yyValue = GNode.create(KIND_EmptyDeclaration, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1699,7 +1699,7 @@ public final class JavaFiveParser extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("ThrowsClause", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_ThrowsClause, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -1764,7 +1764,7 @@ public final class JavaFiveParser extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("Extension", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_Extension, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -1815,7 +1815,7 @@ public final class JavaFiveParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Pair<Node> v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.createFromPair("Implementation", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_Implementation, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -1922,7 +1922,7 @@ public final class JavaFiveParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue("}")) {
 
-          yyValue = GNode.createFromPair("Block", v$g$1);
+          yyValue = GNode.createFromPair(KIND_Block, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2117,7 +2117,7 @@ public final class JavaFiveParser extends ParserBase {
                 if (yyResult.hasValue()) {
                   final Node v$g$6 = yyResult.semanticValue();
 
-                  yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
+                  yyValue = GNode.create(KIND_ClassDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -2173,7 +2173,7 @@ public final class JavaFiveParser extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$5 = yyResult.semanticValue();
 
-                yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+                yyValue = GNode.create(KIND_InterfaceDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -2226,7 +2226,7 @@ public final class JavaFiveParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(";")) {
 
-            yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
+            yyValue = GNode.create(KIND_FieldDeclaration, v$g$1, v$g$2, v$g$3);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -2299,7 +2299,7 @@ public final class JavaFiveParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_ConditionalStatement, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -2310,7 +2310,7 @@ public final class JavaFiveParser extends ParserBase {
 
           // Nested alternative 2.
 
-          yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, null);
+          yyValue = GNode.create(KIND_ConditionalStatement, v$g$1, v$g$2, null);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
@@ -2341,7 +2341,7 @@ public final class JavaFiveParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("ForStatement", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_ForStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -2370,7 +2370,7 @@ public final class JavaFiveParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_WhileStatement, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2401,7 +2401,7 @@ public final class JavaFiveParser extends ParserBase {
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue(";")) {
 
-              yyValue = GNode.create("DoWhileStatement", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_DoWhileStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -2456,7 +2456,7 @@ public final class JavaFiveParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$4 = yyResult.semanticValue();
 
-              yyValue = GNode.create("TryCatchFinallyStatement", v$g$3.size() + 3).
+              yyValue = GNode.create(KIND_TryCatchFinallyStatement, v$g$3.size() + 3).
                 add(null).add(v$g$2).addAll(v$g$3).add(v$g$4);
               yyValue.setLocation(location(yyStart));
 
@@ -2490,7 +2490,7 @@ public final class JavaFiveParser extends ParserBase {
         if (yyRepeated1) {
           final Pair<Node> v$g$5 = yyRepValue1.reverse();
 
-          yyValue = GNode.create("TryCatchFinallyStatement", v$g$5.size() + 3).
+          yyValue = GNode.create(KIND_TryCatchFinallyStatement, v$g$5.size() + 3).
             add(null).add(v$g$2).addAll(v$g$5).add(null);
           yyValue.setLocation(location(yyStart));
 
@@ -2535,7 +2535,7 @@ public final class JavaFiveParser extends ParserBase {
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue("}")) {
 
-              yyValue = GNode.createFromPair("SwitchStatement", v$g$1, v$g$2);
+              yyValue = GNode.createFromPair(KIND_SwitchStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -2564,7 +2564,7 @@ public final class JavaFiveParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("SynchronizedStatement", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_SynchronizedStatement, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2595,7 +2595,7 @@ public final class JavaFiveParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("ReturnStatement", v$g$1);
+          yyValue = GNode.create(KIND_ReturnStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2619,7 +2619,7 @@ public final class JavaFiveParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("ThrowStatement", v$g$1);
+          yyValue = GNode.create(KIND_ThrowStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2652,7 +2652,7 @@ public final class JavaFiveParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("BreakStatement", v$g$1);
+          yyValue = GNode.create(KIND_BreakStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2685,7 +2685,7 @@ public final class JavaFiveParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("ContinueStatement", v$g$1);
+          yyValue = GNode.create(KIND_ContinueStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2711,7 +2711,7 @@ public final class JavaFiveParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("LabeledStatement", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_LabeledStatement, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2732,7 +2732,7 @@ public final class JavaFiveParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(";")) {
 
-        yyValue = GNode.create("ExpressionStatement", v$g$1);
+        yyValue = GNode.create(KIND_ExpressionStatement, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -2776,7 +2776,7 @@ public final class JavaFiveParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(";")) {
 
-            yyValue = GNode.create("AssertStatement", v$g$1, v$g$2);
+            yyValue = GNode.create(KIND_AssertStatement, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -2792,7 +2792,7 @@ public final class JavaFiveParser extends ParserBase {
     yyResult = pSymbol(yyStart);
     if (yyResult.hasValue(";")) {
 
-      yyValue = GNode.create("EmptyStatement", false);
+      yyValue = GNode.create(KIND_EmptyStatement, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -2850,7 +2850,7 @@ public final class JavaFiveParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$4 = yyResult.semanticValue();
 
-              yyValue = GNode.create("EnhancedForControl", v$g$1, v$g$2, v$g$3, v$g$4);
+              yyValue = GNode.create(KIND_EnhancedForControl, v$g$1, v$g$2, v$g$3, v$g$4);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -2903,7 +2903,7 @@ public final class JavaFiveParser extends ParserBase {
                 { // Start scope for v$g$5.
                   final Node v$g$5 = yyOpValue1;
 
-                  yyValue = GNode.create("BasicForControl", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+                  yyValue = GNode.create(KIND_BasicForControl, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
                   yyValue.setLocation(location(yyStart));
 
                   return new SemanticValue(yyValue, yyOption1, yyError);
@@ -2971,7 +2971,7 @@ public final class JavaFiveParser extends ParserBase {
             { // Start scope for v$g$10.
               final Node v$g$10 = yyOpValue1;
 
-              yyValue = GNode.create("BasicForControl", null, null, v$g$8, v$g$9, v$g$10);
+              yyValue = GNode.create(KIND_BasicForControl, null, null, v$g$8, v$g$9, v$g$10);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyOption1, yyError);
@@ -3086,7 +3086,7 @@ public final class JavaFiveParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("CatchClause", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_CatchClause, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -3154,7 +3154,7 @@ public final class JavaFiveParser extends ParserBase {
           { // Start scope for v$g$2.
             final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-            yyValue = GNode.createFromPair("CaseClause", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_CaseClause, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -3192,7 +3192,7 @@ public final class JavaFiveParser extends ParserBase {
         { // Start scope for v$g$1.
           final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("DefaultClause", v$g$1);
+          yyValue = GNode.createFromPair(KIND_DefaultClause, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -3256,7 +3256,7 @@ public final class JavaFiveParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("ExpressionList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_ExpressionList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -3307,7 +3307,7 @@ public final class JavaFiveParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$3 = yyResult.semanticValue();
 
-          yyValue = GNode.create("Expression", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_Expression, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -3509,7 +3509,7 @@ public final class JavaFiveParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("ConditionalExpression", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_ConditionalExpression, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -3627,7 +3627,7 @@ public final class JavaFiveParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("LogicalOrExpression", v$1, v$g$2);
+            return GNode.create(KIND_LogicalOrExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -3719,7 +3719,7 @@ public final class JavaFiveParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("LogicalAndExpression", v$1, v$g$2);
+            return GNode.create(KIND_LogicalAndExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -3810,7 +3810,7 @@ public final class JavaFiveParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseOrExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseOrExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -3902,7 +3902,7 @@ public final class JavaFiveParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseXorExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseXorExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -3994,7 +3994,7 @@ public final class JavaFiveParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseAndExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseAndExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4087,7 +4087,7 @@ public final class JavaFiveParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("EqualityExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_EqualityExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4166,7 +4166,7 @@ public final class JavaFiveParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("InstanceOfExpression", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_InstanceOfExpression, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -4283,7 +4283,7 @@ public final class JavaFiveParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("RelationalExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_RelationalExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4430,7 +4430,7 @@ public final class JavaFiveParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("ShiftExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_ShiftExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4568,7 +4568,7 @@ public final class JavaFiveParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("AdditiveExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_AdditiveExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4700,7 +4700,7 @@ public final class JavaFiveParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("MultiplicativeExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_MultiplicativeExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4784,7 +4784,7 @@ public final class JavaFiveParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_UnaryExpression, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -4802,7 +4802,7 @@ public final class JavaFiveParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$3, v$g$4);
+        yyValue = GNode.create(KIND_UnaryExpression, v$g$3, v$g$4);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -4820,7 +4820,7 @@ public final class JavaFiveParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$6 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$5, v$g$6);
+        yyValue = GNode.create(KIND_UnaryExpression, v$g$5, v$g$6);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -4838,7 +4838,7 @@ public final class JavaFiveParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$8 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$7, v$g$8);
+        yyValue = GNode.create(KIND_UnaryExpression, v$g$7, v$g$8);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -4889,7 +4889,7 @@ public final class JavaFiveParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
+        yyValue = GNode.create(KIND_BitwiseNegationExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -4906,7 +4906,7 @@ public final class JavaFiveParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("LogicalNegationExpression", v$g$1);
+        yyValue = GNode.create(KIND_LogicalNegationExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -4950,7 +4950,7 @@ public final class JavaFiveParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("BasicCastExpression", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_BasicCastExpression, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -4977,7 +4977,7 @@ public final class JavaFiveParser extends ParserBase {
           if (yyResult.hasValue()) {
             final Node v$g$2 = yyResult.semanticValue();
 
-            yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
+            yyValue = GNode.create(KIND_CastExpression, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -5108,7 +5108,7 @@ public final class JavaFiveParser extends ParserBase {
 
             yyValue = new Action<Node>() {
               public Node run(Node v$1) {
-                return GNode.create("CallExpression", v$1, v$g$2, v$g$3, v$g$4);
+                return GNode.create(KIND_CallExpression, v$1, v$g$2, v$g$3, v$g$4);
               }};
 
             return yyResult.createValue(yyValue, yyError);
@@ -5130,7 +5130,7 @@ public final class JavaFiveParser extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("CallExpression", v$1, null, v$g$6, v$g$7);
+              return GNode.create(KIND_CallExpression, v$1, null, v$g$6, v$g$7);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -5147,7 +5147,7 @@ public final class JavaFiveParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("SuperExpression", v$1);
+            return GNode.create(KIND_SuperExpression, v$1);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -5164,7 +5164,7 @@ public final class JavaFiveParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("SelectionExpression", v$1, v$g$8);
+            return GNode.create(KIND_SelectionExpression, v$1, v$g$8);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -5187,7 +5187,7 @@ public final class JavaFiveParser extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("SubscriptExpression", v$1, v$g$9);
+              return GNode.create(KIND_SubscriptExpression, v$1, v$g$9);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -5205,7 +5205,7 @@ public final class JavaFiveParser extends ParserBase {
 
       yyValue = new Action<Node>() {
         public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$10);
+          return GNode.create(KIND_PostfixExpression, v$1, v$g$10);
         }};
 
       return yyResult.createValue(yyValue, yyError);
@@ -5219,7 +5219,7 @@ public final class JavaFiveParser extends ParserBase {
 
       yyValue = new Action<Node>() {
         public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$11);
+          return GNode.create(KIND_PostfixExpression, v$1, v$g$11);
         }};
 
       return yyResult.createValue(yyValue, yyError);
@@ -5274,7 +5274,7 @@ public final class JavaFiveParser extends ParserBase {
 
                 yyValue = new Action<Node>() {
                   public Node run(Node v$1) {
-                    return GNode.create("NewClassExpression", v$1, v$g$12, v$g$13, v$g$14, v$g$15);
+                    return GNode.create(KIND_NewClassExpression, v$1, v$g$12, v$g$13, v$g$14, v$g$15);
                   }};
 
                 return new SemanticValue(yyValue, yyOption1, yyError);
@@ -5345,7 +5345,7 @@ public final class JavaFiveParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$4 = yyResult.semanticValue();
 
-          yyValue = GNode.create("CallExpression", null, v$g$2, v$g$3, v$g$4);
+          yyValue = GNode.create(KIND_CallExpression, null, v$g$2, v$g$3, v$g$4);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -5368,7 +5368,7 @@ public final class JavaFiveParser extends ParserBase {
         yyResult = pWord(yyBase);
         if (yyResult.hasValue("class")) {
 
-          yyValue = GNode.create("ClassLiteralExpression", v$g$1);
+          yyValue = GNode.create(KIND_ClassLiteralExpression, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -5391,7 +5391,7 @@ public final class JavaFiveParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
+        yyValue = GNode.create(KIND_CallExpression, null, null, v$g$3, v$g$4);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5425,7 +5425,7 @@ public final class JavaFiveParser extends ParserBase {
       yyResult = pWord(yyBase);
       if (yyResult.hasValue("this")) {
 
-        yyValue = GNode.create("ThisExpression", v$g$1);
+        yyValue = GNode.create(KIND_ThisExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5450,7 +5450,7 @@ public final class JavaFiveParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$4 = yyResult.semanticValue();
 
-          yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
+          yyValue = GNode.create(KIND_CallExpression, null, null, v$g$3, v$g$4);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -5463,7 +5463,7 @@ public final class JavaFiveParser extends ParserBase {
       yyResult = pWord(yyBase);
       if (yyResult.hasValue("super")) {
 
-        yyValue = GNode.create("SuperExpression", null);
+        yyValue = GNode.create(KIND_SuperExpression, null);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5479,7 +5479,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimaryIdentifier", v$g$1);
+      yyValue = GNode.create(KIND_PrimaryIdentifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -5528,7 +5528,7 @@ public final class JavaFiveParser extends ParserBase {
             { // Start scope for v$g$5.
               final Node v$g$5 = yyOpValue1;
 
-              yyValue = GNode.create("NewClassExpression", null, v$g$2, v$g$3, v$g$4, v$g$5);
+              yyValue = GNode.create(KIND_NewClassExpression, null, v$g$2, v$g$3, v$g$4, v$g$5);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyOption1, yyError);
@@ -5571,7 +5571,7 @@ public final class JavaFiveParser extends ParserBase {
           { // Start scope for v$g$3.
             final Node v$g$3 = yyOpValue1;
 
-            yyValue = GNode.create("NewArrayExpression", v$g$1, v$g$2, v$g$3, null);
+            yyValue = GNode.create(KIND_NewArrayExpression, v$g$1, v$g$2, v$g$3, null);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyOption1, yyError);
@@ -5599,7 +5599,7 @@ public final class JavaFiveParser extends ParserBase {
           if (yyResult.hasValue()) {
             final Node v$g$7 = yyResult.semanticValue();
 
-            yyValue = GNode.create("NewArrayExpression", v$g$1, null, v$g$6, v$g$7);
+            yyValue = GNode.create(KIND_NewArrayExpression, v$g$1, null, v$g$6, v$g$7);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -5674,7 +5674,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyRepeated1) {
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("ConcreteDimensions", v$g$1);
+      yyValue = GNode.createFromPair(KIND_ConcreteDimensions, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -5797,7 +5797,7 @@ public final class JavaFiveParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue("}")) {
 
-            yyValue = GNode.createFromPair("ArrayInitializer", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_ArrayInitializer, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -5824,7 +5824,7 @@ public final class JavaFiveParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue("}")) {
 
-        yyValue = GNode.create("ArrayInitializer", false);
+        yyValue = GNode.create(KIND_ArrayInitializer, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5947,7 +5947,7 @@ public final class JavaFiveParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.createFromPair("Arguments", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_Arguments, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -5963,7 +5963,7 @@ public final class JavaFiveParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(")")) {
 
-        yyValue = GNode.create("Arguments", false);
+        yyValue = GNode.create(KIND_Arguments, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -6045,7 +6045,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("Annotations", v$g$1);
+      yyValue = GNode.createFromPair(KIND_Annotations, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6139,7 +6139,7 @@ public final class JavaFiveParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("Annotation", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_Annotation, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -6277,7 +6277,7 @@ public final class JavaFiveParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("ElementValuePairs", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_ElementValuePairs, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -6328,7 +6328,7 @@ public final class JavaFiveParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("ElementValuePair", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_ElementValuePair, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -6473,7 +6473,7 @@ public final class JavaFiveParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue("}")) {
 
-            yyValue = GNode.createFromPair("ArrayInitializer", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_ArrayInitializer, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -6500,7 +6500,7 @@ public final class JavaFiveParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue("}")) {
 
-        yyValue = GNode.create("ArrayInitializer", false);
+        yyValue = GNode.create(KIND_ArrayInitializer, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -6558,7 +6558,7 @@ public final class JavaFiveParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue("}")) {
 
-          yyValue = GNode.createFromPair("ClassBody", v$g$1);
+          yyValue = GNode.createFromPair(KIND_ClassBody, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -6641,7 +6641,7 @@ public final class JavaFiveParser extends ParserBase {
                 yyResult = pSymbol(yyBase);
                 if (yyResult.hasValue(";")) {
 
-                  yyValue = GNode.create("AnnotationMethod", v$g$1, v$g$2, v$g$3, v$g$4);
+                  yyValue = GNode.create(KIND_AnnotationMethod, v$g$1, v$g$2, v$g$3, v$g$4);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -6668,7 +6668,7 @@ public final class JavaFiveParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(";")) {
 
-            yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
+            yyValue = GNode.create(KIND_FieldDeclaration, v$g$1, v$g$2, v$g$3);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -6734,7 +6734,7 @@ public final class JavaFiveParser extends ParserBase {
                 if (yyResult.hasValue()) {
                   final Node v$g$6 = yyResult.semanticValue();
 
-                  yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
+                  yyValue = GNode.create(KIND_ClassDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -6790,7 +6790,7 @@ public final class JavaFiveParser extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$5 = yyResult.semanticValue();
 
-                yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+                yyValue = GNode.create(KIND_InterfaceDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -6872,7 +6872,7 @@ public final class JavaFiveParser extends ParserBase {
                   yyResult = pSymbol(yyBase);
                   if (yyResult.hasValue("}")) {
 
-                    yyValue = GNode.create("EnumDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+                    yyValue = GNode.create(KIND_EnumDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
                     yyValue.setLocation(location(yyStart));
 
                     return yyResult.createValue(yyValue, yyError);
@@ -6910,7 +6910,7 @@ public final class JavaFiveParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("AnnotationDeclaration", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_AnnotationDeclaration, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -6952,7 +6952,7 @@ public final class JavaFiveParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("DefaultValue", v$g$1);
+        yyValue = GNode.create(KIND_DefaultValue, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -7013,7 +7013,7 @@ public final class JavaFiveParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("EnumConstants", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_EnumConstants, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -7088,7 +7088,7 @@ public final class JavaFiveParser extends ParserBase {
           { // Start scope for v$g$4.
             final Node v$g$4 = yyOpValue1;
 
-            yyValue = GNode.create("EnumConstant", v$g$1, v$g$2, v$g$3, v$g$4);
+            yyValue = GNode.create(KIND_EnumConstant, v$g$1, v$g$2, v$g$3, v$g$4);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyOption1, yyError);
@@ -7140,7 +7140,7 @@ public final class JavaFiveParser extends ParserBase {
       { // Start scope for v$g$1.
         final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("EnumMembers", v$g$1);
+        yyValue = GNode.createFromPair(KIND_EnumMembers, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -7218,7 +7218,7 @@ public final class JavaFiveParser extends ParserBase {
     yyResult = pWord(yyStart);
     if (yyResult.hasValue("void")) {
 
-      yyValue = GNode.create("VoidType", false);
+      yyValue = GNode.create(KIND_VoidType, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -7275,7 +7275,7 @@ public final class JavaFiveParser extends ParserBase {
       { // Start scope for v$g$2.
         final Node v$g$2 = yyOpValue1;
 
-        yyValue = GNode.create("Type", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_Type, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -7362,7 +7362,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue("byte")) {
       final String v$g$1 = "byte";
 
-      yyValue = GNode.create("PrimitiveType", v$g$1);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -7374,7 +7374,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue("short")) {
       final String v$g$2 = "short";
 
-      yyValue = GNode.create("PrimitiveType", v$g$2);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -7386,7 +7386,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue("char")) {
       final String v$g$3 = "char";
 
-      yyValue = GNode.create("PrimitiveType", v$g$3);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -7398,7 +7398,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue("int")) {
       final String v$g$4 = "int";
 
-      yyValue = GNode.create("PrimitiveType", v$g$4);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$4);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -7410,7 +7410,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue("long")) {
       final String v$g$5 = "long";
 
-      yyValue = GNode.create("PrimitiveType", v$g$5);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$5);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -7422,7 +7422,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue("float")) {
       final String v$g$6 = "float";
 
-      yyValue = GNode.create("PrimitiveType", v$g$6);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$6);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -7434,7 +7434,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue("double")) {
       final String v$g$7 = "double";
 
-      yyValue = GNode.create("PrimitiveType", v$g$7);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$7);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -7446,7 +7446,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue("boolean")) {
       final String v$g$8 = "boolean";
 
-      yyValue = GNode.create("PrimitiveType", v$g$8);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$8);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -7540,7 +7540,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<String> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("Dimensions", v$g$1);
+      yyValue = GNode.createFromPair(KIND_Dimensions, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -7668,7 +7668,7 @@ public final class JavaFiveParser extends ParserBase {
               yyError  = yyResult.select(yyError);
               if (yyResult.hasValue()) {
 
-                yyValue = GNode.createFromPair("TypeParameters", v$g$1, v$g$2);
+                yyValue = GNode.createFromPair(KIND_TypeParameters, v$g$1, v$g$2);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -7796,7 +7796,7 @@ public final class JavaFiveParser extends ParserBase {
       { // Start scope for v$g$2.
         final Node v$g$2 = yyOpValue1;
 
-        yyValue = GNode.create("TypeParameter", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_TypeParameter, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -7856,7 +7856,7 @@ public final class JavaFiveParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("Bound", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_Bound, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -7922,7 +7922,7 @@ public final class JavaFiveParser extends ParserBase {
               yyError  = yyResult.select(yyError);
               if (yyResult.hasValue()) {
 
-                yyValue = GNode.createFromPair("TypeArguments", v$g$1, v$g$2);
+                yyValue = GNode.createFromPair(KIND_TypeArguments, v$g$1, v$g$2);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -8076,7 +8076,7 @@ public final class JavaFiveParser extends ParserBase {
       { // Start scope for v$g$1.
         final Node v$g$1 = yyOpValue1;
 
-        yyValue = GNode.create("Wildcard", v$g$1);
+        yyValue = GNode.create(KIND_Wildcard, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -8113,7 +8113,7 @@ public final class JavaFiveParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("WildcardBound", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_WildcardBound, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8131,7 +8131,7 @@ public final class JavaFiveParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("WildcardBound", v$g$3, v$g$4);
+        yyValue = GNode.create(KIND_WildcardBound, v$g$3, v$g$4);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8192,7 +8192,7 @@ public final class JavaFiveParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("InstantiatedType", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_InstantiatedType, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -8249,7 +8249,7 @@ public final class JavaFiveParser extends ParserBase {
       { // Start scope for v$g$2.
         final Node v$g$2 = yyOpValue1;
 
-        yyValue = GNode.create("TypeInstantiation", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_TypeInstantiation, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -8340,7 +8340,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue("true")) {
       final String v$g$1 = "true";
 
-      yyValue = GNode.create("BooleanLiteral", v$g$1);
+      yyValue = GNode.create(KIND_BooleanLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8352,7 +8352,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue("false")) {
       final String v$g$2 = "false";
 
-      yyValue = GNode.create("BooleanLiteral", v$g$2);
+      yyValue = GNode.create(KIND_BooleanLiteral, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8363,7 +8363,7 @@ public final class JavaFiveParser extends ParserBase {
     yyResult = pWord(yyStart);
     if (yyResult.hasValue("null")) {
 
-      yyValue = GNode.create("NullLiteral", false);
+      yyValue = GNode.create(KIND_NullLiteral, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8395,7 +8395,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$1);
+      yyValue = GNode.create(KIND_IntegerLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8408,7 +8408,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$2);
+      yyValue = GNode.create(KIND_IntegerLiteral, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8421,7 +8421,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$3);
+      yyValue = GNode.create(KIND_IntegerLiteral, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8961,7 +8961,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("FloatingPointLiteral", v$g$1);
+      yyValue = GNode.create(KIND_FloatingPointLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9251,7 +9251,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("CharacterLiteral", v$g$1);
+      yyValue = GNode.create(KIND_CharacterLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9282,7 +9282,7 @@ public final class JavaFiveParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("StringLiteral", v$g$1);
+      yyValue = GNode.create(KIND_StringLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -10107,7 +10107,7 @@ public final class JavaFiveParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Pair<String> v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.createFromPair("QualifiedIdentifier", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_QualifiedIdentifier, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -11267,4 +11267,110 @@ public final class JavaFiveParser extends ParserBase {
     return set.contains(value);
   }
 
+  // =========================================================================
+
+  private static final int KIND_CompilationUnit = GNode.kind("CompilationUnit");
+  private static final int KIND_PackageDeclaration = GNode.kind("PackageDeclaration");
+  private static final int KIND_ImportDeclaration = GNode.kind("ImportDeclaration");
+  private static final int KIND_Modifiers = GNode.kind("Modifiers");
+  private static final int KIND_Modifier = GNode.kind("Modifier");
+  private static final int KIND_FormalParameter = GNode.kind("FormalParameter");
+  private static final int KIND_FormalParameters = GNode.kind("FormalParameters");
+  private static final int KIND_Declarator = GNode.kind("Declarator");
+  private static final int KIND_Declarators = GNode.kind("Declarators");
+  private static final int KIND_ClassBody = GNode.kind("ClassBody");
+  private static final int KIND_FieldDeclaration = GNode.kind("FieldDeclaration");
+  private static final int KIND_MethodDeclaration = GNode.kind("MethodDeclaration");
+  private static final int KIND_ConstructorDeclaration = GNode.kind("ConstructorDeclaration");
+  private static final int KIND_ClassDeclaration = GNode.kind("ClassDeclaration");
+  private static final int KIND_InterfaceDeclaration = GNode.kind("InterfaceDeclaration");
+  private static final int KIND_AnnotationDeclaration = GNode.kind("AnnotationDeclaration");
+  private static final int KIND_EnumDeclaration = GNode.kind("EnumDeclaration");
+  private static final int KIND_BlockDeclaration = GNode.kind("BlockDeclaration");
+  private static final int KIND_EmptyDeclaration = GNode.kind("EmptyDeclaration");
+  private static final int KIND_ThrowsClause = GNode.kind("ThrowsClause");
+  private static final int KIND_Extension = GNode.kind("Extension");
+  private static final int KIND_Implementation = GNode.kind("Implementation");
+  private static final int KIND_Block = GNode.kind("Block");
+  private static final int KIND_ConditionalStatement = GNode.kind("ConditionalStatement");
+  private static final int KIND_ForStatement = GNode.kind("ForStatement");
+  private static final int KIND_WhileStatement = GNode.kind("WhileStatement");
+  private static final int KIND_DoWhileStatement = GNode.kind("DoWhileStatement");
+  private static final int KIND_TryCatchFinallyStatement = GNode.kind("TryCatchFinallyStatement");
+  private static final int KIND_SwitchStatement = GNode.kind("SwitchStatement");
+  private static final int KIND_SynchronizedStatement = GNode.kind("SynchronizedStatement");
+  private static final int KIND_ReturnStatement = GNode.kind("ReturnStatement");
+  private static final int KIND_ThrowStatement = GNode.kind("ThrowStatement");
+  private static final int KIND_BreakStatement = GNode.kind("BreakStatement");
+  private static final int KIND_ContinueStatement = GNode.kind("ContinueStatement");
+  private static final int KIND_LabeledStatement = GNode.kind("LabeledStatement");
+  private static final int KIND_ExpressionStatement = GNode.kind("ExpressionStatement");
+  private static final int KIND_AssertStatement = GNode.kind("AssertStatement");
+  private static final int KIND_EmptyStatement = GNode.kind("EmptyStatement");
+  private static final int KIND_EnhancedForControl = GNode.kind("EnhancedForControl");
+  private static final int KIND_BasicForControl = GNode.kind("BasicForControl");
+  private static final int KIND_CatchClause = GNode.kind("CatchClause");
+  private static final int KIND_CaseClause = GNode.kind("CaseClause");
+  private static final int KIND_DefaultClause = GNode.kind("DefaultClause");
+  private static final int KIND_ExpressionList = GNode.kind("ExpressionList");
+  private static final int KIND_Expression = GNode.kind("Expression");
+  private static final int KIND_ConditionalExpression = GNode.kind("ConditionalExpression");
+  private static final int KIND_LogicalOrExpression = GNode.kind("LogicalOrExpression");
+  private static final int KIND_LogicalAndExpression = GNode.kind("LogicalAndExpression");
+  private static final int KIND_BitwiseOrExpression = GNode.kind("BitwiseOrExpression");
+  private static final int KIND_BitwiseXorExpression = GNode.kind("BitwiseXorExpression");
+  private static final int KIND_BitwiseAndExpression = GNode.kind("BitwiseAndExpression");
+  private static final int KIND_EqualityExpression = GNode.kind("EqualityExpression");
+  private static final int KIND_InstanceOfExpression = GNode.kind("InstanceOfExpression");
+  private static final int KIND_RelationalExpression = GNode.kind("RelationalExpression");
+  private static final int KIND_ShiftExpression = GNode.kind("ShiftExpression");
+  private static final int KIND_AdditiveExpression = GNode.kind("AdditiveExpression");
+  private static final int KIND_MultiplicativeExpression = GNode.kind("MultiplicativeExpression");
+  private static final int KIND_UnaryExpression = GNode.kind("UnaryExpression");
+  private static final int KIND_BitwiseNegationExpression = GNode.kind("BitwiseNegationExpression");
+  private static final int KIND_LogicalNegationExpression = GNode.kind("LogicalNegationExpression");
+  private static final int KIND_BasicCastExpression = GNode.kind("BasicCastExpression");
+  private static final int KIND_CastExpression = GNode.kind("CastExpression");
+  private static final int KIND_CallExpression = GNode.kind("CallExpression");
+  private static final int KIND_SuperExpression = GNode.kind("SuperExpression");
+  private static final int KIND_SelectionExpression = GNode.kind("SelectionExpression");
+  private static final int KIND_SubscriptExpression = GNode.kind("SubscriptExpression");
+  private static final int KIND_PostfixExpression = GNode.kind("PostfixExpression");
+  private static final int KIND_NewClassExpression = GNode.kind("NewClassExpression");
+  private static final int KIND_ClassLiteralExpression = GNode.kind("ClassLiteralExpression");
+  private static final int KIND_ThisExpression = GNode.kind("ThisExpression");
+  private static final int KIND_PrimaryIdentifier = GNode.kind("PrimaryIdentifier");
+  private static final int KIND_NewArrayExpression = GNode.kind("NewArrayExpression");
+  private static final int KIND_ConcreteDimensions = GNode.kind("ConcreteDimensions");
+  private static final int KIND_ArrayInitializer = GNode.kind("ArrayInitializer");
+  private static final int KIND_Arguments = GNode.kind("Arguments");
+  private static final int KIND_Annotations = GNode.kind("Annotations");
+  private static final int KIND_Annotation = GNode.kind("Annotation");
+  private static final int KIND_ElementValuePairs = GNode.kind("ElementValuePairs");
+  private static final int KIND_ElementValuePair = GNode.kind("ElementValuePair");
+  private static final int KIND_AnnotationMethod = GNode.kind("AnnotationMethod");
+  private static final int KIND_DefaultValue = GNode.kind("DefaultValue");
+  private static final int KIND_EnumConstants = GNode.kind("EnumConstants");
+  private static final int KIND_EnumConstant = GNode.kind("EnumConstant");
+  private static final int KIND_EnumMembers = GNode.kind("EnumMembers");
+  private static final int KIND_VoidType = GNode.kind("VoidType");
+  private static final int KIND_Type = GNode.kind("Type");
+  private static final int KIND_PrimitiveType = GNode.kind("PrimitiveType");
+  private static final int KIND_Dimensions = GNode.kind("Dimensions");
+  private static final int KIND_TypeParameters = GNode.kind("TypeParameters");
+  private static final int KIND_TypeParameter = GNode.kind("TypeParameter");
+  private static final int KIND_Bound = GNode.kind("Bound");
+  private static final int KIND_TypeArguments = GNode.kind("TypeArguments");
+  private static final int KIND_Wildcard = GNode.kind("Wildcard");
+  private static final int KIND_WildcardBound = GNode.kind("WildcardBound");
+  private static final int KIND_InstantiatedType = GNode.kind("InstantiatedType");
+  private static final int KIND_TypeInstantiation = GNode.kind("TypeInstantiation");
+  private static final int KIND_BooleanLiteral = GNode.kind("BooleanLiteral");
+  private static final int KIND_NullLiteral = GNode.kind("NullLiteral");
+  private static final int KIND_IntegerLiteral = GNode.kind("IntegerLiteral");
+  private static final int KIND_FloatingPointLiteral = GNode.kind("FloatingPointLiteral");
+  private static final int KIND_CharacterLiteral = GNode.kind("CharacterLiteral");
+  private static final int KIND_StringLiteral = GNode.kind("StringLiteral");
+  private static final int KIND_QualifiedIdentifier = GNode.kind("QualifiedIdentifier");
+
 }
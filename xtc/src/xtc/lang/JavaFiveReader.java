@@ -262,7 +262,7 @@ public final class JavaFiveReader extends ParserBase {
           { // Start scope for v$g$3.
             final Pair<Node> v$g$3 = yyRepValue1.reverse();
 
-            yyValue = GNode.create("CompilationUnit", v$g$2.size() + v$g$3.size() + 1).
+            yyValue = GNode.create(KIND_CompilationUnit, v$g$2.size() + v$g$3.size() + 1).
               add(v$g$1).addAll(v$g$2).addAll(v$g$3);
             yyValue.setLocation(location(yyStart));
 
@@ -328,7 +328,7 @@ public final class JavaFiveReader extends ParserBase {
             final Node v$pt$3 = yyResult.semanticValue();
             final Node v$g$2 = Formatting.after1(v$pt$4, v$pt$3);
 
-            yyValue = GNode.create("PackageDeclaration", v$g$1, v$g$2);
+            yyValue = GNode.create(KIND_PackageDeclaration, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -413,7 +413,7 @@ public final class JavaFiveReader extends ParserBase {
               final Node v$pt$3 = yyResult.semanticValue();
               final Node v$g$3 = Formatting.after1(v$pt$4, v$pt$3);
 
-              yyValue = GNode.create("ImportDeclaration", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_ImportDeclaration, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -500,7 +500,7 @@ public final class JavaFiveReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("Modifiers", v$g$1);
+      yyValue = GNode.createFromPair(KIND_Modifiers, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -581,7 +581,7 @@ public final class JavaFiveReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("public")) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$1);
+      yyValue = GNode.create(KIND_Modifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -594,7 +594,7 @@ public final class JavaFiveReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("protected")) {
       final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$2);
+      yyValue = GNode.create(KIND_Modifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -607,7 +607,7 @@ public final class JavaFiveReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("private")) {
       final Node v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$3);
+      yyValue = GNode.create(KIND_Modifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -620,7 +620,7 @@ public final class JavaFiveReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("static")) {
       final Node v$g$4 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$4);
+      yyValue = GNode.create(KIND_Modifier, v$g$4);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -633,7 +633,7 @@ public final class JavaFiveReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("abstract")) {
       final Node v$g$5 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$5);
+      yyValue = GNode.create(KIND_Modifier, v$g$5);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -646,7 +646,7 @@ public final class JavaFiveReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("final")) {
       final Node v$g$6 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$6);
+      yyValue = GNode.create(KIND_Modifier, v$g$6);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -659,7 +659,7 @@ public final class JavaFiveReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("native")) {
       final Node v$g$7 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$7);
+      yyValue = GNode.create(KIND_Modifier, v$g$7);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -672,7 +672,7 @@ public final class JavaFiveReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("synchronized")) {
       final Node v$g$8 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$8);
+      yyValue = GNode.create(KIND_Modifier, v$g$8);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -685,7 +685,7 @@ public final class JavaFiveReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("transient")) {
       final Node v$g$9 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$9);
+      yyValue = GNode.create(KIND_Modifier, v$g$9);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -698,7 +698,7 @@ public final class JavaFiveReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("volatile")) {
       final Node v$g$10 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$10);
+      yyValue = GNode.create(KIND_Modifier, v$g$10);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -711,7 +711,7 @@ public final class JavaFiveReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("strictfp")) {
       final Node v$g$11 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$11);
+      yyValue = GNode.create(KIND_Modifier, v$g$11);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -787,7 +787,7 @@ public final class JavaFiveReader extends ParserBase {
             { // Start scope for v$g$5.
               final Node v$g$5 = yyOpValue1;
 
-              yyValue = GNode.create("FormalParameter", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+              yyValue = GNode.create(KIND_FormalParameter, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyOption1, yyError);
@@ -837,7 +837,7 @@ public final class JavaFiveReader extends ParserBase {
     { // Start scope for v$g$1.
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("Modifiers", v$g$1);
+      yyValue = GNode.createFromPair(KIND_Modifiers, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -865,7 +865,7 @@ public final class JavaFiveReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("final")) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$1);
+      yyValue = GNode.create(KIND_Modifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -933,7 +933,7 @@ public final class JavaFiveReader extends ParserBase {
           ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
         final Node v$pt$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("FormalParameters", false);
+        yyValue = GNode.create(KIND_FormalParameters, false);
         yyValue.setLocation(location(yyStart));
         yyValue = Formatting.variable().addNode(yyValue).
           add(v$pt$3).add(v$pt$4);
@@ -1009,7 +1009,7 @@ public final class JavaFiveReader extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("FormalParameters", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_FormalParameters, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -1083,7 +1083,7 @@ public final class JavaFiveReader extends ParserBase {
         { // Start scope for v$g$3.
           final Node v$g$3 = yyOpValue1;
 
-          yyValue = GNode.create("Declarator", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_Declarator, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -1130,7 +1130,7 @@ public final class JavaFiveReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.createFromPair("Declarators", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_Declarators, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -1278,7 +1278,7 @@ public final class JavaFiveReader extends ParserBase {
     { // Start scope for v$g$1.
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("ClassBody", v$g$1);
+      yyValue = GNode.createFromPair(KIND_ClassBody, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -1330,7 +1330,7 @@ public final class JavaFiveReader extends ParserBase {
             final Node v$pt$1 = yyResult.semanticValue();
             final Node v$g$3 = Formatting.after1(v$pt$2, v$pt$1);
 
-            yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
+            yyValue = GNode.create(KIND_FieldDeclaration, v$g$1, v$g$2, v$g$3);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -1411,7 +1411,7 @@ public final class JavaFiveReader extends ParserBase {
                   if (yyResult.hasValue()) {
                     final Node v$g$8 = yyResult.semanticValue();
 
-                    yyValue = GNode.create("MethodDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$8);
+                    yyValue = GNode.create(KIND_MethodDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$8);
                     yyValue.setLocation(location(yyStart));
 
                     return yyResult.createValue(yyValue, yyError);
@@ -1426,7 +1426,7 @@ public final class JavaFiveReader extends ParserBase {
                     final Node v$pt$1 = yyResult.semanticValue();
                     final Node v$g$9 = Formatting.after1(null, v$pt$1);
 
-                    yyValue = GNode.create("MethodDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$9);
+                    yyValue = GNode.create(KIND_MethodDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$9);
                     yyValue.setLocation(location(yyStart));
 
                     return yyResult.createValue(yyValue, yyError);
@@ -1470,7 +1470,7 @@ public final class JavaFiveReader extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$6 = yyResult.semanticValue();
 
-                yyValue = GNode.create("ConstructorDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
+                yyValue = GNode.create(KIND_ConstructorDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -1549,7 +1549,7 @@ public final class JavaFiveReader extends ParserBase {
                 if (yyResult.hasValue()) {
                   final Node v$g$6 = yyResult.semanticValue();
 
-                  yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
+                  yyValue = GNode.create(KIND_ClassDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -1608,7 +1608,7 @@ public final class JavaFiveReader extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$5 = yyResult.semanticValue();
 
-                yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+                yyValue = GNode.create(KIND_InterfaceDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -1652,7 +1652,7 @@ public final class JavaFiveReader extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("AnnotationDeclaration", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_AnnotationDeclaration, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -1757,7 +1757,7 @@ public final class JavaFiveReader extends ParserBase {
                       final Node v$pt$7 = yyResult.semanticValue();
                       final Node v$g$5 = Formatting.after1(v$pt$8, v$pt$7);
 
-                      yyValue = GNode.create("EnumDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+                      yyValue = GNode.create(KIND_EnumDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
                       yyValue.setLocation(location(yyStart));
 
                       return yyResult.createValue(yyValue, yyError);
@@ -1801,7 +1801,7 @@ public final class JavaFiveReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("BlockDeclaration", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_BlockDeclaration, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -1815,7 +1815,7 @@ public final class JavaFiveReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
       final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("EmptyDeclaration", false);
+      yyValue = GNode.create(KIND_EmptyDeclaration, false);
       yyValue.setLocation(location(yyStart));
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -1885,7 +1885,7 @@ public final class JavaFiveReader extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("ThrowsClause", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_ThrowsClause, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -1956,7 +1956,7 @@ public final class JavaFiveReader extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("Extension", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_Extension, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -2010,7 +2010,7 @@ public final class JavaFiveReader extends ParserBase {
         if (yyResult.hasValue()) {
           final Pair<Node> v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.createFromPair("Implementation", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_Implementation, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2173,7 +2173,7 @@ public final class JavaFiveReader extends ParserBase {
     { // Start scope for v$g$1.
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("Block", v$g$1);
+      yyValue = GNode.createFromPair(KIND_Block, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -2315,7 +2315,7 @@ public final class JavaFiveReader extends ParserBase {
                 if (yyResult.hasValue()) {
                   final Node v$g$6 = yyResult.semanticValue();
 
-                  yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
+                  yyValue = GNode.create(KIND_ClassDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -2374,7 +2374,7 @@ public final class JavaFiveReader extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$5 = yyResult.semanticValue();
 
-                yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+                yyValue = GNode.create(KIND_InterfaceDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -2430,7 +2430,7 @@ public final class JavaFiveReader extends ParserBase {
             final Node v$pt$1 = yyResult.semanticValue();
             final Node v$g$3 = Formatting.after1(v$pt$2, v$pt$1);
 
-            yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
+            yyValue = GNode.create(KIND_FieldDeclaration, v$g$1, v$g$2, v$g$3);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -2509,7 +2509,7 @@ public final class JavaFiveReader extends ParserBase {
               final Node v$pt$4 = yyResult.semanticValue();
               final Node v$g$3 = Formatting.before1(v$pt$3, v$pt$4);
 
-              yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_ConditionalStatement, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -2520,7 +2520,7 @@ public final class JavaFiveReader extends ParserBase {
 
           // Nested alternative 2.
 
-          yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, null);
+          yyValue = GNode.create(KIND_ConditionalStatement, v$g$1, v$g$2, null);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
@@ -2559,7 +2559,7 @@ public final class JavaFiveReader extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("ForStatement", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_ForStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -2591,7 +2591,7 @@ public final class JavaFiveReader extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_WhileStatement, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2630,7 +2630,7 @@ public final class JavaFiveReader extends ParserBase {
               final Node v$pt$4 = yyResult.semanticValue();
               final Node v$g$2 = Formatting.after1(v$pt$5, v$pt$4);
 
-              yyValue = GNode.create("DoWhileStatement", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_DoWhileStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -2691,7 +2691,7 @@ public final class JavaFiveReader extends ParserBase {
               final Node v$pt$4 = yyResult.semanticValue();
               final Node v$g$4 = Formatting.before1(v$pt$3, v$pt$4);
 
-              yyValue = GNode.create("TryCatchFinallyStatement", v$g$3.size() + 3).
+              yyValue = GNode.create(KIND_TryCatchFinallyStatement, v$g$3.size() + 3).
                 add(v$g$1).add(v$g$2).addAll(v$g$3).add(v$g$4);
               yyValue.setLocation(location(yyStart));
 
@@ -2725,7 +2725,7 @@ public final class JavaFiveReader extends ParserBase {
         if (yyRepeated1) {
           final Pair<Node> v$g$5 = yyRepValue1.reverse();
 
-          yyValue = GNode.create("TryCatchFinallyStatement", v$g$5.size() + 3).
+          yyValue = GNode.create(KIND_TryCatchFinallyStatement, v$g$5.size() + 3).
             add(v$g$1).add(v$g$2).addAll(v$g$5).add(null);
           yyValue.setLocation(location(yyStart));
 
@@ -2772,7 +2772,7 @@ public final class JavaFiveReader extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("SynchronizedStatement", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_SynchronizedStatement, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2808,7 +2808,7 @@ public final class JavaFiveReader extends ParserBase {
           final Node v$pt$2 = yyResult.semanticValue();
           final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
-          yyValue = GNode.create("ReturnStatement", v$g$1);
+          yyValue = GNode.create(KIND_ReturnStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2837,7 +2837,7 @@ public final class JavaFiveReader extends ParserBase {
           final Node v$pt$2 = yyResult.semanticValue();
           final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
-          yyValue = GNode.create("ThrowStatement", v$g$1);
+          yyValue = GNode.create(KIND_ThrowStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2875,7 +2875,7 @@ public final class JavaFiveReader extends ParserBase {
           final Node v$pt$2 = yyResult.semanticValue();
           final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
-          yyValue = GNode.create("BreakStatement", v$g$1);
+          yyValue = GNode.create(KIND_BreakStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2913,7 +2913,7 @@ public final class JavaFiveReader extends ParserBase {
           final Node v$pt$2 = yyResult.semanticValue();
           final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
-          yyValue = GNode.create("ContinueStatement", v$g$1);
+          yyValue = GNode.create(KIND_ContinueStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2942,7 +2942,7 @@ public final class JavaFiveReader extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("LabeledStatement", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_LabeledStatement, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2966,7 +2966,7 @@ public final class JavaFiveReader extends ParserBase {
         final Node v$pt$1 = yyResult.semanticValue();
         final Node v$g$1 = Formatting.after1(v$pt$2, v$pt$1);
 
-        yyValue = GNode.create("ExpressionStatement", v$g$1);
+        yyValue = GNode.create(KIND_ExpressionStatement, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -3019,7 +3019,7 @@ public final class JavaFiveReader extends ParserBase {
             final Node v$pt$5 = yyResult.semanticValue();
             final Node v$g$2 = Formatting.after1(v$pt$6, v$pt$5);
 
-            yyValue = GNode.create("AssertStatement", v$g$1, v$g$2);
+            yyValue = GNode.create(KIND_AssertStatement, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -3037,7 +3037,7 @@ public final class JavaFiveReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
       final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("EmptyStatement", false);
+      yyValue = GNode.create(KIND_EmptyStatement, false);
       yyValue.setLocation(location(yyStart));
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -3099,7 +3099,7 @@ public final class JavaFiveReader extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$4 = yyResult.semanticValue();
 
-              yyValue = GNode.create("EnhancedForControl", v$g$1, v$g$2, v$g$3, v$g$4);
+              yyValue = GNode.create(KIND_EnhancedForControl, v$g$1, v$g$2, v$g$3, v$g$4);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -3158,7 +3158,7 @@ public final class JavaFiveReader extends ParserBase {
                 { // Start scope for v$g$5.
                   final Node v$g$5 = yyOpValue1;
 
-                  yyValue = GNode.create("BasicForControl", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+                  yyValue = GNode.create(KIND_BasicForControl, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
                   yyValue.setLocation(location(yyStart));
 
                   return new SemanticValue(yyValue, yyOption1, yyError);
@@ -3232,7 +3232,7 @@ public final class JavaFiveReader extends ParserBase {
             { // Start scope for v$g$10.
               final Node v$g$10 = yyOpValue1;
 
-              yyValue = GNode.create("BasicForControl", null, null, v$g$8, v$g$9, v$g$10);
+              yyValue = GNode.create(KIND_BasicForControl, null, null, v$g$8, v$g$9, v$g$10);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyOption1, yyError);
@@ -3360,7 +3360,7 @@ public final class JavaFiveReader extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("CatchClause", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_CatchClause, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -3435,7 +3435,7 @@ public final class JavaFiveReader extends ParserBase {
           { // Start scope for v$g$2.
             final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-            yyValue = GNode.createFromPair("SwitchStatement", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_SwitchStatement, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -3505,7 +3505,7 @@ public final class JavaFiveReader extends ParserBase {
           { // Start scope for v$g$2.
             final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-            yyValue = GNode.createFromPair("CaseClause", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_CaseClause, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -3586,7 +3586,7 @@ public final class JavaFiveReader extends ParserBase {
     { // Start scope for v$g$1.
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("DefaultClause", v$g$1);
+      yyValue = GNode.createFromPair(KIND_DefaultClause, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -3645,7 +3645,7 @@ public final class JavaFiveReader extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("ExpressionList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_ExpressionList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -3696,7 +3696,7 @@ public final class JavaFiveReader extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$3 = yyResult.semanticValue();
 
-          yyValue = GNode.create("Expression", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_Expression, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -3916,7 +3916,7 @@ public final class JavaFiveReader extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("ConditionalExpression", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_ConditionalExpression, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -4037,7 +4037,7 @@ public final class JavaFiveReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("LogicalOrExpression", v$1, v$g$2);
+            return GNode.create(KIND_LogicalOrExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4132,7 +4132,7 @@ public final class JavaFiveReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("LogicalAndExpression", v$1, v$g$2);
+            return GNode.create(KIND_LogicalAndExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4226,7 +4226,7 @@ public final class JavaFiveReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseOrExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseOrExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4321,7 +4321,7 @@ public final class JavaFiveReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseXorExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseXorExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4416,7 +4416,7 @@ public final class JavaFiveReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseAndExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseAndExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4509,7 +4509,7 @@ public final class JavaFiveReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("EqualityExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_EqualityExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4593,7 +4593,7 @@ public final class JavaFiveReader extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("InstanceOfExpression", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_InstanceOfExpression, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -4710,7 +4710,7 @@ public final class JavaFiveReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("RelationalExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_RelationalExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4861,7 +4861,7 @@ public final class JavaFiveReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("ShiftExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_ShiftExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -5002,7 +5002,7 @@ public final class JavaFiveReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("AdditiveExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_AdditiveExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -5136,7 +5136,7 @@ public final class JavaFiveReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("MultiplicativeExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_MultiplicativeExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -5224,7 +5224,7 @@ public final class JavaFiveReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_UnaryExpression, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5243,7 +5243,7 @@ public final class JavaFiveReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$3, v$g$4);
+        yyValue = GNode.create(KIND_UnaryExpression, v$g$3, v$g$4);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5262,7 +5262,7 @@ public final class JavaFiveReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$6 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$5, v$g$6);
+        yyValue = GNode.create(KIND_UnaryExpression, v$g$5, v$g$6);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5281,7 +5281,7 @@ public final class JavaFiveReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$8 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$7, v$g$8);
+        yyValue = GNode.create(KIND_UnaryExpression, v$g$7, v$g$8);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5335,7 +5335,7 @@ public final class JavaFiveReader extends ParserBase {
         final Node v$pt$2 = yyResult.semanticValue();
         final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-        yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
+        yyValue = GNode.create(KIND_BitwiseNegationExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5355,7 +5355,7 @@ public final class JavaFiveReader extends ParserBase {
         final Node v$pt$2 = yyResult.semanticValue();
         final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-        yyValue = GNode.create("LogicalNegationExpression", v$g$1);
+        yyValue = GNode.create(KIND_LogicalNegationExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5405,7 +5405,7 @@ public final class JavaFiveReader extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("BasicCastExpression", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_BasicCastExpression, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -5435,7 +5435,7 @@ public final class JavaFiveReader extends ParserBase {
           if (yyResult.hasValue()) {
             final Node v$g$2 = yyResult.semanticValue();
 
-            yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
+            yyValue = GNode.create(KIND_CastExpression, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -5569,7 +5569,7 @@ public final class JavaFiveReader extends ParserBase {
 
             yyValue = new Action<Node>() {
               public Node run(Node v$1) {
-                return GNode.create("CallExpression", v$1, v$g$2, v$g$3, v$g$4);
+                return GNode.create(KIND_CallExpression, v$1, v$g$2, v$g$3, v$g$4);
               }};
 
             return yyResult.createValue(yyValue, yyError);
@@ -5593,7 +5593,7 @@ public final class JavaFiveReader extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("CallExpression", v$1, v$g$5, v$g$6, v$g$7);
+              return GNode.create(KIND_CallExpression, v$1, v$g$5, v$g$6, v$g$7);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -5612,7 +5612,7 @@ public final class JavaFiveReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            Node yyValue = GNode.create("SuperExpression", v$1);
+            Node yyValue = GNode.create(KIND_SuperExpression, v$1);
             yyValue = Formatting.variable().addNode(yyValue).
               add(v$pt$1).add(v$pt$4);
             return yyValue;
@@ -5633,7 +5633,7 @@ public final class JavaFiveReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("SelectionExpression", v$1, v$g$8);
+            return GNode.create(KIND_SelectionExpression, v$1, v$g$8);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -5661,7 +5661,7 @@ public final class JavaFiveReader extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("SubscriptExpression", v$1, v$g$9);
+              return GNode.create(KIND_SubscriptExpression, v$1, v$g$9);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -5680,7 +5680,7 @@ public final class JavaFiveReader extends ParserBase {
 
       yyValue = new Action<Node>() {
         public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$10);
+          return GNode.create(KIND_PostfixExpression, v$1, v$g$10);
         }};
 
       return yyResult.createValue(yyValue, yyError);
@@ -5695,7 +5695,7 @@ public final class JavaFiveReader extends ParserBase {
 
       yyValue = new Action<Node>() {
         public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$11);
+          return GNode.create(KIND_PostfixExpression, v$1, v$g$11);
         }};
 
       return yyResult.createValue(yyValue, yyError);
@@ -5756,7 +5756,7 @@ public final class JavaFiveReader extends ParserBase {
 
                 yyValue = new Action<Node>() {
                   public Node run(Node v$1) {
-                    return GNode.create("NewClassExpression", v$1, v$g$12, v$g$13, v$g$14, v$g$15);
+                    return GNode.create(KIND_NewClassExpression, v$1, v$g$12, v$g$13, v$g$14, v$g$15);
                   }};
 
                 return new SemanticValue(yyValue, yyOption1, yyError);
@@ -5827,7 +5827,7 @@ public final class JavaFiveReader extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$4 = yyResult.semanticValue();
 
-          yyValue = GNode.create("CallExpression", null, v$g$2, v$g$3, v$g$4);
+          yyValue = GNode.create(KIND_CallExpression, null, v$g$2, v$g$3, v$g$4);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -5856,7 +5856,7 @@ public final class JavaFiveReader extends ParserBase {
           final Node v$g$1 = Formatting.variable().
             addNode(v$pt$3).add(v$pt$1).add(v$pt$2);
 
-          yyValue = GNode.create("ClassLiteralExpression", v$g$1);
+          yyValue = GNode.create(KIND_ClassLiteralExpression, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -5880,7 +5880,7 @@ public final class JavaFiveReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
+        yyValue = GNode.create(KIND_CallExpression, null, null, v$g$3, v$g$4);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5920,7 +5920,7 @@ public final class JavaFiveReader extends ParserBase {
         final Node v$pt$3 = yyResult.semanticValue();
         final Node v$g$1 = Formatting.after1(v$pt$4, v$pt$3);
 
-        yyValue = GNode.create("ThisExpression", v$g$1);
+        yyValue = GNode.create(KIND_ThisExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5941,7 +5941,7 @@ public final class JavaFiveReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
+        yyValue = GNode.create(KIND_CallExpression, null, null, v$g$3, v$g$4);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5956,7 +5956,7 @@ public final class JavaFiveReader extends ParserBase {
       final Node v$pt$1 = yyResult.semanticValue();
       final Node v$g$1 = Formatting.after1(null, v$pt$1);
 
-      yyValue = GNode.create("SuperExpression", v$g$1);
+      yyValue = GNode.create(KIND_SuperExpression, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -5969,7 +5969,7 @@ public final class JavaFiveReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimaryIdentifier", v$g$1);
+      yyValue = GNode.create(KIND_PrimaryIdentifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6021,7 +6021,7 @@ public final class JavaFiveReader extends ParserBase {
             { // Start scope for v$g$5.
               final Node v$g$5 = yyOpValue1;
 
-              yyValue = GNode.create("NewClassExpression", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+              yyValue = GNode.create(KIND_NewClassExpression, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyOption1, yyError);
@@ -6067,7 +6067,7 @@ public final class JavaFiveReader extends ParserBase {
           { // Start scope for v$g$3.
             final Node v$g$3 = yyOpValue1;
 
-            yyValue = GNode.create("NewArrayExpression", v$g$1, v$g$2, v$g$3, null);
+            yyValue = GNode.create(KIND_NewArrayExpression, v$g$1, v$g$2, v$g$3, null);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyOption1, yyError);
@@ -6095,7 +6095,7 @@ public final class JavaFiveReader extends ParserBase {
           if (yyResult.hasValue()) {
             final Node v$g$7 = yyResult.semanticValue();
 
-            yyValue = GNode.create("NewArrayExpression", v$g$1, null, v$g$6, v$g$7);
+            yyValue = GNode.create(KIND_NewArrayExpression, v$g$1, null, v$g$6, v$g$7);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -6175,7 +6175,7 @@ public final class JavaFiveReader extends ParserBase {
     if (yyRepeated1) {
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("ConcreteDimensions", v$g$1);
+      yyValue = GNode.createFromPair(KIND_ConcreteDimensions, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -6317,7 +6317,7 @@ public final class JavaFiveReader extends ParserBase {
             ((Node)yyResult.semanticValue()).getTokenText().equals("}")) {
           final Node v$pt$6 = yyResult.semanticValue();
 
-          yyValue = GNode.create("ArrayInitializer", false);
+          yyValue = GNode.create(KIND_ArrayInitializer, false);
           yyValue.setLocation(location(yyStart));
           yyValue = Formatting.variable().addNode(yyValue).
             add(v$pt$4).add(v$pt$5).add(v$pt$6);
@@ -6394,7 +6394,7 @@ public final class JavaFiveReader extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("ArrayInitializer", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_ArrayInitializer, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -6504,7 +6504,7 @@ public final class JavaFiveReader extends ParserBase {
           ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
         final Node v$pt$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("Arguments", false);
+        yyValue = GNode.create(KIND_Arguments, false);
         yyValue.setLocation(location(yyStart));
         yyValue = Formatting.variable().addNode(yyValue).
           add(v$pt$3).add(v$pt$4);
@@ -6578,7 +6578,7 @@ public final class JavaFiveReader extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("Arguments", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_Arguments, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -6659,7 +6659,7 @@ public final class JavaFiveReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("Annotations", v$g$1);
+      yyValue = GNode.createFromPair(KIND_Annotations, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6756,7 +6756,7 @@ public final class JavaFiveReader extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("Annotation", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_Annotation, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -6905,7 +6905,7 @@ public final class JavaFiveReader extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("ElementValuePairs", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_ElementValuePairs, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -6959,7 +6959,7 @@ public final class JavaFiveReader extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("ElementValuePair", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_ElementValuePair, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -7118,7 +7118,7 @@ public final class JavaFiveReader extends ParserBase {
             ((Node)yyResult.semanticValue()).getTokenText().equals("}")) {
           final Node v$pt$6 = yyResult.semanticValue();
 
-          yyValue = GNode.create("ArrayInitializer", false);
+          yyValue = GNode.create(KIND_ArrayInitializer, false);
           yyValue.setLocation(location(yyStart));
           yyValue = Formatting.variable().addNode(yyValue).
             add(v$pt$4).add(v$pt$5).add(v$pt$6);
@@ -7196,7 +7196,7 @@ public final class JavaFiveReader extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("ArrayInitializer", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_ArrayInitializer, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -7293,7 +7293,7 @@ public final class JavaFiveReader extends ParserBase {
     { // Start scope for v$g$1.
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("ClassBody", v$g$1);
+      yyValue = GNode.createFromPair(KIND_ClassBody, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -7373,7 +7373,7 @@ public final class JavaFiveReader extends ParserBase {
                   final Node v$pt$4 = yyResult.semanticValue();
                   final Node v$g$4 = Formatting.after1(v$pt$5, v$pt$4);
 
-                  yyValue = GNode.create("AnnotationMethod", v$g$1, v$g$2, v$g$3, v$g$4);
+                  yyValue = GNode.create(KIND_AnnotationMethod, v$g$1, v$g$2, v$g$3, v$g$4);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -7403,7 +7403,7 @@ public final class JavaFiveReader extends ParserBase {
             final Node v$pt$1 = yyResult.semanticValue();
             final Node v$g$3 = Formatting.after1(v$pt$2, v$pt$1);
 
-            yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
+            yyValue = GNode.create(KIND_FieldDeclaration, v$g$1, v$g$2, v$g$3);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -7482,7 +7482,7 @@ public final class JavaFiveReader extends ParserBase {
                 if (yyResult.hasValue()) {
                   final Node v$g$6 = yyResult.semanticValue();
 
-                  yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
+                  yyValue = GNode.create(KIND_ClassDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -7541,7 +7541,7 @@ public final class JavaFiveReader extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$5 = yyResult.semanticValue();
 
-                yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+                yyValue = GNode.create(KIND_InterfaceDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -7639,7 +7639,7 @@ public final class JavaFiveReader extends ParserBase {
                       final Node v$pt$7 = yyResult.semanticValue();
                       final Node v$g$5 = Formatting.after1(v$pt$8, v$pt$7);
 
-                      yyValue = GNode.create("EnumDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+                      yyValue = GNode.create(KIND_EnumDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
                       yyValue.setLocation(location(yyStart));
 
                       return yyResult.createValue(yyValue, yyError);
@@ -7690,7 +7690,7 @@ public final class JavaFiveReader extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("AnnotationDeclaration", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_AnnotationDeclaration, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -7735,7 +7735,7 @@ public final class JavaFiveReader extends ParserBase {
         final Node v$pt$2 = yyResult.semanticValue();
         final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-        yyValue = GNode.create("DefaultValue", v$g$1);
+        yyValue = GNode.create(KIND_DefaultValue, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -7799,7 +7799,7 @@ public final class JavaFiveReader extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("EnumConstants", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_EnumConstants, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -7874,7 +7874,7 @@ public final class JavaFiveReader extends ParserBase {
           { // Start scope for v$g$4.
             final Node v$g$4 = yyOpValue1;
 
-            yyValue = GNode.create("EnumConstant", v$g$1, v$g$2, v$g$3, v$g$4);
+            yyValue = GNode.create(KIND_EnumConstant, v$g$1, v$g$2, v$g$3, v$g$4);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyOption1, yyError);
@@ -7959,7 +7959,7 @@ public final class JavaFiveReader extends ParserBase {
     { // Start scope for v$g$1.
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("EnumMembers", v$g$1);
+      yyValue = GNode.createFromPair(KIND_EnumMembers, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -8034,7 +8034,7 @@ public final class JavaFiveReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("void")) {
       final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("VoidType", false);
+      yyValue = GNode.create(KIND_VoidType, false);
       yyValue.setLocation(location(yyStart));
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -8092,7 +8092,7 @@ public final class JavaFiveReader extends ParserBase {
       { // Start scope for v$g$2.
         final Node v$g$2 = yyOpValue1;
 
-        yyValue = GNode.create("Type", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_Type, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -8180,7 +8180,7 @@ public final class JavaFiveReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("byte")) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimitiveType", v$g$1);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8193,7 +8193,7 @@ public final class JavaFiveReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("short")) {
       final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimitiveType", v$g$2);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8206,7 +8206,7 @@ public final class JavaFiveReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("char")) {
       final Node v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimitiveType", v$g$3);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8219,7 +8219,7 @@ public final class JavaFiveReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("int")) {
       final Node v$g$4 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimitiveType", v$g$4);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$4);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8232,7 +8232,7 @@ public final class JavaFiveReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("long")) {
       final Node v$g$5 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimitiveType", v$g$5);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$5);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8245,7 +8245,7 @@ public final class JavaFiveReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("float")) {
       final Node v$g$6 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimitiveType", v$g$6);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$6);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8258,7 +8258,7 @@ public final class JavaFiveReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("double")) {
       final Node v$g$7 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimitiveType", v$g$7);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$7);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8271,7 +8271,7 @@ public final class JavaFiveReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("boolean")) {
       final Node v$g$8 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimitiveType", v$g$8);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$8);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8365,7 +8365,7 @@ public final class JavaFiveReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("Dimensions", v$g$1);
+      yyValue = GNode.createFromPair(KIND_Dimensions, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8567,7 +8567,7 @@ public final class JavaFiveReader extends ParserBase {
           { // Start scope for v$g$2.
             final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-            yyValue = GNode.createFromPair("TypeParameters", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_TypeParameters, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -8638,7 +8638,7 @@ public final class JavaFiveReader extends ParserBase {
       { // Start scope for v$g$2.
         final Node v$g$2 = yyOpValue1;
 
-        yyValue = GNode.create("TypeParameter", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_TypeParameter, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -8701,7 +8701,7 @@ public final class JavaFiveReader extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("Bound", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_Bound, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -8837,7 +8837,7 @@ public final class JavaFiveReader extends ParserBase {
           { // Start scope for v$g$2.
             final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-            yyValue = GNode.createFromPair("TypeArguments", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_TypeArguments, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -8936,7 +8936,7 @@ public final class JavaFiveReader extends ParserBase {
         final Node v$pt$2 = yyOpValue1;
         final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-        yyValue = GNode.create("Wildcard", v$g$1);
+        yyValue = GNode.create(KIND_Wildcard, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -8974,7 +8974,7 @@ public final class JavaFiveReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("WildcardBound", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_WildcardBound, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8993,7 +8993,7 @@ public final class JavaFiveReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("WildcardBound", v$g$3, v$g$4);
+        yyValue = GNode.create(KIND_WildcardBound, v$g$3, v$g$4);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -9057,7 +9057,7 @@ public final class JavaFiveReader extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("InstantiatedType", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_InstantiatedType, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -9114,7 +9114,7 @@ public final class JavaFiveReader extends ParserBase {
       { // Start scope for v$g$2.
         final Node v$g$2 = yyOpValue1;
 
-        yyValue = GNode.create("TypeInstantiation", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_TypeInstantiation, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -9214,7 +9214,7 @@ public final class JavaFiveReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("true")) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("BooleanLiteral", v$g$1);
+      yyValue = GNode.create(KIND_BooleanLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9227,7 +9227,7 @@ public final class JavaFiveReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("false")) {
       final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("BooleanLiteral", v$g$2);
+      yyValue = GNode.create(KIND_BooleanLiteral, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9240,7 +9240,7 @@ public final class JavaFiveReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("null")) {
       final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("NullLiteral", false);
+      yyValue = GNode.create(KIND_NullLiteral, false);
       yyValue.setLocation(location(yyStart));
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -9273,7 +9273,7 @@ public final class JavaFiveReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Token v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$1);
+      yyValue = GNode.create(KIND_IntegerLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9286,7 +9286,7 @@ public final class JavaFiveReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Token v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$2);
+      yyValue = GNode.create(KIND_IntegerLiteral, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9299,7 +9299,7 @@ public final class JavaFiveReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Token v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$3);
+      yyValue = GNode.create(KIND_IntegerLiteral, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9842,7 +9842,7 @@ public final class JavaFiveReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Token v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("FloatingPointLiteral", v$g$1);
+      yyValue = GNode.create(KIND_FloatingPointLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -10136,7 +10136,7 @@ public final class JavaFiveReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Token v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("CharacterLiteral", v$g$1);
+      yyValue = GNode.create(KIND_CharacterLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -10167,7 +10167,7 @@ public final class JavaFiveReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Token v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("StringLiteral", v$g$1);
+      yyValue = GNode.create(KIND_StringLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -10994,7 +10994,7 @@ public final class JavaFiveReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.createFromPair("QualifiedIdentifier", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_QualifiedIdentifier, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -12211,4 +12211,110 @@ public final class JavaFiveReader extends ParserBase {
     return set.contains(value);
   }
 
+  // =========================================================================
+
+  private static final int KIND_CompilationUnit = GNode.kind("CompilationUnit");
+  private static final int KIND_PackageDeclaration = GNode.kind("PackageDeclaration");
+  private static final int KIND_ImportDeclaration = GNode.kind("ImportDeclaration");
+  private static final int KIND_Modifiers = GNode.kind("Modifiers");
+  private static final int KIND_Modifier = GNode.kind("Modifier");
+  private static final int KIND_FormalParameter = GNode.kind("FormalParameter");
+  private static final int KIND_FormalParameters = GNode.kind("FormalParameters");
+  private static final int KIND_Declarator = GNode.kind("Declarator");
+  private static final int KIND_Declarators = GNode.kind("Declarators");
+  private static final int KIND_ClassBody = GNode.kind("ClassBody");
+  private static final int KIND_FieldDeclaration = GNode.kind("FieldDeclaration");
+  private static final int KIND_MethodDeclaration = GNode.kind("MethodDeclaration");
+  private static final int KIND_ConstructorDeclaration = GNode.kind("ConstructorDeclaration");
+  private static final int KIND_ClassDeclaration = GNode.kind("ClassDeclaration");
+  private static final int KIND_InterfaceDeclaration = GNode.kind("InterfaceDeclaration");
+  private static final int KIND_AnnotationDeclaration = GNode.kind("AnnotationDeclaration");
+  private static final int KIND_EnumDeclaration = GNode.kind("EnumDeclaration");
+  private static final int KIND_BlockDeclaration = GNode.kind("BlockDeclaration");
+  private static final int KIND_EmptyDeclaration = GNode.kind("EmptyDeclaration");
+  private static final int KIND_ThrowsClause = GNode.kind("ThrowsClause");
+  private static final int KIND_Extension = GNode.kind("Extension");
+  private static final int KIND_Implementation = GNode.kind("Implementation");
+  private static final int KIND_Block = GNode.kind("Block");
+  private static final int KIND_ConditionalStatement = GNode.kind("ConditionalStatement");
+  private static final int KIND_ForStatement = GNode.kind("ForStatement");
+  private static final int KIND_WhileStatement = GNode.kind("WhileStatement");
+  private static final int KIND_DoWhileStatement = GNode.kind("DoWhileStatement");
+  private static final int KIND_TryCatchFinallyStatement = GNode.kind("TryCatchFinallyStatement");
+  private static final int KIND_SynchronizedStatement = GNode.kind("SynchronizedStatement");
+  private static final int KIND_ReturnStatement = GNode.kind("ReturnStatement");
+  private static final int KIND_ThrowStatement = GNode.kind("ThrowStatement");
+  private static final int KIND_BreakStatement = GNode.kind("BreakStatement");
+  private static final int KIND_ContinueStatement = GNode.kind("ContinueStatement");
+  private static final int KIND_LabeledStatement = GNode.kind("LabeledStatement");
+  private static final int KIND_ExpressionStatement = GNode.kind("ExpressionStatement");
+  private static final int KIND_AssertStatement = GNode.kind("AssertStatement");
+  private static final int KIND_EmptyStatement = GNode.kind("EmptyStatement");
+  private static final int KIND_EnhancedForControl = GNode.kind("EnhancedForControl");
+  private static final int KIND_BasicForControl = GNode.kind("BasicForControl");
+  private static final int KIND_CatchClause = GNode.kind("CatchClause");
+  private static final int KIND_SwitchStatement = GNode.kind("SwitchStatement");
+  private static final int KIND_CaseClause = GNode.kind("CaseClause");
+  private static final int KIND_DefaultClause = GNode.kind("DefaultClause");
+  private static final int KIND_ExpressionList = GNode.kind("ExpressionList");
+  private static final int KIND_Expression = GNode.kind("Expression");
+  private static final int KIND_ConditionalExpression = GNode.kind("ConditionalExpression");
+  private static final int KIND_LogicalOrExpression = GNode.kind("LogicalOrExpression");
+  private static final int KIND_LogicalAndExpression = GNode.kind("LogicalAndExpression");
+  private static final int KIND_BitwiseOrExpression = GNode.kind("BitwiseOrExpression");
+  private static final int KIND_BitwiseXorExpression = GNode.kind("BitwiseXorExpression");
+  private static final int KIND_BitwiseAndExpression = GNode.kind("BitwiseAndExpression");
+  private static final int KIND_EqualityExpression = GNode.kind("EqualityExpression");
+  private static final int KIND_InstanceOfExpression = GNode.kind("InstanceOfExpression");
+  private static final int KIND_RelationalExpression = GNode.kind("RelationalExpression");
+  private static final int KIND_ShiftExpression = GNode.kind("ShiftExpression");
+  private static final int KIND_AdditiveExpression = GNode.kind("AdditiveExpression");
+  private static final int KIND_MultiplicativeExpression = GNode.kind("MultiplicativeExpression");
+  private static final int KIND_UnaryExpression = GNode.kind("UnaryExpression");
+  private static final int KIND_BitwiseNegationExpression = GNode.kind("BitwiseNegationExpression");
+  private static final int KIND_LogicalNegationExpression = GNode.kind("LogicalNegationExpression");
+  private static final int KIND_BasicCastExpression = GNode.kind("BasicCastExpression");
+  private static final int KIND_CastExpression = GNode.kind("CastExpression");
+  private static final int KIND_CallExpression = GNode.kind("CallExpression");
+  private static final int KIND_SuperExpression = GNode.kind("SuperExpression");
+  private static final int KIND_SelectionExpression = GNode.kind("SelectionExpression");
+  private static final int KIND_SubscriptExpression = GNode.kind("SubscriptExpression");
+  private static final int KIND_PostfixExpression = GNode.kind("PostfixExpression");
+  private static final int KIND_NewClassExpression = GNode.kind("NewClassExpression");
+  private static final int KIND_ClassLiteralExpression = GNode.kind("ClassLiteralExpression");
+  private static final int KIND_ThisExpression = GNode.kind("ThisExpression");
+  private static final int KIND_PrimaryIdentifier = GNode.kind("PrimaryIdentifier");
+  private static final int KIND_NewArrayExpression = GNode.kind("NewArrayExpression");
+  private static final int KIND_ConcreteDimensions = GNode.kind("ConcreteDimensions");
+  private static final int KIND_ArrayInitializer = GNode.kind("ArrayInitializer");
+  private static final int KIND_Arguments = GNode.kind("Arguments");
+  private static final int KIND_Annotations = GNode.kind("Annotations");
+  private static final int KIND_Annotation = GNode.kind("Annotation");
+  private static final int KIND_ElementValuePairs = GNode.kind("ElementValuePairs");
+  private static final int KIND_ElementValuePair = GNode.kind("ElementValuePair");
+  private static final int KIND_AnnotationMethod = GNode.kind("AnnotationMethod");
+  private static final int KIND_DefaultValue = GNode.kind("DefaultValue");
+  private static final int KIND_EnumConstants = GNode.kind("EnumConstants");
+  private static final int KIND_EnumConstant = GNode.kind("EnumConstant");
+  private static final int KIND_EnumMembers = GNode.kind("EnumMembers");
+  private static final int KIND_VoidType = GNode.kind("VoidType");
+  private static final int KIND_Type = GNode.kind("Type");
+  private static final int KIND_PrimitiveType = GNode.kind("PrimitiveType");
+  private static final int KIND_Dimensions = GNode.kind("Dimensions");
+  private static final int KIND_TypeParameters = GNode.kind("TypeParameters");
+  private static final int KIND_TypeParameter = GNode.kind("TypeParameter");
+  private static final int KIND_Bound = GNode.kind("Bound");
+  private static final int KIND_TypeArguments = GNode.kind("TypeArguments");
+  private static final int KIND_Wildcard = GNode.kind("Wildcard");
+  private static final int KIND_WildcardBound = GNode.kind("WildcardBound");
+  private static final int KIND_InstantiatedType = GNode.kind("InstantiatedType");
+  private static final int KIND_TypeInstantiation = GNode.kind("TypeInstantiation");
+  private static final int KIND_BooleanLiteral = GNode.kind("BooleanLiteral");
+  private static final int KIND_NullLiteral = GNode.kind("NullLiteral");
+  private static final int KIND_IntegerLiteral = GNode.kind("IntegerLiteral");
+  private static final int KIND_FloatingPointLiteral = GNode.kind("FloatingPointLiteral");
+  private static final int KIND_CharacterLiteral = GNode.kind("CharacterLiteral");
+  private static final int KIND_StringLiteral = GNode.kind("StringLiteral");
+  private static final int KIND_QualifiedIdentifier = GNode.kind("QualifiedIdentifier");
+
 }
@@ -202,7 +202,7 @@ public final class JavaParser extends ParserBase {
             yyError  = yyResult.select(yyError);
             if (yyResult.hasValue()) {
 
-              yyValue = GNode.create("CompilationUnit", v$g$2.size() + v$g$3.size() + 1).
+              yyValue = GNode.create(KIND_CompilationUnit, v$g$2.size() + v$g$3.size() + 1).
                 add(v$g$1).addAll(v$g$2).addAll(v$g$3);
               yyValue.setLocation(location(yyStart));
 
@@ -247,7 +247,7 @@ public final class JavaParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("PackageDeclaration", null, v$g$2);
+          yyValue = GNode.create(KIND_PackageDeclaration, null, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -307,7 +307,7 @@ public final class JavaParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(";")) {
 
-            yyValue = GNode.create("ImportDeclaration", null, v$g$2, v$g$3);
+            yyValue = GNode.create(KIND_ImportDeclaration, null, v$g$2, v$g$3);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -389,7 +389,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("Modifiers", v$g$1);
+      yyValue = GNode.createFromPair(KIND_Modifiers, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -459,7 +459,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue("public")) {
       final String v$g$1 = "public";
 
-      yyValue = GNode.create("Modifier", v$g$1);
+      yyValue = GNode.create(KIND_Modifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -471,7 +471,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue("protected")) {
       final String v$g$2 = "protected";
 
-      yyValue = GNode.create("Modifier", v$g$2);
+      yyValue = GNode.create(KIND_Modifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -483,7 +483,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue("private")) {
       final String v$g$3 = "private";
 
-      yyValue = GNode.create("Modifier", v$g$3);
+      yyValue = GNode.create(KIND_Modifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -495,7 +495,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue("static")) {
       final String v$g$4 = "static";
 
-      yyValue = GNode.create("Modifier", v$g$4);
+      yyValue = GNode.create(KIND_Modifier, v$g$4);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -507,7 +507,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue("abstract")) {
       final String v$g$5 = "abstract";
 
-      yyValue = GNode.create("Modifier", v$g$5);
+      yyValue = GNode.create(KIND_Modifier, v$g$5);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -519,7 +519,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue("final")) {
       final String v$g$6 = "final";
 
-      yyValue = GNode.create("Modifier", v$g$6);
+      yyValue = GNode.create(KIND_Modifier, v$g$6);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -531,7 +531,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue("native")) {
       final String v$g$7 = "native";
 
-      yyValue = GNode.create("Modifier", v$g$7);
+      yyValue = GNode.create(KIND_Modifier, v$g$7);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -543,7 +543,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue("synchronized")) {
       final String v$g$8 = "synchronized";
 
-      yyValue = GNode.create("Modifier", v$g$8);
+      yyValue = GNode.create(KIND_Modifier, v$g$8);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -555,7 +555,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue("transient")) {
       final String v$g$9 = "transient";
 
-      yyValue = GNode.create("Modifier", v$g$9);
+      yyValue = GNode.create(KIND_Modifier, v$g$9);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -567,7 +567,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue("volatile")) {
       final String v$g$10 = "volatile";
 
-      yyValue = GNode.create("Modifier", v$g$10);
+      yyValue = GNode.create(KIND_Modifier, v$g$10);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -579,7 +579,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue("strictfp")) {
       final String v$g$11 = "strictfp";
 
-      yyValue = GNode.create("Modifier", v$g$11);
+      yyValue = GNode.create(KIND_Modifier, v$g$11);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -637,7 +637,7 @@ public final class JavaParser extends ParserBase {
           { // Start scope for v$g$5.
             final Node v$g$5 = yyOpValue1;
 
-            yyValue = GNode.create("FormalParameter", v$g$1, v$g$2, null, v$g$4, v$g$5);
+            yyValue = GNode.create(KIND_FormalParameter, v$g$1, v$g$2, null, v$g$4, v$g$5);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyOption1, yyError);
@@ -671,7 +671,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifiers", v$g$1);
+      yyValue = GNode.create(KIND_Modifiers, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -679,7 +679,7 @@ public final class JavaParser extends ParserBase {
 
     // Alternative <Nonfinal>.
 
-    yyValue = GNode.create("Modifiers", false);
+    yyValue = GNode.create(KIND_Modifiers, false);
     yyValue.setLocation(location(yyStart));
 
     return new SemanticValue(yyValue, yyStart, yyError);
@@ -705,7 +705,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue("final")) {
       final String v$g$1 = "final";
 
-      yyValue = GNode.create("Modifier", v$g$1);
+      yyValue = GNode.create(KIND_Modifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -763,7 +763,7 @@ public final class JavaParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.createFromPair("FormalParameters", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_FormalParameters, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -779,7 +779,7 @@ public final class JavaParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(")")) {
 
-        yyValue = GNode.create("FormalParameters", false);
+        yyValue = GNode.create(KIND_FormalParameters, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -907,7 +907,7 @@ public final class JavaParser extends ParserBase {
         { // Start scope for v$g$3.
           final Node v$g$3 = yyOpValue1;
 
-          yyValue = GNode.create("Declarator", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_Declarator, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -954,7 +954,7 @@ public final class JavaParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.createFromPair("Declarators", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_Declarators, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -1061,7 +1061,7 @@ public final class JavaParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue("}")) {
 
-          yyValue = GNode.createFromPair("ClassBody", v$g$1);
+          yyValue = GNode.createFromPair(KIND_ClassBody, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -1118,7 +1118,7 @@ public final class JavaParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(";")) {
 
-            yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
+            yyValue = GNode.create(KIND_FieldDeclaration, v$g$1, v$g$2, v$g$3);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -1186,7 +1186,7 @@ public final class JavaParser extends ParserBase {
                   if (yyResult.hasValue()) {
                     final Node v$g$8 = yyResult.semanticValue();
 
-                    yyValue = GNode.create("MethodDeclaration", v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$8);
+                    yyValue = GNode.create(KIND_MethodDeclaration, v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$8);
                     yyValue.setLocation(location(yyStart));
 
                     return yyResult.createValue(yyValue, yyError);
@@ -1198,7 +1198,7 @@ public final class JavaParser extends ParserBase {
                   yyResult = pSymbol(yyBase);
                   if (yyResult.hasValue(";")) {
 
-                    yyValue = GNode.create("MethodDeclaration", v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, null);
+                    yyValue = GNode.create(KIND_MethodDeclaration, v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, null);
                     yyValue.setLocation(location(yyStart));
 
                     return yyResult.createValue(yyValue, yyError);
@@ -1242,7 +1242,7 @@ public final class JavaParser extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$6 = yyResult.semanticValue();
 
-                yyValue = GNode.create("ConstructorDeclaration", v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6);
+                yyValue = GNode.create(KIND_ConstructorDeclaration, v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -1295,7 +1295,7 @@ public final class JavaParser extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$6 = yyResult.semanticValue();
 
-                yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5, v$g$6);
+                yyValue = GNode.create(KIND_ClassDeclaration, v$g$1, v$g$2, null, v$g$4, v$g$5, v$g$6);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -1337,7 +1337,7 @@ public final class JavaParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$5 = yyResult.semanticValue();
 
-              yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5);
+              yyValue = GNode.create(KIND_InterfaceDeclaration, v$g$1, v$g$2, null, v$g$4, v$g$5);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -1372,7 +1372,7 @@ public final class JavaParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("BlockDeclaration", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_BlockDeclaration, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -1384,7 +1384,7 @@ public final class JavaParser extends ParserBase {
     yyResult = pSymbol(yyStart);
     if (yyResult.hasValue(";")) {
 
-      yyValue = GNode.create("EmptyDeclaration", false);
+      yyValue = GNode.create(KIND_EmptyDeclaration, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1447,7 +1447,7 @@ public final class JavaParser extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("ThrowsClause", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_ThrowsClause, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -1512,7 +1512,7 @@ public final class JavaParser extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("Extension", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_Extension, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -1577,7 +1577,7 @@ public final class JavaParser extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("Implementation", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_Implementation, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -1628,7 +1628,7 @@ public final class JavaParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue("}")) {
 
-          yyValue = GNode.createFromPair("Block", v$g$1);
+          yyValue = GNode.createFromPair(KIND_Block, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -1810,7 +1810,7 @@ public final class JavaParser extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$6 = yyResult.semanticValue();
 
-                yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5, v$g$6);
+                yyValue = GNode.create(KIND_ClassDeclaration, v$g$1, v$g$2, null, v$g$4, v$g$5, v$g$6);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -1852,7 +1852,7 @@ public final class JavaParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$5 = yyResult.semanticValue();
 
-              yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5);
+              yyValue = GNode.create(KIND_InterfaceDeclaration, v$g$1, v$g$2, null, v$g$4, v$g$5);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -1904,7 +1904,7 @@ public final class JavaParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(";")) {
 
-            yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
+            yyValue = GNode.create(KIND_FieldDeclaration, v$g$1, v$g$2, v$g$3);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -1977,7 +1977,7 @@ public final class JavaParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_ConditionalStatement, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -1988,7 +1988,7 @@ public final class JavaParser extends ParserBase {
 
           // Nested alternative 2.
 
-          yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, null);
+          yyValue = GNode.create(KIND_ConditionalStatement, v$g$1, v$g$2, null);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
@@ -2019,7 +2019,7 @@ public final class JavaParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("ForStatement", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_ForStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -2048,7 +2048,7 @@ public final class JavaParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_WhileStatement, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2079,7 +2079,7 @@ public final class JavaParser extends ParserBase {
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue(";")) {
 
-              yyValue = GNode.create("DoWhileStatement", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_DoWhileStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -2134,7 +2134,7 @@ public final class JavaParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$4 = yyResult.semanticValue();
 
-              yyValue = GNode.create("TryCatchFinallyStatement", v$g$3.size() + 3).
+              yyValue = GNode.create(KIND_TryCatchFinallyStatement, v$g$3.size() + 3).
                 add(null).add(v$g$2).addAll(v$g$3).add(v$g$4);
               yyValue.setLocation(location(yyStart));
 
@@ -2168,7 +2168,7 @@ public final class JavaParser extends ParserBase {
         if (yyRepeated1) {
           final Pair<Node> v$g$5 = yyRepValue1.reverse();
 
-          yyValue = GNode.create("TryCatchFinallyStatement", v$g$5.size() + 3).
+          yyValue = GNode.create(KIND_TryCatchFinallyStatement, v$g$5.size() + 3).
             add(null).add(v$g$2).addAll(v$g$5).add(null);
           yyValue.setLocation(location(yyStart));
 
@@ -2213,7 +2213,7 @@ public final class JavaParser extends ParserBase {
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue("}")) {
 
-              yyValue = GNode.createFromPair("SwitchStatement", v$g$1, v$g$2);
+              yyValue = GNode.createFromPair(KIND_SwitchStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -2242,7 +2242,7 @@ public final class JavaParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("SynchronizedStatement", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_SynchronizedStatement, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2273,7 +2273,7 @@ public final class JavaParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("ReturnStatement", v$g$1);
+          yyValue = GNode.create(KIND_ReturnStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2297,7 +2297,7 @@ public final class JavaParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("ThrowStatement", v$g$1);
+          yyValue = GNode.create(KIND_ThrowStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2330,7 +2330,7 @@ public final class JavaParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("BreakStatement", v$g$1);
+          yyValue = GNode.create(KIND_BreakStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2363,7 +2363,7 @@ public final class JavaParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("ContinueStatement", v$g$1);
+          yyValue = GNode.create(KIND_ContinueStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2389,7 +2389,7 @@ public final class JavaParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("LabeledStatement", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_LabeledStatement, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2410,7 +2410,7 @@ public final class JavaParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(";")) {
 
-        yyValue = GNode.create("ExpressionStatement", v$g$1);
+        yyValue = GNode.create(KIND_ExpressionStatement, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -2454,7 +2454,7 @@ public final class JavaParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(";")) {
 
-            yyValue = GNode.create("AssertStatement", v$g$1, v$g$2);
+            yyValue = GNode.create(KIND_AssertStatement, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -2470,7 +2470,7 @@ public final class JavaParser extends ParserBase {
     yyResult = pSymbol(yyStart);
     if (yyResult.hasValue(";")) {
 
-      yyValue = GNode.create("EmptyStatement", false);
+      yyValue = GNode.create(KIND_EmptyStatement, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -2551,7 +2551,7 @@ public final class JavaParser extends ParserBase {
                 { // Start scope for v$g$5.
                   final Node v$g$5 = yyOpValue1;
 
-                  yyValue = GNode.create("BasicForControl", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+                  yyValue = GNode.create(KIND_BasicForControl, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
                   yyValue.setLocation(location(yyStart));
 
                   return new SemanticValue(yyValue, yyOption1, yyError);
@@ -2619,7 +2619,7 @@ public final class JavaParser extends ParserBase {
             { // Start scope for v$g$10.
               final Node v$g$10 = yyOpValue1;
 
-              yyValue = GNode.create("BasicForControl", null, null, v$g$8, v$g$9, v$g$10);
+              yyValue = GNode.create(KIND_BasicForControl, null, null, v$g$8, v$g$9, v$g$10);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyOption1, yyError);
@@ -2734,7 +2734,7 @@ public final class JavaParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("CatchClause", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_CatchClause, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -2802,7 +2802,7 @@ public final class JavaParser extends ParserBase {
           { // Start scope for v$g$2.
             final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-            yyValue = GNode.createFromPair("CaseClause", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_CaseClause, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -2840,7 +2840,7 @@ public final class JavaParser extends ParserBase {
         { // Start scope for v$g$1.
           final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("DefaultClause", v$g$1);
+          yyValue = GNode.createFromPair(KIND_DefaultClause, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -2904,7 +2904,7 @@ public final class JavaParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("ExpressionList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_ExpressionList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -2955,7 +2955,7 @@ public final class JavaParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$3 = yyResult.semanticValue();
 
-          yyValue = GNode.create("Expression", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_Expression, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -3157,7 +3157,7 @@ public final class JavaParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("ConditionalExpression", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_ConditionalExpression, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -3275,7 +3275,7 @@ public final class JavaParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("LogicalOrExpression", v$1, v$g$2);
+            return GNode.create(KIND_LogicalOrExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -3366,7 +3366,7 @@ public final class JavaParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("LogicalAndExpression", v$1, v$g$2);
+            return GNode.create(KIND_LogicalAndExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -3457,7 +3457,7 @@ public final class JavaParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseOrExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseOrExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -3548,7 +3548,7 @@ public final class JavaParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseXorExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseXorExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -3639,7 +3639,7 @@ public final class JavaParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseAndExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseAndExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -3732,7 +3732,7 @@ public final class JavaParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("EqualityExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_EqualityExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -3811,7 +3811,7 @@ public final class JavaParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("InstanceOfExpression", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_InstanceOfExpression, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -3927,7 +3927,7 @@ public final class JavaParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("RelationalExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_RelationalExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4074,7 +4074,7 @@ public final class JavaParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("ShiftExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_ShiftExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4212,7 +4212,7 @@ public final class JavaParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("AdditiveExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_AdditiveExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4344,7 +4344,7 @@ public final class JavaParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("MultiplicativeExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_MultiplicativeExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4428,7 +4428,7 @@ public final class JavaParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_UnaryExpression, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -4446,7 +4446,7 @@ public final class JavaParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$3, v$g$4);
+        yyValue = GNode.create(KIND_UnaryExpression, v$g$3, v$g$4);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -4464,7 +4464,7 @@ public final class JavaParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$6 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$5, v$g$6);
+        yyValue = GNode.create(KIND_UnaryExpression, v$g$5, v$g$6);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -4482,7 +4482,7 @@ public final class JavaParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$8 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$7, v$g$8);
+        yyValue = GNode.create(KIND_UnaryExpression, v$g$7, v$g$8);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -4533,7 +4533,7 @@ public final class JavaParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
+        yyValue = GNode.create(KIND_BitwiseNegationExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -4550,7 +4550,7 @@ public final class JavaParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("LogicalNegationExpression", v$g$1);
+        yyValue = GNode.create(KIND_LogicalNegationExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -4594,7 +4594,7 @@ public final class JavaParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("BasicCastExpression", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_BasicCastExpression, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -4621,7 +4621,7 @@ public final class JavaParser extends ParserBase {
           if (yyResult.hasValue()) {
             final Node v$g$2 = yyResult.semanticValue();
 
-            yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
+            yyValue = GNode.create(KIND_CastExpression, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -4743,7 +4743,7 @@ public final class JavaParser extends ParserBase {
 
             yyValue = new Action<Node>() {
               public Node run(Node v$1) {
-                return GNode.create("CallExpression", v$1, null, v$g$3, v$g$4);
+                return GNode.create(KIND_CallExpression, v$1, null, v$g$3, v$g$4);
               }};
 
             return yyResult.createValue(yyValue, yyError);
@@ -4764,7 +4764,7 @@ public final class JavaParser extends ParserBase {
 
             yyValue = new Action<Node>() {
               public Node run(Node v$1) {
-                return GNode.create("CallExpression", v$1, null, v$g$5, v$g$6);
+                return GNode.create(KIND_CallExpression, v$1, null, v$g$5, v$g$6);
               }};
 
             return yyResult.createValue(yyValue, yyError);
@@ -4782,7 +4782,7 @@ public final class JavaParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("SuperExpression", v$1);
+            return GNode.create(KIND_SuperExpression, v$1);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4799,7 +4799,7 @@ public final class JavaParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("SelectionExpression", v$1, v$g$7);
+            return GNode.create(KIND_SelectionExpression, v$1, v$g$7);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4822,7 +4822,7 @@ public final class JavaParser extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("SubscriptExpression", v$1, v$g$8);
+              return GNode.create(KIND_SubscriptExpression, v$1, v$g$8);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -4840,7 +4840,7 @@ public final class JavaParser extends ParserBase {
 
       yyValue = new Action<Node>() {
         public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$9);
+          return GNode.create(KIND_PostfixExpression, v$1, v$g$9);
         }};
 
       return yyResult.createValue(yyValue, yyError);
@@ -4854,7 +4854,7 @@ public final class JavaParser extends ParserBase {
 
       yyValue = new Action<Node>() {
         public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$10);
+          return GNode.create(KIND_PostfixExpression, v$1, v$g$10);
         }};
 
       return yyResult.createValue(yyValue, yyError);
@@ -4895,7 +4895,7 @@ public final class JavaParser extends ParserBase {
 
               yyValue = new Action<Node>() {
                 public Node run(Node v$1) {
-                  return GNode.create("NewClassExpression", v$1, null, v$g$12, v$g$13, v$g$14);
+                  return GNode.create(KIND_NewClassExpression, v$1, null, v$g$12, v$g$13, v$g$14);
                 }};
 
               return new SemanticValue(yyValue, yyOption1, yyError);
@@ -4951,7 +4951,7 @@ public final class JavaParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
+        yyValue = GNode.create(KIND_CallExpression, null, null, v$g$3, v$g$4);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -4973,7 +4973,7 @@ public final class JavaParser extends ParserBase {
         yyResult = pWord(yyBase);
         if (yyResult.hasValue("class")) {
 
-          yyValue = GNode.create("ClassLiteralExpression", v$g$1);
+          yyValue = GNode.create(KIND_ClassLiteralExpression, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -4996,7 +4996,7 @@ public final class JavaParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
+        yyValue = GNode.create(KIND_CallExpression, null, null, v$g$3, v$g$4);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5030,7 +5030,7 @@ public final class JavaParser extends ParserBase {
       yyResult = pWord(yyBase);
       if (yyResult.hasValue("this")) {
 
-        yyValue = GNode.create("ThisExpression", v$g$1);
+        yyValue = GNode.create(KIND_ThisExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5055,7 +5055,7 @@ public final class JavaParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$4 = yyResult.semanticValue();
 
-          yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
+          yyValue = GNode.create(KIND_CallExpression, null, null, v$g$3, v$g$4);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -5068,7 +5068,7 @@ public final class JavaParser extends ParserBase {
       yyResult = pWord(yyBase);
       if (yyResult.hasValue("super")) {
 
-        yyValue = GNode.create("SuperExpression", null);
+        yyValue = GNode.create(KIND_SuperExpression, null);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5084,7 +5084,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimaryIdentifier", v$g$1);
+      yyValue = GNode.create(KIND_PrimaryIdentifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -5119,7 +5119,7 @@ public final class JavaParser extends ParserBase {
           { // Start scope for v$g$5.
             final Node v$g$5 = yyOpValue1;
 
-            yyValue = GNode.create("NewClassExpression", null, null, v$g$3, v$g$4, v$g$5);
+            yyValue = GNode.create(KIND_NewClassExpression, null, null, v$g$3, v$g$4, v$g$5);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyOption1, yyError);
@@ -5161,7 +5161,7 @@ public final class JavaParser extends ParserBase {
           { // Start scope for v$g$3.
             final Node v$g$3 = yyOpValue1;
 
-            yyValue = GNode.create("NewArrayExpression", v$g$1, v$g$2, v$g$3, null);
+            yyValue = GNode.create(KIND_NewArrayExpression, v$g$1, v$g$2, v$g$3, null);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyOption1, yyError);
@@ -5189,7 +5189,7 @@ public final class JavaParser extends ParserBase {
           if (yyResult.hasValue()) {
             final Node v$g$7 = yyResult.semanticValue();
 
-            yyValue = GNode.create("NewArrayExpression", v$g$1, null, v$g$6, v$g$7);
+            yyValue = GNode.create(KIND_NewArrayExpression, v$g$1, null, v$g$6, v$g$7);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -5264,7 +5264,7 @@ public final class JavaParser extends ParserBase {
     if (yyRepeated1) {
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("ConcreteDimensions", v$g$1);
+      yyValue = GNode.createFromPair(KIND_ConcreteDimensions, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -5387,7 +5387,7 @@ public final class JavaParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue("}")) {
 
-            yyValue = GNode.createFromPair("ArrayInitializer", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_ArrayInitializer, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -5414,7 +5414,7 @@ public final class JavaParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue("}")) {
 
-        yyValue = GNode.create("ArrayInitializer", false);
+        yyValue = GNode.create(KIND_ArrayInitializer, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5537,7 +5537,7 @@ public final class JavaParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.createFromPair("Arguments", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_Arguments, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -5553,7 +5553,7 @@ public final class JavaParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(")")) {
 
-        yyValue = GNode.create("Arguments", false);
+        yyValue = GNode.create(KIND_Arguments, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5633,7 +5633,7 @@ public final class JavaParser extends ParserBase {
     yyResult = pWord(yyStart);
     if (yyResult.hasValue("void")) {
 
-      yyValue = GNode.create("VoidType", false);
+      yyValue = GNode.create(KIND_VoidType, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -5690,7 +5690,7 @@ public final class JavaParser extends ParserBase {
       { // Start scope for v$g$2.
         final Node v$g$2 = yyOpValue1;
 
-        yyValue = GNode.create("Type", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_Type, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -5777,7 +5777,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue("byte")) {
       final String v$g$1 = "byte";
 
-      yyValue = GNode.create("PrimitiveType", v$g$1);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -5789,7 +5789,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue("short")) {
       final String v$g$2 = "short";
 
-      yyValue = GNode.create("PrimitiveType", v$g$2);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -5801,7 +5801,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue("char")) {
       final String v$g$3 = "char";
 
-      yyValue = GNode.create("PrimitiveType", v$g$3);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -5813,7 +5813,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue("int")) {
       final String v$g$4 = "int";
 
-      yyValue = GNode.create("PrimitiveType", v$g$4);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$4);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -5825,7 +5825,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue("long")) {
       final String v$g$5 = "long";
 
-      yyValue = GNode.create("PrimitiveType", v$g$5);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$5);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -5837,7 +5837,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue("float")) {
       final String v$g$6 = "float";
 
-      yyValue = GNode.create("PrimitiveType", v$g$6);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$6);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -5849,7 +5849,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue("double")) {
       final String v$g$7 = "double";
 
-      yyValue = GNode.create("PrimitiveType", v$g$7);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$7);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -5861,7 +5861,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue("boolean")) {
       final String v$g$8 = "boolean";
 
-      yyValue = GNode.create("PrimitiveType", v$g$8);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$8);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -5902,7 +5902,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<String> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("Dimensions", v$g$1);
+      yyValue = GNode.createFromPair(KIND_Dimensions, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6055,7 +6055,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue("true")) {
       final String v$g$1 = "true";
 
-      yyValue = GNode.create("BooleanLiteral", v$g$1);
+      yyValue = GNode.create(KIND_BooleanLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6067,7 +6067,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue("false")) {
       final String v$g$2 = "false";
 
-      yyValue = GNode.create("BooleanLiteral", v$g$2);
+      yyValue = GNode.create(KIND_BooleanLiteral, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6078,7 +6078,7 @@ public final class JavaParser extends ParserBase {
     yyResult = pWord(yyStart);
     if (yyResult.hasValue("null")) {
 
-      yyValue = GNode.create("NullLiteral", false);
+      yyValue = GNode.create(KIND_NullLiteral, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6110,7 +6110,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$1);
+      yyValue = GNode.create(KIND_IntegerLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6123,7 +6123,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$2);
+      yyValue = GNode.create(KIND_IntegerLiteral, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6136,7 +6136,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$3);
+      yyValue = GNode.create(KIND_IntegerLiteral, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6676,7 +6676,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("FloatingPointLiteral", v$g$1);
+      yyValue = GNode.create(KIND_FloatingPointLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6966,7 +6966,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("CharacterLiteral", v$g$1);
+      yyValue = GNode.create(KIND_CharacterLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6997,7 +6997,7 @@ public final class JavaParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("StringLiteral", v$g$1);
+      yyValue = GNode.create(KIND_StringLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -7822,7 +7822,7 @@ public final class JavaParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Pair<String> v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.createFromPair("QualifiedIdentifier", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_QualifiedIdentifier, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -8948,4 +8948,90 @@ public final class JavaParser extends ParserBase {
     return set.contains(value);
   }
 
+  // =========================================================================
+
+  private static final int KIND_CompilationUnit = GNode.kind("CompilationUnit");
+  private static final int KIND_PackageDeclaration = GNode.kind("PackageDeclaration");
+  private static final int KIND_ImportDeclaration = GNode.kind("ImportDeclaration");
+  private static final int KIND_Modifiers = GNode.kind("Modifiers");
+  private static final int KIND_Modifier = GNode.kind("Modifier");
+  private static final int KIND_FormalParameter = GNode.kind("FormalParameter");
+  private static final int KIND_FormalParameters = GNode.kind("FormalParameters");
+  private static final int KIND_Declarator = GNode.kind("Declarator");
+  private static final int KIND_Declarators = GNode.kind("Declarators");
+  private static final int KIND_ClassBody = GNode.kind("ClassBody");
+  private static final int KIND_FieldDeclaration = GNode.kind("FieldDeclaration");
+  private static final int KIND_MethodDeclaration = GNode.kind("MethodDeclaration");
+  private static final int KIND_ConstructorDeclaration = GNode.kind("ConstructorDeclaration");
+  private static final int KIND_ClassDeclaration = GNode.kind("ClassDeclaration");
+  private static final int KIND_InterfaceDeclaration = GNode.kind("InterfaceDeclaration");
+  private static final int KIND_BlockDeclaration = GNode.kind("BlockDeclaration");
+  private static final int KIND_EmptyDeclaration = GNode.kind("EmptyDeclaration");
+  private static final int KIND_ThrowsClause = GNode.kind("ThrowsClause");
+  private static final int KIND_Extension = GNode.kind("Extension");
+  private static final int KIND_Implementation = GNode.kind("Implementation");
+  private static final int KIND_Block = GNode.kind("Block");
+  private static final int KIND_ConditionalStatement = GNode.kind("ConditionalStatement");
+  private static final int KIND_ForStatement = GNode.kind("ForStatement");
+  private static final int KIND_WhileStatement = GNode.kind("WhileStatement");
+  private static final int KIND_DoWhileStatement = GNode.kind("DoWhileStatement");
+  private static final int KIND_TryCatchFinallyStatement = GNode.kind("TryCatchFinallyStatement");
+  private static final int KIND_SwitchStatement = GNode.kind("SwitchStatement");
+  private static final int KIND_SynchronizedStatement = GNode.kind("SynchronizedStatement");
+  private static final int KIND_ReturnStatement = GNode.kind("ReturnStatement");
+  private static final int KIND_ThrowStatement = GNode.kind("ThrowStatement");
+  private static final int KIND_BreakStatement = GNode.kind("BreakStatement");
+  private static final int KIND_ContinueStatement = GNode.kind("ContinueStatement");
+  private static final int KIND_LabeledStatement = GNode.kind("LabeledStatement");
+  private static final int KIND_ExpressionStatement = GNode.kind("ExpressionStatement");
+  private static final int KIND_AssertStatement = GNode.kind("AssertStatement");
+  private static final int KIND_EmptyStatement = GNode.kind("EmptyStatement");
+  private static final int KIND_BasicForControl = GNode.kind("BasicForControl");
+  private static final int KIND_CatchClause = GNode.kind("CatchClause");
+  private static final int KIND_CaseClause = GNode.kind("CaseClause");
+  private static final int KIND_DefaultClause = GNode.kind("DefaultClause");
+  private static final int KIND_ExpressionList = GNode.kind("ExpressionList");
+  private static final int KIND_Expression = GNode.kind("Expression");
+  private static final int KIND_ConditionalExpression = GNode.kind("ConditionalExpression");
+  private static final int KIND_LogicalOrExpression = GNode.kind("LogicalOrExpression");
+  private static final int KIND_LogicalAndExpression = GNode.kind("LogicalAndExpression");
+  private static final int KIND_BitwiseOrExpression = GNode.kind("BitwiseOrExpression");
+  private static final int KIND_BitwiseXorExpression = GNode.kind("BitwiseXorExpression");
+  private static final int KIND_BitwiseAndExpression = GNode.kind("BitwiseAndExpression");
+  private static final int KIND_EqualityExpression = GNode.kind("EqualityExpression");
+  private static final int KIND_InstanceOfExpression = GNode.kind("InstanceOfExpression");
+  private static final int KIND_RelationalExpression = GNode.kind("RelationalExpression");
+  private static final int KIND_ShiftExpression = GNode.kind("ShiftExpression");
+  private static final int KIND_AdditiveExpression = GNode.kind("AdditiveExpression");
+  private static final int KIND_MultiplicativeExpression = GNode.kind("MultiplicativeExpression");
+  private static final int KIND_UnaryExpression = GNode.kind("UnaryExpression");
+  private static final int KIND_BitwiseNegationExpression = GNode.kind("BitwiseNegationExpression");
+  private static final int KIND_LogicalNegationExpression = GNode.kind("LogicalNegationExpression");
+  private static final int KIND_BasicCastExpression = GNode.kind("BasicCastExpression");
+  private static final int KIND_CastExpression = GNode.kind("CastExpression");
+  private static final int KIND_CallExpression = GNode.kind("CallExpression");
+  private static final int KIND_SuperExpression = GNode.kind("SuperExpression");
+  private static final int KIND_SelectionExpression = GNode.kind("SelectionExpression");
+  private static final int KIND_SubscriptExpression = GNode.kind("SubscriptExpression");
+  private static final int KIND_PostfixExpression = GNode.kind("PostfixExpression");
+  private static final int KIND_NewClassExpression = GNode.kind("NewClassExpression");
+  private static final int KIND_ClassLiteralExpression = GNode.kind("ClassLiteralExpression");
+  private static final int KIND_ThisExpression = GNode.kind("ThisExpression");
+  private static final int KIND_PrimaryIdentifier = GNode.kind("PrimaryIdentifier");
+  private static final int KIND_NewArrayExpression = GNode.kind("NewArrayExpression");
+  private static final int KIND_ConcreteDimensions = GNode.kind("ConcreteDimensions");
+  private static final int KIND_ArrayInitializer = GNode.kind("ArrayInitializer");
+  private static final int KIND_Arguments = GNode.kind("Arguments");
+  private static final int KIND_VoidType = GNode.kind("VoidType");
+  private static final int KIND_Type = GNode.kind("Type");
+  private static final int KIND_PrimitiveType = GNode.kind("PrimitiveType");
+  private static final int KIND_Dimensions = GNode.kind("Dimensions");
+  private static final int KIND_BooleanLiteral = GNode.kind("BooleanLiteral");
+  private static final int KIND_NullLiteral = GNode.kind("NullLiteral");
+  private static final int KIND_IntegerLiteral = GNode.kind("IntegerLiteral");
+  private static final int KIND_FloatingPointLiteral = GNode.kind("FloatingPointLiteral");
+  private static final int KIND_CharacterLiteral = GNode.kind("CharacterLiteral");
+  private static final int KIND_StringLiteral = GNode.kind("StringLiteral");
+  private static final int KIND_QualifiedIdentifier = GNode.kind("QualifiedIdentifier");
+
 }
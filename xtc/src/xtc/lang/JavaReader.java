@@ -246,7 +246,7 @@ public final class JavaReader extends ParserBase {
           { // Start scope for v$g$3.
             final Pair<Node> v$g$3 = yyRepValue1.reverse();
 
-            yyValue = GNode.create("CompilationUnit", v$g$2.size() + v$g$3.size() + 1).
+            yyValue = GNode.create(KIND_CompilationUnit, v$g$2.size() + v$g$3.size() + 1).
               add(v$g$1).addAll(v$g$2).addAll(v$g$3);
             yyValue.setLocation(location(yyStart));
 
@@ -295,7 +295,7 @@ public final class JavaReader extends ParserBase {
           final Node v$pt$3 = yyResult.semanticValue();
           final Node v$g$2 = Formatting.after1(v$pt$4, v$pt$3);
 
-          yyValue = GNode.create("PackageDeclaration", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_PackageDeclaration, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -361,7 +361,7 @@ public final class JavaReader extends ParserBase {
             final Node v$pt$3 = yyResult.semanticValue();
             final Node v$g$3 = Formatting.after1(v$pt$4, v$pt$3);
 
-            yyValue = GNode.create("ImportDeclaration", v$g$1, v$g$2, v$g$3);
+            yyValue = GNode.create(KIND_ImportDeclaration, v$g$1, v$g$2, v$g$3);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -447,7 +447,7 @@ public final class JavaReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("Modifiers", v$g$1);
+      yyValue = GNode.createFromPair(KIND_Modifiers, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -518,7 +518,7 @@ public final class JavaReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("public")) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$1);
+      yyValue = GNode.create(KIND_Modifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -531,7 +531,7 @@ public final class JavaReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("protected")) {
       final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$2);
+      yyValue = GNode.create(KIND_Modifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -544,7 +544,7 @@ public final class JavaReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("private")) {
       final Node v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$3);
+      yyValue = GNode.create(KIND_Modifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -557,7 +557,7 @@ public final class JavaReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("static")) {
       final Node v$g$4 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$4);
+      yyValue = GNode.create(KIND_Modifier, v$g$4);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -570,7 +570,7 @@ public final class JavaReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("abstract")) {
       final Node v$g$5 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$5);
+      yyValue = GNode.create(KIND_Modifier, v$g$5);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -583,7 +583,7 @@ public final class JavaReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("final")) {
       final Node v$g$6 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$6);
+      yyValue = GNode.create(KIND_Modifier, v$g$6);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -596,7 +596,7 @@ public final class JavaReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("native")) {
       final Node v$g$7 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$7);
+      yyValue = GNode.create(KIND_Modifier, v$g$7);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -609,7 +609,7 @@ public final class JavaReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("synchronized")) {
       final Node v$g$8 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$8);
+      yyValue = GNode.create(KIND_Modifier, v$g$8);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -622,7 +622,7 @@ public final class JavaReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("transient")) {
       final Node v$g$9 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$9);
+      yyValue = GNode.create(KIND_Modifier, v$g$9);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -635,7 +635,7 @@ public final class JavaReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("volatile")) {
       final Node v$g$10 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$10);
+      yyValue = GNode.create(KIND_Modifier, v$g$10);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -648,7 +648,7 @@ public final class JavaReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("strictfp")) {
       final Node v$g$11 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$11);
+      yyValue = GNode.create(KIND_Modifier, v$g$11);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -706,7 +706,7 @@ public final class JavaReader extends ParserBase {
           { // Start scope for v$g$5.
             final Node v$g$5 = yyOpValue1;
 
-            yyValue = GNode.create("FormalParameter", v$g$1, v$g$2, null, v$g$4, v$g$5);
+            yyValue = GNode.create(KIND_FormalParameter, v$g$1, v$g$2, null, v$g$4, v$g$5);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyOption1, yyError);
@@ -740,7 +740,7 @@ public final class JavaReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifiers", v$g$1);
+      yyValue = GNode.create(KIND_Modifiers, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -748,7 +748,7 @@ public final class JavaReader extends ParserBase {
 
     // Alternative <Nonfinal>.
 
-    yyValue = GNode.create("Modifiers", false);
+    yyValue = GNode.create(KIND_Modifiers, false);
     yyValue.setLocation(location(yyStart));
 
     return new SemanticValue(yyValue, yyStart, yyError);
@@ -775,7 +775,7 @@ public final class JavaReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("final")) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$1);
+      yyValue = GNode.create(KIND_Modifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -843,7 +843,7 @@ public final class JavaReader extends ParserBase {
           ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
         final Node v$pt$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("FormalParameters", false);
+        yyValue = GNode.create(KIND_FormalParameters, false);
         yyValue.setLocation(location(yyStart));
         yyValue = Formatting.variable().addNode(yyValue).
           add(v$pt$3).add(v$pt$4);
@@ -919,7 +919,7 @@ public final class JavaReader extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("FormalParameters", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_FormalParameters, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -993,7 +993,7 @@ public final class JavaReader extends ParserBase {
         { // Start scope for v$g$3.
           final Node v$g$3 = yyOpValue1;
 
-          yyValue = GNode.create("Declarator", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_Declarator, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -1040,7 +1040,7 @@ public final class JavaReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.createFromPair("Declarators", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_Declarators, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -1188,7 +1188,7 @@ public final class JavaReader extends ParserBase {
     { // Start scope for v$g$1.
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("ClassBody", v$g$1);
+      yyValue = GNode.createFromPair(KIND_ClassBody, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -1240,7 +1240,7 @@ public final class JavaReader extends ParserBase {
             final Node v$pt$1 = yyResult.semanticValue();
             final Node v$g$3 = Formatting.after1(v$pt$2, v$pt$1);
 
-            yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
+            yyValue = GNode.create(KIND_FieldDeclaration, v$g$1, v$g$2, v$g$3);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -1308,7 +1308,7 @@ public final class JavaReader extends ParserBase {
                   if (yyResult.hasValue()) {
                     final Node v$g$8 = yyResult.semanticValue();
 
-                    yyValue = GNode.create("MethodDeclaration", v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$8);
+                    yyValue = GNode.create(KIND_MethodDeclaration, v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$8);
                     yyValue.setLocation(location(yyStart));
 
                     return yyResult.createValue(yyValue, yyError);
@@ -1323,7 +1323,7 @@ public final class JavaReader extends ParserBase {
                     final Node v$pt$1 = yyResult.semanticValue();
                     final Node v$g$9 = Formatting.after1(null, v$pt$1);
 
-                    yyValue = GNode.create("MethodDeclaration", v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$9);
+                    yyValue = GNode.create(KIND_MethodDeclaration, v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$9);
                     yyValue.setLocation(location(yyStart));
 
                     return yyResult.createValue(yyValue, yyError);
@@ -1367,7 +1367,7 @@ public final class JavaReader extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$6 = yyResult.semanticValue();
 
-                yyValue = GNode.create("ConstructorDeclaration", v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6);
+                yyValue = GNode.create(KIND_ConstructorDeclaration, v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -1433,7 +1433,7 @@ public final class JavaReader extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$6 = yyResult.semanticValue();
 
-                yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5, v$g$6);
+                yyValue = GNode.create(KIND_ClassDeclaration, v$g$1, v$g$2, null, v$g$4, v$g$5, v$g$6);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -1478,7 +1478,7 @@ public final class JavaReader extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$5 = yyResult.semanticValue();
 
-              yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5);
+              yyValue = GNode.create(KIND_InterfaceDeclaration, v$g$1, v$g$2, null, v$g$4, v$g$5);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -1514,7 +1514,7 @@ public final class JavaReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("BlockDeclaration", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_BlockDeclaration, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -1528,7 +1528,7 @@ public final class JavaReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
       final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("EmptyDeclaration", false);
+      yyValue = GNode.create(KIND_EmptyDeclaration, false);
       yyValue.setLocation(location(yyStart));
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -1598,7 +1598,7 @@ public final class JavaReader extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("ThrowsClause", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_ThrowsClause, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -1669,7 +1669,7 @@ public final class JavaReader extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("Extension", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_Extension, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -1740,7 +1740,7 @@ public final class JavaReader extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("Implementation", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_Implementation, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -1844,7 +1844,7 @@ public final class JavaReader extends ParserBase {
     { // Start scope for v$g$1.
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("Block", v$g$1);
+      yyValue = GNode.createFromPair(KIND_Block, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -1973,7 +1973,7 @@ public final class JavaReader extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$6 = yyResult.semanticValue();
 
-                yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5, v$g$6);
+                yyValue = GNode.create(KIND_ClassDeclaration, v$g$1, v$g$2, null, v$g$4, v$g$5, v$g$6);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -2018,7 +2018,7 @@ public final class JavaReader extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$5 = yyResult.semanticValue();
 
-              yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5);
+              yyValue = GNode.create(KIND_InterfaceDeclaration, v$g$1, v$g$2, null, v$g$4, v$g$5);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -2073,7 +2073,7 @@ public final class JavaReader extends ParserBase {
             final Node v$pt$1 = yyResult.semanticValue();
             final Node v$g$3 = Formatting.after1(v$pt$2, v$pt$1);
 
-            yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
+            yyValue = GNode.create(KIND_FieldDeclaration, v$g$1, v$g$2, v$g$3);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -2152,7 +2152,7 @@ public final class JavaReader extends ParserBase {
               final Node v$pt$4 = yyResult.semanticValue();
               final Node v$g$3 = Formatting.before1(v$pt$3, v$pt$4);
 
-              yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_ConditionalStatement, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -2163,7 +2163,7 @@ public final class JavaReader extends ParserBase {
 
           // Nested alternative 2.
 
-          yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, null);
+          yyValue = GNode.create(KIND_ConditionalStatement, v$g$1, v$g$2, null);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
@@ -2202,7 +2202,7 @@ public final class JavaReader extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("ForStatement", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_ForStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -2234,7 +2234,7 @@ public final class JavaReader extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_WhileStatement, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2273,7 +2273,7 @@ public final class JavaReader extends ParserBase {
               final Node v$pt$4 = yyResult.semanticValue();
               final Node v$g$2 = Formatting.after1(v$pt$5, v$pt$4);
 
-              yyValue = GNode.create("DoWhileStatement", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_DoWhileStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -2334,7 +2334,7 @@ public final class JavaReader extends ParserBase {
               final Node v$pt$4 = yyResult.semanticValue();
               final Node v$g$4 = Formatting.before1(v$pt$3, v$pt$4);
 
-              yyValue = GNode.create("TryCatchFinallyStatement", v$g$3.size() + 3).
+              yyValue = GNode.create(KIND_TryCatchFinallyStatement, v$g$3.size() + 3).
                 add(v$g$1).add(v$g$2).addAll(v$g$3).add(v$g$4);
               yyValue.setLocation(location(yyStart));
 
@@ -2368,7 +2368,7 @@ public final class JavaReader extends ParserBase {
         if (yyRepeated1) {
           final Pair<Node> v$g$5 = yyRepValue1.reverse();
 
-          yyValue = GNode.create("TryCatchFinallyStatement", v$g$5.size() + 3).
+          yyValue = GNode.create(KIND_TryCatchFinallyStatement, v$g$5.size() + 3).
             add(v$g$1).add(v$g$2).addAll(v$g$5).add(null);
           yyValue.setLocation(location(yyStart));
 
@@ -2415,7 +2415,7 @@ public final class JavaReader extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("SynchronizedStatement", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_SynchronizedStatement, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2451,7 +2451,7 @@ public final class JavaReader extends ParserBase {
           final Node v$pt$2 = yyResult.semanticValue();
           final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
-          yyValue = GNode.create("ReturnStatement", v$g$1);
+          yyValue = GNode.create(KIND_ReturnStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2480,7 +2480,7 @@ public final class JavaReader extends ParserBase {
           final Node v$pt$2 = yyResult.semanticValue();
           final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
-          yyValue = GNode.create("ThrowStatement", v$g$1);
+          yyValue = GNode.create(KIND_ThrowStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2518,7 +2518,7 @@ public final class JavaReader extends ParserBase {
           final Node v$pt$2 = yyResult.semanticValue();
           final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
-          yyValue = GNode.create("BreakStatement", v$g$1);
+          yyValue = GNode.create(KIND_BreakStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2556,7 +2556,7 @@ public final class JavaReader extends ParserBase {
           final Node v$pt$2 = yyResult.semanticValue();
           final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
-          yyValue = GNode.create("ContinueStatement", v$g$1);
+          yyValue = GNode.create(KIND_ContinueStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2585,7 +2585,7 @@ public final class JavaReader extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("LabeledStatement", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_LabeledStatement, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2609,7 +2609,7 @@ public final class JavaReader extends ParserBase {
         final Node v$pt$1 = yyResult.semanticValue();
         final Node v$g$1 = Formatting.after1(v$pt$2, v$pt$1);
 
-        yyValue = GNode.create("ExpressionStatement", v$g$1);
+        yyValue = GNode.create(KIND_ExpressionStatement, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -2662,7 +2662,7 @@ public final class JavaReader extends ParserBase {
             final Node v$pt$5 = yyResult.semanticValue();
             final Node v$g$2 = Formatting.after1(v$pt$6, v$pt$5);
 
-            yyValue = GNode.create("AssertStatement", v$g$1, v$g$2);
+            yyValue = GNode.create(KIND_AssertStatement, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -2680,7 +2680,7 @@ public final class JavaReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
       final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("EmptyStatement", false);
+      yyValue = GNode.create(KIND_EmptyStatement, false);
       yyValue.setLocation(location(yyStart));
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -2768,7 +2768,7 @@ public final class JavaReader extends ParserBase {
                 { // Start scope for v$g$5.
                   final Node v$g$5 = yyOpValue1;
 
-                  yyValue = GNode.create("BasicForControl", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+                  yyValue = GNode.create(KIND_BasicForControl, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
                   yyValue.setLocation(location(yyStart));
 
                   return new SemanticValue(yyValue, yyOption1, yyError);
@@ -2842,7 +2842,7 @@ public final class JavaReader extends ParserBase {
             { // Start scope for v$g$10.
               final Node v$g$10 = yyOpValue1;
 
-              yyValue = GNode.create("BasicForControl", null, null, v$g$8, v$g$9, v$g$10);
+              yyValue = GNode.create(KIND_BasicForControl, null, null, v$g$8, v$g$9, v$g$10);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyOption1, yyError);
@@ -2970,7 +2970,7 @@ public final class JavaReader extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("CatchClause", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_CatchClause, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -3045,7 +3045,7 @@ public final class JavaReader extends ParserBase {
           { // Start scope for v$g$2.
             final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-            yyValue = GNode.createFromPair("SwitchStatement", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_SwitchStatement, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -3115,7 +3115,7 @@ public final class JavaReader extends ParserBase {
           { // Start scope for v$g$2.
             final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-            yyValue = GNode.createFromPair("CaseClause", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_CaseClause, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -3196,7 +3196,7 @@ public final class JavaReader extends ParserBase {
     { // Start scope for v$g$1.
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("DefaultClause", v$g$1);
+      yyValue = GNode.createFromPair(KIND_DefaultClause, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -3255,7 +3255,7 @@ public final class JavaReader extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("ExpressionList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_ExpressionList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -3306,7 +3306,7 @@ public final class JavaReader extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$3 = yyResult.semanticValue();
 
-          yyValue = GNode.create("Expression", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_Expression, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -3526,7 +3526,7 @@ public final class JavaReader extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("ConditionalExpression", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_ConditionalExpression, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -3647,7 +3647,7 @@ public final class JavaReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("LogicalOrExpression", v$1, v$g$2);
+            return GNode.create(KIND_LogicalOrExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -3741,7 +3741,7 @@ public final class JavaReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("LogicalAndExpression", v$1, v$g$2);
+            return GNode.create(KIND_LogicalAndExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -3835,7 +3835,7 @@ public final class JavaReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseOrExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseOrExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -3929,7 +3929,7 @@ public final class JavaReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseXorExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseXorExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4023,7 +4023,7 @@ public final class JavaReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseAndExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseAndExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4116,7 +4116,7 @@ public final class JavaReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("EqualityExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_EqualityExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4200,7 +4200,7 @@ public final class JavaReader extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("InstanceOfExpression", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_InstanceOfExpression, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -4316,7 +4316,7 @@ public final class JavaReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("RelationalExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_RelationalExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4467,7 +4467,7 @@ public final class JavaReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("ShiftExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_ShiftExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4608,7 +4608,7 @@ public final class JavaReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("AdditiveExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_AdditiveExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4742,7 +4742,7 @@ public final class JavaReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("MultiplicativeExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_MultiplicativeExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4830,7 +4830,7 @@ public final class JavaReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_UnaryExpression, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -4849,7 +4849,7 @@ public final class JavaReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$3, v$g$4);
+        yyValue = GNode.create(KIND_UnaryExpression, v$g$3, v$g$4);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -4868,7 +4868,7 @@ public final class JavaReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$6 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$5, v$g$6);
+        yyValue = GNode.create(KIND_UnaryExpression, v$g$5, v$g$6);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -4887,7 +4887,7 @@ public final class JavaReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$8 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$7, v$g$8);
+        yyValue = GNode.create(KIND_UnaryExpression, v$g$7, v$g$8);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -4941,7 +4941,7 @@ public final class JavaReader extends ParserBase {
         final Node v$pt$2 = yyResult.semanticValue();
         final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-        yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
+        yyValue = GNode.create(KIND_BitwiseNegationExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -4961,7 +4961,7 @@ public final class JavaReader extends ParserBase {
         final Node v$pt$2 = yyResult.semanticValue();
         final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-        yyValue = GNode.create("LogicalNegationExpression", v$g$1);
+        yyValue = GNode.create(KIND_LogicalNegationExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5011,7 +5011,7 @@ public final class JavaReader extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("BasicCastExpression", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_BasicCastExpression, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -5041,7 +5041,7 @@ public final class JavaReader extends ParserBase {
           if (yyResult.hasValue()) {
             final Node v$g$2 = yyResult.semanticValue();
 
-            yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
+            yyValue = GNode.create(KIND_CastExpression, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -5166,7 +5166,7 @@ public final class JavaReader extends ParserBase {
 
             yyValue = new Action<Node>() {
               public Node run(Node v$1) {
-                return GNode.create("CallExpression", v$1, v$g$2, v$g$3, v$g$4);
+                return GNode.create(KIND_CallExpression, v$1, v$g$2, v$g$3, v$g$4);
               }};
 
             return yyResult.createValue(yyValue, yyError);
@@ -5188,7 +5188,7 @@ public final class JavaReader extends ParserBase {
 
             yyValue = new Action<Node>() {
               public Node run(Node v$1) {
-                return GNode.create("CallExpression", v$1, v$g$2, v$g$5, v$g$6);
+                return GNode.create(KIND_CallExpression, v$1, v$g$2, v$g$5, v$g$6);
               }};
 
             return yyResult.createValue(yyValue, yyError);
@@ -5208,7 +5208,7 @@ public final class JavaReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            Node yyValue = GNode.create("SuperExpression", v$1);
+            Node yyValue = GNode.create(KIND_SuperExpression, v$1);
             yyValue = Formatting.variable().addNode(yyValue).
               add(v$pt$1).add(v$pt$3);
             return yyValue;
@@ -5229,7 +5229,7 @@ public final class JavaReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("SelectionExpression", v$1, v$g$7);
+            return GNode.create(KIND_SelectionExpression, v$1, v$g$7);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -5257,7 +5257,7 @@ public final class JavaReader extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("SubscriptExpression", v$1, v$g$8);
+              return GNode.create(KIND_SubscriptExpression, v$1, v$g$8);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -5276,7 +5276,7 @@ public final class JavaReader extends ParserBase {
 
       yyValue = new Action<Node>() {
         public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$9);
+          return GNode.create(KIND_PostfixExpression, v$1, v$g$9);
         }};
 
       return yyResult.createValue(yyValue, yyError);
@@ -5291,7 +5291,7 @@ public final class JavaReader extends ParserBase {
 
       yyValue = new Action<Node>() {
         public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$10);
+          return GNode.create(KIND_PostfixExpression, v$1, v$g$10);
         }};
 
       return yyResult.createValue(yyValue, yyError);
@@ -5338,7 +5338,7 @@ public final class JavaReader extends ParserBase {
 
               yyValue = new Action<Node>() {
                 public Node run(Node v$1) {
-                  return GNode.create("NewClassExpression", v$1, v$g$11, v$g$12, v$g$13, v$g$14);
+                  return GNode.create(KIND_NewClassExpression, v$1, v$g$11, v$g$12, v$g$13, v$g$14);
                 }};
 
               return new SemanticValue(yyValue, yyOption1, yyError);
@@ -5394,7 +5394,7 @@ public final class JavaReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
+        yyValue = GNode.create(KIND_CallExpression, null, null, v$g$3, v$g$4);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5422,7 +5422,7 @@ public final class JavaReader extends ParserBase {
           final Node v$g$1 = Formatting.variable().
             addNode(v$pt$3).add(v$pt$1).add(v$pt$2);
 
-          yyValue = GNode.create("ClassLiteralExpression", v$g$1);
+          yyValue = GNode.create(KIND_ClassLiteralExpression, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -5446,7 +5446,7 @@ public final class JavaReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
+        yyValue = GNode.create(KIND_CallExpression, null, null, v$g$3, v$g$4);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5486,7 +5486,7 @@ public final class JavaReader extends ParserBase {
         final Node v$pt$3 = yyResult.semanticValue();
         final Node v$g$1 = Formatting.after1(v$pt$4, v$pt$3);
 
-        yyValue = GNode.create("ThisExpression", v$g$1);
+        yyValue = GNode.create(KIND_ThisExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5507,7 +5507,7 @@ public final class JavaReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
+        yyValue = GNode.create(KIND_CallExpression, null, null, v$g$3, v$g$4);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5522,7 +5522,7 @@ public final class JavaReader extends ParserBase {
       final Node v$pt$1 = yyResult.semanticValue();
       final Node v$g$1 = Formatting.after1(null, v$pt$1);
 
-      yyValue = GNode.create("SuperExpression", v$g$1);
+      yyValue = GNode.create(KIND_SuperExpression, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -5535,7 +5535,7 @@ public final class JavaReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimaryIdentifier", v$g$1);
+      yyValue = GNode.create(KIND_PrimaryIdentifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -5573,7 +5573,7 @@ public final class JavaReader extends ParserBase {
           { // Start scope for v$g$5.
             final Node v$g$5 = yyOpValue1;
 
-            yyValue = GNode.create("NewClassExpression", v$g$1, null, v$g$3, v$g$4, v$g$5);
+            yyValue = GNode.create(KIND_NewClassExpression, v$g$1, null, v$g$3, v$g$4, v$g$5);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyOption1, yyError);
@@ -5618,7 +5618,7 @@ public final class JavaReader extends ParserBase {
           { // Start scope for v$g$3.
             final Node v$g$3 = yyOpValue1;
 
-            yyValue = GNode.create("NewArrayExpression", v$g$1, v$g$2, v$g$3, null);
+            yyValue = GNode.create(KIND_NewArrayExpression, v$g$1, v$g$2, v$g$3, null);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyOption1, yyError);
@@ -5646,7 +5646,7 @@ public final class JavaReader extends ParserBase {
           if (yyResult.hasValue()) {
             final Node v$g$7 = yyResult.semanticValue();
 
-            yyValue = GNode.create("NewArrayExpression", v$g$1, null, v$g$6, v$g$7);
+            yyValue = GNode.create(KIND_NewArrayExpression, v$g$1, null, v$g$6, v$g$7);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -5726,7 +5726,7 @@ public final class JavaReader extends ParserBase {
     if (yyRepeated1) {
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("ConcreteDimensions", v$g$1);
+      yyValue = GNode.createFromPair(KIND_ConcreteDimensions, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -5868,7 +5868,7 @@ public final class JavaReader extends ParserBase {
             ((Node)yyResult.semanticValue()).getTokenText().equals("}")) {
           final Node v$pt$6 = yyResult.semanticValue();
 
-          yyValue = GNode.create("ArrayInitializer", false);
+          yyValue = GNode.create(KIND_ArrayInitializer, false);
           yyValue.setLocation(location(yyStart));
           yyValue = Formatting.variable().addNode(yyValue).
             add(v$pt$4).add(v$pt$5).add(v$pt$6);
@@ -5945,7 +5945,7 @@ public final class JavaReader extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("ArrayInitializer", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_ArrayInitializer, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -6055,7 +6055,7 @@ public final class JavaReader extends ParserBase {
           ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
         final Node v$pt$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("Arguments", false);
+        yyValue = GNode.create(KIND_Arguments, false);
         yyValue.setLocation(location(yyStart));
         yyValue = Formatting.variable().addNode(yyValue).
           add(v$pt$3).add(v$pt$4);
@@ -6129,7 +6129,7 @@ public final class JavaReader extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("Arguments", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_Arguments, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -6210,7 +6210,7 @@ public final class JavaReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("void")) {
       final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("VoidType", false);
+      yyValue = GNode.create(KIND_VoidType, false);
       yyValue.setLocation(location(yyStart));
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -6268,7 +6268,7 @@ public final class JavaReader extends ParserBase {
       { // Start scope for v$g$2.
         final Node v$g$2 = yyOpValue1;
 
-        yyValue = GNode.create("Type", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_Type, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -6356,7 +6356,7 @@ public final class JavaReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("byte")) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimitiveType", v$g$1);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6369,7 +6369,7 @@ public final class JavaReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("short")) {
       final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimitiveType", v$g$2);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6382,7 +6382,7 @@ public final class JavaReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("char")) {
       final Node v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimitiveType", v$g$3);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6395,7 +6395,7 @@ public final class JavaReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("int")) {
       final Node v$g$4 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimitiveType", v$g$4);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$4);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6408,7 +6408,7 @@ public final class JavaReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("long")) {
       final Node v$g$5 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimitiveType", v$g$5);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$5);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6421,7 +6421,7 @@ public final class JavaReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("float")) {
       final Node v$g$6 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimitiveType", v$g$6);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$6);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6434,7 +6434,7 @@ public final class JavaReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("double")) {
       final Node v$g$7 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimitiveType", v$g$7);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$7);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6447,7 +6447,7 @@ public final class JavaReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("boolean")) {
       final Node v$g$8 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimitiveType", v$g$8);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$8);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6488,7 +6488,7 @@ public final class JavaReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("Dimensions", v$g$1);
+      yyValue = GNode.createFromPair(KIND_Dimensions, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6654,7 +6654,7 @@ public final class JavaReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("true")) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("BooleanLiteral", v$g$1);
+      yyValue = GNode.create(KIND_BooleanLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6667,7 +6667,7 @@ public final class JavaReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("false")) {
       final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("BooleanLiteral", v$g$2);
+      yyValue = GNode.create(KIND_BooleanLiteral, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6680,7 +6680,7 @@ public final class JavaReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("null")) {
       final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("NullLiteral", false);
+      yyValue = GNode.create(KIND_NullLiteral, false);
       yyValue.setLocation(location(yyStart));
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -6713,7 +6713,7 @@ public final class JavaReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Token v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$1);
+      yyValue = GNode.create(KIND_IntegerLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6726,7 +6726,7 @@ public final class JavaReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Token v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$2);
+      yyValue = GNode.create(KIND_IntegerLiteral, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6739,7 +6739,7 @@ public final class JavaReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Token v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$3);
+      yyValue = GNode.create(KIND_IntegerLiteral, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -7282,7 +7282,7 @@ public final class JavaReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Token v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("FloatingPointLiteral", v$g$1);
+      yyValue = GNode.create(KIND_FloatingPointLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -7576,7 +7576,7 @@ public final class JavaReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Token v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("CharacterLiteral", v$g$1);
+      yyValue = GNode.create(KIND_CharacterLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -7607,7 +7607,7 @@ public final class JavaReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Token v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("StringLiteral", v$g$1);
+      yyValue = GNode.create(KIND_StringLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8434,7 +8434,7 @@ public final class JavaReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.createFromPair("QualifiedIdentifier", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_QualifiedIdentifier, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -9615,4 +9615,90 @@ public final class JavaReader extends ParserBase {
     return set.contains(value);
   }
 
+  // =========================================================================
+
+  private static final int KIND_CompilationUnit = GNode.kind("CompilationUnit");
+  private static final int KIND_PackageDeclaration = GNode.kind("PackageDeclaration");
+  private static final int KIND_ImportDeclaration = GNode.kind("ImportDeclaration");
+  private static final int KIND_Modifiers = GNode.kind("Modifiers");
+  private static final int KIND_Modifier = GNode.kind("Modifier");
+  private static final int KIND_FormalParameter = GNode.kind("FormalParameter");
+  private static final int KIND_FormalParameters = GNode.kind("FormalParameters");
+  private static final int KIND_Declarator = GNode.kind("Declarator");
+  private static final int KIND_Declarators = GNode.kind("Declarators");
+  private static final int KIND_ClassBody = GNode.kind("ClassBody");
+  private static final int KIND_FieldDeclaration = GNode.kind("FieldDeclaration");
+  private static final int KIND_MethodDeclaration = GNode.kind("MethodDeclaration");
+  private static final int KIND_ConstructorDeclaration = GNode.kind("ConstructorDeclaration");
+  private static final int KIND_ClassDeclaration = GNode.kind("ClassDeclaration");
+  private static final int KIND_InterfaceDeclaration = GNode.kind("InterfaceDeclaration");
+  private static final int KIND_BlockDeclaration = GNode.kind("BlockDeclaration");
+  private static final int KIND_EmptyDeclaration = GNode.kind("EmptyDeclaration");
+  private static final int KIND_ThrowsClause = GNode.kind("ThrowsClause");
+  private static final int KIND_Extension = GNode.kind("Extension");
+  private static final int KIND_Implementation = GNode.kind("Implementation");
+  private static final int KIND_Block = GNode.kind("Block");
+  private static final int KIND_ConditionalStatement = GNode.kind("ConditionalStatement");
+  private static final int KIND_ForStatement = GNode.kind("ForStatement");
+  private static final int KIND_WhileStatement = GNode.kind("WhileStatement");
+  private static final int KIND_DoWhileStatement = GNode.kind("DoWhileStatement");
+  private static final int KIND_TryCatchFinallyStatement = GNode.kind("TryCatchFinallyStatement");
+  private static final int KIND_SynchronizedStatement = GNode.kind("SynchronizedStatement");
+  private static final int KIND_ReturnStatement = GNode.kind("ReturnStatement");
+  private static final int KIND_ThrowStatement = GNode.kind("ThrowStatement");
+  private static final int KIND_BreakStatement = GNode.kind("BreakStatement");
+  private static final int KIND_ContinueStatement = GNode.kind("ContinueStatement");
+  private static final int KIND_LabeledStatement = GNode.kind("LabeledStatement");
+  private static final int KIND_ExpressionStatement = GNode.kind("ExpressionStatement");
+  private static final int KIND_AssertStatement = GNode.kind("AssertStatement");
+  private static final int KIND_EmptyStatement = GNode.kind("EmptyStatement");
+  private static final int KIND_BasicForControl = GNode.kind("BasicForControl");
+  private static final int KIND_CatchClause = GNode.kind("CatchClause");
+  private static final int KIND_SwitchStatement = GNode.kind("SwitchStatement");
+  private static final int KIND_CaseClause = GNode.kind("CaseClause");
+  private static final int KIND_DefaultClause = GNode.kind("DefaultClause");
+  private static final int KIND_ExpressionList = GNode.kind("ExpressionList");
+  private static final int KIND_Expression = GNode.kind("Expression");
+  private static final int KIND_ConditionalExpression = GNode.kind("ConditionalExpression");
+  private static final int KIND_LogicalOrExpression = GNode.kind("LogicalOrExpression");
+  private static final int KIND_LogicalAndExpression = GNode.kind("LogicalAndExpression");
+  private static final int KIND_BitwiseOrExpression = GNode.kind("BitwiseOrExpression");
+  private static final int KIND_BitwiseXorExpression = GNode.kind("BitwiseXorExpression");
+  private static final int KIND_BitwiseAndExpression = GNode.kind("BitwiseAndExpression");
+  private static final int KIND_EqualityExpression = GNode.kind("EqualityExpression");
+  private static final int KIND_InstanceOfExpression = GNode.kind("InstanceOfExpression");
+  private static final int KIND_RelationalExpression = GNode.kind("RelationalExpression");
+  private static final int KIND_ShiftExpression = GNode.kind("ShiftExpression");
+  private static final int KIND_AdditiveExpression = GNode.kind("AdditiveExpression");
+  private static final int KIND_MultiplicativeExpression = GNode.kind("MultiplicativeExpression");
+  private static final int KIND_UnaryExpression = GNode.kind("UnaryExpression");
+  private static final int KIND_BitwiseNegationExpression = GNode.kind("BitwiseNegationExpression");
+  private static final int KIND_LogicalNegationExpression = GNode.kind("LogicalNegationExpression");
+  private static final int KIND_BasicCastExpression = GNode.kind("BasicCastExpression");
+  private static final int KIND_CastExpression = GNode.kind("CastExpression");
+  private static final int KIND_CallExpression = GNode.kind("CallExpression");
+  private static final int KIND_SuperExpression = GNode.kind("SuperExpression");
+  private static final int KIND_SelectionExpression = GNode.kind("SelectionExpression");
+  private static final int KIND_SubscriptExpression = GNode.kind("SubscriptExpression");
+  private static final int KIND_PostfixExpression = GNode.kind("PostfixExpression");
+  private static final int KIND_NewClassExpression = GNode.kind("NewClassExpression");
+  private static final int KIND_ClassLiteralExpression = GNode.kind("ClassLiteralExpression");
+  private static final int KIND_ThisExpression = GNode.kind("ThisExpression");
+  private static final int KIND_PrimaryIdentifier = GNode.kind("PrimaryIdentifier");
+  private static final int KIND_NewArrayExpression = GNode.kind("NewArrayExpression");
+  private static final int KIND_ConcreteDimensions = GNode.kind("ConcreteDimensions");
+  private static final int KIND_ArrayInitializer = GNode.kind("ArrayInitializer");
+  private static final int KIND_Arguments = GNode.kind("Arguments");
+  private static final int KIND_VoidType = GNode.kind("VoidType");
+  private static final int KIND_Type = GNode.kind("Type");
+  private static final int KIND_PrimitiveType = GNode.kind("PrimitiveType");
+  private static final int KIND_Dimensions = GNode.kind("Dimensions");
+  private static final int KIND_BooleanLiteral = GNode.kind("BooleanLiteral");
+  private static final int KIND_NullLiteral = GNode.kind("NullLiteral");
+  private static final int KIND_IntegerLiteral = GNode.kind("IntegerLiteral");
+  private static final int KIND_FloatingPointLiteral = GNode.kind("FloatingPointLiteral");
+  private static final int KIND_CharacterLiteral = GNode.kind("CharacterLiteral");
+  private static final int KIND_StringLiteral = GNode.kind("StringLiteral");
+  private static final int KIND_QualifiedIdentifier = GNode.kind("QualifiedIdentifier");
+
 }
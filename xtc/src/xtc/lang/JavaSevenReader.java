@@ -263,7 +263,7 @@ public final class JavaSevenReader extends ParserBase {
           { // Start scope for v$g$3.
             final Pair<Node> v$g$3 = yyRepValue1.reverse();
 
-            yyValue = GNode.create("CompilationUnit", v$g$2.size() + v$g$3.size() + 1).
+            yyValue = GNode.create(KIND_CompilationUnit, v$g$2.size() + v$g$3.size() + 1).
               add(v$g$1).addAll(v$g$2).addAll(v$g$3);
             yyValue.setLocation(location(yyStart));
 
@@ -329,7 +329,7 @@ public final class JavaSevenReader extends ParserBase {
             final Node v$pt$3 = yyResult.semanticValue();
             final Node v$g$2 = Formatting.after1(v$pt$4, v$pt$3);
 
-            yyValue = GNode.create("PackageDeclaration", v$g$1, v$g$2);
+            yyValue = GNode.create(KIND_PackageDeclaration, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -414,7 +414,7 @@ public final class JavaSevenReader extends ParserBase {
               final Node v$pt$3 = yyResult.semanticValue();
               final Node v$g$3 = Formatting.after1(v$pt$4, v$pt$3);
 
-              yyValue = GNode.create("ImportDeclaration", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_ImportDeclaration, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -501,7 +501,7 @@ public final class JavaSevenReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("Modifiers", v$g$1);
+      yyValue = GNode.createFromPair(KIND_Modifiers, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -582,7 +582,7 @@ public final class JavaSevenReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("public")) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$1);
+      yyValue = GNode.create(KIND_Modifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -595,7 +595,7 @@ public final class JavaSevenReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("protected")) {
       final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$2);
+      yyValue = GNode.create(KIND_Modifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -608,7 +608,7 @@ public final class JavaSevenReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("private")) {
       final Node v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$3);
+      yyValue = GNode.create(KIND_Modifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -621,7 +621,7 @@ public final class JavaSevenReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("static")) {
       final Node v$g$4 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$4);
+      yyValue = GNode.create(KIND_Modifier, v$g$4);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -634,7 +634,7 @@ public final class JavaSevenReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("abstract")) {
       final Node v$g$5 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$5);
+      yyValue = GNode.create(KIND_Modifier, v$g$5);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -647,7 +647,7 @@ public final class JavaSevenReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("final")) {
       final Node v$g$6 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$6);
+      yyValue = GNode.create(KIND_Modifier, v$g$6);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -660,7 +660,7 @@ public final class JavaSevenReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("native")) {
       final Node v$g$7 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$7);
+      yyValue = GNode.create(KIND_Modifier, v$g$7);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -673,7 +673,7 @@ public final class JavaSevenReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("synchronized")) {
       final Node v$g$8 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$8);
+      yyValue = GNode.create(KIND_Modifier, v$g$8);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -686,7 +686,7 @@ public final class JavaSevenReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("transient")) {
       final Node v$g$9 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$9);
+      yyValue = GNode.create(KIND_Modifier, v$g$9);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -699,7 +699,7 @@ public final class JavaSevenReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("volatile")) {
       final Node v$g$10 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$10);
+      yyValue = GNode.create(KIND_Modifier, v$g$10);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -712,7 +712,7 @@ public final class JavaSevenReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("strictfp")) {
       final Node v$g$11 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$11);
+      yyValue = GNode.create(KIND_Modifier, v$g$11);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -788,7 +788,7 @@ public final class JavaSevenReader extends ParserBase {
             { // Start scope for v$g$5.
               final Node v$g$5 = yyOpValue1;
 
-              yyValue = GNode.create("FormalParameter", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+              yyValue = GNode.create(KIND_FormalParameter, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyOption1, yyError);
@@ -838,7 +838,7 @@ public final class JavaSevenReader extends ParserBase {
     { // Start scope for v$g$1.
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("Modifiers", v$g$1);
+      yyValue = GNode.createFromPair(KIND_Modifiers, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -866,7 +866,7 @@ public final class JavaSevenReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("final")) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifier", v$g$1);
+      yyValue = GNode.create(KIND_Modifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -934,7 +934,7 @@ public final class JavaSevenReader extends ParserBase {
           ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
         final Node v$pt$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("FormalParameters", false);
+        yyValue = GNode.create(KIND_FormalParameters, false);
         yyValue.setLocation(location(yyStart));
         yyValue = Formatting.variable().addNode(yyValue).
           add(v$pt$3).add(v$pt$4);
@@ -1010,7 +1010,7 @@ public final class JavaSevenReader extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("FormalParameters", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_FormalParameters, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -1084,7 +1084,7 @@ public final class JavaSevenReader extends ParserBase {
         { // Start scope for v$g$3.
           final Node v$g$3 = yyOpValue1;
 
-          yyValue = GNode.create("Declarator", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_Declarator, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -1131,7 +1131,7 @@ public final class JavaSevenReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.createFromPair("Declarators", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_Declarators, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -1279,7 +1279,7 @@ public final class JavaSevenReader extends ParserBase {
     { // Start scope for v$g$1.
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("ClassBody", v$g$1);
+      yyValue = GNode.createFromPair(KIND_ClassBody, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -1331,7 +1331,7 @@ public final class JavaSevenReader extends ParserBase {
             final Node v$pt$1 = yyResult.semanticValue();
             final Node v$g$3 = Formatting.after1(v$pt$2, v$pt$1);
 
-            yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
+            yyValue = GNode.create(KIND_FieldDeclaration, v$g$1, v$g$2, v$g$3);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -1412,7 +1412,7 @@ public final class JavaSevenReader extends ParserBase {
                   if (yyResult.hasValue()) {
                     final Node v$g$8 = yyResult.semanticValue();
 
-                    yyValue = GNode.create("MethodDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$8);
+                    yyValue = GNode.create(KIND_MethodDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$8);
                     yyValue.setLocation(location(yyStart));
 
                     return yyResult.createValue(yyValue, yyError);
@@ -1427,7 +1427,7 @@ public final class JavaSevenReader extends ParserBase {
                     final Node v$pt$1 = yyResult.semanticValue();
                     final Node v$g$9 = Formatting.after1(null, v$pt$1);
 
-                    yyValue = GNode.create("MethodDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$9);
+                    yyValue = GNode.create(KIND_MethodDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$9);
                     yyValue.setLocation(location(yyStart));
 
                     return yyResult.createValue(yyValue, yyError);
@@ -1471,7 +1471,7 @@ public final class JavaSevenReader extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$6 = yyResult.semanticValue();
 
-                yyValue = GNode.create("ConstructorDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
+                yyValue = GNode.create(KIND_ConstructorDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -1550,7 +1550,7 @@ public final class JavaSevenReader extends ParserBase {
                 if (yyResult.hasValue()) {
                   final Node v$g$6 = yyResult.semanticValue();
 
-                  yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
+                  yyValue = GNode.create(KIND_ClassDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -1609,7 +1609,7 @@ public final class JavaSevenReader extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$5 = yyResult.semanticValue();
 
-                yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+                yyValue = GNode.create(KIND_InterfaceDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -1653,7 +1653,7 @@ public final class JavaSevenReader extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("AnnotationDeclaration", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_AnnotationDeclaration, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -1758,7 +1758,7 @@ public final class JavaSevenReader extends ParserBase {
                       final Node v$pt$7 = yyResult.semanticValue();
                       final Node v$g$5 = Formatting.after1(v$pt$8, v$pt$7);
 
-                      yyValue = GNode.create("EnumDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+                      yyValue = GNode.create(KIND_EnumDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
                       yyValue.setLocation(location(yyStart));
 
                       return yyResult.createValue(yyValue, yyError);
@@ -1802,7 +1802,7 @@ public final class JavaSevenReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("BlockDeclaration", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_BlockDeclaration, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -1816,7 +1816,7 @@ public final class JavaSevenReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
       final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("EmptyDeclaration", false);
+      yyValue = GNode.create(KIND_EmptyDeclaration, false);
       yyValue.setLocation(location(yyStart));
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -1886,7 +1886,7 @@ public final class JavaSevenReader extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("ThrowsClause", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_ThrowsClause, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -1957,7 +1957,7 @@ public final class JavaSevenReader extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("Extension", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_Extension, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -2011,7 +2011,7 @@ public final class JavaSevenReader extends ParserBase {
         if (yyResult.hasValue()) {
           final Pair<Node> v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.createFromPair("Implementation", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_Implementation, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2174,7 +2174,7 @@ public final class JavaSevenReader extends ParserBase {
     { // Start scope for v$g$1.
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("Block", v$g$1);
+      yyValue = GNode.createFromPair(KIND_Block, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -2316,7 +2316,7 @@ public final class JavaSevenReader extends ParserBase {
                 if (yyResult.hasValue()) {
                   final Node v$g$6 = yyResult.semanticValue();
 
-                  yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
+                  yyValue = GNode.create(KIND_ClassDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -2375,7 +2375,7 @@ public final class JavaSevenReader extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$5 = yyResult.semanticValue();
 
-                yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+                yyValue = GNode.create(KIND_InterfaceDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -2431,7 +2431,7 @@ public final class JavaSevenReader extends ParserBase {
             final Node v$pt$1 = yyResult.semanticValue();
             final Node v$g$3 = Formatting.after1(v$pt$2, v$pt$1);
 
-            yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
+            yyValue = GNode.create(KIND_FieldDeclaration, v$g$1, v$g$2, v$g$3);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -2510,7 +2510,7 @@ public final class JavaSevenReader extends ParserBase {
               final Node v$pt$4 = yyResult.semanticValue();
               final Node v$g$3 = Formatting.before1(v$pt$3, v$pt$4);
 
-              yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_ConditionalStatement, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -2521,7 +2521,7 @@ public final class JavaSevenReader extends ParserBase {
 
           // Nested alternative 2.
 
-          yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, null);
+          yyValue = GNode.create(KIND_ConditionalStatement, v$g$1, v$g$2, null);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
@@ -2560,7 +2560,7 @@ public final class JavaSevenReader extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("ForStatement", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_ForStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -2592,7 +2592,7 @@ public final class JavaSevenReader extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_WhileStatement, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2631,7 +2631,7 @@ public final class JavaSevenReader extends ParserBase {
               final Node v$pt$4 = yyResult.semanticValue();
               final Node v$g$2 = Formatting.after1(v$pt$5, v$pt$4);
 
-              yyValue = GNode.create("DoWhileStatement", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_DoWhileStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -2706,7 +2706,7 @@ public final class JavaSevenReader extends ParserBase {
                 final Node v$pt$4 = yyResult.semanticValue();
                 final Node v$g$4 = Formatting.before1(v$pt$3, v$pt$4);
 
-                yyValue = GNode.create("TryCatchFinallyStatement", v$g$3.size() + 3).
+                yyValue = GNode.create(KIND_TryCatchFinallyStatement, v$g$3.size() + 3).
                   add(v$g$1).add(v$g$2).addAll(v$g$3).add(v$g$4);
                 yyValue.setLocation(location(yyStart));
 
@@ -2740,7 +2740,7 @@ public final class JavaSevenReader extends ParserBase {
           if (yyRepeated1) {
             final Pair<Node> v$g$5 = yyRepValue1.reverse();
 
-            yyValue = GNode.create("TryCatchFinallyStatement", v$g$5.size() + 3).
+            yyValue = GNode.create(KIND_TryCatchFinallyStatement, v$g$5.size() + 3).
               add(v$g$1).add(v$g$2).addAll(v$g$5).add(null);
             yyValue.setLocation(location(yyStart));
 
@@ -2788,7 +2788,7 @@ public final class JavaSevenReader extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("SynchronizedStatement", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_SynchronizedStatement, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2824,7 +2824,7 @@ public final class JavaSevenReader extends ParserBase {
           final Node v$pt$2 = yyResult.semanticValue();
           final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
-          yyValue = GNode.create("ReturnStatement", v$g$1);
+          yyValue = GNode.create(KIND_ReturnStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2853,7 +2853,7 @@ public final class JavaSevenReader extends ParserBase {
           final Node v$pt$2 = yyResult.semanticValue();
           final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
-          yyValue = GNode.create("ThrowStatement", v$g$1);
+          yyValue = GNode.create(KIND_ThrowStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2891,7 +2891,7 @@ public final class JavaSevenReader extends ParserBase {
           final Node v$pt$2 = yyResult.semanticValue();
           final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
-          yyValue = GNode.create("BreakStatement", v$g$1);
+          yyValue = GNode.create(KIND_BreakStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2929,7 +2929,7 @@ public final class JavaSevenReader extends ParserBase {
           final Node v$pt$2 = yyResult.semanticValue();
           final Node v$g$1 = Formatting.round1(v$pt$1, v$pt$3, v$pt$2);
 
-          yyValue = GNode.create("ContinueStatement", v$g$1);
+          yyValue = GNode.create(KIND_ContinueStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2958,7 +2958,7 @@ public final class JavaSevenReader extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("LabeledStatement", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_LabeledStatement, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -2982,7 +2982,7 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$pt$1 = yyResult.semanticValue();
         final Node v$g$1 = Formatting.after1(v$pt$2, v$pt$1);
 
-        yyValue = GNode.create("ExpressionStatement", v$g$1);
+        yyValue = GNode.create(KIND_ExpressionStatement, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -3035,7 +3035,7 @@ public final class JavaSevenReader extends ParserBase {
             final Node v$pt$5 = yyResult.semanticValue();
             final Node v$g$2 = Formatting.after1(v$pt$6, v$pt$5);
 
-            yyValue = GNode.create("AssertStatement", v$g$1, v$g$2);
+            yyValue = GNode.create(KIND_AssertStatement, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -3053,7 +3053,7 @@ public final class JavaSevenReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals(";")) {
       final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("EmptyStatement", false);
+      yyValue = GNode.create(KIND_EmptyStatement, false);
       yyValue.setLocation(location(yyStart));
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -3115,7 +3115,7 @@ public final class JavaSevenReader extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$4 = yyResult.semanticValue();
 
-              yyValue = GNode.create("EnhancedForControl", v$g$1, v$g$2, v$g$3, v$g$4);
+              yyValue = GNode.create(KIND_EnhancedForControl, v$g$1, v$g$2, v$g$3, v$g$4);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -3174,7 +3174,7 @@ public final class JavaSevenReader extends ParserBase {
                 { // Start scope for v$g$5.
                   final Node v$g$5 = yyOpValue1;
 
-                  yyValue = GNode.create("BasicForControl", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+                  yyValue = GNode.create(KIND_BasicForControl, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
                   yyValue.setLocation(location(yyStart));
 
                   return new SemanticValue(yyValue, yyOption1, yyError);
@@ -3248,7 +3248,7 @@ public final class JavaSevenReader extends ParserBase {
             { // Start scope for v$g$10.
               final Node v$g$10 = yyOpValue1;
 
-              yyValue = GNode.create("BasicForControl", null, null, v$g$8, v$g$9, v$g$10);
+              yyValue = GNode.create(KIND_BasicForControl, null, null, v$g$8, v$g$9, v$g$10);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyOption1, yyError);
@@ -3376,7 +3376,7 @@ public final class JavaSevenReader extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("CatchClause", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_CatchClause, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -3451,7 +3451,7 @@ public final class JavaSevenReader extends ParserBase {
           { // Start scope for v$g$2.
             final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-            yyValue = GNode.createFromPair("SwitchStatement", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_SwitchStatement, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -3521,7 +3521,7 @@ public final class JavaSevenReader extends ParserBase {
           { // Start scope for v$g$2.
             final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-            yyValue = GNode.createFromPair("CaseClause", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_CaseClause, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -3602,7 +3602,7 @@ public final class JavaSevenReader extends ParserBase {
     { // Start scope for v$g$1.
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("DefaultClause", v$g$1);
+      yyValue = GNode.createFromPair(KIND_DefaultClause, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -3661,7 +3661,7 @@ public final class JavaSevenReader extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("ExpressionList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_ExpressionList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -3712,7 +3712,7 @@ public final class JavaSevenReader extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$3 = yyResult.semanticValue();
 
-          yyValue = GNode.create("Expression", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_Expression, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -3932,7 +3932,7 @@ public final class JavaSevenReader extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("ConditionalExpression", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_ConditionalExpression, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -4054,7 +4054,7 @@ public final class JavaSevenReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("LogicalOrExpression", v$1, v$g$2);
+            return GNode.create(KIND_LogicalOrExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4149,7 +4149,7 @@ public final class JavaSevenReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("LogicalAndExpression", v$1, v$g$2);
+            return GNode.create(KIND_LogicalAndExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4244,7 +4244,7 @@ public final class JavaSevenReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseOrExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseOrExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4339,7 +4339,7 @@ public final class JavaSevenReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseXorExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseXorExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4434,7 +4434,7 @@ public final class JavaSevenReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseAndExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseAndExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4527,7 +4527,7 @@ public final class JavaSevenReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("EqualityExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_EqualityExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4611,7 +4611,7 @@ public final class JavaSevenReader extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("InstanceOfExpression", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_InstanceOfExpression, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -4728,7 +4728,7 @@ public final class JavaSevenReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("RelationalExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_RelationalExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -4879,7 +4879,7 @@ public final class JavaSevenReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("ShiftExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_ShiftExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -5020,7 +5020,7 @@ public final class JavaSevenReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("AdditiveExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_AdditiveExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -5154,7 +5154,7 @@ public final class JavaSevenReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("MultiplicativeExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_MultiplicativeExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -5242,7 +5242,7 @@ public final class JavaSevenReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_UnaryExpression, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5261,7 +5261,7 @@ public final class JavaSevenReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$3, v$g$4);
+        yyValue = GNode.create(KIND_UnaryExpression, v$g$3, v$g$4);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5280,7 +5280,7 @@ public final class JavaSevenReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$6 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$5, v$g$6);
+        yyValue = GNode.create(KIND_UnaryExpression, v$g$5, v$g$6);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5299,7 +5299,7 @@ public final class JavaSevenReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$8 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$7, v$g$8);
+        yyValue = GNode.create(KIND_UnaryExpression, v$g$7, v$g$8);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5353,7 +5353,7 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$pt$2 = yyResult.semanticValue();
         final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-        yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
+        yyValue = GNode.create(KIND_BitwiseNegationExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5373,7 +5373,7 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$pt$2 = yyResult.semanticValue();
         final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-        yyValue = GNode.create("LogicalNegationExpression", v$g$1);
+        yyValue = GNode.create(KIND_LogicalNegationExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5423,7 +5423,7 @@ public final class JavaSevenReader extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("BasicCastExpression", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_BasicCastExpression, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -5453,7 +5453,7 @@ public final class JavaSevenReader extends ParserBase {
           if (yyResult.hasValue()) {
             final Node v$g$2 = yyResult.semanticValue();
 
-            yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
+            yyValue = GNode.create(KIND_CastExpression, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -5587,7 +5587,7 @@ public final class JavaSevenReader extends ParserBase {
 
             yyValue = new Action<Node>() {
               public Node run(Node v$1) {
-                return GNode.create("CallExpression", v$1, v$g$2, v$g$3, v$g$4);
+                return GNode.create(KIND_CallExpression, v$1, v$g$2, v$g$3, v$g$4);
               }};
 
             return yyResult.createValue(yyValue, yyError);
@@ -5611,7 +5611,7 @@ public final class JavaSevenReader extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("CallExpression", v$1, v$g$5, v$g$6, v$g$7);
+              return GNode.create(KIND_CallExpression, v$1, v$g$5, v$g$6, v$g$7);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -5630,7 +5630,7 @@ public final class JavaSevenReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            Node yyValue = GNode.create("SuperExpression", v$1);
+            Node yyValue = GNode.create(KIND_SuperExpression, v$1);
             yyValue = Formatting.variable().addNode(yyValue).
               add(v$pt$1).add(v$pt$4);
             return yyValue;
@@ -5651,7 +5651,7 @@ public final class JavaSevenReader extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("SelectionExpression", v$1, v$g$8);
+            return GNode.create(KIND_SelectionExpression, v$1, v$g$8);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -5679,7 +5679,7 @@ public final class JavaSevenReader extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("SubscriptExpression", v$1, v$g$9);
+              return GNode.create(KIND_SubscriptExpression, v$1, v$g$9);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -5698,7 +5698,7 @@ public final class JavaSevenReader extends ParserBase {
 
       yyValue = new Action<Node>() {
         public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$10);
+          return GNode.create(KIND_PostfixExpression, v$1, v$g$10);
         }};
 
       return yyResult.createValue(yyValue, yyError);
@@ -5713,7 +5713,7 @@ public final class JavaSevenReader extends ParserBase {
 
       yyValue = new Action<Node>() {
         public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$11);
+          return GNode.create(KIND_PostfixExpression, v$1, v$g$11);
         }};
 
       return yyResult.createValue(yyValue, yyError);
@@ -5774,7 +5774,7 @@ public final class JavaSevenReader extends ParserBase {
 
                 yyValue = new Action<Node>() {
                   public Node run(Node v$1) {
-                    return GNode.create("NewClassExpression", v$1, v$g$12, v$g$13, v$g$14, v$g$15);
+                    return GNode.create(KIND_NewClassExpression, v$1, v$g$12, v$g$13, v$g$14, v$g$15);
                   }};
 
                 return new SemanticValue(yyValue, yyOption1, yyError);
@@ -5845,7 +5845,7 @@ public final class JavaSevenReader extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$4 = yyResult.semanticValue();
 
-          yyValue = GNode.create("CallExpression", null, v$g$2, v$g$3, v$g$4);
+          yyValue = GNode.create(KIND_CallExpression, null, v$g$2, v$g$3, v$g$4);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -5874,7 +5874,7 @@ public final class JavaSevenReader extends ParserBase {
           final Node v$g$1 = Formatting.variable().
             addNode(v$pt$3).add(v$pt$1).add(v$pt$2);
 
-          yyValue = GNode.create("ClassLiteralExpression", v$g$1);
+          yyValue = GNode.create(KIND_ClassLiteralExpression, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -5898,7 +5898,7 @@ public final class JavaSevenReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
+        yyValue = GNode.create(KIND_CallExpression, null, null, v$g$3, v$g$4);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5938,7 +5938,7 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$pt$3 = yyResult.semanticValue();
         final Node v$g$1 = Formatting.after1(v$pt$4, v$pt$3);
 
-        yyValue = GNode.create("ThisExpression", v$g$1);
+        yyValue = GNode.create(KIND_ThisExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5959,7 +5959,7 @@ public final class JavaSevenReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
+        yyValue = GNode.create(KIND_CallExpression, null, null, v$g$3, v$g$4);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -5974,7 +5974,7 @@ public final class JavaSevenReader extends ParserBase {
       final Node v$pt$1 = yyResult.semanticValue();
       final Node v$g$1 = Formatting.after1(null, v$pt$1);
 
-      yyValue = GNode.create("SuperExpression", v$g$1);
+      yyValue = GNode.create(KIND_SuperExpression, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -5987,7 +5987,7 @@ public final class JavaSevenReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimaryIdentifier", v$g$1);
+      yyValue = GNode.create(KIND_PrimaryIdentifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6039,7 +6039,7 @@ public final class JavaSevenReader extends ParserBase {
             { // Start scope for v$g$5.
               final Node v$g$5 = yyOpValue1;
 
-              yyValue = GNode.create("NewClassExpression", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+              yyValue = GNode.create(KIND_NewClassExpression, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyOption1, yyError);
@@ -6085,7 +6085,7 @@ public final class JavaSevenReader extends ParserBase {
           { // Start scope for v$g$3.
             final Node v$g$3 = yyOpValue1;
 
-            yyValue = GNode.create("NewArrayExpression", v$g$1, v$g$2, v$g$3, null);
+            yyValue = GNode.create(KIND_NewArrayExpression, v$g$1, v$g$2, v$g$3, null);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyOption1, yyError);
@@ -6113,7 +6113,7 @@ public final class JavaSevenReader extends ParserBase {
           if (yyResult.hasValue()) {
             final Node v$g$7 = yyResult.semanticValue();
 
-            yyValue = GNode.create("NewArrayExpression", v$g$1, null, v$g$6, v$g$7);
+            yyValue = GNode.create(KIND_NewArrayExpression, v$g$1, null, v$g$6, v$g$7);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -6193,7 +6193,7 @@ public final class JavaSevenReader extends ParserBase {
     if (yyRepeated1) {
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("ConcreteDimensions", v$g$1);
+      yyValue = GNode.createFromPair(KIND_ConcreteDimensions, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -6335,7 +6335,7 @@ public final class JavaSevenReader extends ParserBase {
             ((Node)yyResult.semanticValue()).getTokenText().equals("}")) {
           final Node v$pt$6 = yyResult.semanticValue();
 
-          yyValue = GNode.create("ArrayInitializer", false);
+          yyValue = GNode.create(KIND_ArrayInitializer, false);
           yyValue.setLocation(location(yyStart));
           yyValue = Formatting.variable().addNode(yyValue).
             add(v$pt$4).add(v$pt$5).add(v$pt$6);
@@ -6412,7 +6412,7 @@ public final class JavaSevenReader extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("ArrayInitializer", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_ArrayInitializer, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -6522,7 +6522,7 @@ public final class JavaSevenReader extends ParserBase {
           ((Node)yyResult.semanticValue()).getTokenText().equals(")")) {
         final Node v$pt$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("Arguments", false);
+        yyValue = GNode.create(KIND_Arguments, false);
         yyValue.setLocation(location(yyStart));
         yyValue = Formatting.variable().addNode(yyValue).
           add(v$pt$3).add(v$pt$4);
@@ -6596,7 +6596,7 @@ public final class JavaSevenReader extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("Arguments", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_Arguments, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -6677,7 +6677,7 @@ public final class JavaSevenReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("Annotations", v$g$1);
+      yyValue = GNode.createFromPair(KIND_Annotations, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6774,7 +6774,7 @@ public final class JavaSevenReader extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("Annotation", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_Annotation, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -6923,7 +6923,7 @@ public final class JavaSevenReader extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("ElementValuePairs", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_ElementValuePairs, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -6977,7 +6977,7 @@ public final class JavaSevenReader extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("ElementValuePair", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_ElementValuePair, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -7136,7 +7136,7 @@ public final class JavaSevenReader extends ParserBase {
             ((Node)yyResult.semanticValue()).getTokenText().equals("}")) {
           final Node v$pt$6 = yyResult.semanticValue();
 
-          yyValue = GNode.create("ArrayInitializer", false);
+          yyValue = GNode.create(KIND_ArrayInitializer, false);
           yyValue.setLocation(location(yyStart));
           yyValue = Formatting.variable().addNode(yyValue).
             add(v$pt$4).add(v$pt$5).add(v$pt$6);
@@ -7214,7 +7214,7 @@ public final class JavaSevenReader extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("ArrayInitializer", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_ArrayInitializer, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -7311,7 +7311,7 @@ public final class JavaSevenReader extends ParserBase {
     { // Start scope for v$g$1.
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("ClassBody", v$g$1);
+      yyValue = GNode.createFromPair(KIND_ClassBody, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -7391,7 +7391,7 @@ public final class JavaSevenReader extends ParserBase {
                   final Node v$pt$4 = yyResult.semanticValue();
                   final Node v$g$4 = Formatting.after1(v$pt$5, v$pt$4);
 
-                  yyValue = GNode.create("AnnotationMethod", v$g$1, v$g$2, v$g$3, v$g$4);
+                  yyValue = GNode.create(KIND_AnnotationMethod, v$g$1, v$g$2, v$g$3, v$g$4);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -7421,7 +7421,7 @@ public final class JavaSevenReader extends ParserBase {
             final Node v$pt$1 = yyResult.semanticValue();
             final Node v$g$3 = Formatting.after1(v$pt$2, v$pt$1);
 
-            yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
+            yyValue = GNode.create(KIND_FieldDeclaration, v$g$1, v$g$2, v$g$3);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -7500,7 +7500,7 @@ public final class JavaSevenReader extends ParserBase {
                 if (yyResult.hasValue()) {
                   final Node v$g$6 = yyResult.semanticValue();
 
-                  yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
+                  yyValue = GNode.create(KIND_ClassDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5, v$g$6);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -7559,7 +7559,7 @@ public final class JavaSevenReader extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$5 = yyResult.semanticValue();
 
-                yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+                yyValue = GNode.create(KIND_InterfaceDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -7657,7 +7657,7 @@ public final class JavaSevenReader extends ParserBase {
                       final Node v$pt$7 = yyResult.semanticValue();
                       final Node v$g$5 = Formatting.after1(v$pt$8, v$pt$7);
 
-                      yyValue = GNode.create("EnumDeclaration", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+                      yyValue = GNode.create(KIND_EnumDeclaration, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
                       yyValue.setLocation(location(yyStart));
 
                       return yyResult.createValue(yyValue, yyError);
@@ -7708,7 +7708,7 @@ public final class JavaSevenReader extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("AnnotationDeclaration", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_AnnotationDeclaration, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -7753,7 +7753,7 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$pt$2 = yyResult.semanticValue();
         final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-        yyValue = GNode.create("DefaultValue", v$g$1);
+        yyValue = GNode.create(KIND_DefaultValue, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -7817,7 +7817,7 @@ public final class JavaSevenReader extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("EnumConstants", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_EnumConstants, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -7892,7 +7892,7 @@ public final class JavaSevenReader extends ParserBase {
           { // Start scope for v$g$4.
             final Node v$g$4 = yyOpValue1;
 
-            yyValue = GNode.create("EnumConstant", v$g$1, v$g$2, v$g$3, v$g$4);
+            yyValue = GNode.create(KIND_EnumConstant, v$g$1, v$g$2, v$g$3, v$g$4);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyOption1, yyError);
@@ -7977,7 +7977,7 @@ public final class JavaSevenReader extends ParserBase {
     { // Start scope for v$g$1.
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("EnumMembers", v$g$1);
+      yyValue = GNode.createFromPair(KIND_EnumMembers, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -8107,7 +8107,7 @@ public final class JavaSevenReader extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("ResourceSpecification", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_ResourceSpecification, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -8160,7 +8160,7 @@ public final class JavaSevenReader extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$3 = yyResult.semanticValue();
 
-          yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_FieldDeclaration, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -8193,7 +8193,7 @@ public final class JavaSevenReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Declarators", v$g$1);
+      yyValue = GNode.create(KIND_Declarators, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8237,7 +8237,7 @@ public final class JavaSevenReader extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$3 = yyResult.semanticValue();
 
-          yyValue = GNode.create("Declarator", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_Declarator, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -8313,7 +8313,7 @@ public final class JavaSevenReader extends ParserBase {
           if (yyResult.hasValue()) {
             final Node v$g$5 = yyResult.semanticValue();
 
-            yyValue = GNode.create("FormalParameter", v$g$3.size() + 5).
+            yyValue = GNode.create(KIND_FormalParameter, v$g$3.size() + 5).
               add(v$g$1).add(v$g$2).addAll(v$g$3).add(null).add(v$g$5).add(null);
             yyValue.setLocation(location(yyStart));
 
@@ -8395,7 +8395,7 @@ public final class JavaSevenReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("void")) {
       final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("VoidType", false);
+      yyValue = GNode.create(KIND_VoidType, false);
       yyValue.setLocation(location(yyStart));
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -8453,7 +8453,7 @@ public final class JavaSevenReader extends ParserBase {
       { // Start scope for v$g$2.
         final Node v$g$2 = yyOpValue1;
 
-        yyValue = GNode.create("Type", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_Type, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -8541,7 +8541,7 @@ public final class JavaSevenReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("byte")) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimitiveType", v$g$1);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8554,7 +8554,7 @@ public final class JavaSevenReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("short")) {
       final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimitiveType", v$g$2);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8567,7 +8567,7 @@ public final class JavaSevenReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("char")) {
       final Node v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimitiveType", v$g$3);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8580,7 +8580,7 @@ public final class JavaSevenReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("int")) {
       final Node v$g$4 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimitiveType", v$g$4);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$4);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8593,7 +8593,7 @@ public final class JavaSevenReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("long")) {
       final Node v$g$5 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimitiveType", v$g$5);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$5);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8606,7 +8606,7 @@ public final class JavaSevenReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("float")) {
       final Node v$g$6 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimitiveType", v$g$6);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$6);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8619,7 +8619,7 @@ public final class JavaSevenReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("double")) {
       final Node v$g$7 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimitiveType", v$g$7);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$7);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8632,7 +8632,7 @@ public final class JavaSevenReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("boolean")) {
       final Node v$g$8 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimitiveType", v$g$8);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$8);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8726,7 +8726,7 @@ public final class JavaSevenReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("Dimensions", v$g$1);
+      yyValue = GNode.createFromPair(KIND_Dimensions, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8928,7 +8928,7 @@ public final class JavaSevenReader extends ParserBase {
           { // Start scope for v$g$2.
             final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-            yyValue = GNode.createFromPair("TypeParameters", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_TypeParameters, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -8999,7 +8999,7 @@ public final class JavaSevenReader extends ParserBase {
       { // Start scope for v$g$2.
         final Node v$g$2 = yyOpValue1;
 
-        yyValue = GNode.create("TypeParameter", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_TypeParameter, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -9062,7 +9062,7 @@ public final class JavaSevenReader extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("Bound", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_Bound, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -9198,7 +9198,7 @@ public final class JavaSevenReader extends ParserBase {
           { // Start scope for v$g$2.
             final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-            yyValue = GNode.createFromPair("TypeArguments", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_TypeArguments, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -9297,7 +9297,7 @@ public final class JavaSevenReader extends ParserBase {
         final Node v$pt$2 = yyOpValue1;
         final Node v$g$1 = Formatting.before1(v$pt$1, v$pt$2);
 
-        yyValue = GNode.create("Wildcard", v$g$1);
+        yyValue = GNode.create(KIND_Wildcard, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -9335,7 +9335,7 @@ public final class JavaSevenReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("WildcardBound", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_WildcardBound, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -9354,7 +9354,7 @@ public final class JavaSevenReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("WildcardBound", v$g$3, v$g$4);
+        yyValue = GNode.create(KIND_WildcardBound, v$g$3, v$g$4);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -9418,7 +9418,7 @@ public final class JavaSevenReader extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("InstantiatedType", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_InstantiatedType, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -9475,7 +9475,7 @@ public final class JavaSevenReader extends ParserBase {
       { // Start scope for v$g$2.
         final Node v$g$2 = yyOpValue1;
 
-        yyValue = GNode.create("TypeInstantiation", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_TypeInstantiation, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -9575,7 +9575,7 @@ public final class JavaSevenReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("true")) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("BooleanLiteral", v$g$1);
+      yyValue = GNode.create(KIND_BooleanLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9588,7 +9588,7 @@ public final class JavaSevenReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("false")) {
       final Node v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("BooleanLiteral", v$g$2);
+      yyValue = GNode.create(KIND_BooleanLiteral, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9601,7 +9601,7 @@ public final class JavaSevenReader extends ParserBase {
         ((Node)yyResult.semanticValue()).getTokenText().equals("null")) {
       final Node v$pt$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("NullLiteral", false);
+      yyValue = GNode.create(KIND_NullLiteral, false);
       yyValue.setLocation(location(yyStart));
       yyValue = Formatting.after1(yyValue, v$pt$1);
 
@@ -9634,7 +9634,7 @@ public final class JavaSevenReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Token v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$1);
+      yyValue = GNode.create(KIND_IntegerLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9647,7 +9647,7 @@ public final class JavaSevenReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Token v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$2);
+      yyValue = GNode.create(KIND_IntegerLiteral, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9660,7 +9660,7 @@ public final class JavaSevenReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Token v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$3);
+      yyValue = GNode.create(KIND_IntegerLiteral, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9673,7 +9673,7 @@ public final class JavaSevenReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Token v$g$4 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$4);
+      yyValue = GNode.create(KIND_IntegerLiteral, v$g$4);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -10535,7 +10535,7 @@ public final class JavaSevenReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Token v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("FloatingPointLiteral", v$g$1);
+      yyValue = GNode.create(KIND_FloatingPointLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -10829,7 +10829,7 @@ public final class JavaSevenReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Token v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("CharacterLiteral", v$g$1);
+      yyValue = GNode.create(KIND_CharacterLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -10860,7 +10860,7 @@ public final class JavaSevenReader extends ParserBase {
     if (yyResult.hasValue()) {
       final Token v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("StringLiteral", v$g$1);
+      yyValue = GNode.create(KIND_StringLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -11889,7 +11889,7 @@ public final class JavaSevenReader extends ParserBase {
       if (yyResult.hasValue()) {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.createFromPair("QualifiedIdentifier", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_QualifiedIdentifier, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -13107,4 +13107,111 @@ public final class JavaSevenReader extends ParserBase {
     return set.contains(value);
   }
 
+  // =========================================================================
+
+  private static final int KIND_CompilationUnit = GNode.kind("CompilationUnit");
+  private static final int KIND_PackageDeclaration = GNode.kind("PackageDeclaration");
+  private static final int KIND_ImportDeclaration = GNode.kind("ImportDeclaration");
+  private static final int KIND_Modifiers = GNode.kind("Modifiers");
+  private static final int KIND_Modifier = GNode.kind("Modifier");
+  private static final int KIND_FormalParameter = GNode.kind("FormalParameter");
+  private static final int KIND_FormalParameters = GNode.kind("FormalParameters");
+  private static final int KIND_Declarator = GNode.kind("Declarator");
+  private static final int KIND_Declarators = GNode.kind("Declarators");
+  private static final int KIND_ClassBody = GNode.kind("ClassBody");
+  private static final int KIND_FieldDeclaration = GNode.kind("FieldDeclaration");
+  private static final int KIND_MethodDeclaration = GNode.kind("MethodDeclaration");
+  private static final int KIND_ConstructorDeclaration = GNode.kind("ConstructorDeclaration");
+  private static final int KIND_ClassDeclaration = GNode.kind("ClassDeclaration");
+  private static final int KIND_InterfaceDeclaration = GNode.kind("InterfaceDeclaration");
+  private static final int KIND_AnnotationDeclaration = GNode.kind("AnnotationDeclaration");
+  private static final int KIND_EnumDeclaration = GNode.kind("EnumDeclaration");
+  private static final int KIND_BlockDeclaration = GNode.kind("BlockDeclaration");
+  private static final int KIND_EmptyDeclaration = GNode.kind("EmptyDeclaration");
+  private static final int KIND_ThrowsClause = GNode.kind("ThrowsClause");
+  private static final int KIND_Extension = GNode.kind("Extension");
+  private static final int KIND_Implementation = GNode.kind("Implementation");
+  private static final int KIND_Block = GNode.kind("Block");
+  private static final int KIND_ConditionalStatement = GNode.kind("ConditionalStatement");
+  private static final int KIND_ForStatement = GNode.kind("ForStatement");
+  private static final int KIND_WhileStatement = GNode.kind("WhileStatement");
+  private static final int KIND_DoWhileStatement = GNode.kind("DoWhileStatement");
+  private static final int KIND_TryCatchFinallyStatement = GNode.kind("TryCatchFinallyStatement");
+  private static final int KIND_SynchronizedStatement = GNode.kind("SynchronizedStatement");
+  private static final int KIND_ReturnStatement = GNode.kind("ReturnStatement");
+  private static final int KIND_ThrowStatement = GNode.kind("ThrowStatement");
+  private static final int KIND_BreakStatement = GNode.kind("BreakStatement");
+  private static final int KIND_ContinueStatement = GNode.kind("ContinueStatement");
+  private static final int KIND_LabeledStatement = GNode.kind("LabeledStatement");
+  private static final int KIND_ExpressionStatement = GNode.kind("ExpressionStatement");
+  private static final int KIND_AssertStatement = GNode.kind("AssertStatement");
+  private static final int KIND_EmptyStatement = GNode.kind("EmptyStatement");
+  private static final int KIND_EnhancedForControl = GNode.kind("EnhancedForControl");
+  private static final int KIND_BasicForControl = GNode.kind("BasicForControl");
+  private static final int KIND_CatchClause = GNode.kind("CatchClause");
+  private static final int KIND_SwitchStatement = GNode.kind("SwitchStatement");
+  private static final int KIND_CaseClause = GNode.kind("CaseClause");
+  private static final int KIND_DefaultClause = GNode.kind("DefaultClause");
+  private static final int KIND_ExpressionList = GNode.kind("ExpressionList");
+  private static final int KIND_Expression = GNode.kind("Expression");
+  private static final int KIND_ConditionalExpression = GNode.kind("ConditionalExpression");
+  private static final int KIND_LogicalOrExpression = GNode.kind("LogicalOrExpression");
+  private static final int KIND_LogicalAndExpression = GNode.kind("LogicalAndExpression");
+  private static final int KIND_BitwiseOrExpression = GNode.kind("BitwiseOrExpression");
+  private static final int KIND_BitwiseXorExpression = GNode.kind("BitwiseXorExpression");
+  private static final int KIND_BitwiseAndExpression = GNode.kind("BitwiseAndExpression");
+  private static final int KIND_EqualityExpression = GNode.kind("EqualityExpression");
+  private static final int KIND_InstanceOfExpression = GNode.kind("InstanceOfExpression");
+  private static final int KIND_RelationalExpression = GNode.kind("RelationalExpression");
+  private static final int KIND_ShiftExpression = GNode.kind("ShiftExpression");
+  private static final int KIND_AdditiveExpression = GNode.kind("AdditiveExpression");
+  private static final int KIND_MultiplicativeExpression = GNode.kind("MultiplicativeExpression");
+  private static final int KIND_UnaryExpression = GNode.kind("UnaryExpression");
+  private static final int KIND_BitwiseNegationExpression = GNode.kind("BitwiseNegationExpression");
+  private static final int KIND_LogicalNegationExpression = GNode.kind("LogicalNegationExpression");
+  private static final int KIND_BasicCastExpression = GNode.kind("BasicCastExpression");
+  private static final int KIND_CastExpression = GNode.kind("CastExpression");
+  private static final int KIND_CallExpression = GNode.kind("CallExpression");
+  private static final int KIND_SuperExpression = GNode.kind("SuperExpression");
+  private static final int KIND_SelectionExpression = GNode.kind("SelectionExpression");
+  private static final int KIND_SubscriptExpression = GNode.kind("SubscriptExpression");
+  private static final int KIND_PostfixExpression = GNode.kind("PostfixExpression");
+  private static final int KIND_NewClassExpression = GNode.kind("NewClassExpression");
+  private static final int KIND_ClassLiteralExpression = GNode.kind("ClassLiteralExpression");
+  private static final int KIND_ThisExpression = GNode.kind("ThisExpression");
+  private static final int KIND_PrimaryIdentifier = GNode.kind("PrimaryIdentifier");
+  private static final int KIND_NewArrayExpression = GNode.kind("NewArrayExpression");
+  private static final int KIND_ConcreteDimensions = GNode.kind("ConcreteDimensions");
+  private static final int KIND_ArrayInitializer = GNode.kind("ArrayInitializer");
+  private static final int KIND_Arguments = GNode.kind("Arguments");
+  private static final int KIND_Annotations = GNode.kind("Annotations");
+  private static final int KIND_Annotation = GNode.kind("Annotation");
+  private static final int KIND_ElementValuePairs = GNode.kind("ElementValuePairs");
+  private static final int KIND_ElementValuePair = GNode.kind("ElementValuePair");
+  private static final int KIND_AnnotationMethod = GNode.kind("AnnotationMethod");
+  private static final int KIND_DefaultValue = GNode.kind("DefaultValue");
+  private static final int KIND_EnumConstants = GNode.kind("EnumConstants");
+  private static final int KIND_EnumConstant = GNode.kind("EnumConstant");
+  private static final int KIND_EnumMembers = GNode.kind("EnumMembers");
+  private static final int KIND_ResourceSpecification = GNode.kind("ResourceSpecification");
+  private static final int KIND_VoidType = GNode.kind("VoidType");
+  private static final int KIND_Type = GNode.kind("Type");
+  private static final int KIND_PrimitiveType = GNode.kind("PrimitiveType");
+  private static final int KIND_Dimensions = GNode.kind("Dimensions");
+  private static final int KIND_TypeParameters = GNode.kind("TypeParameters");
+  private static final int KIND_TypeParameter = GNode.kind("TypeParameter");
+  private static final int KIND_Bound = GNode.kind("Bound");
+  private static final int KIND_TypeArguments = GNode.kind("TypeArguments");
+  private static final int KIND_Wildcard = GNode.kind("Wildcard");
+  private static final int KIND_WildcardBound = GNode.kind("WildcardBound");
+  private static final int KIND_InstantiatedType = GNode.kind("InstantiatedType");
+  private static final int KIND_TypeInstantiation = GNode.kind("TypeInstantiation");
+  private static final int KIND_BooleanLiteral = GNode.kind("BooleanLiteral");
+  private static final int KIND_NullLiteral = GNode.kind("NullLiteral");
+  private static final int KIND_IntegerLiteral = GNode.kind("IntegerLiteral");
+  private static final int KIND_FloatingPointLiteral = GNode.kind("FloatingPointLiteral");
+  private static final int KIND_CharacterLiteral = GNode.kind("CharacterLiteral");
+  private static final int KIND_StringLiteral = GNode.kind("StringLiteral");
+  private static final int KIND_QualifiedIdentifier = GNode.kind("QualifiedIdentifier");
+
 }
@@ -194,7 +194,7 @@ public final class TypedLambdaParser extends ParserBase {
 
       yyValue = new Action<Node>() {
         public Node run(Node v$1) {
-          return GNode.create("Application", v$1, v$g$2);
+          return GNode.create(KIND_Application, v$1, v$g$2);
         }};
 
       return yyResult.createValue(yyValue, yyError);
@@ -333,7 +333,7 @@ public final class TypedLambdaParser extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$3 = yyResult.semanticValue();
 
-                yyValue = GNode.create("Abstraction", v$g$1, v$g$2, v$g$3);
+                yyValue = GNode.create(KIND_Abstraction, v$g$1, v$g$2, v$g$3);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -381,7 +381,7 @@ public final class TypedLambdaParser extends ParserBase {
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
 
-        yyValue = GNode.create("Identifier", v$g$1);
+        yyValue = GNode.create(KIND_Identifier, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -466,7 +466,7 @@ public final class TypedLambdaParser extends ParserBase {
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
 
-        yyValue = GNode.create("IntegerConstant", v$g$1);
+        yyValue = GNode.create(KIND_IntegerConstant, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -580,7 +580,7 @@ public final class TypedLambdaParser extends ParserBase {
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
 
-        yyValue = GNode.create("StringConstant", v$g$1);
+        yyValue = GNode.create(KIND_StringConstant, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -681,7 +681,7 @@ public final class TypedLambdaParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("FunctionType", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_FunctionType, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -745,7 +745,7 @@ public final class TypedLambdaParser extends ParserBase {
           yyError  = yyResult.select(yyError);
           if (yyResult.hasValue()) {
 
-            yyValue = GNode.create("IntegerType", false);
+            yyValue = GNode.create(KIND_IntegerType, false);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -784,7 +784,7 @@ public final class TypedLambdaParser extends ParserBase {
                 yyError  = yyResult.select(yyError);
                 if (yyResult.hasValue()) {
 
-                  yyValue = GNode.create("StringType", false);
+                  yyValue = GNode.create(KIND_StringType, false);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -1415,4 +1415,15 @@ public final class TypedLambdaParser extends ParserBase {
     }
   }
 
+  // =========================================================================
+
+  private static final int KIND_Application = GNode.kind("Application");
+  private static final int KIND_Abstraction = GNode.kind("Abstraction");
+  private static final int KIND_Identifier = GNode.kind("Identifier");
+  private static final int KIND_IntegerConstant = GNode.kind("IntegerConstant");
+  private static final int KIND_StringConstant = GNode.kind("StringConstant");
+  private static final int KIND_FunctionType = GNode.kind("FunctionType");
+  private static final int KIND_IntegerType = GNode.kind("IntegerType");
+  private static final int KIND_StringType = GNode.kind("StringType");
+
 }
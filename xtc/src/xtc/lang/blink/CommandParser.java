@@ -326,7 +326,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final String v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("MetaVariable", v$g$1);
+        yyValue = GNode.create(KIND_MetaVariable, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -819,7 +819,7 @@ public final class CommandParser extends ParserBase {
               yyError  = yyResult.select(yyError);
               if (yyResult.hasValue()) {
 
-                yyValue = GNode.create("BreakClassCommand", v$g$1, v$g$2);
+                yyValue = GNode.create(KIND_BreakClassCommand, v$g$1, v$g$2);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -874,7 +874,7 @@ public final class CommandParser extends ParserBase {
           yyError  = yyResult.select(yyError);
           if (yyResult.hasValue()) {
 
-            yyValue = GNode.create("BreakClassMethodCommand", v$g$1);
+            yyValue = GNode.create(KIND_BreakClassMethodCommand, v$g$1);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -932,7 +932,7 @@ public final class CommandParser extends ParserBase {
               yyError  = yyResult.select(yyError);
               if (yyResult.hasValue()) {
 
-                yyValue = GNode.create("BreakFileCommand", v$g$1, v$g$2);
+                yyValue = GNode.create(KIND_BreakFileCommand, v$g$1, v$g$2);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -978,7 +978,7 @@ public final class CommandParser extends ParserBase {
         yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
 
-          yyValue = GNode.create("BreakFunctionCommand", v$g$1);
+          yyValue = GNode.create(KIND_BreakFunctionCommand, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -1077,7 +1077,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pJavaIdentifier$Word(yyStart);
     if (yyResult.hasValue("c2j")) {
 
-      yyValue = GNode.create("C2jCommand", false);
+      yyValue = GNode.create(KIND_C2jCommand, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1107,7 +1107,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pJavaIdentifier$Word(yyStart);
     if (yyResult.hasValue("continue")) {
 
-      yyValue = GNode.create("ContinueCommand", false);
+      yyValue = GNode.create(KIND_ContinueCommand, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1142,7 +1142,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("DeleteCommand", v$g$1);
+        yyValue = GNode.create(KIND_DeleteCommand, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -1178,7 +1178,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("DownCommand", v$g$1);
+        yyValue = GNode.create(KIND_DownCommand, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -1209,7 +1209,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pJavaIdentifier$Word(yyStart);
     if (yyResult.hasValue("exit")) {
 
-      yyValue = GNode.create("ExitCommand", false);
+      yyValue = GNode.create(KIND_ExitCommand, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1248,7 +1248,7 @@ public final class CommandParser extends ParserBase {
         yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
 
-          yyValue = GNode.create("GdbCommand", v$g$1);
+          yyValue = GNode.create(KIND_GdbCommand, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -1338,7 +1338,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pJavaIdentifier$Word(yyStart);
     if (yyResult.hasValue("help")) {
 
-      yyValue = GNode.create("HelpCommand", false);
+      yyValue = GNode.create(KIND_HelpCommand, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1373,7 +1373,7 @@ public final class CommandParser extends ParserBase {
       yyResult = pJavaIdentifier$Word(yyBase);
       if (yyResult.hasValue("break")) {
 
-        yyValue = GNode.create("InfoBreakCommand", false);
+        yyValue = GNode.create(KIND_InfoBreakCommand, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -1411,7 +1411,7 @@ public final class CommandParser extends ParserBase {
       yyResult = pJavaIdentifier$Word(yyBase);
       if (yyResult.hasValue("watch")) {
 
-        yyValue = GNode.create("InfoWatchCommand", false);
+        yyValue = GNode.create(KIND_InfoWatchCommand, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -1444,7 +1444,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pJavaIdentifier$Word(yyStart);
     if (yyResult.hasValue("initj")) {
 
-      yyValue = GNode.create("InitJCommand", false);
+      yyValue = GNode.create(KIND_InitJCommand, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1474,7 +1474,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pJavaIdentifier$Word(yyStart);
     if (yyResult.hasValue("j2c")) {
 
-      yyValue = GNode.create("J2cCommand", false);
+      yyValue = GNode.create(KIND_J2cCommand, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1513,7 +1513,7 @@ public final class CommandParser extends ParserBase {
         yyError  = yyResult.select(yyError);
         if (yyResult.hasValue()) {
 
-          yyValue = GNode.create("JdbCommand", v$g$1);
+          yyValue = GNode.create(KIND_JdbCommand, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -1545,7 +1545,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pJavaIdentifier$Word(yyStart);
     if (yyResult.hasValue("jret")) {
 
-      yyValue = GNode.create("JRetCommand", false);
+      yyValue = GNode.create(KIND_JRetCommand, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1575,7 +1575,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pJavaIdentifier$Word(yyStart);
     if (yyResult.hasValue("list")) {
 
-      yyValue = GNode.create("ListCommand", false);
+      yyValue = GNode.create(KIND_ListCommand, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1605,7 +1605,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pJavaIdentifier$Word(yyStart);
     if (yyResult.hasValue("locals")) {
 
-      yyValue = GNode.create("LocalsCommand", false);
+      yyValue = GNode.create(KIND_LocalsCommand, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1635,7 +1635,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pJavaIdentifier$Word(yyStart);
     if (yyResult.hasValue("next")) {
 
-      yyValue = GNode.create("NextCommand", false);
+      yyValue = GNode.create(KIND_NextCommand, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1665,7 +1665,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pJavaIdentifier$Word(yyStart);
     if (yyResult.hasValue("run")) {
 
-      yyValue = GNode.create("RunCommand", false);
+      yyValue = GNode.create(KIND_RunCommand, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1708,7 +1708,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$1 = yyResult.semanticValue();
 
-          yyValue = GNode.create("PrintCExpressionCommand", v$g$1);
+          yyValue = GNode.create(KIND_PrintCExpressionCommand, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -1754,7 +1754,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$1 = yyResult.semanticValue();
 
-          yyValue = GNode.create("PrintJavaExpressionCommand", v$g$1);
+          yyValue = GNode.create(KIND_PrintJavaExpressionCommand, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -1787,7 +1787,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pJavaIdentifier$Word(yyStart);
     if (yyResult.hasValue("stat")) {
 
-      yyValue = GNode.create("StatCommand", false);
+      yyValue = GNode.create(KIND_StatCommand, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1817,7 +1817,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pJavaIdentifier$Word(yyStart);
     if (yyResult.hasValue("step")) {
 
-      yyValue = GNode.create("StepCommand", false);
+      yyValue = GNode.create(KIND_StepCommand, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -1852,7 +1852,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UpCommand", v$g$1);
+        yyValue = GNode.create(KIND_UpCommand, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -1896,7 +1896,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$1 = yyResult.semanticValue();
 
-          yyValue = GNode.create("WatchCExpressionCommand", v$g$1);
+          yyValue = GNode.create(KIND_WatchCExpressionCommand, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -1958,7 +1958,7 @@ public final class CommandParser extends ParserBase {
           if (yyResult.hasValue()) {
             final Node v$g$2 = yyResult.semanticValue();
 
-            yyValue = GNode.create("WatchJavaFieldCommand", v$g$1, v$g$2);
+            yyValue = GNode.create(KIND_WatchJavaFieldCommand, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -2100,7 +2100,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pJavaIdentifier$Word(yyStart);
     if (yyResult.hasValue("where")) {
 
-      yyValue = GNode.create("WhereCommand", false);
+      yyValue = GNode.create(KIND_WhereCommand, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -2209,7 +2209,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerConstant", v$g$1);
+      yyValue = GNode.create(KIND_IntegerConstant, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -2222,7 +2222,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerConstant", v$g$2);
+      yyValue = GNode.create(KIND_IntegerConstant, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -2235,7 +2235,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerConstant", v$g$3);
+      yyValue = GNode.create(KIND_IntegerConstant, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -2798,7 +2798,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("FloatingConstant", v$g$1);
+      yyValue = GNode.create(KIND_FloatingConstant, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -2811,7 +2811,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("FloatingConstant", v$g$2);
+      yyValue = GNode.create(KIND_FloatingConstant, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -3671,7 +3671,7 @@ public final class CommandParser extends ParserBase {
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
 
-        yyValue = GNode.create("CharacterConstant", v$g$1);
+        yyValue = GNode.create(KIND_CharacterConstant, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -3689,7 +3689,7 @@ public final class CommandParser extends ParserBase {
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
 
-        yyValue = GNode.create("CharacterConstant", v$g$2);
+        yyValue = GNode.create(KIND_CharacterConstant, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -3961,7 +3961,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<String> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("StringConstant", v$g$1);
+      yyValue = GNode.createFromPair(KIND_StringConstant, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6558,7 +6558,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pJavaIdentifier$Word(yyStart);
     if (yyResult.hasValue("void")) {
 
-      yyValue = GNode.create("VoidType", false);
+      yyValue = GNode.create(KIND_VoidType, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6615,7 +6615,7 @@ public final class CommandParser extends ParserBase {
       { // Start scope for v$g$2.
         final Node v$g$2 = yyOpValue1;
 
-        yyValue = GNode.create("Type", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_Type, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -6702,7 +6702,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("byte")) {
       final String v$g$1 = "byte";
 
-      yyValue = GNode.create("PrimitiveType", v$g$1);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6714,7 +6714,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("short")) {
       final String v$g$2 = "short";
 
-      yyValue = GNode.create("PrimitiveType", v$g$2);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6726,7 +6726,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("char")) {
       final String v$g$3 = "char";
 
-      yyValue = GNode.create("PrimitiveType", v$g$3);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6738,7 +6738,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("int")) {
       final String v$g$4 = "int";
 
-      yyValue = GNode.create("PrimitiveType", v$g$4);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$4);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6750,7 +6750,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("long")) {
       final String v$g$5 = "long";
 
-      yyValue = GNode.create("PrimitiveType", v$g$5);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$5);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6762,7 +6762,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("float")) {
       final String v$g$6 = "float";
 
-      yyValue = GNode.create("PrimitiveType", v$g$6);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$6);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6774,7 +6774,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("double")) {
       final String v$g$7 = "double";
 
-      yyValue = GNode.create("PrimitiveType", v$g$7);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$7);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6786,7 +6786,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("boolean")) {
       final String v$g$8 = "boolean";
 
-      yyValue = GNode.create("PrimitiveType", v$g$8);
+      yyValue = GNode.create(KIND_PrimitiveType, v$g$8);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6827,7 +6827,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<String> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("Dimensions", v$g$1);
+      yyValue = GNode.createFromPair(KIND_Dimensions, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -6989,7 +6989,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("true")) {
       final String v$g$1 = "true";
 
-      yyValue = GNode.create("BooleanLiteral", v$g$1);
+      yyValue = GNode.create(KIND_BooleanLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -7001,7 +7001,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("false")) {
       final String v$g$2 = "false";
 
-      yyValue = GNode.create("BooleanLiteral", v$g$2);
+      yyValue = GNode.create(KIND_BooleanLiteral, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -7012,7 +7012,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pJavaIdentifier$Word(yyStart);
     if (yyResult.hasValue("null")) {
 
-      yyValue = GNode.create("NullLiteral", false);
+      yyValue = GNode.create(KIND_NullLiteral, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -7053,7 +7053,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$1);
+      yyValue = GNode.create(KIND_IntegerLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -7066,7 +7066,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$2 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$2);
+      yyValue = GNode.create(KIND_IntegerLiteral, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -7079,7 +7079,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$3 = yyResult.semanticValue();
 
-      yyValue = GNode.create("IntegerLiteral", v$g$3);
+      yyValue = GNode.create(KIND_IntegerLiteral, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -7619,7 +7619,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("FloatingPointLiteral", v$g$1);
+      yyValue = GNode.create(KIND_FloatingPointLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -7913,7 +7913,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("CharacterLiteral", v$g$1);
+      yyValue = GNode.create(KIND_CharacterLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -7946,7 +7946,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("StringLiteral", v$g$1);
+      yyValue = GNode.create(KIND_StringLiteral, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -8775,7 +8775,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Pair<String> v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.createFromPair("QualifiedIdentifier", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_QualifiedIdentifier, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -9078,7 +9078,7 @@ public final class CommandParser extends ParserBase {
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue(";")) {
 
-              yyValue = GNode.create("Declaration", v$g$1, v$g$2, l);
+              yyValue = GNode.create(KIND_Declaration, v$g$1, v$g$2, l);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -9129,7 +9129,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("DeclarationSpecifiers", v$g$1);
+      yyValue = GNode.createFromPair(KIND_DeclarationSpecifiers, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9245,7 +9245,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("inline")) {
       final String v$g$1 = "inline";
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$1);
+      yyValue = GNode.create(KIND_FunctionSpecifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9257,7 +9257,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__inline")) {
       final String v$g$2 = "__inline";
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$2);
+      yyValue = GNode.create(KIND_FunctionSpecifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9269,7 +9269,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__inline__")) {
       final String v$g$3 = "__inline__";
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$3);
+      yyValue = GNode.create(KIND_FunctionSpecifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9329,7 +9329,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.createFromPair("InitializedDeclaratorList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_InitializedDeclaratorList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -9483,7 +9483,7 @@ public final class CommandParser extends ParserBase {
             { // Start scope for v$g$5.
               final Node v$g$5 = yyOpValue1;
 
-              yyValue = GNode.create("InitializedDeclarator", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+              yyValue = GNode.create(KIND_InitializedDeclarator, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyOption1, yyError);
@@ -9518,7 +9518,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("auto")) {
 
-      yyValue = GNode.create("AutoSpecifier", false);
+      yyValue = GNode.create(KIND_AutoSpecifier, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9529,7 +9529,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("extern")) {
 
-      yyValue = GNode.create("ExternSpecifier", false);
+      yyValue = GNode.create(KIND_ExternSpecifier, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9540,7 +9540,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("register")) {
 
-      yyValue = GNode.create("RegisterSpecifier", false);
+      yyValue = GNode.create(KIND_RegisterSpecifier, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9551,7 +9551,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("static")) {
 
-      yyValue = GNode.create("StaticSpecifier", false);
+      yyValue = GNode.create(KIND_StaticSpecifier, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9562,7 +9562,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("__thread")) {
 
-      yyValue = GNode.create("ThreadSpecifier", false);
+      yyValue = GNode.create(KIND_ThreadSpecifier, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9577,7 +9577,7 @@ public final class CommandParser extends ParserBase {
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
 
-        yyValue = GNode.create("TypedefSpecifier", false);
+        yyValue = GNode.create(KIND_TypedefSpecifier, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -9611,7 +9611,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("volatile")) {
       final String v$g$1 = "volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$1);
+      yyValue = GNode.create(KIND_VolatileQualifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9623,7 +9623,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__volatile")) {
       final String v$g$2 = "__volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$2);
+      yyValue = GNode.create(KIND_VolatileQualifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9635,7 +9635,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__volatile__")) {
       final String v$g$3 = "__volatile__";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$3);
+      yyValue = GNode.create(KIND_VolatileQualifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9647,7 +9647,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("const")) {
       final String v$g$1 = "const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$1);
+      yyValue = GNode.create(KIND_ConstantQualifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9659,7 +9659,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__const")) {
       final String v$g$2 = "__const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$2);
+      yyValue = GNode.create(KIND_ConstantQualifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9671,7 +9671,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__const__")) {
       final String v$g$3 = "__const__";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$3);
+      yyValue = GNode.create(KIND_ConstantQualifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9683,7 +9683,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("restrict")) {
       final String v$g$1 = "restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$1);
+      yyValue = GNode.create(KIND_RestrictQualifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9695,7 +9695,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__restrict")) {
       final String v$g$2 = "__restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$2);
+      yyValue = GNode.create(KIND_RestrictQualifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9707,7 +9707,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__restrict__")) {
       final String v$g$3 = "__restrict__";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$3);
+      yyValue = GNode.create(KIND_RestrictQualifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9804,7 +9804,7 @@ public final class CommandParser extends ParserBase {
 
       if (yyState.isType(toText(id))) {
 
-        yyValue = GNode.create("TypedefName", id);
+        yyValue = GNode.create(KIND_TypedefName, id);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -9834,7 +9834,7 @@ public final class CommandParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.create("TypeofSpecifier", v$g$1);
+            yyValue = GNode.create(KIND_TypeofSpecifier, v$g$1);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -9854,7 +9854,7 @@ public final class CommandParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.create("TypeofSpecifier", v$g$2);
+            yyValue = GNode.create(KIND_TypeofSpecifier, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -9872,7 +9872,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("void")) {
 
-      yyValue = GNode.create("VoidTypeSpecifier", false);
+      yyValue = GNode.create(KIND_VoidTypeSpecifier, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9883,7 +9883,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("__builtin_va_list")) {
 
-      yyValue = GNode.create("VarArgListSpecifier", false);
+      yyValue = GNode.create(KIND_VarArgListSpecifier, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -9988,7 +9988,7 @@ public final class CommandParser extends ParserBase {
                 { // Start scope for v$g$4.
                   final Node v$g$4 = cast(yyOpValue1);
 
-                  yyValue = GNode.create("EnumerationTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
+                  yyValue = GNode.create(KIND_EnumerationTypeDefinition, v$g$1, v$g$2, v$g$3, v$g$4);
                   yyValue.setLocation(location(yyStart));
 
                   return new SemanticValue(yyValue, yyOption1, yyError);
@@ -10009,7 +10009,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue()) {
           final String v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("EnumerationTypeReference", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_EnumerationTypeReference, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -10073,7 +10073,7 @@ public final class CommandParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("EnumeratorList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_EnumeratorList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -10131,7 +10131,7 @@ public final class CommandParser extends ParserBase {
       { // Start scope for v$g$1.
         final Node v$g$1 = yyOpValue1;
 
-        yyValue = GNode.create("Enumerator", id, v$g$1);
+        yyValue = GNode.create(KIND_Enumerator, id, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -10242,7 +10242,7 @@ public final class CommandParser extends ParserBase {
                         { // Start scope for v$g$4.
                           final Node v$g$4 = cast(yyOpValue1);
 
-                          yyValue = GNode.create("StructureTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
+                          yyValue = GNode.create(KIND_StructureTypeDefinition, v$g$1, v$g$2, v$g$3, v$g$4);
                           yyValue.setLocation(location(yyStart));
 
                           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -10267,7 +10267,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue()) {
           final String v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("StructureTypeReference", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_StructureTypeReference, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -10380,7 +10380,7 @@ public final class CommandParser extends ParserBase {
                         { // Start scope for v$g$4.
                           final Node v$g$4 = cast(yyOpValue1);
 
-                          yyValue = GNode.create("UnionTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
+                          yyValue = GNode.create(KIND_UnionTypeDefinition, v$g$1, v$g$2, v$g$3, v$g$4);
                           yyValue.setLocation(location(yyStart));
 
                           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -10405,7 +10405,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue()) {
           final String v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("UnionTypeReference", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_UnionTypeReference, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -10465,7 +10465,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("StructureDeclarationList", v$g$1.size() + 1).
+        yyValue = GNode.create(KIND_StructureDeclarationList, v$g$1.size() + 1).
           addAll(v$g$1).add(v$g$2);
         yyValue.setLocation(location(yyStart));
 
@@ -10482,7 +10482,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$3 = yyResult.semanticValue();
 
-        yyValue = GNode.create("StructureDeclarationList", v$g$3);
+        yyValue = GNode.create(KIND_StructureDeclarationList, v$g$3);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -10619,7 +10619,7 @@ public final class CommandParser extends ParserBase {
               }
             }
 
-            yyValue = GNode.create("StructureDeclaration", v$g$1, v$g$2, v$g$3);
+            yyValue = GNode.create(KIND_StructureDeclaration, v$g$1, v$g$2, v$g$3);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyOption1, yyError);
@@ -10669,7 +10669,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("SpecifierQualifierList", v$g$1);
+      yyValue = GNode.createFromPair(KIND_SpecifierQualifierList, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -10876,7 +10876,7 @@ public final class CommandParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("StructureDeclaratorList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_StructureDeclaratorList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -10958,7 +10958,7 @@ public final class CommandParser extends ParserBase {
             { // Start scope for v$g$4.
               final Node v$g$4 = yyOpValue1;
 
-              yyValue = GNode.create("BitField", v$g$1, v$g$2, v$g$3, v$g$4);
+              yyValue = GNode.create(KIND_BitField, v$g$1, v$g$2, v$g$3, v$g$4);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyOption1, yyError);
@@ -11048,7 +11048,7 @@ public final class CommandParser extends ParserBase {
         { // Start scope for v$g$3.
           final Node v$g$3 = yyOpValue1;
 
-          yyValue = GNode.create("AttributedDeclarator", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_AttributedDeclarator, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -11137,7 +11137,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("PointerDeclarator", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_PointerDeclarator, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -11197,7 +11197,7 @@ public final class CommandParser extends ParserBase {
         { // Start scope for v$g$2.
           final Node v$g$2 = yyOpValue1;
 
-          yyValue = GNode.create("Pointer", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_Pointer, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -11248,7 +11248,7 @@ public final class CommandParser extends ParserBase {
     { // Start scope for v$g$1.
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("TypeQualifierList", v$g$1);
+      yyValue = GNode.createFromPair(KIND_TypeQualifierList, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -11444,7 +11444,7 @@ public final class CommandParser extends ParserBase {
 
                 yyValue = new Action<Node>() {
                   public Node run(Node v$1) {
-                    return GNode.create("FunctionDeclarator", v$1, v$g$2, javaThrows);
+                    return GNode.create(KIND_FunctionDeclarator, v$1, v$g$2, javaThrows);
                   }};
 
                 return yyResult.createValue(yyValue, yyError);
@@ -11486,7 +11486,7 @@ public final class CommandParser extends ParserBase {
 
                 yyValue = new Action<Node>() {
                   public Node run(Node v$1) {
-                    return GNode.create("FunctionDeclarator", v$1, v$g$3, javaThrows);
+                    return GNode.create(KIND_FunctionDeclarator, v$1, v$g$3, javaThrows);
                   }};
 
                 return yyResult.createValue(yyValue, yyError);
@@ -11533,7 +11533,7 @@ public final class CommandParser extends ParserBase {
 
             yyValue = new Action<Node>() {
               public Node run(Node v$1) {
-                return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$5);
+                return GNode.create(KIND_ArrayDeclarator, v$1, v$g$4, v$g$5);
               }};
 
             return yyResult.createValue(yyValue, yyError);
@@ -11555,7 +11555,7 @@ public final class CommandParser extends ParserBase {
 
             yyValue = new Action<Node>() {
               public Node run(Node v$1) {
-                return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$6);
+                return GNode.create(KIND_ArrayDeclarator, v$1, v$g$4, v$g$6);
               }};
 
             return yyResult.createValue(yyValue, yyError);
@@ -11603,7 +11603,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pSymbol(yyStart);
     if (yyResult.hasValue("*")) {
 
-      yyValue = GNode.create("VariableLength", false);
+      yyValue = GNode.create(KIND_VariableLength, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -11639,7 +11639,7 @@ public final class CommandParser extends ParserBase {
 
       yyState.bind(toText(id));
 
-      yyValue = GNode.create("SimpleDeclarator", id);
+      yyValue = GNode.create(KIND_SimpleDeclarator, id);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -11709,7 +11709,7 @@ public final class CommandParser extends ParserBase {
       { // Start scope for v$g$2.
         final String v$g$2 = yyOpValue1;
 
-        yyValue = GNode.create("ParameterTypeList", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_ParameterTypeList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -11771,7 +11771,7 @@ public final class CommandParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("ParameterList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_ParameterList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -11833,7 +11833,7 @@ public final class CommandParser extends ParserBase {
         { // Start scope for v$g$3.
           final Node v$g$3 = yyOpValue1;
 
-          yyValue = GNode.create("ParameterDeclaration", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_ParameterDeclaration, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           // Commit the state modification.
@@ -11872,7 +11872,7 @@ public final class CommandParser extends ParserBase {
         { // Start scope for v$g$5.
           final Node v$g$5 = yyOpValue1;
 
-          yyValue = GNode.create("ParameterDeclaration", v$g$1, v$g$4, v$g$5);
+          yyValue = GNode.create(KIND_ParameterDeclaration, v$g$1, v$g$4, v$g$5);
           yyValue.setLocation(location(yyStart));
 
           // Commit the state modification.
@@ -11929,7 +11929,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("AttributedAbstractDeclarator", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_AttributedAbstractDeclarator, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -11992,7 +11992,7 @@ public final class CommandParser extends ParserBase {
 
         if ((null != p) || (null != d)) {
 
-          yyValue = GNode.create("AbstractDeclarator", p, d);
+          yyValue = GNode.create(KIND_AbstractDeclarator, p, d);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -12142,7 +12142,7 @@ public final class CommandParser extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$3);
+              return GNode.create(KIND_DirectAbstractDeclarator, v$1, v$g$2, v$g$3);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -12164,7 +12164,7 @@ public final class CommandParser extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$4);
+              return GNode.create(KIND_DirectAbstractDeclarator, v$1, v$g$2, v$g$4);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -12200,7 +12200,7 @@ public final class CommandParser extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$5, v$g$6);
+              return GNode.create(KIND_DirectAbstractDeclarator, v$1, v$g$5, v$g$6);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -12270,7 +12270,7 @@ public final class CommandParser extends ParserBase {
       { // Start scope for v$g$1.
         final Pair<String> v$g$1 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("IdentifierList", id1, v$g$1);
+        yyValue = GNode.createFromPair(KIND_IdentifierList, id1, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -12319,7 +12319,7 @@ public final class CommandParser extends ParserBase {
     { // Start scope for v$g$1.
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("ArrayQualifierList", v$g$1);
+      yyValue = GNode.createFromPair(KIND_ArrayQualifierList, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -12347,7 +12347,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("static")) {
 
-      yyValue = GNode.create("StaticSpecifier", false);
+      yyValue = GNode.create(KIND_StaticSpecifier, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -12359,7 +12359,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("volatile")) {
       final String v$g$1 = "volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$1);
+      yyValue = GNode.create(KIND_VolatileQualifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -12371,7 +12371,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__volatile")) {
       final String v$g$2 = "__volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$2);
+      yyValue = GNode.create(KIND_VolatileQualifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -12383,7 +12383,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__volatile__")) {
       final String v$g$3 = "__volatile__";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$3);
+      yyValue = GNode.create(KIND_VolatileQualifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -12395,7 +12395,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("restrict")) {
       final String v$g$1 = "restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$1);
+      yyValue = GNode.create(KIND_RestrictQualifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -12407,7 +12407,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__restrict")) {
       final String v$g$2 = "__restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$2);
+      yyValue = GNode.create(KIND_RestrictQualifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -12419,7 +12419,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__restrict__")) {
       final String v$g$3 = "__restrict__";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$3);
+      yyValue = GNode.create(KIND_RestrictQualifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -12431,7 +12431,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("const")) {
       final String v$g$1 = "const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$1);
+      yyValue = GNode.create(KIND_ConstantQualifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -12443,7 +12443,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__const")) {
       final String v$g$2 = "__const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$2);
+      yyValue = GNode.create(KIND_ConstantQualifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -12455,7 +12455,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__const__")) {
       final String v$g$3 = "__const__";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$3);
+      yyValue = GNode.create(KIND_ConstantQualifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -12498,7 +12498,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("_Complex")) {
       final String v$g$1 = "_Complex";
 
-      yyValue = GNode.create("Complex", v$g$1);
+      yyValue = GNode.create(KIND_Complex, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -12510,7 +12510,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__complex__")) {
       final String v$g$2 = "__complex__";
 
-      yyValue = GNode.create("Complex", v$g$2);
+      yyValue = GNode.create(KIND_Complex, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -12521,7 +12521,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("double")) {
 
-      yyValue = GNode.create("Double", false);
+      yyValue = GNode.create(KIND_Double, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -12532,7 +12532,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("float")) {
 
-      yyValue = GNode.create("Float", false);
+      yyValue = GNode.create(KIND_Float, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -12564,7 +12564,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("long")) {
 
-      yyValue = GNode.create("Long", false);
+      yyValue = GNode.create(KIND_Long, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -12575,7 +12575,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("int")) {
 
-      yyValue = GNode.create("Int", false);
+      yyValue = GNode.create(KIND_Int, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -12586,7 +12586,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("short")) {
 
-      yyValue = GNode.create("Short", false);
+      yyValue = GNode.create(KIND_Short, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -12597,7 +12597,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("char")) {
 
-      yyValue = GNode.create("Char", false);
+      yyValue = GNode.create(KIND_Char, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -12608,7 +12608,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("_Bool")) {
 
-      yyValue = GNode.create("Bool", false);
+      yyValue = GNode.create(KIND_Bool, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -12619,7 +12619,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("unsigned")) {
 
-      yyValue = GNode.create("Unsigned", false);
+      yyValue = GNode.create(KIND_Unsigned, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -12631,7 +12631,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("signed")) {
       final String v$g$1 = "signed";
 
-      yyValue = GNode.create("Signed", v$g$1);
+      yyValue = GNode.create(KIND_Signed, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -12643,7 +12643,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__signed")) {
       final String v$g$2 = "__signed";
 
-      yyValue = GNode.create("Signed", v$g$2);
+      yyValue = GNode.create(KIND_Signed, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -12655,7 +12655,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__signed__")) {
       final String v$g$3 = "__signed__";
 
-      yyValue = GNode.create("Signed", v$g$3);
+      yyValue = GNode.create(KIND_Signed, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -12841,7 +12841,7 @@ public final class CommandParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("InitializerList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_InitializerList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -12852,7 +12852,7 @@ public final class CommandParser extends ParserBase {
 
     if (GCC) {
 
-      yyValue = GNode.create("InitializerList", false);
+      yyValue = GNode.create(KIND_InitializerList, false);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyStart, yyError);
@@ -12902,7 +12902,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("InitializerListEntry", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_InitializerListEntry, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -12958,7 +12958,7 @@ public final class CommandParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue("=")) {
 
-        yyValue = GNode.createFromPair("Designation", v$g$1);
+        yyValue = GNode.createFromPair(KIND_Designation, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -13029,7 +13029,7 @@ public final class CommandParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue("]")) {
 
-          yyValue = GNode.create("Designator", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_Designator, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -13065,7 +13065,7 @@ public final class CommandParser extends ParserBase {
               yyResult = pSymbol(yyBase);
               if (yyResult.hasValue("]")) {
 
-                yyValue = GNode.create("Designator", v$g$3, v$g$4, v$g$5);
+                yyValue = GNode.create(KIND_Designator, v$g$3, v$g$4, v$g$5);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -13091,7 +13091,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$7 = yyResult.semanticValue();
 
-        yyValue = GNode.create("Designator", v$g$6, v$g$7);
+        yyValue = GNode.create(KIND_Designator, v$g$6, v$g$7);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -13139,7 +13139,7 @@ public final class CommandParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue("]")) {
 
-          yyValue = GNode.create("ObsoleteArrayDesignation", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_ObsoleteArrayDesignation, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -13162,7 +13162,7 @@ public final class CommandParser extends ParserBase {
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue("]")) {
 
-              yyValue = GNode.create("ObsoleteArrayDesignation", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_ObsoleteArrayDesignation, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -13209,7 +13209,7 @@ public final class CommandParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(":")) {
 
-        yyValue = GNode.create("ObsoleteFieldDesignation", v$g$1);
+        yyValue = GNode.create(KIND_ObsoleteFieldDesignation, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -13271,7 +13271,7 @@ public final class CommandParser extends ParserBase {
       { // Start scope for v$g$2.
         final Node v$g$2 = yyOpValue1;
 
-        yyValue = GNode.create("TypeName", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_TypeName, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         // Commit the state modification.
@@ -13322,7 +13322,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("AttributeSpecifierList", v$g$1);
+      yyValue = GNode.createFromPair(KIND_AttributeSpecifierList, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -13447,7 +13447,7 @@ public final class CommandParser extends ParserBase {
               yyResult = pSymbol(yyBase);
               if (yyResult.hasValue(")")) {
 
-                yyValue = GNode.create("AttributeSpecifier", v$g$1);
+                yyValue = GNode.create(KIND_AttributeSpecifier, v$g$1);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -13572,7 +13572,7 @@ public final class CommandParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("AttributeList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_AttributeList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -13648,7 +13648,7 @@ public final class CommandParser extends ParserBase {
       { // Start scope for v$g$2.
         final Node v$g$2 = yyOpValue1;
 
-        yyValue = GNode.create("AttributeListEntry", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_AttributeListEntry, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -13696,7 +13696,7 @@ public final class CommandParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(";")) {
 
-        yyValue = GNode.create("ExpressionStatement", v$g$1);
+        yyValue = GNode.create(KIND_ExpressionStatement, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -13791,7 +13791,7 @@ public final class CommandParser extends ParserBase {
                 if (yyResult.hasValue()) {
                   final Node v$g$3 = yyResult.semanticValue();
 
-                  yyValue = GNode.create("IfElseStatement", v$g$1, v$g$2, v$g$3);
+                  yyValue = GNode.create(KIND_IfElseStatement, v$g$1, v$g$2, v$g$3);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -13802,7 +13802,7 @@ public final class CommandParser extends ParserBase {
 
               // Nested alternative 2.
 
-              yyValue = GNode.create("IfStatement", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_IfStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyChoice1, yyError);
@@ -13839,7 +13839,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_WhileStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -13884,7 +13884,7 @@ public final class CommandParser extends ParserBase {
                 yyResult = pSymbol(yyBase);
                 if (yyResult.hasValue(";")) {
 
-                  yyValue = GNode.create("DoStatement", v$g$1, v$g$2);
+                  yyValue = GNode.create(KIND_DoStatement, v$g$1, v$g$2);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -13967,7 +13967,7 @@ public final class CommandParser extends ParserBase {
                       yyError  = yyResult.select(yyError);
                       if (yyResult.hasValue()) {
 
-                        yyValue = GNode.create("ForStatement", v$g$1, v$g$2, v$g$3, v$g$4);
+                        yyValue = GNode.create(KIND_ForStatement, v$g$1, v$g$2, v$g$3, v$g$4);
                         yyValue.setLocation(location(yyStart));
 
                         return yyResult.createValue(yyValue, yyError);
@@ -14011,7 +14011,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("SwitchStatement", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_SwitchStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -14037,7 +14037,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("LabeledStatement", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_LabeledStatement, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -14053,7 +14053,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$3 = yyResult.semanticValue();
 
-        yyValue = GNode.create("LabeledStatement", v$g$3, null);
+        yyValue = GNode.create(KIND_LabeledStatement, v$g$3, null);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -14069,7 +14069,7 @@ public final class CommandParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(";")) {
 
-        yyValue = GNode.create("BreakStatement", false);
+        yyValue = GNode.create(KIND_BreakStatement, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -14087,7 +14087,7 @@ public final class CommandParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(";")) {
 
-        yyValue = GNode.create("ContinueStatement", false);
+        yyValue = GNode.create(KIND_ContinueStatement, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -14119,7 +14119,7 @@ public final class CommandParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("ReturnStatement", v$g$1);
+          yyValue = GNode.create(KIND_ReturnStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -14143,7 +14143,7 @@ public final class CommandParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("GotoStatement", null, v$g$2);
+          yyValue = GNode.create(KIND_GotoStatement, null, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -14174,7 +14174,7 @@ public final class CommandParser extends ParserBase {
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue(";")) {
 
-              yyValue = GNode.create("GotoStatement", v$g$3, v$g$4);
+              yyValue = GNode.create(KIND_GotoStatement, v$g$3, v$g$4);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -14226,7 +14226,7 @@ public final class CommandParser extends ParserBase {
               if (yyResult.hasValue(";")) {
                 final String v$g$3 = ";";
 
-                yyValue = GNode.create("AssemblyStatement", v$g$1, v$g$2, v$g$3);
+                yyValue = GNode.create(KIND_AssemblyStatement, v$g$1, v$g$2, v$g$3);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -14248,7 +14248,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pSymbol(yyStart);
     if (yyResult.hasValue(";")) {
 
-      yyValue = GNode.create("EmptyStatement", false);
+      yyValue = GNode.create(KIND_EmptyStatement, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -14301,7 +14301,7 @@ public final class CommandParser extends ParserBase {
         { // Start scope for v$g$2.
           final Node v$g$2 = yyOpValue1;
 
-          yyValue = GNode.create("NamedLabel", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_NamedLabel, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -14336,7 +14336,7 @@ public final class CommandParser extends ParserBase {
               yyResult = pSymbol(yyBase);
               if (yyResult.hasValue(":")) {
 
-                yyValue = GNode.create("CaseLabel", v$g$1, v$g$2);
+                yyValue = GNode.create(KIND_CaseLabel, v$g$1, v$g$2);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -14365,7 +14365,7 @@ public final class CommandParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(":")) {
 
-          yyValue = GNode.create("CaseLabel", v$g$3);
+          yyValue = GNode.create(KIND_CaseLabel, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -14384,7 +14384,7 @@ public final class CommandParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(":")) {
 
-        yyValue = GNode.create("DefaultLabel", false);
+        yyValue = GNode.create(KIND_DefaultLabel, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -14507,7 +14507,7 @@ public final class CommandParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(";")) {
 
-            yyValue = GNode.createFromPair("LocalLabelDeclaration", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_LocalLabelDeclaration, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -14746,7 +14746,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("CommaExpression", v$1, v$g$2);
+            return GNode.create(KIND_CommaExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -14802,7 +14802,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$3 = yyResult.semanticValue();
 
-          yyValue = GNode.create("AssignmentExpression", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_AssignmentExpression, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -15007,7 +15007,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("ConditionalExpression", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_ConditionalExpression, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -15043,7 +15043,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$6 = yyResult.semanticValue();
 
-              yyValue = GNode.create("ConditionalExpression", v$g$4, null, v$g$6);
+              yyValue = GNode.create(KIND_ConditionalExpression, v$g$4, null, v$g$6);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -15164,7 +15164,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("LogicalOrExpression", v$1, v$g$2);
+            return GNode.create(KIND_LogicalOrExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -15257,7 +15257,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("LogicalAndExpression", v$1, v$g$2);
+            return GNode.create(KIND_LogicalAndExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -15350,7 +15350,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseOrExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseOrExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -15443,7 +15443,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseXorExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseXorExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -15536,7 +15536,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseAndExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseAndExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -15631,7 +15631,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("EqualityExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_EqualityExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -15776,7 +15776,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("RelationalExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_RelationalExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -15937,7 +15937,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("ShiftExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_ShiftExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -16080,7 +16080,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("AdditiveExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_AdditiveExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -16225,7 +16225,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("MultiplicativeExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_MultiplicativeExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -16343,7 +16343,7 @@ public final class CommandParser extends ParserBase {
           if (yyResult.hasValue()) {
             final Node v$g$2 = yyResult.semanticValue();
 
-            yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
+            yyValue = GNode.create(KIND_CastExpression, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -16431,7 +16431,7 @@ public final class CommandParser extends ParserBase {
 
             if (! yyPredMatched) {
 
-              yyValue = GNode.create("SizeofExpression", v$g$1);
+              yyValue = GNode.create(KIND_SizeofExpression, v$g$1);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -16453,7 +16453,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("SizeofExpression", v$g$2);
+        yyValue = GNode.create(KIND_SizeofExpression, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -16493,7 +16493,7 @@ public final class CommandParser extends ParserBase {
 
             if (! yyPredMatched) {
 
-              yyValue = GNode.create("AlignofExpression", v$g$1);
+              yyValue = GNode.create(KIND_AlignofExpression, v$g$1);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -16515,7 +16515,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("AlignofExpression", v$g$2);
+        yyValue = GNode.create(KIND_AlignofExpression, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -16549,7 +16549,7 @@ public final class CommandParser extends ParserBase {
               yyResult = pSymbol(yyBase);
               if (yyResult.hasValue(")")) {
 
-                yyValue = GNode.create("OffsetofExpression", v$g$1, v$g$2);
+                yyValue = GNode.create(KIND_OffsetofExpression, v$g$1, v$g$2);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -16593,7 +16593,7 @@ public final class CommandParser extends ParserBase {
               yyResult = pSymbol(yyBase);
               if (yyResult.hasValue(")")) {
 
-                yyValue = GNode.create("TypeCompatibilityExpression", v$g$1, v$g$2);
+                yyValue = GNode.create(KIND_TypeCompatibilityExpression, v$g$1, v$g$2);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -16620,7 +16620,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryMinusExpression", v$g$1);
+        yyValue = GNode.create(KIND_UnaryMinusExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -16637,7 +16637,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryPlusExpression", v$g$1);
+        yyValue = GNode.create(KIND_UnaryPlusExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -16664,7 +16664,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("LogicalNegationExpression", v$g$1);
+        yyValue = GNode.create(KIND_LogicalNegationExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -16681,7 +16681,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
+        yyValue = GNode.create(KIND_BitwiseNegationExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -16698,7 +16698,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("AddressExpression", v$g$1);
+        yyValue = GNode.create(KIND_AddressExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -16717,7 +16717,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue()) {
           final String v$g$1 = yyResult.semanticValue();
 
-          yyValue = GNode.create("LabelAddressExpression", v$g$1);
+          yyValue = GNode.create(KIND_LabelAddressExpression, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -16735,7 +16735,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("IndirectionExpression", v$g$1);
+        yyValue = GNode.create(KIND_IndirectionExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -16752,7 +16752,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("PreincrementExpression", v$g$1);
+        yyValue = GNode.create(KIND_PreincrementExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -16769,7 +16769,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("PredecrementExpression", v$g$1);
+        yyValue = GNode.create(KIND_PredecrementExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -16788,7 +16788,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$1 = yyResult.semanticValue();
 
-          yyValue = GNode.create("ExtensionExpression", v$g$1);
+          yyValue = GNode.create(KIND_ExtensionExpression, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -16981,7 +16981,7 @@ public final class CommandParser extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("SubscriptExpression", v$1, v$g$2);
+              return GNode.create(KIND_SubscriptExpression, v$1, v$g$2);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -17003,7 +17003,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("DirectComponentSelection", v$1, v$g$3);
+            return GNode.create(KIND_DirectComponentSelection, v$1, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -17022,7 +17022,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("IndirectComponentSelection", v$1, v$g$4);
+            return GNode.create(KIND_IndirectComponentSelection, v$1, v$g$4);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -17054,7 +17054,7 @@ public final class CommandParser extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("FunctionCall", v$1, v$g$5);
+              return GNode.create(KIND_FunctionCall, v$1, v$g$5);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -17071,7 +17071,7 @@ public final class CommandParser extends ParserBase {
 
       yyValue = new Action<Node>() {
         public Node run(Node v$1) {
-          return GNode.create("PostincrementExpression", v$1);
+          return GNode.create(KIND_PostincrementExpression, v$1);
         }};
 
       return yyResult.createValue(yyValue, yyError);
@@ -17084,7 +17084,7 @@ public final class CommandParser extends ParserBase {
 
       yyValue = new Action<Node>() {
         public Node run(Node v$1) {
-          return GNode.create("PostdecrementExpression", v$1);
+          return GNode.create(KIND_PostdecrementExpression, v$1);
         }};
 
       return yyResult.createValue(yyValue, yyError);
@@ -17134,7 +17134,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.createFromPair("ExpressionList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_ExpressionList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -17257,7 +17257,7 @@ public final class CommandParser extends ParserBase {
               yyResult = pSymbol(yyBase);
               if (yyResult.hasValue("}")) {
 
-                yyValue = GNode.create("CompoundLiteral", v$g$1, v$g$2);
+                yyValue = GNode.create(KIND_CompoundLiteral, v$g$1, v$g$2);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -17313,7 +17313,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimaryIdentifier", v$g$1);
+      yyValue = GNode.create(KIND_PrimaryIdentifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -17335,7 +17335,7 @@ public final class CommandParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.create("StatementAsExpression", v$g$1);
+            yyValue = GNode.create(KIND_StatementAsExpression, v$g$1);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -17373,7 +17373,7 @@ public final class CommandParser extends ParserBase {
               yyResult = pSymbol(yyBase);
               if (yyResult.hasValue(")")) {
 
-                yyValue = GNode.create("VariableArgumentAccess", v$g$1, v$g$2);
+                yyValue = GNode.create(KIND_VariableArgumentAccess, v$g$1, v$g$2);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -17439,7 +17439,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimaryIdentifier", v$g$1);
+      yyValue = GNode.create(KIND_PrimaryIdentifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -17485,7 +17485,7 @@ public final class CommandParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.create("SimpleAssemblyExpression", v$g$1);
+            yyValue = GNode.create(KIND_SimpleAssemblyExpression, v$g$1);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -17585,7 +17585,7 @@ public final class CommandParser extends ParserBase {
                 if (yyResult.hasValue()) {
                   final Node v$g$4 = yyResult.semanticValue();
 
-                  yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2, v$g$3, v$g$4);
+                  yyValue = GNode.create(KIND_AssemblyArgument, v$g$1, v$g$2, v$g$3, v$g$4);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -17596,7 +17596,7 @@ public final class CommandParser extends ParserBase {
 
               // Nested alternative 2.
 
-              yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_AssemblyArgument, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyChoice3, yyError);
@@ -17607,7 +17607,7 @@ public final class CommandParser extends ParserBase {
 
           // Nested alternative 2.
 
-          yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_AssemblyArgument, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyChoice2, yyError);
@@ -17618,7 +17618,7 @@ public final class CommandParser extends ParserBase {
 
       // Nested alternative 2.
 
-      yyValue = GNode.create("AssemblyArgument", v$g$1);
+      yyValue = GNode.create(KIND_AssemblyArgument, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyChoice1, yyError);
@@ -17667,7 +17667,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.createFromPair("AssemblyOperands", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_AssemblyOperands, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -17812,7 +17812,7 @@ public final class CommandParser extends ParserBase {
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue(")")) {
 
-              yyValue = GNode.create("AssemblyOperand", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_AssemblyOperand, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -17881,7 +17881,7 @@ public final class CommandParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("AssemblyClobbers", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_AssemblyClobbers, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -18001,7 +18001,7 @@ public final class CommandParser extends ParserBase {
                 yyError  = yyResult.select(yyError);
                 if (yyResult.hasValue()) {
 
-                  yyValue = GNode.create("WithStatement", v$g$1, v$g$2);
+                  yyValue = GNode.create(KIND_WithStatement, v$g$1, v$g$2);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -18103,7 +18103,7 @@ public final class CommandParser extends ParserBase {
 
         if (yyState.isValid(l)) {
 
-          yyValue = GNode.create("Declaration", null, v$g$2, l);
+          yyValue = GNode.create(KIND_Declaration, null, v$g$2, l);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -18147,7 +18147,7 @@ public final class CommandParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("CancelStatement", v$g$1);
+          yyValue = GNode.create(KIND_CancelStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -18193,7 +18193,7 @@ public final class CommandParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("CommitStatement", v$g$1);
+          yyValue = GNode.create(KIND_CommitStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -18365,7 +18365,7 @@ public final class CommandParser extends ParserBase {
                   yyError  = yyResult.select(yyError);
                   if (yyResult.hasValue()) {
 
-                    yyValue = GNode.create("CInCBlock", v$g$1.size() + v$g$2.size() + 1).
+                    yyValue = GNode.create(KIND_CInCBlock, v$g$1.size() + v$g$2.size() + 1).
                       addAll(v$g$1).addAll(v$g$2).add(v$g$3);
                     yyValue.setLocation(location(yyStart));
 
@@ -18517,7 +18517,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("JavaInCBlock", v$g$1);
+        yyValue = GNode.create(KIND_JavaInCBlock, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -18555,7 +18555,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("JavaInCExpression", v$g$1);
+        yyValue = GNode.create(KIND_JavaInCExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -18597,7 +18597,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("JavaInCStatement", v$g$1);
+        yyValue = GNode.create(KIND_JavaInCStatement, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -18610,7 +18610,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("JavaInCStatement", v$g$2);
+        yyValue = GNode.create(KIND_JavaInCStatement, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -18623,7 +18623,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$3 = yyResult.semanticValue();
 
-        yyValue = GNode.create("JavaInCStatement", v$g$3);
+        yyValue = GNode.create(KIND_JavaInCStatement, v$g$3);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -18682,7 +18682,7 @@ public final class CommandParser extends ParserBase {
     { // Start scope for v$g$1.
       final Node v$g$1 = yyOpValue1;
 
-      yyValue = GNode.create("JavaThrows", v$g$1);
+      yyValue = GNode.create(KIND_JavaThrows, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyOption1, yyError);
@@ -18714,7 +18714,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("JavaType", v$g$1);
+        yyValue = GNode.create(KIND_JavaType, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -18785,7 +18785,7 @@ public final class CommandParser extends ParserBase {
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue(";")) {
 
-              yyValue = GNode.create("Declaration", v$g$1, v$g$2, l);
+              yyValue = GNode.create(KIND_Declaration, v$g$1, v$g$2, l);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -18836,7 +18836,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("DeclarationSpecifiers", v$g$1);
+      yyValue = GNode.createFromPair(KIND_DeclarationSpecifiers, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -18952,7 +18952,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("inline")) {
       final String v$g$1 = "inline";
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$1);
+      yyValue = GNode.create(KIND_FunctionSpecifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -18964,7 +18964,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__inline")) {
       final String v$g$2 = "__inline";
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$2);
+      yyValue = GNode.create(KIND_FunctionSpecifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -18976,7 +18976,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__inline__")) {
       final String v$g$3 = "__inline__";
 
-      yyValue = GNode.create("FunctionSpecifier", v$g$3);
+      yyValue = GNode.create(KIND_FunctionSpecifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -19036,7 +19036,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.createFromPair("InitializedDeclaratorList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_InitializedDeclaratorList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -19190,7 +19190,7 @@ public final class CommandParser extends ParserBase {
             { // Start scope for v$g$5.
               final Node v$g$5 = yyOpValue1;
 
-              yyValue = GNode.create("InitializedDeclarator", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+              yyValue = GNode.create(KIND_InitializedDeclarator, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyOption1, yyError);
@@ -19225,7 +19225,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("auto")) {
 
-      yyValue = GNode.create("AutoSpecifier", false);
+      yyValue = GNode.create(KIND_AutoSpecifier, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -19236,7 +19236,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("extern")) {
 
-      yyValue = GNode.create("ExternSpecifier", false);
+      yyValue = GNode.create(KIND_ExternSpecifier, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -19247,7 +19247,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("register")) {
 
-      yyValue = GNode.create("RegisterSpecifier", false);
+      yyValue = GNode.create(KIND_RegisterSpecifier, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -19258,7 +19258,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("static")) {
 
-      yyValue = GNode.create("StaticSpecifier", false);
+      yyValue = GNode.create(KIND_StaticSpecifier, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -19269,7 +19269,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("__thread")) {
 
-      yyValue = GNode.create("ThreadSpecifier", false);
+      yyValue = GNode.create(KIND_ThreadSpecifier, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -19284,7 +19284,7 @@ public final class CommandParser extends ParserBase {
       yyError  = yyResult.select(yyError);
       if (yyResult.hasValue()) {
 
-        yyValue = GNode.create("TypedefSpecifier", false);
+        yyValue = GNode.create(KIND_TypedefSpecifier, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -19318,7 +19318,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("volatile")) {
       final String v$g$1 = "volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$1);
+      yyValue = GNode.create(KIND_VolatileQualifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -19330,7 +19330,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__volatile")) {
       final String v$g$2 = "__volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$2);
+      yyValue = GNode.create(KIND_VolatileQualifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -19342,7 +19342,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__volatile__")) {
       final String v$g$3 = "__volatile__";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$3);
+      yyValue = GNode.create(KIND_VolatileQualifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -19354,7 +19354,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("const")) {
       final String v$g$1 = "const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$1);
+      yyValue = GNode.create(KIND_ConstantQualifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -19366,7 +19366,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__const")) {
       final String v$g$2 = "__const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$2);
+      yyValue = GNode.create(KIND_ConstantQualifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -19378,7 +19378,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__const__")) {
       final String v$g$3 = "__const__";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$3);
+      yyValue = GNode.create(KIND_ConstantQualifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -19390,7 +19390,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("restrict")) {
       final String v$g$1 = "restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$1);
+      yyValue = GNode.create(KIND_RestrictQualifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -19402,7 +19402,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__restrict")) {
       final String v$g$2 = "__restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$2);
+      yyValue = GNode.create(KIND_RestrictQualifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -19414,7 +19414,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__restrict__")) {
       final String v$g$3 = "__restrict__";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$3);
+      yyValue = GNode.create(KIND_RestrictQualifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -19511,7 +19511,7 @@ public final class CommandParser extends ParserBase {
 
       if (yyState.isType(toText(id))) {
 
-        yyValue = GNode.create("TypedefName", id);
+        yyValue = GNode.create(KIND_TypedefName, id);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -19541,7 +19541,7 @@ public final class CommandParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.create("TypeofSpecifier", v$g$1);
+            yyValue = GNode.create(KIND_TypeofSpecifier, v$g$1);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -19561,7 +19561,7 @@ public final class CommandParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.create("TypeofSpecifier", v$g$2);
+            yyValue = GNode.create(KIND_TypeofSpecifier, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -19579,7 +19579,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("void")) {
 
-      yyValue = GNode.create("VoidTypeSpecifier", false);
+      yyValue = GNode.create(KIND_VoidTypeSpecifier, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -19590,7 +19590,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("__builtin_va_list")) {
 
-      yyValue = GNode.create("VarArgListSpecifier", false);
+      yyValue = GNode.create(KIND_VarArgListSpecifier, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -19695,7 +19695,7 @@ public final class CommandParser extends ParserBase {
                 { // Start scope for v$g$4.
                   final Node v$g$4 = cast(yyOpValue1);
 
-                  yyValue = GNode.create("EnumerationTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
+                  yyValue = GNode.create(KIND_EnumerationTypeDefinition, v$g$1, v$g$2, v$g$3, v$g$4);
                   yyValue.setLocation(location(yyStart));
 
                   return new SemanticValue(yyValue, yyOption1, yyError);
@@ -19716,7 +19716,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue()) {
           final String v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("EnumerationTypeReference", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_EnumerationTypeReference, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -19780,7 +19780,7 @@ public final class CommandParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("EnumeratorList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_EnumeratorList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -19838,7 +19838,7 @@ public final class CommandParser extends ParserBase {
       { // Start scope for v$g$1.
         final Node v$g$1 = yyOpValue1;
 
-        yyValue = GNode.create("Enumerator", id, v$g$1);
+        yyValue = GNode.create(KIND_Enumerator, id, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -19949,7 +19949,7 @@ public final class CommandParser extends ParserBase {
                         { // Start scope for v$g$4.
                           final Node v$g$4 = cast(yyOpValue1);
 
-                          yyValue = GNode.create("StructureTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
+                          yyValue = GNode.create(KIND_StructureTypeDefinition, v$g$1, v$g$2, v$g$3, v$g$4);
                           yyValue.setLocation(location(yyStart));
 
                           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -19974,7 +19974,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue()) {
           final String v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("StructureTypeReference", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_StructureTypeReference, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -20087,7 +20087,7 @@ public final class CommandParser extends ParserBase {
                         { // Start scope for v$g$4.
                           final Node v$g$4 = cast(yyOpValue1);
 
-                          yyValue = GNode.create("UnionTypeDefinition", v$g$1, v$g$2, v$g$3, v$g$4);
+                          yyValue = GNode.create(KIND_UnionTypeDefinition, v$g$1, v$g$2, v$g$3, v$g$4);
                           yyValue.setLocation(location(yyStart));
 
                           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -20112,7 +20112,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue()) {
           final String v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("UnionTypeReference", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_UnionTypeReference, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -20172,7 +20172,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("StructureDeclarationList", v$g$1.size() + 1).
+        yyValue = GNode.create(KIND_StructureDeclarationList, v$g$1.size() + 1).
           addAll(v$g$1).add(v$g$2);
         yyValue.setLocation(location(yyStart));
 
@@ -20189,7 +20189,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$3 = yyResult.semanticValue();
 
-        yyValue = GNode.create("StructureDeclarationList", v$g$3);
+        yyValue = GNode.create(KIND_StructureDeclarationList, v$g$3);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -20325,7 +20325,7 @@ public final class CommandParser extends ParserBase {
               }
             }
 
-            yyValue = GNode.create("StructureDeclaration", v$g$1, v$g$2, v$g$3);
+            yyValue = GNode.create(KIND_StructureDeclaration, v$g$1, v$g$2, v$g$3);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyOption1, yyError);
@@ -20375,7 +20375,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("SpecifierQualifierList", v$g$1);
+      yyValue = GNode.createFromPair(KIND_SpecifierQualifierList, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -20582,7 +20582,7 @@ public final class CommandParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("StructureDeclaratorList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_StructureDeclaratorList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -20664,7 +20664,7 @@ public final class CommandParser extends ParserBase {
             { // Start scope for v$g$4.
               final Node v$g$4 = yyOpValue1;
 
-              yyValue = GNode.create("BitField", v$g$1, v$g$2, v$g$3, v$g$4);
+              yyValue = GNode.create(KIND_BitField, v$g$1, v$g$2, v$g$3, v$g$4);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyOption1, yyError);
@@ -20754,7 +20754,7 @@ public final class CommandParser extends ParserBase {
         { // Start scope for v$g$3.
           final Node v$g$3 = yyOpValue1;
 
-          yyValue = GNode.create("AttributedDeclarator", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_AttributedDeclarator, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -20843,7 +20843,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("PointerDeclarator", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_PointerDeclarator, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -20903,7 +20903,7 @@ public final class CommandParser extends ParserBase {
         { // Start scope for v$g$2.
           final Node v$g$2 = yyOpValue1;
 
-          yyValue = GNode.create("Pointer", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_Pointer, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -20954,7 +20954,7 @@ public final class CommandParser extends ParserBase {
     { // Start scope for v$g$1.
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("TypeQualifierList", v$g$1);
+      yyValue = GNode.createFromPair(KIND_TypeQualifierList, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -21150,7 +21150,7 @@ public final class CommandParser extends ParserBase {
 
                 yyValue = new Action<Node>() {
                   public Node run(Node v$1) {
-                    return GNode.create("FunctionDeclarator", v$1, v$g$2, javaThrows);
+                    return GNode.create(KIND_FunctionDeclarator, v$1, v$g$2, javaThrows);
                   }};
 
                 return yyResult.createValue(yyValue, yyError);
@@ -21192,7 +21192,7 @@ public final class CommandParser extends ParserBase {
 
                 yyValue = new Action<Node>() {
                   public Node run(Node v$1) {
-                    return GNode.create("FunctionDeclarator", v$1, v$g$3, javaThrows);
+                    return GNode.create(KIND_FunctionDeclarator, v$1, v$g$3, javaThrows);
                   }};
 
                 return yyResult.createValue(yyValue, yyError);
@@ -21239,7 +21239,7 @@ public final class CommandParser extends ParserBase {
 
             yyValue = new Action<Node>() {
               public Node run(Node v$1) {
-                return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$5);
+                return GNode.create(KIND_ArrayDeclarator, v$1, v$g$4, v$g$5);
               }};
 
             return yyResult.createValue(yyValue, yyError);
@@ -21261,7 +21261,7 @@ public final class CommandParser extends ParserBase {
 
             yyValue = new Action<Node>() {
               public Node run(Node v$1) {
-                return GNode.create("ArrayDeclarator", v$1, v$g$4, v$g$6);
+                return GNode.create(KIND_ArrayDeclarator, v$1, v$g$4, v$g$6);
               }};
 
             return yyResult.createValue(yyValue, yyError);
@@ -21309,7 +21309,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pSymbol(yyStart);
     if (yyResult.hasValue("*")) {
 
-      yyValue = GNode.create("VariableLength", false);
+      yyValue = GNode.create(KIND_VariableLength, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -21345,7 +21345,7 @@ public final class CommandParser extends ParserBase {
 
       yyState.bind(toText(id));
 
-      yyValue = GNode.create("SimpleDeclarator", id);
+      yyValue = GNode.create(KIND_SimpleDeclarator, id);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -21415,7 +21415,7 @@ public final class CommandParser extends ParserBase {
       { // Start scope for v$g$2.
         final String v$g$2 = yyOpValue1;
 
-        yyValue = GNode.create("ParameterTypeList", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_ParameterTypeList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -21477,7 +21477,7 @@ public final class CommandParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("ParameterList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_ParameterList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -21539,7 +21539,7 @@ public final class CommandParser extends ParserBase {
         { // Start scope for v$g$3.
           final Node v$g$3 = yyOpValue1;
 
-          yyValue = GNode.create("ParameterDeclaration", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_ParameterDeclaration, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           // Commit the state modification.
@@ -21578,7 +21578,7 @@ public final class CommandParser extends ParserBase {
         { // Start scope for v$g$5.
           final Node v$g$5 = yyOpValue1;
 
-          yyValue = GNode.create("ParameterDeclaration", v$g$1, v$g$4, v$g$5);
+          yyValue = GNode.create(KIND_ParameterDeclaration, v$g$1, v$g$4, v$g$5);
           yyValue.setLocation(location(yyStart));
 
           // Commit the state modification.
@@ -21635,7 +21635,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("AttributedAbstractDeclarator", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_AttributedAbstractDeclarator, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -21698,7 +21698,7 @@ public final class CommandParser extends ParserBase {
 
         if ((null != p) || (null != d)) {
 
-          yyValue = GNode.create("AbstractDeclarator", p, d);
+          yyValue = GNode.create(KIND_AbstractDeclarator, p, d);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -21848,7 +21848,7 @@ public final class CommandParser extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$3);
+              return GNode.create(KIND_DirectAbstractDeclarator, v$1, v$g$2, v$g$3);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -21870,7 +21870,7 @@ public final class CommandParser extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$2, v$g$4);
+              return GNode.create(KIND_DirectAbstractDeclarator, v$1, v$g$2, v$g$4);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -21906,7 +21906,7 @@ public final class CommandParser extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("DirectAbstractDeclarator", v$1, v$g$5, v$g$6);
+              return GNode.create(KIND_DirectAbstractDeclarator, v$1, v$g$5, v$g$6);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -21976,7 +21976,7 @@ public final class CommandParser extends ParserBase {
       { // Start scope for v$g$1.
         final Pair<String> v$g$1 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("IdentifierList", id1, v$g$1);
+        yyValue = GNode.createFromPair(KIND_IdentifierList, id1, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -22025,7 +22025,7 @@ public final class CommandParser extends ParserBase {
     { // Start scope for v$g$1.
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("ArrayQualifierList", v$g$1);
+      yyValue = GNode.createFromPair(KIND_ArrayQualifierList, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -22053,7 +22053,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("static")) {
 
-      yyValue = GNode.create("StaticSpecifier", false);
+      yyValue = GNode.create(KIND_StaticSpecifier, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -22065,7 +22065,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("volatile")) {
       final String v$g$1 = "volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$1);
+      yyValue = GNode.create(KIND_VolatileQualifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -22077,7 +22077,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__volatile")) {
       final String v$g$2 = "__volatile";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$2);
+      yyValue = GNode.create(KIND_VolatileQualifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -22089,7 +22089,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__volatile__")) {
       final String v$g$3 = "__volatile__";
 
-      yyValue = GNode.create("VolatileQualifier", v$g$3);
+      yyValue = GNode.create(KIND_VolatileQualifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -22101,7 +22101,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("restrict")) {
       final String v$g$1 = "restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$1);
+      yyValue = GNode.create(KIND_RestrictQualifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -22113,7 +22113,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__restrict")) {
       final String v$g$2 = "__restrict";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$2);
+      yyValue = GNode.create(KIND_RestrictQualifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -22125,7 +22125,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__restrict__")) {
       final String v$g$3 = "__restrict__";
 
-      yyValue = GNode.create("RestrictQualifier", v$g$3);
+      yyValue = GNode.create(KIND_RestrictQualifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -22137,7 +22137,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("const")) {
       final String v$g$1 = "const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$1);
+      yyValue = GNode.create(KIND_ConstantQualifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -22149,7 +22149,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__const")) {
       final String v$g$2 = "__const";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$2);
+      yyValue = GNode.create(KIND_ConstantQualifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -22161,7 +22161,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__const__")) {
       final String v$g$3 = "__const__";
 
-      yyValue = GNode.create("ConstantQualifier", v$g$3);
+      yyValue = GNode.create(KIND_ConstantQualifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -22204,7 +22204,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("_Complex")) {
       final String v$g$1 = "_Complex";
 
-      yyValue = GNode.create("Complex", v$g$1);
+      yyValue = GNode.create(KIND_Complex, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -22216,7 +22216,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__complex__")) {
       final String v$g$2 = "__complex__";
 
-      yyValue = GNode.create("Complex", v$g$2);
+      yyValue = GNode.create(KIND_Complex, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -22227,7 +22227,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("double")) {
 
-      yyValue = GNode.create("Double", false);
+      yyValue = GNode.create(KIND_Double, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -22238,7 +22238,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("float")) {
 
-      yyValue = GNode.create("Float", false);
+      yyValue = GNode.create(KIND_Float, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -22270,7 +22270,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("long")) {
 
-      yyValue = GNode.create("Long", false);
+      yyValue = GNode.create(KIND_Long, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -22281,7 +22281,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("int")) {
 
-      yyValue = GNode.create("Int", false);
+      yyValue = GNode.create(KIND_Int, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -22292,7 +22292,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("short")) {
 
-      yyValue = GNode.create("Short", false);
+      yyValue = GNode.create(KIND_Short, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -22303,7 +22303,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("char")) {
 
-      yyValue = GNode.create("Char", false);
+      yyValue = GNode.create(KIND_Char, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -22314,7 +22314,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("_Bool")) {
 
-      yyValue = GNode.create("Bool", false);
+      yyValue = GNode.create(KIND_Bool, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -22325,7 +22325,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pKeyword(yyStart);
     if (yyResult.hasValue("unsigned")) {
 
-      yyValue = GNode.create("Unsigned", false);
+      yyValue = GNode.create(KIND_Unsigned, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -22337,7 +22337,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("signed")) {
       final String v$g$1 = "signed";
 
-      yyValue = GNode.create("Signed", v$g$1);
+      yyValue = GNode.create(KIND_Signed, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -22349,7 +22349,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__signed")) {
       final String v$g$2 = "__signed";
 
-      yyValue = GNode.create("Signed", v$g$2);
+      yyValue = GNode.create(KIND_Signed, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -22361,7 +22361,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("__signed__")) {
       final String v$g$3 = "__signed__";
 
-      yyValue = GNode.create("Signed", v$g$3);
+      yyValue = GNode.create(KIND_Signed, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -22486,7 +22486,7 @@ public final class CommandParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("InitializerList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_InitializerList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -22497,7 +22497,7 @@ public final class CommandParser extends ParserBase {
 
     if (GCC) {
 
-      yyValue = GNode.create("InitializerList", false);
+      yyValue = GNode.create(KIND_InitializerList, false);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyStart, yyError);
@@ -22547,7 +22547,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("InitializerListEntry", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_InitializerListEntry, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -22603,7 +22603,7 @@ public final class CommandParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue("=")) {
 
-        yyValue = GNode.createFromPair("Designation", v$g$1);
+        yyValue = GNode.createFromPair(KIND_Designation, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -22674,7 +22674,7 @@ public final class CommandParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue("]")) {
 
-          yyValue = GNode.create("Designator", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_Designator, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -22710,7 +22710,7 @@ public final class CommandParser extends ParserBase {
               yyResult = pSymbol(yyBase);
               if (yyResult.hasValue("]")) {
 
-                yyValue = GNode.create("Designator", v$g$3, v$g$4, v$g$5);
+                yyValue = GNode.create(KIND_Designator, v$g$3, v$g$4, v$g$5);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -22736,7 +22736,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$7 = yyResult.semanticValue();
 
-        yyValue = GNode.create("Designator", v$g$6, v$g$7);
+        yyValue = GNode.create(KIND_Designator, v$g$6, v$g$7);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -22784,7 +22784,7 @@ public final class CommandParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue("]")) {
 
-          yyValue = GNode.create("ObsoleteArrayDesignation", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_ObsoleteArrayDesignation, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -22807,7 +22807,7 @@ public final class CommandParser extends ParserBase {
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue("]")) {
 
-              yyValue = GNode.create("ObsoleteArrayDesignation", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_ObsoleteArrayDesignation, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -22854,7 +22854,7 @@ public final class CommandParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(":")) {
 
-        yyValue = GNode.create("ObsoleteFieldDesignation", v$g$1);
+        yyValue = GNode.create(KIND_ObsoleteFieldDesignation, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -22916,7 +22916,7 @@ public final class CommandParser extends ParserBase {
       { // Start scope for v$g$2.
         final Node v$g$2 = yyOpValue1;
 
-        yyValue = GNode.create("TypeName", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_TypeName, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         // Commit the state modification.
@@ -22967,7 +22967,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("AttributeSpecifierList", v$g$1);
+      yyValue = GNode.createFromPair(KIND_AttributeSpecifierList, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -23092,7 +23092,7 @@ public final class CommandParser extends ParserBase {
               yyResult = pSymbol(yyBase);
               if (yyResult.hasValue(")")) {
 
-                yyValue = GNode.create("AttributeSpecifier", v$g$1);
+                yyValue = GNode.create(KIND_AttributeSpecifier, v$g$1);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -23166,7 +23166,7 @@ public final class CommandParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("AttributeList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_AttributeList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -23242,7 +23242,7 @@ public final class CommandParser extends ParserBase {
       { // Start scope for v$g$2.
         final Node v$g$2 = yyOpValue1;
 
-        yyValue = GNode.create("AttributeListEntry", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_AttributeListEntry, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyOption1, yyError);
@@ -23290,7 +23290,7 @@ public final class CommandParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(";")) {
 
-        yyValue = GNode.create("ExpressionStatement", v$g$1);
+        yyValue = GNode.create(KIND_ExpressionStatement, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -23385,7 +23385,7 @@ public final class CommandParser extends ParserBase {
                 if (yyResult.hasValue()) {
                   final Node v$g$3 = yyResult.semanticValue();
 
-                  yyValue = GNode.create("IfElseStatement", v$g$1, v$g$2, v$g$3);
+                  yyValue = GNode.create(KIND_IfElseStatement, v$g$1, v$g$2, v$g$3);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -23396,7 +23396,7 @@ public final class CommandParser extends ParserBase {
 
               // Nested alternative 2.
 
-              yyValue = GNode.create("IfStatement", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_IfStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyChoice1, yyError);
@@ -23433,7 +23433,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_WhileStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -23478,7 +23478,7 @@ public final class CommandParser extends ParserBase {
                 yyResult = pSymbol(yyBase);
                 if (yyResult.hasValue(";")) {
 
-                  yyValue = GNode.create("DoStatement", v$g$1, v$g$2);
+                  yyValue = GNode.create(KIND_DoStatement, v$g$1, v$g$2);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -23561,7 +23561,7 @@ public final class CommandParser extends ParserBase {
                       yyError  = yyResult.select(yyError);
                       if (yyResult.hasValue()) {
 
-                        yyValue = GNode.create("ForStatement", v$g$1, v$g$2, v$g$3, v$g$4);
+                        yyValue = GNode.create(KIND_ForStatement, v$g$1, v$g$2, v$g$3, v$g$4);
                         yyValue.setLocation(location(yyStart));
 
                         return yyResult.createValue(yyValue, yyError);
@@ -23605,7 +23605,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("SwitchStatement", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_SwitchStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -23631,7 +23631,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("LabeledStatement", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_LabeledStatement, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -23647,7 +23647,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$3 = yyResult.semanticValue();
 
-        yyValue = GNode.create("LabeledStatement", v$g$3, null);
+        yyValue = GNode.create(KIND_LabeledStatement, v$g$3, null);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -23663,7 +23663,7 @@ public final class CommandParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(";")) {
 
-        yyValue = GNode.create("BreakStatement", false);
+        yyValue = GNode.create(KIND_BreakStatement, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -23681,7 +23681,7 @@ public final class CommandParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(";")) {
 
-        yyValue = GNode.create("ContinueStatement", false);
+        yyValue = GNode.create(KIND_ContinueStatement, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -23713,7 +23713,7 @@ public final class CommandParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("ReturnStatement", v$g$1);
+          yyValue = GNode.create(KIND_ReturnStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -23737,7 +23737,7 @@ public final class CommandParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("GotoStatement", null, v$g$2);
+          yyValue = GNode.create(KIND_GotoStatement, null, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -23768,7 +23768,7 @@ public final class CommandParser extends ParserBase {
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue(";")) {
 
-              yyValue = GNode.create("GotoStatement", v$g$3, v$g$4);
+              yyValue = GNode.create(KIND_GotoStatement, v$g$3, v$g$4);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -23820,7 +23820,7 @@ public final class CommandParser extends ParserBase {
               if (yyResult.hasValue(";")) {
                 final String v$g$3 = ";";
 
-                yyValue = GNode.create("AssemblyStatement", v$g$1, v$g$2, v$g$3);
+                yyValue = GNode.create(KIND_AssemblyStatement, v$g$1, v$g$2, v$g$3);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -23842,7 +23842,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pSymbol(yyStart);
     if (yyResult.hasValue(";")) {
 
-      yyValue = GNode.create("EmptyStatement", false);
+      yyValue = GNode.create(KIND_EmptyStatement, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -23895,7 +23895,7 @@ public final class CommandParser extends ParserBase {
         { // Start scope for v$g$2.
           final Node v$g$2 = yyOpValue1;
 
-          yyValue = GNode.create("NamedLabel", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_NamedLabel, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -23930,7 +23930,7 @@ public final class CommandParser extends ParserBase {
               yyResult = pSymbol(yyBase);
               if (yyResult.hasValue(":")) {
 
-                yyValue = GNode.create("CaseLabel", v$g$1, v$g$2);
+                yyValue = GNode.create(KIND_CaseLabel, v$g$1, v$g$2);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -23959,7 +23959,7 @@ public final class CommandParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(":")) {
 
-          yyValue = GNode.create("CaseLabel", v$g$3);
+          yyValue = GNode.create(KIND_CaseLabel, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -23978,7 +23978,7 @@ public final class CommandParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(":")) {
 
-        yyValue = GNode.create("DefaultLabel", false);
+        yyValue = GNode.create(KIND_DefaultLabel, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -24101,7 +24101,7 @@ public final class CommandParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(";")) {
 
-            yyValue = GNode.createFromPair("LocalLabelDeclaration", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_LocalLabelDeclaration, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -24340,7 +24340,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("CommaExpression", v$1, v$g$2);
+            return GNode.create(KIND_CommaExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -24396,7 +24396,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$3 = yyResult.semanticValue();
 
-          yyValue = GNode.create("AssignmentExpression", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_AssignmentExpression, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -24471,7 +24471,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("ConditionalExpression", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_ConditionalExpression, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -24507,7 +24507,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$6 = yyResult.semanticValue();
 
-              yyValue = GNode.create("ConditionalExpression", v$g$4, null, v$g$6);
+              yyValue = GNode.create(KIND_ConditionalExpression, v$g$4, null, v$g$6);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -24628,7 +24628,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("LogicalOrExpression", v$1, v$g$2);
+            return GNode.create(KIND_LogicalOrExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -24721,7 +24721,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("LogicalAndExpression", v$1, v$g$2);
+            return GNode.create(KIND_LogicalAndExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -24814,7 +24814,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseOrExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseOrExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -24907,7 +24907,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseXorExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseXorExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -25000,7 +25000,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseAndExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseAndExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -25095,7 +25095,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("EqualityExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_EqualityExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -25189,7 +25189,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("RelationalExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_RelationalExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -25283,7 +25283,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("ShiftExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_ShiftExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -25377,7 +25377,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("AdditiveExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_AdditiveExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -25471,7 +25471,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("MultiplicativeExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_MultiplicativeExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -25529,7 +25529,7 @@ public final class CommandParser extends ParserBase {
           if (yyResult.hasValue()) {
             final Node v$g$2 = yyResult.semanticValue();
 
-            yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
+            yyValue = GNode.create(KIND_CastExpression, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -25617,7 +25617,7 @@ public final class CommandParser extends ParserBase {
 
             if (! yyPredMatched) {
 
-              yyValue = GNode.create("SizeofExpression", v$g$1);
+              yyValue = GNode.create(KIND_SizeofExpression, v$g$1);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -25639,7 +25639,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("SizeofExpression", v$g$2);
+        yyValue = GNode.create(KIND_SizeofExpression, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -25679,7 +25679,7 @@ public final class CommandParser extends ParserBase {
 
             if (! yyPredMatched) {
 
-              yyValue = GNode.create("AlignofExpression", v$g$1);
+              yyValue = GNode.create(KIND_AlignofExpression, v$g$1);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -25701,7 +25701,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("AlignofExpression", v$g$2);
+        yyValue = GNode.create(KIND_AlignofExpression, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -25735,7 +25735,7 @@ public final class CommandParser extends ParserBase {
               yyResult = pSymbol(yyBase);
               if (yyResult.hasValue(")")) {
 
-                yyValue = GNode.create("OffsetofExpression", v$g$1, v$g$2);
+                yyValue = GNode.create(KIND_OffsetofExpression, v$g$1, v$g$2);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -25779,7 +25779,7 @@ public final class CommandParser extends ParserBase {
               yyResult = pSymbol(yyBase);
               if (yyResult.hasValue(")")) {
 
-                yyValue = GNode.create("TypeCompatibilityExpression", v$g$1, v$g$2);
+                yyValue = GNode.create(KIND_TypeCompatibilityExpression, v$g$1, v$g$2);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -25806,7 +25806,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryMinusExpression", v$g$1);
+        yyValue = GNode.create(KIND_UnaryMinusExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -25823,7 +25823,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryPlusExpression", v$g$1);
+        yyValue = GNode.create(KIND_UnaryPlusExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -25850,7 +25850,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("LogicalNegationExpression", v$g$1);
+        yyValue = GNode.create(KIND_LogicalNegationExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -25867,7 +25867,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
+        yyValue = GNode.create(KIND_BitwiseNegationExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -25884,7 +25884,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("AddressExpression", v$g$1);
+        yyValue = GNode.create(KIND_AddressExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -25903,7 +25903,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue()) {
           final String v$g$1 = yyResult.semanticValue();
 
-          yyValue = GNode.create("LabelAddressExpression", v$g$1);
+          yyValue = GNode.create(KIND_LabelAddressExpression, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -25921,7 +25921,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("IndirectionExpression", v$g$1);
+        yyValue = GNode.create(KIND_IndirectionExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -25938,7 +25938,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("PreincrementExpression", v$g$1);
+        yyValue = GNode.create(KIND_PreincrementExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -25955,7 +25955,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("PredecrementExpression", v$g$1);
+        yyValue = GNode.create(KIND_PredecrementExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -25974,7 +25974,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$1 = yyResult.semanticValue();
 
-          yyValue = GNode.create("ExtensionExpression", v$g$1);
+          yyValue = GNode.create(KIND_ExtensionExpression, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -26116,7 +26116,7 @@ public final class CommandParser extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("SubscriptExpression", v$1, v$g$2);
+              return GNode.create(KIND_SubscriptExpression, v$1, v$g$2);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -26138,7 +26138,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("DirectComponentSelection", v$1, v$g$3);
+            return GNode.create(KIND_DirectComponentSelection, v$1, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -26157,7 +26157,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("IndirectComponentSelection", v$1, v$g$4);
+            return GNode.create(KIND_IndirectComponentSelection, v$1, v$g$4);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -26189,7 +26189,7 @@ public final class CommandParser extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("FunctionCall", v$1, v$g$5);
+              return GNode.create(KIND_FunctionCall, v$1, v$g$5);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -26206,7 +26206,7 @@ public final class CommandParser extends ParserBase {
 
       yyValue = new Action<Node>() {
         public Node run(Node v$1) {
-          return GNode.create("PostincrementExpression", v$1);
+          return GNode.create(KIND_PostincrementExpression, v$1);
         }};
 
       return yyResult.createValue(yyValue, yyError);
@@ -26219,7 +26219,7 @@ public final class CommandParser extends ParserBase {
 
       yyValue = new Action<Node>() {
         public Node run(Node v$1) {
-          return GNode.create("PostdecrementExpression", v$1);
+          return GNode.create(KIND_PostdecrementExpression, v$1);
         }};
 
       return yyResult.createValue(yyValue, yyError);
@@ -26269,7 +26269,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.createFromPair("ExpressionList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_ExpressionList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -26392,7 +26392,7 @@ public final class CommandParser extends ParserBase {
               yyResult = pSymbol(yyBase);
               if (yyResult.hasValue("}")) {
 
-                yyValue = GNode.create("CompoundLiteral", v$g$1, v$g$2);
+                yyValue = GNode.create(KIND_CompoundLiteral, v$g$1, v$g$2);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -26458,7 +26458,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimaryIdentifier", v$g$1);
+      yyValue = GNode.create(KIND_PrimaryIdentifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -26480,7 +26480,7 @@ public final class CommandParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.create("StatementAsExpression", v$g$1);
+            yyValue = GNode.create(KIND_StatementAsExpression, v$g$1);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -26518,7 +26518,7 @@ public final class CommandParser extends ParserBase {
               yyResult = pSymbol(yyBase);
               if (yyResult.hasValue(")")) {
 
-                yyValue = GNode.create("VariableArgumentAccess", v$g$1, v$g$2);
+                yyValue = GNode.create(KIND_VariableArgumentAccess, v$g$1, v$g$2);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -26584,7 +26584,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimaryIdentifier", v$g$1);
+      yyValue = GNode.create(KIND_PrimaryIdentifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -26630,7 +26630,7 @@ public final class CommandParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.create("SimpleAssemblyExpression", v$g$1);
+            yyValue = GNode.create(KIND_SimpleAssemblyExpression, v$g$1);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -26730,7 +26730,7 @@ public final class CommandParser extends ParserBase {
                 if (yyResult.hasValue()) {
                   final Node v$g$4 = yyResult.semanticValue();
 
-                  yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2, v$g$3, v$g$4);
+                  yyValue = GNode.create(KIND_AssemblyArgument, v$g$1, v$g$2, v$g$3, v$g$4);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -26741,7 +26741,7 @@ public final class CommandParser extends ParserBase {
 
               // Nested alternative 2.
 
-              yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_AssemblyArgument, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyChoice3, yyError);
@@ -26752,7 +26752,7 @@ public final class CommandParser extends ParserBase {
 
           // Nested alternative 2.
 
-          yyValue = GNode.create("AssemblyArgument", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_AssemblyArgument, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyChoice2, yyError);
@@ -26763,7 +26763,7 @@ public final class CommandParser extends ParserBase {
 
       // Nested alternative 2.
 
-      yyValue = GNode.create("AssemblyArgument", v$g$1);
+      yyValue = GNode.create(KIND_AssemblyArgument, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyChoice1, yyError);
@@ -26812,7 +26812,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.createFromPair("AssemblyOperands", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_AssemblyOperands, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -26957,7 +26957,7 @@ public final class CommandParser extends ParserBase {
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue(")")) {
 
-              yyValue = GNode.create("AssemblyOperand", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_AssemblyOperand, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -27026,7 +27026,7 @@ public final class CommandParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("AssemblyClobbers", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_AssemblyClobbers, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -27085,7 +27085,7 @@ public final class CommandParser extends ParserBase {
                 yyError  = yyResult.select(yyError);
                 if (yyResult.hasValue()) {
 
-                  yyValue = GNode.create("WithStatement", v$g$1, v$g$2);
+                  yyValue = GNode.create(KIND_WithStatement, v$g$1, v$g$2);
                   yyValue.setLocation(location(yyStart));
 
                   return yyResult.createValue(yyValue, yyError);
@@ -27187,7 +27187,7 @@ public final class CommandParser extends ParserBase {
 
         if (yyState.isValid(l)) {
 
-          yyValue = GNode.create("Declaration", null, v$g$2, l);
+          yyValue = GNode.create(KIND_Declaration, null, v$g$2, l);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -27231,7 +27231,7 @@ public final class CommandParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("CancelStatement", v$g$1);
+          yyValue = GNode.create(KIND_CancelStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -27277,7 +27277,7 @@ public final class CommandParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("CommitStatement", v$g$1);
+          yyValue = GNode.create(KIND_CommitStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -27355,7 +27355,7 @@ public final class CommandParser extends ParserBase {
                   yyError  = yyResult.select(yyError);
                   if (yyResult.hasValue()) {
 
-                    yyValue = GNode.create("CInCBlock", v$g$1.size() + v$g$2.size() + 1).
+                    yyValue = GNode.create(KIND_CInCBlock, v$g$1.size() + v$g$2.size() + 1).
                       addAll(v$g$1).addAll(v$g$2).add(v$g$3);
                     yyValue.setLocation(location(yyStart));
 
@@ -27507,7 +27507,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("JavaInCBlock", v$g$1);
+        yyValue = GNode.create(KIND_JavaInCBlock, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -27545,7 +27545,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("JavaInCExpression", v$g$1);
+        yyValue = GNode.create(KIND_JavaInCExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -27587,7 +27587,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("JavaInCStatement", v$g$1);
+        yyValue = GNode.create(KIND_JavaInCStatement, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -27600,7 +27600,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("JavaInCStatement", v$g$2);
+        yyValue = GNode.create(KIND_JavaInCStatement, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -27613,7 +27613,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$3 = yyResult.semanticValue();
 
-        yyValue = GNode.create("JavaInCStatement", v$g$3);
+        yyValue = GNode.create(KIND_JavaInCStatement, v$g$3);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -27672,7 +27672,7 @@ public final class CommandParser extends ParserBase {
     { // Start scope for v$g$1.
       final Node v$g$1 = yyOpValue1;
 
-      yyValue = GNode.create("JavaThrows", v$g$1);
+      yyValue = GNode.create(KIND_JavaThrows, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyOption1, yyError);
@@ -27704,7 +27704,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("JavaType", v$g$1);
+        yyValue = GNode.create(KIND_JavaType, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -27749,7 +27749,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("Modifiers", v$g$1);
+      yyValue = GNode.createFromPair(KIND_Modifiers, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -27821,7 +27821,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("public")) {
       final String v$g$1 = "public";
 
-      yyValue = GNode.create("Modifier", v$g$1);
+      yyValue = GNode.create(KIND_Modifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -27833,7 +27833,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("protected")) {
       final String v$g$2 = "protected";
 
-      yyValue = GNode.create("Modifier", v$g$2);
+      yyValue = GNode.create(KIND_Modifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -27845,7 +27845,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("private")) {
       final String v$g$3 = "private";
 
-      yyValue = GNode.create("Modifier", v$g$3);
+      yyValue = GNode.create(KIND_Modifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -27857,7 +27857,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("static")) {
       final String v$g$4 = "static";
 
-      yyValue = GNode.create("Modifier", v$g$4);
+      yyValue = GNode.create(KIND_Modifier, v$g$4);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -27869,7 +27869,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("abstract")) {
       final String v$g$5 = "abstract";
 
-      yyValue = GNode.create("Modifier", v$g$5);
+      yyValue = GNode.create(KIND_Modifier, v$g$5);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -27881,7 +27881,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("final")) {
       final String v$g$6 = "final";
 
-      yyValue = GNode.create("Modifier", v$g$6);
+      yyValue = GNode.create(KIND_Modifier, v$g$6);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -27893,7 +27893,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("native")) {
       final String v$g$7 = "native";
 
-      yyValue = GNode.create("Modifier", v$g$7);
+      yyValue = GNode.create(KIND_Modifier, v$g$7);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -27905,7 +27905,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("synchronized")) {
       final String v$g$8 = "synchronized";
 
-      yyValue = GNode.create("Modifier", v$g$8);
+      yyValue = GNode.create(KIND_Modifier, v$g$8);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -27917,7 +27917,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("transient")) {
       final String v$g$9 = "transient";
 
-      yyValue = GNode.create("Modifier", v$g$9);
+      yyValue = GNode.create(KIND_Modifier, v$g$9);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -27929,7 +27929,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("volatile")) {
       final String v$g$10 = "volatile";
 
-      yyValue = GNode.create("Modifier", v$g$10);
+      yyValue = GNode.create(KIND_Modifier, v$g$10);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -27941,7 +27941,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("strictfp")) {
       final String v$g$11 = "strictfp";
 
-      yyValue = GNode.create("Modifier", v$g$11);
+      yyValue = GNode.create(KIND_Modifier, v$g$11);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -28001,7 +28001,7 @@ public final class CommandParser extends ParserBase {
           { // Start scope for v$g$5.
             final Node v$g$5 = yyOpValue1;
 
-            yyValue = GNode.create("FormalParameter", v$g$1, v$g$2, null, v$g$4, v$g$5);
+            yyValue = GNode.create(KIND_FormalParameter, v$g$1, v$g$2, null, v$g$4, v$g$5);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyOption1, yyError);
@@ -28037,7 +28037,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifiers", v$g$1);
+      yyValue = GNode.create(KIND_Modifiers, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -28045,7 +28045,7 @@ public final class CommandParser extends ParserBase {
 
     // Alternative <Nonfinal>.
 
-    yyValue = GNode.create("Modifiers", false);
+    yyValue = GNode.create(KIND_Modifiers, false);
     yyValue.setLocation(location(yyStart));
 
     return new SemanticValue(yyValue, yyStart, yyError);
@@ -28073,7 +28073,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("final")) {
       final String v$g$1 = "final";
 
-      yyValue = GNode.create("Modifier", v$g$1);
+      yyValue = GNode.create(KIND_Modifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -28135,7 +28135,7 @@ public final class CommandParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.createFromPair("FormalParameters", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_FormalParameters, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -28151,7 +28151,7 @@ public final class CommandParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(")")) {
 
-        yyValue = GNode.create("FormalParameters", false);
+        yyValue = GNode.create(KIND_FormalParameters, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -28281,7 +28281,7 @@ public final class CommandParser extends ParserBase {
         { // Start scope for v$g$3.
           final Node v$g$3 = yyOpValue1;
 
-          yyValue = GNode.create("Declarator", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_Declarator, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -28332,7 +28332,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.createFromPair("Declarators", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_Declarators, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -28445,7 +28445,7 @@ public final class CommandParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue("}")) {
 
-          yyValue = GNode.createFromPair("ClassBody", v$g$1);
+          yyValue = GNode.createFromPair(KIND_ClassBody, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -28504,7 +28504,7 @@ public final class CommandParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(";")) {
 
-            yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
+            yyValue = GNode.create(KIND_FieldDeclaration, v$g$1, v$g$2, v$g$3);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -28572,7 +28572,7 @@ public final class CommandParser extends ParserBase {
                   if (yyResult.hasValue()) {
                     final Node v$g$8 = yyResult.semanticValue();
 
-                    yyValue = GNode.create("MethodDeclaration", v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$8);
+                    yyValue = GNode.create(KIND_MethodDeclaration, v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$8);
                     yyValue.setLocation(location(yyStart));
 
                     return yyResult.createValue(yyValue, yyError);
@@ -28584,7 +28584,7 @@ public final class CommandParser extends ParserBase {
                   yyResult = pSymbol(yyBase);
                   if (yyResult.hasValue(";")) {
 
-                    yyValue = GNode.create("MethodDeclaration", v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, null);
+                    yyValue = GNode.create(KIND_MethodDeclaration, v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, null);
                     yyValue.setLocation(location(yyStart));
 
                     return yyResult.createValue(yyValue, yyError);
@@ -28628,7 +28628,7 @@ public final class CommandParser extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$6 = yyResult.semanticValue();
 
-                yyValue = GNode.create("ConstructorDeclaration", v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6);
+                yyValue = GNode.create(KIND_ConstructorDeclaration, v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -28681,7 +28681,7 @@ public final class CommandParser extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$6 = yyResult.semanticValue();
 
-                yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5, v$g$6);
+                yyValue = GNode.create(KIND_ClassDeclaration, v$g$1, v$g$2, null, v$g$4, v$g$5, v$g$6);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -28723,7 +28723,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$5 = yyResult.semanticValue();
 
-              yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5);
+              yyValue = GNode.create(KIND_InterfaceDeclaration, v$g$1, v$g$2, null, v$g$4, v$g$5);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -28758,7 +28758,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("BlockDeclaration", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_BlockDeclaration, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -28770,7 +28770,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pSymbol(yyStart);
     if (yyResult.hasValue(";")) {
 
-      yyValue = GNode.create("EmptyDeclaration", false);
+      yyValue = GNode.create(KIND_EmptyDeclaration, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -28835,7 +28835,7 @@ public final class CommandParser extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("ThrowsClause", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_ThrowsClause, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -28902,7 +28902,7 @@ public final class CommandParser extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("Extension", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_Extension, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -28969,7 +28969,7 @@ public final class CommandParser extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("Implementation", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_Implementation, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -29150,7 +29150,7 @@ public final class CommandParser extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$6 = yyResult.semanticValue();
 
-                yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5, v$g$6);
+                yyValue = GNode.create(KIND_ClassDeclaration, v$g$1, v$g$2, null, v$g$4, v$g$5, v$g$6);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -29192,7 +29192,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$5 = yyResult.semanticValue();
 
-              yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5);
+              yyValue = GNode.create(KIND_InterfaceDeclaration, v$g$1, v$g$2, null, v$g$4, v$g$5);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -29246,7 +29246,7 @@ public final class CommandParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(";")) {
 
-            yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
+            yyValue = GNode.create(KIND_FieldDeclaration, v$g$1, v$g$2, v$g$3);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -29321,7 +29321,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_ConditionalStatement, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -29332,7 +29332,7 @@ public final class CommandParser extends ParserBase {
 
           // Nested alternative 2.
 
-          yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, null);
+          yyValue = GNode.create(KIND_ConditionalStatement, v$g$1, v$g$2, null);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
@@ -29363,7 +29363,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("ForStatement", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_ForStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -29392,7 +29392,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_WhileStatement, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -29423,7 +29423,7 @@ public final class CommandParser extends ParserBase {
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue(";")) {
 
-              yyValue = GNode.create("DoWhileStatement", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_DoWhileStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -29478,7 +29478,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$4 = yyResult.semanticValue();
 
-              yyValue = GNode.create("TryCatchFinallyStatement", v$g$3.size() + 3).
+              yyValue = GNode.create(KIND_TryCatchFinallyStatement, v$g$3.size() + 3).
                 add(null).add(v$g$2).addAll(v$g$3).add(v$g$4);
               yyValue.setLocation(location(yyStart));
 
@@ -29512,7 +29512,7 @@ public final class CommandParser extends ParserBase {
         if (yyRepeated1) {
           final Pair<Node> v$g$5 = yyRepValue1.reverse();
 
-          yyValue = GNode.create("TryCatchFinallyStatement", v$g$5.size() + 3).
+          yyValue = GNode.create(KIND_TryCatchFinallyStatement, v$g$5.size() + 3).
             add(null).add(v$g$2).addAll(v$g$5).add(null);
           yyValue.setLocation(location(yyStart));
 
@@ -29557,7 +29557,7 @@ public final class CommandParser extends ParserBase {
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue("}")) {
 
-              yyValue = GNode.createFromPair("SwitchStatement", v$g$1, v$g$2);
+              yyValue = GNode.createFromPair(KIND_SwitchStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -29586,7 +29586,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("SynchronizedStatement", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_SynchronizedStatement, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -29617,7 +29617,7 @@ public final class CommandParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("ReturnStatement", v$g$1);
+          yyValue = GNode.create(KIND_ReturnStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -29641,7 +29641,7 @@ public final class CommandParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("ThrowStatement", v$g$1);
+          yyValue = GNode.create(KIND_ThrowStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -29674,7 +29674,7 @@ public final class CommandParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("BreakStatement", v$g$1);
+          yyValue = GNode.create(KIND_BreakStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -29707,7 +29707,7 @@ public final class CommandParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("ContinueStatement", v$g$1);
+          yyValue = GNode.create(KIND_ContinueStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -29733,7 +29733,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("LabeledStatement", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_LabeledStatement, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -29754,7 +29754,7 @@ public final class CommandParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(";")) {
 
-        yyValue = GNode.create("ExpressionStatement", v$g$1);
+        yyValue = GNode.create(KIND_ExpressionStatement, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -29798,7 +29798,7 @@ public final class CommandParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(";")) {
 
-            yyValue = GNode.create("AssertStatement", v$g$1, v$g$2);
+            yyValue = GNode.create(KIND_AssertStatement, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -29814,7 +29814,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pSymbol(yyStart);
     if (yyResult.hasValue(";")) {
 
-      yyValue = GNode.create("EmptyStatement", false);
+      yyValue = GNode.create(KIND_EmptyStatement, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -29897,7 +29897,7 @@ public final class CommandParser extends ParserBase {
                 { // Start scope for v$g$5.
                   final Node v$g$5 = yyOpValue1;
 
-                  yyValue = GNode.create("BasicForControl", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+                  yyValue = GNode.create(KIND_BasicForControl, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
                   yyValue.setLocation(location(yyStart));
 
                   return new SemanticValue(yyValue, yyOption1, yyError);
@@ -29965,7 +29965,7 @@ public final class CommandParser extends ParserBase {
             { // Start scope for v$g$10.
               final Node v$g$10 = yyOpValue1;
 
-              yyValue = GNode.create("BasicForControl", null, null, v$g$8, v$g$9, v$g$10);
+              yyValue = GNode.create(KIND_BasicForControl, null, null, v$g$8, v$g$9, v$g$10);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyOption1, yyError);
@@ -30098,7 +30098,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$4 = yyResult.semanticValue();
 
-              yyValue = GNode.create("TryCatchFinallyStatement", v$g$3.size() + 3).
+              yyValue = GNode.create(KIND_TryCatchFinallyStatement, v$g$3.size() + 3).
                 add(null).add(v$g$2).addAll(v$g$3).add(v$g$4);
               yyValue.setLocation(location(yyStart));
 
@@ -30132,7 +30132,7 @@ public final class CommandParser extends ParserBase {
         if (yyRepeated1) {
           final Pair<Node> v$g$5 = yyRepValue1.reverse();
 
-          yyValue = GNode.create("TryCatchFinallyStatement", v$g$5.size() + 3).
+          yyValue = GNode.create(KIND_TryCatchFinallyStatement, v$g$5.size() + 3).
             add(null).add(v$g$2).addAll(v$g$5).add(null);
           yyValue.setLocation(location(yyStart));
 
@@ -30197,7 +30197,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("CatchClause", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_CatchClause, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -30267,7 +30267,7 @@ public final class CommandParser extends ParserBase {
           { // Start scope for v$g$2.
             final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-            yyValue = GNode.createFromPair("CaseClause", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_CaseClause, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -30305,7 +30305,7 @@ public final class CommandParser extends ParserBase {
         { // Start scope for v$g$1.
           final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("DefaultClause", v$g$1);
+          yyValue = GNode.createFromPair(KIND_DefaultClause, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -30351,7 +30351,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("SynchronizedStatement", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_SynchronizedStatement, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -30395,7 +30395,7 @@ public final class CommandParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("ThrowStatement", v$g$1);
+          yyValue = GNode.create(KIND_ThrowStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -30461,7 +30461,7 @@ public final class CommandParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("ExpressionList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_ExpressionList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -30516,7 +30516,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$3 = yyResult.semanticValue();
 
-          yyValue = GNode.create("Expression", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_Expression, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -30730,7 +30730,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("ConditionalExpression", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_ConditionalExpression, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -30850,7 +30850,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("LogicalOrExpression", v$1, v$g$2);
+            return GNode.create(KIND_LogicalOrExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -30943,7 +30943,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("LogicalAndExpression", v$1, v$g$2);
+            return GNode.create(KIND_LogicalAndExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -31036,7 +31036,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseOrExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseOrExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -31129,7 +31129,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseXorExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseXorExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -31222,7 +31222,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseAndExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseAndExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -31317,7 +31317,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("EqualityExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_EqualityExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -31361,7 +31361,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("InstanceOfExpression", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_InstanceOfExpression, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -31479,7 +31479,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("RelationalExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_RelationalExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -31640,7 +31640,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("ShiftExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_ShiftExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -31792,7 +31792,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("AdditiveExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_AdditiveExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -31887,7 +31887,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("MultiplicativeExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_MultiplicativeExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -31925,7 +31925,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_UnaryExpression, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -31943,7 +31943,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$3, v$g$4);
+        yyValue = GNode.create(KIND_UnaryExpression, v$g$3, v$g$4);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -31961,7 +31961,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$6 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$5, v$g$6);
+        yyValue = GNode.create(KIND_UnaryExpression, v$g$5, v$g$6);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -31979,7 +31979,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$8 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$7, v$g$8);
+        yyValue = GNode.create(KIND_UnaryExpression, v$g$7, v$g$8);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -32031,7 +32031,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
+        yyValue = GNode.create(KIND_BitwiseNegationExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -32058,7 +32058,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("LogicalNegationExpression", v$g$1);
+        yyValue = GNode.create(KIND_LogicalNegationExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -32102,7 +32102,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("BasicCastExpression", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_BasicCastExpression, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -32129,7 +32129,7 @@ public final class CommandParser extends ParserBase {
           if (yyResult.hasValue()) {
             final Node v$g$2 = yyResult.semanticValue();
 
-            yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
+            yyValue = GNode.create(KIND_CastExpression, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -32253,7 +32253,7 @@ public final class CommandParser extends ParserBase {
 
             yyValue = new Action<Node>() {
               public Node run(Node v$1) {
-                return GNode.create("CallExpression", v$1, null, v$g$3, v$g$4);
+                return GNode.create(KIND_CallExpression, v$1, null, v$g$3, v$g$4);
               }};
 
             return yyResult.createValue(yyValue, yyError);
@@ -32274,7 +32274,7 @@ public final class CommandParser extends ParserBase {
 
             yyValue = new Action<Node>() {
               public Node run(Node v$1) {
-                return GNode.create("CallExpression", v$1, null, v$g$5, v$g$6);
+                return GNode.create(KIND_CallExpression, v$1, null, v$g$5, v$g$6);
               }};
 
             return yyResult.createValue(yyValue, yyError);
@@ -32292,7 +32292,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("SuperExpression", v$1);
+            return GNode.create(KIND_SuperExpression, v$1);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -32309,7 +32309,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("SelectionExpression", v$1, v$g$7);
+            return GNode.create(KIND_SelectionExpression, v$1, v$g$7);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -32332,7 +32332,7 @@ public final class CommandParser extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("SubscriptExpression", v$1, v$g$8);
+              return GNode.create(KIND_SubscriptExpression, v$1, v$g$8);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -32350,7 +32350,7 @@ public final class CommandParser extends ParserBase {
 
       yyValue = new Action<Node>() {
         public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$9);
+          return GNode.create(KIND_PostfixExpression, v$1, v$g$9);
         }};
 
       return yyResult.createValue(yyValue, yyError);
@@ -32364,7 +32364,7 @@ public final class CommandParser extends ParserBase {
 
       yyValue = new Action<Node>() {
         public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$10);
+          return GNode.create(KIND_PostfixExpression, v$1, v$g$10);
         }};
 
       return yyResult.createValue(yyValue, yyError);
@@ -32405,7 +32405,7 @@ public final class CommandParser extends ParserBase {
 
               yyValue = new Action<Node>() {
                 public Node run(Node v$1) {
-                  return GNode.create("NewClassExpression", v$1, null, v$g$12, v$g$13, v$g$14);
+                  return GNode.create(KIND_NewClassExpression, v$1, null, v$g$12, v$g$13, v$g$14);
                 }};
 
               return new SemanticValue(yyValue, yyOption1, yyError);
@@ -32463,7 +32463,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
+        yyValue = GNode.create(KIND_CallExpression, null, null, v$g$3, v$g$4);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -32485,7 +32485,7 @@ public final class CommandParser extends ParserBase {
         yyResult = pJavaIdentifier$Word(yyBase);
         if (yyResult.hasValue("class")) {
 
-          yyValue = GNode.create("ClassLiteralExpression", v$g$1);
+          yyValue = GNode.create(KIND_ClassLiteralExpression, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -32508,7 +32508,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
+        yyValue = GNode.create(KIND_CallExpression, null, null, v$g$3, v$g$4);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -32542,7 +32542,7 @@ public final class CommandParser extends ParserBase {
       yyResult = pJavaIdentifier$Word(yyBase);
       if (yyResult.hasValue("this")) {
 
-        yyValue = GNode.create("ThisExpression", v$g$1);
+        yyValue = GNode.create(KIND_ThisExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -32567,7 +32567,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$4 = yyResult.semanticValue();
 
-          yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
+          yyValue = GNode.create(KIND_CallExpression, null, null, v$g$3, v$g$4);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -32580,7 +32580,7 @@ public final class CommandParser extends ParserBase {
       yyResult = pJavaIdentifier$Word(yyBase);
       if (yyResult.hasValue("super")) {
 
-        yyValue = GNode.create("SuperExpression", null);
+        yyValue = GNode.create(KIND_SuperExpression, null);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -32596,7 +32596,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimaryIdentifier", v$g$1);
+      yyValue = GNode.create(KIND_PrimaryIdentifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -32631,7 +32631,7 @@ public final class CommandParser extends ParserBase {
           { // Start scope for v$g$5.
             final Node v$g$5 = yyOpValue1;
 
-            yyValue = GNode.create("NewClassExpression", null, null, v$g$3, v$g$4, v$g$5);
+            yyValue = GNode.create(KIND_NewClassExpression, null, null, v$g$3, v$g$4, v$g$5);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyOption1, yyError);
@@ -32673,7 +32673,7 @@ public final class CommandParser extends ParserBase {
           { // Start scope for v$g$3.
             final Node v$g$3 = yyOpValue1;
 
-            yyValue = GNode.create("NewArrayExpression", v$g$1, v$g$2, v$g$3, null);
+            yyValue = GNode.create(KIND_NewArrayExpression, v$g$1, v$g$2, v$g$3, null);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyOption1, yyError);
@@ -32701,7 +32701,7 @@ public final class CommandParser extends ParserBase {
           if (yyResult.hasValue()) {
             final Node v$g$7 = yyResult.semanticValue();
 
-            yyValue = GNode.create("NewArrayExpression", v$g$1, null, v$g$6, v$g$7);
+            yyValue = GNode.create(KIND_NewArrayExpression, v$g$1, null, v$g$6, v$g$7);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -32778,7 +32778,7 @@ public final class CommandParser extends ParserBase {
     if (yyRepeated1) {
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("ConcreteDimensions", v$g$1);
+      yyValue = GNode.createFromPair(KIND_ConcreteDimensions, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -32905,7 +32905,7 @@ public final class CommandParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue("}")) {
 
-            yyValue = GNode.createFromPair("ArrayInitializer", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_ArrayInitializer, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -32932,7 +32932,7 @@ public final class CommandParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue("}")) {
 
-        yyValue = GNode.create("ArrayInitializer", false);
+        yyValue = GNode.create(KIND_ArrayInitializer, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -33059,7 +33059,7 @@ public final class CommandParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.createFromPair("Arguments", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_Arguments, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -33075,7 +33075,7 @@ public final class CommandParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(")")) {
 
-        yyValue = GNode.create("Arguments", false);
+        yyValue = GNode.create(KIND_Arguments, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -33205,7 +33205,7 @@ public final class CommandParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue("}")) {
 
-          yyValue = GNode.createFromPair("JavaInJavaBlock", v$g$1);
+          yyValue = GNode.createFromPair(KIND_JavaInJavaBlock, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -33299,7 +33299,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("CInJavaBlock", v$g$1);
+        yyValue = GNode.create(KIND_CInJavaBlock, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -33337,7 +33337,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("CInJavaExpression", v$g$1);
+        yyValue = GNode.create(KIND_CInJavaExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -33382,7 +33382,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Pair<Node> v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.createFromPair("Modifiers", v$g$1);
+      yyValue = GNode.createFromPair(KIND_Modifiers, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -33454,7 +33454,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("public")) {
       final String v$g$1 = "public";
 
-      yyValue = GNode.create("Modifier", v$g$1);
+      yyValue = GNode.create(KIND_Modifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -33466,7 +33466,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("protected")) {
       final String v$g$2 = "protected";
 
-      yyValue = GNode.create("Modifier", v$g$2);
+      yyValue = GNode.create(KIND_Modifier, v$g$2);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -33478,7 +33478,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("private")) {
       final String v$g$3 = "private";
 
-      yyValue = GNode.create("Modifier", v$g$3);
+      yyValue = GNode.create(KIND_Modifier, v$g$3);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -33490,7 +33490,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("static")) {
       final String v$g$4 = "static";
 
-      yyValue = GNode.create("Modifier", v$g$4);
+      yyValue = GNode.create(KIND_Modifier, v$g$4);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -33502,7 +33502,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("abstract")) {
       final String v$g$5 = "abstract";
 
-      yyValue = GNode.create("Modifier", v$g$5);
+      yyValue = GNode.create(KIND_Modifier, v$g$5);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -33514,7 +33514,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("final")) {
       final String v$g$6 = "final";
 
-      yyValue = GNode.create("Modifier", v$g$6);
+      yyValue = GNode.create(KIND_Modifier, v$g$6);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -33526,7 +33526,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("native")) {
       final String v$g$7 = "native";
 
-      yyValue = GNode.create("Modifier", v$g$7);
+      yyValue = GNode.create(KIND_Modifier, v$g$7);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -33538,7 +33538,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("synchronized")) {
       final String v$g$8 = "synchronized";
 
-      yyValue = GNode.create("Modifier", v$g$8);
+      yyValue = GNode.create(KIND_Modifier, v$g$8);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -33550,7 +33550,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("transient")) {
       final String v$g$9 = "transient";
 
-      yyValue = GNode.create("Modifier", v$g$9);
+      yyValue = GNode.create(KIND_Modifier, v$g$9);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -33562,7 +33562,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("volatile")) {
       final String v$g$10 = "volatile";
 
-      yyValue = GNode.create("Modifier", v$g$10);
+      yyValue = GNode.create(KIND_Modifier, v$g$10);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -33574,7 +33574,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("strictfp")) {
       final String v$g$11 = "strictfp";
 
-      yyValue = GNode.create("Modifier", v$g$11);
+      yyValue = GNode.create(KIND_Modifier, v$g$11);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -33634,7 +33634,7 @@ public final class CommandParser extends ParserBase {
           { // Start scope for v$g$5.
             final Node v$g$5 = yyOpValue1;
 
-            yyValue = GNode.create("FormalParameter", v$g$1, v$g$2, null, v$g$4, v$g$5);
+            yyValue = GNode.create(KIND_FormalParameter, v$g$1, v$g$2, null, v$g$4, v$g$5);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyOption1, yyError);
@@ -33670,7 +33670,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue()) {
       final Node v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("Modifiers", v$g$1);
+      yyValue = GNode.create(KIND_Modifiers, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -33678,7 +33678,7 @@ public final class CommandParser extends ParserBase {
 
     // Alternative <Nonfinal>.
 
-    yyValue = GNode.create("Modifiers", false);
+    yyValue = GNode.create(KIND_Modifiers, false);
     yyValue.setLocation(location(yyStart));
 
     return new SemanticValue(yyValue, yyStart, yyError);
@@ -33706,7 +33706,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue("final")) {
       final String v$g$1 = "final";
 
-      yyValue = GNode.create("Modifier", v$g$1);
+      yyValue = GNode.create(KIND_Modifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -33768,7 +33768,7 @@ public final class CommandParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.createFromPair("FormalParameters", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_FormalParameters, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -33784,7 +33784,7 @@ public final class CommandParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(")")) {
 
-        yyValue = GNode.create("FormalParameters", false);
+        yyValue = GNode.create(KIND_FormalParameters, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -33914,7 +33914,7 @@ public final class CommandParser extends ParserBase {
         { // Start scope for v$g$3.
           final Node v$g$3 = yyOpValue1;
 
-          yyValue = GNode.create("Declarator", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_Declarator, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyOption1, yyError);
@@ -33965,7 +33965,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Pair<Node> v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.createFromPair("Declarators", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_Declarators, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -34078,7 +34078,7 @@ public final class CommandParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue("}")) {
 
-          yyValue = GNode.createFromPair("ClassBody", v$g$1);
+          yyValue = GNode.createFromPair(KIND_ClassBody, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -34137,7 +34137,7 @@ public final class CommandParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(";")) {
 
-            yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
+            yyValue = GNode.create(KIND_FieldDeclaration, v$g$1, v$g$2, v$g$3);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -34205,7 +34205,7 @@ public final class CommandParser extends ParserBase {
                   if (yyResult.hasValue()) {
                     final Node v$g$8 = yyResult.semanticValue();
 
-                    yyValue = GNode.create("MethodDeclaration", v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$8);
+                    yyValue = GNode.create(KIND_MethodDeclaration, v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, v$g$8);
                     yyValue.setLocation(location(yyStart));
 
                     return yyResult.createValue(yyValue, yyError);
@@ -34217,7 +34217,7 @@ public final class CommandParser extends ParserBase {
                   yyResult = pSymbol(yyBase);
                   if (yyResult.hasValue(";")) {
 
-                    yyValue = GNode.create("MethodDeclaration", v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, null);
+                    yyValue = GNode.create(KIND_MethodDeclaration, v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6, v$g$7, null);
                     yyValue.setLocation(location(yyStart));
 
                     return yyResult.createValue(yyValue, yyError);
@@ -34261,7 +34261,7 @@ public final class CommandParser extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$6 = yyResult.semanticValue();
 
-                yyValue = GNode.create("ConstructorDeclaration", v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6);
+                yyValue = GNode.create(KIND_ConstructorDeclaration, v$g$1, null, v$g$3, v$g$4, v$g$5, v$g$6);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -34314,7 +34314,7 @@ public final class CommandParser extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$6 = yyResult.semanticValue();
 
-                yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5, v$g$6);
+                yyValue = GNode.create(KIND_ClassDeclaration, v$g$1, v$g$2, null, v$g$4, v$g$5, v$g$6);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -34356,7 +34356,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$5 = yyResult.semanticValue();
 
-              yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5);
+              yyValue = GNode.create(KIND_InterfaceDeclaration, v$g$1, v$g$2, null, v$g$4, v$g$5);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -34391,7 +34391,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("BlockDeclaration", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_BlockDeclaration, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -34403,7 +34403,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pSymbol(yyStart);
     if (yyResult.hasValue(";")) {
 
-      yyValue = GNode.create("EmptyDeclaration", false);
+      yyValue = GNode.create(KIND_EmptyDeclaration, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -34468,7 +34468,7 @@ public final class CommandParser extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("ThrowsClause", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_ThrowsClause, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -34535,7 +34535,7 @@ public final class CommandParser extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("Extension", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_Extension, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -34602,7 +34602,7 @@ public final class CommandParser extends ParserBase {
         { // Start scope for v$g$2.
           final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("Implementation", v$g$1, v$g$2);
+          yyValue = GNode.createFromPair(KIND_Implementation, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -34783,7 +34783,7 @@ public final class CommandParser extends ParserBase {
               if (yyResult.hasValue()) {
                 final Node v$g$6 = yyResult.semanticValue();
 
-                yyValue = GNode.create("ClassDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5, v$g$6);
+                yyValue = GNode.create(KIND_ClassDeclaration, v$g$1, v$g$2, null, v$g$4, v$g$5, v$g$6);
                 yyValue.setLocation(location(yyStart));
 
                 return yyResult.createValue(yyValue, yyError);
@@ -34825,7 +34825,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$5 = yyResult.semanticValue();
 
-              yyValue = GNode.create("InterfaceDeclaration", v$g$1, v$g$2, null, v$g$4, v$g$5);
+              yyValue = GNode.create(KIND_InterfaceDeclaration, v$g$1, v$g$2, null, v$g$4, v$g$5);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -34879,7 +34879,7 @@ public final class CommandParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(";")) {
 
-            yyValue = GNode.create("FieldDeclaration", v$g$1, v$g$2, v$g$3);
+            yyValue = GNode.create(KIND_FieldDeclaration, v$g$1, v$g$2, v$g$3);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -34954,7 +34954,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_ConditionalStatement, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -34965,7 +34965,7 @@ public final class CommandParser extends ParserBase {
 
           // Nested alternative 2.
 
-          yyValue = GNode.create("ConditionalStatement", v$g$1, v$g$2, null);
+          yyValue = GNode.create(KIND_ConditionalStatement, v$g$1, v$g$2, null);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyChoice1, yyError);
@@ -34996,7 +34996,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("ForStatement", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_ForStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -35025,7 +35025,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("WhileStatement", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_WhileStatement, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -35056,7 +35056,7 @@ public final class CommandParser extends ParserBase {
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue(";")) {
 
-              yyValue = GNode.create("DoWhileStatement", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_DoWhileStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -35111,7 +35111,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$4 = yyResult.semanticValue();
 
-              yyValue = GNode.create("TryCatchFinallyStatement", v$g$3.size() + 3).
+              yyValue = GNode.create(KIND_TryCatchFinallyStatement, v$g$3.size() + 3).
                 add(null).add(v$g$2).addAll(v$g$3).add(v$g$4);
               yyValue.setLocation(location(yyStart));
 
@@ -35145,7 +35145,7 @@ public final class CommandParser extends ParserBase {
         if (yyRepeated1) {
           final Pair<Node> v$g$5 = yyRepValue1.reverse();
 
-          yyValue = GNode.create("TryCatchFinallyStatement", v$g$5.size() + 3).
+          yyValue = GNode.create(KIND_TryCatchFinallyStatement, v$g$5.size() + 3).
             add(null).add(v$g$2).addAll(v$g$5).add(null);
           yyValue.setLocation(location(yyStart));
 
@@ -35190,7 +35190,7 @@ public final class CommandParser extends ParserBase {
             yyResult = pSymbol(yyBase);
             if (yyResult.hasValue("}")) {
 
-              yyValue = GNode.createFromPair("SwitchStatement", v$g$1, v$g$2);
+              yyValue = GNode.createFromPair(KIND_SwitchStatement, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -35219,7 +35219,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("SynchronizedStatement", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_SynchronizedStatement, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -35250,7 +35250,7 @@ public final class CommandParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("ReturnStatement", v$g$1);
+          yyValue = GNode.create(KIND_ReturnStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -35274,7 +35274,7 @@ public final class CommandParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("ThrowStatement", v$g$1);
+          yyValue = GNode.create(KIND_ThrowStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -35307,7 +35307,7 @@ public final class CommandParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("BreakStatement", v$g$1);
+          yyValue = GNode.create(KIND_BreakStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -35340,7 +35340,7 @@ public final class CommandParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue(";")) {
 
-          yyValue = GNode.create("ContinueStatement", v$g$1);
+          yyValue = GNode.create(KIND_ContinueStatement, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -35366,7 +35366,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("LabeledStatement", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_LabeledStatement, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -35387,7 +35387,7 @@ public final class CommandParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(";")) {
 
-        yyValue = GNode.create("ExpressionStatement", v$g$1);
+        yyValue = GNode.create(KIND_ExpressionStatement, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -35431,7 +35431,7 @@ public final class CommandParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(";")) {
 
-            yyValue = GNode.create("AssertStatement", v$g$1, v$g$2);
+            yyValue = GNode.create(KIND_AssertStatement, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -35447,7 +35447,7 @@ public final class CommandParser extends ParserBase {
     yyResult = pSymbol(yyStart);
     if (yyResult.hasValue(";")) {
 
-      yyValue = GNode.create("EmptyStatement", false);
+      yyValue = GNode.create(KIND_EmptyStatement, false);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -35530,7 +35530,7 @@ public final class CommandParser extends ParserBase {
                 { // Start scope for v$g$5.
                   final Node v$g$5 = yyOpValue1;
 
-                  yyValue = GNode.create("BasicForControl", v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
+                  yyValue = GNode.create(KIND_BasicForControl, v$g$1, v$g$2, v$g$3, v$g$4, v$g$5);
                   yyValue.setLocation(location(yyStart));
 
                   return new SemanticValue(yyValue, yyOption1, yyError);
@@ -35598,7 +35598,7 @@ public final class CommandParser extends ParserBase {
             { // Start scope for v$g$10.
               final Node v$g$10 = yyOpValue1;
 
-              yyValue = GNode.create("BasicForControl", null, null, v$g$8, v$g$9, v$g$10);
+              yyValue = GNode.create(KIND_BasicForControl, null, null, v$g$8, v$g$9, v$g$10);
               yyValue.setLocation(location(yyStart));
 
               return new SemanticValue(yyValue, yyOption1, yyError);
@@ -35721,7 +35721,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$2 = yyResult.semanticValue();
 
-              yyValue = GNode.create("CatchClause", v$g$1, v$g$2);
+              yyValue = GNode.create(KIND_CatchClause, v$g$1, v$g$2);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -35791,7 +35791,7 @@ public final class CommandParser extends ParserBase {
           { // Start scope for v$g$2.
             final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-            yyValue = GNode.createFromPair("CaseClause", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_CaseClause, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -35829,7 +35829,7 @@ public final class CommandParser extends ParserBase {
         { // Start scope for v$g$1.
           final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-          yyValue = GNode.createFromPair("DefaultClause", v$g$1);
+          yyValue = GNode.createFromPair(KIND_DefaultClause, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -35895,7 +35895,7 @@ public final class CommandParser extends ParserBase {
       { // Start scope for v$g$2.
         final Pair<Node> v$g$2 = yyRepValue1.reverse();
 
-        yyValue = GNode.createFromPair("ExpressionList", v$g$1, v$g$2);
+        yyValue = GNode.createFromPair(KIND_ExpressionList, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -35950,7 +35950,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$3 = yyResult.semanticValue();
 
-          yyValue = GNode.create("Expression", v$g$1, v$g$2, v$g$3);
+          yyValue = GNode.create(KIND_Expression, v$g$1, v$g$2, v$g$3);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -36025,7 +36025,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("ConditionalExpression", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_ConditionalExpression, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -36145,7 +36145,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("LogicalOrExpression", v$1, v$g$2);
+            return GNode.create(KIND_LogicalOrExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -36238,7 +36238,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("LogicalAndExpression", v$1, v$g$2);
+            return GNode.create(KIND_LogicalAndExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -36331,7 +36331,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseOrExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseOrExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -36424,7 +36424,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseXorExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseXorExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -36517,7 +36517,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("BitwiseAndExpression", v$1, v$g$2);
+            return GNode.create(KIND_BitwiseAndExpression, v$1, v$g$2);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -36612,7 +36612,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("EqualityExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_EqualityExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -36656,7 +36656,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$2 = yyResult.semanticValue();
 
-          yyValue = GNode.create("InstanceOfExpression", v$g$1, v$g$2);
+          yyValue = GNode.create(KIND_InstanceOfExpression, v$g$1, v$g$2);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -36774,7 +36774,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("RelationalExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_RelationalExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -36868,7 +36868,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("ShiftExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_ShiftExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -36962,7 +36962,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("AdditiveExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_AdditiveExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -37057,7 +37057,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("MultiplicativeExpression", v$1, v$g$2, v$g$3);
+            return GNode.create(KIND_MultiplicativeExpression, v$1, v$g$2, v$g$3);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -37095,7 +37095,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$2 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$1, v$g$2);
+        yyValue = GNode.create(KIND_UnaryExpression, v$g$1, v$g$2);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -37113,7 +37113,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$3, v$g$4);
+        yyValue = GNode.create(KIND_UnaryExpression, v$g$3, v$g$4);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -37131,7 +37131,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$6 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$5, v$g$6);
+        yyValue = GNode.create(KIND_UnaryExpression, v$g$5, v$g$6);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -37149,7 +37149,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$8 = yyResult.semanticValue();
 
-        yyValue = GNode.create("UnaryExpression", v$g$7, v$g$8);
+        yyValue = GNode.create(KIND_UnaryExpression, v$g$7, v$g$8);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -37200,7 +37200,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("BitwiseNegationExpression", v$g$1);
+        yyValue = GNode.create(KIND_BitwiseNegationExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -37227,7 +37227,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("LogicalNegationExpression", v$g$1);
+        yyValue = GNode.create(KIND_LogicalNegationExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -37271,7 +37271,7 @@ public final class CommandParser extends ParserBase {
             if (yyResult.hasValue()) {
               final Node v$g$3 = yyResult.semanticValue();
 
-              yyValue = GNode.create("BasicCastExpression", v$g$1, v$g$2, v$g$3);
+              yyValue = GNode.create(KIND_BasicCastExpression, v$g$1, v$g$2, v$g$3);
               yyValue.setLocation(location(yyStart));
 
               return yyResult.createValue(yyValue, yyError);
@@ -37298,7 +37298,7 @@ public final class CommandParser extends ParserBase {
           if (yyResult.hasValue()) {
             final Node v$g$2 = yyResult.semanticValue();
 
-            yyValue = GNode.create("CastExpression", v$g$1, v$g$2);
+            yyValue = GNode.create(KIND_CastExpression, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -37422,7 +37422,7 @@ public final class CommandParser extends ParserBase {
 
             yyValue = new Action<Node>() {
               public Node run(Node v$1) {
-                return GNode.create("CallExpression", v$1, null, v$g$3, v$g$4);
+                return GNode.create(KIND_CallExpression, v$1, null, v$g$3, v$g$4);
               }};
 
             return yyResult.createValue(yyValue, yyError);
@@ -37443,7 +37443,7 @@ public final class CommandParser extends ParserBase {
 
             yyValue = new Action<Node>() {
               public Node run(Node v$1) {
-                return GNode.create("CallExpression", v$1, null, v$g$5, v$g$6);
+                return GNode.create(KIND_CallExpression, v$1, null, v$g$5, v$g$6);
               }};
 
             return yyResult.createValue(yyValue, yyError);
@@ -37461,7 +37461,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("SuperExpression", v$1);
+            return GNode.create(KIND_SuperExpression, v$1);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -37478,7 +37478,7 @@ public final class CommandParser extends ParserBase {
 
         yyValue = new Action<Node>() {
           public Node run(Node v$1) {
-            return GNode.create("SelectionExpression", v$1, v$g$7);
+            return GNode.create(KIND_SelectionExpression, v$1, v$g$7);
           }};
 
         return yyResult.createValue(yyValue, yyError);
@@ -37501,7 +37501,7 @@ public final class CommandParser extends ParserBase {
 
           yyValue = new Action<Node>() {
             public Node run(Node v$1) {
-              return GNode.create("SubscriptExpression", v$1, v$g$8);
+              return GNode.create(KIND_SubscriptExpression, v$1, v$g$8);
             }};
 
           return yyResult.createValue(yyValue, yyError);
@@ -37519,7 +37519,7 @@ public final class CommandParser extends ParserBase {
 
       yyValue = new Action<Node>() {
         public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$9);
+          return GNode.create(KIND_PostfixExpression, v$1, v$g$9);
         }};
 
       return yyResult.createValue(yyValue, yyError);
@@ -37533,7 +37533,7 @@ public final class CommandParser extends ParserBase {
 
       yyValue = new Action<Node>() {
         public Node run(Node v$1) {
-          return GNode.create("PostfixExpression", v$1, v$g$10);
+          return GNode.create(KIND_PostfixExpression, v$1, v$g$10);
         }};
 
       return yyResult.createValue(yyValue, yyError);
@@ -37574,7 +37574,7 @@ public final class CommandParser extends ParserBase {
 
               yyValue = new Action<Node>() {
                 public Node run(Node v$1) {
-                  return GNode.create("NewClassExpression", v$1, null, v$g$12, v$g$13, v$g$14);
+                  return GNode.create(KIND_NewClassExpression, v$1, null, v$g$12, v$g$13, v$g$14);
                 }};
 
               return new SemanticValue(yyValue, yyOption1, yyError);
@@ -37642,7 +37642,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
+        yyValue = GNode.create(KIND_CallExpression, null, null, v$g$3, v$g$4);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -37664,7 +37664,7 @@ public final class CommandParser extends ParserBase {
         yyResult = pJavaIdentifier$Word(yyBase);
         if (yyResult.hasValue("class")) {
 
-          yyValue = GNode.create("ClassLiteralExpression", v$g$1);
+          yyValue = GNode.create(KIND_ClassLiteralExpression, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -37687,7 +37687,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$4 = yyResult.semanticValue();
 
-        yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
+        yyValue = GNode.create(KIND_CallExpression, null, null, v$g$3, v$g$4);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -37721,7 +37721,7 @@ public final class CommandParser extends ParserBase {
       yyResult = pJavaIdentifier$Word(yyBase);
       if (yyResult.hasValue("this")) {
 
-        yyValue = GNode.create("ThisExpression", v$g$1);
+        yyValue = GNode.create(KIND_ThisExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -37746,7 +37746,7 @@ public final class CommandParser extends ParserBase {
         if (yyResult.hasValue()) {
           final Node v$g$4 = yyResult.semanticValue();
 
-          yyValue = GNode.create("CallExpression", null, null, v$g$3, v$g$4);
+          yyValue = GNode.create(KIND_CallExpression, null, null, v$g$3, v$g$4);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -37759,7 +37759,7 @@ public final class CommandParser extends ParserBase {
       yyResult = pJavaIdentifier$Word(yyBase);
       if (yyResult.hasValue("super")) {
 
-        yyValue = GNode.create("SuperExpression", null);
+        yyValue = GNode.create(KIND_SuperExpression, null);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -37775,7 +37775,7 @@ public final class CommandParser extends ParserBase {
     if (yyResult.hasValue()) {
       final String v$g$1 = yyResult.semanticValue();
 
-      yyValue = GNode.create("PrimaryIdentifier", v$g$1);
+      yyValue = GNode.create(KIND_PrimaryIdentifier, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return yyResult.createValue(yyValue, yyError);
@@ -37810,7 +37810,7 @@ public final class CommandParser extends ParserBase {
           { // Start scope for v$g$5.
             final Node v$g$5 = yyOpValue1;
 
-            yyValue = GNode.create("NewClassExpression", null, null, v$g$3, v$g$4, v$g$5);
+            yyValue = GNode.create(KIND_NewClassExpression, null, null, v$g$3, v$g$4, v$g$5);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyOption1, yyError);
@@ -37852,7 +37852,7 @@ public final class CommandParser extends ParserBase {
           { // Start scope for v$g$3.
             final Node v$g$3 = yyOpValue1;
 
-            yyValue = GNode.create("NewArrayExpression", v$g$1, v$g$2, v$g$3, null);
+            yyValue = GNode.create(KIND_NewArrayExpression, v$g$1, v$g$2, v$g$3, null);
             yyValue.setLocation(location(yyStart));
 
             return new SemanticValue(yyValue, yyOption1, yyError);
@@ -37880,7 +37880,7 @@ public final class CommandParser extends ParserBase {
           if (yyResult.hasValue()) {
             final Node v$g$7 = yyResult.semanticValue();
 
-            yyValue = GNode.create("NewArrayExpression", v$g$1, null, v$g$6, v$g$7);
+            yyValue = GNode.create(KIND_NewArrayExpression, v$g$1, null, v$g$6, v$g$7);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -37957,7 +37957,7 @@ public final class CommandParser extends ParserBase {
     if (yyRepeated1) {
       final Pair<Node> v$g$1 = yyRepValue1.reverse();
 
-      yyValue = GNode.createFromPair("ConcreteDimensions", v$g$1);
+      yyValue = GNode.createFromPair(KIND_ConcreteDimensions, v$g$1);
       yyValue.setLocation(location(yyStart));
 
       return new SemanticValue(yyValue, yyRepetition1, yyError);
@@ -38084,7 +38084,7 @@ public final class CommandParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue("}")) {
 
-            yyValue = GNode.createFromPair("ArrayInitializer", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_ArrayInitializer, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -38111,7 +38111,7 @@ public final class CommandParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue("}")) {
 
-        yyValue = GNode.create("ArrayInitializer", false);
+        yyValue = GNode.create(KIND_ArrayInitializer, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -38238,7 +38238,7 @@ public final class CommandParser extends ParserBase {
           yyResult = pSymbol(yyBase);
           if (yyResult.hasValue(")")) {
 
-            yyValue = GNode.createFromPair("Arguments", v$g$1, v$g$2);
+            yyValue = GNode.createFromPair(KIND_Arguments, v$g$1, v$g$2);
             yyValue.setLocation(location(yyStart));
 
             return yyResult.createValue(yyValue, yyError);
@@ -38254,7 +38254,7 @@ public final class CommandParser extends ParserBase {
       yyResult = pSymbol(yyBase);
       if (yyResult.hasValue(")")) {
 
-        yyValue = GNode.create("Arguments", false);
+        yyValue = GNode.create(KIND_Arguments, false);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -38314,7 +38314,7 @@ public final class CommandParser extends ParserBase {
         yyResult = pSymbol(yyBase);
         if (yyResult.hasValue("}")) {
 
-          yyValue = GNode.createFromPair("JavaInJavaBlock", v$g$1);
+          yyValue = GNode.createFromPair(KIND_JavaInJavaBlock, v$g$1);
           yyValue.setLocation(location(yyStart));
 
           return yyResult.createValue(yyValue, yyError);
@@ -38356,7 +38356,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("CInJavaBlock", v$g$1);
+        yyValue = GNode.create(KIND_CInJavaBlock, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -38394,7 +38394,7 @@ public final class CommandParser extends ParserBase {
       if (yyResult.hasValue()) {
         final Node v$g$1 = yyResult.semanticValue();
 
-        yyValue = GNode.create("CInJavaExpression", v$g$1);
+        yyValue = GNode.create(KIND_CInJavaExpression, v$g$1);
         yyValue.setLocation(location(yyStart));
 
         return yyResult.createValue(yyValue, yyError);
@@ -38497,4 +38497,236 @@ public final class CommandParser extends ParserBase {
     return set.contains(value);
   }
 
+  // =========================================================================
+
+  private static final int KIND_MetaVariable = GNode.kind("MetaVariable");
+  private static final int KIND_BreakClassCommand = GNode.kind("BreakClassCommand");
+  private static final int KIND_BreakClassMethodCommand = GNode.kind("BreakClassMethodCommand");
+  private static final int KIND_BreakFileCommand = GNode.kind("BreakFileCommand");
+  private static final int KIND_BreakFunctionCommand = GNode.kind("BreakFunctionCommand");
+  private static final int KIND_C2jCommand = GNode.kind("C2jCommand");
+  private static final int KIND_ContinueCommand = GNode.kind("ContinueCommand");
+  private static final int KIND_DeleteCommand = GNode.kind("DeleteCommand");
+  private static final int KIND_DownCommand = GNode.kind("DownCommand");
+  private static final int KIND_ExitCommand = GNode.kind("ExitCommand");
+  private static final int KIND_GdbCommand = GNode.kind("GdbCommand");
+  private static final int KIND_HelpCommand = GNode.kind("HelpCommand");
+  private static final int KIND_InfoBreakCommand = GNode.kind("InfoBreakCommand");
+  private static final int KIND_InfoWatchCommand = GNode.kind("InfoWatchCommand");
+  private static final int KIND_InitJCommand = GNode.kind("InitJCommand");
+  private static final int KIND_J2cCommand = GNode.kind("J2cCommand");
+  private static final int KIND_JdbCommand = GNode.kind("JdbCommand");
+  private static final int KIND_JRetCommand = GNode.kind("JRetCommand");
+  private static final int KIND_ListCommand = GNode.kind("ListCommand");
+  private static final int KIND_LocalsCommand = GNode.kind("LocalsCommand");
+  private static final int KIND_NextCommand = GNode.kind("NextCommand");
+  private static final int KIND_RunCommand = GNode.kind("RunCommand");
+  private static final int KIND_PrintCExpressionCommand = GNode.kind("PrintCExpressionCommand");
+  private static final int KIND_PrintJavaExpressionCommand = GNode.kind("PrintJavaExpressionCommand");
+  private static final int KIND_StatCommand = GNode.kind("StatCommand");
+  private static final int KIND_StepCommand = GNode.kind("StepCommand");
+  private static final int KIND_UpCommand = GNode.kind("UpCommand");
+  private static final int KIND_WatchCExpressionCommand = GNode.kind("WatchCExpressionCommand");
+  private static final int KIND_WatchJavaFieldCommand = GNode.kind("WatchJavaFieldCommand");
+  private static final int KIND_WhereCommand = GNode.kind("WhereCommand");
+  private static final int KIND_IntegerConstant = GNode.kind("IntegerConstant");
+  private static final int KIND_FloatingConstant = GNode.kind("FloatingConstant");
+  private static final int KIND_CharacterConstant = GNode.kind("CharacterConstant");
+  private static final int KIND_StringConstant = GNode.kind("StringConstant");
+  private static final int KIND_VoidType = GNode.kind("VoidType");
+  private static final int KIND_Type = GNode.kind("Type");
+  private static final int KIND_PrimitiveType = GNode.kind("PrimitiveType");
+  private static final int KIND_Dimensions = GNode.kind("Dimensions");
+  private static final int KIND_BooleanLiteral = GNode.kind("BooleanLiteral");
+  private static final int KIND_NullLiteral = GNode.kind("NullLiteral");
+  private static final int KIND_IntegerLiteral = GNode.kind("IntegerLiteral");
+  private static final int KIND_FloatingPointLiteral = GNode.kind("FloatingPointLiteral");
+  private static final int KIND_CharacterLiteral = GNode.kind("CharacterLiteral");
+  private static final int KIND_StringLiteral = GNode.kind("StringLiteral");
+  private static final int KIND_QualifiedIdentifier = GNode.kind("QualifiedIdentifier");
+  private static final int KIND_Declaration = GNode.kind("Declaration");
+  private static final int KIND_DeclarationSpecifiers = GNode.kind("DeclarationSpecifiers");
+  private static final int KIND_FunctionSpecifier = GNode.kind("FunctionSpecifier");
+  private static final int KIND_InitializedDeclaratorList = GNode.kind("InitializedDeclaratorList");
+  private static final int KIND_InitializedDeclarator = GNode.kind("InitializedDeclarator");
+  private static final int KIND_AutoSpecifier = GNode.kind("AutoSpecifier");
+  private static final int KIND_ExternSpecifier = GNode.kind("ExternSpecifier");
+  private static final int KIND_RegisterSpecifier = GNode.kind("RegisterSpecifier");
+  private static final int KIND_StaticSpecifier = GNode.kind("StaticSpecifier");
+  private static final int KIND_ThreadSpecifier = GNode.kind("ThreadSpecifier");
+  private static final int KIND_TypedefSpecifier = GNode.kind("TypedefSpecifier");
+  private static final int KIND_VolatileQualifier = GNode.kind("VolatileQualifier");
+  private static final int KIND_ConstantQualifier = GNode.kind("ConstantQualifier");
+  private static final int KIND_RestrictQualifier = GNode.kind("RestrictQualifier");
+  private static final int KIND_TypedefName = GNode.kind("TypedefName");
+  private static final int KIND_TypeofSpecifier = GNode.kind("TypeofSpecifier");
+  private static final int KIND_VoidTypeSpecifier = GNode.kind("VoidTypeSpecifier");
+  private static final int KIND_VarArgListSpecifier = GNode.kind("VarArgListSpecifier");
+  private static final int KIND_EnumerationTypeDefinition = GNode.kind("EnumerationTypeDefinition");
+  private static final int KIND_EnumerationTypeReference = GNode.kind("EnumerationTypeReference");
+  private static final int KIND_EnumeratorList = GNode.kind("EnumeratorList");
+  private static final int KIND_Enumerator = GNode.kind("Enumerator");
+  private static final int KIND_StructureTypeDefinition = GNode.kind("StructureTypeDefinition");
+  private static final int KIND_StructureTypeReference = GNode.kind("StructureTypeReference");
+  private static final int KIND_UnionTypeDefinition = GNode.kind("UnionTypeDefinition");
+  private static final int KIND_UnionTypeReference = GNode.kind("UnionTypeReference");
+  private static final int KIND_StructureDeclarationList = GNode.kind("StructureDeclarationList");
+  private static final int KIND_StructureDeclaration = GNode.kind("StructureDeclaration");
+  private static final int KIND_SpecifierQualifierList = GNode.kind("SpecifierQualifierList");
+  private static final int KIND_StructureDeclaratorList = GNode.kind("StructureDeclaratorList");
+  private static final int KIND_BitField = GNode.kind("BitField");
+  private static final int KIND_AttributedDeclarator = GNode.kind("AttributedDeclarator");
+  private static final int KIND_PointerDeclarator = GNode.kind("PointerDeclarator");
+  private static final int KIND_Pointer = GNode.kind("Pointer");
+  private static final int KIND_TypeQualifierList = GNode.kind("TypeQualifierList");
+  private static final int KIND_FunctionDeclarator = GNode.kind("FunctionDeclarator");
+  private static final int KIND_ArrayDeclarator = GNode.kind("ArrayDeclarator");
+  private static final int KIND_VariableLength = GNode.kind("VariableLength");
+  private static final int KIND_SimpleDeclarator = GNode.kind("SimpleDeclarator");
+  private static final int KIND_ParameterTypeList = GNode.kind("ParameterTypeList");
+  private static final int KIND_ParameterList = GNode.kind("ParameterList");
+  private static final int KIND_ParameterDeclaration = GNode.kind("ParameterDeclaration");
+  private static final int KIND_AttributedAbstractDeclarator = GNode.kind("AttributedAbstractDeclarator");
+  private static final int KIND_AbstractDeclarator = GNode.kind("AbstractDeclarator");
+  private static final int KIND_DirectAbstractDeclarator = GNode.kind("DirectAbstractDeclarator");
+  private static final int KIND_IdentifierList = GNode.kind("IdentifierList");
+  private static final int KIND_ArrayQualifierList = GNode.kind("ArrayQualifierList");
+  private static final int KIND_Complex = GNode.kind("Complex");
+  private static final int KIND_Double = GNode.kind("Double");
+  private static final int KIND_Float = GNode.kind("Float");
+  private static final int KIND_Long = GNode.kind("Long");
+  private static final int KIND_Int = GNode.kind("Int");
+  private static final int KIND_Short = GNode.kind("Short");
+  private static final int KIND_Char = GNode.kind("Char");
+  private static final int KIND_Bool = GNode.kind("Bool");
+  private static final int KIND_Unsigned = GNode.kind("Unsigned");
+  private static final int KIND_Signed = GNode.kind("Signed");
+  private static final int KIND_InitializerList = GNode.kind("InitializerList");
+  private static final int KIND_InitializerListEntry = GNode.kind("InitializerListEntry");
+  private static final int KIND_Designation = GNode.kind("Designation");
+  private static final int KIND_Designator = GNode.kind("Designator");
+  private static final int KIND_ObsoleteArrayDesignation = GNode.kind("ObsoleteArrayDesignation");
+  private static final int KIND_ObsoleteFieldDesignation = GNode.kind("ObsoleteFieldDesignation");
+  private static final int KIND_TypeName = GNode.kind("TypeName");
+  private static final int KIND_AttributeSpecifierList = GNode.kind("AttributeSpecifierList");
+  private static final int KIND_AttributeSpecifier = GNode.kind("AttributeSpecifier");
+  private static final int KIND_AttributeList = GNode.kind("AttributeList");
+  private static final int KIND_AttributeListEntry = GNode.kind("AttributeListEntry");
+  private static final int KIND_ExpressionStatement = GNode.kind("ExpressionStatement");
+  private static final int KIND_IfElseStatement = GNode.kind("IfElseStatement");
+  private static final int KIND_IfStatement = GNode.kind("IfStatement");
+  private static final int KIND_WhileStatement = GNode.kind("WhileStatement");
+  private static final int KIND_DoStatement = GNode.kind("DoStatement");
+  private static final int KIND_ForStatement = GNode.kind("ForStatement");
+  private static final int KIND_SwitchStatement = GNode.kind("SwitchStatement");
+  private static final int KIND_LabeledStatement = GNode.kind("LabeledStatement");
+  private static final int KIND_BreakStatement = GNode.kind("BreakStatement");
+  private static final int KIND_ContinueStatement = GNode.kind("ContinueStatement");
+  private static final int KIND_ReturnStatement = GNode.kind("ReturnStatement");
+  private static final int KIND_GotoStatement = GNode.kind("GotoStatement");
+  private static final int KIND_AssemblyStatement = GNode.kind("AssemblyStatement");
+  private static final int KIND_EmptyStatement = GNode.kind("EmptyStatement");
+  private static final int KIND_NamedLabel = GNode.kind("NamedLabel");
+  private static final int KIND_CaseLabel = GNode.kind("CaseLabel");
+  private static final int KIND_DefaultLabel = GNode.kind("DefaultLabel");
+  private static final int KIND_LocalLabelDeclaration = GNode.kind("LocalLabelDeclaration");
+  private static final int KIND_CommaExpression = GNode.kind("CommaExpression");
+  private static final int KIND_AssignmentExpression = GNode.kind("AssignmentExpression");
+  private static final int KIND_ConditionalExpression = GNode.kind("ConditionalExpression");
+  private static final int KIND_LogicalOrExpression = GNode.kind("LogicalOrExpression");
+  private static final int KIND_LogicalAndExpression = GNode.kind("LogicalAndExpression");
+  private static final int KIND_BitwiseOrExpression = GNode.kind("BitwiseOrExpression");
+  private static final int KIND_BitwiseXorExpression = GNode.kind("BitwiseXorExpression");
+  private static final int KIND_BitwiseAndExpression = GNode.kind("BitwiseAndExpression");
+  private static final int KIND_EqualityExpression = GNode.kind("EqualityExpression");
+  private static final int KIND_RelationalExpression = GNode.kind("RelationalExpression");
+  private static final int KIND_ShiftExpression = GNode.kind("ShiftExpression");
+  private static final int KIND_AdditiveExpression = GNode.kind("AdditiveExpression");
+  private static final int KIND_MultiplicativeExpression = GNode.kind("MultiplicativeExpression");
+  private static final int KIND_CastExpression = GNode.kind("CastExpression");
+  private static final int KIND_SizeofExpression = GNode.kind("SizeofExpression");
+  private static final int KIND_AlignofExpression = GNode.kind("AlignofExpression");
+  private static final int KIND_OffsetofExpression = GNode.kind("OffsetofExpression");
+  private static final int KIND_TypeCompatibilityExpression = GNode.kind("TypeCompatibilityExpression");
+  private static final int KIND_UnaryMinusExpression = GNode.kind("UnaryMinusExpression");
+  private static final int KIND_UnaryPlusExpression = GNode.kind("UnaryPlusExpression");
+  private static final int KIND_LogicalNegationExpression = GNode.kind("LogicalNegationExpression");
+  private static final int KIND_BitwiseNegationExpression = GNode.kind("BitwiseNegationExpression");
+  private static final int KIND_AddressExpression = GNode.kind("AddressExpression");
+  private static final int KIND_LabelAddressExpression = GNode.kind("LabelAddressExpression");
+  private static final int KIND_IndirectionExpression = GNode.kind("IndirectionExpression");
+  private static final int KIND_PreincrementExpression = GNode.kind("PreincrementExpression");
+  private static final int KIND_PredecrementExpression = GNode.kind("PredecrementExpression");
+  private static final int KIND_ExtensionExpression = GNode.kind("ExtensionExpression");
+  private static final int KIND_SubscriptExpression = GNode.kind("SubscriptExpression");
+  private static final int KIND_DirectComponentSelection = GNode.kind("DirectComponentSelection");
+  private static final int KIND_IndirectComponentSelection = GNode.kind("IndirectComponentSelection");
+  private static final int KIND_FunctionCall = GNode.kind("FunctionCall");
+  private static final int KIND_PostincrementExpression = GNode.kind("PostincrementExpression");
+  private static final int KIND_PostdecrementExpression = GNode.kind("PostdecrementExpression");
+  private static final int KIND_ExpressionList = GNode.kind("ExpressionList");
+  private static final int KIND_CompoundLiteral = GNode.kind("CompoundLiteral");
+  private static final int KIND_PrimaryIdentifier = GNode.kind("PrimaryIdentifier");
+  private static final int KIND_StatementAsExpression = GNode.kind("StatementAsExpression");
+  private static final int KIND_VariableArgumentAccess = GNode.kind("VariableArgumentAccess");
+  private static final int KIND_SimpleAssemblyExpression = GNode.kind("SimpleAssemblyExpression");
+  private static final int KIND_AssemblyArgument = GNode.kind("AssemblyArgument");
+  private static final int KIND_AssemblyOperands = GNode.kind("AssemblyOperands");
+  private static final int KIND_AssemblyOperand = GNode.kind("AssemblyOperand");
+  private static final int KIND_AssemblyClobbers = GNode.kind("AssemblyClobbers");
+  private static final int KIND_WithStatement = GNode.kind("WithStatement");
+  private static final int KIND_CancelStatement = GNode.kind("CancelStatement");
+  private static final int KIND_CommitStatement = GNode.kind("CommitStatement");
+  private static final int KIND_CInCBlock = GNode.kind("CInCBlock");
+  private static final int KIND_JavaInCBlock = GNode.kind("JavaInCBlock");
+  private static final int KIND_JavaInCExpression = GNode.kind("JavaInCExpression");
+  private static final int KIND_JavaInCStatement = GNode.kind("JavaInCStatement");
+  private static final int KIND_JavaThrows = GNode.kind("JavaThrows");
+  private static final int KIND_JavaType = GNode.kind("JavaType");
+  private static final int KIND_Modifiers = GNode.kind("Modifiers");
+  private static final int KIND_Modifier = GNode.kind("Modifier");
+  private static final int KIND_FormalParameter = GNode.kind("FormalParameter");
+  private static final int KIND_FormalParameters = GNode.kind("FormalParameters");
+  private static final int KIND_Declarator = GNode.kind("Declarator");
+  private static final int KIND_Declarators = GNode.kind("Declarators");
+  private static final int KIND_ClassBody = GNode.kind("ClassBody");
+  private static final int KIND_FieldDeclaration = GNode.kind("FieldDeclaration");
+  private static final int KIND_MethodDeclaration = GNode.kind("MethodDeclaration");
+  private static final int KIND_ConstructorDeclaration = GNode.kind("ConstructorDeclaration");
+  private static final int KIND_ClassDeclaration = GNode.kind("ClassDeclaration");
+  private static final int KIND_InterfaceDeclaration = GNode.kind("InterfaceDeclaration");
+  private static final int KIND_BlockDeclaration = GNode.kind("BlockDeclaration");
+  private static final int KIND_EmptyDeclaration = GNode.kind("EmptyDeclaration");
+  private static final int KIND_ThrowsClause = GNode.kind("ThrowsClause");
+  private static final int KIND_Extension = GNode.kind("Extension");
+  private static final int KIND_Implementation = GNode.kind("Implementation");
+  private static final int KIND_ConditionalStatement = GNode.kind("ConditionalStatement");
+  private static final int KIND_DoWhileStatement = GNode.kind("DoWhileStatement");
+  private static final int KIND_TryCatchFinallyStatement = GNode.kind("TryCatchFinallyStatement");
+  private static final int KIND_SynchronizedStatement = GNode.kind("SynchronizedStatement");
+  private static final int KIND_ThrowStatement = GNode.kind("ThrowStatement");
+  private static final int KIND_AssertStatement = GNode.kind("AssertStatement");
+  private static final int KIND_BasicForControl = GNode.kind("BasicForControl");
+  private static final int KIND_CatchClause = GNode.kind("CatchClause");
+  private static final int KIND_CaseClause = GNode.kind("CaseClause");
+  private static final int KIND_DefaultClause = GNode.kind("DefaultClause");
+  private static final int KIND_Expression = GNode.kind("Expression");
+  private static final int KIND_InstanceOfExpression = GNode.kind("InstanceOfExpression");
+  private static final int KIND_UnaryExpression = GNode.kind("UnaryExpression");
+  private static final int KIND_BasicCastExpression = GNode.kind("BasicCastExpression");
+  private static final int KIND_CallExpression = GNode.kind("CallExpression");
+  private static final int KIND_SuperExpression = GNode.kind("SuperExpression");
+  private static final int KIND_SelectionExpression = GNode.kind("SelectionExpression");
+  private static final int KIND_PostfixExpression = GNode.kind("PostfixExpression");
+  private static final int KIND_NewClassExpression = GNode.kind("NewClassExpression");
+  private static final int KIND_ClassLiteralExpression = GNode.kind("ClassLiteralExpression");
+  private static final int KIND_ThisExpression = GNode.kind("ThisExpression");
+  private static final int KIND_NewArrayExpression = GNode.kind("NewArrayExpression");
+  private static final int KIND_ConcreteDimensions = GNode.kind("ConcreteDimensions");
+  private static final int KIND_ArrayInitializer = GNode.kind("ArrayInitializer");
+  private static final int KIND_Arguments = GNode.kind("Arguments");
+  private static final int KIND_JavaInJavaBlock = GNode.kind("JavaInJavaBlock");
+  private static final int KIND_CInJavaBlock = GNode.kind("CInJavaBlock");
+  private static final int KIND_CInJavaExpression = GNode.kind("CInJavaExpression");
+
 }
@@ -21,8 +21,10 @@ package xtc.parser;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import xtc.Constants;
 import xtc.Constants.FuzzyBoolean;
@@ -245,6 +247,12 @@ public class CodeGenerator extends Visitor {
   /** The class name for the generic node factory. */
   protected String factoryClassName;
 
+  /**
+   * The names of the generic nodes created by the parser, which are
+   * created by their kinds, in order of first use.
+   */
+  protected Set<String> nodeKinds = new LinkedHashSet<String>();
+
   /** The flag for creating a main method. */
   protected boolean attributeMain;
 
@@ -1028,6 +1036,7 @@ public class CodeGenerator extends Visitor {
     if (m.hasAttribute(Constants.NAME_FACTORY)) {
       factoryClassName = (String)m.getAttributeValue(Constants.NAME_FACTORY);
     }
+    nodeKinds.clear();
 
     boolean isVerbose = attributeVerbose;
     if (! isVerbose) {
@@ -1482,6 +1491,16 @@ public class CodeGenerator extends Visitor {
       mainMethod(mainMethodNonterminal);
     }
 
+    // Emit the kinds of generic nodes.
+    if (! nodeKinds.isEmpty()) {
+      printer.sep().pln();
+      for (String name : nodeKinds) {
+        printer.indent().p("private static final int ").p(kindName(name)).
+          p(" = GNode.kind(\"").p(name).pln("\");");
+      }
+      printer.pln();
+    }
+
     // Finish parser class.
     printer.decr().indent().pln('}');
 
@@ -3522,6 +3541,36 @@ public class CodeGenerator extends Visitor {
     }
   }
 
+  /**
+   * Get the expression for the name of a generic node, as passed to
+   * the factory's <code>create()</code> methods.  For {@link GNode}
+   * itself, this method returns the name of a constant holding the
+   * name's kind, which is looked up once when loading the parser.
+   * For other factories, it returns the quoted name.
+   *
+   * @param name The name.
+   * @return The expression.
+   */
+  protected String nodeName(String name) {
+    if (null == factoryClassName) {
+      nodeKinds.add(name);
+      return kindName(name);
+    } else {
+      return '"' + name + '"';
+    }
+  }
+
+  /**
+   * Get the name of the constant holding the kind of generic nodes
+   * with the specified name.
+   *
+   * @param name The name.
+   * @return The constant's name.
+   */
+  protected String kindName(String name) {
+    return "KIND_" + name;
+  }
+
   /** Emit the class name of the class creating generic nodes. */
   protected void emitFactoryName() {
     if (null == factoryClassName) {
@@ -3589,11 +3638,11 @@ public class CodeGenerator extends Visitor {
     boolean emitAdditions = true;
     if (runtime.test("optimizeGenericNodes") && (0 <= numChildren)) {
       if (1 == numChildren) {
-        printer.p(".create(\"").p(name).p("\", ").p(v.first).p(')');
+        printer.p(".create(").p(nodeName(name)).p(", ").p(v.first).p(')');
         emitAdditions = false;
 
       } else  if (GNode.MAX_FIXED >= numChildren) {
-        printer.p(".create(\"").p(name).p("\", ").p(v.first).p(", ");
+        printer.p(".create(").p(nodeName(name)).p(", ").p(v.first).p(", ");
         for (Iterator<Binding> iter = v.children.iterator(); iter.hasNext(); ) {
           Binding b = iter.next();
           printer.p(var(b));
@@ -3608,14 +3657,14 @@ public class CodeGenerator extends Visitor {
       } else if (1 == v.children.size()) {
         Binding b = v.children.get(0);
         // Note: The cast to Pair for b.name has been removed.
-        printer.p(".createFromPair(\"").p(name).p("\", ").p(v.first).
+        printer.p(".createFromPair(").p(nodeName(name)).p(", ").p(v.first).
           p(", ").p(var(b)).p(')');
         emitAdditions = false;
       }
     }
 
     if (emitAdditions) {
-      printer.p(".create(\"").p(name).p("\", ");
+      printer.p(".create(").p(nodeName(name)).p(", ");
       emitNumberOfChildren(1, v.children);
       emitChildren(v.first, v.children);
     }
@@ -3641,11 +3690,11 @@ public class CodeGenerator extends Visitor {
     boolean      emitAdditions = true;
     if (runtime.test("optimizeGenericNodes") && (0 <= numChildren)) {
       if (0 == numChildren) {
-        printer.p(".create(\"").p(name).p("\", false)");
+        printer.p(".create(").p(nodeName(name)).p(", false)");
         emitAdditions = false;
 
       } else if (GNode.MAX_FIXED >= numChildren) {
-        printer.p(".create(\"").p(name).p("\", ");
+        printer.p(".create(").p(nodeName(name)).p(", ");
         for (Iterator<Binding> iter = v.children.iterator(); iter.hasNext(); ) {
           Binding b = iter.next();
           printer.p(var(b));
@@ -3660,7 +3709,7 @@ public class CodeGenerator extends Visitor {
       } else if (1 == v.children.size()) {
         Binding b = v.children.get(0);
         // Note: The cast to Pair has been removed.
-        printer.p(".createFromPair(\"").p(name).p("\", ").p(var(b)).p(')');
+        printer.p(".createFromPair(").p(nodeName(name)).p(", ").p(var(b)).p(')');
         emitAdditions = false;
 
       } else if (2 == v.children.size()) {
@@ -3670,7 +3719,7 @@ public class CodeGenerator extends Visitor {
         if ((! AST.isList(analyzer.type(b1.element))) &&
             AST.isList(analyzer.type(b2.element))) {
           // Note: The cast to Pair for b2.name has been removed.
-          printer.p(".createFromPair(\"").p(name).p("\", ").p(var(b1)).
+          printer.p(".createFromPair(").p(nodeName(name)).p(", ").p(var(b1)).
             p(", ").p(var(b2)).p(')');
           emitAdditions = false;
         }
@@ -3678,7 +3727,7 @@ public class CodeGenerator extends Visitor {
     }
 
     if (emitAdditions) {
-      printer.p(".create(\"").p(name).p("\", ");
+      printer.p(".create(").p(nodeName(name)).p(", ");
       emitNumberOfChildren(0, v.children);
       emitChildren(null, v.children);
     }
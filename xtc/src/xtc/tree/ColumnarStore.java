@@ -0,0 +1,487 @@
+/*
+ * xtc - The eXTensible Compiler
+ * Copyright (C) 2026 New York University
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * version 2.1 as published by the Free Software Foundation.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301,
+ * USA.
+ */
+package xtc.tree;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A columnar store of generic nodes.  Instead of one object per node,
+ * with another object for its location and often a hash map for its
+ * properties, this store keeps each node's kind, children, and
+ * location in primitive arrays.  Strings, such as identifiers and
+ * file names, are kept once each in a string pool.  A store thus
+ * takes a fraction of the memory of the same trees of objects, which
+ * lets tools keep the abstract syntax trees of whole programs.
+ *
+ * <p />Trees are {@link #add(Node) added} to a store once they have
+ * been created, after which the original nodes can be garbage
+ * collected.  A tree's nodes are then accessed through lightweight
+ * views, which implement the generic node API and are created as the
+ * nodes are accessed, so that existing visitors keep working.  Views
+ * cannot be modified, though their locations and properties can be
+ * set.  Views of the same node are equal, but not necessarily the
+ * same object.
+ *
+ * <p />Only generic nodes are converted.  Other children, such as
+ * tokens and annotations, are kept as objects.  A store is not safe
+ * for concurrent modification, including by setting properties.
+ *
+ * @version $Revision: 1.1 $
+ */
+public class ColumnarStore {
+
+  /** A view of a node in a store. */
+  static final class View extends GNode {
+
+    /** The store. */
+    final ColumnarStore store;
+
+    /** The node's index. */
+    final int index;
+
+    /**
+     * Create a new view.
+     *
+     * @param store The store.
+     * @param index The node's index.
+     */
+    View(ColumnarStore store, int index) {
+      super(store.kinds[index]);
+      this.store = store;
+      this.index = index;
+    }
+
+    public int size() {
+      return store.end(index) - store.starts[index];
+    }
+
+    public Object get(int index) {
+      final int start = store.starts[this.index];
+      final int size  = store.end(this.index) - start;
+      if ((0 > index) || (size <= index)) {
+        throw new IndexOutOfBoundsException("Index: "+index+", Size: "+size);
+      }
+      return store.decode(store.children[start + index]);
+    }
+
+    public Object set(int index, Object value) {
+      throw new UnsupportedOperationException("Columnar generic node");
+    }
+
+    public void addAllTo(Collection<Object> c) {
+      final int end = store.end(index);
+      for (int i=store.starts[index]; i<end; i++) {
+        c.add(store.decode(store.children[i]));
+      }
+    }
+
+    /**
+     * Get this node's properties.  They are kept by the store, not the
+     * view, so that all views of the node see the same properties.
+     *
+     * @param create Flag for whether to create the properties if the
+     *   node has none.
+     * @return The properties, or <code>null</code> if the node has none
+     *   and they are not to be created.
+     */
+    private Map<String, Object> map(boolean create) {
+      Map<String, Object> map =
+        (null == store.properties)? null : store.properties.get(index);
+      if ((null == map) && create) {
+        if (null == store.properties) {
+          store.properties = new HashMap<Integer, Map<String, Object>>();
+        }
+        map = new HashMap<String, Object>();
+        store.properties.put(index, map);
+      }
+      return map;
+    }
+
+    public Object setProperty(String name, Object value) {
+      return map(true).put(name, value);
+    }
+
+    public boolean hasProperty(String name) {
+      Map<String, Object> map = map(false);
+      return (null != map) && map.containsKey(name);
+    }
+
+    public Object getProperty(String name) {
+      Map<String, Object> map = map(false);
+      return (null == map)? null : map.get(name);
+    }
+
+    public boolean getBooleanProperty(String name) {
+      Object o = getProperty(name);
+      return (null == o)? false : (Boolean)o;
+    }
+
+    public String getStringProperty(String name) {
+      return (String)getProperty(name);
+    }
+
+    public Object removeProperty(String name) {
+      Map<String, Object> map = map(false);
+      return (null == map)? null : map.remove(name);
+    }
+
+    public Set<String> properties() {
+      Map<String, Object> map = map(false);
+      if (null == map) {
+        return Collections.emptySet();
+      } else {
+        return map.keySet();
+      }
+    }
+
+    public boolean hasLocation() {
+      return -1 != store.files[index];
+    }
+
+    public Location getLocation() {
+      final int file = store.files[index];
+      if (-1 == file) return null;
+      return new Location(store.strings[file], store.lines[index],
+                          store.columns[index]);
+    }
+
+    public void setLocation(Location location) {
+      store.setLocation(index, location);
+    }
+
+    public void setLocation(Locatable locatable) {
+      if (locatable.hasLocation()) setLocation(locatable.getLocation());
+    }
+
+    public boolean equals(Object o) {
+      if (o instanceof View) {
+        View other = (View)o;
+        if ((store == other.store) && (index == other.index)) return true;
+      }
+      return super.equals(o);
+    }
+
+  }
+
+  // =======================================================================
+
+  /** The tag for a null child. */
+  private static final int TAG_NULL = 0;
+
+  /** The tag for a generic node child, indexing the nodes. */
+  private static final int TAG_NODE = 1;
+
+  /** The tag for a string child, indexing the string pool. */
+  private static final int TAG_STRING = 2;
+
+  /** The tag for any other child, indexing the other objects. */
+  private static final int TAG_OBJECT = 3;
+
+  /** The number of bits for tags. */
+  private static final int TAG_BITS = 2;
+
+  /** The mask for tags. */
+  private static final int TAG_MASK = 3;
+
+  /** The default capacity for nodes and children. */
+  private static final int CAPACITY = 1024;
+
+  /** The number of nodes. */
+  private int nodeCount;
+
+  /** The kinds, by node. */
+  private int[] kinds;
+
+  /** The indices of the first children, by node. */
+  private int[] starts;
+
+  /** The indices of the location files in the string pool, by node. */
+  private int[] files;
+
+  /** The location lines, by node. */
+  private int[] lines;
+
+  /** The location columns, by node. */
+  private int[] columns;
+
+  /** The number of children. */
+  private int childCount;
+
+  /** The tagged children, each node's children being consecutive. */
+  private int[] children;
+
+  /** The string pool. */
+  private String[] strings;
+
+  /** The indices of the pooled strings. */
+  private final HashMap<String, Integer> stringIndices;
+
+  /** The other objects. */
+  private final ArrayList<Object> objects;
+
+  /** The properties of nodes with properties, by node. */
+  Map<Integer, Map<String, Object>> properties;
+
+  /** Create a new columnar store. */
+  public ColumnarStore() {
+    kinds         = new int[CAPACITY];
+    starts        = new int[CAPACITY];
+    files         = new int[CAPACITY];
+    lines         = new int[CAPACITY];
+    columns       = new int[CAPACITY];
+    children      = new int[CAPACITY];
+    strings       = new String[CAPACITY];
+    stringIndices = new HashMap<String, Integer>();
+    objects       = new ArrayList<Object>();
+  }
+
+  // =======================================================================
+
+  /**
+   * Get the number of nodes in this store.
+   *
+   * @return The number of nodes.
+   */
+  public int size() {
+    return nodeCount;
+  }
+
+  /**
+   * Get the number of strings in this store's pool.
+   *
+   * @return The number of strings.
+   */
+  public int stringCount() {
+    return stringIndices.size();
+  }
+
+  /**
+   * Get a view of the node with the specified index.
+   *
+   * @param index The index.
+   * @return The view.
+   * @throws IndexOutOfBoundsException Signals an invalid index.
+   */
+  public GNode get(int index) {
+    if ((0 > index) || (nodeCount <= index)) {
+      throw new IndexOutOfBoundsException("Index: "+index+", Size: "+
+                                          nodeCount);
+    }
+    return new View(this, index);
+  }
+
+  /**
+   * Add the specified tree to this store.  Generic nodes occurring
+   * several times in the tree, such as shared nodes, are added only
+   * once.  Views of this store are not added again.
+   *
+   * @param root The root of the tree, which must be generic.
+   * @return A view of the root.
+   * @throws IllegalArgumentException Signals that the root is not a
+   *   generic node.
+   */
+  public GNode add(Node root) {
+    if ((null == root) || (! root.isGeneric())) {
+      throw new IllegalArgumentException("Not a generic node: " + root);
+    }
+    int tagged = encode(root, new IdentityHashMap<Node, Integer>());
+    return new View(this, tagged >>> TAG_BITS);
+  }
+
+  /**
+   * Shrink this store's arrays to the nodes and strings it holds.
+   * This method should be called once all trees have been added.
+   */
+  public void trimToSize() {
+    kinds    = resize(kinds, nodeCount);
+    starts   = resize(starts, nodeCount);
+    files    = resize(files, nodeCount);
+    lines    = resize(lines, nodeCount);
+    columns  = resize(columns, nodeCount);
+    children = resize(children, childCount);
+
+    String[] pool = new String[stringIndices.size()];
+    System.arraycopy(strings, 0, pool, 0, pool.length);
+    strings = pool;
+    objects.trimToSize();
+  }
+
+  // =======================================================================
+
+  /**
+   * Get the index after the specified node's last child.
+   *
+   * @param node The node's index.
+   * @return The end of its children.
+   */
+  int end(int node) {
+    return (node + 1 < nodeCount)? starts[node + 1] : childCount;
+  }
+
+  /**
+   * Decode the specified child.
+   *
+   * @param tagged The tagged child.
+   * @return The child.
+   */
+  Object decode(int tagged) {
+    final int index = tagged >>> TAG_BITS;
+
+    switch (tagged & TAG_MASK) {
+    case TAG_NULL:
+      return null;
+    case TAG_NODE:
+      return new View(this, index);
+    case TAG_STRING:
+      return strings[index];
+    default:
+      return objects.get(index);
+    }
+  }
+
+  /**
+   * Encode the specified child, adding it if necessary.
+   *
+   * @param o The child.
+   * @param added The nodes added so far, with their tagged indices.
+   * @return The tagged child.
+   */
+  private int encode(Object o, IdentityHashMap<Node, Integer> added) {
+    if (null == o) {
+      return TAG_NULL;
+
+    } else if (o instanceof String) {
+      return (pool((String)o) << TAG_BITS) | TAG_STRING;
+
+    } else if ((o instanceof View) && (this == ((View)o).store)) {
+      return (((View)o).index << TAG_BITS) | TAG_NODE;
+
+    } else if ((o instanceof Node) && ((Node)o).isGeneric()) {
+      Node    node   = (Node)o;
+      Integer tagged = added.get(node);
+      if (null != tagged) return tagged;
+
+      // Add the children first, so that the node's children are
+      // consecutive.
+      final int size      = node.size();
+      int[]     encoded   = new int[size];
+      for (int i=0; i<size; i++) {
+        encoded[i] = encode(node.get(i), added);
+      }
+
+      final int index     = nodeCount++;
+      if (kinds.length == index) {
+        final int capacity = Math.max(CAPACITY, index * 2);
+        kinds   = resize(kinds, capacity);
+        starts  = resize(starts, capacity);
+        files   = resize(files, capacity);
+        lines   = resize(lines, capacity);
+        columns = resize(columns, capacity);
+      }
+      kinds[index]  = node.kindId();
+      starts[index] = childCount;
+      files[index]  = -1;
+      if (node.hasLocation()) setLocation(index, node.getLocation());
+
+      if (children.length < childCount + size) {
+        children = resize(children, Math.max(childCount + size,
+                                             children.length * 2));
+      }
+      System.arraycopy(encoded, 0, children, childCount, size);
+      childCount += size;
+
+      if (! node.properties().isEmpty()) {
+        if (null == properties) {
+          properties = new HashMap<Integer, Map<String, Object>>();
+        }
+        Map<String, Object> props = new HashMap<String, Object>();
+        for (String name : node.properties()) {
+          props.put(name, node.getProperty(name));
+        }
+        properties.put(index, props);
+      }
+
+      final int result = (index << TAG_BITS) | TAG_NODE;
+      added.put(node, result);
+      return result;
+
+    } else {
+      objects.add(o);
+      return ((objects.size() - 1) << TAG_BITS) | TAG_OBJECT;
+    }
+  }
+
+  /**
+   * Set the location of the specified node.
+   *
+   * @param node The node's index.
+   * @param location The location.
+   */
+  void setLocation(int node, Location location) {
+    if (null == location) {
+      files[node] = -1;
+    } else {
+      files[node]   = pool(location.file);
+      lines[node]   = location.line;
+      columns[node] = location.column;
+    }
+  }
+
+  /**
+   * Pool the specified string.
+   *
+   * @param s The string.
+   * @return Its index in the string pool.
+   */
+  private int pool(String s) {
+    Integer index = stringIndices.get(s);
+    if (null != index) return index;
+
+    final int size = stringIndices.size();
+    if (strings.length == size) {
+      String[] larger = new String[Math.max(CAPACITY, size * 2)];
+      System.arraycopy(strings, 0, larger, 0, size);
+      strings = larger;
+    }
+    strings[size] = s;
+    stringIndices.put(s, size);
+    return size;
+  }
+
+  /**
+   * Resize the specified array.
+   *
+   * @param array The array.
+   * @param length The new length.
+   * @return The resized array.
+   */
+  private static int[] resize(int[] array, int length) {
+    if (array.length == length) return array;
+    int[] result = new int[length];
+    System.arraycopy(array, 0, result, 0, Math.min(array.length, length));
+    return result;
+  }
+
+}
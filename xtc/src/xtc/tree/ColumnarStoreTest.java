@@ -0,0 +1,130 @@
+/*
+ * xtc - The eXTensible Compiler
+ * Copyright (C) 2026 New York University
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * version 2.1 as published by the Free Software Foundation.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301,
+ * USA.
+ */
+package xtc.tree;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for columnar stores.
+ *
+ * @version $Revision: 1.1 $
+ */
+public class ColumnarStoreTest extends junit.framework.TestCase {
+
+  /** Create a new test class. */
+  public ColumnarStoreTest() { /* Nothing to do. */ }
+
+  /**
+   * Create a small tree.
+   *
+   * @return The tree.
+   */
+  private static GNode tree() {
+    GNode type = GNode.create("Type", "int");
+    GNode decl = GNode.create("Declaration", type, "x", null);
+    decl.setLocation(new Location("a.c", 3, 5));
+    GNode list = GNode.create("List");
+    list.add(decl).add(GNode.create("Declaration", type, "y", null));
+    return GNode.create("Unit", list, GNode.create("Empty", false));
+  }
+
+  /** Test that views have the same structure as the added tree. */
+  public void testStructure() {
+    ColumnarStore store = new ColumnarStore();
+    GNode         tree  = tree();
+    GNode         root  = store.add(tree);
+
+    assertEquals(tree, root);
+    assertEquals(root, tree);
+    assertEquals(tree.hashCode(), root.hashCode());
+    assertEquals(tree.toString(), root.toString());
+    assertEquals("Unit", root.getName());
+    assertEquals(GNode.kind("Unit"), root.kindId());
+
+    GNode decl = root.getGeneric(0).getGeneric(0);
+    assertEquals("x", decl.getString(1));
+    assertNull(decl.get(2));
+    assertEquals(new Location("a.c", 3, 5), decl.getLocation());
+    assertFalse(root.hasLocation());
+    assertEquals(0, root.getGeneric(1).size());
+
+    // The type occurs twice in the tree, but is stored once.
+    assertEquals(6, store.size());
+
+    try {
+      decl.set(1, "z");
+      fail("View modified");
+    } catch (UnsupportedOperationException x) {
+      // Expected.
+    }
+  }
+
+  /** Test that existing visitors work on views. */
+  public void testVisitor() {
+    final List<String> names = new ArrayList<String>();
+    new Visitor() {
+      public void visit(GNode n) {
+        names.add(n.getName());
+        for (Object o : n) {
+          if (o instanceof Node) dispatch((Node)o);
+        }
+      }
+    }.dispatch(new ColumnarStore().add(tree()));
+
+    assertEquals("[Unit, List, Declaration, Type, Declaration, Type, Empty]",
+                 names.toString());
+  }
+
+  /** Test that all views of a node share its properties. */
+  public void testProperties() {
+    ColumnarStore store = new ColumnarStore();
+    GNode         root  = store.add(tree());
+
+    Node v1 = root.getNode(0);
+    Node v2 = root.getNode(0);
+    v2.setProperty("a", 1);
+    v1.setProperty("b", 2);
+    assertEquals(1, v1.getProperty("a"));
+    assertEquals(2, v2.getProperty("b"));
+
+    Node v3 = root.getNode(0);
+    assertEquals(1, v3.getProperty("a"));
+    assertEquals(2, v3.getProperty("b"));
+    assertEquals(2, v3.properties().size());
+
+    assertEquals(1, v1.removeProperty("a"));
+    assertFalse(v2.hasProperty("a"));
+    assertFalse(root.hasProperty("a"));
+    assertTrue(root.properties().isEmpty());
+  }
+
+  /** Test that properties are copied when adding a tree. */
+  public void testAddProperties() {
+    GNode tree = tree();
+    tree.setProperty("flag", Boolean.TRUE);
+
+    GNode root = new ColumnarStore().add(tree);
+    assertTrue(root.getBooleanProperty("flag"));
+
+    GNode copy = new ColumnarStore().add(root);
+    assertTrue(copy.getBooleanProperty("flag"));
+  }
+
+}
@@ -21,6 +21,7 @@ package xtc.tree;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
 
 import xtc.util.Pair;
 
@@ -41,6 +42,18 @@ import xtc.util.Pair;
  * {@link #hasVariable()} and convert fixed size nodes into variable
  * sized nodes through {@link #ensureVariable(GNode)}.
  *
+ * <p />A note on names: Names are interned in a global registry,
+ * which assigns each name a dense integer {@link #kind(String)
+ * kind}.  Code that repeatedly creates or tests nodes with the same
+ * name can look up the kind once and then use the
+ * <code>create()</code> methods taking kinds and compare {@link
+ * Node#kindId()} with <code>==</code>.
+ *
+ * <p />A note on sharing: Trees of generic nodes can also be
+ * hash-consed with a {@link SharedNodeFactory}, which stores each
+ * distinct subtree only once, or kept in a {@link ColumnarStore},
+ * which stores nodes in primitive arrays.
+ *
  * @author Robert Grimm
  * @version $Revision: 1.48 $
  */
@@ -53,8 +66,8 @@ public abstract class GNode extends Node {
   static abstract class Fixed extends GNode {
 
     /** Create a new fixed node. */
-    Fixed(String name) {
-      super(name);
+    Fixed(int kind) {
+      super(kind);
     }
 
     public Node add(Object O) {
@@ -99,12 +112,12 @@ public abstract class GNode extends Node {
   /** A generic node with no children. */
   static class Fixed0 extends Fixed {
 
-    Fixed0(String name) {
-      super(name);
+    Fixed0(int kind) {
+      super(kind);
     }
 
     Fixed0(Fixed0 node) {
-      super(node.name);
+      super(node.kind);
     }
 
     public int size() {
@@ -132,13 +145,13 @@ public abstract class GNode extends Node {
 
     Object c1;
 
-    Fixed1(String name, Object c1) {
-      super(name);
+    Fixed1(int kind, Object c1) {
+      super(kind);
       this.c1 = c1;
     }
 
     Fixed1(Fixed1 node) {
-      this(node.name, node.c1);
+      this(node.kind, node.c1);
     }
 
     public int size() {
@@ -177,14 +190,14 @@ public abstract class GNode extends Node {
     Object c1;
     Object c2;
 
-    Fixed2(String name, Object c1, Object c2) {
-      super(name);
+    Fixed2(int kind, Object c1, Object c2) {
+      super(kind);
       this.c1 = c1;
       this.c2 = c2;
     }
 
     Fixed2(Fixed2 node) {
-      this(node.name, node.c1, node.c2);
+      this(node.kind, node.c1, node.c2);
     }
 
     public int size() {
@@ -235,15 +248,15 @@ public abstract class GNode extends Node {
     Object c2;
     Object c3;
 
-    Fixed3(String name, Object c1, Object c2, Object c3) {
-      super(name);
+    Fixed3(int kind, Object c1, Object c2, Object c3) {
+      super(kind);
       this.c1 = c1;
       this.c2 = c2;
       this.c3 = c3;
     }
 
     Fixed3(Fixed3 node) {
-      this(node.name, node.c1, node.c2, node.c3);
+      this(node.kind, node.c1, node.c2, node.c3);
     }
 
     public int size() {
@@ -302,8 +315,8 @@ public abstract class GNode extends Node {
     Object c3;
     Object c4;
 
-    Fixed4(String name, Object c1, Object c2, Object c3, Object c4) {
-      super(name);
+    Fixed4(int kind, Object c1, Object c2, Object c3, Object c4) {
+      super(kind);
       this.c1 = c1;
       this.c2 = c2;
       this.c3 = c3;
@@ -311,7 +324,7 @@ public abstract class GNode extends Node {
     }
 
     Fixed4(Fixed4 node) {
-      this(node.name, node.c1, node.c2, node.c3, node.c4);
+      this(node.kind, node.c1, node.c2, node.c3, node.c4);
     }
 
     public int size() {
@@ -378,8 +391,8 @@ public abstract class GNode extends Node {
     Object c4;
     Object c5;
 
-    Fixed5(String name, Object c1, Object c2, Object c3, Object c4, Object c5) {
-      super(name);
+    Fixed5(int kind, Object c1, Object c2, Object c3, Object c4, Object c5) {
+      super(kind);
       this.c1 = c1;
       this.c2 = c2;
       this.c3 = c3;
@@ -388,7 +401,7 @@ public abstract class GNode extends Node {
     }
 
     Fixed5(Fixed5 node) {
-      this(node.name, node.c1, node.c2, node.c3, node.c4, node.c5);
+      this(node.kind, node.c1, node.c2, node.c3, node.c4, node.c5);
     }
 
     public int size() {
@@ -463,9 +476,9 @@ public abstract class GNode extends Node {
     Object c5;
     Object c6;
 
-    Fixed6(String name, Object c1, Object c2, Object c3, Object c4,
+    Fixed6(int kind, Object c1, Object c2, Object c3, Object c4,
            Object c5, Object c6) {
-      super(name);
+      super(kind);
       this.c1 = c1;
       this.c2 = c2;
       this.c3 = c3;
@@ -475,7 +488,7 @@ public abstract class GNode extends Node {
     }
 
     Fixed6(Fixed6 node) {
-      this(node.name, node.c1, node.c2, node.c3, node.c4, node.c5, node.c6);
+      this(node.kind, node.c1, node.c2, node.c3, node.c4, node.c5, node.c6);
     }
 
     public int size() {
@@ -558,9 +571,9 @@ public abstract class GNode extends Node {
     Object c6;
     Object c7;
 
-    Fixed7(String name, Object c1, Object c2, Object c3, Object c4,
+    Fixed7(int kind, Object c1, Object c2, Object c3, Object c4,
            Object c5, Object c6, Object c7) {
-      super(name);
+      super(kind);
       this.c1 = c1;
       this.c2 = c2;
       this.c3 = c3;
@@ -571,7 +584,7 @@ public abstract class GNode extends Node {
     }
 
     Fixed7(Fixed7 node) {
-      this(node.name, node.c1, node.c2, node.c3, node.c4, node.c5, node.c6,
+      this(node.kind, node.c1, node.c2, node.c3, node.c4, node.c5, node.c6,
            node.c7);
     }
 
@@ -663,9 +676,9 @@ public abstract class GNode extends Node {
     Object c7;
     Object c8;
 
-    Fixed8(String name, Object c1, Object c2, Object c3, Object c4,
+    Fixed8(int kind, Object c1, Object c2, Object c3, Object c4,
            Object c5, Object c6, Object c7, Object c8) {
-      super(name);
+      super(kind);
       this.c1 = c1;
       this.c2 = c2;
       this.c3 = c3;
@@ -677,7 +690,7 @@ public abstract class GNode extends Node {
     }
 
     Fixed8(Fixed8 node) {
-      this(node.name, node.c1, node.c2, node.c3, node.c4, node.c5, node.c6,
+      this(node.kind, node.c1, node.c2, node.c3, node.c4, node.c5, node.c6,
            node.c7, node.c8);
     }
 
@@ -771,26 +784,26 @@ public abstract class GNode extends Node {
     private ArrayList<Object> children;
 
     /** Create a new variable node. */
-    Variable(String name) {
-      super(name);
+    Variable(int kind) {
+      super(kind);
       children = new ArrayList<Object>();
     }
 
     /** Create a new variable node. */
-    Variable(String name, int capacity) {
-      super(name);
+    Variable(int kind, int capacity) {
+      super(kind);
       children = new ArrayList<Object>(capacity);
     }
 
     /** Create a new variable node. */
-    Variable(String name, ArrayList<Object> children) {
-      super(name);
+    Variable(int kind, ArrayList<Object> children) {
+      super(kind);
       this.children = children;
     }
 
     /** Create a new variable node. */
     Variable(Variable node) {
-      super(node.name);
+      super(node.kind);
       children = new ArrayList<Object>(node.children);
     }
 
@@ -862,12 +875,92 @@ public abstract class GNode extends Node {
    */
   public static final int MAX_FIXED = 8;
 
+  /** The kinds of all names registered so far. */
+  private static final ConcurrentHashMap<String, Integer> kinds =
+    new ConcurrentHashMap<String, Integer>();
+
+  /** The registered names, indexed by kind. */
+  private static volatile String[] names = new String[256];
+
+  /** The number of registered names. */
+  private static int kindCount = 0;
+
   /** The name. */
   final String name;
 
-  /** Create a new generic node with the specified name. */
-  GNode(String name) {
-    this.name = name;
+  /** The kind. */
+  final int kind;
+
+  /** Create a new generic node with the specified kind. */
+  GNode(int kind) {
+    this.kind = kind;
+    this.name = name(kind);
+  }
+
+  // =======================================================================
+
+  /**
+   * Get the kind for the specified name.  The first time a name is
+   * used, it is interned and assigned the next unused kind, starting
+   * at 0.  Generic nodes with the same name thus have the same kind,
+   * and the kinds of all names form a dense range that can index
+   * arrays.
+   *
+   * @param name The name.
+   * @return The corresponding kind.
+   */
+  public static int kind(String name) {
+    Integer kind = kinds.get(name);
+    return (null == kind)? register(name) : kind;
+  }
+
+  /**
+   * Register the specified name.
+   *
+   * @param name The name.
+   * @return The corresponding kind.
+   */
+  private static synchronized int register(String name) {
+    Integer kind = kinds.get(name);
+    if (null != kind) return kind;
+
+    if (names.length == kindCount) {
+      String[] larger = new String[names.length * 2];
+      System.arraycopy(names, 0, larger, 0, kindCount);
+      names = larger;
+    }
+    // Store the name before publishing the kind, so that any thread
+    // with the kind also sees the name.
+    name             = name.intern();
+    names[kindCount] = name;
+    kinds.put(name, kindCount);
+    return kindCount++;
+  }
+
+  /**
+   * Get the name for the specified kind.
+   *
+   * @param kind The kind.
+   * @return The corresponding name.
+   * @throws IllegalArgumentException Signals that the kind has not
+   *   been registered.
+   */
+  public static String name(int kind) {
+    String[] names = GNode.names;
+    if ((0 > kind) || (names.length <= kind) || (null == names[kind])) {
+      throw new IllegalArgumentException("Invalid kind " + kind);
+    }
+    return names[kind];
+  }
+
+  /**
+   * Get the number of kinds registered so far.  All kinds are
+   * smaller than this number.
+   *
+   * @return The number of kinds.
+   */
+  public static synchronized int kindCount() {
+    return kindCount;
   }
 
   // =======================================================================
@@ -899,7 +992,7 @@ public abstract class GNode extends Node {
     if (this == o) return true;
     if (! (o instanceof GNode)) return false;
     GNode other = (GNode)o;
-    if (! name.equals(other.name)) return false;
+    if (kind != other.kind) return false;
     int size = size();
     if (other.size() != size) return false;
     for (int i=0; i<size; i++) {
@@ -929,6 +1022,10 @@ public abstract class GNode extends Node {
     return name;
   }
 
+  public final int kindId() {
+    return kind;
+  }
+
   public final boolean hasName(String name) {
     return this.name.equals(name);
   }
@@ -944,7 +1041,19 @@ public abstract class GNode extends Node {
    * @return The corresponding generic node.
    */
   public static GNode create(String name) {
-    return new Variable(name);
+    return create(kind(name));
+  }
+
+  /**
+   * Create a new generic node with the specified kind.  The new node
+   * supports a variable number of children and has a default
+   * capacity.
+   *
+   * @param kind The kind.
+   * @return The corresponding generic node.
+   */
+  public static GNode create(int kind) {
+    return new Variable(kind);
   }
 
   /**
@@ -959,7 +1068,22 @@ public abstract class GNode extends Node {
    *   Signals that the capacity is negative.
    */
   public static GNode create(String name, int capacity) {
-    return new Variable(name, capacity);
+    return create(kind(name), capacity);
+  }
+
+  /**
+   * Create a new generic node with the specified kind.  The new node
+   * supports a variable number of children and has the specified
+   * capacity.
+   *
+   * @param kind The kind.
+   * @param capacity The initial capacity.
+   * @return The corresponding generic node.
+   * @throws IllegalArgumentException
+   *   Signals that the capacity is negative.
+   */
+  public static GNode create(int kind, int capacity) {
+    return new Variable(kind, capacity);
   }
 
   /**
@@ -974,10 +1098,25 @@ public abstract class GNode extends Node {
    * @return The corresponding generic node.
    */
   public static GNode create(String name, boolean variable) {
+    return create(kind(name), variable);
+  }
+
+  /**
+   * Create a new generic node with the specified kind.  Invoking this
+   * method with a true variable flag is equivalent to invoking {@link
+   * #create(int)}.  Invoking this method with a false variabel
+   * flag results in a generic node with no children.
+   *
+   * @param kind The kind.
+   * @param variable Flag for whether the new node supports a variable
+   *   number of children.
+   * @return The corresponding generic node.
+   */
+  public static GNode create(int kind, boolean variable) {
     if (variable) {
-      return new Variable(name);
+      return new Variable(kind);
     } else {
-      return new Fixed0(name);
+      return new Fixed0(kind);
     }
   }
 
@@ -990,7 +1129,19 @@ public abstract class GNode extends Node {
    * @return The corresponding generic node.
    */
   public static GNode create(String name, Object child) {
-    return new Fixed1(name, child);
+    return create(kind(name), child);
+  }
+
+  /**
+   * Create a new generic node with the specified kind and child.  The
+   * new node does not support a variable number of children.
+   *
+   * @param kind The kind.
+   * @param child The child.
+   * @return The corresponding generic node.
+   */
+  public static GNode create(int kind, Object child) {
+    return new Fixed1(kind, child);
   }
 
   /**
@@ -1003,7 +1154,20 @@ public abstract class GNode extends Node {
    * @return The corresponding generic node.
    */
   public static GNode create(String name, Object c1, Object c2) {
-    return new Fixed2(name, c1, c2);
+    return create(kind(name), c1, c2);
+  }
+
+  /**
+   * Create a new generic node with the specified kind and children.
+   * The new node does not support a variable number of children.
+   *
+   * @param kind The kind.
+   * @param c1 The first child.
+   * @param c2 The second child.
+   * @return The corresponding generic node.
+   */
+  public static GNode create(int kind, Object c1, Object c2) {
+    return new Fixed2(kind, c1, c2);
   }
 
   /**
@@ -1017,7 +1181,21 @@ public abstract class GNode extends Node {
    * @return The corresponding generic node.
    */
   public static GNode create(String name, Object c1, Object c2, Object c3) {
-    return new Fixed3(name, c1, c2, c3);
+    return create(kind(name), c1, c2, c3);
+  }
+
+  /**
+   * Create a new generic node with the specified kind and children.
+   * The new node does not support a variable number of children.
+   *
+   * @param kind The kind.
+   * @param c1 The first child.
+   * @param c2 The second child.
+   * @param c3 The third child.
+   * @return The corresponding generic node.
+   */
+  public static GNode create(int kind, Object c1, Object c2, Object c3) {
+    return new Fixed3(kind, c1, c2, c3);
   }
 
   /**
@@ -1033,7 +1211,23 @@ public abstract class GNode extends Node {
    */
   public static GNode create(String name, Object c1, Object c2, Object c3,
                              Object c4) {
-    return new Fixed4(name, c1, c2, c3, c4);
+    return create(kind(name), c1, c2, c3, c4);
+  }
+
+  /**
+   * Create a new generic node with the specified kind and children.
+   * The new node does not support a variable number of children.
+   *
+   * @param kind The kind.
+   * @param c1 The first child.
+   * @param c2 The second child.
+   * @param c3 The third child.
+   * @param c4 The fourth child.
+   * @return The corresponding generic node.
+   */
+  public static GNode create(int kind, Object c1, Object c2, Object c3,
+                             Object c4) {
+    return new Fixed4(kind, c1, c2, c3, c4);
   }
 
   /**
@@ -1050,7 +1244,24 @@ public abstract class GNode extends Node {
    */
   public static GNode create(String name, Object c1, Object c2, Object c3,
                              Object c4, Object c5) {
-    return new Fixed5(name, c1, c2, c3, c4, c5);
+    return create(kind(name), c1, c2, c3, c4, c5);
+  }
+
+  /**
+   * Create a new generic node with the specified kind and children.
+   * The new node does not support a variable number of children.
+   *
+   * @param kind The kind.
+   * @param c1 The first child.
+   * @param c2 The second child.
+   * @param c3 The third child.
+   * @param c4 The fourth child.
+   * @param c5 The fifth child.
+   * @return The corresponding generic node.
+   */
+  public static GNode create(int kind, Object c1, Object c2, Object c3,
+                             Object c4, Object c5) {
+    return new Fixed5(kind, c1, c2, c3, c4, c5);
   }
 
   /**
@@ -1068,7 +1279,25 @@ public abstract class GNode extends Node {
    */
   public static GNode create(String name, Object c1, Object c2, Object c3,
                              Object c4, Object c5, Object c6) {
-    return new Fixed6(name, c1, c2, c3, c4, c5, c6);
+    return create(kind(name), c1, c2, c3, c4, c5, c6);
+  }
+
+  /**
+   * Create a new generic node with the specified kind and children.
+   * The new node does not support a variable number of children.
+   *
+   * @param kind The kind.
+   * @param c1 The first child.
+   * @param c2 The second child.
+   * @param c3 The third child.
+   * @param c4 The fourth child.
+   * @param c5 The fifth child.
+   * @param c6 The sixth child.
+   * @return The corresponding generic node.
+   */
+  public static GNode create(int kind, Object c1, Object c2, Object c3,
+                             Object c4, Object c5, Object c6) {
+    return new Fixed6(kind, c1, c2, c3, c4, c5, c6);
   }
 
   /**
@@ -1087,7 +1316,26 @@ public abstract class GNode extends Node {
    */
   public static GNode create(String name, Object c1, Object c2, Object c3,
                              Object c4, Object c5, Object c6, Object c7) {
-    return new Fixed7(name, c1, c2, c3, c4, c5, c6, c7);
+    return create(kind(name), c1, c2, c3, c4, c5, c6, c7);
+  }
+
+  /**
+   * Create a new generic node with the specified kind and children.
+   * The new node does not support a variable number of children.
+   *
+   * @param kind The kind.
+   * @param c1 The first child.
+   * @param c2 The second child.
+   * @param c3 The third child.
+   * @param c4 The fourth child.
+   * @param c5 The fifth child.
+   * @param c6 The sixth child.
+   * @param c7 The seventh child.
+   * @return The corresponding generic node.
+   */
+  public static GNode create(int kind, Object c1, Object c2, Object c3,
+                             Object c4, Object c5, Object c6, Object c7) {
+    return new Fixed7(kind, c1, c2, c3, c4, c5, c6, c7);
   }
 
   /**
@@ -1108,7 +1356,28 @@ public abstract class GNode extends Node {
   public static GNode create(String name, Object c1, Object c2, Object c3,
                              Object c4, Object c5, Object c6, Object c7,
                              Object c8) {
-    return new Fixed8(name, c1, c2, c3, c4, c5, c6, c7, c8);
+    return create(kind(name), c1, c2, c3, c4, c5, c6, c7, c8);
+  }
+
+  /**
+   * Create a new generic node with the specified kind and children.
+   * The new node does not support a variable number of children.
+   *
+   * @param kind The kind.
+   * @param c1 The first child.
+   * @param c2 The second child.
+   * @param c3 The third child.
+   * @param c4 The fourth child.
+   * @param c5 The fifth child.
+   * @param c6 The sixth child.
+   * @param c7 The seventh child.
+   * @param c8 The eigth child.
+   * @return The corresponding generic node.
+   */
+  public static GNode create(int kind, Object c1, Object c2, Object c3,
+                             Object c4, Object c5, Object c6, Object c7,
+                             Object c8) {
+    return new Fixed8(kind, c1, c2, c3, c4, c5, c6, c7, c8);
   }
 
   /**
@@ -1120,6 +1389,18 @@ public abstract class GNode extends Node {
    * @return The corresponding generic node.
    */
   public static GNode createFromPair(String name, Pair p) {
+    return createFromPair(kind(name), p);
+  }
+
+  /**
+   * Create a new generic node with the list's nodes as its children.
+   * If possible, this method returns a fixed size node.
+   *
+   * @param kind The kind.
+   * @param p The list of children.
+   * @return The corresponding generic node.
+   */
+  public static GNode createFromPair(int kind, Pair p) {
     final int size = p.size();
     Object    c1   = null;
     Object    c2   = null;
@@ -1166,30 +1447,30 @@ public abstract class GNode extends Node {
       // Done.
       break;
     default:
-      Variable result = new Variable(name, size);
+      Variable result = new Variable(kind, size);
       result.addAll(p);
       return result;
     }
 
     switch (size) {
     case 8:
-      return new Fixed8(name, c1, c2, c3, c4, c5, c6, c7, c8);
+      return new Fixed8(kind, c1, c2, c3, c4, c5, c6, c7, c8);
     case 7:
-      return new Fixed7(name, c2, c3, c4, c5, c6, c7, c8);
+      return new Fixed7(kind, c2, c3, c4, c5, c6, c7, c8);
     case 6:
-      return new Fixed6(name, c3, c4, c5, c6, c7, c8);
+      return new Fixed6(kind, c3, c4, c5, c6, c7, c8);
     case 5:
-      return new Fixed5(name, c4, c5, c6, c7, c8);
+      return new Fixed5(kind, c4, c5, c6, c7, c8);
     case 4:
-      return new Fixed4(name, c5, c6, c7, c8);
+      return new Fixed4(kind, c5, c6, c7, c8);
     case 3:
-      return new Fixed3(name, c6, c7, c8);
+      return new Fixed3(kind, c6, c7, c8);
     case 2:
-      return new Fixed2(name, c7, c8);
+      return new Fixed2(kind, c7, c8);
     case 1:
-      return new Fixed1(name, c8);
+      return new Fixed1(kind, c8);
     case 0:
-      return new Fixed0(name);
+      return new Fixed0(kind);
     default:
       throw new AssertionError("Internal error");
     }
@@ -1205,6 +1486,19 @@ public abstract class GNode extends Node {
    * @return The corresponding generic node.
    */
   public static GNode createFromPair(String name, Object base, Pair rest) {
+    return createFromPair(kind(name), base, rest);
+  }
+
+  /**
+   * Create a new generic node with the specified children.  If
+   * possible, this method returns a fixed size node.
+   *
+   * @param kind The kind.
+   * @param base The first child.
+   * @param rest The rest of the children.
+   * @return The corresponding generic node.
+   */
+  public static GNode createFromPair(int kind, Object base, Pair rest) {
     final int size = rest.size();
     Object    c2   = null;
     Object    c3   = null;
@@ -1247,7 +1541,7 @@ public abstract class GNode extends Node {
       // Done.
       break;
     default:
-      Variable result = new Variable(name, size + 1);
+      Variable result = new Variable(kind, size + 1);
       result.add(base);
       result.addAll(rest);
       return result;
@@ -1255,21 +1549,21 @@ public abstract class GNode extends Node {
 
     switch (size) {
     case 7:
-      return new Fixed8(name, base, c2, c3, c4, c5, c6, c7, c8);
+      return new Fixed8(kind, base, c2, c3, c4, c5, c6, c7, c8);
     case 6:
-      return new Fixed7(name, base, c3, c4, c5, c6, c7, c8);
+      return new Fixed7(kind, base, c3, c4, c5, c6, c7, c8);
     case 5:
-      return new Fixed6(name, base, c4, c5, c6, c7, c8);
+      return new Fixed6(kind, base, c4, c5, c6, c7, c8);
     case 4:
-      return new Fixed5(name, base, c5, c6, c7, c8);
+      return new Fixed5(kind, base, c5, c6, c7, c8);
     case 3:
-      return new Fixed4(name, base, c6, c7, c8);
+      return new Fixed4(kind, base, c6, c7, c8);
     case 2:
-      return new Fixed3(name, base, c7, c8);
+      return new Fixed3(kind, base, c7, c8);
     case 1:
-      return new Fixed2(name, base, c8);
+      return new Fixed2(kind, base, c8);
     case 0:
-      return new Fixed1(name, base);
+      return new Fixed1(kind, base);
     default:
       throw new AssertionError("Internal error");
     }
@@ -1277,7 +1571,8 @@ public abstract class GNode extends Node {
 
   /**
    * Create a new generic node that is a (shallow) copy of the
-   * specified node.
+   * specified node.  The copy of a {@link SharedNodeFactory shared}
+   * node supports a variable number of children.
    *
    * @param node The node to copy.
    * @return The copy.
@@ -1285,6 +1580,10 @@ public abstract class GNode extends Node {
   public static GNode create(GNode node) {
     if (node instanceof Variable) {
       return new Variable((Variable)node);
+    } else if (! (node instanceof Fixed)) {
+      ArrayList<Object> children = new ArrayList<Object>(node.size());
+      node.addAllTo(children);
+      return new Variable(node.kind, children);
     } else {
       switch (node.size()) {
       case 0:
@@ -1328,7 +1627,7 @@ public abstract class GNode extends Node {
     } else {
       ArrayList<Object> children = new ArrayList<Object>(node.size());
       node.addAllTo(children);
-      return new Variable(node.name, children);
+      return new Variable(node.kind, children);
     }
   }
 
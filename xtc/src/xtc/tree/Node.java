@@ -176,6 +176,22 @@ public abstract class Node implements Iterable<Object>, Locatable {
     return getClass().getName().equals(name);
   }
 
+  /**
+   * Get the kind of this node, which is the {@link GNode#kind(String)
+   * kind} for its {@link #getName() name}.  Nodes have the same kind
+   * exactly if they have the same name, so passes can compare kinds
+   * instead of names.  Generic nodes store their kinds, while the
+   * default implementation looks up the kind for the node's class
+   * name.
+   *
+   * <p />User-specified classes must not override this method.
+   *
+   * @return The kind.
+   */
+  public int kindId() {
+    return GNode.kind(getClass().getName());
+  }
+
   // ========================================================================
 
   /**
@@ -0,0 +1,229 @@
+/*
+ * xtc - The eXTensible Compiler
+ * Copyright (C) 2026 New York University
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * version 2.1 as published by the Free Software Foundation.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301,
+ * USA.
+ */
+package xtc.tree;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A factory for shared generic nodes.  This factory hash-conses
+ * generic nodes: it creates each distinct tree only once and returns
+ * the same node for all structurally equal trees.  Identical
+ * subtrees, such as the type specifiers repeated across a program's
+ * declarations, are thus stored once, and two nodes created by the
+ * same factory are equal exactly if they are the same object.
+ *
+ * <p />Shared nodes cannot be modified and cache their hash codes, so
+ * that using them as hash keys takes constant time.  Their hash codes
+ * and equality are consistent with those of other generic nodes.
+ * Since they are shared, their properties and locations are shared
+ * as well: a node created for several trees has the location of the
+ * first tree it was {@link #share(Object) shared} from, and setting
+ * a property on it sets the property for all of them.
+ *
+ * <p />A factory keeps all nodes it has created, in a table that is
+ * safe to use from several threads, until it is garbage collected.
+ * Factories should therefore be scoped to the trees that share nodes,
+ * for example, to the translation units of one program.
+ *
+ * @version $Revision: 1.1 $
+ */
+public class SharedNodeFactory {
+
+  /** A generic node created by a factory. */
+  static final class Shared extends GNode {
+
+    /** The children. */
+    private final Object[] children;
+
+    /** The hash code. */
+    private final int hash;
+
+    /**
+     * Create a new shared node.
+     *
+     * @param kind The kind.
+     * @param children The children, which must be shared.
+     */
+    Shared(int kind, Object[] children) {
+      super(kind);
+      this.children = children;
+
+      int hash = name.hashCode();
+      for (Object child : children) {
+        hash = (37 * hash) + (null==child? 0 : child.hashCode());
+      }
+      this.hash = hash;
+    }
+
+    public int size() {
+      return children.length;
+    }
+
+    public Object get(int index) {
+      return children[index];
+    }
+
+    public Object set(int index, Object value) {
+      throw new UnsupportedOperationException("Shared generic node");
+    }
+
+    public void addAllTo(Collection<Object> c) {
+      for (Object child : children) c.add(child);
+    }
+
+    public int hashCode() {
+      return hash;
+    }
+
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if ((o instanceof Shared) && (hash != ((Shared)o).hash)) return false;
+      return super.equals(o);
+    }
+
+  }
+
+  // =======================================================================
+
+  /** The nodes created so far. */
+  private final ConcurrentHashMap<Shared, Shared> nodes;
+
+  /** The strings shared so far. */
+  private final ConcurrentHashMap<String, String> strings;
+
+  /** Create a new factory. */
+  public SharedNodeFactory() {
+    nodes   = new ConcurrentHashMap<Shared, Shared>();
+    strings = new ConcurrentHashMap<String, String>();
+  }
+
+  /**
+   * Get the number of distinct nodes created by this factory.
+   *
+   * @return The number of nodes.
+   */
+  public int size() {
+    return nodes.size();
+  }
+
+  /**
+   * Create a shared generic node with the specified name and
+   * children.  The children are shared first.
+   *
+   * @param name The name.
+   * @param children The children.
+   * @return The corresponding shared node.
+   */
+  public GNode create(String name, Object... children) {
+    return create(GNode.kind(name), children);
+  }
+
+  /**
+   * Create a shared generic node with the specified kind and
+   * children.  The children are shared first.
+   *
+   * @param kind The kind.
+   * @param children The children.
+   * @return The corresponding shared node.
+   * @throws IllegalArgumentException Signals that the kind has not
+   *   been registered.
+   */
+  public GNode create(int kind, Object... children) {
+    Object[] shared = new Object[children.length];
+    for (int i=0; i<children.length; i++) {
+      shared[i] = share(children[i]);
+    }
+    return intern(new Shared(kind, shared), null);
+  }
+
+  /**
+   * Share the specified object.  Generic nodes are replaced by the
+   * shared nodes for their trees, which are created as necessary and
+   * get the locations of the replaced nodes.  Strings are replaced by
+   * the first equal string shared.  Shared nodes created by other
+   * factories are added to this factory's nodes.  Other objects,
+   * including other nodes, are returned as is and must not be
+   * modified afterwards.
+   *
+   * @param o The object.
+   * @return The shared object.
+   */
+  public Object share(Object o) {
+    if (o instanceof Shared) {
+      return intern((Shared)o, null);
+
+    } else if (o instanceof GNode) {
+      GNode    node     = (GNode)o;
+      Object[] children = new Object[node.size()];
+      for (int i=0; i<children.length; i++) {
+        children[i] = share(node.get(i));
+      }
+      return intern(new Shared(node.kind, children), node);
+
+    } else if (o instanceof String) {
+      String s      = (String)o;
+      String shared = strings.putIfAbsent(s, s);
+      return (null == shared)? s : shared;
+
+    } else {
+      return o;
+    }
+  }
+
+  /**
+   * Share the specified tree.
+   *
+   * @see #share(Object)
+   *
+   * @param node The root of the tree.
+   * @return The root of the shared tree.
+   */
+  public GNode share(GNode node) {
+    return (GNode)share((Object)node);
+  }
+
+  /**
+   * Determine whether the specified node has been created by any
+   * factory.
+   *
+   * @param node The node.
+   * @return <code>true</code> if the node is shared.
+   */
+  public static boolean isShared(Node node) {
+    return node instanceof Shared;
+  }
+
+  /**
+   * Intern the specified node.
+   *
+   * @param node The new node.
+   * @param source The node it is created for, or <code>null</code>.
+   * @return The node itself if it is the first with its tree, and the
+   *   first node otherwise.
+   */
+  private Shared intern(Shared node, Node source) {
+    if ((null != source) && source.hasLocation()) {
+      node.setLocation(source.getLocation());
+    }
+    Shared first = nodes.putIfAbsent(node, node);
+    return (null == first)? node : first;
+  }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * xtc - The eXTensible Compiler
+ * Copyright (C) 2026 New York University
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * version 2.1 as published by the Free Software Foundation.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301,
+ * USA.
+ */
+package xtc.tree;
+
+/**
+ * Unit tests for shared node factories.
+ *
+ * @version $Revision: 1.1 $
+ */
+public class SharedNodeFactoryTest extends junit.framework.TestCase {
+
+  /** Create a new test class. */
+  public SharedNodeFactoryTest() { /* Nothing to do. */ }
+
+  /**
+   * Create a declaration.
+   *
+   * @param name The declared name.
+   * @return The declaration.
+   */
+  private static GNode declaration(String name) {
+    return GNode.create("Declaration", GNode.create("Type", new String("int")),
+                        name, null);
+  }
+
+  /** Test that equal trees are shared. */
+  public void testShare() {
+    SharedNodeFactory factory = new SharedNodeFactory();
+
+    GNode x = factory.share(declaration("x"));
+    GNode y = factory.share(declaration("y"));
+    assertNotSame(x, y);
+    assertSame(x.get(0), y.get(0));
+    assertSame(x.getGeneric(0).get(0), y.getGeneric(0).get(0));
+    assertSame(x, factory.share(declaration("x")));
+    assertSame(x, factory.create("Declaration",
+                                 GNode.create("Type", "int"), "x", null));
+    assertEquals(3, factory.size());
+    assertTrue(SharedNodeFactory.isShared(x));
+    assertFalse(SharedNodeFactory.isShared(declaration("x")));
+  }
+
+  /** Test that shared nodes hash and compare like other nodes. */
+  public void testEquality() {
+    GNode original = declaration("x");
+    GNode shared   = new SharedNodeFactory().share(original);
+
+    assertEquals(original, shared);
+    assertEquals(shared, original);
+    assertEquals(original.hashCode(), shared.hashCode());
+    assertFalse(shared.equals(declaration("y")));
+  }
+
+  /** Test that shared nodes cannot be modified, but can be copied. */
+  public void testImmutable() {
+    GNode shared = new SharedNodeFactory().share(declaration("x"));
+
+    try {
+      shared.set(1, "y");
+      fail("Shared node modified");
+    } catch (UnsupportedOperationException x) {
+      // Expected.
+    }
+
+    GNode copy = GNode.create(shared);
+    copy.set(1, "y");
+    assertEquals("y", copy.getString(1));
+    assertEquals("x", shared.getString(1));
+  }
+
+  /** Test that shared nodes keep the first tree's location. */
+  public void testLocation() {
+    SharedNodeFactory factory = new SharedNodeFactory();
+
+    GNode first = declaration("x");
+    first.setLocation(new Location("a.c", 1, 1));
+    GNode second = declaration("x");
+    second.setLocation(new Location("b.c", 2, 2));
+
+    assertEquals(first.getLocation(), factory.share(first).getLocation());
+    assertEquals(first.getLocation(), factory.share(second).getLocation());
+  }
+
+}
@@ -18,11 +18,13 @@
  */
 package xtc.tree;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
 import java.lang.reflect.Method;
-import java.lang.reflect.InvocationTargetException;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import xtc.util.Pair;
 
@@ -56,77 +58,117 @@ import xtc.util.Pair;
  */
 public abstract class Visitor {
 
-  /** Key for the method lookup cache. */
-  static final class CacheKey {
+  /**
+   * The dispatch table of a visitor class.  It maps the kinds of
+   * generic nodes and the classes of other nodes to method handles for
+   * the closest matching <code>visit()</code> methods, which are looked
+   * up the first time a visitor of the class visits such a node.
+   * Tables are safe to use from several threads.
+   */
+  static final class DispatchTable {
+
+    /** The type of all handles: (Visitor, Node)Object. */
+    static final MethodType TYPE =
+      MethodType.methodType(Object.class, Visitor.class, Node.class);
+
+    /** The visitor class. */
+    private final Class<? extends Visitor> visitorT;
 
-    /** The visitor. */
-    public Visitor visitor;
+    /**
+     * The handles for generic nodes, indexed by kind.  Handles are
+     * immutable, so they can be stored without synchronization; a
+     * handle stored into an array just replaced by {@link #grow(int)}
+     * is simply looked up again.
+     */
+    private volatile MethodHandle[] generic;
 
-    /** The object identifying the node. */
-    public Object  node;
+    /** The handles for other nodes, by class. */
+    private final ConcurrentHashMap<Class<?>, MethodHandle> specific;
 
     /**
-     * Create a new cache key.
+     * Create a new dispatch table.
      *
-     * @param visitor The visitor.
-     * @param node The object identifying the node.
+     * @param visitorT The visitor class.
      */
-    public CacheKey(Visitor visitor, Object node) {
-      this.visitor = visitor;
-      this.node    = node;
+    DispatchTable(Class<? extends Visitor> visitorT) {
+      this.visitorT = visitorT;
+      this.generic  = new MethodHandle[Math.max(64, GNode.kindCount())];
+      this.specific = new ConcurrentHashMap<Class<?>, MethodHandle>();
     }
 
-    public int hashCode() {
-      return (37 * visitor.hashCode()) + node.hashCode();
+    /**
+     * Get the handle for visiting the specified node.
+     *
+     * @param n The node.
+     * @return The handle.
+     */
+    MethodHandle lookup(Node n) {
+      if (n.isGeneric()) {
+        int            kind   = n.kindId();
+        MethodHandle[] table  = generic;
+        MethodHandle   handle = (kind < table.length)? table[kind] : null;
+        if (null == handle) {
+          handle = toHandle(findMethod(visitorT, n));
+          if (kind >= table.length) table = grow(kind);
+          table[kind] = handle;
+        }
+        return handle;
+
+      } else {
+        Class<?>     nodeT  = n.getClass();
+        MethodHandle handle = specific.get(nodeT);
+        if (null == handle) {
+          handle = toHandle(findMethod(visitorT, n));
+          MethodHandle prior = specific.putIfAbsent(nodeT, handle);
+          if (null != prior) handle = prior;
+        }
+        return handle;
+      }
     }
 
-    public boolean equals(Object o) {
-      if (! (o instanceof CacheKey)) return false;
-      CacheKey other = (CacheKey)o;
-      if (! visitor.equals(other.visitor)) return false;
-      return node.equals(other.node);
+    /**
+     * Grow the handles for generic nodes to include the specified kind.
+     *
+     * @param kind The kind.
+     * @return The handles.
+     */
+    private synchronized MethodHandle[] grow(int kind) {
+      MethodHandle[] table = generic;
+      if (kind >= table.length) {
+        MethodHandle[] larger =
+          new MethodHandle[Math.max(kind + 1, table.length * 2)];
+        System.arraycopy(table, 0, larger, 0, table.length);
+        generic = table = larger;
+      }
+      return table;
     }
 
-  }
-
-  // ========================================================================
-
-  /** The size of the method lookup cache. */
-  private static final int CACHE_SIZE = 300;
-
-  /** The capacity of the method lookup cache. */
-  private static final int CACHE_CAPACITY = 400;
-
-  /** The load factor of the method lookup cache. */
-  private static final float CACHE_LOAD = (float)0.75;
-
-  /** The method lookup cache. */
-  private static final LinkedHashMap<CacheKey, Method> cache;
-
-  /** The pre-allocated cache key for looking up methods. */
-  private static final CacheKey key;
-
-  /** The pre-allocated array for passing the argument to invoke(). */
-  private static final Object[] arguments;
-
-  /**
-   * The pre-allocated array for passing the type argument to
-   * getMethod().
-   */
-  private static final Class<?>[] types;
+    /**
+     * Convert the specified method into a handle of type {@link #TYPE}.
+     * Void methods return <code>null</code> and primitive results are
+     * boxed.
+     *
+     * @param method The method.
+     * @return The handle.
+     */
+    private static MethodHandle toHandle(Method method) {
+      try {
+        return MethodHandles.lookup().unreflect(method).asType(TYPE);
+      } catch (IllegalAccessException x) {
+        throw new VisitorException("Unable to access " + method);
+      }
+    }
 
-  static {
-    cache     =
-      new LinkedHashMap<CacheKey, Method>(CACHE_CAPACITY, CACHE_LOAD, true) {
-        protected boolean removeEldestEntry(Map.Entry e) {
-          return size() > CACHE_SIZE;
-        }
-      };
-    key       = new CacheKey(null, null);
-    arguments = new Object[]   { null };
-    types     = new Class<?>[] { null };
   }
 
+  /** The dispatch tables, one per visitor class. */
+  private static final ClassValue<DispatchTable> tables =
+    new ClassValue<DispatchTable>() {
+      protected DispatchTable computeValue(Class<?> type) {
+        return new DispatchTable(type.asSubclass(Visitor.class));
+      }
+    };
+
   // ========================================================================
 
   /** Create a new visitor. */
@@ -186,63 +228,35 @@ public abstract class Visitor {
     // Get the trivial case out of the way.
     if (null == n) return null;
 
-    // Check the method lookup cache.
-    Method method;
-    key.visitor = this;
-    if (n.isGeneric()) {
-      key.node = n.getName();
-    } else {
-      key.node = n.getClass();
-    }
-    method = cache.get(key);
-
-    if (null == method) {
-      // Determine the correct cache value and cache it.
-      method = findMethod(n);
-      cache.put(new CacheKey(this, key.node), method);
-    }
-
-    // Set up the argument.
-    arguments[0] = n;
+    // Look up the method in the dispatch table of this visitor's class.
+    MethodHandle handle = tables.get(getClass()).lookup(n);
 
     // Invoke the method.
     try {
-      return method.invoke(this, arguments);
-    } catch (IllegalAccessException x) {
-      throw new VisitorException("Unable to invoke " + method + " on " +
-                                 arguments[0]);
-    } catch (IllegalArgumentException x) {
-      throw new VisitorException("Internal error while visiting node " +
-                                 n + " with visitor " + this);
-    } catch (InvocationTargetException x) {
-      Throwable cause = x.getCause();
-
+      return (Object)handle.invokeExact(this, n);
+    } catch (VisitingException x) {
       // Rethrow visiting and visitor exceptions.
-      if (cause instanceof VisitingException) {
-        throw (VisitingException)cause;
-      } else if (cause instanceof VisitorException) {
-        throw (VisitorException)cause;
-      }
-
+      throw x;
+    } catch (VisitorException x) {
+      throw x;
+    } catch (Throwable x) {
       // Throw the appropriate visiting exception.
       throw new VisitingException("Error visiting node " + n + " with " +
-                                  "visitor " + this, cause);
-    } catch (NullPointerException x) {
-      throw new VisitorException("Internal error while visiting node " +
-                                 n + " with visitor " + this);
+                                  "visitor " + this, x);
     }
   }
 
   /**
-   * Determine the method for visiting the specified node with this
-   * visitor.
+   * Determine the method for visiting the specified node with a
+   * visitor of the specified class.
    *
+   * @param visitorT The visitor class.
    * @param n The node.
    * @return The corresponding method.
    */
-  private Method findMethod(final Node n) {
-    Class<?> visitorT = getClass();
-    Method   method   = null;
+  private static Method findMethod(Class<?> visitorT, final Node n) {
+    Method     method   = null;
+    Class<?>[] types    = new Class<?>[] { null };
 
     if (n.isGeneric()) {
       // Look for visit<n.getName()>(GNode).
@@ -299,7 +313,8 @@ public abstract class Visitor {
    * @return The method or <code>null</code> if no such method exists.
    */
   private static Method findMethod(Class<?> k, String name, Class paramT) {
-    Method method = null;
+    Method     method = null;
+    Class<?>[] types  = new Class<?>[] { null };
 
     do {
       types[0] = paramT;